@@ -13,6 +13,7 @@ import ordt.extract.model.ModRegister;
 import ordt.output.OutputBuilder;
 import ordt.output.common.MsgUtils;
 import ordt.output.cppmod.CppModBuilder;
+import ordt.output.drvmod.bin.BinDrvModBuilder;
 import ordt.output.drvmod.cpp.CppDrvModBuilder;
 import ordt.output.drvmod.py.PyDrvModBuilder;
 import ordt.output.othertypes.JsonBuilder;
@@ -45,7 +46,7 @@ public class Ordt {
 	private static List<String> inputParmFiles = new ArrayList<String>();
 
 	public enum OutputType { VERILOG, SYSTEMVERILOG, JSPEC, RALF, RDL, REGLIST, SVBENCH, VBENCH, 
-		                     UVMREGS, UVMREGSPKG, XML, CPPMOD, CPPDRVMOD, PYDRVMOD, JSON, SVCHILDINFO };
+		                     UVMREGS, UVMREGSPKG, XML, CPPMOD, CPPDRVMOD, PYDRVMOD, BINDRVMOD, JSON, SVCHILDINFO };
 	private static HashMap<OutputType, String> outputNames = new HashMap<OutputType, String>();
 	private static HashMap<OutputType, String> commentChars = new HashMap<OutputType, String>();
 	private static HashMap<OutputType, String> outputFileNames = new HashMap<OutputType, String>();
@@ -142,6 +143,7 @@ public class Ordt {
 		outputArgs.put("-cppmod", OutputType.CPPMOD);
 		outputArgs.put("-cppdrvmod", OutputType.CPPDRVMOD);
 		outputArgs.put("-pydrvmod", OutputType.PYDRVMOD);
+		outputArgs.put("-bindrvmod", OutputType.BINDRVMOD);
 		outputArgs.put("-json", OutputType.JSON);
 		outputArgs.put("-svchildinfo", OutputType.SVCHILDINFO);
 	}
@@ -162,6 +164,7 @@ public class Ordt {
 		outputNames.put(OutputType.CPPMOD, "C++ model");
 		outputNames.put(OutputType.CPPDRVMOD, "C++ driver model");
 		outputNames.put(OutputType.PYDRVMOD, "python driver model");
+		outputNames.put(OutputType.BINDRVMOD, "binary driver model table");
 		outputNames.put(OutputType.JSON, "json");
 		outputNames.put(OutputType.SVCHILDINFO, "systemverilog child map info");
 	}
@@ -182,6 +185,7 @@ public class Ordt {
 		commentChars.put(OutputType.CPPMOD, "//");
 		commentChars.put(OutputType.CPPDRVMOD, "//");
 		commentChars.put(OutputType.PYDRVMOD, "#");
+		commentChars.put(OutputType.BINDRVMOD, "//");
 		commentChars.put(OutputType.JSON, null);
 		commentChars.put(OutputType.SVCHILDINFO, (ExtParameters.getSysVerChildInfoMode() == SVChildInfoModes.MODULE)? "//" : "#");
 	}
@@ -223,6 +227,8 @@ public class Ordt {
 			   return new CppDrvModBuilder(model);
 		   case PYDRVMOD: 
 			   return new PyDrvModBuilder(model);
+		   case BINDRVMOD: 
+			   return new BinDrvModBuilder(model);
 		   case JSON: 
 			   return new JsonBuilder(model);
 		   case SVCHILDINFO: 
@@ -333,6 +339,8 @@ public class Ordt {
     	System.out.println("   -parms <input_parms_filename>");
     	System.out.println("       <input_parms_filename> will be used to set ordt control parameters. The -parms");
     	System.out.println("       option may be specified multiple times to include multiple parameter files.");
+    	System.out.println("   -bindrvmod <dirname>");
+    	System.out.println("       <dirname> will be created containing a binary driver model table and C++/python loaders");
     	System.out.println("   -cppmod <dirname>");
     	System.out.println("       <dirname> will be created containing C++ model output files");
     	System.out.println("   -cppdrvmod <dirname>");
@@ -359,8 +367,11 @@ public class Ordt {
     	System.out.println("       file containing systemverilog output for all generated modules.");
     	System.out.println("   -svchildinfo <filename>");
     	System.out.println("       <filename> will be created containing child decoder address information");
-    	System.out.println("   -uvmregs <filename>");
-    	System.out.println("       <filename> will be created containing UVM register classes"); 
+    	System.out.println("   -uvmregs <output_name>");
+    	System.out.println("       if <output name> ends with '/', <output_name> will be a directory where a UVM class file");
+    	System.out.println("       per top level block (*_<block>_block.sv), a base class file (*_base.sv), a package");
+    	System.out.println("       file (*_pkg.sv) and a filelist in compile order (*.f) will be written.  Otherwise");
+    	System.out.println("       <output_name> will be a file containing UVM register classes"); 
     	System.out.println("   -uvmregspkg <filename>");
     	System.out.println("       <filename> will be created containing package of ordt extended UVM classes"); 
     	System.out.println("   -vbench <filename>");
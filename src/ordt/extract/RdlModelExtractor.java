@@ -900,6 +900,27 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 	@Override public void enterXml_out_parm_assign(SystemRDLParser.Xml_out_parm_assignContext ctx) {
 		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
+	
+	/**
+	 * Assign cppmod output parameters
+	 */
+	@Override public void enterCppmod_out_parm_assign(SystemRDLParser.Cppmod_out_parm_assignContext ctx) {
+		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+	}
+	
+	/**
+	 * Assign pydrvmod output parameters
+	 */
+	@Override public void enterPydrvmod_out_parm_assign(SystemRDLParser.Pydrvmod_out_parm_assignContext ctx) {
+		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+	}
+
+	/**
+	 * Capture coverage policy command
+	 */
+	@Override public void enterCoverage_policy_command(SystemRDLParser.Coverage_policy_commandContext ctx) {
+		ExtParameters.processCoveragePolicyCommand(ctx);
+	}
 
 	/**
 	 * Capture annotation command  
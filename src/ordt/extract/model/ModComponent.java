@@ -539,6 +539,11 @@ public abstract class ModComponent extends ModBaseComponent {
 		return postPropertyAssignLists.getParmList(path);
 	}
 	
+	/** get the post property assigns for all descendent instances of this component */
+	public CompParameterLists getPostPropertyAssignLists() {
+		return postPropertyAssignLists;
+	}
+	
 	// ------------------------------------ inner classes ----------------------------------------
 
 	/**
@@ -562,6 +567,15 @@ public abstract class ModComponent extends ModBaseComponent {
 			}	
 		}
 
+		/** return all parmLists ordered by instance path */
+		public List<PropertyList> getSortedParmLists() {
+			List<String> paths = new ArrayList<String>(parmLists.keySet());
+			Collections.sort(paths);
+			List<PropertyList> sortedLists = new ArrayList<PropertyList>();
+			for (String path: paths) sortedLists.add(parmLists.get(path));
+			return sortedLists;
+		}
+
 		/** add a parmList
 		 *  @param instance name key of the parameter list
 		 *  @param parameter list to add
@@ -149,6 +149,7 @@ public abstract class AddressableInstanceProperties extends InstanceProperties {
 	 */
 	public void setAddressMap(boolean addressMap) {
 		this.addressMap = addressMap;
+		invalidateFingerprint();
 	}
 	
 	// ------- external region methods
@@ -359,6 +360,7 @@ public abstract class AddressableInstanceProperties extends InstanceProperties {
 	 */
 	public void setRootExternal(boolean rootExternal) {
 		this.rootExternal = rootExternal;
+		invalidateFingerprint();
 	}
 
 	/** get externalDecode
@@ -487,6 +489,7 @@ public abstract class AddressableInstanceProperties extends InstanceProperties {
 	 */
 	public void setSwReadable(boolean isSwReadable) {
 		this.isSwReadable = isSwReadable;
+		invalidateFingerprint();
 	}
 
 	/** get isSwWriteable (valid after fields processed)
@@ -501,6 +504,7 @@ public abstract class AddressableInstanceProperties extends InstanceProperties {
 	 */
 	public void setSwWriteable(boolean isSwWriteable) {
 		this.isSwWriteable = isSwWriteable;
+		invalidateFingerprint();
 	}
 
 	/** return true if this addressable instance is a register */
@@ -536,6 +540,16 @@ public abstract class AddressableInstanceProperties extends InstanceProperties {
 		return  " [" + (getMaxRegWidth() - 1) + ":0] ";
 	}
 
+	/** add the equals(includeId) inputs of this instance to a fingerprint */
+	@Override
+	protected void addFingerprintInputs(StructuralFingerprint.Builder fp, boolean includeId) {
+		super.addFingerprintInputs(fp, includeId);
+		fp.add(addressMap);
+		fp.add(rootExternal);
+		fp.add(isSwReadable);
+		fp.add(isSwWriteable);
+	}
+
 	/** hashcode/equals overrides 
 	 * - ignores externalType in compare
 	 * - optionally includes id in super so reg/regset childs can support both
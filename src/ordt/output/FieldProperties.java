@@ -3,6 +3,7 @@
  */
 package ordt.output;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 import ordt.output.common.MsgUtils;
@@ -124,12 +125,31 @@ public class FieldProperties extends InstanceProperties {
 	}
 	
 	private HashMap<RhsRefType, RhsReference> rhsReferences = new HashMap<RhsRefType, RhsReference>();
+	
+	private String fullSignalNameBase = null;  // base name used to compute cached full signal names
+	private String[] fullSignalNames = null;  // cached full signal names indexed by signal type ordinal (allocated on first use)
 
 	/** init properties using defaults -> component -> instance values */
 	public FieldProperties(ModInstance regInst) {
 		super(regInst);  // init instance, id and copy base properties in
 	}	
 	
+	/** return the name for specified defined signal type using the current instance path.
+	 *  Names are cached until the instance base name changes */
+	@Override
+	public String getFullSignalName(DefSignalType sigType) {
+		String baseName = getBaseName();
+		if (fullSignalNames == null) fullSignalNames = new String[DefSignalType.values().length];
+		else if (baseName != fullSignalNameBase) Arrays.fill(fullSignalNames, null);  // base name is recomputed only when instance path changes
+		fullSignalNameBase = baseName;
+		String name = fullSignalNames[sigType.ordinal()];
+		if (name == null) {
+			name = super.getFullSignalName(sigType);
+			fullSignalNames[sigType.ordinal()] = name;
+		}
+		return name;
+	}
+	
 	/** extract properties from the calling instance */
     @Override
 	public void extractProperties(PropertyList pList) {
@@ -1255,6 +1275,59 @@ public class FieldProperties extends InstanceProperties {
 		
 	}
 
+	/** add the equals inputs of this field to a fingerprint (field contents are hashed directly) */
+	@Override
+	protected void addFingerprintInputs(StructuralFingerprint.Builder fp, boolean includeId) {
+		super.addFingerprintInputs(fp, includeId);
+		fp.add(decrSatValue);
+		fp.add(decrTholdValue);
+		fp.add(decrValue);
+		fp.add(decrWidth);
+		fp.add(dontCompareMask);
+		fp.add(dontTestMask);
+		fp.add(fieldArrayString);
+		fp.add(fieldSetPrefixString);
+		fp.add(fieldWidth);
+		fp.add(hasHwClr);
+		fp.add(hasHwSet);
+		fp.add(hasOverflow);
+		fp.add(hasSaturateOutputs);
+		fp.add(hasSwAcc);
+		fp.add(hasSwMod);
+		fp.add(hasSwWriteEnableH);
+		fp.add(hasSwWriteEnableL);
+		fp.add(hasUnderflow);
+		fp.add(hasWriteEnableH);
+		fp.add(hasWriteEnableL);
+		fp.add(hwPrecedence);
+		fp.add(incrSatValue);
+		fp.add(incrTholdValue);
+		fp.add(incrValue);
+		fp.add(incrWidth);
+		fp.add(intrStickyType);
+		fp.add(intrType);
+		fp.add(isAnded);
+		fp.add(isCounter);
+		fp.add(isHalt);
+		fp.add(isHwReadable);
+		fp.add(isHwWriteable);
+		fp.add(isInterrupt);
+		fp.add(isOred);
+		fp.add(isRclr);
+		fp.add(isRset);
+		fp.add(isSinglePulse);
+		fp.add(isSwReadable);
+		fp.add(isSwWriteable);
+		fp.add(isWoclr);
+		fp.add(isWoset);
+		fp.add(isXored);
+		fp.add(lowIndex);
+		fp.add(maskIntrBits);
+		fp.add(reset);
+		fp.add(rtlCoverage);
+		fp.add((subcategory == null)? -1L : subcategory.getValue());
+	}
+
 	/** hashcode/equals overrides 
 	 * - ignores rhsReferences in compare
 	 */
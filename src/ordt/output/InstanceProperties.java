@@ -11,7 +11,9 @@ import java.util.Set;
 import ordt.extract.Ordt;
 import ordt.extract.PropertyList;
 import ordt.extract.PropertyList.PropertyValue;
+import ordt.extract.model.ModAddressableInstance;
 import ordt.extract.model.ModComponent;
+import ordt.extract.model.ModIndexedInstance;
 import ordt.extract.model.ModInstance;
 import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals;
 import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals.DefSignalType;
@@ -20,6 +22,7 @@ import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals.DefSignalType;
 public class InstanceProperties {
 	private String  id = "";           // current instance id (contains rep count suffix)
 	private String instancePath = "";      // instance path
+	private String baseName = null;      // cached signal base name derived from instance path
 	
 	private String textName;  // text name of this instance
 	private String textDescription;  // text description of this instance
@@ -38,6 +41,7 @@ public class InstanceProperties {
 	protected PropertyList jsPassthruProperties;   // jspec passthru properties for this instance
 
 	private int repNum = 0;  // rep number of this instProperty if part of a replicated set
+	private StructuralFingerprint inputFingerprint = null;  // fingerprint of extract inputs of this instance (only set if requested by builder)
 		
 	/** create an instance and set basic info: id, extractInstance, external */
 	public InstanceProperties(ModInstance extractInstance) {
@@ -146,6 +150,7 @@ public class InstanceProperties {
 	 */
 	public void setId(String id) {
 		this.id = id;
+		invalidateFingerprint();
 	} 
 	
 	/** get id with rep suffix removed
@@ -203,7 +208,8 @@ public class InstanceProperties {
 	 *  @return the baseName
 	 */
 	public String getBaseName() {
-		return getInstancePath().replace('.', '_');
+		if (baseName == null) baseName = getInstancePath().replace('.', '_');
+		return baseName;
 	}
 	
 	/** return the name for specified defined signal type using the current instance path
@@ -224,6 +230,7 @@ public class InstanceProperties {
 	 */
 	private void setInstancePath(String instancePath) {
 		this.instancePath = instancePath;
+		this.baseName = null;
 	}
 
 	/** set instancePath, merge extract post property assigns, properties from extract ModInstance, and
@@ -233,6 +240,14 @@ public class InstanceProperties {
 	 *  @param instancePath the instancePath
 	 */
 	public void updateInstanceInfo(String instancePath) {
+		updateInstanceInfo(instancePath, null);
+	}
+
+	/** set instancePath and merged instance info, and add the extract inputs of this instance to a builder fingerprint
+	 *  @param instancePath the instancePath
+	 *  @param builderFingerprint - if non-null, the input fingerprint of this instance is computed and added
+	 */
+	public void updateInstanceInfo(String instancePath, StructuralFingerprint.Builder builderFingerprint) {
 		setInstancePath(instancePath);
 		// before creating instance list update default instance properties 
 		updateDefaultProperties(extractInstance.getDefaultProperties());
@@ -259,6 +274,8 @@ public class InstanceProperties {
 		mergedList.updateProperties(postAssignList);
 		//if (extractInstance.getRegComp().isReg() && getInstancePath().contains("stats.spin") && mergedList.hasProperty("category")) System.out.println("InstanceProperties extractInstance: inst=" + getInstancePath() + ", post assigns cat=" + mergedList.getProperty("category"));
 		extractProperties(mergedList);   // now that we have combined parameter list, extract instance info
+		invalidateFingerprint();
+		if (builderFingerprint != null) builderFingerprint.add(updateInputFingerprint(mergedList));
 		/*if (instancePath.contains("intr.poll_enable_")) {  
 		//if (instancePath.endsWith("int_merge.int_status")) {  
 			System.out.println("InstanceProperties updateInstanceInfo: i=" + instancePath);
@@ -267,6 +284,41 @@ public class InstanceProperties {
 		}*/
 	}
 
+	/** compute the fingerprint of all extract inputs of this instance (path, model instance info and merged property list).
+	 *  Unlike getFingerprint, this covers every property value so it can be used to detect changed output. */
+	protected StructuralFingerprint updateInputFingerprint(PropertyList mergedList) {
+		StructuralFingerprint.Builder fp = new StructuralFingerprint.Builder();
+		fp.add(instancePath);
+		fp.add(id);
+		fp.add(repNum);
+		fp.add(extractInstance.getRepCount());
+		ModComponent comp = extractInstance.getRegComp();
+		if (comp != null) {
+			fp.add(comp.getId());
+			fp.add(comp.getCompType().name());
+		}
+		if (extractInstance instanceof ModAddressableInstance) {
+			ModAddressableInstance addrInst = (ModAddressableInstance) extractInstance;
+			fp.add(addrInst.getAddress());
+			fp.add(addrInst.getAddressIncrement());
+			fp.add(addrInst.getAddressModulus());
+			fp.add(addrInst.getAddressShift());
+		}
+		else if (extractInstance instanceof ModIndexedInstance) {
+			ModIndexedInstance idxInst = (ModIndexedInstance) extractInstance;
+			fp.add(idxInst.getWidth());
+			fp.add(idxInst.getOffset());
+		}
+		fp.add(mergedList);  // merged properties are added in name order
+		inputFingerprint = fp.build();
+		return inputFingerprint;
+	}
+	
+	/** return the fingerprint of extract inputs of this instance or null if not computed */
+	public StructuralFingerprint getInputFingerprint() {
+		return inputFingerprint;
+	}
+
 	/** extract post property assignments in all components in instance path */
 	private PropertyList getPostPropertyAssigns(String instPathStr) {
 		// split the path string
@@ -305,6 +357,7 @@ public class InstanceProperties {
 	 */
 	public void setTextName(String textName) {
 		this.textName = resolveTextMacros(textName);
+		invalidateFingerprint();
 	}
 
 	/** get textDescription
@@ -341,6 +394,7 @@ public class InstanceProperties {
 	 */
 	public void setDontTest(boolean dontTest) {
 		this.dontTest = dontTest;
+		invalidateFingerprint();
 	}
 
 	/** get dontCompare
@@ -355,6 +409,7 @@ public class InstanceProperties {
 	 */
 	public void setDontCompare(boolean dontCompare) {
 		this.dontCompare = dontCompare;
+		invalidateFingerprint();
 	}
 
 	/** true if this instance will be encapsulated in an sv interface */
@@ -366,6 +421,7 @@ public class InstanceProperties {
 	 */
 	public void setUseInterface(boolean useInterface) {
 		this.useInterface = useInterface;
+		invalidateFingerprint();
 	}
 
 	/** true if this instance will be encapsulated in an sv struct */
@@ -377,6 +433,7 @@ public class InstanceProperties {
 	 */
 	public void setUseStruct(boolean useStruct) {
 		this.useStruct = useStruct;
+		invalidateFingerprint();
 	}
 
 	/** get extInterfaceName
@@ -391,6 +448,7 @@ public class InstanceProperties {
 	 */
 	public void setExtInterfaceName(String extInterfaceName) {
 		this.extInterfaceName = extInterfaceName;
+		invalidateFingerprint();
 	}
 
 	/** get extractInstance
@@ -412,12 +470,14 @@ public class InstanceProperties {
 	 */
 	public void setInstDefaultProperties(PropertyList instDefaultProperties) {
 		this.instDefaultProperties = instDefaultProperties;
+		invalidateFingerprint();
 	}
 
 	/** update default properties of this instance with property list 
 	 * called from pushInstance in OutputBuilder to pass these to child insts- does not overrride existing properties */
 	public void updateDefaultProperties(PropertyList instDefaultProperties) {
-		this.instDefaultProperties.updateProperties(instDefaultProperties, true);		
+		this.instDefaultProperties.updateProperties(instDefaultProperties, true);
+		invalidateFingerprint();
 	}
 	
 	/** update default properties using values in supplied hashmap (override existing props)
@@ -425,6 +485,7 @@ public class InstanceProperties {
 	 */
 	public void updateDefaultProperties(HashMap<String, PropertyValue> updates) {
 		instDefaultProperties.updateProperties(updates);
+		invalidateFingerprint();
 	}	
 
 	public boolean hasDefaultProperty(String propName) {
@@ -474,12 +535,14 @@ public class InstanceProperties {
 	/** set the user defined property list */
 	private void setUserDefinedProperties(PropertyList userDefinedProperties) {
 		this.userDefinedProperties = userDefinedProperties;
+		invalidateFingerprint();
 	}
 
 	/** set user defined property list by pulling properties having specified names from a larger list */
 	protected void setUserDefinedProperties(PropertyList parentList, Set<String> names) {
 		//if (parentList.hasProperty("uvmreg_prune")) System.err.println("InstanceProperties setUserDefinedProperties: id=" + getId() + ", pList=" + parentList);
 		this.userDefinedProperties = parentList.getSubsetList(names);
+		invalidateFingerprint();
 	}
 
 	public static void main(String[] args) throws Exception {
@@ -490,6 +553,30 @@ public class InstanceProperties {
     	System.out.println("orig=" + inst.getId() + ", norep=" + inst.getNoRepId() + ", indexed=" + inst.getIndexedId());
     }
 
+	/** return a structural fingerprint of this instance consistent with equals() or null if
+	 *  fingerprints are not supported (overridden by regs/regsets) */
+	public StructuralFingerprint getFingerprint() {
+		return null;
+	}
+
+	/** clear any cached structural fingerprint (called by each mutator of a value compared in equals) */
+	protected void invalidateFingerprint() {
+	}
+
+	/** add the equals(includeId) inputs of this instance to a fingerprint */
+	protected void addFingerprintInputs(StructuralFingerprint.Builder fp, boolean includeId) {
+		fp.add(dontCompare);
+		fp.add(dontTest);
+		fp.add(extInterfaceName);
+		if (includeId) fp.add(id);
+		fp.add(instDefaultProperties);
+		fp.add(extractInstance.getRepCount());
+		fp.add(textName);
+		fp.add(useInterface);
+		fp.add(useStruct);
+		fp.add(userDefinedProperties);
+	}
+
 	/** hashcode/equals overrides 
 	 * - ignores instancePath, extractInstance, externalType, repNum, textDescription in compare
 	 * - optionally includes id
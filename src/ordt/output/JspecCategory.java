@@ -20,18 +20,24 @@ public class JspecCategory {
 		for(int idx=0; idx<cats.length; idx++) {
 			String cat = cats[idx].trim();
 			if (!cat.isEmpty()) {
-				if (map.containsKey(cat)) value += map.get(cat);  // add to encoded value
-				// otherwise issue a warning and add the new category
-				else {
-					MsgUtils.warnMessage("Unknown category value " + cat + " detected.  Adding to category list.");
-					map.put(cat, nextValue); nextValue *= 2;
-					value += map.get(cat);  // add to encoded value
-				}
+				value += getEncoding(cat);  // add to encoded value
 			}
 			//System.out.println("cat=" + cat);
 		}
 	}
 	
+	/** return the encoding of a single category, adding it to the map with a warning if unknown.
+	 *  Synchronized since child addrmap builders may create categories concurrently (parallel_child_addrmaps) */
+	private static synchronized int getEncoding(String cat) {
+		Integer encoding = map.get(cat);
+		if (encoding == null) {
+			MsgUtils.warnMessage("Unknown category value " + cat + " detected.  Adding to category list.");
+			encoding = nextValue;
+			map.put(cat, encoding); nextValue *= 2;
+		}
+		return encoding;
+	}
+	
 	/** initialize set of known category values */
 	private static HashMap<String, Integer> initMap() {
 		HashMap<String, Integer> map = new HashMap<String, Integer>();
@@ -62,16 +68,20 @@ public class JspecCategory {
 
 	/** returns true if category specified by string is set */
 	public boolean hasValue(String cat) {
-		if (!map.containsKey(cat)) return false;
-		return ((value & map.get(cat)) > 0);
+		Integer encoding;
+		synchronized (JspecCategory.class) { encoding = map.get(cat); }
+		if (encoding == null) return false;
+		return ((value & encoding) > 0);
 	}
 
 	@Override
 	public String toString() {
 		String retStr = "";
-		for (String key: map.keySet()) {
-			String prefix = retStr.isEmpty()? "" : ", ";
-			if ((value & map.get(key)) > 0) retStr += prefix + key;
+		synchronized (JspecCategory.class) {
+			for (String key: map.keySet()) {
+				String prefix = retStr.isEmpty()? "" : ", ";
+				if ((value & map.get(key)) > 0) retStr += prefix + key;
+			}
 		}
 		return retStr;
 	}
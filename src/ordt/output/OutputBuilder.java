@@ -15,7 +15,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import ordt.output.common.ChangeDetectingFileWriter;
 import ordt.output.common.MsgUtils;
 import ordt.extract.RegModelIntf;
 import ordt.extract.RegNumber;
@@ -41,7 +43,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	protected BufferedWriter bufferedWriter;
 	
 	// unique instance ID
-	private static int nextBuilderID = 0;
+	private static AtomicInteger nextBuilderID = new AtomicInteger(0);  // child builders may be created concurrently
 	private int builderID = 0;
 	
 	private RegNumber nextAddress = new RegNumber("0x0");   // initialize to address 0
@@ -50,6 +52,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	private int maxRegWidth = ExtParameters.getMinDataSize();  // maximum sized register found in this addrmap - default to min pio data width  // TODO - can replace with precalculated value in model
 
 	protected Stack<InstanceProperties> instancePropertyStack = new Stack<InstanceProperties>();  // track currently active instance path
+	protected StructuralFingerprint.Builder inputFingerprint = null;  // if non-null, extract inputs of all visited instances are added (for change detection)
 	
 	private String addressMapName = (ExtParameters.defaultBaseMapName().isEmpty())? "" : ExtParameters.defaultBaseMapName();  // name of the base address map in this builder
 	private boolean firstAddressMap = true;  // indication of first address map visited
@@ -102,13 +105,21 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 
 	/** set a new builderid */
 	protected void setNewBuilderID() {
-		this.builderID = nextBuilderID++;   // set unique ID of this instance
+		this.builderID = nextBuilderID.getAndIncrement();   // set unique ID of this instance
 	}
 
 	/** set a new builderid of 0 for this instance */
 	protected void setBaseBuilderID() {
-		nextBuilderID = 0;
-		this.builderID = nextBuilderID++;   // set unique ID of this instance
+		nextBuilderID.set(0);
+		this.builderID = nextBuilderID.getAndIncrement();   // set unique ID of this instance
+	}
+
+	/** reassign builderID of this instance (used to restore a deterministic id order after concurrent child builder generation)
+	 *  @param builderID - new id (must be non-zero for child builders)
+	 */
+	protected void setBuilderID(int builderID) {
+		this.builderID = builderID;
+		if (builderID >= nextBuilderID.get()) nextBuilderID.set(builderID + 1);
 	}
 
 	/** return true if this is the root VerilogBuilder
@@ -133,7 +144,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		if (sProperties != null) {
 		   signalProperties = sProperties;   
 		   // set instance path and instance property assigns
-		   signalProperties.updateInstanceInfo(getInstancePath());
+		   signalProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);
 		   addSignal();
 		}
 	}
@@ -148,7 +159,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		   fieldProperties = fProperties;
 			
 		   // set instance path and instance property assigns
-		   fieldProperties.updateInstanceInfo(getInstancePath());
+		   fieldProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);
 		   
 		   if (regProperties == null ) {   //FIXME
 			   //System.out.println("OutputBuilder: addField: NO REGPROPERTIES DEFINED, path=" + getInstancePath() + ", id=" + fieldProperties.getId());
@@ -208,7 +219,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 			   // extract properties from instance/component
 			   fieldSetProperties = fsProperties; 
 			   // set instance path and instance property assigns
-			   fieldSetProperties.updateInstanceInfo(getInstancePath());  
+			   fieldSetProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);  
 			   // set rep number of this iteration
 			   fieldSetProperties.setRepNum(rep);
 			   
@@ -266,7 +277,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		   // extract properties from instance/component
 		   regProperties = rProperties; 
 		   // set instance path and instance property assigns
-		   regProperties.updateInstanceInfo(getInstancePath());
+		   regProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);
 		   
 		   updateMaxRegWidth(regProperties.getRegWidth());  // check for largest register width
 		   
@@ -299,7 +310,9 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 			//System.out.println("OutputBuilder finishRegister: " + regProperties.getInstancePath() + ", visit each reg=" + visitEachReg() + ", isFirstRep=" + regProperties.isFirstRep() + ", firstRegSetRep=" + firstRegSetRep());
 			if (visitEachReg() || (regProperties.isFirstRep() && firstRegSetRep())) {
 			    updateFinishRegProperties(regProperties);  // update regprops post field processing
+			    regProperties.updateFingerprint();  // fields are complete so compute reg fingerprint once
 			    regSetProperties.updateChildHash(regProperties.hashCode(true)); // add this reg's hashcode to parent including id
+			    regSetProperties.updateChildFingerprint(regProperties.getFingerprint(), regProperties.getId());
 			    // issue warning if register has no fields or isn't sw accessible
 			    if (!regProperties.hasFields())
 					MsgUtils.warnMessage("register "+ regProperties.getInstancePath() + " has no fields");
@@ -336,7 +349,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		   // extract properties from instance/component
 		   regProperties = rProperties; 
 		   // set instance path from instance stack, and init property info
-		   regProperties.updateInstanceInfo(getInstancePath());
+		   regProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);
 		   
 		   updateMaxRegWidth(regProperties.getRegWidth());  // check for largest register width
 		   
@@ -367,9 +380,11 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	public  void finishExternalRegisters(RegProperties rProperties) {
 		if (rProperties != null) {
 		    updateFinishRegProperties(regProperties);  // update regprops post field processing
+		    regProperties.updateFingerprint();  // fields are complete so compute reg fingerprint once
 			// only visit once if specified by this output type
 			if (visitExternalRegisters() && firstRegSetRep()) {
 			    regSetProperties.updateChildHash(regProperties.hashCode(true)); // add this reg's hashcode to parent including id
+			    regSetProperties.updateChildFingerprint(regProperties.getFingerprint(), regProperties.getId());
 			    // issue warning if register has no fields or isn't sw accessible
 			    if (!regProperties.hasFields())
 					MsgUtils.warnMessage("register "+ regProperties.getInstancePath() + " has no fields");
@@ -433,7 +448,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 			//System.out.println("OutputBuilder updateRootExternalRegProperties: updating base addr for path=" + getInstancePath() + ", old base=" + newRegProperties.getBaseAddress() + ", new base=" + getExternalBaseAddress() + ", rs base=" + regSetProperties.getBaseAddress());
 			if (isNonRootExternal) newRegProperties.setBaseAddress(regSetProperties.getBaseAddress());   //  use current base to support multiple child scenarios
 			else newRegProperties.setBaseAddress(getExternalBaseAddress());   //  use ext base address stored by builder
-			newRegProperties.updateInstanceInfo(getInstancePath());  		   // set instance path and instance property assigns
+			newRegProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);  		   // set instance path and instance property assigns
 			newRegProperties.setSwReadable(true);  // this is a regset external, so set readable/writeable to true
 			newRegProperties.setSwWriteable(true);
 			regProperties = newRegProperties;
@@ -529,7 +544,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		   regSetProperties = rsProperties; 
 		   
 		   // set instance path and instance property assigns
-		   regSetProperties.updateInstanceInfo(getInstancePath());
+		   regSetProperties.updateInstanceInfo(getInstancePath(), inputFingerprint);
 		   
 			// get address info from instance
 		   RegNumber regSetAddress = regSetProperties.getExtractInstance().getAddress(); 
@@ -627,6 +642,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		if (regSetPropertyStack.isEmpty()) { regSetProperties = rootMapProperties;} 
 		else {
 			regSetPropertyStack.peek().updateChildHash(regSetProperties.hashCode(true)); // add popped regset's hashcode to parent including id
+			regSetPropertyStack.peek().updateChildFingerprint(regSetProperties.getFingerprint(), regSetProperties.getId());
 			regSetProperties = regSetPropertyStack.peek();
 		}
 	}
@@ -643,7 +659,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		   rootMapProperties = regSetProperties;  // save these so can restore if empty rs stack
 		   //System.out.println("OutputBuilder addRegMap: adding regmap,  path=" + getInstancePath() + ", id=" + regMapInst.getId()+ ", comp=" + regMapInst.getRegComp().getId());
 		   // extract basic info for root map
-		   regSetProperties.updateRootInstanceInfo();
+		   regSetProperties.updateRootInstanceInfo(inputFingerprint);
 		   //regSetProperties.display();
 		   // if instance has an id then use it for modulename
 		   if (regMapInst.getId() != null) setAddressMapName(regMapInst.getId());  
@@ -757,8 +773,12 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		rProperties.setSwReadable(regIsSwReadable);  
 		rProperties.setSwWriteable(regIsSwWriteable);
 		
-		// set field hash for this reg - need to convert pq to list
-		rProperties.setFieldHash(getOrderedFieldList().hashCode()); 
+		// set field hash and field content fingerprint for this reg - need to convert pq to list
+		List<FieldProperties> orderedFields = getOrderedFieldList();
+		rProperties.setFieldHash(orderedFields.hashCode()); 
+		StructuralFingerprint.Builder fieldFingerprint = new StructuralFingerprint.Builder();
+		for (FieldProperties field: orderedFields) field.addFingerprintInputs(fieldFingerprint, true);
+		rProperties.setFieldFingerprint(fieldFingerprint.build());
 		// set reg category if input is rdl
 		if (ExtParameters.rdlResolveRegCategory() && Ordt.hasInputType(InputType.RDL) && !rProperties.hasCategory()) {
 			boolean isStatus = allFieldsSwReadable && !regIsHwReadable && regIsHwWriteable && !regHasInterrupt;
@@ -948,6 +968,17 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		else return retStr.substring(1);
 	}
 	
+	/** generate current instance path string with rep suffixes removed
+	 */
+	public  String getNoRepInstancePath() {
+		String retStr = "";
+		for (InstanceProperties inst: instancePropertyStack) {
+			if (inst != null) retStr += "." + inst.getNoRepId(); 
+		}
+		if (retStr.length()<2) return "";
+		else return retStr.substring(1);
+	}
+	
 	/** generate instance path string for parent of stack top
 	 */
 	protected String getParentInstancePath() {
@@ -1533,7 +1564,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		for (String parmFile: ExtParameters.getParmFiles()) {
 			writeStmt(bw, 0, midCommentChar + "   Parms: " + parmFile);
 		}
-		writeStmt(bw, 0, midCommentChar + "   Date: " + new Date());
+		if (!ExtParameters.writeIfChanged()) writeStmt(bw, 0, midCommentChar + "   Date: " + new Date());  // no date if unchanged files are kept
 		writeStmt(bw, 0, lastCommentChar);
 		writeStmt(bw, 0, "");
 	}
@@ -1560,6 +1591,9 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 
     		System.out.println(MsgUtils.getProgName() + ": writing " + description + " file " + outFile + "...");
 
+    		// if write_if_changed, existing file is only replaced if its content changes
+    		if (ExtParameters.writeIfChanged()) return ChangeDetectingFileWriter.open(outFile);
+
     		// if file doesnt exists, then create it
     		if (!outFile.exists()) {
     			outFile.createNewFile();
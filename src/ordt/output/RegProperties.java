@@ -28,6 +28,8 @@ public class RegProperties extends AddressableInstanceProperties {
 	private Integer minValidOffset = 0;  // min valid offset for field packing
 	private boolean fieldOffsetsFromZero;  // field offset direction for this reg
 	private int fieldHash = 0; // hash of this regs fields
+	private StructuralFingerprint fieldFingerprint = null; // fingerprint of this regs field contents
+	private StructuralFingerprint fingerprint = null; // cached structural fingerprint (id not included)
 	
 	private String aliasedId = "";   // if this reg instance is an alias, store base instance
 	
@@ -134,6 +136,7 @@ public class RegProperties extends AddressableInstanceProperties {
 		}
 		// else use default reg size
 		if (regWidth==null) regWidth = ModRegister.defaultWidth; 
+		invalidateFingerprint();
 		//System.out.println("setting width to " + regWidth);
 	}
 	
@@ -151,6 +154,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setRegWidth(Integer width) {
 		regWidth = width;
+		invalidateFingerprint();
 		// check for valid regwidth
         int minRegWidth = ExtParameters.getMinDataSize();
 		if ((regWidth % minRegWidth) != 0) {
@@ -223,6 +227,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setCategory(String category) {
 		this.category = new JspecCategory(category);
+		invalidateFingerprint();
 	}
 	
 	/** isAlias
@@ -244,6 +249,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setAliasedId(String aliasedId) {
 		this.aliasedId = aliasedId;
+		invalidateFingerprint();
 	}
 
 	/** get alais baseName
@@ -275,6 +281,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setHasInterruptFields(boolean hasInterruptFields) {
 		this.hasInterruptFields = hasInterruptFields;
+		invalidateFingerprint();
 	}
 
 	/** get hasInterruptOutputDefined - output-specific status info
@@ -287,6 +294,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setHasInterruptOutputDefined(boolean hasInterruptOutputDefined) {
 		this.hasInterruptOutputDefined = hasInterruptOutputDefined;
+		invalidateFingerprint();
 	}
 
 	/** get hasHaltOutputDefined - output-specific status info
@@ -301,6 +309,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setHasHaltOutputDefined(boolean hasHaltOutputDefined) {
 		this.hasHaltOutputDefined = hasHaltOutputDefined;
+		invalidateFingerprint();
 	}
 
 	/** return true is this register array should be modeled as uvm_mem */
@@ -313,6 +322,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	/** identify this reg as a uvm memory */
 	public void setUvmMem(boolean isUvmMem) {
 		this.isUvmMem = isUvmMem;
+		invalidateFingerprint();
 	}
 	
 	/** return true if this register is to be pruned from uvmreg model output */
@@ -355,6 +365,7 @@ public class RegProperties extends AddressableInstanceProperties {
 	 */
 	public void setJspecAttributes(String jspecAttributes) {
 		this.jspecAttributes = jspecAttributes;
+		invalidateFingerprint();
 	}
 
 	/** get filledBits
@@ -439,6 +450,7 @@ public class RegProperties extends AddressableInstanceProperties {
 		}
 		//if (getId().equals("scfg_data")) System.out.println("RegProperties addField: id=" + fieldProperties.getInstancePath() + ", adding at reg lowFieldIndex=" + lowFieldIndex);
 		fieldCount++;  // bump the field count
+		invalidateFingerprint();
 		return lowFieldIndex;   
 	}
 
@@ -508,6 +520,51 @@ public class RegProperties extends AddressableInstanceProperties {
     /** set the field hash value for this reg */
 	public void setFieldHash(int fieldHash) {
 		this.fieldHash = fieldHash;
+		invalidateFingerprint();
+	}
+
+    /** set the fingerprint of field contents for this reg */
+	public void setFieldFingerprint(StructuralFingerprint fieldFingerprint) {
+		this.fieldFingerprint = fieldFingerprint;
+		invalidateFingerprint();
+	}
+
+	@Override
+	protected void invalidateFingerprint() {
+		fingerprint = null;
+	}
+
+	/** compute the structural fingerprint of this reg from the same inputs as equals(false).
+	 *  Called once fields are complete, so later lookups are O(1) */
+	public void updateFingerprint() {
+		StructuralFingerprint.Builder fp = new StructuralFingerprint.Builder();
+		addFingerprintInputs(fp, false);
+		fingerprint = fp.build();
+	}
+
+	/** return the structural fingerprint of this reg (id not included) */
+	@Override
+	public StructuralFingerprint getFingerprint() {
+		if (fingerprint == null) updateFingerprint();
+		return fingerprint;
+	}
+
+	/** add the equals(includeId) inputs of this reg to a fingerprint (field contents are used rather than fieldHash) */
+	@Override
+	protected void addFingerprintInputs(StructuralFingerprint.Builder fp, boolean includeId) {
+		super.addFingerprintInputs(fp, includeId);
+		fp.add(aliasedId);
+		fp.add((category == null)? -1L : category.getValue());
+		fp.add(fieldCount);
+		fp.add(fieldOffsetsFromZero);
+		fp.add(hasHaltOutputDefined);
+		fp.add(hasInterruptFields);
+		fp.add(hasInterruptOutputDefined);
+		fp.add(isUvmMem());
+		fp.add(jspecAttributes);
+		fp.add(regWidth);
+		fp.add(fieldFingerprint);
+		fp.add(getExtractInstance().getAddressIncrement());
 	}
 
 	/** hashcode/equals overrides 
@@ -16,6 +16,8 @@ public class RegSetProperties extends AddressableInstanceProperties {
 	
 	private RegNumber highAddress;  // highest valid address
 	private int childHash = 0; // hash of this regset's children
+	private StructuralFingerprint.Builder childFingerprint = new StructuralFingerprint.Builder(); // ordered fingerprints of this regset's children
+	private StructuralFingerprint fingerprint = null; // cached structural fingerprint (id not included)
 	// jspec compatibility parameters
 	private String jspecTypedefName;
 	private String jspecInstanceName;
@@ -54,6 +56,12 @@ public class RegSetProperties extends AddressableInstanceProperties {
 
 	/** update basic info for the root regmap.  no post-prop assigns, path info	 */
 	public void updateRootInstanceInfo() {
+		updateRootInstanceInfo(null);
+	}
+
+	/** update basic info for the root regmap and add its extract inputs to a builder fingerprint
+	 *  @param builderFingerprint - if non-null, the input fingerprint of this instance is computed and added */
+	public void updateRootInstanceInfo(StructuralFingerprint.Builder builderFingerprint) {
 		// before creating instance list update default instance properties 
 		updateDefaultProperties(extractInstance.getDefaultProperties());
 		// create a property list for holding combined info for this instance
@@ -65,6 +73,7 @@ public class RegSetProperties extends AddressableInstanceProperties {
 		mergedList.updateProperties(extractInstance.getProperties());
 		extractProperties(mergedList);   // now that we have combined parameter list, extract instance info
 		extractSpecialPropertyLists(mergedList); // extract any used-defined or js passthru parameters
+		if (builderFingerprint != null) builderFingerprint.add(updateInputFingerprint(mergedList));
 		//System.out.println("RegSetProperties updateRootInstanceInfo: " + userDefinedProperties);
 	}
 
@@ -130,8 +139,34 @@ public class RegSetProperties extends AddressableInstanceProperties {
 	public void updateChildHash(int newChildHash) {
 		final int prime = 31;
 		this.childHash = prime * this.childHash + newChildHash;
+		invalidateFingerprint();
 	}
 	
+	/** add a child reg/regset fingerprint (including child id) to this regset's fingerprint */
+	public void updateChildFingerprint(StructuralFingerprint newChildFingerprint, String childId) {
+		childFingerprint.add(newChildFingerprint).add(childId);
+		invalidateFingerprint();
+	}
+
+	@Override
+	protected void invalidateFingerprint() {
+		fingerprint = null;
+	}
+
+	/** return the structural fingerprint of this regset (id not included).
+	 *  Child fingerprints are accumulated bottom-up, so children are not revisited.  The 32b childHash
+	 *  is not used, since child fingerprints already cover the child contents */
+	@Override
+	public StructuralFingerprint getFingerprint() {
+		if (fingerprint == null) {
+			StructuralFingerprint.Builder fp = new StructuralFingerprint.Builder();
+			addFingerprintInputs(fp, false);
+			fp.add(childFingerprint.build());
+			fingerprint = fp.build();
+		}
+		return fingerprint;
+	}
+
 	/** hashcode/equals overrides 
 	 * - child hash is updated in outputbuilder
 	 * - optionally includes id in super 
@@ -24,7 +24,7 @@ public class RhsReference {
    private boolean sameAddrmap = true;  // true if this rhs reference is in same addrmap as lhs 
    private boolean userSignal = false;  // true if this rhs reference is a user-defined signal
    
-   private static Stack<InstanceProperties> instancePropertyStack;  // pointer to builder active instance path
+   private static ThreadLocal<Stack<InstanceProperties>> activeInstanceStack = new ThreadLocal<Stack<InstanceProperties>>();  // pointer to builder active instance path (per thread so child builders can run concurrently)
 
    public RhsReference(String rawReference, int depth) {
 	   this.depth = depth;
@@ -157,7 +157,12 @@ public class RhsReference {
 
    /** set ptr to builder instancePropertyStack */
    public static void setInstancePropertyStack(Stack<InstanceProperties> instancePropertyStack) {
-	   RhsReference.instancePropertyStack = instancePropertyStack;
+	   activeInstanceStack.set(instancePropertyStack);
+   }
+
+   /** return ptr to current builder instancePropertyStack */
+   public static Stack<InstanceProperties> getInstancePropertyStack() {
+	   return activeInstanceStack.get();
    }
    
    // ----------------- private methods -----------------
@@ -220,6 +225,7 @@ public class RhsReference {
 	   ModInstance rhsAddrMapInst = ancModComp.findLastAddrmap(pathList);  
 	   // find rhs reference addrmap instance		   
 	   ModInstance lhsAddrMapInst = null;  
+	   Stack<InstanceProperties> instancePropertyStack = activeInstanceStack.get();
 	   int ancIndex = instancePropertyStack.size() - (depth + 1);
 	   if (ancIndex < 0) ancIndex = 0;
 	   for (int idx=ancIndex; idx<instancePropertyStack.size(); idx++) {
@@ -233,6 +239,7 @@ public class RhsReference {
    /** return the model ancestor where assignment was made using the active instance stack. return null if depth is invalid relative to stace size. */
    private ModComponent getAssignAncestorComp() {
 	   ModComponent ancModComp = null;
+	   Stack<InstanceProperties> instancePropertyStack = activeInstanceStack.get();
 	   int ancIndex = instancePropertyStack.size() - (depth + 1);
 	   // if one deeper than stack return the root instanced component
 	   if (ancIndex == -1) {
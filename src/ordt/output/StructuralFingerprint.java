@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import ordt.extract.PropertyList;
+import ordt.extract.PropertyList.PropertyValue;
+import ordt.extract.RegNumber;
+
+/** immutable 128-bit structural hash of an instance, built bottom-up during the model walk.
+ *  Fingerprints are used as fast keys for class reuse, so equal instances must produce equal
+ *  fingerprints.  Unequal instances are very unlikely to collide, but users should verify
+ *  matches using equals. */
+public class StructuralFingerprint {
+
+	private final long hi;
+	private final long lo;
+
+	private StructuralFingerprint(long hi, long lo) {
+		this.hi = hi;
+		this.lo = lo;
+	}
+
+	/** return the fingerprint as a 32 char hex string */
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", hi, lo);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (lo ^ (lo >>> 32));  // low bits are well mixed
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		StructuralFingerprint other = (StructuralFingerprint) obj;
+		return (hi == other.hi) && (lo == other.lo);
+	}
+
+	/** final avalanche mix of a 64b value */
+	private static long fmix64(long k) {
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+	/** accumulates ordered inputs into a fingerprint using two independent 64b lanes */
+	public static class Builder {
+		private long a = 0xcbf29ce484222325L;  // fnv-1a lane
+		private long b = 0x9e3779b97f4a7c15L;  // multiply/rotate lane
+		private long count = 0;
+
+		/** add a long value */
+		public Builder add(long value) {
+			a = (a ^ value) * 0x100000001b3L;
+			b = Long.rotateLeft(b ^ (value * 0x87c37b91114253d5L), 31) * 0x4cf5ad432745937fL + 0x52dce729L;
+			count++;
+			return this;
+		}
+
+		/** add a boolean value */
+		public Builder add(boolean value) {
+			return add(value? 1231L : 1237L);
+		}
+
+		/** add a string using all of its chars (null and empty strings differ) */
+		public Builder add(String value) {
+			if (value == null) return add(-1L);
+			add((long) value.length());
+			for (int idx = 0; idx < value.length(); idx++) add((long) value.charAt(idx));
+			return this;
+		}
+
+		/** add an integer value (null and zero differ) */
+		public Builder add(Integer value) {
+			if (value == null) return add(false);
+			add(true);
+			return add(value.longValue());
+		}
+
+		/** add an enum value using its name */
+		public Builder add(Enum<?> value) {
+			return add((value == null)? null : value.name());
+		}
+
+		/** add a number using all of the values compared in RegNumber.equals */
+		public Builder add(RegNumber value) {
+			if (value == null) return add(false);
+			add(true);
+			add(value.getNumBase());
+			add(value.getNumFormat());
+			add((value.getValue() == null)? null : value.getValue().toString(16));
+			return add(value.getVectorLen());
+		}
+
+		/** add all values of a property list in name order */
+		public Builder add(PropertyList value) {
+			if (value == null) return add(false);
+			add(true);
+			HashMap<String, PropertyValue> props = value.getProperties();
+			List<String> names = new ArrayList<String>(props.keySet());
+			Collections.sort(names);
+			add((long) names.size());
+			for (String name : names) {
+				PropertyValue propValue = props.get(name);
+				add(name);
+				add(propValue.getValue());
+				add((long) propValue.getDepth());
+			}
+			return this;
+		}
+
+		/** add a child fingerprint */
+		public Builder add(StructuralFingerprint value) {
+			if (value == null) return add(-1L);
+			add(value.hi);
+			return add(value.lo);
+		}
+
+		/** return the fingerprint of all inputs added so far */
+		public StructuralFingerprint build() {
+			long h1 = fmix64(a ^ count);
+			long h2 = fmix64(b + count);
+			return new StructuralFingerprint(h1 + h2, h2 + h1 + h1);
+		}
+	}
+}
@@ -1,22 +1,30 @@
 package ordt.output;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import ordt.parameters.Utils;
 
 /** class to generate and store unique names based on equality of specified type T instances.
  * Provides a hash from InstanceProperties T -> String which is set/read via getName().
+ * Instances providing a structural fingerprint are keyed by fingerprint, with matches verified
+ * using equals, so lookups do not recompute instance hashes.
  * Optionally provides a hash from String -> InstanceProperties T which is set via setStringMap() and used
  * to provide a String -> String lookup via getNameFromString() */
 public class UniqueNameSet<T extends InstanceProperties> {
 	
 	private HashMap<T, String> names = new HashMap<T, String>();
+	private HashMap<StructuralFingerprint, List<FingerprintEntry>> fingerprintNames = new HashMap<StructuralFingerprint, List<FingerprintEntry>>();
 	private HashMap<String, T> stringMap = new HashMap<String, T>();
 	private boolean reuseNames = false; 
 	private boolean useNumericNames = false;
 	private boolean allowStringMap = false;
 	private String staticPrefix = "";
 	private int uniqueCount = 0;  // count to be used for name generation when useGenericNames is specified
+	private int lookups = 0;  // reuse stats
+	private int hits = 0;
+	private int collisions = 0;
 	
 	/** define unique names based on equivalence of InstanceProperty child class instances.
 	 * @param reuseNames - if true, equal instances will use the same name  
@@ -31,6 +39,16 @@ public class UniqueNameSet<T extends InstanceProperties> {
 		if (staticPrefix != null) this.staticPrefix = staticPrefix;
 	}
 
+    /** instance and name stored for a fingerprint */
+	private class FingerprintEntry {
+		private FingerprintEntry(T inst, String name) {
+			this.inst = inst;
+			this.name = name;
+		}
+		private T inst;
+		private String name;
+	}
+
     /** getName return info - string name and indication if not seen previously */
 	public class UniqueNameSetInfo {
 		public UniqueNameSetInfo(String name, boolean isNew) {
@@ -54,10 +72,14 @@ public class UniqueNameSet<T extends InstanceProperties> {
 		String name = null;
 		// save info in names hash if reusing classes or string mapping is enabled
 		boolean useNamesHash = reuseNames || (allowStringMap && useNumericNames);  // numerics will be treated as reuse classes if allowStringMap specified
+		StructuralFingerprint fp = (useNamesHash && (inst != null))? inst.getFingerprint() : null;
 		// look for a matching name if using hashmap
-		if (useNamesHash && names.containsKey(inst)) {
-			name = names.get(inst);
+		if (useNamesHash) lookups++;
+		if (fp != null) name = getFingerprintName(fp, inst);
+		else if (useNamesHash && names.containsKey(inst)) name = names.get(inst);
+		if (name != null) {
 			isNew = false;
+			hits++;
 		}
 		// else create a new name 
 		else {
@@ -70,12 +92,40 @@ public class UniqueNameSet<T extends InstanceProperties> {
 				name = Utils.usCatenate(name, instStr);  // use instance path name
 			}
 			name = Utils.usCatenate(name, suffix);  // add the suffix
-			if (useNamesHash) names.put(inst, name);  // save new name to hashmap
+			if (fp != null) addFingerprintName(fp, inst, name);  // save new name by fingerprint
+			else if (useNamesHash) names.put(inst, name);  // save new name to hashmap
 		}
 		//if (name.startsWith("block")) System.out.println("UniqueNameSet getName: name=" + name + ", isNew=" + isNew);
 		return new UniqueNameSetInfo(name, isNew);
 	}
 	
+    /** return the saved name of an instance matching fingerprint fp (verified using equals) or null if none */
+	private String getFingerprintName(StructuralFingerprint fp, T inst) {
+		List<FingerprintEntry> entries = fingerprintNames.get(fp);
+		if (entries == null) return null;
+		for (FingerprintEntry entry : entries) {
+			if ((entry.inst == inst) || entry.inst.equals(inst)) return entry.name;
+		}
+		collisions++;  // same fingerprint, but not equal
+		return null;
+	}
+
+    /** save the name of an instance by fingerprint */
+	private void addFingerprintName(StructuralFingerprint fp, T inst, String name) {
+		List<FingerprintEntry> entries = fingerprintNames.get(fp);
+		if (entries == null) {
+			entries = new ArrayList<FingerprintEntry>(1);
+			fingerprintNames.put(fp, entries);
+		}
+		entries.add(new FingerprintEntry(inst, name));
+	}
+
+    /** return a string with name reuse statistics (lookups, reuse hits, fingerprint collisions) */
+	public String getReuseStats() {
+		int pct = (lookups > 0)? (100 * hits) / lookups : 0;
+		return lookups + " lookups, " + hits + " reused (" + pct + "%), " + (lookups - hits) + " unique, " + collisions + " fingerprint collisions";
+	}
+
     /** return the name of an instance with no name suffix based on rules for this UniqueNameSet. New instances and their corresponding
      *  name will be saved in names hashMap depending on parameters.
      *  If reuseName is specified, then look for matching instance and return existing name on match.
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Set;
+
+/** BufferedWriter that only replaces its output file if the written content differs from the existing file.
+ *  Output is streamed to a temporary file in the destination directory while its digest is computed.  On close,
+ *  the temporary file is deleted if the existing file has the same size and digest, otherwise it is renamed
+ *  over the existing file, keeping the existing file's permissions.  If a write fails, the temporary file is 
+ *  deleted on close and the existing file is left in place.
+ */
+public class ChangeDetectingFileWriter extends BufferedWriter {
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	private File outFile;
+	private Path tempPath;
+	private MessageDigest digest;
+	private boolean closed = false;
+	private boolean failed = false;  // set if a write failed, so partial output is discarded on close
+
+	private ChangeDetectingFileWriter(File outFile, Path tempPath, DigestOutputStream digestStream) {
+		super(new OutputStreamWriter(digestStream));
+		this.outFile = outFile;
+		this.tempPath = tempPath;
+		this.digest = digestStream.getMessageDigest();
+	}
+
+	/** create a writer for the specified output file */
+	public static ChangeDetectingFileWriter open(File outFile) throws IOException {
+		Path tempPath = createTempPath(outFile);
+		try {
+			DigestOutputStream digestStream = new DigestOutputStream(new BufferedOutputStream(new FileOutputStream(tempPath.toFile())), newDigest());
+			return new ChangeDetectingFileWriter(outFile, tempPath, digestStream);
+		} catch (IOException e) {
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		try {
+			super.write(c);
+		} catch (IOException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		try {
+			super.write(cbuf, off, len);
+		} catch (IOException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	@Override
+	public void write(String s, int off, int len) throws IOException {
+		try {
+			super.write(s, off, len);
+		} catch (IOException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		try {
+			super.flush();
+		} catch (IOException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	/** close the temporary file and replace the output file if its content has changed */
+	@Override
+	public void close() throws IOException {
+		if (closed) return;
+		closed = true;
+		try {
+			super.close();
+		} catch (IOException e) {
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+		if (failed) {
+			Files.deleteIfExists(tempPath);
+			throw new IOException("write of " + outFile + " failed, existing file was not replaced");
+		}
+		replaceIfChanged(outFile, tempPath, digest.digest());
+	}
+
+	/** write a byte array to the specified output file, replacing the file only if its content has changed */
+	public static void writeBytes(File outFile, byte[] bytes) throws IOException {
+		Path tempPath = createTempPath(outFile);
+		try {
+			Files.write(tempPath, bytes);
+		} catch (IOException e) {
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+		replaceIfChanged(outFile, tempPath, newDigest().digest(bytes));
+	}
+
+	/** delete the temporary file if the existing output file has the same content, otherwise move it over the output file */
+	private static void replaceIfChanged(File outFile, Path tempPath, byte[] tempDigest) throws IOException {
+		try {
+			if (hasSameContent(outFile, tempPath, tempDigest)) {
+				Files.delete(tempPath);
+				System.out.println(MsgUtils.getProgName() + ": " + outFile + " is unchanged");
+				return;
+			}
+			copyPermissions(outFile, tempPath);
+			try {
+				Files.move(tempPath, outFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempPath, outFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+	}
+
+	/** set permissions of the temporary file to those of an existing output file (no change if file systems
+	 *  do not support posix permissions) */
+	private static void copyPermissions(File outFile, Path tempPath) throws IOException {
+		if (!outFile.isFile()) return;
+		try {
+			Set<PosixFilePermission> perms = Files.getPosixFilePermissions(outFile.toPath());
+			Files.setPosixFilePermissions(tempPath, perms);
+		} catch (UnsupportedOperationException e) {
+			return;
+		}
+	}
+
+	/** return true if the existing output file has the same size and digest as the temporary file */
+	private static boolean hasSameContent(File outFile, Path tempPath, byte[] tempDigest) throws IOException {
+		if (!outFile.isFile() || (outFile.length() != Files.size(tempPath))) return false;
+		MessageDigest existingDigest = newDigest();
+		byte[] buffer = new byte[65536];
+		InputStream is = new BufferedInputStream(new FileInputStream(outFile));
+		try {
+			int len;
+			while ((len = is.read(buffer)) > 0) existingDigest.update(buffer, 0, len);
+		} finally {
+			is.close();
+		}
+		return Arrays.equals(existingDigest.digest(), tempDigest);
+	}
+
+	/** create a temporary file in the output file's directory (File.createTempFile is used so the umask default
+	 *  permissions, rather than owner only permissions, carry over to the output file) */
+	private static Path createTempPath(File outFile) throws IOException {
+		File outDir = outFile.getAbsoluteFile().getParentFile();
+		File tempFile = File.createTempFile("." + outFile.getName(), ".tmp", outDir);
+		tempFile.deleteOnExit();  // removed if an error exits before close (no effect once moved over output file)
+		return tempFile.toPath();
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(DIGEST_ALGORITHM + " digest is not available", e);
+		}
+	}
+}
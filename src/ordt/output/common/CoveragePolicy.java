@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/** set of instance path based coverage generation rules.
+ *  Each rule applies to instances whose path matches its pattern as well as to all instances in the matching subtree.
+ *  Rules are applied in the order specified, so a later matching rule overrides an earlier one for the same setting.
+ */
+public class CoveragePolicy {
+
+	public enum RuleType { INCLUDE, EXCLUDE, MERGE_REPS, SAMPLE }
+
+	private List<CoverageRule> rules = new ArrayList<CoverageRule>();
+
+	/** add a coverage rule
+	 * @param type - rule type
+	 * @param pathPattern - instance path pattern (* is a wildcard)
+	 * @param sampleRate - covergroup sample rate in clocks (used by SAMPLE rules only)
+	 */
+	public void addRule(RuleType type, String pathPattern, int sampleRate) {
+		rules.add(new CoverageRule(type, pathPattern, sampleRate));
+	}
+
+	/** return true if no coverage rules are defined */
+	public boolean isEmpty() {
+		return rules.isEmpty();
+	}
+
+	/** return a string list describing each rule in order (used for output fingerprints) */
+	public List<String> getRuleSignatures() {
+		List<String> sigs = new ArrayList<String>();
+		for (CoverageRule rule: rules) sigs.add(rule.type + " " + rule.pathPattern + " " + rule.sampleRate);
+		return sigs;
+	}
+
+	/** return coverage settings for the specified instance path */
+	public CoverageSettings getSettings(String instancePath) {
+		CoverageSettings settings = new CoverageSettings();
+		for (CoverageRule rule: rules) {
+			if (!rule.matches(instancePath)) continue;
+			switch (rule.type) {
+			case INCLUDE:
+				settings.included = true;
+				break;
+			case EXCLUDE:
+				settings.included = false;
+				break;
+			case MERGE_REPS:
+				settings.mergeReps = true;
+				break;
+			case SAMPLE:
+				settings.sampleRate = rule.sampleRate;
+				break;
+			}
+		}
+		return settings;
+	}
+
+	// ----------------- inner classes --------------------
+
+	/** coverage settings resulting from all rules matching an instance */
+	public static class CoverageSettings {
+		private Boolean included = null;  // null if no include/exclude rule matches
+		private boolean mergeReps = false;
+		private int sampleRate = 0;
+
+		/** return true if an include rule was the last include/exclude rule matching this instance */
+		public boolean isIncluded() {
+			return Boolean.TRUE.equals(included);
+		}
+
+		/** return true if an exclude rule was the last include/exclude rule matching this instance */
+		public boolean isExcluded() {
+			return Boolean.FALSE.equals(included);
+		}
+
+		/** return true if coverage of replicated registers should be merged into a single coverpoint/bin */
+		public boolean mergeReps() {
+			return mergeReps;
+		}
+
+		/** return sample rate of generated covergroups in clocks (0 if covergroups are sampled on every clock) */
+		public int getSampleRate() {
+			return sampleRate;
+		}
+	}
+
+	/** a single path matched rule */
+	private static class CoverageRule {
+		private RuleType type;
+		private String pathPattern;
+		private int sampleRate;
+		private Pattern compiledPattern;
+
+		private CoverageRule(RuleType type, String pathPattern, int sampleRate) {
+			this.type = type;
+			this.pathPattern = pathPattern;
+			this.sampleRate = sampleRate;
+			// match the path or any descendant of a matching path
+			String regex = "\\Q" + pathPattern.replace("*", "\\E.*\\Q") + "\\E";
+			this.compiledPattern = Pattern.compile("^" + regex + "(\\..*)?$");
+		}
+
+		/** return true if instancePath is in the subtree matched by this rule */
+		private boolean matches(String instancePath) {
+			return (instancePath != null) && compiledPattern.matcher(instancePath).matches();
+		}
+	}
+}
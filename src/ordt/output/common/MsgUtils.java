@@ -1,12 +1,13 @@
 package ordt.output.common;
 
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MsgUtils {
 
 	private final static int ERROR_CONTINUE_RC = 4;
 	private final static int ERROR_EXIT_RC = 8;
-	private static int returnCode = 0;
+	private static final AtomicInteger returnCode = new AtomicInteger(0);  // set by concurrently generated builders, so atomic
 	private static String progName = "Ordt";
 
 	/** display error message and exit */
@@ -19,7 +20,7 @@ public class MsgUtils {
 	/** display error message */
 	public static void errorMessage(String msg) {
 		System.err.println("*** ERROR ***: " + msg);
-		returnCode = ERROR_CONTINUE_RC;
+		returnCode.set(ERROR_CONTINUE_RC);
 	}
 	
 	/** display error message */
@@ -34,7 +35,7 @@ public class MsgUtils {
 
 	/** get return code */
 	public static int getReturnCode() {
-		return returnCode;
+		return returnCode.get();
 	}
 
 	/** set name of this program for display */
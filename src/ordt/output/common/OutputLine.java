@@ -57,6 +57,11 @@ public class OutputLine {
 		return line;
 	}
 
+	/** return line string without text replacements */
+	public String getRawLine() {
+		return line;
+	}
+
 	/** return line string with text values in replacements list replaced */
 	private String replaceText() {
 		String retStr = line;
@@ -7,6 +7,8 @@ import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 
+import ordt.parameters.ExtParameters;
+
 public class SimpleOutputWriter implements OutputWriterIntf {
 	protected BufferedWriter bw;
 	
@@ -63,6 +65,9 @@ public class SimpleOutputWriter implements OutputWriterIntf {
 
     		System.out.println(MsgUtils.getProgName() + ": writing " + description + " file " + outFile + "...");
 
+    		// if write_if_changed, existing file is only replaced if its content changes
+    		if (ExtParameters.writeIfChanged()) return ChangeDetectingFileWriter.open(outFile);
+
     		// if file doesnt exists, then create it
     		if (!outFile.exists()) {
     			outFile.createNewFile();
@@ -17,6 +17,7 @@ import ordt.output.RhsReference;
 import ordt.output.drvmod.cpp.CppBaseModClass;
 import ordt.output.drvmod.cpp.CppBaseModClass.CppMethod;
 import ordt.output.drvmod.cpp.CppBaseModClass.Vis;
+import ordt.parameters.ExtParameters;
 
 public class CppModBuilder extends OutputBuilder {
 
@@ -265,6 +266,11 @@ public class CppModBuilder extends OutputBuilder {
     		writeStmt(hppBw, 0, "#include <sstream>");    
     		writeStmt(hppBw, 0, "#include <mutex>");    // reg mutex
     		writeStmt(hppBw, 0, "#include <atomic>");    // field data atomic
+    		if (ExtParameters.cppmodSparseArrayThreshold() > 0) {
+    			writeStmt(hppBw, 0, "#include <unordered_map>");    // sparse array element storage
+    			writeStmt(hppBw, 0, "#include <stdexcept>");    // sparse array out_of_range
+    			writeStmt(hppBw, 0, "#include <utility>");    // sparse array element copy move
+    		}
     	    writeStmt(hppBw, 0, "#define quote(x) #x"); // for debug display of vars
     		writeStmt(hppBw, 0, "");		   
    		
@@ -296,6 +302,7 @@ public class CppModBuilder extends OutputBuilder {
 		writeOrdtAddrElemClass();
 		writeOrdtRegsetClass();
 		writeOrdtAddrElemArrayClass();
+		if (ExtParameters.cppmodSparseArrayThreshold() > 0) writeOrdtSparseAddrElemArrayClass();
 		writeOrdtRegClass();
 		writeOrdtFieldClass();  
 		// write design specific classes
@@ -473,6 +480,122 @@ public class CppModBuilder extends OutputBuilder {
 		writeStmt(hppBw, 0, "");
 	}
 
+	/** create and write OrdtSparseAddrElemArray class - elements are only allocated on first write or at() call */ 
+	private void writeOrdtSparseAddrElemArrayClass() {
+		// this is a template class so write directly to hpp file
+		writeStmt(hppBw, 0, "");
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "class ordt_sparse_addr_elem_array : public ordt_addr_elem {");
+		writeStmt(hppBw, 0, "  protected:");
+		writeStmt(hppBw, 0, "    std::unordered_map<uint64_t, std::unique_ptr<T>> m_elems;");  // materialized elements keyed by rep index
+		writeStmt(hppBw, 0, "    mutable std::mutex m_elems_mutex;");  
+		writeStmt(hppBw, 0, "    uint64_t m_reps;");  
+		writeStmt(hppBw, 0, "    uint64_t m_stride;");  
+		writeStmt(hppBw, 0, "    uint64_t m_elemsize;");  
+		writeStmt(hppBw, 0, "    T* find_elem(uint64_t idx);");
+		writeStmt(hppBw, 0, "  public:");
+		writeStmt(hppBw, 0, "    ordt_sparse_addr_elem_array(uint64_t _m_startaddress, uint64_t _m_endaddress, int _reps, uint64_t _m_stride);");
+		writeStmt(hppBw, 0, "    ordt_sparse_addr_elem_array(const ordt_sparse_addr_elem_array<T> &_old);");
+		writeStmt(hppBw, 0, "    T& at(uint64_t idx);");
+		writeStmt(hppBw, 0, "    uint64_t size() const;");
+		writeStmt(hppBw, 0, "    uint64_t materialized_size();");
+		writeStmt(hppBw, 0, "    virtual int write(const uint64_t &addr, const ordt_data &wdata);");
+		writeStmt(hppBw, 0, "    virtual int read(const uint64_t &addr, ordt_data &rdata);");
+		writeStmt(hppBw, 0, "};");
+		writeStmt(hppBw, 0, "");
+
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "ordt_sparse_addr_elem_array<T>::ordt_sparse_addr_elem_array(uint64_t _m_startaddress, uint64_t _m_endaddress, int _reps, uint64_t _m_stride)");
+		writeStmt(hppBw, 0, "   : ordt_addr_elem(_m_startaddress, _m_endaddress + (_m_stride * (_reps - 1))), m_elems(), m_elems_mutex(), m_reps(_reps), m_stride(_m_stride), m_elemsize(_m_endaddress - _m_startaddress) {");
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+
+		// copy deep copies materialized elements since they are uniquely owned
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "ordt_sparse_addr_elem_array<T>::ordt_sparse_addr_elem_array(const ordt_sparse_addr_elem_array<T> &_old)");
+		writeStmt(hppBw, 0, "   : ordt_addr_elem(_old), m_elems(), m_elems_mutex(), m_reps(_old.m_reps), m_stride(_old.m_stride), m_elemsize(_old.m_elemsize) {");
+		writeStmt(hppBw, 0, "   std::lock_guard<std::mutex> m_guard(_old.m_elems_mutex);");
+		writeStmt(hppBw, 0, "   for (auto it = _old.m_elems.begin(); it != _old.m_elems.end(); ++it) {");
+		writeStmt(hppBw, 0, "      std::unique_ptr<T> elem(new T(*it->second));");
+		writeStmt(hppBw, 0, "      elem->update_child_ptrs();");  // copy messes up children ptr assigns made in constructor so need update 
+		writeStmt(hppBw, 0, "      m_elems[it->first] = std::move(elem);");
+		writeStmt(hppBw, 0, "   }");
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "T* ordt_sparse_addr_elem_array<T>::find_elem(uint64_t idx) {");
+		writeStmt(hppBw, 0, "   std::lock_guard<std::mutex> m_guard(m_elems_mutex);");
+		writeStmt(hppBw, 0, "   auto it = m_elems.find(idx);");
+		writeStmt(hppBw, 0, "   return (it == m_elems.end())? nullptr : it->second.get();");
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "T& ordt_sparse_addr_elem_array<T>::at(uint64_t idx) {");
+		writeStmt(hppBw, 0, "   if (idx >= m_reps) throw std::out_of_range(\"ordt_sparse_addr_elem_array index out of range\");");
+		writeStmt(hppBw, 0, "   std::lock_guard<std::mutex> m_guard(m_elems_mutex);");
+		writeStmt(hppBw, 0, "   std::unique_ptr<T> &elem = m_elems[idx];");
+		writeStmt(hppBw, 0, "   if (!elem) {");  // create element in place so child ptrs set in constructor stay valid
+		writeStmt(hppBw, 0, "      uint64_t el_startaddress = m_startaddress + (idx * m_stride);");
+		writeStmt(hppBw, 0, "      elem.reset(new T(el_startaddress, el_startaddress + m_elemsize));");
+		writeStmt(hppBw, 0, "   }");
+		writeStmt(hppBw, 0, "   return *elem;");
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "uint64_t ordt_sparse_addr_elem_array<T>::size() const {");
+		writeStmt(hppBw, 0, "   return m_reps;");
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "uint64_t ordt_sparse_addr_elem_array<T>::materialized_size() {");
+		writeStmt(hppBw, 0, "   std::lock_guard<std::mutex> m_guard(m_elems_mutex);");
+		writeStmt(hppBw, 0, "   return m_elems.size();");
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "int ordt_sparse_addr_elem_array<T>::write(const uint64_t &addr, const ordt_data &wdata) {");
+		writeStmt(hppBw, 0, "   if (this->containsAddress(addr)) {");
+		writeStmt(hppBw, 0, "      uint64_t idx = (addr - m_startaddress) / m_stride;");
+		writeStmt(hppBw, 0, "      if (idx < m_reps) return this->at(idx).write(addr, wdata);");  // materialize on first write
+		writeStmt(hppBw, 0, "   }");
+		writeStmt(hppBw, 0, "#ifdef ORDT_PIO_VERBOSE");
+		writeStmt(hppBw, 0, "   std::cout << \"--> write to invalid address \" << addr << \" in sparse arrayed regset\\n\";" );
+		writeStmt(hppBw, 0, "#endif");
+		writeStmt(hppBw, 0, "   return 8;" );
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+		
+		writeStmt(hppBw, 0, "template<typename T>");
+		writeStmt(hppBw, 0, "int ordt_sparse_addr_elem_array<T>::read(const uint64_t &addr, ordt_data &rdata) {");
+		writeStmt(hppBw, 0, "   if (this->containsAddress(addr)) {");
+		writeStmt(hppBw, 0, "      uint64_t idx = (addr - m_startaddress) / m_stride;");
+		writeStmt(hppBw, 0, "      if (idx < m_reps) {");
+		writeStmt(hppBw, 0, "         T* elem = this->find_elem(idx);");
+		writeStmt(hppBw, 0, "         if (elem != nullptr) return elem->read(addr, rdata);");
+		// untouched element, so read reset values from a temporary and only materialize if the read has side effects (eg rclr)
+		writeStmt(hppBw, 0, "         uint64_t el_startaddress = m_startaddress + (idx * m_stride);");
+		writeStmt(hppBw, 0, "         T reset_elem(el_startaddress, el_startaddress + m_elemsize);");
+		writeStmt(hppBw, 0, "         int rc = reset_elem.read(addr, rdata);");
+		writeStmt(hppBw, 0, "         ordt_data post_rdata;");
+		writeStmt(hppBw, 0, "         reset_elem.read(addr, post_rdata);");
+		writeStmt(hppBw, 0, "         if (post_rdata != rdata) this->at(idx).read(addr, post_rdata);");
+		writeStmt(hppBw, 0, "         return rc;");
+		writeStmt(hppBw, 0, "      }");
+		writeStmt(hppBw, 0, "   }");
+		writeStmt(hppBw, 0, "#ifdef ORDT_PIO_VERBOSE");
+		writeStmt(hppBw, 0, "   std::cout << \"--> read to invalid address \" << addr << \" in sparse arrayed regset\\n\";" );
+		writeStmt(hppBw, 0, "#endif");
+		writeStmt(hppBw, 0, "   rdata.clear();");
+		writeStmt(hppBw, 0, "   return 8;" );
+		writeStmt(hppBw, 0, "}");
+		writeStmt(hppBw, 0, "");
+	}
+
 	/** create and write OrdtReg class  */  
 	private void writeOrdtRegClass() {  
 		String className = "ordt_reg";
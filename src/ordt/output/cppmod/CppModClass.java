@@ -8,6 +8,7 @@ import ordt.extract.RegNumber;
 import ordt.extract.RegNumber.NumBase;
 import ordt.extract.RegNumber.NumFormat;
 import ordt.output.drvmod.cpp.CppBaseModClass;
+import ordt.parameters.ExtParameters;
 
 /** class for describing c++ classes used in CppMod */
 public class CppModClass extends CppBaseModClass {
@@ -69,10 +70,12 @@ public class CppModClass extends CppBaseModClass {
 	   endOffset.add(byteSize);
 	   endOffset.subtract(1);
 	   CppMethod ptrUpdateMethod = this.getTaggedMethod("update_child_ptrs"); 
-	   // if a replicated regset use ordt_regset_array class
+	   // if a replicated regset use ordt_regset_array class (or sparse array if rep threshold is exceeded)
 	   if (reps>1) {
 		   // create child define 
-		   this.addDefine(Vis.PUBLIC, "ordt_addr_elem_array<" + className + "> " + instName);  
+		   int sparseThreshold = ExtParameters.cppmodSparseArrayThreshold();
+		   String arrayClass = ((sparseThreshold > 0) && (reps >= sparseThreshold))? "ordt_sparse_addr_elem_array" : "ordt_addr_elem_array";
+		   this.addDefine(Vis.PUBLIC, arrayClass + "<" + className + "> " + instName);  
 		   // create child init call
 		   String strideStr = ((stride == null) || (!stride.isDefined()))? byteSize.toFormat(NumBase.Hex, NumFormat.Address) : stride.toFormat(NumBase.Hex, NumFormat.Address);
 		   this.addInitCall(instName + "(_m_startaddress + " + startOffset.toFormat(NumBase.Hex, NumFormat.Address) + 
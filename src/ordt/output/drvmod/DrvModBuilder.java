@@ -5,6 +5,8 @@ package ordt.output.drvmod;
 
 import java.io.BufferedWriter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Stack;
@@ -24,6 +26,7 @@ public abstract class DrvModBuilder extends OutputBuilder {
 	protected HashMap<DrvModRegInstance, DrvModRegInstance> uniqueRegs = new HashMap<DrvModRegInstance, DrvModRegInstance>();
 
 	int addedInstances, uniqueInstances = 0;  // counts per overlay
+	private long overlayStartTime = 0;  // start time of current overlay processing (ns)
 	private Stack<DrvModRegSetInstance> currentRegSetStack = new Stack<DrvModRegSetInstance>();
 	protected int overlayCount = 0;
 	protected List<RootInstanceInfo> rootInstances = new ArrayList<RootInstanceInfo>();
@@ -77,7 +80,8 @@ public abstract class DrvModBuilder extends OutputBuilder {
 			newReg.addField(fld.getPrefixedId(), fld.getLowIndex(), fld.getFieldWidth(), fld.isSwReadable(), fld.isSwWriteable());
 		}
         addedInstances++;
-		if (!uniqueRegs.containsValue(newReg)) {
+        DrvModRegInstance uniqueReg = uniqueRegs.get(newReg);  // keyed lookup using cached structural hash
+		if (uniqueReg == null) {
 			uniqueRegs.put(newReg, newReg);
         	uniqueInstances++;
     		// add this reg to its parent
@@ -86,7 +90,7 @@ public abstract class DrvModBuilder extends OutputBuilder {
         }
 		// otherwise add original instance as child  
 		else { 
-    		currentRegSetStack.peek().addChild(uniqueRegs.get(newReg), regProperties.getRelativeBaseAddress().toLong(), regProperties.getRepCount(), regProperties.getAddrStride().toLong(), overlayCount); // if a dup, bump map encoding in parent's child list
+    		currentRegSetStack.peek().addChild(uniqueReg, regProperties.getRelativeBaseAddress().toLong(), regProperties.getRepCount(), regProperties.getAddrStride().toLong(), overlayCount); // if a dup, bump map encoding in parent's child list
         	//	System.out.println("DrvModBuilder finishRegister: duplicate id=" + regProperties.getId() + ", reps=" + regProperties.getRepCount() + ", base=" + regProperties.getFullBaseAddress() );
 		}
 	}
@@ -97,6 +101,7 @@ public abstract class DrvModBuilder extends OutputBuilder {
 		if (regSetProperties.isRootInstance()) {
 			addedInstances = 0;
 			uniqueInstances = 0;
+			overlayStartTime = System.nanoTime();
 		}
 		// create new regset instance
 		//System.out.println("DrvModBuilder addRegSet: basename=" + regSetProperties.getBaseName() + ", id=" + regSetProperties.getId() + ", reps=" + regSetProperties.getRepCount() + ", relAddr=" + relativeAddr + ", alignedSize=" + regSetProperties.getAlignedSize());
@@ -118,7 +123,8 @@ public abstract class DrvModBuilder extends OutputBuilder {
 		// now that all children are added, test for uniqueness
         addedInstances++;
         // add newRegSet if it's unique
-		if (!uniqueRegSets.containsKey(newRegSet)) {  // same as containsValue in this case
+        DrvModRegSetInstance uniqueRegSet = uniqueRegSets.get(newRegSet);  // keyed lookup using cached structural hash
+		if (uniqueRegSet == null) {
         	uniqueRegSets.put(newRegSet, newRegSet);
         	uniqueInstances++;
     		// unique, so add this regset to its parent
@@ -129,14 +135,18 @@ public abstract class DrvModBuilder extends OutputBuilder {
 			// transfer newRegSet children into the unique version
 			for (DrvModRegSetChildInfo cInfo: newRegSet.getChildren()) {
 				//System.out.println("DrvModBuilder finishRegSet: updating child=" + cInfo.child.getName() + "of newRegSet " + newRegSet.getName() + ", null uniqueRegSets.get(newRegSet)?=" + (uniqueRegSets.get(newRegSet)==null) + ", uniqueRegSets.containsKey(newRegSet)=" + uniqueRegSets.containsKey(newRegSet) + ", newRegSet.hash=" + newRegSet.hashCode());
-				uniqueRegSets.get(newRegSet).updateChild(cInfo, overlayCount, false);  // no adds are allowed here
+				uniqueRegSet.updateChild(cInfo, overlayCount, false);  // no adds are allowed here
 			}
 			// if a dup, bump map encoding in parent's child list
-    		if (!currentRegSetStack.isEmpty()) currentRegSetStack.peek().addChild(uniqueRegSets.get(newRegSet), relativeAddr, regSetProperties.getRepCount(), regSetProperties.getAlignedSize().toLong(), overlayCount); 
+    		if (!currentRegSetStack.isEmpty()) currentRegSetStack.peek().addChild(uniqueRegSet, relativeAddr, regSetProperties.getRepCount(), regSetProperties.getAlignedSize().toLong(), overlayCount); 
 	    	//	System.out.println("DrvModBuilder finishRegSet: duplicate id=" + regSetProperties.getId() + ", reps=" + regSetProperties.getRepCount() + ", base=" + regSetProperties.getFullBaseAddress() + ", high=" + regSetProperties.getFullHighAddress() + ", stride=" + regSetProperties.getExtractInstance().getAddressIncrement());
 		}
-		if (regSetProperties.isRootInstance())  
-			MsgUtils.infoMessage("Overlay " + overlayCount + " total processed instances=" + addedInstances + ", unique instances=" + uniqueInstances + ", duplicate instances=" + (addedInstances - uniqueInstances));
+		if (regSetProperties.isRootInstance()) {
+			long elapsedMs = (System.nanoTime() - overlayStartTime) / 1000000;
+			String dedupRatio = String.format("%.2f", (uniqueInstances > 0)? (double) addedInstances / uniqueInstances : 0.0);
+			MsgUtils.infoMessage("Overlay " + overlayCount + " total processed instances=" + addedInstances + ", unique instances=" + uniqueInstances + ", duplicate instances=" + (addedInstances - uniqueInstances) +
+					", dedup ratio=" + dedupRatio + ", unique regs=" + uniqueRegs.size() + ", unique regsets=" + uniqueRegSets.size() + ", time=" + elapsedMs + "ms");
+		}
 	}
 
 	/** process root address map */
@@ -168,6 +178,98 @@ public abstract class DrvModBuilder extends OutputBuilder {
 		}
 	}
 	
+	/** return path info for every instance in each overlay, sorted by overlay then by path.
+	 *  paths do not include the root instance name and use [] as index placeholder on replicated elements */
+	protected List<PathInfo> getPathInfo() {
+		List<PathInfo> pathList = new ArrayList<PathInfo>();
+        for(int overlay=0; overlay<rootInstances.size();overlay++) {
+        	RootInstanceInfo rootInfo = rootInstances.get(overlay);
+        	addPathInfo(pathList, new PathInfo(overlay, rootInfo.instance, "", rootInfo.relativeAddress));
+        }
+        // sort by overlay, then by path
+		Collections.sort(pathList, new Comparator<PathInfo>() {
+	        @Override
+	        public int compare(PathInfo p1, PathInfo p2) {
+	        	if (p1.version != p2.version) return (p1.version < p2.version)? -1 : 1;
+	        	return p1.path.compareTo(p2.path);
+	        }
+	    });
+		return pathList;
+	}
+
+	/** return the address index of a regset: for each overlay version, the positions in childList of children in
+	 *  that version sorted by address offset.  Index tables are generated so no sort is needed at model load.
+	 * @param childList - regset children in the order they are added to the generated model
+	 * @param childMaps - overlay version bit map of each child */
+	protected List<List<Integer>> getAddrIndex(final List<DrvModRegSetChildInfo> childList, HashMap<DrvModRegSetChildInfo, Integer> childMaps) {
+		List<List<Integer>> addrIndex = new ArrayList<List<Integer>>();
+		for (int version=0; version<rootInstances.size(); version++) {
+			List<Integer> index = new ArrayList<Integer>();
+			for (int pos=0; pos<childList.size(); pos++) {
+				if (((1 << version) & childMaps.get(childList.get(pos))) != 0) index.add(pos);
+			}
+			Collections.sort(index, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer a, Integer b) {
+					return Long.compare(childList.get(a).addressOffset, childList.get(b).addressOffset);
+				}
+			});
+			addrIndex.add(index);
+		}
+		return addrIndex;
+	}
+
+	/** return the running maximum end address (offset + reps*stride) of children in an address index.  Children of 
+	 *  interleaved strided arrays overlap, so a lookup must also check earlier children whose extent covers an address.
+	 * @param childList - regset children in the order they are added to the generated model
+	 * @param index - positions in childList sorted by address offset */
+	protected List<Long> getAddrIndexMaxEnds(List<DrvModRegSetChildInfo> childList, List<Integer> index) {
+		List<Long> maxEnds = new ArrayList<Long>();
+		long maxEnd = 0;
+		for (Integer pos: index) {
+			DrvModRegSetChildInfo cInfo = childList.get(pos);
+			long stride = (cInfo.addressStride == null)? 0 : cInfo.addressStride;
+			maxEnd = Math.max(maxEnd, cInfo.addressOffset + cInfo.reps * stride);
+			maxEnds.add(maxEnd);
+		}
+		return maxEnds;
+	}
+
+	/** add path info for an instance and all its children in the same overlay */
+	private void addPathInfo(List<PathInfo> pathList, PathInfo pInfo) {
+		pathList.add(pInfo);
+		if (pInfo.instance instanceof DrvModRegSetInstance) {
+			for (DrvModRegSetChildInfo cInfo: ((DrvModRegSetInstance) pInfo.instance).getChildren(pInfo.version)) {
+				String childPath = (pInfo.path.isEmpty()? "" : pInfo.path + ".") + cInfo.child.getName() + ((cInfo.reps > 1)? "[]" : "");
+				PathInfo childInfo = new PathInfo(pInfo.version, cInfo.child, childPath, pInfo.offset + cInfo.addressOffset);
+				childInfo.strides.addAll(pInfo.strides);
+				childInfo.reps.addAll(pInfo.reps);
+				if (cInfo.reps > 1) {
+					childInfo.strides.add(cInfo.addressStride);
+					childInfo.reps.add(cInfo.reps);
+				}
+				addPathInfo(pathList, childInfo);
+			}
+		}
+	}
+
+	// inner class to save full path info of an instance in a specific overlay
+	public class PathInfo {
+		public int version;  // overlay id
+		public DrvModBaseInstance instance;
+		public String path;  // path relative to root instance w/ [] index placeholders
+		public long offset;  // address of first rep
+		public List<Long> strides = new ArrayList<Long>();  // stride of each replicated path element
+		public List<Integer> reps = new ArrayList<Integer>();  // rep count of each replicated path element
+		private PathInfo(int version, DrvModBaseInstance instance, String path, long offset) {
+			super();
+			this.version = version;
+			this.instance = instance;
+			this.path = path;
+			this.offset = offset;
+		}
+	}
+	
     //---------------------------- output write methods ----------------------------------------
 
     /** required default write method - not used in DrvModBuilder */
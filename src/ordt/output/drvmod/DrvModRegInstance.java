@@ -9,6 +9,8 @@ public class DrvModRegInstance extends DrvModBaseInstance {
 	
 	private int width = ModRegister.defaultWidth;
 	private List<DrvModField> fields = new ArrayList<DrvModField>();
+	private int cachedHashCode;  // structural hash, valid until fields are modified
+	private boolean hashCodeValid = false;
 	
 	DrvModRegInstance(String name, int mapId, int width) {
 		super(name, mapId);
@@ -21,6 +23,7 @@ public class DrvModRegInstance extends DrvModBaseInstance {
 
 	public void addField(String name, int lowIndex, int width, boolean readable, boolean writeable) {
 		this.fields.add(new DrvModField(name, lowIndex, width, readable, writeable));
+		hashCodeValid = false;
 	}
 	
 	public int getWidth() {
@@ -101,11 +104,14 @@ public class DrvModRegInstance extends DrvModBaseInstance {
 	
 	@Override
 	public int hashCode() {  
+		if (hashCodeValid) return cachedHashCode;
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + ((fields == null) ? 0 : fields.hashCode());
 		result = prime * result + width;
 		//System.out.println("DrvModRegInstance hashCode:  return=" + result + ", name=" + getName() );
+		cachedHashCode = result;
+		hashCodeValid = true;
 		return result;
 	}
 
@@ -118,6 +124,8 @@ public class DrvModRegInstance extends DrvModBaseInstance {
 		if (getClass() != obj.getClass())
 			return false;
 		DrvModRegInstance other = (DrvModRegInstance) obj;
+		if (hashCode() != other.hashCode())  // cached hashes give a fast reject
+			return false;
 		if (fields == null) {
 			if (other.fields != null)
 				return false;
@@ -9,6 +9,8 @@ import ordt.output.common.MsgUtils;
 public class DrvModRegSetInstance extends DrvModBaseInstance {
 	
 	HashMap<DrvModRegSetChildInfo, Integer> childMaps = new HashMap<DrvModRegSetChildInfo, Integer>(); // hash of child instances and encoded overlay use map 
+	private int cachedHashCode;  // structural hash, valid until child list is modified
+	private boolean hashCodeValid = false;
 
 	DrvModRegSetInstance(String name, int mapId) {
 		super(name, mapId);
@@ -72,7 +74,10 @@ public class DrvModRegSetInstance extends DrvModBaseInstance {
 		// compute new map encoding
 		int newMap = (currentMap == null)? (1<<mapId) : currentMap | (1<<mapId);
 		// add or update the map encoding for this child 
-		childMaps.put(cInfo, newMap);
+		if ((currentMap == null) || (currentMap != newMap)) {
+			childMaps.put(cInfo, newMap);
+			hashCodeValid = false;
+		}
 	}
 	
 	@Override
@@ -145,10 +150,13 @@ public class DrvModRegSetInstance extends DrvModBaseInstance {
 	
 	@Override
 	public int hashCode() {
+		if (hashCodeValid) return cachedHashCode;
 		final int prime = 31;
 		int result = super.hashCode();  
 		result = prime * result + getChildListHashCode();  // include address info + no children
 		//System.out.println("DrvModRegSetInstance hashCode:  return=" + result + ", name=" + getName() + ", includeAddrInfo=" + includeAddrInfo);
+		cachedHashCode = result;
+		hashCodeValid = true;
 		return result;
 	}
 
@@ -169,6 +177,8 @@ public class DrvModRegSetInstance extends DrvModBaseInstance {
 		if (getClass() != obj.getClass())
 			return false;
 		DrvModRegSetInstance other = (DrvModRegSetInstance) obj;
+		if (hashCode() != other.hashCode())  // cached hashes give a fast reject
+			return false;
 		if (!getChildListEquals(other.getChildren())) // include address info + no children
 			return false;
 		return true;
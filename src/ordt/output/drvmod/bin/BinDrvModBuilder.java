@@ -0,0 +1,692 @@
+package ordt.output.drvmod.bin;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+import ordt.extract.Ordt;
+import ordt.extract.RegModelIntf;
+import ordt.output.common.ChangeDetectingFileWriter;
+import ordt.output.common.MsgUtils;
+import ordt.output.drvmod.DrvModBaseInstance;
+import ordt.output.drvmod.DrvModBuilder;
+import ordt.output.drvmod.DrvModRegInstance;
+import ordt.output.drvmod.DrvModRegInstance.DrvModField;
+import ordt.output.drvmod.DrvModRegSetInstance;
+import ordt.output.drvmod.DrvModRegSetInstance.DrvModRegSetChildInfo;
+import ordt.parameters.ExtParameters;
+
+/** generate binary pio driver model table and C++/python loaders that query the table in place */
+public class BinDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder overrides in BinDrvModBuilder - these are in DrvModBuilder
+	public static final int TABLE_FORMAT_VERSION = 2;  // increment on any change to the table layout
+	private static final byte[] TABLE_MAGIC = {'O', 'R', 'D', 'T', 'D', 'R', 'V', 0};
+	// record sizes in bytes
+	private static final int HEADER_SIZE = 72;
+	private static final int ROOT_SIZE = 16;
+	private static final int ELEM_SIZE = 24;
+	private static final int CHILD_SIZE = 40;
+	private static final int FIELD_SIZE = 16;
+	// element kinds
+	private static final int KIND_REGSET = 0;
+	private static final int KIND_REG = 1;
+
+	private List<DrvModBaseInstance> elems = new ArrayList<DrvModBaseInstance>();  // unique instances in table order (children precede parents)
+	private HashMap<String, Integer> elemIndices = new HashMap<String, Integer>();  // table index of each unique instance by inst name
+	private HashMap<String, Integer> stringOffsets = new HashMap<String, Integer>();  // string table offset of each unique name
+	private StringBuilder strings = new StringBuilder();
+
+	public BinDrvModBuilder(RegModelIntf model) {
+		super(model);
+	}
+
+	// ----------- DrvModBuilder overrides
+
+	@Override
+	/** add a regset instance to the table */
+	public void processRegSetInstance(DrvModRegSetInstance rsInst) {
+		addElem(rsInst);
+	}
+
+	@Override
+	/** add a reg instance to the table */
+	public void processRegInstance(DrvModRegInstance rInst) {
+		addElem(rInst);
+	}
+
+	/** save a unique instance in table order */
+	private void addElem(DrvModBaseInstance inst) {
+		elemIndices.put(inst.getInstName(), elems.size());
+		elems.add(inst);
+	}
+
+	/** return string table offset of a name, adding it to the table if new */
+	private int getStringOffset(String str) {
+		Integer offset = stringOffsets.get(str);
+		if (offset == null) {
+			offset = strings.length();
+			stringOffsets.put(str, offset);
+			strings.append(str).append('\0');
+		}
+		return offset;
+	}
+
+	/** return children of a regset sorted by offset */
+	private static List<DrvModRegSetChildInfo> getSortedChildren(DrvModRegSetInstance rsInst) {
+		List<DrvModRegSetChildInfo> children = new ArrayList<DrvModRegSetChildInfo>(rsInst.getChildMaps().keySet());
+		Collections.sort(children, new Comparator<DrvModRegSetChildInfo>() {
+			@Override
+			public int compare(DrvModRegSetChildInfo c1, DrvModRegSetChildInfo c2) {
+				return Long.compareUnsigned(c1.addressOffset, c2.addressOffset);
+			}
+		});
+		return children;
+	}
+
+    //---------------------------- output write methods ----------------------------------------
+
+	/** required default write method - not used in BinDrvModBuilder*/
+	@Override
+	public void write(BufferedWriter bw) {
+	}
+
+	/** write binary table and loaders to specified output directory
+	 * @param outName - output directory
+	 * @param description - text description of file generated
+	 * @param commentPrefix - comment chars for this file type */
+	@Override
+	public void write(String outName, String description, String commentPrefix) {
+		// child overlay maps are 32b, so no table or loaders are written if there are more overlays
+		if (rootInstances.size() > 32) {
+			MsgUtils.errorMessage("Binary driver model table supports a maximum of 32 overlays");
+			return;
+		}
+		File saveDir = new File(outName);
+   	    saveDir.mkdirs();   // make sure directory exists
+
+		// process unique instances of each overlay
+        for(int overlay=0; overlay<rootInstances.size();overlay++) {
+    		rootInstances.get(overlay).instance.process(overlay, false, true);  // process both regs and regsets, only process each elem once
+        }
+
+        // write the table
+        writeTable(outName + "/ordt_drv_table.bin", description);
+
+        // write the C++ loader
+        BufferedWriter hppBw = openBufferedWriter(outName + "/ordt_drv_table.hpp", description + " C++ loader");
+        if (hppBw != null) {
+    		writeHeader(hppBw, "//");
+        	writeCppLoader(hppBw);
+        	closeBufferedWriter(hppBw);
+        }
+
+        // write the python loader
+        BufferedWriter pyBw = openBufferedWriter(outName + "/ordt_drv_table.py", description + " python loader");
+        if (pyBw != null) {
+    		writeHeader(pyBw, "#");
+        	writePyLoader(pyBw);
+        	closeBufferedWriter(pyBw);
+        }
+	}
+
+	/** serialize the unique instance graph into a binary table file */
+	private void writeTable(String outName, String description) {
+		// get overlay tags - root instance name of overlay 0 is used as base tag
+		List<String> tags = new ArrayList<String>();
+		tags.add(rootInstances.get(0).instance.getName());
+		tags.addAll(Ordt.getOverlayFileTags());
+		// count children and fields
+		int childCount = 0;
+		int fieldCount = 0;
+		for (DrvModBaseInstance inst: elems) {
+			if (inst instanceof DrvModRegSetInstance) childCount += ((DrvModRegSetInstance) inst).getChildMaps().size();
+			else fieldCount += ((DrvModRegInstance) inst).getFields().size();
+		}
+		// add names to the string table
+		for (String tag: tags) getStringOffset(tag);
+		for (DrvModBaseInstance inst: elems) {
+			getStringOffset(inst.getName());
+			if (inst instanceof DrvModRegInstance)
+				for (DrvModField field: ((DrvModRegInstance) inst).getFields()) getStringOffset(field.name);
+		}
+		byte [] stringBytes = strings.toString().getBytes(StandardCharsets.UTF_8);
+		// compute section offsets (all 8B aligned)
+		long rootsOffset = HEADER_SIZE;
+		long elemsOffset = rootsOffset + (long) ROOT_SIZE * tags.size();
+		long childrenOffset = align8(elemsOffset + (long) ELEM_SIZE * elems.size());
+		long fieldsOffset = childrenOffset + (long) CHILD_SIZE * childCount;
+		long stringsOffset = fieldsOffset + (long) FIELD_SIZE * fieldCount;
+		long tableSize = align8(stringsOffset + stringBytes.length);
+		if (tableSize > Integer.MAX_VALUE) {
+			MsgUtils.errorMessage("Binary driver model table size exceeds 2GB");
+			return;
+		}
+		ByteBuffer buf = ByteBuffer.allocate((int) tableSize).order(ByteOrder.LITTLE_ENDIAN);
+		// header
+		buf.put(TABLE_MAGIC);
+		buf.putInt(TABLE_FORMAT_VERSION);
+		buf.putInt(tags.size());
+		buf.putInt(elems.size());
+		buf.putInt(childCount);
+		buf.putInt(fieldCount);
+		buf.putInt(stringBytes.length);
+		buf.putLong(rootsOffset);
+		buf.putLong(elemsOffset);
+		buf.putLong(childrenOffset);
+		buf.putLong(fieldsOffset);
+		buf.putLong(stringsOffset);
+		// roots
+		buf.position((int) rootsOffset);
+		for (int version=0; version<tags.size(); version++) {
+			buf.putInt(elemIndices.get(rootInstances.get(version).instance.getInstName()));
+			buf.putInt(getStringOffset(tags.get(version)));
+			buf.putLong(rootInstances.get(version).relativeAddress);
+		}
+		// elements, children, fields
+		int childIdx = 0;
+		int fieldIdx = 0;
+		for (int idx=0; idx<elems.size(); idx++) {
+			DrvModBaseInstance inst = elems.get(idx);
+			buf.position((int) (elemsOffset + (long) ELEM_SIZE * idx));
+			buf.putInt(getStringOffset(inst.getName()));
+			if (inst instanceof DrvModRegSetInstance) {
+				DrvModRegSetInstance rsInst = (DrvModRegSetInstance) inst;
+				HashMap<DrvModRegSetChildInfo, Integer> childMaps = rsInst.getChildMaps();
+				buf.putInt(KIND_REGSET);
+				buf.putInt(0);
+				buf.putInt(childIdx);
+				buf.putInt(childMaps.size());
+				buf.putInt(0);
+				// children of each regset are contiguous and sorted by offset, with running max end address of children so far
+				buf.position((int) (childrenOffset + (long) CHILD_SIZE * childIdx));
+				long maxEnd = 0;
+				for (DrvModRegSetChildInfo childInfo: getSortedChildren(rsInst)) {
+					long stride = (childInfo.addressStride == null)? 0 : childInfo.addressStride;
+					maxEnd = Math.max(maxEnd, childInfo.addressOffset + childInfo.reps * stride);
+					buf.putInt(childMaps.get(childInfo));
+					buf.putInt(elemIndices.get(childInfo.child.getInstName()));
+					buf.putInt(childInfo.reps);
+					buf.putInt(0);
+					buf.putLong(childInfo.addressOffset);
+					buf.putLong(stride);
+					buf.putLong(maxEnd);
+				}
+				childIdx += childMaps.size();
+			}
+			else {
+				DrvModRegInstance rInst = (DrvModRegInstance) inst;
+				List<DrvModField> fields = rInst.getFields();
+				buf.putInt(KIND_REG);
+				buf.putInt(rInst.getWidth());
+				buf.putInt(fieldIdx);
+				buf.putInt(fields.size());
+				buf.putInt(0);
+				buf.position((int) (fieldsOffset + (long) FIELD_SIZE * fieldIdx));
+				for (DrvModField field: fields) {
+					buf.putInt(getStringOffset(field.name));
+					buf.putInt(field.lowIndex);
+					buf.putInt(field.width);
+					buf.putInt((field.readable? 1 : 0) | (field.writeable? 2 : 0));
+				}
+				fieldIdx += fields.size();
+			}
+		}
+		// strings
+		buf.position((int) stringsOffset);
+		buf.put(stringBytes);
+		// write the file
+		File outFile = new File(outName);
+		System.out.println(MsgUtils.getProgName() + ": writing " + description + " file " + outFile + "...");
+		try {
+			if (ExtParameters.writeIfChanged()) ChangeDetectingFileWriter.writeBytes(outFile, buf.array());
+			else {
+				try (FileOutputStream fos = new FileOutputStream(outFile)) {
+					fos.write(buf.array());
+				}
+			}
+		} catch (IOException e) {
+			MsgUtils.errorMessage("Create of " + description + " file " + outFile.getAbsoluteFile() + " failed.");
+		}
+	}
+
+	private static long align8(long offset) {
+		return (offset + 7) & ~7L;
+	}
+
+	// ------------------------- loader write methods -------------------------
+
+	/** write header-only C++ loader */
+	private void writeCppLoader(BufferedWriter bw) {
+		writeStmt(bw, 0, "#ifndef __ORDT_DRV_TABLE_HPP_INCLUDED__");
+		writeStmt(bw, 0, "#define __ORDT_DRV_TABLE_HPP_INCLUDED__");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "#include <cstdint>");
+		writeStmt(bw, 0, "#include <cstdlib>");
+		writeStmt(bw, 0, "#include <cstring>");
+		writeStmt(bw, 0, "#include <string>");
+		writeStmt(bw, 0, "#include <vector>");
+		writeStmt(bw, 0, "#include <fcntl.h>");
+		writeStmt(bw, 0, "#include <unistd.h>");
+		writeStmt(bw, 0, "#include <sys/mman.h>");
+		writeStmt(bw, 0, "#include <sys/stat.h>");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "#define ORDT_DRV_TABLE_FORMAT_VERSION " + TABLE_FORMAT_VERSION);
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "// table records (little endian, queried in place from the mapped file)");
+		writeStmt(bw, 0, "struct ordt_drv_table_header {");
+		writeStmt(bw, 1, "char m_magic[8];");
+		writeStmt(bw, 1, "uint32_t m_format_version;");
+		writeStmt(bw, 1, "uint32_t m_version_count;");
+		writeStmt(bw, 1, "uint32_t m_elem_count;");
+		writeStmt(bw, 1, "uint32_t m_child_count;");
+		writeStmt(bw, 1, "uint32_t m_field_count;");
+		writeStmt(bw, 1, "uint32_t m_strings_size;");
+		writeStmt(bw, 1, "uint64_t m_roots_offset;");
+		writeStmt(bw, 1, "uint64_t m_elems_offset;");
+		writeStmt(bw, 1, "uint64_t m_children_offset;");
+		writeStmt(bw, 1, "uint64_t m_fields_offset;");
+		writeStmt(bw, 1, "uint64_t m_strings_offset;");
+		writeStmt(bw, 0, "};");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "struct ordt_drv_table_root {");
+		writeStmt(bw, 1, "uint32_t m_elem;");
+		writeStmt(bw, 1, "uint32_t m_tag;");
+		writeStmt(bw, 1, "uint64_t m_offset;");
+		writeStmt(bw, 0, "};");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "struct ordt_drv_table_elem {");
+		writeStmt(bw, 1, "uint32_t m_name;");
+		writeStmt(bw, 1, "uint32_t m_kind;  // 0=regset, 1=reg");
+		writeStmt(bw, 1, "uint32_t m_width;  // reg width in bits");
+		writeStmt(bw, 1, "uint32_t m_first;  // first child (regset) or field (reg) index");
+		writeStmt(bw, 1, "uint32_t m_count;");
+		writeStmt(bw, 1, "uint32_t m_reserved;");
+		writeStmt(bw, 1, "bool is_reg() const { return m_kind == " + KIND_REG + "; }");
+		writeStmt(bw, 0, "};");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "struct ordt_drv_table_child {");
+		writeStmt(bw, 1, "uint32_t m_map;  // encoded overlay map");
+		writeStmt(bw, 1, "uint32_t m_elem;");
+		writeStmt(bw, 1, "uint32_t m_reps;");
+		writeStmt(bw, 1, "uint32_t m_reserved;");
+		writeStmt(bw, 1, "uint64_t m_offset;");
+		writeStmt(bw, 1, "uint64_t m_stride;");
+		writeStmt(bw, 1, "uint64_t m_max_end;  // max end address of this and prior children (interleaved arrays overlap)");
+		writeStmt(bw, 0, "};");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "struct ordt_drv_table_field {");
+		writeStmt(bw, 1, "uint32_t m_name;");
+		writeStmt(bw, 1, "uint32_t m_loidx;");
+		writeStmt(bw, 1, "uint32_t m_width;");
+		writeStmt(bw, 1, "uint32_t m_flags;  // 1=readable, 2=writeable");
+		writeStmt(bw, 1, "bool is_readable() const { return (m_flags & 1) != 0; }");
+		writeStmt(bw, 1, "bool is_writeable() const { return (m_flags & 2) != 0; }");
+		writeStmt(bw, 0, "};");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "class ordt_drv_table {");
+		writeStmt(bw, 0, "  public:");
+		writeStmt(bw, 1, "ordt_drv_table() : m_base(nullptr), m_size(0), m_hdr(nullptr), m_roots(nullptr), m_elems(nullptr), m_children(nullptr), m_fields(nullptr), m_strings(nullptr) {}");
+		writeStmt(bw, 1, "~ordt_drv_table() { close(); }");
+		writeStmt(bw, 1, "ordt_drv_table(const ordt_drv_table&) = delete;");
+		writeStmt(bw, 1, "ordt_drv_table& operator=(const ordt_drv_table&) = delete;");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "// map a table file, returns 0 on success, 1 if file can't be mapped, 16 if an invalid table");
+		writeStmt(bw, 1, "int open(const std::string &filename) {");
+		writeStmt(bw, 2, "close();");
+		writeStmt(bw, 2, "int fd = ::open(filename.c_str(), O_RDONLY);");
+		writeStmt(bw, 2, "if (fd < 0) return 1;");
+		writeStmt(bw, 2, "struct stat st;");
+		writeStmt(bw, 2, "if (fstat(fd, &st) != 0) {");
+		writeStmt(bw, 3, "::close(fd);");
+		writeStmt(bw, 3, "return 1;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "if (st.st_size < (off_t) sizeof(ordt_drv_table_header)) {");
+		writeStmt(bw, 3, "::close(fd);");
+		writeStmt(bw, 3, "return 16;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "void *base = mmap(nullptr, st.st_size, PROT_READ, MAP_SHARED, fd, 0);");
+		writeStmt(bw, 2, "::close(fd);");
+		writeStmt(bw, 2, "if (base == MAP_FAILED) return 1;");
+		writeStmt(bw, 2, "m_base = static_cast<const char*>(base);");
+		writeStmt(bw, 2, "m_size = st.st_size;");
+		writeStmt(bw, 2, "if (!validate()) {");
+		writeStmt(bw, 3, "close();");
+		writeStmt(bw, 3, "return 16;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "return 0;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "void close() {");
+		writeStmt(bw, 2, "if (m_base != nullptr) munmap(const_cast<char*>(m_base), m_size);");
+		writeStmt(bw, 2, "m_base = nullptr;");
+		writeStmt(bw, 2, "m_size = 0;");
+		writeStmt(bw, 2, "m_hdr = nullptr;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "bool is_open() const { return m_hdr != nullptr; }");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "int get_version(const std::string &tag) const {");
+		writeStmt(bw, 2, "if (!is_open()) return -1;");
+		writeStmt(bw, 2, "for (uint32_t version=0; version<m_hdr->m_version_count; version++)");
+		writeStmt(bw, 3, "if (tag == get_name(m_roots[version].m_tag)) return version;");
+		writeStmt(bw, 2, "return -1;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "std::vector<std::string> get_tags() const {");
+		writeStmt(bw, 2, "std::vector<std::string> tags;");
+		writeStmt(bw, 2, "if (is_open())");
+		writeStmt(bw, 3, "for (uint32_t version=0; version<m_hdr->m_version_count; version++) tags.push_back(get_name(m_roots[version].m_tag));");
+		writeStmt(bw, 2, "return tags;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "const char *get_name(const uint32_t str) const {");
+		writeStmt(bw, 2, "return (str < m_hdr->m_strings_size)? m_strings + str : \"\";");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "// return pointer to field records of a reg element");
+		writeStmt(bw, 1, "const ordt_drv_table_field *get_fields(const ordt_drv_table_elem *elem, int &num_fields) const {");
+		writeStmt(bw, 2, "if ((elem == nullptr) || !elem->is_reg()) {");
+		writeStmt(bw, 3, "num_fields = 0;");
+		writeStmt(bw, 3, "return nullptr;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "num_fields = elem->m_count;");
+		writeStmt(bw, 2, "return m_fields + elem->m_first;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "// get address and element of a path, returns 0 on success, 2 if bad tag, 4 if bad path, 8 if no matching child");
+		writeStmt(bw, 1, "int get_address(const std::string &tag, const std::string &pathstr, uint64_t &address, const ordt_drv_table_elem *&elem) const {");
+		writeStmt(bw, 2, "elem = nullptr;");
+		writeStmt(bw, 2, "int version = get_version(tag);");
+		writeStmt(bw, 2, "if (version < 0) return 2;");
+		writeStmt(bw, 2, "address = m_roots[version].m_offset;");
+		writeStmt(bw, 2, "uint32_t cur = m_roots[version].m_elem;");
+		writeStmt(bw, 2, "const char *pos = std::strchr(pathstr.c_str(), '.');  // root instance name is not checked");
+		writeStmt(bw, 2, "while (pos != nullptr) {");
+		writeStmt(bw, 3, "const char *name = pos + 1;");
+		writeStmt(bw, 3, "const char *end = name;");
+		writeStmt(bw, 3, "while ((*end != '\\0') && (*end != '.') && (*end != '[')) end++;");
+		writeStmt(bw, 3, "size_t len = end - name;");
+		writeStmt(bw, 3, "bool has_idx = (*end == '[');");
+		writeStmt(bw, 3, "long idx = 0;");
+		writeStmt(bw, 3, "if (has_idx) {");
+		writeStmt(bw, 4, "char *idx_end;");
+		writeStmt(bw, 4, "idx = std::strtol(end + 1, &idx_end, 10);");
+		writeStmt(bw, 4, "if ((idx_end == end + 1) || (*idx_end != ']')) return 4;");
+		writeStmt(bw, 4, "end = idx_end + 1;");
+		writeStmt(bw, 3, "}");
+		writeStmt(bw, 3, "if ((*end != '\\0') && (*end != '.')) return 4;");
+		writeStmt(bw, 3, "pos = (*end == '.')? end : nullptr;");
+		writeStmt(bw, 3, "const ordt_drv_table_elem &parent = m_elems[cur];");
+		writeStmt(bw, 3, "if (parent.is_reg()) return 8;");
+		writeStmt(bw, 3, "const ordt_drv_table_child *match = nullptr;");
+		writeStmt(bw, 3, "for (uint32_t cidx = parent.m_first; cidx < parent.m_first + parent.m_count; cidx++) {");
+		writeStmt(bw, 4, "const ordt_drv_table_child &child = m_children[cidx];");
+		writeStmt(bw, 4, "const char *child_name = get_name(m_elems[child.m_elem].m_name);");
+		writeStmt(bw, 4, "if (((1u<<version) & child.m_map) && (std::strncmp(child_name, name, len) == 0) && (child_name[len] == '\\0')) {");
+		writeStmt(bw, 5, "match = &child;");
+		writeStmt(bw, 5, "break;");
+		writeStmt(bw, 4, "}");
+		writeStmt(bw, 3, "}");
+		writeStmt(bw, 3, "if (match == nullptr) return 8;");
+		writeStmt(bw, 3, "address += match->m_offset;");
+		writeStmt(bw, 3, "if (match->m_reps > 1) {");
+		writeStmt(bw, 4, "if (!has_idx) return 4;");
+		writeStmt(bw, 4, "if ((idx < 0) || (idx >= (long) match->m_reps)) return 8;");
+		writeStmt(bw, 4, "address += match->m_stride * idx;");
+		writeStmt(bw, 3, "}");
+		writeStmt(bw, 3, "cur = match->m_elem;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "elem = &m_elems[cur];");
+		writeStmt(bw, 2, "return 0;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "// get reg path, replication indices and element of an address, returns 0 on success, 2 if bad tag, 8 if no matching reg");
+		writeStmt(bw, 1, "int get_path_by_address(const std::string &tag, const uint64_t address, std::string &path, std::vector<int> &indices, const ordt_drv_table_elem *&elem) const {");
+		writeStmt(bw, 2, "elem = nullptr;");
+		writeStmt(bw, 2, "path.clear();");
+		writeStmt(bw, 2, "indices.clear();");
+		writeStmt(bw, 2, "int version = get_version(tag);");
+		writeStmt(bw, 2, "if (version < 0) return 2;");
+		writeStmt(bw, 2, "if (address < m_roots[version].m_offset) return 8;");
+		writeStmt(bw, 2, "uint32_t cur = m_roots[version].m_elem;");
+		writeStmt(bw, 2, "path = get_name(m_elems[cur].m_name);");
+		writeStmt(bw, 2, "if (!find_path(version, cur, address - m_roots[version].m_offset, path, indices, elem)) {");
+		writeStmt(bw, 3, "path.clear();");
+		writeStmt(bw, 3, "indices.clear();");
+		writeStmt(bw, 3, "return 8;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "return 0;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "  private:");
+		writeStmt(bw, 1, "const char *m_base;");
+		writeStmt(bw, 1, "size_t m_size;");
+		writeStmt(bw, 1, "const ordt_drv_table_header *m_hdr;");
+		writeStmt(bw, 1, "const ordt_drv_table_root *m_roots;");
+		writeStmt(bw, 1, "const ordt_drv_table_elem *m_elems;");
+		writeStmt(bw, 1, "const ordt_drv_table_child *m_children;");
+		writeStmt(bw, 1, "const ordt_drv_table_field *m_fields;");
+		writeStmt(bw, 1, "const char *m_strings;");
+		writeStmt(bw, 0, "");
+		// find reg below an element, appending to path and indices - earlier children are checked while their extents cover the address
+		writeStmt(bw, 1, "bool find_path(const int version, const uint32_t cur, const uint64_t rel_address, std::string &path, std::vector<int> &indices, const ordt_drv_table_elem *&elem) const {");
+		writeStmt(bw, 2, "const ordt_drv_table_elem &parent = m_elems[cur];");
+		writeStmt(bw, 2, "if (parent.is_reg()) {");
+		writeStmt(bw, 3, "if (rel_address >= (parent.m_width + 7) / 8) return false;  // address must fall within reg bytes");
+		writeStmt(bw, 3, "elem = &parent;");
+		writeStmt(bw, 3, "return true;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "// find first child with offset > address");
+		writeStmt(bw, 2, "uint32_t lo = parent.m_first, hi = parent.m_first + parent.m_count;");
+		writeStmt(bw, 2, "while (lo < hi) {");
+		writeStmt(bw, 3, "uint32_t mid = lo + (hi - lo) / 2;");
+		writeStmt(bw, 3, "if (m_children[mid].m_offset <= rel_address) lo = mid + 1;");
+		writeStmt(bw, 3, "else hi = mid;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "size_t path_size = path.size(), indices_size = indices.size();");
+		writeStmt(bw, 2, "for (; (lo > parent.m_first) && (m_children[lo - 1].m_max_end > rel_address); lo--) {");
+		writeStmt(bw, 3, "const ordt_drv_table_child &child = m_children[lo - 1];");
+		writeStmt(bw, 3, "if (!((1u<<version) & child.m_map)) continue;");
+		writeStmt(bw, 3, "uint64_t child_address = rel_address - child.m_offset;");
+		writeStmt(bw, 3, "uint64_t idx = (child.m_stride > 0)? child_address / child.m_stride : 0;");
+		writeStmt(bw, 3, "if (idx >= child.m_reps) continue;");
+		writeStmt(bw, 3, "path += '.';");
+		writeStmt(bw, 3, "path += get_name(m_elems[child.m_elem].m_name);");
+		writeStmt(bw, 3, "if (child.m_reps > 1) {");
+		writeStmt(bw, 4, "path += \"[\" + std::to_string(idx) + \"]\";");
+		writeStmt(bw, 4, "indices.push_back((int) idx);");
+		writeStmt(bw, 3, "}");
+		writeStmt(bw, 3, "if (find_path(version, child.m_elem, child_address - (idx * child.m_stride), path, indices, elem)) return true;");
+		writeStmt(bw, 3, "path.resize(path_size);  // no reg in this child so restore path and indices");
+		writeStmt(bw, 3, "indices.resize(indices_size);");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "return false;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "bool section_valid(const uint64_t offset, const uint64_t count, const uint64_t size) const {");
+		writeStmt(bw, 2, "return ((offset % 8) == 0) && (offset <= m_size) && (count <= (m_size - offset) / size);");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "// check header and element references once so queries can skip bounds checks");
+		writeStmt(bw, 1, "bool validate() {");
+		writeStmt(bw, 2, "const ordt_drv_table_header *hdr = reinterpret_cast<const ordt_drv_table_header*>(m_base);");
+		writeStmt(bw, 2, "if ((std::memcmp(hdr->m_magic, \"ORDTDRV\", 8) != 0) || (hdr->m_format_version != ORDT_DRV_TABLE_FORMAT_VERSION)) return false;");
+		writeStmt(bw, 2, "if ((hdr->m_version_count < 1) || (hdr->m_version_count > 32)) return false;");
+		writeStmt(bw, 2, "if (!section_valid(hdr->m_roots_offset, hdr->m_version_count, sizeof(ordt_drv_table_root)) ||");
+		writeStmt(bw, 3, "!section_valid(hdr->m_elems_offset, hdr->m_elem_count, sizeof(ordt_drv_table_elem)) ||");
+		writeStmt(bw, 3, "!section_valid(hdr->m_children_offset, hdr->m_child_count, sizeof(ordt_drv_table_child)) ||");
+		writeStmt(bw, 3, "!section_valid(hdr->m_fields_offset, hdr->m_field_count, sizeof(ordt_drv_table_field)) ||");
+		writeStmt(bw, 3, "(hdr->m_strings_size < 1) || (hdr->m_strings_offset > m_size) || (hdr->m_strings_size > m_size - hdr->m_strings_offset)) return false;");
+		writeStmt(bw, 2, "m_roots = reinterpret_cast<const ordt_drv_table_root*>(m_base + hdr->m_roots_offset);");
+		writeStmt(bw, 2, "m_elems = reinterpret_cast<const ordt_drv_table_elem*>(m_base + hdr->m_elems_offset);");
+		writeStmt(bw, 2, "m_children = reinterpret_cast<const ordt_drv_table_child*>(m_base + hdr->m_children_offset);");
+		writeStmt(bw, 2, "m_fields = reinterpret_cast<const ordt_drv_table_field*>(m_base + hdr->m_fields_offset);");
+		writeStmt(bw, 2, "m_strings = m_base + hdr->m_strings_offset;");
+		writeStmt(bw, 2, "if (m_strings[hdr->m_strings_size - 1] != '\\0') return false;");
+		writeStmt(bw, 2, "for (uint32_t version=0; version<hdr->m_version_count; version++)");
+		writeStmt(bw, 3, "if (m_roots[version].m_elem >= hdr->m_elem_count) return false;");
+		writeStmt(bw, 2, "for (uint32_t idx=0; idx<hdr->m_elem_count; idx++) {");
+		writeStmt(bw, 3, "const ordt_drv_table_elem &elem = m_elems[idx];");
+		writeStmt(bw, 3, "uint64_t limit = elem.is_reg()? hdr->m_field_count : hdr->m_child_count;");
+		writeStmt(bw, 3, "if ((elem.m_kind > 1) || ((uint64_t) elem.m_first + elem.m_count > limit)) return false;");
+		writeStmt(bw, 2, "}");
+		writeStmt(bw, 2, "for (uint32_t idx=0; idx<hdr->m_child_count; idx++)");
+		writeStmt(bw, 3, "if (m_children[idx].m_elem >= hdr->m_elem_count) return false;");
+		writeStmt(bw, 2, "m_hdr = hdr;");
+		writeStmt(bw, 2, "return true;");
+		writeStmt(bw, 1, "}");
+		writeStmt(bw, 0, "};");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "#endif // __ORDT_DRV_TABLE_HPP_INCLUDED__");
+	}
+
+	/** write python loader */
+	private void writePyLoader(BufferedWriter bw) {
+		writeStmt(bw, 0, "import collections");
+		writeStmt(bw, 0, "import mmap");
+		writeStmt(bw, 0, "import struct");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "ORDT_DRV_TABLE_FORMAT_VERSION = " + TABLE_FORMAT_VERSION);
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "ordt_drv_table_field = collections.namedtuple('ordt_drv_table_field', ['name', 'loidx', 'width', 'readable', 'writeable'])");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 0, "class ordt_drv_table:");
+		writeStmt(bw, 1, "HEADER = struct.Struct('<8s6I5Q')");
+		writeStmt(bw, 1, "ROOT = struct.Struct('<IIQ')");
+		writeStmt(bw, 1, "ELEM = struct.Struct('<6I')");
+		writeStmt(bw, 1, "CHILD = struct.Struct('<4I3Q')");
+		writeStmt(bw, 1, "FIELD = struct.Struct('<4I')");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def __init__(self, filename):");
+		writeStmt(bw, 2, "with open(filename, 'rb') as f:");
+		writeStmt(bw, 3, "self.mm = mmap.mmap(f.fileno(), 0, access=mmap.ACCESS_READ)");
+		writeStmt(bw, 2, "if len(self.mm) < __class__.HEADER.size:");
+		writeStmt(bw, 3, "raise ValueError('invalid driver model table: ' + filename)");
+		writeStmt(bw, 2, "(magic, format_version, self.version_count, self.elem_count, self.child_count, self.field_count, self.strings_size,");
+		writeStmt(bw, 3, "self.roots_offset, self.elems_offset, self.children_offset, self.fields_offset, self.strings_offset) = __class__.HEADER.unpack_from(self.mm, 0)");
+		writeStmt(bw, 2, "if (magic != b'ORDTDRV\\0') or (format_version != ORDT_DRV_TABLE_FORMAT_VERSION):");
+		writeStmt(bw, 3, "raise ValueError('invalid driver model table: ' + filename)");
+		writeStmt(bw, 2, "if self.strings_offset + self.strings_size > len(self.mm):");
+		writeStmt(bw, 3, "raise ValueError('invalid driver model table: ' + filename)");
+		writeStmt(bw, 2, "self.tags = [self.get_name(self.get_root(version)[1]) for version in range(self.version_count)]");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def close(self):");
+		writeStmt(bw, 2, "self.mm.close()");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_name(self, str_offset):");
+		writeStmt(bw, 2, "start = self.strings_offset + str_offset");
+		writeStmt(bw, 2, "return self.mm[start:self.mm.find(b'\\0', start)].decode('utf-8')");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_root(self, version):");
+		writeStmt(bw, 2, "return __class__.ROOT.unpack_from(self.mm, self.roots_offset + version*__class__.ROOT.size)  # (elem, tag, offset)");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_elem(self, idx):");
+		writeStmt(bw, 2, "return __class__.ELEM.unpack_from(self.mm, self.elems_offset + idx*__class__.ELEM.size)  # (name, kind, width, first, count, reserved)");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_child(self, idx):");
+		writeStmt(bw, 2, "return __class__.CHILD.unpack_from(self.mm, self.children_offset + idx*__class__.CHILD.size)  # (map, elem, reps, reserved, offset, stride, max_end)");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_fields(self, elem):");
+		writeStmt(bw, 2, "fields = []");
+		writeStmt(bw, 2, "if elem[1] == " + KIND_REG + ":");
+		writeStmt(bw, 3, "for idx in range(elem[3], elem[3] + elem[4]):");
+		writeStmt(bw, 4, "(name, loidx, width, flags) = __class__.FIELD.unpack_from(self.mm, self.fields_offset + idx*__class__.FIELD.size)");
+		writeStmt(bw, 4, "fields.append(ordt_drv_table_field(self.get_name(name), loidx, width, bool(flags & 1), bool(flags & 2)))");
+		writeStmt(bw, 2, "return fields");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_tags(self):");
+		writeStmt(bw, 2, "return list(self.tags)");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_version(self, tag):");
+		writeStmt(bw, 2, "return self.tags.index(tag) if tag in self.tags else -1");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_address(self, tag, pathstr):");
+		writeStmt(bw, 2, "version = self.get_version(tag)");
+		writeStmt(bw, 2, "if version < 0:");
+		writeStmt(bw, 3, "return {'status':'bad tag'}");
+		writeStmt(bw, 2, "(cur, tag_offset, address) = self.get_root(version)");
+		writeStmt(bw, 2, "for str_elem in pathstr.split('.')[1:]:  # root instance name is not checked");
+		writeStmt(bw, 3, "sub_lst = str_elem.split('[')");
+		writeStmt(bw, 3, "name = sub_lst[0]");
+		writeStmt(bw, 3, "try:");
+		writeStmt(bw, 4, "idx = int(sub_lst[1].rstrip(']')) if len(sub_lst) == 2 else None");
+		writeStmt(bw, 3, "except ValueError:");
+		writeStmt(bw, 4, "return {'status':'bad path'}");
+		writeStmt(bw, 3, "parent = self.get_elem(cur)");
+		writeStmt(bw, 3, "match = None");
+		writeStmt(bw, 3, "if parent[1] != " + KIND_REG + ":");
+		writeStmt(bw, 4, "for cidx in range(parent[3], parent[3] + parent[4]):");
+		writeStmt(bw, 5, "child = self.get_child(cidx)");
+		writeStmt(bw, 5, "if ((1<<version) & child[0]) and (self.get_name(self.get_elem(child[1])[0]) == name):");
+		writeStmt(bw, 6, "match = child");
+		writeStmt(bw, 6, "break");
+		writeStmt(bw, 3, "if not match:");
+		writeStmt(bw, 4, "return {'status':'bad path'}");
+		writeStmt(bw, 3, "address += match[4]");
+		writeStmt(bw, 3, "if match[2] > 1:");
+		writeStmt(bw, 4, "if (idx is None) or (idx < 0) or (idx >= match[2]):");
+		writeStmt(bw, 5, "return {'status':'bad path'}");
+		writeStmt(bw, 4, "address += match[5]*idx");
+		writeStmt(bw, 3, "cur = match[1]");
+		writeStmt(bw, 2, "elem = self.get_elem(cur)");
+		writeStmt(bw, 2, "if elem[1] == " + KIND_REG + ":");
+		writeStmt(bw, 3, "return {'status':'reg', 'address':address, 'fields':self.get_fields(elem)}");
+		writeStmt(bw, 2, "children = [self.get_name(self.get_elem(child[1])[0]) for child in map(self.get_child, range(elem[3], elem[3] + elem[4])) if (1<<version) & child[0]]");
+		writeStmt(bw, 2, "return {'status':'reg set', 'address':address, 'children':children}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def get_path(self, tag, address):");
+		writeStmt(bw, 2, "version = self.get_version(tag)");
+		writeStmt(bw, 2, "if version < 0:");
+		writeStmt(bw, 3, "return {'status':'bad tag'}");
+		writeStmt(bw, 2, "(cur, tag_offset, root_offset) = self.get_root(version)");
+		writeStmt(bw, 2, "if address < root_offset:");
+		writeStmt(bw, 3, "return {'status':'bad address'}");
+		writeStmt(bw, 2, "result = self.find_path(version, cur, address - root_offset, self.get_name(self.get_elem(cur)[0]), [])");
+		writeStmt(bw, 2, "if not result:");
+		writeStmt(bw, 3, "return {'status':'bad address'}");
+		writeStmt(bw, 2, "(path, indices, elem) = result");
+		writeStmt(bw, 2, "return {'status':'reg', 'path':path, 'indices':indices, 'fields':self.get_fields(elem)}");
+		writeStmt(bw, 0, "");
+		writeStmt(bw, 1, "def find_path(self, version, cur, rel_address, path, indices):");
+		writeStmt(bw, 2, "elem = self.get_elem(cur)");
+		writeStmt(bw, 2, "if elem[1] == " + KIND_REG + ":");
+		writeStmt(bw, 3, "return (path, indices, elem) if rel_address < (elem[2] + 7) // 8 else None  # address must fall within reg bytes");
+		writeStmt(bw, 2, "# find first child with offset > address, then check earlier children while their extents cover the address");
+		writeStmt(bw, 2, "(lo, hi) = (elem[3], elem[3] + elem[4])");
+		writeStmt(bw, 2, "while lo < hi:");
+		writeStmt(bw, 3, "mid = (lo + hi) // 2");
+		writeStmt(bw, 3, "if self.get_child(mid)[4] <= rel_address:");
+		writeStmt(bw, 4, "lo = mid + 1");
+		writeStmt(bw, 3, "else:");
+		writeStmt(bw, 4, "hi = mid");
+		writeStmt(bw, 2, "while lo > elem[3]:");
+		writeStmt(bw, 3, "lo -= 1");
+		writeStmt(bw, 3, "child = self.get_child(lo)");
+		writeStmt(bw, 3, "if child[6] <= rel_address:");
+		writeStmt(bw, 4, "break");
+		writeStmt(bw, 3, "if not ((1<<version) & child[0]):");
+		writeStmt(bw, 4, "continue");
+		writeStmt(bw, 3, "child_address = rel_address - child[4]");
+		writeStmt(bw, 3, "idx = child_address // child[5] if child[5] else 0");
+		writeStmt(bw, 3, "if idx >= child[2]:");
+		writeStmt(bw, 4, "continue");
+		writeStmt(bw, 3, "child_path = path + '.' + self.get_name(self.get_elem(child[1])[0])");
+		writeStmt(bw, 3, "child_indices = indices");
+		writeStmt(bw, 3, "if child[2] > 1:");
+		writeStmt(bw, 4, "child_path += '[' + str(idx) + ']'");
+		writeStmt(bw, 4, "child_indices = indices + [idx]");
+		writeStmt(bw, 3, "result = self.find_path(version, child[1], child_address - idx*child[5], child_path, child_indices)");
+		writeStmt(bw, 3, "if result:");
+		writeStmt(bw, 4, "return result");
+		writeStmt(bw, 2, "return None");
+	}
+
+}
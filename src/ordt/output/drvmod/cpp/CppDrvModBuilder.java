@@ -2,6 +2,7 @@ package ordt.output.drvmod.cpp;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -57,10 +58,18 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 				" = std::make_shared<ordt_drv_regset>(\"" + rsInst.getName() + "\");");
 		// add this instance's children
 		HashMap<DrvModRegSetChildInfo, Integer> children = rsInst.getChildMaps();
-		for(DrvModRegSetChildInfo childInfo: children.keySet()) {
+		List<DrvModRegSetChildInfo> childList = new ArrayList<DrvModRegSetChildInfo>(children.keySet());
+		for(DrvModRegSetChildInfo childInfo: childList) {
 			DrvModBaseInstance child = childInfo.child;
 			rootBuild.addStatement(rsInst.getInstName() + "->add_child(" + children.get(childInfo) + ", " + child.getInstName() + ", " + childInfo.reps + ", " + childInfo.addressOffset + ", " + childInfo.addressStride + ");");
 		}
+		// add the generated per-version child index (sorted by offset) used in address to path lookups
+		List<List<Integer>> addrIndex = getAddrIndex(childList, children);
+		for (int version=0; version<addrIndex.size(); version++) {
+			String indexStr = addrIndex.get(version).toString();
+			String maxEndStr = getAddrIndexMaxEnds(childList, addrIndex.get(version)).toString().replaceAll("(\\d+)", "$1ull");
+			rootBuild.addStatement(rsInst.getInstName() + "->set_addr_index(" + version + ", {" + indexStr.substring(1, indexStr.length() - 1) + "}, {" + maxEndStr.substring(1, maxEndStr.length() - 1) + "});");
+		}
 	}
 
 	@Override
@@ -68,7 +77,7 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		CppMethod rootBuild = rootClass.getTaggedMethod("build");
 		// create the new instance
 		rootBuild.addStatement("std::shared_ptr<ordt_drv_reg> " + rInst.getInstName() + 
-				" = std::make_shared<ordt_drv_reg>(\"" + rInst.getName() + "\");");
+				" = std::make_shared<ordt_drv_reg>(\"" + rInst.getName() + "\", " + rInst.getWidth() + ");");
 		// add this instance's fields
 		List<DrvModField> fields = rInst.getFields();
 		for(DrvModField field: fields)
@@ -145,12 +154,14 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
     		writeStmt(hppBw, 0, "#define __ORDT_PIO_DRV_HPP_INCLUDED__");
     		writeStmt(hppBw, 0, "");	
     		writeStmt(hppBw, 0, "#include <list>");
+    		writeStmt(hppBw, 0, "#include <vector>");
     		writeStmt(hppBw, 0, "#include <iostream>");  
     		writeStmt(hppBw, 0, "#include <memory>");  // unique_ptr, etc g++ 
     		writeStmt(hppBw, 0, "#include <cstdint>");  
     		writeStmt(hppBw, 0, "#include <algorithm>");  // min/max  
     		writeStmt(hppBw, 0, "#include <string>");    
     		writeStmt(hppBw, 0, "#include <sstream>");    
+    		writeStmt(hppBw, 0, "#include <cstring>");  // path index compare
     	    writeStmt(hppBw, 0, "#define quote(x) #x"); // for debug display of vars
     		writeStmt(hppBw, 0, "");		   
    		
@@ -243,6 +254,19 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		// write class
 		writeStmts(hppBw, newClass.genHeader(false)); // header with no include guards
 		writeStmts(cppBw, newClass.genMethods(true));  // methods with namespace
+		
+		// path handle class (index of a resolved path in the path index table)
+		className = "ordt_drv_path_handle";
+		newClass = new CppBaseModClass(className);
+		newClass.addDefine(Vis.PUBLIC, "int m_entry");   // path index table entry, -1 if unresolved
+		// constructors
+		nMethod = newClass.addConstructor(Vis.PUBLIC, className + "()");  
+		nMethod.addInitCall("m_entry(-1)");  
+		nMethod = newClass.addMethod(Vis.PUBLIC, "bool is_valid() const");
+		nMethod.addStatement("return m_entry >= 0;");
+		// write class
+		writeStmts(hppBw, newClass.genHeader(false)); // header with no include guards
+		writeStmts(cppBw, newClass.genMethods(true));  // methods with namespace
 	}
 
 	/** create and write ordt_drv_element classes */    
@@ -288,6 +312,18 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		nMethod.addStatement("  return 2;");  
 		nMethod.addStatement("}");  
 		nMethod.addStatement("return get_address_using_version(version, pathstr, address, fields);");  
+		// -- address to path methods
+		nMethod = newClass.addMethod(Vis.PUBLIC, "pure virtual int get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields)"); 
+		//
+		nMethod = newClass.addMethod(Vis.PUBLIC, "int get_path_by_address(const std::string tag, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields)"); 
+		nMethod.addStatement("int version = get_version(tag);");
+		nMethod.addStatement("if (version<0) {");  
+		nMethod.addStatement("#ifdef ORDT_PIO_DRV_VERBOSE");  
+		nMethod.addStatement("   std::cout << \"--> invalid tag: \" << tag << \"\\n\";" );
+		nMethod.addStatement("#endif");  
+		nMethod.addStatement("  return 2;");  
+		nMethod.addStatement("}");  
+		nMethod.addStatement("return get_path_using_version(version, address, path, indices, fields);");  
 		//
 		nMethod = newClass.addMethod(Vis.PRIVATE, "std::list<std::string> split(const std::string &text, char sep, bool trim_rb)");
 		nMethod.addStatement("std::list<std::string> tokens;");
@@ -353,11 +389,15 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		String className = "ordt_drv_regset";
 		CppBaseModClass newClass = new CppBaseModClass(className);
 		newClass.addParent("ordt_drv_element");
-		newClass.addDefine(Vis.PROTECTED, "std::list<ordt_drv_regset_child> m_children");
+		newClass.addDefine(Vis.PROTECTED, "std::vector<ordt_drv_regset_child> m_children");
+		newClass.addDefine(Vis.PROTECTED, "std::vector<std::vector<int>> m_addr_index");  // m_children positions of each version sorted by offset
+		newClass.addDefine(Vis.PROTECTED, "std::vector<std::vector<uint64_t>> m_addr_max_ends");  // running max end address of each version's sorted children
 		// constructors
 		CppMethod nMethod = newClass.addConstructor(Vis.PUBLIC, className + "(std::string _m_name)");  
 		nMethod.addInitCall("ordt_drv_element(_m_name)");
 		nMethod.addInitCall("m_children()");
+		nMethod.addInitCall("m_addr_index()");
+		nMethod.addInitCall("m_addr_max_ends()");
 		// get_address method
 		nMethod = newClass.addMethod(Vis.PUBLIC, "virtual int get_address_using_list(const int version, std::list<ordt_drv_path_element> &path, const bool bypass_names, uint64_t &address, std::list<ordt_drv_field> &fields)");  
 		nMethod.addStatement("if (path.empty())");  // exit with error if no path
@@ -386,6 +426,50 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		nMethod = newClass.addMethod(Vis.PUBLIC, "void add_child(int _m_map, std::shared_ptr<ordt_drv_element> _m_child, int _m_reps, uint64_t _m_offset, uint64_t _m_stride)");
 		nMethod.addStatement("ordt_drv_regset_child new_child(_m_map, _m_child, _m_reps, _m_offset, _m_stride);");  
 		nMethod.addStatement("m_children.push_back(new_child);");  
+		// set_addr_index method
+		nMethod = newClass.addMethod(Vis.PUBLIC, "void set_addr_index(int version, std::vector<int> index, std::vector<uint64_t> max_ends)");
+		nMethod.addStatement("if ((int) m_addr_index.size() <= version) {");  
+		nMethod.addStatement("  m_addr_index.resize(version + 1);");  
+		nMethod.addStatement("  m_addr_max_ends.resize(version + 1);");  
+		nMethod.addStatement("}");  
+		nMethod.addStatement("m_addr_index[version] = index;");  
+		nMethod.addStatement("m_addr_max_ends[version] = max_ends;");  
+		// get_path method
+		nMethod = newClass.addMethod(Vis.PUBLIC, "virtual int get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields)");  
+		nMethod.addStatement("if ((version >= 0) && (version < (int) m_addr_index.size())) {");  
+		nMethod.addStatement("  const std::vector<int> &index = m_addr_index[version];");  
+		nMethod.addStatement("  int lo = 0, hi = (int) index.size() - 1, match = -1;");  // find last child with offset <= address
+		nMethod.addStatement("  while (lo <= hi) {");  
+		nMethod.addStatement("    int mid = (lo + hi) / 2;");  
+		nMethod.addStatement("    if (m_children[index[mid]].m_offset <= address) {");  
+		nMethod.addStatement("      match = mid;");  
+		nMethod.addStatement("      lo = mid + 1;");  
+		nMethod.addStatement("    }");  
+		nMethod.addStatement("    else hi = mid - 1;");  
+		nMethod.addStatement("  }");  
+		nMethod.addStatement("  const std::vector<uint64_t> &max_ends = m_addr_max_ends[version];");  
+		nMethod.addStatement("  size_t path_size = path.size(), indices_size = indices.size();");  
+		// check earlier children while their extents may cover address (interleaved arrays)
+		nMethod.addStatement("  for (; (match >= 0) && (max_ends[match] > address); match--) {");  
+		nMethod.addStatement("    const ordt_drv_regset_child &child = m_children[index[match]];");  
+		nMethod.addStatement("    uint64_t rel_address = address - child.m_offset;");  
+		nMethod.addStatement("    uint64_t idx = (child.m_stride > 0)? rel_address / child.m_stride : 0;");  
+		nMethod.addStatement("    if (idx < (uint64_t) child.m_reps) {");  // address is within extent of this child
+		nMethod.addStatement("      path += \".\" + child.m_child->m_name;");  
+		nMethod.addStatement("      if (child.m_reps>1) {");  
+		nMethod.addStatement("        path += \"[\" + std::to_string(idx) + \"]\";");  
+		nMethod.addStatement("        indices.push_back((int) idx);");  
+		nMethod.addStatement("      }");  
+		nMethod.addStatement("      if (child.m_child->get_path_using_version(version, rel_address - (idx*child.m_stride), path, indices, fields) == 0) return 0;");  
+		nMethod.addStatement("      path.resize(path_size);");  // no match in this child so restore path and indices
+		nMethod.addStatement("      indices.resize(indices_size);");  
+		nMethod.addStatement("    }");  
+		nMethod.addStatement("  }");  
+		nMethod.addStatement("}");  
+		nMethod.addStatement("#ifdef ORDT_PIO_DRV_VERBOSE");  
+		nMethod.addStatement("std::cout << \"--> unable to find child at address \" << address << \" in regset \" << m_name << \"\\n\";" );
+		nMethod.addStatement("#endif");  
+		nMethod.addStatement("return 8;");  
 		// write class
 		writeStmts(hppBw, newClass.genHeader(false)); // header with no include guards
 		writeStmts(cppBw, newClass.genMethods(true));  // methods with namespace
@@ -397,10 +481,12 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		CppBaseModClass newClass = new CppBaseModClass(className);
 		newClass.addParent("ordt_drv_element");
 		newClass.addDefine(Vis.PROTECTED, "std::list<ordt_drv_field> m_fields");
+		newClass.addDefine(Vis.PROTECTED, "int m_width");  // register width in bits
 		// constructors
-		CppMethod nMethod = newClass.addConstructor(Vis.PUBLIC, className + "(std::string _m_name)");  
+		CppMethod nMethod = newClass.addConstructor(Vis.PUBLIC, className + "(std::string _m_name, int _m_width)");  
 		nMethod.addInitCall("ordt_drv_element(_m_name)");
 		nMethod.addInitCall("m_fields()");
+		nMethod.addInitCall("m_width(_m_width)");
 		// get_address method
 		nMethod = newClass.addMethod(Vis.PUBLIC, "virtual int get_address_using_list(const int version, std::list<ordt_drv_path_element> &path, const bool bypass_names, uint64_t &address, std::list<ordt_drv_field> &fields)");  
 		nMethod.addStatement("if (path.empty())");  // exit with error if no path
@@ -419,6 +505,16 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		nMethod = newClass.addMethod(Vis.PUBLIC, "void add_field(std::string _m_name, int _m_loidx, int _width, bool _m_readable, bool _m_writeable)");
 		nMethod.addStatement("ordt_drv_field new_field(_m_name, _m_loidx, _width, _m_readable, _m_writeable);");  
 		nMethod.addStatement("m_fields.push_back(new_field);");  
+		// get_path method
+		nMethod = newClass.addMethod(Vis.PUBLIC, "virtual int get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields)");  
+		nMethod.addStatement("if (address < (uint64_t) ((m_width + 7) / 8)) {");  // address must fall within reg bytes
+		nMethod.addStatement("  fields = m_fields;");  
+		nMethod.addStatement("  return 0;");  
+		nMethod.addStatement("}");  
+		nMethod.addStatement("#ifdef ORDT_PIO_DRV_VERBOSE");  
+		nMethod.addStatement("std::cout << \"--> address offset \" << address << \" is outside of reg \" << m_name << \"\\n\";" );
+		nMethod.addStatement("#endif");  
+		nMethod.addStatement("return 8;");
 		// write class
 		writeStmts(hppBw, newClass.genHeader(false)); // header with no include guards
 		writeStmts(cppBw, newClass.genMethods(true));  // methods with namespace
@@ -447,6 +543,72 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 		nMethod.addStatement("   std::cout << \"--> invalid path: \" << pathstr << \"\\n\";" );
 		nMethod.addStatement("#endif");  
 		nMethod.addStatement("return 4;");  
+		// override of get_path to select the overlay root and bypass its stride
+		nMethod = newClass.addMethod(Vis.PUBLIC, "virtual int get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields)"); 
+		nMethod.addStatement("path.clear();");  // initialize outputs if calling from root
+		nMethod.addStatement("indices.clear();");
+		nMethod.addStatement("fields.clear();");
+		nMethod.addStatement("for (auto const &child: m_children) {");
+		nMethod.addStatement("  if (((1<<version) & child.m_map) && (address >= child.m_offset)) {");
+		nMethod.addStatement("    path = child.m_child->m_name;");
+		nMethod.addStatement("    if (child.m_child->get_path_using_version(version, address - child.m_offset, path, indices, fields) == 0) return 0;");
+		nMethod.addStatement("    path.clear();");  // leave no partial path on a bad address
+		nMethod.addStatement("    indices.clear();");
+		nMethod.addStatement("    return 8;");
+		nMethod.addStatement("  }");
+		nMethod.addStatement("}");
+		nMethod.addStatement("#ifdef ORDT_PIO_DRV_VERBOSE");  
+		nMethod.addStatement("std::cout << \"--> invalid address: \" << address << \"\\n\";" );
+		nMethod.addStatement("#endif");  
+		nMethod.addStatement("return 8;");  
+		// path index methods - resolve a path once, then compute addresses for specific indices
+		nMethod = newClass.addMethod(Vis.PUBLIC, "int resolve_path(const std::string &tag, const std::string &pathstr, ordt_drv_path_handle &handle)"); 
+		nMethod.addStatement("int version = get_version(tag);");
+		nMethod.addStatement("if (version<0) {");  
+		nMethod.addStatement("#ifdef ORDT_PIO_DRV_VERBOSE");  
+		nMethod.addStatement("   std::cout << \"--> invalid tag: \" << tag << \"\\n\";" );
+		nMethod.addStatement("#endif");  
+		nMethod.addStatement("  handle.m_entry = -1;");  
+		nMethod.addStatement("  return 2;");  
+		nMethod.addStatement("}");  
+		nMethod.addStatement("return resolve_path_using_version(version, pathstr.c_str(), handle);");  
+		//
+		nMethod = newClass.addMethod(Vis.PUBLIC, "int resolve_path_using_version(const int version, const char *pathstr, ordt_drv_path_handle &handle)"); 
+		nMethod.addStatement("handle.m_entry = -1;");
+		nMethod.addStatement("const char *rel_path = std::strchr(pathstr, '.');");  // root instance name is not checked
+		nMethod.addStatement("rel_path = (rel_path == nullptr)? \"\" : rel_path + 1;");
+		nMethod.addStatement("int lo = 0;");
+		nMethod.addStatement("int hi = ordt_drv_path_entry_count - 1;");
+		nMethod.addStatement("while (lo <= hi) {");
+		nMethod.addStatement("  int mid = (lo + hi) / 2;");
+		nMethod.addStatement("  const ordt_drv_path_entry &entry = ordt_drv_path_entries[mid];");
+		nMethod.addStatement("  int cmp = (entry.m_version != version)? ((entry.m_version < version)? -1 : 1) : ordt_drv_path_compare(entry.m_path, rel_path);");
+		nMethod.addStatement("  if (cmp == 0) {");
+		nMethod.addStatement("    handle.m_entry = mid;");
+		nMethod.addStatement("    return 0;");
+		nMethod.addStatement("  }");
+		nMethod.addStatement("  else if (cmp < 0) lo = mid + 1;");
+		nMethod.addStatement("  else hi = mid - 1;");
+		nMethod.addStatement("}");
+		nMethod.addStatement("#ifdef ORDT_PIO_DRV_VERBOSE");  
+		nMethod.addStatement("std::cout << \"--> invalid path: \" << pathstr << \"\\n\";" );
+		nMethod.addStatement("#endif");  
+		nMethod.addStatement("return 4;");  
+		//
+		nMethod = newClass.addMethod(Vis.PUBLIC, "int get_handle_dims(const ordt_drv_path_handle &handle)"); 
+		nMethod.addStatement("if ((handle.m_entry < 0) || (handle.m_entry >= ordt_drv_path_entry_count)) return -1;");
+		nMethod.addStatement("return ordt_drv_path_entries[handle.m_entry].m_num_dims;");
+		//
+		nMethod = newClass.addMethod(Vis.PUBLIC, "int get_handle_address(const ordt_drv_path_handle &handle, const int *indices, const int num_indices, uint64_t &address)"); 
+		nMethod.addStatement("if ((handle.m_entry < 0) || (handle.m_entry >= ordt_drv_path_entry_count)) return 4;");
+		nMethod.addStatement("const ordt_drv_path_entry &entry = ordt_drv_path_entries[handle.m_entry];");
+		nMethod.addStatement("if (num_indices != entry.m_num_dims) return 8;");
+		nMethod.addStatement("address = entry.m_offset;");
+		nMethod.addStatement("for (int idx=0; idx<num_indices; idx++) {");
+		nMethod.addStatement("  if ((indices[idx] < 0) || (indices[idx] >= ordt_drv_path_reps[entry.m_dim_start + idx])) return 8;");
+		nMethod.addStatement("  address += ordt_drv_path_strides[entry.m_dim_start + idx] * indices[idx];");
+		nMethod.addStatement("}");
+		nMethod.addStatement("return 0;");
 		// return the root class
 		return newClass;
 	}
@@ -454,7 +616,69 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 	/** write the ordt_drv_root class */    
 	private void writeOrdtDrvRootClass() {
 		writeStmts(hppBw, rootClass.genHeader(false)); // header with no include guards
+		writeOrdtDrvPathIndexTables();  // path index tables are used in root methods
 		writeStmts(cppBw, rootClass.genMethods(true));  // methods with namespace
 	}
 
+	/** write sorted path index tables used by root resolve_path/get_handle_address methods */    
+	private void writeOrdtDrvPathIndexTables() {
+		List<PathInfo> pathList = getPathInfo();
+		List<Long> strides = new ArrayList<Long>();
+		List<Integer> reps = new ArrayList<Integer>();
+		writeStmt(cppBw, 0, "// ------------------ path index tables ------------------");
+		writeStmt(cppBw, 0, "");
+		writeStmt(cppBw, 0, "namespace {");
+		writeStmt(cppBw, 0, "");
+		writeStmt(cppBw, 0, "struct ordt_drv_path_entry {");
+		writeStmt(cppBw, 1, "int m_version;");
+		writeStmt(cppBw, 1, "const char *m_path;");
+		writeStmt(cppBw, 1, "uint64_t m_offset;");
+		writeStmt(cppBw, 1, "int m_dim_start;");
+		writeStmt(cppBw, 1, "int m_num_dims;");
+		writeStmt(cppBw, 0, "};");
+		writeStmt(cppBw, 0, "");
+		// entries sorted by version, then path
+		writeStmt(cppBw, 0, "const ordt_drv_path_entry ordt_drv_path_entries[] = {");
+		for (PathInfo pInfo: pathList) {
+			writeStmt(cppBw, 1, "{" + pInfo.version + ", \"" + pInfo.path + "\", " + pInfo.offset + "ULL, " + strides.size() + ", " + pInfo.strides.size() + "},");
+			strides.addAll(pInfo.strides);
+			reps.addAll(pInfo.reps);
+		}
+		writeStmt(cppBw, 0, "};");
+		writeStmt(cppBw, 0, "const int ordt_drv_path_entry_count = " + pathList.size() + ";");
+		writeStmt(cppBw, 0, "");
+		// replicated element strides and rep counts referenced by each entry
+		if (strides.isEmpty()) {
+			strides.add(0L);
+			reps.add(0);
+		}
+		writeStmt(cppBw, 0, "const uint64_t ordt_drv_path_strides[] = {");
+		for (Long stride: strides) writeStmt(cppBw, 1, stride + "ULL,");
+		writeStmt(cppBw, 0, "};");
+		writeStmt(cppBw, 0, "const int ordt_drv_path_reps[] = {");
+		for (Integer rep: reps) writeStmt(cppBw, 1, rep + ",");
+		writeStmt(cppBw, 0, "};");
+		writeStmt(cppBw, 0, "");
+		// compare table path to an input path, ignoring any index values in the input path
+		writeStmt(cppBw, 0, "int ordt_drv_path_compare(const char *entry_path, const char *query_path) {");
+		writeStmt(cppBw, 1, "bool in_brackets = false;");
+		writeStmt(cppBw, 1, "while (true) {");
+		writeStmt(cppBw, 2, "if (in_brackets && (*query_path != ']') && (*query_path != '\\0')) {");
+		writeStmt(cppBw, 3, "query_path++;");
+		writeStmt(cppBw, 3, "continue;");
+		writeStmt(cppBw, 2, "}");
+		writeStmt(cppBw, 2, "unsigned char e = *entry_path;");
+		writeStmt(cppBw, 2, "unsigned char q = *query_path;");
+		writeStmt(cppBw, 2, "if (e != q) return (e < q)? -1 : 1;");
+		writeStmt(cppBw, 2, "if (e == '\\0') return 0;");
+		writeStmt(cppBw, 2, "in_brackets = (q == '[');");
+		writeStmt(cppBw, 2, "entry_path++;");
+		writeStmt(cppBw, 2, "query_path++;");
+		writeStmt(cppBw, 1, "}");
+		writeStmt(cppBw, 0, "}");
+		writeStmt(cppBw, 0, "");
+		writeStmt(cppBw, 0, "}");
+		writeStmt(cppBw, 0, "");
+	}
+
 }
@@ -1,6 +1,8 @@
 package ordt.output.drvmod.py;
 
 import java.io.BufferedWriter;
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -13,6 +15,7 @@ import ordt.output.drvmod.DrvModRegInstance.DrvModField;
 import ordt.output.drvmod.DrvModRegSetInstance.DrvModRegSetChildInfo;
 import ordt.output.drvmod.DrvModRegSetInstance;
 import ordt.output.drvmod.py.PyBaseModClass.PyMethod;
+import ordt.parameters.ExtParameters;
 
 /** generate python pio driver model */
 public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder overrides in PyDrvModBuilder - these are in DrvModBuilder 
@@ -35,17 +38,26 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		rootBuild.addStatement(rsInst.getInstName() + " = ordt_drv_regset('" + rsInst.getName() + "')");
 		// add this instance's children
 		HashMap<DrvModRegSetChildInfo, Integer> children = rsInst.getChildMaps();
-		for(DrvModRegSetChildInfo childInfo: children.keySet()) {
+		List<DrvModRegSetChildInfo> childList = new ArrayList<DrvModRegSetChildInfo>(children.keySet());
+		for(DrvModRegSetChildInfo childInfo: childList) {
 			DrvModBaseInstance child = childInfo.child;
 			rootBuild.addStatement(rsInst.getInstName() + ".add_child(" + children.get(childInfo) + ", " + child.getInstName() + ", " + childInfo.reps + ", " + childInfo.addressOffset + ", " + childInfo.addressStride + ")");
 		}
+		// add the generated per-version child index (sorted by offset) used in address to path lookups
+		List<List<Integer>> addrIndex = getAddrIndex(childList, children);
+		for (int version=0; version<addrIndex.size(); version++) {
+			List<Long> offsets = new ArrayList<Long>();
+			for (Integer pos: addrIndex.get(version)) offsets.add(childList.get(pos).addressOffset);
+			List<Long> maxEnds = getAddrIndexMaxEnds(childList, addrIndex.get(version));
+			rootBuild.addStatement(rsInst.getInstName() + ".set_addr_index(" + version + ", " + offsets + ", " + maxEnds + ", " + addrIndex.get(version) + ")");
+		}
 	}
 
 	@Override
 	public void processRegInstance(DrvModRegInstance rInst) {
 		PyMethod rootBuild = rootClass.getTaggedMethod("build");
 		// create the new instance
-		rootBuild.addStatement(rInst.getInstName() + " = ordt_drv_reg('" + rInst.getName() + "')");
+		rootBuild.addStatement(rInst.getInstName() + " = ordt_drv_reg('" + rInst.getName() + "', " + rInst.getWidth() + ")");
 		// add this instance's fields
 		List<DrvModField> fields = rInst.getFields();
 		for(DrvModField field: fields)
@@ -76,6 +88,8 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 
     		// write the py file header
     		writeHeader(pyBw, commentPrefix);
+    		writeStmt(pyBw, 0, "import bisect");
+    		writeStmt(pyBw, 0, "import functools");
     		writeStmt(pyBw, 0, "");
     		
     		// write the driver model classes
@@ -83,6 +97,9 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
     		
     		// close up py file
     		closeBufferedWriter(pyBw);
+    		
+    		// write the benchmark script if specified
+    		if (ExtParameters.pydrvmodGenerateBenchmark()) writeBenchmark(outName, description, commentPrefix);
     	}
 	}
 
@@ -190,7 +207,7 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addStatement("  return 0");
 		int idx=1;
 		for (String tag: Ordt.getOverlayFileTags()) {
-			nMethod.addStatement("else if tag == '" + tag + "':");
+			nMethod.addStatement("elif tag == '" + tag + "':");
 		    nMethod.addStatement("  return " + idx++);
 		}
 		nMethod.addStatement("else:");  // invalid tag
@@ -225,7 +242,7 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addStatement("  if __class__.ORDT_PIO_DRV_VERBOSE:");  
 		nMethod.addStatement("    print('--> invalid tag: ' + tag)");
 		nMethod.addStatement("  return {'status':'bad tag'}");  
-		nMethod.addStatement("return self.get_path_using_version(version, address, path_in)");  
+		nMethod.addStatement("return self.get_path_using_version(version, address, path_in, [])");  
 		// write class
 		writeStmts(pyBw, newClass.genPy()); // header with no include guards
 	}
@@ -248,15 +265,13 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addInitCall("self.offset = offset");
 		nMethod.addInitCall("self.stride = stride");
         // (match_addr, match_path) = child.find_offset(address_in)
-		nMethod = newClass.addMethod("find_offset(self, address_in)");  // return matching offset and name (null name indicates no match)
-		nMethod.addStatement("if not self.stride:");  // if no stride, this is root, so offset is zero
-		nMethod.addStatement("  return (0, self.child.name)");
+		nMethod = newClass.addMethod("find_offset(self, address_in)");  // return matching offset, name and index list (null name indicates no match)
 		nMethod.addStatement("if (address_in < self.offset) or (address_in >= self.offset + self.reps*self.stride):");  // address_in out of range
-		nMethod.addStatement("  return (0, None)");
+		nMethod.addStatement("  return (0, None, [])");
 		nMethod.addStatement("if self.reps < 2:");  // no reps so no index
-		nMethod.addStatement("  return (self.offset, '.' + self.child.name)");
+		nMethod.addStatement("  return (self.offset, '.' + self.child.name, [])");
 		nMethod.addStatement("index = (address_in - self.offset) // self.stride");  // multiple reps, so get matching index
-		nMethod.addStatement("return (self.offset + index*self.stride, '.' + self.child.name + '[' + str(index) + ']')");
+		nMethod.addStatement("return (self.offset + index*self.stride, '.' + self.child.name + '[' + str(index) + ']', [index])");
 		// write class
 		writeStmts(pyBw, newClass.genPy()); // header
 	}
@@ -271,6 +286,8 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		PyMethod nMethod = newClass.addConstructor("__init__(self, name)");  
 		nMethod.addInitCall("super().__init__(name)");
 		nMethod.addInitCall("self.children = []");
+		nMethod.addInitCall("self.name_index = {}");  // children by name
+		nMethod.addInitCall("self.addr_index = {}");  // per version (offsets, children) sorted by offset
 		// get_address method
 		nMethod = newClass.addMethod("get_address_using_list(self, version, path, bypass_names, address_in)");  
 		nMethod.addStatement("if not path:");  // exit with error if no path
@@ -281,9 +298,9 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addStatement("  if not path:");    // now if path is empty we're done
 		nMethod.addStatement("    return {'status':'reg set', 'address':address_in, 'children':self.get_child_names(version)}");
 		nMethod.addStatement("  pelem = path[0]");  // get child element from front of path
-		nMethod.addStatement("for child in self.children:");  // find matching child
+		nMethod.addStatement("for child in (self.children if bypass_names else self.name_index.get(pelem.name, ())):");  // find matching child
 		// if a matching child, update address and make recursive call
-		nMethod.addStatement("  if ((1<<version) & child.map) and (bypass_names or (pelem.name == child.child.name)):");  
+		nMethod.addStatement("  if (1<<version) & child.map:");  
 		nMethod.addStatement("    address = address_in + child.offset");  // first add this regsets offset
 		nMethod.addStatement("    if child.reps > 1:");  // add index offset if a replicated instance
 		nMethod.addStatement("      address += child.stride*int(pelem.idx)");  // add index offset if a replicated instance
@@ -295,6 +312,7 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod = newClass.addMethod("add_child(self, map, child, reps, offset, stride)");
 		nMethod.addStatement("new_child = ordt_drv_regset_child(map, child, reps, offset, stride)");  
 		nMethod.addStatement("self.children.append(new_child)");  
+		nMethod.addStatement("self.name_index.setdefault(child.name, []).append(new_child)");  
 		// get_child_names method
 		nMethod = newClass.addMethod("get_child_names(self, version)");  
 		nMethod.addStatement("childnames = []");
@@ -302,15 +320,23 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addStatement("  if (1<<version) & child.map:");  // only get children matching version
 		nMethod.addStatement("    childnames.append(child.child.name)");
 		nMethod.addStatement("return childnames");  
+		//  set_addr_index
+		nMethod = newClass.addMethod("set_addr_index(self, version, offsets, max_ends, positions)");  // generated offsets, running max child end addresses and children positions sorted by offset
+		nMethod.addStatement("self.addr_index[version] = (offsets, max_ends, [self.children[pos] for pos in positions])");
 		//  get_path_using_version
-		nMethod = newClass.addMethod("get_path_using_version(self, version, address_in, path_in)");  
+		nMethod = newClass.addMethod("get_path_using_version(self, version, address_in, path_in, indices_in)");  
 		//nMethod.addStatement("print('--> reg set name, address, path=', self.name, address_in, path_in)");
-		nMethod.addStatement("for child in self.children:");
-		nMethod.addStatement("  if (1<<version) & child.map:");  // only get children matching version 
-		//nMethod.addStatement("    print('----> child name, offset, reps, stride=', child.child.name, child.offset, child.reps, child.stride)");
-		nMethod.addStatement("    (match_addr, match_path) = child.find_offset(address_in)");
+		nMethod.addStatement("if version in self.addr_index:");
+		nMethod.addStatement("  (offsets, max_ends, vchildren) = self.addr_index[version]");
+		nMethod.addStatement("  pos = bisect.bisect_right(offsets, address_in) - 1");  // last child with offset <= address
+		nMethod.addStatement("  while (pos >= 0) and (max_ends[pos] > address_in):");  // check earlier children while their extents may cover address (interleaved arrays)
+		nMethod.addStatement("    child = vchildren[pos]");
+		nMethod.addStatement("    (match_addr, match_path, match_idx) = child.find_offset(address_in)");
 		nMethod.addStatement("    if match_path:"); // if a match, add to path, subtract offset, and call child
-		nMethod.addStatement("      return child.child.get_path_using_version(version, address_in - match_addr, path_in + match_path)");
+		nMethod.addStatement("      result = child.child.get_path_using_version(version, address_in - match_addr, path_in + match_path, indices_in + match_idx)");
+		nMethod.addStatement("      if result['status'] != 'bad address':");
+		nMethod.addStatement("        return result");
+		nMethod.addStatement("    pos -= 1");
 		nMethod.addStatement("return {'status':'bad address'}");
         //
 		// write class
@@ -324,9 +350,10 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		newClass.addParent("ordt_drv_element");
 		//newClass.addDefine("std::list<ordt_drv_field> m_fields");
 		// constructors
-		PyMethod nMethod = newClass.addConstructor("__init__(self, name)");  
+		PyMethod nMethod = newClass.addConstructor("__init__(self, name, width)");  
 		nMethod.addInitCall("super().__init__(name)");
 		nMethod.addInitCall("self.fields = []");
+		nMethod.addInitCall("self.width = width");  // register width in bits
 		// get_address method
 		nMethod = newClass.addMethod("get_address_using_list(self, version, path, bypass_names, address_in)");  
 		nMethod.addStatement("if not path:");  // exit with error if no path
@@ -343,9 +370,11 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addStatement("new_field = ordt_drv_field(name, loidx, width, readable, writeable)");  
 		nMethod.addStatement("self.fields.append(new_field)");  
 		//  get_path_using_version
-		nMethod = newClass.addMethod("get_path_using_version(self, version, address_in, path_in)");  
+		nMethod = newClass.addMethod("get_path_using_version(self, version, address_in, path_in, indices_in)");  
 		//nMethod.addStatement("print('--> reg name, address, path=', self.name, address_in, path_in)");
-		nMethod.addStatement("return {'status':'reg', 'path':path_in}");  // just return input path since already a match  
+		nMethod.addStatement("if address_in < (self.width + 7) // 8:");  // address must fall within reg bytes
+		nMethod.addStatement("  return {'status':'reg', 'path':path_in, 'indices':indices_in, 'fields':self.fields}");
+		nMethod.addStatement("return {'status':'bad address'}");
 		// write class
 		writeStmts(pyBw, newClass.genPy()); // header with no include guards
 	}
@@ -356,10 +385,12 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		PyBaseModClass newClass = new PyBaseModClass(className);
 		newClass.addParent("ordt_drv_regset");
 		newClass.addDefine("base_address = 0");  // call build in root constuctor
+		newClass.addDefine("ADDRESS_CACHE_SIZE = " + ExtParameters.pydrvmodAddressCacheSize());  // max resolved paths cached
 		// constructors
 		PyMethod nMethod = newClass.addConstructor("__init__(self)");  
 		nMethod.addInitCall("super().__init__('root')");
 		nMethod.addStatement("self.build()");  // call build in root constuctor
+		nMethod.addStatement("self.cached_address = functools.lru_cache(maxsize=__class__.ADDRESS_CACHE_SIZE)(self.get_address_using_version)");  // memoize (version, path, base) lookups
 		// methods
 		nMethod = newClass.addMethod("build(self)"); 
 		newClass.tagMethod("build", nMethod);
@@ -372,8 +403,44 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 		nMethod.addStatement("  print('--> invalid path: ' + pathstr)");
 		nMethod.addStatement("return {'status':'bad path'}");  
 		//
+		// cached lookups - cached results are shared, so callers get a copy of each result dict and child name list
+		nMethod = newClass.addMethod("copy_address_result(self, result)"); 
+		nMethod.addStatement("result = dict(result)");
+		nMethod.addStatement("if 'children' in result:");  
+		nMethod.addStatement("  result['children'] = list(result['children'])");
+		nMethod.addStatement("return result");  
+		//
 		nMethod = newClass.addMethod("get_address(self, tag, pathstr)"); 
-		nMethod.addStatement("return self.get_address_using_tag(tag, pathstr, __class__.base_address)");  
+		nMethod.addStatement("version = self.get_version(tag)");
+		nMethod.addStatement("if version<0:");  
+		nMethod.addStatement("  if __class__.ORDT_PIO_DRV_VERBOSE:");  
+		nMethod.addStatement("    print('--> invalid tag: ' + tag)");
+		nMethod.addStatement("  return {'status':'bad tag'}");  
+		nMethod.addStatement("return self.copy_address_result(self.cached_address(version, pathstr, __class__.base_address))");  
+		//
+		nMethod = newClass.addMethod("get_addresses(self, tag, pathstrs)");  // bulk resolve a list of paths 
+		nMethod.addStatement("version = self.get_version(tag)");
+		nMethod.addStatement("if version<0:");  
+		nMethod.addStatement("  if __class__.ORDT_PIO_DRV_VERBOSE:");  
+		nMethod.addStatement("    print('--> invalid tag: ' + tag)");
+		nMethod.addStatement("  return [{'status':'bad tag'} for pathstr in pathstrs]");  
+		nMethod.addStatement("resolve = self.cached_address");  
+		nMethod.addStatement("base_address = __class__.base_address");  
+		nMethod.addStatement("copy_result = self.copy_address_result");  
+		nMethod.addStatement("return [copy_result(resolve(version, pathstr, base_address)) for pathstr in pathstrs]");  
+		//
+		nMethod = newClass.addMethod("clear_address_cache(self)"); 
+		nMethod.addStatement("self.cached_address.cache_clear()");  
+		//
+		nMethod = newClass.addMethod("get_address_cache_info(self)"); 
+		nMethod.addStatement("return self.cached_address.cache_info()");  
+		//
+		// override of get_path_using_version to select the overlay root and bypass its stride
+		nMethod = newClass.addMethod("get_path_using_version(self, version, address_in, path_in, indices_in)"); 
+		nMethod.addStatement("for child in self.children:");
+		nMethod.addStatement("  if ((1<<version) & child.map) and (address_in >= child.offset):");
+		nMethod.addStatement("    return child.child.get_path_using_version(version, address_in - child.offset, path_in + child.child.name, indices_in)");
+		nMethod.addStatement("return {'status':'bad address'}");
 		//
 		nMethod = newClass.addMethod("get_path(self, tag, address)"); 
 		nMethod.addStatement("return self.get_path_using_tag(tag, address, '')");  
@@ -385,5 +452,44 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 	private void writeOrdtDrvRootClass() {
 		writeStmts(pyBw, rootClass.genPy());
 	}
+	
+	/** write a pytest-benchmark script comparing uncached and cached path lookups in the generated model */    
+	private void writeBenchmark(String outName, String description, String commentPrefix) {
+		File modelFile = new File(outName);
+		String modelName = modelFile.getName().replaceFirst("\\.py$", "");
+		File benchFile = new File(modelFile.getAbsoluteFile().getParentFile(), "test_" + modelName + "_bench.py");
+		BufferedWriter benchBw = openBufferedWriter(benchFile.getPath(), description + " benchmark");
+		if (benchBw == null) return;
+		writeHeader(benchBw, commentPrefix);
+		// sample of up to 256 reg paths from the base overlay
+		List<String> regPaths = new ArrayList<String>();
+		String rootName = rootInstances.get(0).instance.getName();
+		for (PathInfo pInfo: getPathInfo())
+			if ((pInfo.version == 0) && (pInfo.instance instanceof DrvModRegInstance)) regPaths.add(rootName + "." + pInfo.path.replace("[]", "[0]"));
+		int step = Math.max(1, regPaths.size() / 256);
+		writeStmt(benchBw, 0, "import pytest");
+		writeStmt(benchBw, 0, "import " + modelName);
+		writeStmt(benchBw, 0, "");
+		writeStmt(benchBw, 0, "TAG = '" + rootName + "'");
+		writeStmt(benchBw, 0, "PATHS = [");
+		for (int idx=0; idx<regPaths.size(); idx+=step) writeStmt(benchBw, 1, "'" + regPaths.get(idx) + "',");
+		writeStmt(benchBw, 0, "]");
+		writeStmt(benchBw, 0, "");
+		writeStmt(benchBw, 0, "@pytest.fixture(scope='module')");
+		writeStmt(benchBw, 0, "def root():");
+		writeStmt(benchBw, 1, "return " + modelName + ".ordt_drv_root()");
+		writeStmt(benchBw, 0, "");
+		writeStmt(benchBw, 0, "def resolve_uncached(root):");
+		writeStmt(benchBw, 1, "return [root.get_address_using_tag(TAG, pathstr, root.base_address) for pathstr in PATHS]");
+		writeStmt(benchBw, 0, "");
+		writeStmt(benchBw, 0, "def test_resolve_uncached(benchmark, root):");
+		writeStmt(benchBw, 1, "results = benchmark(resolve_uncached, root)");
+		writeStmt(benchBw, 1, "assert all(result['status'] == 'reg' for result in results)");
+		writeStmt(benchBw, 0, "");
+		writeStmt(benchBw, 0, "def test_resolve_cached(benchmark, root):");
+		writeStmt(benchBw, 1, "results = benchmark(root.get_addresses, TAG, PATHS)");
+		writeStmt(benchBw, 1, "assert results == resolve_uncached(root)");
+		closeBufferedWriter(benchBw);
+	}
 
 }
@@ -10,27 +10,42 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Stack;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import ordt.output.common.MsgUtils;
+import ordt.extract.Ordt;
 import ordt.extract.RegModelIntf;
 import ordt.extract.RegNumber;
 import ordt.extract.RegNumber.NumBase;
 import ordt.extract.RegNumber.NumFormat;
+import ordt.extract.PropertyList;
+import ordt.extract.PropertyList.PropertyValue;
+import ordt.extract.model.ModComponent;
 import ordt.extract.model.ModInstance;
 import ordt.output.InstanceProperties;
+import ordt.output.JspecCategory;
+import ordt.output.JspecSubCategory;
 import ordt.output.OutputBuilder;
 import ordt.output.RegProperties;
 import ordt.output.RhsReference;
+import ordt.output.StructuralFingerprint;
 import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals.DefSignalType;
 import ordt.output.systemverilog.common.SystemVerilogLocationMap;
 import ordt.output.systemverilog.common.SystemVerilogModule;
 import ordt.output.systemverilog.common.SystemVerilogSignal;
+import ordt.output.systemverilog.common.SystemVerilogSignalNameTable;
 import ordt.output.systemverilog.common.io.SystemVerilogIOSignalList;
 import ordt.output.systemverilog.common.io.SystemVerilogIOSignalSet;
+import ordt.output.systemverilog.common.io.SystemVerilogIOSignalSetTable;
 import ordt.output.systemverilog.common.wrap.SystemVerilogWrapModule;
+import ordt.output.systemverilog.common.wrap.WrapperRemapXform;
+import ordt.output.systemverilog.common.wrap.WrapperRemapXform.WrapperRemapType;
 import ordt.output.AddressableInstanceProperties.ExtType;
 import ordt.parameters.ExtParameters;
 import ordt.parameters.Utils;
+import ordt.parameters.ExtParameters.SVBlockSelectModes;
 import ordt.parameters.ExtParameters.SVDecodeInterfaceTypes;
 
 /**
@@ -55,8 +70,11 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	// indication that default resets are defined for this builder
 	private boolean resetsLocked = false;  // set to true before first reg instance
 	private boolean isTestBuilder = false;  // true if modules are generated for test only (eg via generate_external_regs) 
+	private boolean outputDeferred = false;  // true if child addrmap output generation is deferred until parent walk completes (parallel_child_addrmaps)
 	
 	private static ValidAddressRanges addressRanges;
+	private static SystemVerilogOutputManifest outputManifest;  // fingerprints of previous multi-file output (incremental_output)
+	private StructuralFingerprint outputFingerprint = null;  // fingerprint of inputs affecting this builder's output files
 	
 	// define io locations
 	protected static final Integer HW = SystemVerilogDefinedOrdtSignals.HW;
@@ -65,21 +83,24 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	protected static final Integer PIO = SystemVerilogDefinedOrdtSignals.PIO;
 	protected boolean usesInterfaces = false;  // detect if sv interfaces are needed  
 
+	protected SystemVerilogSignalNameTable signalNames = new SystemVerilogSignalNameTable();  // signal names shared by all modules/IO lists of this builder
+
     // define common IO lists
-	protected SystemVerilogIOSignalList cntlSigList = new SystemVerilogIOSignalList("cntl");   // clocks/resets
-	protected SystemVerilogIOSignalList hwSigList = new SystemVerilogIOSignalList("hw");     // logic/decode to/from hw
-	protected SystemVerilogIOSignalList pioSigList = new SystemVerilogIOSignalList("pio");    // pio to/from decoder
-	protected SystemVerilogIOSignalList intSigList = new SystemVerilogIOSignalList("internal");    // logic to/from decoder
+	protected SystemVerilogIOSignalList cntlSigList = new SystemVerilogIOSignalList("cntl", signalNames);   // clocks/resets
+	protected SystemVerilogIOSignalList hwSigList = new SystemVerilogIOSignalList("hw", signalNames);     // logic/decode to/from hw
+	protected SystemVerilogIOSignalList pioSigList = new SystemVerilogIOSignalList("pio", signalNames);    // pio to/from decoder
+	protected SystemVerilogIOSignalList intSigList = new SystemVerilogIOSignalList("internal", signalNames);    // logic to/from decoder
 	
 	// module defines  
 	protected SystemVerilogDecodeModule decoder = new SystemVerilogDecodeModule(this, DECODE, decodeClk);
 	protected SystemVerilogLogicModule logic = new SystemVerilogLogicModule(this, LOGIC, logicClk);
-	protected SystemVerilogModule top = new SystemVerilogModule(this, 0, defaultClk, getDefaultReset(), ExtParameters.sysVerUseAsyncResets());
+	protected SystemVerilogModule top = new SystemVerilogModule(this, 0, defaultClk, getDefaultReset(), ExtParameters.sysVerUseAsyncResets(), signalNames);
 	
 	private  List<String> tempAssignList = new ArrayList<String>();    // temp list of assign statements for current register (used in finishReg)
 
 	// child address maps
 	protected List<SystemVerilogBuilder> childAddrMaps = new ArrayList<SystemVerilogBuilder>();
+	private List<SystemVerilogBuilder> deferredChildBuilders = new ArrayList<SystemVerilogBuilder>();  // deferred child builders in creation order (includes unlisted maps)
 		
 	private  RegProperties topRegProperties;  // register properties at first call of this SystemVerilogBuilder (for i/f name generation)
 
@@ -99,7 +120,14 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		decoder.setPrimaryInterfaceType(ExtParameters.getSysVerRootDecoderInterface()); // set root pio interface type from specified params
 		RhsReference.setInstancePropertyStack(instancePropertyStack);  // update pointer to the instance stack for rhs reference evaluation
 		SystemVerilogDefinedOrdtSignals.initDefinedSignalMap();  // load the mapping of pre-defined systemverilog signals
+		if (useIncrementalOutput()) inputFingerprint = new StructuralFingerprint.Builder();  // track extract inputs for change detection
+		if (deferChildOutput(false)) registerCategories(model.getRoot(), new HashSet<ModComponent>());  // fix category encodings before children are built concurrently
 		model.getRoot().generateOutput(null, this);   // generate output structures recursively starting at model root
+		// if child addrmap generation was deferred, build the children concurrently and restore serial builder id order
+		if (deferChildOutput(false)) {
+			generateDeferredChildAddrMaps();
+			renumberChildBuilders(getBuilderID() + 1);
+		}
 	}
 	
 	// constructor for addressmap children
@@ -144,8 +172,25 @@ public class SystemVerilogBuilder extends OutputBuilder {
 			else if (width == 16) decoder.setPrimaryInterfaceType(SVDecodeInterfaceTypes.RING16); 
 			else if (width == 32) decoder.setPrimaryInterfaceType(SVDecodeInterfaceTypes.RING32); 			
 		}
+		// if incremental output, track extract inputs of this builder starting with its ancestor instances
+		if (parentBuilder.inputFingerprint != null) {
+			inputFingerprint = new StructuralFingerprint.Builder();
+			for (InstanceProperties inst: instancePropertyStack) inputFingerprint.add(inst.getInputFingerprint());
+			inputFingerprint.add(topRegProperties.getInputFingerprint());
+		}
+		// if parallel child generation is enabled, defer output generation until parent walk is complete
+		if (parentBuilder.deferChildOutput(isTestModule)) {
+			outputDeferred = true;
+			parentBuilder.deferredChildBuilders.add(this);
+			return;
+		}
 		RhsReference.setInstancePropertyStack(instancePropertyStack);  // update pointer to the instance stack for rhs reference evaluation
-
+		generateChildMapOutput();
+		RhsReference.setInstancePropertyStack(parentBuilder.instancePropertyStack);  // restore pointer to the parent instance stack
+	}
+	
+	/** generate output structures for a child addrmap builder starting at its root regmap */
+	private void generateChildMapOutput() {
 	    // now generate output starting at this regmap
 		//System.out.println("SystemVerilogBuilder: pre generate - regset inst id=" + regSetProperties.getId() + ", ext=" + regSetProperties.getExternalType() + ", amap=" + regSetProperties.isAddressMap() + ", inst stack top=" + instancePropertyStack.peek().getId());
 		//System.out.println("SystemVerilogBuilder: pre generate - topreg inst id=" + topRegProperties.getId() + ", ext=" + topRegProperties.getExternalType() + ", builderID=" + getBuilderID());
@@ -156,7 +201,80 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	    this.regSetProperties.setExternalType(topRegProperties.getExternalType()); // restore parent ext type now that child gen is complete
 		//System.out.println("SystemVerilogBuilder: post generate - regset inst id=" + regSetProperties.getId() + ", ext=" + regSetProperties.getExternalType() + ", amap=" + regSetProperties.isAddressMap() + ", inst stack top=" + instancePropertyStack.peek().getId());
 		//System.out.println("SystemVerilogBuilder: post generate - topreg inst id=" + topRegProperties.getId() + ", ext=" + topRegProperties.getExternalType()+ ", builderID=" + getBuilderID());
-		RhsReference.setInstancePropertyStack(parentBuilder.instancePropertyStack);  // restore pointer to the parent instance stack
+	}
+	
+	/** return true if output generation of child addrmap builders created by this builder should be deferred so children 
+	 *  can be generated concurrently.  Gated logic clock enables use builder ids during generation, and external block select 
+	 *  and exported start/end addresses use the shared valid address range list, so these are always built serially.
+	 * @param isTestModule - true if the child builder is for test only */
+	private boolean deferChildOutput(boolean isTestModule) {
+		return ExtParameters.sysVerParallelChildAddrmaps() && !ExtParameters.systemverilogUseGatedLogicClk() && 
+			   (ExtParameters.getSystemverilogBlockSelectMode() != SVBlockSelectModes.EXTERNAL) && !ExtParameters.systemverilogExportStartEnd() &&
+			   !isTestModule && !isTestBuilder();
+	}
+	
+	/** walk the model in instance order and encode all category/sub_category values so that encodings of unknown 
+	 *  values do not depend on the completion order of concurrently generated child addrmaps
+	 * @param comp - component to be walked
+	 * @param visited - set of components that have already been walked */
+	private static void registerCategories(ModComponent comp, HashSet<ModComponent> visited) {
+		if (!visited.add(comp)) return;
+		registerCategories(comp.getProperties());
+		registerCategories(comp.getDefaultProperties());
+		for (PropertyList pList: comp.getPostPropertyAssignLists().getSortedParmLists()) registerCategories(pList.getProperties());
+		for (ModInstance inst: comp.getChildInstances()) {
+			registerCategories(inst.getProperties());
+			registerCategories(inst.getDefaultProperties());
+			if (inst.getRegComp() != null) registerCategories(inst.getRegComp(), visited);
+		}
+	}
+	
+	/** encode category/sub_category values in a property map */
+	private static void registerCategories(HashMap<String, PropertyValue> properties) {
+		if (properties == null) return;
+		if (properties.containsKey("category")) new JspecCategory(properties.get("category").getValue());
+		if (properties.containsKey("sub_category")) new JspecSubCategory(properties.get("sub_category").getValue());
+	}
+	
+	/** generate output for a deferred child addrmap builder and then for its own deferred children */
+	private void generateDeferredOutput() {
+		Stack<InstanceProperties> savedStack = RhsReference.getInstancePropertyStack();
+		RhsReference.setInstancePropertyStack(instancePropertyStack);  // update pointer to the instance stack for rhs reference evaluation
+		generateChildMapOutput();
+		RhsReference.setInstancePropertyStack(savedStack);
+		generateDeferredChildAddrMaps();
+	}
+	
+	/** generate all deferred child addrmap builders as fork-join tasks.  Each child only uses its own subtree and the
+	 *  state captured when it was created, so children can be built in any order.
+	 *  Shared statics that concurrently running child builders may touch:
+	 *  <ul>
+	 *  <li>addressRanges - valid address range list (addGap is synchronized and keeps gaps address ordered)</li>
+	 *  <li>OutputBuilder.nextBuilderID - atomic, child ids are reassigned in creation order by renumberChildBuilders</li>
+	 *  <li>RhsReference.activeInstanceStack - thread local</li>
+	 *  <li>MsgUtils.returnCode - atomic</li>
+	 *  <li>JspecCategory/JspecSubCategory maps - synchronized, and pre-populated by registerCategories</li>
+	 *  <li>WrapperRemapSyncStagesXform.instanceCount - atomic (only used in wrapper output)</li>
+	 *  <li>legacyVerilog, decodeClk, logicClk, SystemVerilogDefinedSignalMap, SystemVerilogLocationMap - read only during generation</li>
+	 *  <li>outputManifest - only used in the write stage, after all children complete</li>
+	 *  </ul> */
+	private void generateDeferredChildAddrMaps() {
+		List<ChildAddrMapTask> tasks = new ArrayList<ChildAddrMapTask>();
+		for (SystemVerilogBuilder childBuilder: childAddrMaps) {
+			if (childBuilder.outputDeferred) tasks.add(new ChildAddrMapTask(childBuilder));
+		}
+		if (!tasks.isEmpty()) ForkJoinTask.invokeAll(tasks);
+	}
+	
+	/** recursively reassign deferred child builder ids in creation order (matches the order of serial generation)
+	 * @param nextID - id of first child builder
+	 * @return next available id */
+	private int renumberChildBuilders(int nextID) {
+		for (SystemVerilogBuilder childBuilder: deferredChildBuilders) {
+			childBuilder.setBuilderID(nextID++);
+			nextID = childBuilder.renumberChildBuilders(nextID);
+		}
+		return nextID;
 	}
 	
 	/** initialize signal lists used by generated modules 
@@ -333,8 +451,10 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		   // if register has an interrupt output then create it
 		   if (regProperties.hasInterruptOutputDefined()) {
 			   hwSigList.addScalar(DefSignalType.L2H_INTR);    // add intr output signal  
-		       // if pulse on clear is set then qualify intr output with clear detect signal
-		       if (ExtParameters.sysVerPulseIntrOnClear()) {
+			   // if using an or tree then generate intr output from saved field terms (clear qualification is added in the tree)
+			   if (SystemVerilogLogicModule.useIntrOrTree()) logic.genInterruptOrTree();
+		       // otherwise if pulse on clear is set then qualify intr output with clear detect signal
+		       else if (ExtParameters.sysVerPulseIntrOnClear()) {
 				   String intrOutput = regProperties.getFullSignalName(DefSignalType.L2H_INTR);
 				   String intrClear = regProperties.getFullSignalName(DefSignalType.INTR_CLEAR);  // interrupt clear detect signal
 			       logic.addPrecCombinAssign(regProperties.getBaseName(), false, intrOutput + " = " + intrOutput + " & ~" + intrClear + ";");  // qualify output with clear
@@ -440,6 +560,7 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		   SystemVerilogBuilder childVerilog = new SystemVerilogBuilder(this, false); // inherit some parent properties 
 		   //System.out.println("SystemVerilogBuilder addNonRootExternalAddressMap: regset=" + regSetProperties.getInstancePath() + ", mod prefix=" + modulePrefix + ", bId=" + getBuilderID() + ", mlevel=" + currentMapLevel() + ", testModule=" + isTestBuilder());  
 		   if (currentMapLevel() < 3) childAddrMaps.add(childVerilog);  // only add to child list if no other map is in parent hierarchy
+		   else if (childVerilog.outputDeferred) childVerilog.generateDeferredOutput();  // unlisted maps are still generated in place
 	}
 
 	/** add a register set for a particular output */
@@ -493,6 +614,11 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		else logic.addReset(defaultReset, defaultResetActiveLow);
 	}
 
+	/** return the signal name table shared by modules of this builder */
+	public SystemVerilogSignalNameTable getSignalNameTable() {
+		return signalNames;
+	}
+
 	/** return the default reset name */
 	public String getDefaultReset() {
 		return defaultReset;
@@ -658,6 +784,21 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		
 	//---------------------------- inner classes ----------------------------------------
 	
+	/** fork-join task that generates a deferred child addrmap builder */
+	private static class ChildAddrMapTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final SystemVerilogBuilder childBuilder;
+		
+		public ChildAddrMapTask(SystemVerilogBuilder childBuilder) {
+			this.childBuilder = childBuilder;
+		}
+
+		@Override
+		protected void compute() {
+			childBuilder.generateDeferredOutput();
+		}
+	}
+	
 	/** class to hold valid address ranges for this builder */
 	public class ValidAddressRanges {
 		List<AddressRange> ranges = new ArrayList<AddressRange>();
@@ -671,11 +812,28 @@ public class SystemVerilogBuilder extends OutputBuilder {
 			ranges.add(new AddressRange(start, null));  // end is set to null until list is processed
 		}
 		
-		/** add a gap to the valid ranges */
-		public void addGap(RegNumber gapStart, RegNumber gapSize, String instName) {
+		/** add a gap to the valid ranges.  Gaps from concurrently generated child builders may arrive
+		 *  out of address order, so the gap list is kept sorted by start address and the valid ranges
+		 *  are rebuilt from it whenever a gap is not added at the end of the list. */
+		public synchronized void addGap(RegNumber gapStart, RegNumber gapSize, String instName) {
+			// compute gap end and save the gap info in start address order
+			RegNumber newStart = new RegNumber(gapStart);
+			newStart.add(gapSize);
+			RegNumber gapEnd = new RegNumber(newStart); // gapStart+gapSize
+			gapEnd.subtract(new RegNumber(1));
+			int gapIdx = gaps.size();
+			while ((gapIdx > 0) && gaps.get(gapIdx - 1).getStart().isGreaterThan(gapStart)) gapIdx--;
+			gaps.add(gapIdx, new NamedAddressRange(gapStart, gapEnd, instName));
+			// if gap is not last, rebuild the valid ranges from the sorted gap list
+			if (gapIdx < gaps.size() - 1) {
+				rebuildRanges();
+				return;
+			}
 			// get the last valid range
 			int idx = ranges.size() - 1;
 			AddressRange lastRange = ranges.get(idx);
+			// if gap overlaps a prior gap, valid range resumes after the later end
+			if (lastRange.getStart().isGreaterThan(newStart)) return;
 			// set the new range end to gapstart-1
 			if (gapStart.isGreaterThan(lastRange.getStart())) {
 				RegNumber newEnd = new RegNumber(gapStart);
@@ -684,13 +842,24 @@ public class SystemVerilogBuilder extends OutputBuilder {
 			}
 			else ranges.remove(idx);  // otherwise this range is gone
 			// add a new range at end of list w/ start = gapend + 1
-			RegNumber newStart = new RegNumber(gapStart);
-			newStart.add(gapSize);
 			ranges.add(new AddressRange(newStart, null));
-			// compute gap end and save the gap info
-			RegNumber gapEnd = new RegNumber(newStart); // gapStart+gapSize
-			gapEnd.subtract(new RegNumber(1));
-			gaps.add(new NamedAddressRange(gapStart, gapEnd, instName));
+		}
+		
+		/** recompute the valid ranges as the complement of the sorted gap list (overlapping gaps are merged) */
+		private void rebuildRanges() {
+			ranges.clear();
+			RegNumber start = new RegNumber(0);
+			for (NamedAddressRange gap : gaps) {
+				if (gap.getStart().isGreaterThan(start)) {
+					RegNumber end = new RegNumber(gap.getStart());
+					end.subtract(new RegNumber(1));
+					ranges.add(new AddressRange(start, end));
+				}
+				RegNumber nextStart = new RegNumber(gap.getEnd());
+				nextStart.add(new RegNumber(1));
+				if (nextStart.isGreaterThan(start)) start = nextStart;
+			}
+			ranges.add(new AddressRange(start, null));  // end is set to null until list is processed
 		}
 		
 		/** return size of the valid range list */
@@ -832,41 +1001,22 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	   	    saveDir.mkdirs();   // make sure directory exists
 	   	    String extension = legacyVerilog? ".v" : ".sv";
 	   	    
-			// write the top level module
-			writeModuleToFile(top, outName + getModuleName() + "_pio" + extension, description, commentPrefix);
-
-			// write the logic module
-			logic.setInhibitCoverageOutput(ExtParameters.sysVerGenerateDvBindModules());  // no coverpoints output if using bind modules
-			writeModuleToFile(logic, outName + getModuleName() + "_jrdl_logic" + extension, description, commentPrefix);
-			
-			// write the decode module
-			writeModuleToFile(decoder, outName + getModuleName() + "_jrdl_decode" + extension, description, commentPrefix);
-			
-			// if IO interfaces are used, generate the interfaces and wrapper
-			if ((usesInterfaces || ExtParameters.sysVerGenerateWrapperModule()) && !legacyVerilog) {
-				writeWrapperEncapDefines(outName, getModuleName() + "_pio_interfaces.sv", description, commentPrefix);
-				writeTopWrapperModules(true, true, outName, getModuleName() + "_pio_iwrap", ".sv", description, commentPrefix);
-			}
-			// verilog wrapper
-			else if (ExtParameters.sysVerGenerateWrapperModule() && legacyVerilog) {
-				writeTopWrapperModules(false, true, outName, getModuleName() + "_pio_iwrap", ".v", description, commentPrefix);
-				//System.out.println("SystemVerilogBuilder write:   ExtParameters.sysVerilogAlwaysGenerateIwrap()= " + ExtParameters.sysVerilogAlwaysGenerateIwrap());
-			}
-			
-			// write dv bind modules
-			if (ExtParameters.sysVerGenerateDvBindModules() && !legacyVerilog) {
-				SystemVerilogModule intrBindMod = logic.createIntrBindModule();
-				writeModuleToFile(intrBindMod, outName + getModuleName() + "_jrdl_logic_intr_bind.sv", description, commentPrefix);
-				// create a coverage bind file
-				SystemVerilogModule coverBindMod = logic.createCoverBindModule();
-				if (coverBindMod != null) writeModuleToFile(coverBindMod, outName + getModuleName() + "_jrdl_logic_cover_bind.sv", description, commentPrefix);
-			}
+	   	    // if incremental output, load fingerprints of the previous run and skip files of this builder if unchanged
+	   	    if (isBaseBuilder()) outputManifest = useIncrementalOutput()? new SystemVerilogOutputManifest(outName) : null;
+	   	    StructuralFingerprint outputFingerprint = (outputManifest != null)? getOutputFingerprint(outName, description, commentPrefix) : null;
+	   	    if ((outputFingerprint != null) && outputManifest.isUnchanged(getModuleName(), outputFingerprint) && moduleFilesExist(outName, extension))
+	   	    	MsgUtils.infoMessage("Skipping write of unchanged " + description + " files for module " + getModuleName());
+	   	    else writeModuleFiles(outName, extension, description, commentPrefix);
+	   	    if (outputFingerprint != null) outputManifest.update(getModuleName(), outputFingerprint);
 			
 			// loop through nested addrmaps and write these VerilogBuilders
 			for (SystemVerilogBuilder childBuilder: childAddrMaps) {
 				//System.out.println("--- VerilogBuilder - writing child");
 				childBuilder.write(outName, description, commentPrefix);
-			}		
+			}
+			
+			// save fingerprints for the next run
+			if (isBaseBuilder() && (outputManifest != null)) outputManifest.save();
 		}	
 		// otherwise just use single file
 		else {
@@ -886,6 +1036,106 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		}
 	}
 	
+	/** return true if multi-file output should skip rewrite of files for unchanged child addrmaps.  Sync stage wrapper 
+	 *  xform instances are numbered across all wrappers, so incremental output is not used if these are specified */
+	private static boolean useIncrementalOutput() {
+		if (!ExtParameters.sysVerIncrementalOutput()) return false;
+		for (WrapperRemapXform xform: ExtParameters.sysVerWrapperXformMap().values())
+			if (xform.getType() == WrapperRemapType.SYNC_STAGES) return false;
+		return true;
+	}
+	
+	/** return a fingerprint of all inputs affecting the multi-file output of this builder.  Parent modules instance
+	 *  child addrmap interfaces, so fingerprints of child builders are included.  Input and parameter file names 
+	 *  are included so skipped files never keep a stale file header.
+	 * @param outName - output directory
+	 * @param description - text description of file generated
+	 * @param commentPrefix - comment chars for this file type */
+	private StructuralFingerprint getOutputFingerprint(String outName, String description, String commentPrefix) {
+		if (outputFingerprint == null) {
+			StructuralFingerprint.Builder fp = new StructuralFingerprint.Builder();
+			fp.add(Ordt.getVersion()).add(ExtParameters.getParameterFingerprint());
+			fp.add(model.getOrdtInputFile());
+			for (String parmFile: ExtParameters.getParmFiles()) fp.add(parmFile);
+			fp.add(outName).add(description).add(commentPrefix).add(legacyVerilog);
+			fp.add(getModuleName()).add(getBuilderID()).add(getBaseAddress().toString());
+			fp.add(inputFingerprint.build());
+			for (SystemVerilogBuilder childBuilder: childAddrMaps) fp.add(childBuilder.getOutputFingerprint(outName, description, commentPrefix));
+			outputFingerprint = fp.build();
+		}
+		return outputFingerprint;
+	}
+	
+	/** return true if all files written by writeModuleFiles for this builder exist in the output directory.  Wrapper 
+	 *  xform modules are shared by all wrappers and written by the first one using them, so builders generating 
+	 *  wrappers are always rewritten if wrapper xforms are specified */
+	private boolean moduleFilesExist(String outName, String extension) {
+		List<String> fileNames = new ArrayList<String>();
+		fileNames.add(getModuleName() + "_pio" + extension);
+		fileNames.add(getModuleName() + "_jrdl_logic" + extension);
+		fileNames.add(getModuleName() + "_jrdl_decode" + extension);
+		// interfaces and wrapper
+		boolean writesWrapper = false;
+		if ((usesInterfaces || ExtParameters.sysVerGenerateWrapperModule()) && !legacyVerilog) {
+			if (ExtParameters.sysVerSeparateIwrapEncapFiles()) {
+				for (SystemVerilogIOSignalSet sset : getWrapperEncapSignalSets()) fileNames.add(sset.getType() + ".sv");
+			}
+			else fileNames.add(getModuleName() + "_pio_interfaces.sv");
+			fileNames.add(getModuleName() + "_pio_iwrap.sv");
+			writesWrapper = true;
+		}
+		else if (ExtParameters.sysVerGenerateWrapperModule() && legacyVerilog) {
+			fileNames.add(getModuleName() + "_pio_iwrap.v");
+			writesWrapper = true;
+		}
+		if (writesWrapper && ExtParameters.sysVerGenerateIwrapXformModules() && !ExtParameters.sysVerWrapperXformMap().isEmpty()) return false;
+		// dv bind modules
+		if (ExtParameters.sysVerGenerateDvBindModules() && !legacyVerilog) {
+			fileNames.add(getModuleName() + "_jrdl_logic_intr_bind.sv");
+			if (!logic.getCoverGroups().isEmpty()) fileNames.add(getModuleName() + "_jrdl_logic_cover_bind.sv");
+		}
+		for (String fileName: fileNames) 
+			if (!new File(outName + fileName).isFile()) return false;
+		return true;
+	}
+	
+	/** write the top, logic, decode, wrapper and bind files of this builder in multiple file output mode  
+	 * @param outName - output directory
+	 * @param extension - verilog file extension
+	 * @param description - text description of file generated
+	 * @param commentPrefix - comment chars for this file type */
+	private void writeModuleFiles(String outName, String extension, String description, String commentPrefix) {
+		// write the top level module
+		writeModuleToFile(top, outName + getModuleName() + "_pio" + extension, description, commentPrefix);
+
+		// write the logic module
+		logic.setInhibitCoverageOutput(ExtParameters.sysVerGenerateDvBindModules());  // no coverpoints output if using bind modules
+		writeModuleToFile(logic, outName + getModuleName() + "_jrdl_logic" + extension, description, commentPrefix);
+		
+		// write the decode module
+		writeModuleToFile(decoder, outName + getModuleName() + "_jrdl_decode" + extension, description, commentPrefix);
+		
+		// if IO interfaces are used, generate the interfaces and wrapper
+		if ((usesInterfaces || ExtParameters.sysVerGenerateWrapperModule()) && !legacyVerilog) {
+			writeWrapperEncapDefines(outName, getModuleName() + "_pio_interfaces.sv", description, commentPrefix);
+			writeTopWrapperModules(true, true, outName, getModuleName() + "_pio_iwrap", ".sv", description, commentPrefix);
+		}
+		// verilog wrapper
+		else if (ExtParameters.sysVerGenerateWrapperModule() && legacyVerilog) {
+			writeTopWrapperModules(false, true, outName, getModuleName() + "_pio_iwrap", ".v", description, commentPrefix);
+			//System.out.println("SystemVerilogBuilder write:   ExtParameters.sysVerilogAlwaysGenerateIwrap()= " + ExtParameters.sysVerilogAlwaysGenerateIwrap());
+		}
+		
+		// write dv bind modules
+		if (ExtParameters.sysVerGenerateDvBindModules() && !legacyVerilog) {
+			SystemVerilogModule intrBindMod = logic.createIntrBindModule();
+			writeModuleToFile(intrBindMod, outName + getModuleName() + "_jrdl_logic_intr_bind.sv", description, commentPrefix);
+			// create a coverage bind file
+			SystemVerilogModule coverBindMod = logic.createCoverBindModule();
+			if (coverBindMod != null) writeModuleToFile(coverBindMod, outName + getModuleName() + "_jrdl_logic_cover_bind.sv", description, commentPrefix);
+		}
+	}
+	
 	/** write module statements to specified output file.  File is opened/created on entry and closed on return.  
 	 * @param outName - output file or directory
 	 * @param description - text description of file generated
@@ -972,7 +1222,7 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	 */
 	protected  SystemVerilogWrapModule createTopWrapperModule(boolean useInterfaces) {	
 		int WRAPPER = SystemVerilogLocationMap.getId("WRAPPER");
-		SystemVerilogWrapModule intfWrapper = new SystemVerilogWrapModule(this, WRAPPER, defaultClk, getDefaultReset(), ExtParameters.sysVerUseAsyncResets());
+		SystemVerilogWrapModule intfWrapper = new SystemVerilogWrapModule(this, WRAPPER, defaultClk, getDefaultReset(), ExtParameters.sysVerUseAsyncResets(), signalNames);
 		intfWrapper.setName(getModuleName() + "_pio_iwrap");
 		intfWrapper.setUseInterfaces(useInterfaces);
 		// add pio_top instance
@@ -1036,12 +1286,8 @@ public class SystemVerilogBuilder extends OutputBuilder {
 
 	/** write out the interface/struct defines using separate files */
 	private void writeSeparateWrapperEncapDefines(String outDirName, String description, String commentPrefix) {
-		// get a list of all sv interfaces to be defined
-		List<SystemVerilogIOSignalSet> sigSets = hwSigList.getNonVirtualSignalSets(true);		
-		// uniquify structure names if reuse option enabled (remove from sigSets list if a dup)
-		if (ExtParameters.sysVerReuseIwrapStructures()) sigSets = uniquifyWrapperEncaps(sigSets);
 		// now write the defines to separate files
-		for (SystemVerilogIOSignalSet sset : sigSets) {
+		for (SystemVerilogIOSignalSet sset : getWrapperEncapSignalSets()) {
 	    	BufferedWriter bw = openBufferedWriter(outDirName + sset.getType() + ".sv", description);
 	    	if (bw != null) {
 	    		// set bw as default
@@ -1057,25 +1303,31 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	
 	/** write out the interface/struct defines */
 	protected  void writeWrapperEncapDefines() {
-		// get a list of all sv interfaces to be defined
+		// now write the defines
+		for (SystemVerilogIOSignalSet sset : getWrapperEncapSignalSets()) writeIOSignalSetDefine(sset);
+	}
+
+	/** return the list of all sv interfaces/structures to be defined */
+	private List<SystemVerilogIOSignalSet> getWrapperEncapSignalSets() {
 		List<SystemVerilogIOSignalSet> sigSets = hwSigList.getNonVirtualSignalSets(true);		
 		// uniquify structure names if reuse option enabled (remove from sigSets list if a dup)
 		if (ExtParameters.sysVerReuseIwrapStructures()) sigSets = uniquifyWrapperEncaps(sigSets);
-		// now write the defines
-		for (SystemVerilogIOSignalSet sset : sigSets) writeIOSignalSetDefine(sset);
+		return sigSets;
 	}
 
 	/** uniquify structure names if reuse option enabled (remove from sigSets list if a dup) */
 	private List<SystemVerilogIOSignalSet> uniquifyWrapperEncaps(List<SystemVerilogIOSignalSet> sigSets) {
 		//System.out.println("SystemVerilogBuilder writeInterfaces: found " + sigSets.size() + " structures");
-		HashMap<SystemVerilogIOSignalSet, String> uniqueStructures = new HashMap<SystemVerilogIOSignalSet, String>();
+		SystemVerilogIOSignalSetTable structureTable = new SystemVerilogIOSignalSetTable();  // hash-consed structure ids
+		HashMap<Integer, String> uniqueStructures = new HashMap<Integer, String>();  // type of each unique structure by id
 		HashSet<String> uniqueCompIds = new HashSet<String>();
 		Iterator<SystemVerilogIOSignalSet> it = sigSets.iterator();
 		while(it.hasNext()) {
 			SystemVerilogIOSignalSet sset = it.next();
+			Integer structureId = structureTable.getId(sset);
 			// if a duplicate of an existing structure, use the existing structure's type
-			if (uniqueStructures.containsKey(sset)) {
-				sset.setType(uniqueStructures.get(sset));  // replace type for this sigset
+			if (uniqueStructures.containsKey(structureId)) {
+				sset.setType(uniqueStructures.get(structureId));  // replace type for this sigset
 				it.remove();  // remove this sigset from the list needing defines
 				//System.out.println("   " + sset.getType() + " is a dup of compId=" + uniqueStructures.get(sset));
 			}
@@ -1083,7 +1335,7 @@ public class SystemVerilogBuilder extends OutputBuilder {
 			else {
 				String newType = sset.getCompIdType(); // get structure name based on component id
 				String uniqueType = ((sset.getCompId()!=null) && !uniqueCompIds.contains(newType))? newType : sset.getType();  // use newType if it is unique
-				uniqueStructures.put(sset, uniqueType);
+				uniqueStructures.put(structureId, uniqueType);
 				uniqueCompIds.add(uniqueType);  // save the new structure name to insure it isnt reused
 				sset.setType(uniqueType);  // replace type for this sigset
 				//System.out.println("   " + sset.getType() + " is new, compId=" + uniqueType);
@@ -43,11 +43,16 @@ public class SystemVerilogDefinedOrdtSignals extends SystemVerilogDefinedSignalM
 
 	private static HashMap<String, DefSignalType> rhsSigSet = initRhsSignals();  // set of signal types allowed in rhs assign by deref
 		
+	/** create the field register signal definition (also used by non-rtl outputs that need rtl field register names) */
+	public static SystemVerilogDefinedSignal createFieldSignal() {
+		return new SystemVerilogDefinedSignal(LOGIC, LOGIC, "rg_", null, "comp_type", "FIELD");
+	}
+		
 	/** load the defined signal map */
 	protected static void initDefinedSignalMap() {
         clearMap();
 		
-		addDefinedSignal(DefSignalType.FIELD, new SystemVerilogDefinedSignal(LOGIC, LOGIC, "rg_", null, "comp_type", "FIELD"));
+		addDefinedSignal(DefSignalType.FIELD, createFieldSignal());
 		addDefinedSignal(DefSignalType.FIELD_NEXT, new SystemVerilogDefinedSignal(LOGIC, LOGIC, "reg_", "next", "comp_type", "FIELD"));
 		
 		addDefinedSignal(DefSignalType.L2H_DATA, new SystemVerilogDefinedSignal(LOGIC, HW, "l2h_", "r", "comp_type", "FIELD"));
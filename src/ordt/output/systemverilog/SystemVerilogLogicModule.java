@@ -5,8 +5,10 @@ package ordt.output.systemverilog;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 
+import ordt.output.common.CoveragePolicy.CoverageSettings;
 import ordt.output.common.MsgUtils;
 import ordt.extract.RegNumber;
 import ordt.extract.RegNumber.NumBase;
@@ -44,7 +46,7 @@ import ordt.parameters.ExtParameters;
 
  */
 public class SystemVerilogLogicModule extends SystemVerilogModule {
-	private HashMap<String, SignalProperties> userDefinedSignals = new HashMap<String, SignalProperties>();  // all user defined signals in current addrmap module / only valid after generate
+	private LinkedHashMap<String, SignalProperties> userDefinedSignals = new LinkedHashMap<String, SignalProperties>();  // all user defined signals in current addrmap module (in order added) / only valid after generate
 	private HashMap<String, RhsReferenceInfo> rhsSignals = new HashMap<String, RhsReferenceInfo>();  // all right hand side assignment references in module (used to create usable error messages)
 
 	private FieldProperties fieldProperties;
@@ -52,9 +54,10 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 	protected SystemVerilogBuilder builder;  // builder creating this module
 	
 	protected List<IntrDiagInfo> intrInfoList = new ArrayList<IntrDiagInfo>();  // saved list of interrupt signal info for diagnostic module gen
+	private List<String> intrOutputTerms = new ArrayList<String>();  // field terms of current register intr output (used if generating an or tree)
 	
 	public SystemVerilogLogicModule(SystemVerilogBuilder builder, int insideLocs, String defaultClkName) {
-		super(builder, insideLocs, defaultClkName, builder.getDefaultReset(), ExtParameters.sysVerUseAsyncResets());
+		super(builder, insideLocs, defaultClkName, builder.getDefaultReset(), ExtParameters.sysVerUseAsyncResets(), builder.getSignalNameTable());
 		this.builder = builder;  // save reference to calling builder
 	}
 	
@@ -138,7 +141,7 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 			   else if (fieldProperties.hasRef(RhsRefType.RESET_SIGNAL)) {
 				   resetSignalActiveLow = false;  // user defined resets are active high 
 				   resetSignalName = resolveRhsExpression(RhsRefType.RESET_SIGNAL);
-				   if (!(definedSignals.contains(resetSignalName) || userDefinedSignals.containsKey(resetSignalName)))
+				   if (!(hasDefinedSignal(resetSignalName) || userDefinedSignals.containsKey(resetSignalName)))
 					   MsgUtils.errorMessage("reset signal " + resetSignalName + " for field " + fieldProperties.getInstancePath() + " has not been defined");
 			   }
 			   addReset(resetSignalName, resetSignalActiveLow);
@@ -370,7 +373,9 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 		   if (!regProperties.hasInterruptOutputDefined()) {
 			   regProperties.setHasInterruptOutputDefined(true);
 			   addScalarReg(intrOutput);
-		       addPrecCombinAssign(regProperties.getBaseName(), hwPrecedence, intrOutput + " = 1'b0;");  // default to intr off
+			   // if using an or tree, output is assigned from saved field terms in genInterruptOrTree
+			   if (useIntrOrTree()) intrOutputTerms.clear();
+			   else addPrecCombinAssign(regProperties.getBaseName(), hwPrecedence, intrOutput + " = 1'b0;");  // default to intr off
 		       // if pulse on clear is set then add clear detect signal
 		       if (ExtParameters.sysVerPulseIntrOnClear()) {
 				   addScalarReg(intrClear);
@@ -452,7 +457,8 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 		   if (fieldWidth > 1) {
 			   orStr = " | ( | (";  endStr = "));";  // use or reduction
 		   }
-	       addPrecCombinAssign(regProperties.getBaseName(), hwPrecedence, intrOutput + " = " + intrOutput  + orStr + fieldRegisterName + intrOutputModifier + endStr);
+		   if (useIntrOrTree()) intrOutputTerms.add(((fieldWidth > 1)? "(|(" : "(") + fieldRegisterName + intrOutputModifier + ((fieldWidth > 1)? "))" : ")"));
+		   else addPrecCombinAssign(regProperties.getBaseName(), hwPrecedence, intrOutput + " = " + intrOutput  + orStr + fieldRegisterName + intrOutputModifier + endStr);
 	       // if pulse on clear is set then create delayed intr value and add to clear detect signal
 	       if (ExtParameters.sysVerPulseIntrOnClear()) {
 			   String intrDlyName = fieldProperties.getFullSignalName(DefSignalType.INTR_DLY); 	   
@@ -476,6 +482,79 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 		       addPrecCombinAssign(regProperties.getBaseName(), hwPrecedence, haltOutput + " = " + haltOutput + orStr + fieldRegisterName + endStr);
 	}
 	
+
+	/** return true if register interrupt outputs are generated as balanced or trees */
+	public static boolean useIntrOrTree() {
+		return ExtParameters.sysVerIntrOrTreeFanIn() > 1;
+	}
+
+	/** generate the interrupt output of the current register as a balanced or tree of the saved field terms.
+	 *  Each tree node ors at most intr_or_tree_fanin inputs and intr_or_tree_stages pipeline stages are distributed
+	 *  evenly over the tree levels, so all interrupt outputs are delayed by the same number of clocks.  If pulse_intr_on_clear 
+	 *  is set, the clear detect is delayed by the same number of stages before qualifying the output.  Since each register
+	 *  output is delayed, a cascaded interrupt is delayed by intr_or_tree_stages clocks at each level of the cascade */
+	public void genInterruptOrTree() {
+		String regBaseName = regProperties.getBaseName();
+		String intrOutput = regProperties.getFullSignalName(DefSignalType.L2H_INTR);
+		int fanIn = ExtParameters.sysVerIntrOrTreeFanIn();
+		int stages = ExtParameters.sysVerIntrOrTreeStages();
+		// compute the number of tree levels
+		int levels = 0;
+		for (int inputs = intrOutputTerms.size(); inputs > 1; inputs = (inputs + fanIn - 1) / fanIn) levels++;
+		List<String> inputs = new ArrayList<String>(intrOutputTerms);
+		if (inputs.isEmpty()) inputs.add("1'b0");
+		// if a single term, all stages are added to the output
+		if ((levels == 0) && (stages > 0)) inputs.set(0, addIntrOrTreeNode("intr_" + regBaseName + "_or", inputs.get(0), stages));
+		// build each level, spreading inputs evenly over the minimum number of nodes
+		for (int level = 1; level <= levels; level++) {
+			int levelStages = (level * stages) / levels - ((level - 1) * stages) / levels;
+			int nodes = (inputs.size() + fanIn - 1) / fanIn;
+			List<String> outputs = new ArrayList<String>();
+			for (int node = 0; node < nodes; node++) {
+				String expr = String.join(" | ", inputs.subList((node * inputs.size()) / nodes, ((node + 1) * inputs.size()) / nodes));
+				boolean isRoot = (level == levels);
+				// root node is assigned directly to the intr output if no stages
+				if (isRoot && (levelStages == 0)) outputs.add(expr);
+				else outputs.add(addIntrOrTreeNode("intr_" + regBaseName + "_or" + level + "_" + outputs.size(), expr, levelStages));
+			}
+			inputs = outputs;
+		}
+		addPrecCombinAssign(regBaseName, false, intrOutput + " = " + inputs.get(0) + ";");
+		// if pulse on clear is set then qualify intr output with clear detect signal delayed to match the tree
+		if (ExtParameters.sysVerPulseIntrOnClear()) {
+			String intrClear = regProperties.getFullSignalName(DefSignalType.INTR_CLEAR);  // interrupt clear detect signal
+			if (stages > 0) intrClear = addIntrOrTreeNode("intr_" + regBaseName + "_clear_dly", intrClear, stages);
+			addPrecCombinAssign(regBaseName, false, intrOutput + " = " + intrOutput + " & ~" + intrClear + ";");  // qualify output with clear
+		}
+		intrOutputTerms.clear();
+	}
+
+	/** add an interrupt or tree node with specified number of pipeline stages and return the name of its output */
+	private String addIntrOrTreeNode(String nodeName, String expr, int stages) {
+		if (stages == 0) {
+			addScalarWire(nodeName);
+			addWireAssign(nodeName + " = " + expr + ";");
+			return nodeName;
+		}
+		String regBaseName = regProperties.getBaseName();
+		String resetSignalName = builder.getDefaultReset();
+		boolean resetSignalActiveLow = builder.getDefaultResetActiveLow();
+		if (builder.getLogicReset() != null) {
+			resetSignalName = builder.getLogicReset();
+			resetSignalActiveLow = builder.getLogicResetActiveLow();
+		}
+		addReset(resetSignalName, resetSignalActiveLow);
+		String stageInput = expr;
+		String stageName = nodeName;
+		for (int stage = 1; stage <= stages; stage++) {
+			stageName = (stages > 1)? nodeName + "_d" + stage : nodeName;
+			addScalarReg(stageName);
+			addResetAssign(regBaseName, resetSignalName, stageName + " <= #1 1'b0;");
+			addRegAssign(regBaseName, stageName + " <= #1 " + stageInput + ";");
+			stageInput = stageName;
+		}
+		return stageName;
+	}
 	/** write counter field verilog 
 	 * @param hwPrecedence */   
 	private void genCounterWriteStmts(boolean hwPrecedence) {
@@ -866,41 +945,64 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 	
 	/** add coverpoint associated with this field */
 	public void addFieldCoverPoints(FieldProperties fieldProperties) {
+		CoverageSettings coverage = ExtParameters.getCoveragePolicy().getSettings(builder.getNoRepInstancePath());  // match rules using rep-less path as in uvmregs
+		if (coverage.isExcluded()) return;  // no coverage in excluded subtrees
+		boolean defaultCoverage = fieldProperties.generateRtlCoverage() || ExtParameters.sysVerIncludeDefaultCoverage() || coverage.isIncluded();
 		// if an interrupt field, cover input signal
-		if ((fieldProperties.generateRtlCoverage() || ExtParameters.sysVerIncludeDefaultCoverage()) && fieldProperties.isInterrupt()) {
+		if (defaultCoverage && fieldProperties.isInterrupt()) {
 			// add coverage on input intr signal (if it exists)
 			if (!fieldProperties.hasRef(RhsRefType.INTR) && !fieldProperties.hasRef(RhsRefType.NEXT)) {
 				String intrName = fieldProperties.getFullSignalName(DefSignalType.H2L_INTR);
-				this.addCoverPoint("interrupt_cg", intrName, intrName, fieldProperties.getFieldWidth(), null);
+				addFieldCoverPoint(coverage, "interrupt", intrName, fieldProperties.getFieldWidth());
 			}			
 		}
 		// if a counter field, cover incr/decr signals, rollover/saturate, threshold
-		else if ((fieldProperties.generateRtlCoverage() || ExtParameters.sysVerIncludeDefaultCoverage()) && fieldProperties.isCounter()) {
+		else if (defaultCoverage && fieldProperties.isCounter()) {
 			// add coverage on input incr signal (if it exists)
 			if (fieldProperties.isIncrCounter() && !fieldProperties.hasRef(RhsRefType.INCR)) {
 				String incrName = fieldProperties.getFullSignalName(DefSignalType.H2L_INCR);
-				this.addCoverPoint("counter_cg", incrName, incrName, 1, null);
+				addFieldCoverPoint(coverage, "counter", incrName, 1);
 			}			
 			// add coverage on input decr signal (if it exists)
 			if (fieldProperties.isDecrCounter() && !fieldProperties.hasRef(RhsRefType.DECR)) {
 				String decrName = fieldProperties.getFullSignalName(DefSignalType.H2L_DECR);
-				this.addCoverPoint("counter_cg", decrName, decrName, 1, null);
+				addFieldCoverPoint(coverage, "counter", decrName, 1);
 			}			
 			// TODO - add rollover / saturate test?
 		}
 		// otherwise if rtl_coverage is explicitly specified
 		else if (fieldProperties.generateRtlCoverage()) {
 			String fldReg = fieldProperties.getFullSignalName(DefSignalType.FIELD);
-			this.addCoverPoint("field_cg", fldReg, fldReg, fieldProperties.getFieldWidth(), null);
+			addFieldCoverPoint(coverage, "field", fldReg, fieldProperties.getFieldWidth());
 		}
 		
 	}
 	
+	/** add a coverpoint for a field signal using the specified coverage policy settings
+	 * @param coverage - coverage settings for the current field
+	 * @param cgType - covergroup type prefix
+	 * @param signal - signal to be covered
+	 * @param size - size of signal
+	 */
+	private void addFieldCoverPoint(CoverageSettings coverage, String cgType, String signal, int size) {
+		// sampled coverpoints are placed in a separate covergroup for each sample rate
+		int sampleRate = coverage.getSampleRate();
+		String group = (sampleRate > 0)? cgType + "_s" + sampleRate + "_cg" : cgType + "_cg";
+		if (sampleRate > 0) coverGroups.setSampleRate(group, sampleRate);
+		// if merging replicated regs, all reps share a single coverpoint named using the rep-less reg name
+		if (coverage.mergeReps() && regProperties.isReplicated()) {
+			String regBaseName = regProperties.getBaseName();
+			String mergedRegBaseName = regBaseName.substring(0, regBaseName.length() - regProperties.getId().length()) + regProperties.getNoRepId() + "_reps";
+			coverGroups.mergeCoverPoint(group, signal.replace(regBaseName, mergedRegBaseName), signal, size, null);
+		}
+		else this.addCoverPoint(group, signal, signal, size, null);
+	}
+	
 	//---------------------------- interrupt diagnostic bind module ----------------------------------------
 
 	/** create an interrupt assertion bind module */
 	public SystemVerilogModule createIntrBindModule() {
-		SystemVerilogModule intrBindMod = new SystemVerilogModule(builder, getInsideLocs(), defaultClkName, builder.getDefaultReset(), ExtParameters.sysVerUseAsyncResets());
+		SystemVerilogModule intrBindMod = new SystemVerilogModule(builder, getInsideLocs(), defaultClkName, builder.getDefaultReset(), ExtParameters.sysVerUseAsyncResets(), builder.getSignalNameTable());
 		String intrBindModName = getName() + "_intr_bind";
 		intrBindMod.setName(intrBindModName);
 		Integer defaultOutputLoc = getOutsideLocs();
@@ -1018,7 +1120,7 @@ public class SystemVerilogLogicModule extends SystemVerilogModule {
 	}
 
 	public SystemVerilogModule createCoverBindModule() {
-		SystemVerilogModule coverBindMod = new SystemVerilogModule(builder, getInsideLocs(), defaultClkName, builder.getDefaultReset(), ExtParameters.sysVerUseAsyncResets());
+		SystemVerilogModule coverBindMod = new SystemVerilogModule(builder, getInsideLocs(), defaultClkName, builder.getDefaultReset(), ExtParameters.sysVerUseAsyncResets(), builder.getSignalNameTable());
 		String bindModName = getName() + "_cover_bind";
 		coverBindMod.setName(bindModName);
 		Integer defaultOutputLoc = getOutsideLocs();
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.systemverilog;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import ordt.output.StructuralFingerprint;
+import ordt.output.common.MsgUtils;
+
+/** manifest of module fingerprints saved in a multi-file systemverilog output directory.
+ *  Fingerprints loaded from a previous run are compared with those of the current run so that
+ *  files of unchanged child addrmaps need not be rewritten (incremental_output).
+ */
+public class SystemVerilogOutputManifest {
+	public static final String MANIFEST_FILE_NAME = ".ordt_rtl_manifest";
+	private static final String HEADER = "# ordt systemverilog output manifest";
+	private File manifestFile;
+	private HashMap<String, String> previousFingerprints = new HashMap<String, String>();  // module name -> fingerprint from previous run
+	private LinkedHashMap<String, String> currentFingerprints = new LinkedHashMap<String, String>();  // module name -> fingerprint from this run
+
+	/** load the manifest from the specified output directory.  A missing or unreadable manifest is treated as empty.
+	 * @param outDirName - output directory */
+	public SystemVerilogOutputManifest(String outDirName) {
+		manifestFile = new File(outDirName, MANIFEST_FILE_NAME);
+		if (!manifestFile.isFile()) return;
+		BufferedReader br = null;
+		try {
+			br = new BufferedReader(new FileReader(manifestFile));
+			String line = br.readLine();
+			if ((line == null) || !line.equals(HEADER)) return;  // ignore manifest from an unknown format
+			while ((line = br.readLine()) != null) {
+				String [] fields = line.split(" ");
+				if (fields.length == 2) previousFingerprints.put(fields[0], fields[1]);
+			}
+		} catch (IOException e) {
+			MsgUtils.warnMessage("Unable to read output manifest " + manifestFile.getPath() + ", all files will be rewritten");
+			previousFingerprints.clear();
+		} finally {
+			if (br != null) try { br.close(); } catch (IOException e) {}
+		}
+	}
+
+	/** return true if a module fingerprint matches the one saved by the previous run */
+	public boolean isUnchanged(String moduleName, StructuralFingerprint fingerprint) {
+		return fingerprint.toString().equals(previousFingerprints.get(moduleName));
+	}
+
+	/** set the fingerprint of a module for this run */
+	public void update(String moduleName, StructuralFingerprint fingerprint) {
+		currentFingerprints.put(moduleName, fingerprint.toString());
+	}
+
+	/** write fingerprints of this run to the manifest file */
+	public void save() {
+		if (currentFingerprints.equals(previousFingerprints)) return;  // leave manifest unchanged
+		BufferedWriter bw = null;
+		try {
+			bw = new BufferedWriter(new FileWriter(manifestFile));
+			bw.write(HEADER);
+			bw.newLine();
+			for (Entry<String, String> entry: currentFingerprints.entrySet()) {
+				bw.write(entry.getKey() + " " + entry.getValue());
+				bw.newLine();
+			}
+		} catch (IOException e) {
+			MsgUtils.errorMessage("Unable to write output manifest " + manifestFile.getPath());
+		} finally {
+			if (bw != null) try { bw.close(); } catch (IOException e) {}
+		}
+	}
+}
@@ -1,14 +1,18 @@
 package ordt.output.systemverilog.common;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /** signal name remapping rule class */
 public class RemapRuleList { 
-	private List<RemapRule> rules = new ArrayList<RemapRule>();  // TODO  build cache of remap info?  ...from/to remapping also?
+	private List<RemapRule> rules = new ArrayList<RemapRule>();
+	private PrefixTrieNode prefixRoot = new PrefixTrieNode();  // trie of rules w/ literal prefix patterns (eg ^dec_pio_.*$)
+	private BitSet nonPrefixRules = new BitSet();  // indices of rules that must always be tested (regex or no pattern)
+	private HashMap<RemapKey, Integer> matchCache = new HashMap<RemapKey, Integer>();  // index of first matching rule per name/location (-1 if none)
 	public enum RemapRuleType {SAME, ADD_PREFIX, ADD_SUFFIX, DIRECT_MAP, REGEX_GROUPS};
 	/*
 	 * SAME - use original name (or alternate base name if specified) on match
@@ -17,31 +21,43 @@ public class RemapRuleList {
 	 * DIRECT_MAP - change to string specified by opStr on match
 	 * REGEX_GROUPS - change to regex template specified by opStr on match
 	 */
+	private static final Pattern LITERAL_PREFIX_PATTERN = Pattern.compile("^\\^?([A-Za-z0-9_]*)\\.\\*\\$?$");  // patterns handled by prefix trie
 
 	
 	/** add a pattern only rule to the list - first in list is highest match priority */
 	public void addRule(String pattern, RemapRuleType remapType, String opStr) {
-		rules.add(new RemapRule(pattern, null, null, remapType, opStr));
+		addRule(new RemapRule(pattern, null, null, remapType, opStr));
 	}
 	
 	/** add a location only rule to the list - first in list is highest match priority */
 	public void addRule(Integer from, Integer to, RemapRuleType remapType, String opStr) {
-		rules.add(new RemapRule(null, from, to, remapType, opStr));
+		addRule(new RemapRule(null, from, to, remapType, opStr));
 	}
 	
 	/** add a pattern/location rule to the list - first in list is highest match priority */
 	public void addRule(String pattern, Integer from, Integer to, RemapRuleType remapType, String opStr) {
-		rules.add(new RemapRule(pattern, from, to, remapType, opStr));
+		addRule(new RemapRule(pattern, from, to, remapType, opStr));
+	}
+	
+	/** add a rule to the list and index it by literal prefix if possible */
+	private void addRule(RemapRule rule) {
+		int ruleIdx = rules.size();
+		rules.add(rule);
+		if (rule.literalPrefix != null) prefixRoot.addRule(rule.literalPrefix, ruleIdx);
+		else nonPrefixRules.set(ruleIdx);
+		matchCache.clear();
 	}
 	
 	/** return the first resulting name of a match */
 	public String getRemappedName(String oldName, String altBaseName, Integer sigFrom, Integer sigTo, boolean returnNullOnMismatch) {
-		// return result of first matching rule
-		Iterator<RemapRule> iter = rules.iterator();
-		while (iter.hasNext()) {
-			String newName = iter.next().getRemappedName(oldName, altBaseName, sigFrom, sigTo);
-			if (newName != null) return newName;
+		// find first matching rule, using cached result if available
+		RemapKey key = new RemapKey(oldName, sigFrom, sigTo);
+		Integer ruleIdx = matchCache.get(key);
+		if (ruleIdx == null) {
+			ruleIdx = findFirstMatch(oldName, sigFrom, sigTo);
+			matchCache.put(key, ruleIdx);
 		}
+		if (ruleIdx >= 0) return rules.get(ruleIdx).getMatchedName(oldName, altBaseName);
 		return returnNullOnMismatch? null : oldName; // no rule match, so just return null or the original name
 	}
 	
@@ -50,9 +66,91 @@ public class RemapRuleList {
 		return getRemappedName(oldName, null, sigFrom, sigTo, false);
 	}
 	
+	/** return index of the first rule matching a signal or -1 if no match */
+	private int findFirstMatch(String oldName, Integer sigFrom, Integer sigTo) {
+		// candidates are the non-prefix rules plus prefix rules on the trie path of this name
+		BitSet candidates = (BitSet) nonPrefixRules.clone();
+		prefixRoot.getMatchingRules(oldName, candidates);
+		for (int ruleIdx = candidates.nextSetBit(0); ruleIdx >= 0; ruleIdx = candidates.nextSetBit(ruleIdx + 1)) {
+			if (rules.get(ruleIdx).isMatch(oldName, sigFrom, sigTo)) return ruleIdx;
+		}
+		return -1;
+	}
+	
+	/** cache key for rule matching */
+	private static class RemapKey {
+		private final String name;
+		private final Integer from;
+		private final Integer to;
+		private final int hash;
+
+		RemapKey(String name, Integer from, Integer to) {
+			this.name = name;
+			this.from = from;
+			this.to = to;
+			int h = (name == null)? 0 : name.hashCode();
+			h = 31 * h + ((from == null)? 0 : from.hashCode());
+			this.hash = 31 * h + ((to == null)? 0 : to.hashCode());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof RemapKey))
+				return false;
+			RemapKey other = (RemapKey) obj;
+			return (hash == other.hash) && equalOrNull(name, other.name) && equalOrNull(from, other.from) && equalOrNull(to, other.to);
+		}
+
+		private static boolean equalOrNull(Object a, Object b) {
+			return (a == null)? (b == null) : a.equals(b);
+		}
+	}
+	
+	/** prefix trie node holding indices of rules whose literal prefix ends at this node */
+	private static class PrefixTrieNode {
+		private HashMap<Character, PrefixTrieNode> children = null;
+		private BitSet ruleIndices = null;
+		
+		/** add a rule index at the node for the specified prefix */
+		void addRule(String prefix, int ruleIdx) {
+			PrefixTrieNode node = this;
+			for (int idx = 0; idx < prefix.length(); idx++) {
+				if (node.children == null) node.children = new HashMap<Character, PrefixTrieNode>();
+				PrefixTrieNode child = node.children.get(prefix.charAt(idx));
+				if (child == null) {
+					child = new PrefixTrieNode();
+					node.children.put(prefix.charAt(idx), child);
+				}
+				node = child;
+			}
+			if (node.ruleIndices == null) node.ruleIndices = new BitSet();
+			node.ruleIndices.set(ruleIdx);
+		}
+		
+		/** add indices of all rules having a prefix of name to the matches set */
+		void getMatchingRules(String name, BitSet matches) {
+			PrefixTrieNode node = this;
+			int idx = 0;
+			while (node != null) {
+				if (node.ruleIndices != null) matches.or(node.ruleIndices);
+				if ((node.children == null) || (idx >= name.length())) break;
+				node = node.children.get(name.charAt(idx++));
+			}
+		}
+	}
+	
 	/** signal name remapping rule class */
 	private class RemapRule { 
 		private String pattern; // name pattern to be matched (null to ignore)
+		private Pattern compiledPattern;  // compiled pattern (null if no pattern or literal prefix pattern)
+		private String literalPrefix;  // literal prefix if pattern is of form ^prefix.*$ (null otherwise)
 		private Integer from;  // from location encoding to be matched (null to ignore)
 		private Integer to;  // to location encoding to be matched (null to ignore)
 		private RemapRuleType remapType;
@@ -64,41 +162,49 @@ public class RemapRuleList {
 			this.to=to;
 			this.remapType=remapType;
 			this.opStr=opStr;
+			if (pattern!=null) {
+				Matcher prefixMatcher = LITERAL_PREFIX_PATTERN.matcher(pattern);
+				if (prefixMatcher.matches()) literalPrefix = prefixMatcher.group(1);
+				else compiledPattern = Pattern.compile(pattern);
+			}
 		}
 		
-		/** return the resulting name of a match or null if no match
+		/** return true if name and location match this rule
 		 * 
-		 * @param oldName - old signal name to be compared against rules and changed (required)
-		 * @param altBaseName - if non-null, this string will be used to generate match output rather than oldName (for prefix/suffix ops)
+		 * @param oldName - old signal name to be compared against rules (required)
 		 * @param sigFrom - from location for this signal (null to ignore) 
 		 * @param sigTo - to location for this signal (null to ignore)
-		 * @return
 		 */
-		public String getRemappedName(String oldName, String altBaseName, Integer sigFrom, Integer sigTo) {
+		public boolean isMatch(String oldName, Integer sigFrom, Integer sigTo) {
 			// test for location match
-			if (!isLocationMatch(sigFrom, sigTo)) return null;
+			if (!isLocationMatch(sigFrom, sigTo)) return false;
 			// test for a matching pattern
-			boolean isMatch = true;  // set match to true assuming null pattern
-			Matcher matcher = null;
-			if (pattern!=null) {
-				Pattern p = Pattern.compile(pattern);
-				matcher = p.matcher(oldName);
-				isMatch = matcher.matches();
-			}
-			if (isMatch) {
-				String baseName = (altBaseName != null)? altBaseName : oldName;
-				switch (remapType) {
-				case SAME: return baseName;
-				case ADD_PREFIX: return opStr + baseName;
-				case ADD_SUFFIX: return baseName + opStr;
-				case DIRECT_MAP: return opStr;
-				case REGEX_GROUPS:
-					String newName = opStr;
-					if (pattern==null) return opStr;  // no pattern matching if no pattern
-					for (int gidx=1; gidx<=matcher.groupCount(); gidx++)
-						newName = newName.replaceFirst("%" + gidx, matcher.group(gidx));
-					return newName;
-				}
+			if (literalPrefix!=null) return oldName.startsWith(literalPrefix) && !hasLineTerminator(oldName, literalPrefix.length());
+			if (compiledPattern!=null) return compiledPattern.matcher(oldName).matches();
+			return true;  // null pattern always matches
+		}
+		
+		/** return the resulting name of a matched signal
+		 * 
+		 * @param oldName - old signal name previously matched by this rule (required)
+		 * @param altBaseName - if non-null, this string will be used to generate match output rather than oldName (for prefix/suffix ops)
+		 * @return
+		 */
+		public String getMatchedName(String oldName, String altBaseName) {
+			String baseName = (altBaseName != null)? altBaseName : oldName;
+			switch (remapType) {
+			case SAME: return baseName;
+			case ADD_PREFIX: return opStr + baseName;
+			case ADD_SUFFIX: return baseName + opStr;
+			case DIRECT_MAP: return opStr;
+			case REGEX_GROUPS:
+				if (compiledPattern==null) return opStr;  // no groups if no pattern or literal prefix pattern
+				Matcher matcher = compiledPattern.matcher(oldName);
+				matcher.matches();
+				String newName = opStr;
+				for (int gidx=1; gidx<=matcher.groupCount(); gidx++)
+					newName = newName.replaceFirst("%" + gidx, matcher.group(gidx));
+				return newName;
 			}
 			return null;
 		}
@@ -116,7 +222,20 @@ public class RemapRuleList {
 			return fromMatch && toMatch;
 		}
 
+		/** return true if name contains a regex line terminator at or after startIdx (these are not matched by .*) */
+		private boolean hasLineTerminator(String name, int startIdx) {
+			for (int idx = startIdx; idx < name.length(); idx++) {
+				char c = name.charAt(idx);
+				if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == 0x2028) || (c == 0x2029)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return "RemapRule [pattern=" + pattern + ", from=" + from + ", to=" + to + ", remapType=" + remapType + ", opStr=" + opStr + "]";
+		}
+
 	}
 }
 
-
@@ -6,6 +6,7 @@ package ordt.output.systemverilog.common;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import ordt.output.common.OutputWriterIntf;
@@ -19,7 +20,7 @@ import ordt.output.common.OutputWriterIntf;
  */
 public class SystemVerilogCoverGroups {
 
-	private HashMap<String, CoverGroupInfo> coverGroups = new HashMap<String, CoverGroupInfo>();  // info for a set of registers
+	private LinkedHashMap<String, CoverGroupInfo> coverGroups = new LinkedHashMap<String, CoverGroupInfo>();  // info for a set of registers (in order added)
 	private OutputWriterIntf writer;
 	private String clkName;  // clock name for this group of covergroups
 	private String resetName;  // reset name for this group of covergroups
@@ -64,6 +65,32 @@ public class SystemVerilogCoverGroups {
 		currentGroup.addCoverPoint(name, signal, size, condition);
 	}
 	
+	/** create a coverpoint in specified group or, if a coverpoint of the same name exists, add signal to the
+	 *  set of signals or'ed together in the existing coverpoint.  Multi-bit signals are or-reduced before being
+	 *  or'ed, so a merged coverpoint is always 1 bit and covers whether any rep is non-zero
+	 *  @param group - name of covergroup
+	 *  @param name - name of merged coverpoint
+	 *  @param signal - signal to be sampled
+	 */
+	public void mergeCoverPoint(String group, String name, String signal, int size, String condition) {
+		CoverGroupInfo currentGroup = get(group);
+		CoverPointInfo cPoint = currentGroup.getCoverPoint(name);
+		if (cPoint == null) {
+			currentGroup.addCoverPoint(name, signal, size, condition);
+			currentGroup.getCoverPoint(name).merged = true;
+		}
+		else cPoint.addSignal(signal);
+	}
+	
+	/** set the sample rate of a covergroup in clocks.  Covergroups with a non-zero sample rate are sampled
+	 *  using a generated rate control rather than on every clock
+	 *  @param group - name of covergroup
+	 *  @param sampleRate - default sample rate in clocks
+	 */
+	public void setSampleRate(String group, int sampleRate) {
+		get(group).setSampleRate(sampleRate);
+	}
+	
 	/** write out systemverilog for this set of covergroups  */
 	public void write(int indentLevel) {
 		if (coverGroups.isEmpty()) return;
@@ -89,12 +116,27 @@ public class SystemVerilogCoverGroups {
 	public  class CoverGroupInfo {
 		private String name;   // name of this cover group
 		private boolean synchronous;  // if true, sample group on clock
+		private int sampleRate;  // if synchronous is false, default number of clocks per sample
 		private  List<CoverPointInfo> coverPointList;    // list of coverpoints in this cover group
+		private HashMap<String, CoverPointInfo> coverPointsByName;    // coverpoints by name
 		
 		public CoverGroupInfo(String name) {
 			this.name = name;
 			this.synchronous = true;    // default to synchronous sample
+			this.sampleRate = 0;
 			this.coverPointList = new ArrayList<CoverPointInfo>();    // list of coverpoints
+			this.coverPointsByName = new HashMap<String, CoverPointInfo>();
+		}
+		
+		/** set sample rate of this group (0 samples on every clock) */
+		public void setSampleRate(int sampleRate) {
+			this.sampleRate = sampleRate;
+			this.synchronous = (sampleRate == 0);
+		}
+		
+		/** return the coverpoint with specified name or null if not found */
+		public CoverPointInfo getCoverPoint(String name) {
+			return coverPointsByName.get(name);
 		}
 		
 		/** create a coverpoint and add it to this group
@@ -106,6 +148,7 @@ public class SystemVerilogCoverGroups {
 			// create the new coverpoint and add it to this group
 			CoverPointInfo cPoint = new CoverPointInfo(name, signal, size, condition);
 			coverPointList.add(cPoint);
+			coverPointsByName.put(name, cPoint);
 		}
 		
 		/** write out verilog for this covergroup  */
@@ -124,13 +167,33 @@ public class SystemVerilogCoverGroups {
 				writer.writeStmt(indentLevel, "");  			
 				writer.writeStmt(indentLevel, name + " " + name + "_inst = new();");  
 				writer.writeStmt(indentLevel, "");  			
+				if (!synchronous) writeSampleControl(indentLevel);
 			}
 		}
 		
+		/** write sample rate control for this covergroup */
+		private void writeSampleControl(int indentLevel) {
+			String rateName = name + "_sample_rate";
+			String countName = name + "_sample_count";
+			writer.writeStmt(indentLevel, "int unsigned " + rateName + " = " + sampleRate + ";  // " + name + " is sampled once every " + rateName + " clocks (0 disables sampling)");  
+			writer.writeStmt(indentLevel, "int unsigned " + countName + " = 0;");  
+			writer.writeStmt(indentLevel++, "always @(posedge " + clkName + ") begin");  
+			writer.writeStmt(indentLevel, "if (" + rateName + " == 0) " + countName + " <= 0;");  
+			writer.writeStmt(indentLevel++, "else if (" + countName + " + 1 >= " + rateName + ") begin");  
+			writer.writeStmt(indentLevel, countName + " <= 0;");  
+			writer.writeStmt(indentLevel, name + "_inst.sample();");  
+			writer.writeStmt(--indentLevel, "end");  
+			writer.writeStmt(indentLevel, "else " + countName + " <= " + countName + " + 1;");  
+			writer.writeStmt(--indentLevel, "end");  
+			writer.writeStmt(indentLevel, "");  			
+		}
+		
 		/** return a list of signals monitored in this covergroups */
 		public List<SystemVerilogSignal> getSignalList() {
 			List<SystemVerilogSignal> sigList = new ArrayList<SystemVerilogSignal>();
-			for (CoverPointInfo info: coverPointList) sigList.add(new SystemVerilogSignal(info.signal, 0, info.size));
+			for (CoverPointInfo info: coverPointList) {
+				for (String signal: info.signals) sigList.add(new SystemVerilogSignal(signal, 0, info.size));
+			}
 			return sigList;
 		}
 
@@ -139,21 +202,35 @@ public class SystemVerilogCoverGroups {
 	/** class to hold info associated with a coverage group */   
 	public  class CoverPointInfo {
 		private String name;   // name of this cover point
-		private String signal;   // signal being sampled
+		private List<String> signals;   // signals being sampled (or'ed together if more than one)
 		private int size;   // size of signal being sampled
 		private String condition;   // condition applied to this coverpoint
+		private boolean merged = false;   // if true, signals are reduced to a single bit before being or'ed
 		
 		public CoverPointInfo(String name, String signal, int size, String condition) {
 			this.name = name;
-			this.signal = signal;
+			this.signals = new ArrayList<String>();
+			this.signals.add(signal);
 			this.size = size;
 			if (condition != null) this.condition = condition;
 			else this.condition = "!" + resetName;  // default to reset inactive condition
 		}
+		
+		/** add a signal to be or'ed with existing signals in this coverpoint */
+		public void addSignal(String signal) {
+			signals.add(signal);
+		}
 
 		public void write(int indentLevel) {
 			String condString = condition.isEmpty()? "" : " iff(" + condition + ")";
-			writer.writeStmt(indentLevel, name + ": coverpoint " + signal + condString + ";");  
+			String sampled;
+			if (merged && (size > 1)) {
+				List<String> reducedSignals = new ArrayList<String>();
+				for (String signal: signals) reducedSignals.add("|" + signal);
+				sampled = "(" + String.join(" | ", reducedSignals) + ")";
+			}
+			else sampled = (signals.size() == 1)? signals.get(0) : "(" + String.join(" | ", signals) + ")";
+			writer.writeStmt(indentLevel, name + ": coverpoint " + sampled + condString + ";");  
 			
 		}
 	}
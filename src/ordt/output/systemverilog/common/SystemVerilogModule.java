@@ -40,10 +40,11 @@ public class SystemVerilogModule {
 	protected HashSet<String> otherClocks; // TODO - need to define this
 	protected SystemVerilogSignalList wireDefList;    // list of wires   
 	protected SystemVerilogSignalList regDefList;    // list of reg definitions	
-	protected List<String> wireAssignList = new ArrayList<String>();    // list of wire assign statements
+	protected SystemVerilogSignalNameTable signalNames;  // signal name table (may be shared by modules of a builder)
+	protected List<String> wireAssignList;    // list of wire assign statements
 	protected SystemVerilogRegisters registers;   // set of register info for module
-	protected HashSet<String> definedSignals = new HashSet<String>();   // set of all user defined reg/wire names for this module (to check for duplicates/resolve as valid)
-	protected List<String> statements = new ArrayList<String>();    // list of free form verilog statements
+	protected SystemVerilogSignalNameTable.IdSet definedSignals = new SystemVerilogSignalNameTable.IdSet();   // name table ids of all user defined reg/wire names for this module (to check for duplicates/resolve as valid)
+	protected List<String> statements;    // list of free form verilog statements
     protected boolean showDuplicateSignalErrors = true;
     
 	protected SystemVerilogCoverGroups coverGroups;   // set of cover group info for module
@@ -56,9 +57,22 @@ public class SystemVerilogModule {
 	 * @param defaultClkName - default clock name used for generated registers
 	 */
 	public SystemVerilogModule(OutputWriterIntf writer, int insideLocs, String defaultClkName, String coverageResetName, boolean useAsyncResets) {
+		this(writer, insideLocs, defaultClkName, coverageResetName, useAsyncResets, new SystemVerilogSignalNameTable());
+	}
+
+	/** create a module using a shared signal name table
+	 * @param writer - OutputWriterIntf to be used for output generation 
+	 * @param insideLocs - ORed Integer of locations in top level in this module (not including children) 
+	 * @param defaultClkName - default clock name used for generated registers
+	 * @param signalNames - table used to intern signal names
+	 */
+	public SystemVerilogModule(OutputWriterIntf writer, int insideLocs, String defaultClkName, String coverageResetName, boolean useAsyncResets, SystemVerilogSignalNameTable signalNames) {
 		this.writer = writer;  // save reference to calling writer
 		setTerminalInsideLocs(insideLocs);  // locations inside this module
 		this.defaultClkName = defaultClkName;
+		this.signalNames = signalNames;
+		wireAssignList = new SystemVerilogStatementList();
+		statements = new SystemVerilogStatementList();
 		registers = new SystemVerilogRegisters(writer, defaultClkName, useAsyncResets);
 		wireDefList = new SystemVerilogSignalList();
 		regDefList = new SystemVerilogSignalList();
@@ -180,11 +194,13 @@ public class SystemVerilogModule {
 
 	/** add a wire define */
 	public void addVectorWire(String name, int idx, Integer width) {
+		name = signalNames.intern(name);  // share name w/ other modules and IO lists of builder
 		if (addDefinedSignal(name)) wireDefList.addVector(name, idx, width);	
 	}
 
 	/** add a scalar wire define */
 	public void addScalarWire(String name) {
+		name = signalNames.intern(name);  // share name w/ other modules and IO lists of builder
 		if (addDefinedSignal(name)) wireDefList.addScalar(name);	
 	}
 
@@ -200,11 +216,13 @@ public class SystemVerilogModule {
 
 	/** add a reg define */
 	public void addVectorReg(String name, int idx, Integer width) {
+		name = signalNames.intern(name);  // share name w/ other modules and IO lists of builder
 		if (addDefinedSignal(name)) regDefList.addVector(name, idx, width);	
 	}
 
 	/** add a scalar reg define */
 	public void addScalarReg(String name) {
+		name = signalNames.intern(name);  // share name w/ other modules and IO lists of builder
 		if (addDefinedSignal(name)) regDefList.addScalar(name);	
 	}
 
@@ -225,12 +243,11 @@ public class SystemVerilogModule {
 	/** add a signal to list and check for uniqueness
 	 *  returns true on success                          */
 	public boolean addDefinedSignal(String name) {
-		if (definedSignals.contains(name)) {
+		if (!definedSignals.add(signalNames.add(name))) {
 			if (showDuplicateSignalErrors) MsgUtils.errorMessage("Duplicate SystemVerilog signal " + name + " detected (possibly due to a repeated instance name)");
 			//if (name.startsWith("leaf_dec")) System.out.println("SystemVerilogModule addDefinedSignal: not adding " + name + " to module " + getName() + " signal list");
 		}
 		else {
-			definedSignals.add(name);
 			/* if (name.startsWith("leaf_dec"))*/ //System.out.println("SystemVerilogModule addDefinedSignal: adding " + name + " to module " + getName() + " signal list");
 			return true;
 		}
@@ -240,7 +257,17 @@ public class SystemVerilogModule {
 	
 	/** return true if specified signal name is in the definedSignal set */
 	public boolean hasDefinedSignal(String name) {
-		return definedSignals.contains(name);
+		return definedSignals.contains(signalNames.getId(name));
+	}
+
+	/** add a signal to the definedSignal set w/o a uniqueness check */
+	protected void setDefinedSignal(String name) {
+		definedSignals.add(signalNames.add(name));
+	}
+
+	/** return the signal name table used by this module */
+	public SystemVerilogSignalNameTable getSignalNameTable() {
+		return signalNames;
 	}
 	
 	public SystemVerilogCoverGroups getCoverGroups() {
@@ -483,13 +510,14 @@ public class SystemVerilogModule {
 	public void addSimpleVectorTo(int to, String name, int lowIndex, int size) {
 		SystemVerilogIOSignalList sigList = getIOList(to);  // get the siglist
 		if (sigList == null) return;
-		sigList.addSimpleVector(getInsideLocs(), to, name, lowIndex, size); 
+		sigList.addSimpleVector(getInsideLocs(), to, signalNames.intern(name), lowIndex, size); 
 	}
 
 	/** add a new simple vector IO signal from the specified external location list */
 	public void addSimpleVectorFrom(int from, String name, int lowIndex, int size) {
 		SystemVerilogIOSignalList sigList = getIOList(from);  // get IO list
 		if (sigList == null) return;
+		name = signalNames.intern(name);  // share name w/ other modules and IO lists of builder
 		if (addDefinedSignal(name)) sigList.addSimpleVector(from, getInsideLocs(), name, lowIndex, size); 
 	}
 
@@ -3,9 +3,8 @@
  */
 package ordt.output.systemverilog.common;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import ordt.output.common.MsgUtils;
@@ -18,8 +17,8 @@ import ordt.output.common.OutputWriterIntf;
  */
 public class SystemVerilogRegisters {
 
-	private HashMap<String, VerilogRegInfo> registers = new HashMap<String, VerilogRegInfo>();  // info for a set of registers grouped by name
-	private HashMap<String, Boolean> resetActiveLow = new HashMap<String, Boolean>();  // reset polarity for each reset signal defined		
+	private LinkedHashMap<String, VerilogRegInfo> registers = new LinkedHashMap<String, VerilogRegInfo>();  // info for a set of registers grouped by name (in order added)
+	private LinkedHashMap<String, Boolean> resetActiveLow = new LinkedHashMap<String, Boolean>();  // reset polarity for each reset signal defined		
 	private OutputWriterIntf writer;
 	private String clkName;  // clock for this group of registers
 	private boolean useAsyncResets = false;
@@ -54,7 +53,7 @@ public class SystemVerilogRegisters {
 
 	/** return the reset hashmap
 	 */
-	public HashMap<String, Boolean> getResets() {
+	public LinkedHashMap<String, Boolean> getResets() {
 		return resetActiveLow;
 	}
 
@@ -62,7 +61,7 @@ public class SystemVerilogRegisters {
 	public  class VerilogRegInfo {
 		private String name;   // name of this register/always group
 		private String clock;  // clock name for synchronous assigns
-		private HashMap<String, List<String>> resetAssignList;  // reset assignments for each reset signal		
+		private LinkedHashMap<String, List<String>> resetAssignList;  // reset assignments for each reset signal (in order added)		
 		private  List<String> regAssignList;    // list of synchronous reg assigns
 		private  List<String> combinAssignList;    // list of combinatorial assign statements
 		private  List<String> hiPrecCombinAssignList;    // list of high precedence combinatorial assign statements
@@ -74,11 +73,11 @@ public class SystemVerilogRegisters {
 		public VerilogRegInfo(String name) {
 			this.setName(name);
 			this.setClock(clkName);    // use default clock name for this register group
-			this.resetAssignList= new HashMap<String, List<String>>();  // reset assignments for each reset signal		
-			this.regAssignList = new ArrayList<String>();    // list of synchronous reg assigns
-			this.combinAssignList = new ArrayList<String>();    // list of combinatorial assign statements
-			this.hiPrecCombinAssignList = new ArrayList<String>();    // list of high precedence combinatorial assign statements
-			this.lowPrecCombinAssignList = new ArrayList<String>();    // list of low precedence combinatorial assign statements
+			this.resetAssignList= new LinkedHashMap<String, List<String>>();  // reset assignments for each reset signal		
+			this.regAssignList = new SystemVerilogStatementList();    // list of synchronous reg assigns
+			this.combinAssignList = new SystemVerilogStatementList();    // list of combinatorial assign statements
+			this.hiPrecCombinAssignList = null;    // list of high precedence combinatorial assign statements (created on first use)
+			this.lowPrecCombinAssignList = null;    // list of low precedence combinatorial assign statements (created on first use)
 		}
 		/** get name
 		 *  @return the name
@@ -120,7 +119,7 @@ public class SystemVerilogRegisters {
 			}
 			// new reset signal so add it
 			if (resetAssignList.get(reset) == null) {
-				resetAssignList.put(reset, new ArrayList<String>());
+				resetAssignList.put(reset, new SystemVerilogStatementList());
 			}
 			// add the assign stmt
 			resetAssignList.get(reset).add(stmt);
@@ -158,14 +157,20 @@ public class SystemVerilogRegisters {
 		public void addPrecCombinAssign(boolean hiPrecedence, String stmt) {
 			//System.out.println("VerilogRegisters: reg=" + getName() + ", line=" + stmt);
 			// add the assign stmtbased on priority
-			if (hiPrecedence) hiPrecCombinAssignList.add(stmt);
-			else lowPrecCombinAssignList.add(stmt);
+			if (hiPrecedence) {
+				if (hiPrecCombinAssignList == null) hiPrecCombinAssignList = new SystemVerilogStatementList();
+				hiPrecCombinAssignList.add(stmt);
+			}
+			else {
+				if (lowPrecCombinAssignList == null) lowPrecCombinAssignList = new SystemVerilogStatementList();
+				lowPrecCombinAssignList.add(stmt);
+			}
 		}
 		
 		/** write out high precedence verilog for this reg/group 
 		 * @param resolveNames */
 		private void writeHiPrecedenceStatements(int indentLevel) {		
-			if (!hiPrecCombinAssignList.isEmpty()) {
+			if (hiPrecCombinAssignList != null) {
 				Iterator<String> it = hiPrecCombinAssignList.iterator();
 				while (it.hasNext()) {
 					writer.writeStmt(indentLevel, it.next());
@@ -176,7 +181,7 @@ public class SystemVerilogRegisters {
 		/** write out low precedence verilog for this reg/group 
 		 * @param resolveNames */
 		private void writeLowPrecedenceStatements(int indentLevel) {		
-			if (!lowPrecCombinAssignList.isEmpty()) {
+			if (lowPrecCombinAssignList != null) {
 				Iterator<String> it = lowPrecCombinAssignList.iterator();
 				while (it.hasNext()) {
 					writer.writeStmt(indentLevel, it.next());
@@ -229,7 +234,7 @@ public class SystemVerilogRegisters {
 		}
 		/** write always block reset stmts 
 		 * @param resolveNames */
-		private  boolean writeRegResets(int indentLevel, HashMap<String, List<String>> regResetList) {
+		private  boolean writeRegResets(int indentLevel, LinkedHashMap<String, List<String>> regResetList) {
 			// write reset assigns for each reset signal
 			String firstRst = "";
 			boolean hasResets = false;
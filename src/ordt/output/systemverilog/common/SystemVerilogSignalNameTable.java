@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.systemverilog.common;
+
+import java.util.Arrays;
+
+/** symbol table of generated signal names.
+ *  Each unique name is assigned an int id and a single shared String instance, so modules and IO lists
+ *  of a builder that use the same table can compare/check names using ids.
+ *  Since ids span all modules of a builder, per module sets of ids should use an IdSet rather than a BitSet.
+ *  A table is not thread safe and should be used by a single builder.
+ */
+public class SystemVerilogSignalNameTable {
+	private String[] names = new String[64];  // names indexed by id
+	private int size = 0;
+	private int[] slots = new int[128];  // open addressed hash of id+1 (0 is empty)
+
+	/** return the id of a name, adding it to the table if new */
+	public int add(String name) {
+		int mask = slots.length - 1;
+		int idx = mix(name.hashCode()) & mask;
+		int slotId;
+		while ((slotId = slots[idx]) != 0) {
+			if (names[slotId - 1].equals(name)) return slotId - 1;
+			idx = (idx + 1) & mask;
+		}
+		int id = size++;
+		if (id == names.length) names = Arrays.copyOf(names, id + (id >> 1));
+		names[id] = name;
+		slots[idx] = id + 1;
+		if (size * 3 > slots.length * 2) resize();
+		return id;
+	}
+
+	/** return the id of a name or -1 if name is not in the table */
+	public int getId(String name) {
+		int mask = slots.length - 1;
+		int idx = mix(name.hashCode()) & mask;
+		int slotId;
+		while ((slotId = slots[idx]) != 0) {
+			if (names[slotId - 1].equals(name)) return slotId - 1;
+			idx = (idx + 1) & mask;
+		}
+		return -1;
+	}
+
+	/** return the name having the specified id */
+	public String getName(int id) {
+		return names[id];
+	}
+
+	/** return the shared instance of a name, adding it to the table if new */
+	public String intern(String name) {
+		int id = add(name);  // add may reallocate names
+		return names[id];
+	}
+
+	/** return the number of unique names */
+	public int size() {
+		return size;
+	}
+
+	private void resize() {
+		slots = new int[slots.length * 2];
+		int mask = slots.length - 1;
+		for (int id = 0; id < size; id++) {
+			int idx = mix(names[id].hashCode()) & mask;
+			while (slots[idx] != 0) idx = (idx + 1) & mask;
+			slots[idx] = id + 1;
+		}
+	}
+
+	private static int mix(int hash) {
+		hash *= 0x9e3779b9;
+		return hash ^ (hash >>> 16);
+	}
+
+	/** set of name ids sized by the number of ids added rather than the largest id in the table */
+	public static class IdSet {
+		private int[] slots = new int[16];  // open addressed hash of id+1 (0 is empty)
+		private int size = 0;
+
+		/** add an id to the set, returning true if it was not already present */
+		public boolean add(int id) {
+			int mask = slots.length - 1;
+			int idx = mix(id) & mask;
+			int slotId;
+			while ((slotId = slots[idx]) != 0) {
+				if (slotId == id + 1) return false;
+				idx = (idx + 1) & mask;
+			}
+			slots[idx] = id + 1;
+			if (++size * 3 > slots.length * 2) resize();
+			return true;
+		}
+
+		/** return true if the set contains an id */
+		public boolean contains(int id) {
+			if (id < 0) return false;
+			int mask = slots.length - 1;
+			int idx = mix(id) & mask;
+			int slotId;
+			while ((slotId = slots[idx]) != 0) {
+				if (slotId == id + 1) return true;
+				idx = (idx + 1) & mask;
+			}
+			return false;
+		}
+
+		/** return the number of ids in the set */
+		public int size() {
+			return size;
+		}
+
+		private void resize() {
+			int[] oldSlots = slots;
+			slots = new int[oldSlots.length * 2];
+			int mask = slots.length - 1;
+			for (int slotId : oldSlots) {
+				if (slotId == 0) continue;
+				int idx = mix(slotId - 1) & mask;
+				while (slots[idx] != 0) idx = (idx + 1) & mask;
+				slots[idx] = slotId;
+			}
+		}
+	}
+}
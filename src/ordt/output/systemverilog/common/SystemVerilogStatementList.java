@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.systemverilog.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/** compact list of generated verilog statements.
+ *  Statements are stored as added in an array that grows slowly, since most register groups hold only a few statements.
+ */
+public class SystemVerilogStatementList extends AbstractList<String> implements RandomAccess {
+	private static final String[] NO_STMTS = new String[0];
+	private String[] stmts = NO_STMTS;
+	private int stmtCount = 0;
+
+	@Override
+	public int size() {
+		return stmtCount;
+	}
+
+	@Override
+	public String get(int index) {
+		if ((index < 0) || (index >= stmtCount)) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + stmtCount);
+		return stmts[index];
+	}
+
+	/** add a statement to the end of the list */
+	@Override
+	public boolean add(String stmt) {
+		if (stmtCount == stmts.length) stmts = Arrays.copyOf(stmts, newCapacity(stmtCount));
+		stmts[stmtCount++] = stmt;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(stmts, 0, stmtCount, null);
+		stmtCount = 0;
+		modCount++;
+	}
+
+	/** grow small lists slowly since most register groups hold only a few statements */
+	private static int newCapacity(int size) {
+		return (size < 4)? size + 2 : size + (size >> 1);
+	}
+}
@@ -10,6 +10,7 @@ import ordt.output.systemverilog.common.RemapRuleList;
 import ordt.output.systemverilog.common.SystemVerilogDefSignalTypeIntf;
 import ordt.output.systemverilog.common.SystemVerilogDefinedSignalMap;
 import ordt.output.systemverilog.common.SystemVerilogSignal;
+import ordt.output.systemverilog.common.SystemVerilogSignalNameTable;
 import ordt.output.systemverilog.common.wrap.SystemVerilogWrapModule.WrapperSignalMap;
 
 
@@ -19,12 +20,19 @@ public class SystemVerilogIOSignalList extends SystemVerilogIOSignalSet {
 	private String listName;
 	private Stack<SystemVerilogIOSignalSet> activeSetStack = new Stack<SystemVerilogIOSignalSet>();  // track active signalsets for inserts 
 	private Stack<Boolean> inhibitInsertStack = new Stack<Boolean>();  // track insert inhibited signalsets (inhibit subsequent reps) 
+	private SystemVerilogSignalNameTable signalNames = null;  // if non-null, names of added signals are interned in this table
 
 	public SystemVerilogIOSignalList(String listName) {
 		super(null, null, 1);  // IOsignalList has no tag, no name and one rep
 		this.listName = listName;
 	}
 
+	/** create a list whose signal names are interned in a shared name table */
+	public SystemVerilogIOSignalList(String listName, SystemVerilogSignalNameTable signalNames) {
+		this(listName);
+		this.signalNames = signalNames;
+	}
+
 	/** copy an IOSignalList, keeping elements matching specified rules and not in a unique name list.
 	 * virtual elements will be added w/o rule matching  
 	 * 
@@ -70,12 +78,18 @@ public class SystemVerilogIOSignalList extends SystemVerilogIOSignalSet {
 		return (!inhibitInsertStack.isEmpty() && inhibitInsertStack.peek());
 	}
 
+	/** return shared instance of a signal name if list uses a name table */
+	private String intern(String name) {
+		return ((signalNames == null) || (name == null))? name : signalNames.intern(name);
+	}
+
 	// --- add vectors
 	
 	/** add a new vector signal to the active list */
 	@Override
 	public void addVector(Integer from, Integer to, String tagPrefix, String name, int lowIndex, int size) {
 		if (inhibitAdd()) return;
+		name = intern(name);
 		if (activeSetStack.isEmpty()) super.addVector(from, to, tagPrefix, name, lowIndex, size);  // empty stack, so add to this list
 		else activeSetStack.peek().addVector(from, to, tagPrefix, name, lowIndex, size);  // otherwise add to active list
 		//System.out.println("SystemVerilogIOSignalList addVector: adding " + name + ", from=" + from + ", to=" + to + ", list=" + getListName() + ", stack empty=" + activeSetStack.isEmpty());
@@ -99,13 +113,13 @@ public class SystemVerilogIOSignalList extends SystemVerilogIOSignalSet {
 
 	/** add a new simple vector to the root child list (no prefix) */
 	public void addSimpleVector(Integer from, Integer to, String name, int lowIndex, int size) {
-		super.addVector(from, to, null, name, lowIndex, size);
+		super.addVector(from, to, null, intern(name), lowIndex, size);
 		//System.out.println("SystemVerilogIOSignalList addSimpleVector: adding " + name + ", from=" + from + ", to=" + to + ", list=" + getListName());
 	}
 
 	/** add a new simple vector with freeform slice string to the root child list (no prefix) */
 	public void addSimpleVector(Integer from, Integer to, String name, String slice) {
-		super.addVector(from, to, null, name, slice);
+		super.addVector(from, to, null, intern(name), slice);
 	}
 
 	/** add a new simple vector to the root child list (no prefix) */
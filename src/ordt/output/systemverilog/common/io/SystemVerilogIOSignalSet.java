@@ -14,6 +14,9 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 	protected List<SystemVerilogIOElement> childList = new ArrayList<SystemVerilogIOElement>(); // signals/signalsets in this signalset
 	protected String type;   // type of this signalset  
 	protected boolean hasExtType = false;   // base IOSignalSet has no external type  
+	private boolean hashesFrozen = false;  // if true, memoized hashes are valid (set once the structure is complete)
+	private int memoHash;  // memoized hashCode without reps/name
+	private int memoHashWithReps;  // memoized hashCode with reps/name
 
 	public SystemVerilogIOSignalSet(String tagPrefix, String name, int reps) { 
 		this.name = (name == null)? "" : name;
@@ -116,6 +119,7 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 	protected void addVector(Integer from, Integer to, String namePrefix, String name, int lowIndex, int size) {
 		SystemVerilogIOSignal sig = new SystemVerilogIOSignal(from, to, namePrefix, name, lowIndex, size);
 		childList.add(sig);
+		hashesFrozen = false;
 		//System.out.println("SystemVerilogIOSignalSet addVector: adding " + name + " to set " + getName());
 	}
 
@@ -123,6 +127,7 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 	public void addVector(Integer from, Integer to, String namePrefix, String name, String slice) {
 		SystemVerilogIOSignal sig = new SystemVerilogIOSignal(from, to, namePrefix, name, slice);
 		childList.add(sig);
+		hashesFrozen = false;
 		//System.out.println("SystemVerilogIOSignalSet addVector: adding " + name + " to set " + getName());
 	}
 	
@@ -130,6 +135,7 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 	public void addVectorArray(Integer from, Integer to, String namePrefix, String name, String packedSlice, String unpackedSlice) {
 		SystemVerilogIOSignal sig = new SystemVerilogIO2DSignal(from, to, namePrefix, name, packedSlice, unpackedSlice);
 		childList.add(sig);
+		hashesFrozen = false;
 	}
 	
 	/** add children of another IOsignallist to this list
@@ -137,17 +143,20 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 	 */
 	protected void addList(SystemVerilogIOSignalSet sigSet) {
 		childList.addAll(sigSet.getChildList());  
+		hashesFrozen = false;
 	}
 
 	/** add a nested signalset to this signalset */
 	protected void addSignalSet(SystemVerilogIOSignalSet newSigSet) {
 		childList.add(newSigSet);  // add set to signal list 
+		hashesFrozen = false;
 		//System.out.println("  SystemVerilogIOSignalSet addSignalSet: new intf=" + newSigSet.getName() + " to " + getName());
 	}
 	
 	/** add a child element to this signalset */
 	protected void addElement(SystemVerilogIOElement elem) {
 		childList.add(elem);  // add set to signal list 
+		hashesFrozen = false;
 	}
 
 	// ----------- methods to be overriden by child classes
@@ -330,12 +339,11 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 				// if this is leaf element then return it
 				if (!ioElem.isSignalSet()) {
 					String rootName = ioElem.getFullName(fullPrefix, true);  // non-hierarchical name will be root
-					String hierName = ioElem.getFullName(fullHierPrefix, !newFoundFirstNonVirtual); // hierarchical name for this root - add tagPrefix if non-hier name
+					String hierName = useHierSignalNames? ioElem.getFullName(fullHierPrefix, !newFoundFirstNonVirtual) : null; // hierarchical name for this root - add tagPrefix if non-hier name
 					Integer elemFrom = ioElem.getFrom();
 					Integer elemTo = ioElem.getTo();
 					// check this element against rule set, return non-null source signal name if a match
-					String signalName = useHierSignalNames? rules.getRemappedName(rootName, hierName, elemFrom, elemTo, true):
-						rules.getRemappedName(rootName, null, elemFrom, elemTo, true);
+					String signalName = rules.getRemappedName(rootName, hierName, elemFrom, elemTo, true);
 					//if (!isVirtual()) System.out.println("SystemVerilogIOSignalSet loadWrapperMapSources: hierName=" + hierName + ", signalName=" + signalName );
 					// if a match then add to mappings
 					if (signalName!=null) {
@@ -377,9 +385,10 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 		return equals(obj, false);  // reps not included at root level
 	}
 	
-	/** compute object hashCode with or without reps/name */
+	/** compute object hashCode with or without reps/name (memoized hashes are used once frozen) */
 	@Override
 	protected int hashCode(boolean includeReps) {
+		if (hashesFrozen) return includeReps? memoHashWithReps : memoHash;
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + ((childList == null) ? 0 : getChildListHashCodeWithReps(childList));
@@ -392,6 +401,17 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 		return result;
 	}
 
+	/** memoize hashes of this signalset and its child signalsets once the structure is complete.  Children
+	 *  may be shared by several sets, so a frozen set (or any of its descendants) must not be changed afterward */
+	protected void freezeHashes() {
+		if (hashesFrozen) return;
+		for (SystemVerilogIOElement child : childList)
+			if ((child != null) && child.isSignalSet()) ((SystemVerilogIOSignalSet) child).freezeHashes();
+		memoHash = hashCode(false);
+		memoHashWithReps = hashCode(true);
+		hashesFrozen = true;
+	}
+
 	/** compute childList hashCode including child reps */
 	private int getChildListHashCodeWithReps(List<SystemVerilogIOElement> childList) {
 		  int hashCode = 1;
@@ -410,6 +430,8 @@ public class SystemVerilogIOSignalSet extends SystemVerilogIOElement {
 		if (getClass() != obj.getClass())
 			return false;
 		SystemVerilogIOSignalSet other = (SystemVerilogIOSignalSet) obj;
+		if (hashesFrozen && other.hashesFrozen && (hashCode(includeReps) != other.hashCode(includeReps)))  // memoized hashes reject most mismatches without recursion
+			return false;
 		if (childList == null) {
 			if (other.childList != null)
 				return false;
@@ -0,0 +1,110 @@
+package ordt.output.systemverilog.common.io;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/** hash-consing table of io signalset structures.
+ *  Each signalset is assigned a canonical id computed bottom-up from the ids of its children, so structurally
+ *  identical sets (as defined by SystemVerilogIOSignalSet equals) get the same id.  Since a child is represented
+ *  by its id, matching a set compares only its local fields and child id list rather than the full hierarchy.
+ *  Ids and signalset hashes are memoized per set instance once a set is visited, so sets must be complete before
+ *  they are added and should not be changed afterward.
+ */
+public class SystemVerilogIOSignalSetTable {
+	private HashMap<Object, Integer> ids = new HashMap<Object, Integer>();  // canonical id of each unique set key or signal
+	private IdentityHashMap<SystemVerilogIOSignalSet, int[]> setIds = new IdentityHashMap<SystemVerilogIOSignalSet, int[]>();  // ids of visited sets (without, with reps/name)
+
+	/** return the canonical id of a signalset (reps and name are not compared at root level) */
+	public int getId(SystemVerilogIOSignalSet sset) {
+		return getSetIds(sset)[0];
+	}
+
+	/** return the number of unique structures and signals in the table */
+	public int size() {
+		return ids.size();
+	}
+
+	/** return ids of a signalset without and with reps/name, adding child ids recursively */
+	private int[] getSetIds(SystemVerilogIOSignalSet sset) {
+		int[] ssetIds = setIds.get(sset);
+		if (ssetIds != null) return ssetIds;
+		sset.freezeHashes();  // structure is complete once it is added to the table
+		List<SystemVerilogIOElement> children = sset.getChildList();
+		int[] childIds = new int[children.size()];
+		for (int idx = 0; idx < childIds.length; idx++) {
+			SystemVerilogIOElement child = children.get(idx);
+			// children are compared with reps, signals are compared using their equals
+			childIds[idx] = (child == null)? -1 : child.isSignalSet()? getSetIds((SystemVerilogIOSignalSet) child)[1] : intern(child);
+		}
+		ssetIds = new int[] { intern(new SetKey(sset, false, childIds)), intern(new SetKey(sset, true, childIds)) };
+		setIds.put(sset, ssetIds);
+		return ssetIds;
+	}
+
+	/** return the id of a key, adding it if new */
+	private int intern(Object key) {
+		Integer id = ids.get(key);
+		if (id == null) {
+			id = ids.size();
+			ids.put(key, id);
+		}
+		return id;
+	}
+
+	/** local fields and child ids of a signalset */
+	private static class SetKey {
+		private final Class<?> setClass;
+		private final Integer from, to;
+		private final String tagPrefix;
+		private final boolean hasExtType;
+		private final SystemVerilogIOSignalSet.SignalSetType signalSetType;
+		private final boolean includeReps;
+		private final int reps;
+		private final String name;
+		private final int[] childIds;
+		private final int hash;
+
+		SetKey(SystemVerilogIOSignalSet sset, boolean includeReps, int[] childIds) {
+			this.setClass = sset.getClass();
+			this.from = sset.getFrom();
+			this.to = sset.getTo();
+			this.tagPrefix = sset.getTagPrefix();
+			this.hasExtType = sset.hasExtType();
+			this.signalSetType = sset.getSignalSetType();
+			this.includeReps = includeReps;
+			this.reps = includeReps? sset.getReps() : 0;
+			this.name = includeReps? sset.getName() : null;
+			this.childIds = childIds;
+			int result = setClass.hashCode();
+			result = 31 * result + ((from == null) ? 0 : from.hashCode());
+			result = 31 * result + ((to == null) ? 0 : to.hashCode());
+			result = 31 * result + ((tagPrefix == null) ? 0 : tagPrefix.hashCode());
+			result = 31 * result + (hasExtType ? 1231 : 1237);
+			result = 31 * result + signalSetType.ordinal();
+			result = 31 * result + reps;
+			result = 31 * result + ((name == null) ? 0 : name.hashCode());
+			this.hash = 31 * result + Arrays.hashCode(childIds);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof SetKey)) return false;
+			SetKey other = (SetKey) obj;
+			return (hash == other.hash) && (setClass == other.setClass) && equal(from, other.from) && equal(to, other.to) &&
+					equal(tagPrefix, other.tagPrefix) && (hasExtType == other.hasExtType) && (signalSetType == other.signalSetType) &&
+					(includeReps == other.includeReps) && (reps == other.reps) && equal(name, other.name) && Arrays.equals(childIds, other.childIds);
+		}
+
+		private static boolean equal(Object a, Object b) {
+			return (a == null)? (b == null) : a.equals(b);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package ordt.output.systemverilog.common.wrap;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -16,6 +17,7 @@ import ordt.output.systemverilog.common.SystemVerilogInstance;
 import ordt.output.systemverilog.common.SystemVerilogLocationMap;
 import ordt.output.systemverilog.common.SystemVerilogModule;
 import ordt.output.systemverilog.common.SystemVerilogSignal;
+import ordt.output.systemverilog.common.SystemVerilogSignalNameTable;
 import ordt.output.systemverilog.common.RemapRuleList.RemapRuleType;
 import ordt.output.systemverilog.common.io.SystemVerilogIOSignalList;
 
@@ -23,7 +25,7 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 
 	// remap list w/ hash by base source signal
 	private WrapperSignalMap wrapMappings = new WrapperSignalMap();  // set of source to destination signal mappings
-	private HashMap<WrapperRemapXform.WrapperRemapType, WrapperRemapXform> xformsDefined = new HashMap<WrapperRemapXform.WrapperRemapType, WrapperRemapXform>();  // xform modules used in this wrapper
+	private EnumMap<WrapperRemapXform.WrapperRemapType, WrapperRemapXform> xformsDefined = new EnumMap<WrapperRemapXform.WrapperRemapType, WrapperRemapXform>(WrapperRemapXform.WrapperRemapType.class);  // xform modules used in this wrapper (in type order)
 	
 	/** create a wrapper module
 	 * @param writer - OutputWriterIntf to be used for output generation 
@@ -35,6 +37,17 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		super(writer, insideLocs, defaultClkName, coverageResetName, useAsyncResets);
 	}
 
+	/** create a wrapper module using a shared signal name table
+	 * @param writer - OutputWriterIntf to be used for output generation 
+	 * @param insideLocs - ORed Integer of locations in top level in this module (not including children) 
+	 * @param defaultClkName - default clock name used for generated registers
+	 * @param signalNames - table used to intern signal names
+	 */
+	public SystemVerilogWrapModule(OutputWriterIntf writer, int insideLocs, String defaultClkName,
+			String coverageResetName, boolean useAsyncResets, SystemVerilogSignalNameTable signalNames) {
+		super(writer, insideLocs, defaultClkName, coverageResetName, useAsyncResets, signalNames);
+	}
+
 	// ------------------- override child instance methods/classes  -----------------------
 
 	@Override
@@ -147,27 +160,23 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 					
 			// if same slice then just return with no change
 			if ((sliceInfo.getSize() == origSize) && (indexChange == 0)) return retList;
+			// slice must be within current bit range
+			if ((indexChange < 0) || (indexChange + sliceInfo.getSize() > origSize))
+				MsgUtils.errorExit("wrapper slice " + sliceInfo.getRefArray() + " is invalid for " + (isSourceSlice? "source of signal " : "signal ") + dest.getName());
 			// create a new slice before current if needed
 			if (indexChange > 0) {
 				WrapperRemapDestination newDest = new WrapperRemapDestination(this);  // start with a copy of the current
 				newDest.getDest().setSize(indexChange);   // only size of this slice changes
                 retList.add(newDest);
 			}
-			else if (indexChange < 0)
-				MsgUtils.errorExit("wrapper slice " + sliceInfo.getRefArray() + " is invalid for " + (isSourceSlice? "source of signal " : "signal ") + dest.getName());
 			// create a new slice after current if needed
-			else if (indexChange + sizeChange < 0) {
+			if (sizeChange + indexChange < 0) {
 				WrapperRemapDestination newDest = new WrapperRemapDestination(this);  // start with a copy of the current
-				int newSize = origSize - (indexChange + sizeChange);
-				int newSrcLowIndex = origSrcLowIndex + indexChange + sliceInfo.getSize();
-				int newDstLowIndex = origDstLowIndex + indexChange + sliceInfo.getSize();
-				this.setSrcLowIndex(newSrcLowIndex);   // set src low index of this slice
-				newDest.getDest().setLowIndex(newDstLowIndex);   // set low index of this slice 
-				newDest.getDest().setSize(newSize);   // set size of this slice
+				newDest.setSrcLowIndex(origSrcLowIndex + indexChange + sliceInfo.getSize());   // set src low index of this slice
+				newDest.getDest().setLowIndex(origDstLowIndex + indexChange + sliceInfo.getSize());   // set low index of this slice 
+				newDest.getDest().setSize(-(sizeChange + indexChange));   // set size of this slice
                 retList.add(newDest);
 			}
-			else if (indexChange + sizeChange > 0)
-				MsgUtils.errorExit("wrapper slice " + sliceInfo.getRefArray() + " is invalid for " + (isSourceSlice? "source of signal " : "signal ") + dest.getName());
             // update size and index of this object
 			int newSrcLowIndex = origSrcLowIndex + indexChange;
 			int newDstLowIndex = origDstLowIndex + indexChange;
@@ -226,12 +235,13 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		 *                   The key string can either be a direct match or else signals will be checked against patterns in order.
 		 *                   If key is of the form <name>[range] the transform will only be applied to the specified slice
 		 *                   and the source/destination mapping will be changed accordingly
+		 * @param xformPatterns - precompiled pattern keys of xformMap in map order
 		 */
-		public void setRemapTransforms(LinkedHashMap<String, WrapperRemapXform> xformMap) {
+		public void setRemapTransforms(LinkedHashMap<String, WrapperRemapXform> xformMap, List<WrapperXformPattern> xformPatterns) {
     		SystemVerilogSignal src = this.getSource();  // get source signal info
     		// if source is an input, try to match it
     		if (this.isInput()) {
-    			Pair<WrapperRemapXform, SystemVerilogSignal> retPair = getMatchingXform(src, xformMap);
+    			Pair<WrapperRemapXform, SystemVerilogSignal> retPair = getMatchingXform(src, xformMap, xformPatterns);
         		// if transform was assigned, apply to all destinations
         		if (retPair != null) { 
             		WrapperRemapXform xform = retPair.first();
@@ -250,23 +260,23 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
     		}
     		// otherwise, check each destination for a match
     		else {
+				List<WrapperRemapDestination> newDests = new ArrayList<WrapperRemapDestination>();
     			for (WrapperRemapDestination remapDest: this.getDests()) {
     				if (remapDest.isOutput()) {
     		    		SystemVerilogSignal dst = remapDest.getDest();  // get destination signal info
-    	    			Pair<WrapperRemapXform, SystemVerilogSignal> retPair = getMatchingXform(dst, xformMap);
+    	    			Pair<WrapperRemapXform, SystemVerilogSignal> retPair = getMatchingXform(dst, xformMap, xformPatterns);
     	        		if (retPair != null) {
         	        		WrapperRemapXform xform = retPair.first();
         	        		SystemVerilogSignal sliceInfo = retPair.second();
-    						List<WrapperRemapDestination> newDests = new ArrayList<WrapperRemapDestination>();
             				// add remaining slices to dest list with updated src index, dest index, dest size, and same xform
             				newDests.addAll(remapDest.createNewDestSlices(sliceInfo, false));
             				// update src index, dest index, dest size, and transform, 
             				remapDest.setXform(xform);
             				//System.out.println("SystemVerilogWrapModule setRemapTransforms: setting xform on dst=" + dst.getName() + " to " + xform.getType() + " newDests=" + newDests.size());
-                			this.getDests().addAll(newDests);
     	        		}
     				}
     			}			
+    			this.getDests().addAll(newDests);  // add new slices after loop so dest list is not modified during iteration
     		}
 		}
 
@@ -276,63 +286,81 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		 *                   The key string can either be a direct match or else signals will be checked against patterns in order.
 		 *                   If key is of the form <name>[range] the transform will only be applied to the specified slice
 		 *                   and the source/destination mapping will be changed accordingly
+		 * @param xformPatterns - precompiled pattern keys of xformMap in map order
 		 * @return valid WrapperRemapXform if a match or null otherwise
 		 */                   
-		private Pair<WrapperRemapXform, SystemVerilogSignal> getMatchingXform(SystemVerilogSignal target, LinkedHashMap<String, WrapperRemapXform> xformMap) {
+		private Pair<WrapperRemapXform, SystemVerilogSignal> getMatchingXform(SystemVerilogSignal target, LinkedHashMap<String, WrapperRemapXform> xformMap, List<WrapperXformPattern> xformPatterns) {
 			// look for exact source match first
 			String targetName = target.getName();
-    		if (xformMap.containsKey(targetName)) {
-    			return new Pair<WrapperRemapXform, SystemVerilogSignal>(xformMap.get(targetName), target);  // direct match, so no slice
+			WrapperRemapXform directXform = xformMap.get(targetName);
+    		if (directXform != null) {
+    			return new Pair<WrapperRemapXform, SystemVerilogSignal>(directXform, target);  // direct match, so no slice
     		}
     		// otherwise, loop through patterns looking for a match
-    		else for (String rawPattern: xformMap.keySet()) {
-    			// only treat as a pattern if wildcards or slice info  
-    			if (rawPattern.contains("*") || rawPattern.contains("[")) {
-    				// extract the name match pattern and range from the raw pattern 
-    				String namePattern = rawPattern;  // by default pattern is as-is 
-    				SystemVerilogSignal patternInfo = getNamePatternInfo(rawPattern, target);
-    				if (patternInfo != null) {  // proceed if pattern is valid
-    					namePattern = patternInfo.getName();
-    					// now look for a target name match
-        				Pattern nPattern = Pattern.compile(namePattern);
-        				Matcher m = nPattern.matcher(targetName);
-        	            //if (targetName.endsWith("_o")) System.out.println("WrapperRemapInstance getMatchingXform: attempting match for target=" + targetName + ", rawPattern=" + rawPattern + ", namePattern=" + namePattern);
-        				if (m.matches()) {
-            				// return the transform and slice info for this pattern (first match)
-            	            //System.out.println("WrapperRemapInstance getMatchingXform: match found for target=" + targetName + ", rawPattern=" + rawPattern + ", namePattern=" + namePattern);
-            	            //System.out.println("  xform=" + xformMap.get(rawPattern).getXformString("src","dst", patternInfo.getSize(), null) + ", patternInfo=" + patternInfo.getName()  + ", i=" + patternInfo.getLowIndex() + ", s=" + patternInfo.getSize());
-        	    			return new Pair<WrapperRemapXform, SystemVerilogSignal>(xformMap.get(rawPattern), patternInfo);
-        				}
-    				}
+    		else for (WrapperXformPattern xformPattern: xformPatterns) {
+    			if (xformPattern.matches(targetName)) {
+    				// return the transform and slice info for this pattern (first match)
+    				return new Pair<WrapperRemapXform, SystemVerilogSignal>(xformPattern.getXform(), xformPattern.getPatternInfo(target));
     			}
     		}
 			return null;  // no match
 		}
+	}
+	
+	/** precompiled wrapper xform pattern key w/ optional slice info */
+	private static class WrapperXformPattern {
+		private static final Pattern slicePattern = Pattern.compile("^(.*?)(\\s*\\[(\\d+)(:(\\d+))?\\])?$"); // detect slice form 
+		private WrapperRemapXform xform;  // transform applied on match
+		private String namePattern;  // name regex
+		private Pattern compiledNamePattern = null;  // compiled on first use
+		private Integer leftIdx;
+		private Integer rightIdx;
+
+		private WrapperXformPattern(String namePattern, Integer leftIdx, Integer rightIdx, WrapperRemapXform xform) {
+			this.namePattern = namePattern;
+			this.leftIdx = leftIdx;
+			this.rightIdx = rightIdx;
+			this.xform = xform;
+		}
 
-		/** check for a valid raw pattern and return as a signal instance (pattternName, lowindex, size) or null if invalid 
+		/** create a pattern from an xform map key or return null if key is not a valid pattern
 		 * 
 		 * @param rawPattern - raw pattern with wildcards and range info
+		 * @param xform - transform associated with this pattern
+		 */
+		private static WrapperXformPattern create(String rawPattern, WrapperRemapXform xform) {
+			// only treat as a pattern if wildcards or slice info  
+			if (!(rawPattern.contains("*") || rawPattern.contains("["))) return null;
+			Matcher m = slicePattern.matcher(rawPattern.replaceAll("\\\"", ""));  // remove quotes so slice is at end of pattern
+			if (!m.matches()) return null;
+			String namePattern = m.group(1);
+			Integer leftIdx = (m.group(3)!=null)? Integer.valueOf(m.group(3)) : null;
+			Integer rightIdx = (m.group(5)!=null)? Integer.valueOf(m.group(5)) : null;
+			// build name match regex
+			namePattern = '^' + namePattern + '$';
+			namePattern = namePattern.replaceAll("\\*", ".*");  // allow wildcards
+			return new WrapperXformPattern(namePattern, leftIdx, rightIdx, xform);
+		}
+
+		private WrapperRemapXform getXform() {
+			return xform;
+		}
+
+		/** return true if targetName matches this pattern */
+		private boolean matches(String targetName) {
+			if (compiledNamePattern == null) compiledNamePattern = Pattern.compile(namePattern);
+			return compiledNamePattern.matcher(targetName).matches();
+		}
+
+		/** return pattern info as a signal instance (pattternName, lowindex, size) 
+		 * 
 		 * @param target - target signal info (used to set default pattern size and index)
 		 * @return SystemVerilog signal containing pattern name, lowIndex, and size
 		 */
-		private SystemVerilogSignal getNamePatternInfo(String rawPattern, SystemVerilogSignal target) {
-            String namePattern;
-			Pattern slicePattern = Pattern.compile("^(.*)(\\s*\\[(\\d+)(:(\\d+))?\\])?$"); // detect slice form 
-			Matcher m = slicePattern.matcher(rawPattern);
-			if (m.matches()) {
-				namePattern = m.group(1).replaceAll("\\\"", "");
-				//System.out.println("SystemVerilogWrapModule getNamePatternInfo: ");
-				//for(int i=0; i<=m.groupCount(); i++) System.out.println("  " + i + ": " + m.group(i));
-				Integer leftIdx = (m.group(3)!=null)? Integer.valueOf(m.group(3)) : null;
-				Integer rightIdx = (m.group(5)!=null)? Integer.valueOf(m.group(5)) : null;
-				Integer newLowIdx = (rightIdx != null)? rightIdx : (leftIdx != null)? leftIdx : target.getLowIndex();
-				Integer newSize = (rightIdx != null)? leftIdx - rightIdx - 1 : (leftIdx != null)? 1 : target.getSize();
-				// check for a name match
-				namePattern = '^' + namePattern + '$';
-				namePattern = namePattern.replaceAll("\\*", ".*");  // allow wildcards
-				return new SystemVerilogSignal(namePattern, newLowIdx, newSize);
-			}
-			return null;
+		private SystemVerilogSignal getPatternInfo(SystemVerilogSignal target) {
+			Integer newLowIdx = (rightIdx != null)? rightIdx : (leftIdx != null)? leftIdx : target.getLowIndex();
+			Integer newSize = (rightIdx != null)? leftIdx - rightIdx + 1 : (leftIdx != null)? 1 : target.getSize();
+			return new SystemVerilogSignal(namePattern, newLowIdx, newSize);
 		}
 	}
 	
@@ -348,9 +376,9 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		 * @param isInput - if true, source signal will be tagged as an external input
 		 */
 		public void addSource(String rootName, String signalName, Integer lowIndex, Integer size, boolean isInput) {
-			if (mappings.containsKey(rootName)) MsgUtils.errorExit("Wrapper module found multiple source signals named " + rootName);
-			mappings.put(rootName, new WrapperRemapInstance(signalName, lowIndex, size, true, isInput));	// add a valid source
-			definedSignals.add(signalName);  // save all sources as defined signals
+			if (mappings.put(rootName, new WrapperRemapInstance(signalName, lowIndex, size, true, isInput)) != null)	// add a valid source
+				MsgUtils.errorExit("Wrapper module found multiple source signals named " + rootName);
+			setDefinedSignal(signalName);  // save all sources as defined signals
 			//if (signalName.contains("cl")) System.out.println("SystemVerilogWrapModule WrapperSignalMap: found " + signalName);
 		}
 
@@ -363,12 +391,14 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		 */
 		public void addDestination(String rootName, String signalName, Integer lowIndex, Integer size, boolean isOutput) {
 			// if this destination has no source, add it and tag as invalid
-			if (!mappings.containsKey(rootName)) {
+			WrapperRemapInstance remapInst = mappings.get(rootName);
+			if (remapInst == null) {
 				MsgUtils.errorMessage("Wrapper module did not find a source for destination signal " + rootName);
-				mappings.put(rootName, new WrapperRemapInstance(rootName, lowIndex, size, false, false));	// add an invalid source		
+				remapInst = new WrapperRemapInstance(rootName, lowIndex, size, false, false);	// add an invalid source
+				mappings.put(rootName, remapInst);		
 			}
 			// now add a destination
-			mappings.get(rootName).addDestination(signalName, lowIndex, size, isOutput);	// add a destination
+			remapInst.addDestination(signalName, lowIndex, size, isOutput);	// add a destination
 			// add dest define if not encapsulated (skip for sv outputs)
         	if (!signalName.contains(".") && (!isOutput || isLegacyVerilog())) wireDefList.addVector(signalName, lowIndex, size); 
 		}
@@ -383,8 +413,7 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		/** generate wire, register defines and specified mapping statements */
 		public void generateMapOutput() {
 			// loop through map sources
-        	for (String root: mappings.keySet()) {
-        		WrapperRemapInstance wrapInst = mappings.get(root);
+        	for (WrapperRemapInstance wrapInst: mappings.values()) {
         		SystemVerilogSignal src = wrapInst.getSource();  // get source signal info
         		// add non-input/non-hierarchical sources to wire def list
         		if (wrapInst.isValidSource() && !wrapInst.isInput() && !src.getName().contains(".")) {
@@ -395,11 +424,11 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
         		if (remapDestList.isEmpty())
         			MsgUtils.warnMessage("no destinations found for wrapper source signal " + src.getName());
         		// add all destinations to wire list and use specified xform
-    			for (WrapperRemapDestination remapDest: wrapInst.getDests()) {
+    			for (WrapperRemapDestination remapDest: remapDestList) {
     				SystemVerilogSignal dst = remapDest.getDest();   // get destination signal info 
     				// if unequal src/dest sizes, add slice info
     				boolean sameSize = (src.getSize() == dst.getSize());
-    				String srcName = sameSize? src.getName() : src.getName() + SystemVerilogSignal.genRefArrayString(src. getLowIndex(), dst.getSize());
+    				String srcName = sameSize? src.getName() : src.getName() + SystemVerilogSignal.genRefArrayString(remapDest.getSrcLowIndex(), dst.getSize());
     				String dstName = sameSize? dst.getName() : dst.getName() + SystemVerilogSignal.genRefArrayString(dst. getLowIndex(), dst.getSize());
     				// add transform is source is valid
     				if (wrapInst.isValidSource()) {
@@ -415,7 +444,7 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
     		            	optionalParms.put("defaultClkName", defaultClkName);
     		            	// if an override clock specified and it doesnt exist, add to IO and definedSignals
     		            	String overrideClkName = ((WrapperRemapSyncStagesXform) xform).getClkName();
-    		            	if ((overrideClkName!=null) && !overrideClkName.isEmpty() && !definedSignals.contains(overrideClkName)) {
+    		            	if ((overrideClkName!=null) && !overrideClkName.isEmpty() && !hasDefinedSignal(overrideClkName)) {
     		            		MsgUtils.infoMessage("New clock specified in wrapper (" + overrideClkName + ") will be added to IO.");
     		            		addSimpleScalarFrom(SystemVerilogLocationMap.getExternalId(), overrideClkName);
     		            		//System.out.println("SystemVerilogWrapModule generateMapOutput: ioHash size=" + ioHash.size());
@@ -442,11 +471,16 @@ public class SystemVerilogWrapModule extends SystemVerilogModule {
 		 *                   and the source/destination mapping will be changed accordingly
 		 */
 		public void setRemapTransforms(LinkedHashMap<String, WrapperRemapXform> xformMap) {
+			// compile the pattern keys once for all sources
+			List<WrapperXformPattern> xformPatterns = new ArrayList<WrapperXformPattern>();
+			for (String rawPattern: xformMap.keySet()) {
+				WrapperXformPattern xformPattern = WrapperXformPattern.create(rawPattern, xformMap.get(rawPattern));
+				if (xformPattern != null) xformPatterns.add(xformPattern);
+			}
 			// loop through map sources
-        	for (String root: mappings.keySet()) {
-        		WrapperRemapInstance wrapInst = mappings.get(root);
+        	for (WrapperRemapInstance wrapInst: mappings.values()) {
         		// process IO xform on this remap instance (src-dests grouping)
-        		wrapInst.setRemapTransforms(xformMap);
+        		wrapInst.setRemapTransforms(xformMap, xformPatterns);
 		    }
 		}
 	}
@@ -3,15 +3,16 @@ package ordt.output.systemverilog.common.wrap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WrapperRemapSyncStagesXform extends WrapperRemapXform {
 
 	protected int delayStages = 1;
 	protected String clkName;
 	protected String moduleOverride;
-	static int instanceCount = 0;
+	static AtomicInteger instanceCount = new AtomicInteger(0);  // shared by all sync stage xforms, so atomic
 	static String moduleName = "ordt_wrap_sync_stages";
-    private static boolean hasBeenWritten = false;
+    private static volatile boolean hasBeenWritten = false;
 	
 	public WrapperRemapSyncStagesXform(int delayStages, String clkName, String moduleOverride) {
 		super();
@@ -30,7 +31,7 @@ public class WrapperRemapSyncStagesXform extends WrapperRemapXform {
 	public String getXformString(String srcName, String dstName, int width, HashMap<String, String> optionalParms) { // optionalParms: defaultClkName
 		String instancedClk = (clkName!=null)? clkName : optionalParms.get("defaultClkName");
 		String instancedModule = (moduleOverride!=null)? moduleOverride : moduleName;
-		return instancedModule + " #(.STAGES(" + delayStages + "), .WIDTH(" + width + ")) sync_delay_" + instanceCount++ + 
+		return instancedModule + " #(.STAGES(" + delayStages + "), .WIDTH(" + width + ")) sync_delay_" + instanceCount.getAndIncrement() + 
 				 " (" + instancedClk + ", " + srcName + ", " + dstName + ");";  // instance sync delay module
 	}
 	
@@ -12,6 +12,7 @@ import ordt.output.JspecSubCategory;
 import ordt.output.common.OutputLine;
 import ordt.output.systemverilog.common.SystemVerilogFunction;
 import ordt.output.systemverilog.common.SystemVerilogTask;
+import ordt.parameters.ExtParameters;
 
 public class UVMRdlClasses extends UVMRegsCommon {
 
@@ -72,6 +73,11 @@ public class UVMRdlClasses extends UVMRegsCommon {
 	 * @param outputList 
 	 * @param indentLvl */
 	public static void buildRdlClasses(List<OutputLine> outputList, int indentLvl) {
+		// forward declare reg class if referenced by block bulk methods
+		if (ExtParameters.uvmregsIncludeBulkReset()) {
+			outputList.add(new OutputLine(indentLvl, ""));	
+			outputList.add(new OutputLine(indentLvl, "typedef class uvm_reg_rdl;"));
+		}
 		// create derived block class
 		buildUvmRegBlockRdlClass(outputList, indentLvl);
 		// create derived reg class
@@ -112,6 +118,9 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		// user defined property array
 		outputList.add(new OutputLine(indentLvl, "local string m_def_properties[ string ];")); 
 		
+		// callback setup indicator (lazy array elements may be built before or after parent callback setup)
+		if (ExtParameters.uvmregsLazyArrayThreshold() > 0) outputList.add(new OutputLine(indentLvl, "local bit m_rdl_callbacks_added = 0;")); 
+		
 		// create new function
 		SystemVerilogFunction func = new SystemVerilogFunction(null, "new");
 		func.addIO("input", "string", "name", "\"uvm_reg_rdl\"");
@@ -158,9 +167,13 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		
 		// add reg test info methods
 		buildRegTestInfoMethods(outputList, indentLvl);
+		
+		// add packed reset value methods if bulk reset routines are enabled
+		if (ExtParameters.uvmregsIncludeBulkReset()) buildRegResetValueMethods(outputList, indentLvl);
 				
 		// add_callbacks method
 		buildAddCallbacksMethod(outputList, indentLvl);
+		if (ExtParameters.uvmregsLazyArrayThreshold() > 0) buildAddRdlCallbacksMethod(outputList, indentLvl);
 		
 		// add get ancestor method
 		buildRdlAncestorMethod(outputList, indentLvl);
@@ -340,9 +353,40 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		outputList.add(new OutputLine(indentLvl, "bit m_rdl_address_map = 0;")); 
 		outputList.add(new OutputLine(indentLvl, "string m_rdl_address_map_hdl_path = \"\";")); 
 		
+		// cached rdl tag path from enclosing address map
+		if (ExtParameters.uvmregsStaticHdlPaths()) {
+			outputList.add(new OutputLine(indentLvl, "local string m_rdl_tag_path;")); 
+			outputList.add(new OutputLine(indentLvl, "local string m_rdl_hdl_root;")); 
+			outputList.add(new OutputLine(indentLvl, "local bit m_rdl_has_map = 0;")); 
+			outputList.add(new OutputLine(indentLvl, "local bit m_rdl_tag_path_valid = 0;")); 
+		}
+		
 		// user defined property array
 		outputList.add(new OutputLine(indentLvl, "local string m_def_properties[ string ];")); 
 		
+		// lazy array address ranges
+		if (ExtParameters.uvmregsLazyArrayThreshold() > 0) {
+			outputList.add(new OutputLine(indentLvl, "local string m_lazy_name[$];")); 
+			outputList.add(new OutputLine(indentLvl, "local uvm_reg_addr_t m_lazy_base[$];")); 
+			outputList.add(new OutputLine(indentLvl, "local uvm_reg_addr_t m_lazy_stride[$];")); 
+			outputList.add(new OutputLine(indentLvl, "local int unsigned m_lazy_reps[$];")); 
+			outputList.add(new OutputLine(indentLvl, "local bit m_rdl_lazy_sparse = 0;")); 
+			outputList.add(new OutputLine(indentLvl, "local bit m_rdl_callbacks_added = 0;")); 
+		}
+		
+		// flattened register list for bulk reset routines
+		if (ExtParameters.uvmregsIncludeBulkReset()) {
+			outputList.add(new OutputLine(indentLvl, "local uvm_reg_rdl m_rdl_regs[$];")); 
+			outputList.add(new OutputLine(indentLvl, "local bit m_rdl_regs_valid = 0;")); 
+		}
+		
+		// address lookup interval table
+		if (ExtParameters.uvmregsIncludeAddressLookup()) {
+			outputList.add(new OutputLine(indentLvl, "typedef struct { uvm_reg_addr_t base; uvm_reg_addr_t stride; int unsigned reps; int unsigned size; int unsigned id; bit is_block; uvm_reg_addr_t max_end; } rdl_addr_range_t;")); 
+			outputList.add(new OutputLine(indentLvl, "local rdl_addr_range_t m_addr_ranges[$];")); 
+			outputList.add(new OutputLine(indentLvl, "local bit m_addr_ranges_sorted = 1;")); 
+		}
+		
 		// create new function
 		SystemVerilogFunction func = new SystemVerilogFunction(null, "new");
 		func.addIO("input", "string", "name", "\"uvm_reg_block_rdl\"");
@@ -355,6 +399,7 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		func.addComment("Set indication that this block represents an rdl addrmap.");	
 		func.addIO("input", "bit", "val", "0");
 		func.addStatement("m_rdl_address_map = val;");
+		if (ExtParameters.uvmregsStaticHdlPaths()) func.addStatement("invalidate_rdl_tag_path();");
 		outputList.addAll(func.genOutputLines(indentLvl));	
 		
 		// set_rdl_address_map
@@ -362,6 +407,7 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		func.addComment("Set the root hdl path to the address map module that this block represents.");	
 		func.addIO("input", "string", "path", "\"\"");
 		func.addStatement("m_rdl_address_map_hdl_path = path;");
+		if (ExtParameters.uvmregsStaticHdlPaths()) func.addStatement("invalidate_rdl_tag_path();");
 		func.addStatement("this.set_hdl_path_root(path);");
 		outputList.addAll(func.genOutputLines(indentLvl));	
 		
@@ -370,6 +416,7 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		
 		// add_callbacks method
 		buildAddCallbacksMethod(outputList, indentLvl);
+		if (ExtParameters.uvmregsLazyArrayThreshold() > 0) buildAddRdlCallbacksMethod(outputList, indentLvl);
 		
 		// add get ancestor method
 		buildRdlAncestorMethod(outputList, indentLvl);
@@ -377,6 +424,15 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		// add user defined property methods
 		buildUserDefinedPropertyMethods(outputList, indentLvl);
 		
+		// add address lookup methods if lookup tables are enabled
+		if (ExtParameters.uvmregsIncludeAddressLookup()) buildAddrLookupMethods(outputList, indentLvl);
+		
+		// add lazy array build methods if lazy arrays are enabled
+		if (ExtParameters.uvmregsLazyArrayThreshold() > 0) buildLazyArrayMethods(outputList, indentLvl);
+		
+		// add bulk reset/mirror methods if enabled
+		if (ExtParameters.uvmregsIncludeBulkReset()) buildBulkResetMethods(outputList, indentLvl);
+		
 		// close out the class definition
 		outputList.add(new OutputLine(indentLvl, ""));	
 		outputList.add(new OutputLine(indentLvl, "`uvm_object_utils(uvm_reg_block_rdl)"));
@@ -1411,7 +1467,41 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		func.addComment("RTL signal names using the model hierarchy.");
 		func.addIO("input", "string", "rdl_tag", "\"rdl_tag\"");
 		func.addStatement("m_rdl_tag = rdl_tag;");
-		outputList.addAll(func.genOutputLines(indentLvl));	
+		if (ExtParameters.uvmregsStaticHdlPaths()) func.addStatement("invalidate_rdl_tag_path();");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		// cache tag path so that descendant names are built without recursion
+		if (ExtParameters.uvmregsStaticHdlPaths()) {
+			func = new SystemVerilogFunction("void", "invalidate_rdl_tag_path");
+			func.addComment("Invalidate the cached tag path and hdl root of this block and its descendants.  A valid");
+			func.addComment("descendant path implies valid ancestor paths, so recursion stops at an invalid block.");
+			func.addStatement("uvm_reg_block m_blks[$];");
+			func.addStatement("uvm_reg_block_rdl blk;");
+			func.addStatement("if (!m_rdl_tag_path_valid) return;");
+			func.addStatement("m_rdl_tag_path_valid = 0;");
+			func.addStatement("this.get_blocks(m_blks, UVM_NO_HIER);");
+			func.addStatement("foreach (m_blks[blk_])");
+			func.addStatement("  if ($cast(blk, m_blks[blk_])) blk.invalidate_rdl_tag_path();");
+			outputList.addAll(func.genOutputLines(indentLvl));	
+			
+			func = new SystemVerilogFunction("bit", "has_rdl_tag_path");
+			func.addComment("Compute tag path and hdl root from the enclosing address map on first call.");
+			func.addComment("Returns 1 if this block is within an address map.");
+			func.addStatement("uvm_reg_block_rdl rdl_parent;");
+			func.addStatement("if (m_rdl_tag_path_valid) return m_rdl_has_map;");
+			func.addStatement("m_rdl_tag_path = m_rdl_tag;");
+			func.addStatement("m_rdl_hdl_root = m_rdl_address_map_hdl_path;");
+			func.addStatement("m_rdl_has_map = m_rdl_address_map;");
+			func.addStatement("if (!m_rdl_address_map && (get_parent() != null)) begin");
+			func.addStatement("  $cast(rdl_parent, get_parent());");
+			func.addStatement("  m_rdl_has_map = rdl_parent.has_rdl_tag_path();");
+			func.addStatement("  m_rdl_tag_path = {rdl_parent.m_rdl_tag_path, m_rdl_tag};");
+			func.addStatement("  m_rdl_hdl_root = rdl_parent.m_rdl_hdl_root;");
+			func.addStatement("end");
+			func.addStatement("m_rdl_tag_path_valid = 1;");
+			func.addStatement("return m_rdl_has_map;");
+			outputList.addAll(func.genOutputLines(indentLvl));	
+		}
 		
 		// recursively build hierarchical name
 		func = new SystemVerilogFunction("string", "get_rdl_name");
@@ -1422,6 +1512,13 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		func.addIO("input", "string", "override_tag", "\"\"");
 		func.addStatement("uvm_reg_block_rdl rdl_parent;");
 		func.addStatement("string rdl_tag;");
+		if (ExtParameters.uvmregsStaticHdlPaths()) {
+			func.addStatement("if ((override_tag.len() == 0) && has_rdl_tag_path()) begin");
+			func.addStatement("  if (add_hdl_prefix)");
+			func.addStatement("    return {m_rdl_hdl_root, \".\", prefix, m_rdl_tag_path};");
+			func.addStatement("  return {prefix, m_rdl_tag_path};");
+			func.addStatement("end");
+		}
 		func.addStatement("if (override_tag.len() > 0)");
 		func.addStatement("  rdl_tag = override_tag;");
 		func.addStatement("else");
@@ -1441,6 +1538,331 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		
 	}
 	
+	/** create interval table methods for constant-time lookup of registers by address   
+	 * @param outputList - list of output lines to be updated
+	 * @param indentLvl */
+	private static void buildAddrLookupMethods(List<OutputLine> outputList, int indentLvl) {
+		SystemVerilogFunction func = new SystemVerilogFunction("void", "add_addr_range");
+		func.addComment("Add a reg/block element range to the address lookup table of this block.  Range ids are");
+		func.addComment("assigned in call order and are used by get_addr_range_reg/get_addr_range_block.");
+		func.addIO("input", "uvm_reg_addr_t", "base", null);
+		func.addIO("input", "uvm_reg_addr_t", "stride", null);
+		func.addIO("input", "int unsigned", "reps", null);
+		func.addIO("input", "int unsigned", "size", null);
+		func.addIO("input", "bit", "is_block", null);
+		func.addStatement("rdl_addr_range_t range;");
+		func.addStatement("range.base = base;");
+		func.addStatement("range.stride = stride;");
+		func.addStatement("range.reps = reps;");
+		func.addStatement("range.size = size;");
+		func.addStatement("range.id = m_addr_ranges.size();");
+		func.addStatement("range.is_block = is_block;");
+		func.addStatement("range.max_end = 0;");
+		func.addStatement("m_addr_ranges.push_back(range);");
+		func.addStatement("m_addr_ranges_sorted = 0;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg", "get_addr_range_reg");
+		func.addComment("Return register element idx of lookup table range id.  Overridden by blocks containing registers.");
+		func.setVirtual();
+		func.addIO("input", "int unsigned", "id", null);
+		func.addIO("input", "int unsigned", "idx", null);
+		func.addStatement("return null;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg_block", "get_addr_range_block");
+		func.addComment("Return block element idx of lookup table range id.  Overridden by blocks containing blocks.");
+		func.setVirtual();
+		func.addIO("input", "int unsigned", "id", null);
+		func.addIO("input", "int unsigned", "idx", null);
+		func.addStatement("return null;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg", "find_reg_by_offset");
+		func.addComment("Return the register containing the specified offset in this block's default map (or null).");
+		func.addComment("Ranges are binary searched and arrays are indexed arithmetically, so cost does not depend");
+		func.addComment("on the number of registers in the model.  Ranges of interleaved arrays overlap, so earlier");
+		func.addComment("ranges are also checked while their extent (running max_end) covers the offset.");
+		func.addIO("input", "uvm_reg_addr_t", "offset", null);
+		func.addStatement("int lo = 0;");
+		func.addStatement("int hi = m_addr_ranges.size() - 1;");
+		func.addStatement("int mid, match = -1;");
+		func.addStatement("uvm_reg_addr_t rel, max_end = 0;");
+		func.addStatement("int unsigned idx;");
+		func.addStatement("uvm_reg_block_rdl blk;");
+		func.addStatement("uvm_reg rg;");
+		func.addStatement("if (!m_addr_ranges_sorted) begin");
+		func.addStatement("  m_addr_ranges.sort(range) with (range.base);");
+		func.addStatement("  foreach (m_addr_ranges[i]) begin");
+		func.addStatement("    if (m_addr_ranges[i].base + m_addr_ranges[i].reps * m_addr_ranges[i].stride > max_end) max_end = m_addr_ranges[i].base + m_addr_ranges[i].reps * m_addr_ranges[i].stride;");
+		func.addStatement("    m_addr_ranges[i].max_end = max_end;");
+		func.addStatement("  end");
+		func.addStatement("  m_addr_ranges_sorted = 1;");
+		func.addStatement("end");
+		// find last range starting at or below offset
+		func.addStatement("while (lo <= hi) begin");
+		func.addStatement("  mid = (lo + hi) / 2;");
+		func.addStatement("  if (m_addr_ranges[mid].base <= offset) begin");
+		func.addStatement("    match = mid;");
+		func.addStatement("    lo = mid + 1;");
+		func.addStatement("  end");
+		func.addStatement("  else hi = mid - 1;");
+		func.addStatement("end");
+		// check this and earlier overlapping ranges
+		func.addStatement("for (int i = match; (i >= 0) && (m_addr_ranges[i].max_end > offset); i--) begin");
+		func.addStatement("  rel = offset - m_addr_ranges[i].base;");
+		func.addStatement("  if (rel / m_addr_ranges[i].stride >= m_addr_ranges[i].reps) continue;");
+		func.addStatement("  idx = rel / m_addr_ranges[i].stride;");
+		func.addStatement("  rel = rel - idx * m_addr_ranges[i].stride;");
+		func.addStatement("  if (m_addr_ranges[i].is_block) begin");
+		func.addStatement("    if (!$cast(blk, get_addr_range_block(m_addr_ranges[i].id, idx))) continue;");
+		func.addStatement("    rg = blk.find_reg_by_offset(rel);");
+		func.addStatement("    if (rg != null) return rg;");
+		func.addStatement("  end");
+		func.addStatement("  else if (rel < m_addr_ranges[i].size) return get_addr_range_reg(m_addr_ranges[i].id, idx);");
+		func.addStatement("end");
+		func.addStatement("return null;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg", "find_reg_by_addr");
+		func.addComment("Return the register containing the specified address in this block's default map (or null).");
+		func.addIO("input", "uvm_reg_addr_t", "addr", null);
+		func.addStatement("return find_reg_by_offset(addr - this.default_map.get_base_addr(UVM_NO_HIER));");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+	}
+	
+	/** create methods supporting on-demand build of reg/block array elements in blocks   
+	 * @param outputList - list of output lines to be updated
+	 * @param indentLvl */
+	private static void buildLazyArrayMethods(List<OutputLine> outputList, int indentLvl) {
+		SystemVerilogFunction func = new SystemVerilogFunction("void", "set_rdl_lazy_sparse");
+		func.addComment("If set in the root block before lock_model, lazy array elements not yet built by an accessor or");
+		func.addComment("build_lazy_by_addr are left out of the model.  Elements can not be added to a locked model, so");
+		func.addComment("unbuilt elements are then not found by map lookups (frontdoor decode, predictors) or accessors.");
+		func.addIO("input", "bit", "sparse", null);
+		func.addStatement("m_rdl_lazy_sparse = sparse;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "lock_model");
+		func.addComment("Build all lazy array elements of the root block before its maps are locked (unless");
+		func.addComment("set_rdl_lazy_sparse was called), so the locked model matches a non-lazy build.");
+		func.setVirtual();
+		func.addStatement("if ((get_parent() == null) && !is_locked() && !m_rdl_lazy_sparse) build_all_lazy();");
+		func.addStatement("super.lock_model();");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "add_lazy_range");
+		func.addComment("Register the address range of a reg/block array whose elements are built on first access.");
+		func.addComment("Callback rhs references of an element are resolved when it is built, so only references");
+		func.addComment("within the element or to non-lazy ancestors are supported.");
+		func.addIO("input", "string", "name", null);
+		func.addIO("input", "uvm_reg_addr_t", "base", null);
+		func.addIO("input", "uvm_reg_addr_t", "stride", null);
+		func.addIO("input", "int unsigned", "reps", null);
+		func.addStatement("m_lazy_name.push_back(name);");
+		func.addStatement("m_lazy_base.push_back(base);");
+		func.addStatement("m_lazy_stride.push_back(stride);");
+		func.addStatement("m_lazy_reps.push_back(reps);");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "build_lazy_element");
+		func.addComment("Build a single element of a lazy array.  Overridden by blocks containing lazy arrays.");
+		func.setVirtual();
+		func.addIO("input", "string", "name", null);
+		func.addIO("input", "int unsigned", "idx", null);
+		func.addStatement("`uvm_error(\"RegModel\", $psprintf(\"No lazy array %s found in block %s\", name, get_full_name()))");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("bit", "build_lazy_by_offset");
+		func.addComment("Build any lazy array element containing the specified offset in this block's default map,");
+		func.addComment("descending into child blocks.  Returns 1 if a lazy range or child block covers the offset.");
+		func.addIO("input", "uvm_reg_addr_t", "offset", null);
+		func.addStatement("uvm_reg_block m_blks[$];");
+		func.addStatement("uvm_reg_block_rdl blk, near_blk;");
+		func.addStatement("uvm_reg_addr_t blk_offset, near_offset;");
+		func.addStatement("bit found = 0;");
+		func.addStatement("foreach (m_lazy_name[i]) begin");
+		func.addStatement("  if ((offset >= m_lazy_base[i]) && (offset < m_lazy_base[i] + m_lazy_stride[i] * m_lazy_reps[i])) begin");
+		func.addStatement("    build_lazy_element(m_lazy_name[i], (offset - m_lazy_base[i]) / m_lazy_stride[i]);");
+		func.addStatement("    found = 1;");
+		func.addStatement("    break;");
+		func.addStatement("  end");
+		func.addStatement("end");
+		// submaps do not overlap, so the child with nearest preceding offset is the only candidate
+		func.addStatement("this.get_blocks(m_blks, UVM_NO_HIER);");
+		func.addStatement("foreach (m_blks[blk_]) begin");
+		func.addStatement("  if (!$cast(blk, m_blks[blk_]) || (blk.default_map == null)) continue;");
+		func.addStatement("  blk_offset = this.default_map.get_submap_offset(blk.default_map);");
+		func.addStatement("  if ((blk_offset <= offset) && ((near_blk == null) || (blk_offset > near_offset))) begin");
+		func.addStatement("    near_blk = blk;");
+		func.addStatement("    near_offset = blk_offset;");
+		func.addStatement("  end");
+		func.addStatement("end");
+		func.addStatement("if (near_blk != null) found = near_blk.build_lazy_by_offset(offset - near_offset) || found;");
+		func.addStatement("return found;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("bit", "build_lazy_by_addr");
+		func.addComment("Build any lazy array element containing the specified address in this block's default map.");
+		func.addIO("input", "uvm_reg_addr_t", "addr", null);
+		func.addStatement("return build_lazy_by_offset(addr - this.default_map.get_base_addr(UVM_NO_HIER));");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "build_all_lazy");
+		func.addComment("Build every lazy array element in this block and its descendants, producing the same");
+		func.addComment("model as a non-lazy build.  Called by lock_model unless set_rdl_lazy_sparse is set.");
+		func.addStatement("uvm_reg_block m_blks[$];");
+		func.addStatement("uvm_reg_block_rdl blk;");
+		func.addStatement("foreach (m_lazy_name[i])");
+		func.addStatement("  for (int unsigned idx=0; idx<m_lazy_reps[i]; idx++) build_lazy_element(m_lazy_name[i], idx);");
+		func.addStatement("this.get_blocks(m_blks, UVM_NO_HIER);");
+		func.addStatement("foreach (m_blks[blk_])");
+		func.addStatement("  if ($cast(blk, m_blks[blk_])) blk.build_all_lazy();");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("bit", "lazy_build_begin");
+		func.addComment("Prepare the model for addition of a lazy array element.  Elements can only be added before");
+		func.addComment("lock_model, so an error is issued if the model is locked.");
+		func.addStatement("uvm_reg_block root = this;");
+		if (ExtParameters.uvmregsIncludeBulkReset()) func.addStatement("invalidate_rdl_regs();");
+		func.addStatement("while (root.get_parent() != null) root = root.get_parent();");
+		func.addStatement("if (root.is_locked()) begin");
+		func.addStatement("  `uvm_error(\"RegModel\", {\"Unable to build lazy array element in locked model \", root.get_full_name(), \" (use build_lazy_by_addr before lock_model or clear set_rdl_lazy_sparse)\"})");
+		func.addStatement("  return 0;");
+		func.addStatement("end");
+		func.addStatement("return 1;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+	}
+	
+	/** create packed reset value methods for uvm_reg_rdl (overridden by generated register classes)   
+	 * @param outputList - list of output lines to be updated
+	 * @param indentLvl */
+	private static void buildRegResetValueMethods(List<OutputLine> outputList, int indentLvl) {
+		SystemVerilogFunction func = new SystemVerilogFunction("uvm_reg_data_t", "get_rdl_reset_value");
+		func.addComment("Return the packed reset value of this register.  Generated register classes return");
+		func.addComment("a constant for HARD resets.");
+		func.setVirtual();
+		func.addIO("input", "string", "kind", "\"HARD\"");
+		func.addStatement("return get_reset(kind);");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg_data_t", "get_rdl_reset_check_mask");
+		func.addComment("Return a mask of the bits checked after reset (readable fields with a reset that are not volatile,");
+		func.addComment("dontcompare, or donttest).  Generated register classes return a constant for HARD resets.");
+		func.setVirtual();
+		func.addIO("input", "string", "kind", "\"HARD\"");
+		func.addStatement("uvm_reg_field fields[$];");
+		func.addStatement("uvm_reg_data_t mask = 0;");
+		func.addStatement("get_fields(fields);");
+		func.addStatement("foreach (fields[i])");
+		func.addStatement("  if (fields[i].has_reset(kind) && !fields[i].is_volatile() && (fields[i].get_compare() == UVM_CHECK) && !(fields[i].get_access() inside {\"WO\", \"WOC\", \"WOS\", \"WO1\", \"NOACCESS\"}))");
+		func.addStatement("    mask |= ((uvm_reg_data_t'(1) << fields[i].get_n_bits()) - 1) << fields[i].get_lsb_pos();");
+		func.addStatement("return mask;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg_data_t", "get_rdl_mirror_check_mask");
+		func.addComment("Return a mask of the bits compared in a mirror check (readable fields that are not volatile");
+		func.addComment("or dontcompare, whether or not they have a reset).  Generated register classes return a constant.");
+		func.setVirtual();
+		func.addStatement("uvm_reg_field fields[$];");
+		func.addStatement("uvm_reg_data_t mask = 0;");
+		func.addStatement("get_fields(fields);");
+		func.addStatement("foreach (fields[i])");
+		func.addStatement("  if (!fields[i].is_volatile() && (fields[i].get_compare() == UVM_CHECK) && !(fields[i].get_access() inside {\"WO\", \"WOC\", \"WOS\", \"WO1\", \"NOACCESS\"}))");
+		func.addStatement("    mask |= ((uvm_reg_data_t'(1) << fields[i].get_n_bits()) - 1) << fields[i].get_lsb_pos();");
+		func.addStatement("return mask;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+	}
+	
+	/** create bulk reset and mirror methods operating on a flattened register list of a block   
+	 * @param outputList - list of output lines to be updated
+	 * @param indentLvl */
+	private static void buildBulkResetMethods(List<OutputLine> outputList, int indentLvl) {
+		SystemVerilogFunction func = new SystemVerilogFunction("void", "invalidate_rdl_regs");
+		func.addComment("Mark the flattened register lists of this block and its ancestors for rebuild.");
+		func.addStatement("uvm_reg_block_rdl blk = this;");
+		func.addStatement("while (blk != null) begin");
+		func.addStatement("  blk.m_rdl_regs_valid = 0;");
+		func.addStatement("  if (!$cast(blk, blk.get_parent())) blk = null;");
+		func.addStatement("end");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "get_rdl_regs");
+		func.addComment("Return all rdl registers in this block and its descendants.  The list is collected");
+		func.addComment("once and reused by later bulk operations.");
+		func.addIOArray("ref", "uvm_reg_rdl", "regs", null);
+		func.addStatement("uvm_reg m_regs[$];");
+		func.addStatement("uvm_reg_rdl rg;");
+		func.addStatement("if (!m_rdl_regs_valid) begin");
+		func.addStatement("  m_rdl_regs.delete();");
+		func.addStatement("  this.get_registers(m_regs, UVM_HIER);");
+		func.addStatement("  foreach (m_regs[rg_])");
+		func.addStatement("    if ($cast(rg, m_regs[rg_])) m_rdl_regs.push_back(rg);");
+		func.addStatement("  m_rdl_regs_valid = 1;");
+		func.addStatement("end");
+		func.addStatement("regs = m_rdl_regs;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "rdl_bulk_reset");
+		func.addComment("Reset the mirrored value of every rdl register in this block and its descendants.  uvm_reg keeps");
+		func.addComment("mirrored/desired values in each uvm_reg_field, so each register is reset through its fields.");
+		func.addIO("input", "string", "kind", "\"HARD\"");
+		func.addStatement("uvm_reg_rdl regs[$];");
+		func.addStatement("get_rdl_regs(regs);");
+		func.addStatement("foreach (regs[i]) regs[i].reset(kind);");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		SystemVerilogTask task = new SystemVerilogTask("rdl_bulk_check_reset");
+		task.addComment("Read every testable rdl register in this block and its descendants and compare the value");
+		task.addComment("against the packed reset value using the reset check mask.  Returns the number of mismatches.");
+		task.addIO("output", "int unsigned", "errors", null);
+		task.addIO("input", "uvm_path_e", "path", "UVM_BACKDOOR");
+		task.addIO("input", "string", "kind", "\"HARD\"");
+		task.addStatement("uvm_reg_rdl regs[$];");
+		task.addStatement("uvm_status_e status;");
+		task.addStatement("uvm_reg_data_t value, expected, mask;");
+		task.addStatement("errors = 0;");
+		task.addStatement("get_rdl_regs(regs);");
+		task.addStatement("foreach (regs[i]) begin");
+		task.addStatement("  if (regs[i].is_dont_test() || regs[i].is_dont_compare() || regs[i].is_external()) continue;");
+		task.addStatement("  mask = regs[i].get_rdl_reset_check_mask(kind);");
+		task.addStatement("  if (mask == 0) continue;");
+		task.addStatement("  expected = regs[i].get_rdl_reset_value(kind);");
+		task.addStatement("  if (path == UVM_BACKDOOR) regs[i].peek(status, value);");
+		task.addStatement("  else regs[i].read(status, value, path);");
+		task.addStatement("  if ((status != UVM_IS_OK) || (((value ^ expected) & mask) != 0)) begin");
+		task.addStatement("    errors++;");
+		task.addStatement("    `uvm_error(\"RegModel\", $psprintf(\"Reset check of %s failed: read=0x%0h expected=0x%0h mask=0x%0h\", regs[i].get_full_name(), value, expected, mask))");
+		task.addStatement("  end");
+		task.addStatement("end");
+		outputList.addAll(task.genOutputLines(indentLvl));	
+		
+		task = new SystemVerilogTask("rdl_bulk_mirror");
+		task.addComment("Read every rdl register in this block and its descendants, updating the mirror.  If check is set,");
+		task.addComment("values are compared against the prior mirror using the mirror check mask in a single packed");
+		task.addComment("compare per register.  Returns the number of mismatches.");
+		task.addIO("output", "int unsigned", "errors", null);
+		task.addIO("input", "bit", "check", "1");
+		task.addIO("input", "uvm_path_e", "path", "UVM_BACKDOOR");
+		task.addStatement("uvm_reg_rdl regs[$];");
+		task.addStatement("uvm_status_e status;");
+		task.addStatement("uvm_reg_data_t value, expected, mask;");
+		task.addStatement("errors = 0;");
+		task.addStatement("get_rdl_regs(regs);");
+		task.addStatement("foreach (regs[i]) begin");
+		task.addStatement("  if (regs[i].is_external() && (path == UVM_BACKDOOR)) continue;");
+		task.addStatement("  expected = regs[i].get_mirrored_value();");
+		task.addStatement("  mask = (check && !regs[i].is_dont_compare())? regs[i].get_rdl_mirror_check_mask() : 0;");
+		task.addStatement("  if (path == UVM_BACKDOOR) regs[i].peek(status, value);");
+		task.addStatement("  else regs[i].read(status, value, path);");
+		task.addStatement("  if ((status != UVM_IS_OK) || (((value ^ expected) & mask) != 0)) begin");
+		task.addStatement("    errors++;");
+		task.addStatement("    `uvm_error(\"RegModel\", $psprintf(\"Mirror check of %s failed: read=0x%0h mirrored=0x%0h mask=0x%0h\", regs[i].get_full_name(), value, expected, mask))");
+		task.addStatement("  end");
+		task.addStatement("end");
+		outputList.addAll(task.genOutputLines(indentLvl));	
+	}
+	
 	/** create empty add_callbacks methods for regs/blocks (overridden by child classes if necessary)   
 	 * @param outputList - list of output lines to be updated
 	 * @param indentLvl */
@@ -1451,6 +1873,19 @@ public class UVMRdlClasses extends UVMRegsCommon {
 		outputList.addAll(func.genOutputLines(indentLvl));	
 	}
 	
+	/** create add_rdl_callbacks method for regs/blocks (used if lazy arrays are enabled)   
+	 * @param outputList - list of output lines to be updated
+	 * @param indentLvl */
+	private static void buildAddRdlCallbacksMethod(List<OutputLine> outputList, int indentLvl) {
+		SystemVerilogFunction func = new SystemVerilogFunction("void", "add_rdl_callbacks");
+		func.addComment("Call add_callbacks once.  Lazy array elements and their parent blocks both use this method so");
+		func.addComment("callbacks are not added twice to an element built before parent callback setup.");
+		func.addStatement("if (m_rdl_callbacks_added) return;");
+		func.addStatement("m_rdl_callbacks_added = 1;");
+		func.addStatement("add_callbacks();");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+	}
+	
 	/** create get_ancestor method for regs/blocks   
 	 * @param outputList - list of output lines to be updated
 	 * @param indentLvl */
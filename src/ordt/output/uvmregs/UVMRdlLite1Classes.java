@@ -4,6 +4,7 @@ import java.util.List;
 
 import ordt.output.common.OutputLine;
 import ordt.output.systemverilog.common.SystemVerilogFunction;
+import ordt.parameters.ExtParameters;
 
 public class UVMRdlLite1Classes extends UVMRegsCommon {
 	
@@ -35,6 +36,8 @@ public class UVMRdlLite1Classes extends UVMRegsCommon {
 		buildUvmRegLiteClass(outputList, indentLvl);
 		// create child field info class - similar to uvm_vreg_field, but w/ uvm_reg_lite parent
 		buildUvmRegFieldLiteClass(outputList, indentLvl);
+		// create reg class with per-class field table and on-demand field handles
+		if (ExtParameters.uvmregsCompactFields()) buildUvmRegLiteCompactClass(outputList, indentLvl);
 	}
 
 	// create reg w/ base field and slice read/write methods, then field that calls these methods, then child reg w/ list of fields
@@ -128,4 +131,118 @@ public class UVMRdlLite1Classes extends UVMRegsCommon {
 		outputList.add(new OutputLine(--indentLvl, "endclass : uvm_field_lite"));
 	}
 
+	/** create uvm_reg_lite child class whose fields are described by a static per-class table rather than
+	 *  per-instance field objects.  uvm_field_lite handles are created only when requested by name, so
+	 *  generated registers have no named field members (reg.<field> references must use get_field_lite_by_name).
+	 * 
+	 * @param outputList - list where generated output lines will be added
+	 * @param indentLvl - incoming indent level
+	 */
+	protected static void buildUvmRegLiteCompactClass(List<OutputLine> outputList, int indentLvl) {
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.add(new OutputLine(indentLvl, "// uvm_reg_lite_compact class"));
+		outputList.add(new OutputLine(indentLvl++, "class uvm_reg_lite_compact extends uvm_reg_lite;")); 
+		
+		outputList.add(new OutputLine(indentLvl, "local uvm_field_lite m_field_handles[int];")); // handles created on demand
+		
+		// create new function
+		SystemVerilogFunction func = new SystemVerilogFunction(null, "new");
+		func.addIO("input", "string", "name", "\"uvm_reg_lite_compact\"");
+		func.addIO("input", "int unsigned", "n_bits", "0");
+		func.addIO("input", "int", "has_coverage", "UVM_NO_COVERAGE");
+		func.addStatement("super.new(name, n_bits, has_coverage);");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		// field table accessors (overridden by generated register classes)
+		func = new SystemVerilogFunction("int", "get_n_fields_lite");
+		func.addComment("Return the number of fields in this register's field table.");
+		func.setVirtual();
+		func.addStatement("return 0;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("int", "get_field_lite_idx");
+		func.addComment("Return the field table index of the named field, or -1 if not found.");
+		func.setVirtual();
+		func.addIO("input", "string", "name", null);
+		func.addStatement("return -1;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("string", "get_field_lite_name");
+		func.addComment("Return the name of the field at the specified table index.");
+		func.setVirtual();
+		func.addIO("input", "int", "idx", null);
+		func.addStatement("return \"\";");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("int", "get_field_lite_lsb");
+		func.addComment("Return the low bit index of the field at the specified table index.");
+		func.setVirtual();
+		func.addIO("input", "int", "idx", null);
+		func.addStatement("return 0;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("int", "get_field_lite_width");
+		func.addComment("Return the width of the field at the specified table index.");
+		func.setVirtual();
+		func.addIO("input", "int", "idx", null);
+		func.addStatement("return 0;");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		// named field value access
+		func = new SystemVerilogFunction("uvm_reg_data_t", "get_field_value");
+		func.addComment("Return the desired value of the named field.");
+		func.addIO("input", "string", "name", null);
+		func.addStatement("int idx = get_field_lite_idx(name);");
+		func.addStatement("if (idx < 0) begin");
+		func.addStatement("  `uvm_error(\"RegModel\", {\"Unable to locate field '\", name, \"' in register '\", get_name(), \"'\"})");
+		func.addStatement("  return 0;");
+		func.addStatement("end");
+		func.addStatement("return get_slice(get_field_lite_lsb(idx), get_field_lite_width(idx));");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("void", "set_field_value");
+		func.addComment("Set the desired value of the named field.");
+		func.addIO("input", "string", "name", null);
+		func.addIO("input", "uvm_reg_data_t", "value", null);
+		func.addStatement("int idx = get_field_lite_idx(name);");
+		func.addStatement("if (idx < 0) begin");
+		func.addStatement("  `uvm_error(\"RegModel\", {\"Unable to locate field '\", name, \"' in register '\", get_name(), \"'\"})");
+		func.addStatement("  return;");
+		func.addStatement("end");
+		func.addStatement("set_slice(value, get_field_lite_lsb(idx), get_field_lite_width(idx));");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		// on-demand field handle
+		func = new SystemVerilogFunction("uvm_field_lite", "get_field_lite_by_name");
+		func.addComment("Return a field handle for the named field, creating it on first request.  Names not in the");
+		func.addComment("field table are looked up using get_field_by_name (null is returned with the standard warning).");
+		func.addIO("input", "string", "name", null);
+		func.addStatement("int idx = get_field_lite_idx(name);");
+		func.addStatement("if (idx < 0) begin");
+		func.addStatement("  void'(super.get_field_by_name(name));");
+		func.addStatement("  return null;");
+		func.addStatement("end");
+		func.addStatement("if (!m_field_handles.exists(idx))");
+		func.addStatement("  m_field_handles[idx] = new(this, get_field_lite_lsb(idx), get_field_lite_width(idx));");
+		func.addStatement("return m_field_handles[idx];");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		// uvm field lookups of table fields are directed to the lite handle lookup
+		func = new SystemVerilogFunction("uvm_reg_field", "get_field_by_name");
+		func.addComment("Field table entries are not uvm_reg_fields, so table field names return null with a message");
+		func.addComment("directing the caller to get_field_lite_by_name.  Other names use the uvm_reg lookup.");
+		func.setVirtual();
+		func.addIO("input", "string", "name", null);
+		func.addStatement("if (get_field_lite_idx(name) >= 0) begin");
+		func.addStatement("  `uvm_warning(\"RegModel\", {\"Field '\", name, \"' in compact register '\", get_name(), \"' is not a uvm_reg_field (use get_field_lite_by_name)\"})");
+		func.addStatement("  return null;");
+		func.addStatement("end");
+		func.addStatement("return super.get_field_by_name(name);");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		// close out the class definition
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.add(new OutputLine(--indentLvl, "endclass : uvm_reg_lite_compact"));
+	}
+
 }
@@ -4,6 +4,10 @@
 package ordt.output.uvmregs;
 
 import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -11,9 +15,15 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import ordt.output.common.CoveragePolicy.CoverageSettings;
 import ordt.output.common.MsgUtils;
 import ordt.extract.Ordt;
 import ordt.extract.PropertyList;
@@ -31,6 +41,8 @@ import ordt.output.UniqueNameSet;
 import ordt.output.UniqueNameSet.UniqueNameSetInfo;
 import ordt.output.common.OutputLine;
 import ordt.output.FieldProperties.RhsRefType;
+import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals;
+import ordt.output.systemverilog.common.SystemVerilogDefinedSignal;
 import ordt.output.systemverilog.common.SystemVerilogFunction;
 import ordt.output.systemverilog.common.SystemVerilogTask;
 import ordt.parameters.ExtParameters;
@@ -45,10 +57,20 @@ public class UVMRegsBuilder extends OutputBuilder {
 	protected subComponentLists subcompAddrCoverGroupList = new subComponentLists();  // lists of subcomponent address covergroup statements (per block)
 	protected subComponentLists regCbsDefineStatements = new subComponentLists();  // list of register callback defines (per block)
 	protected subComponentLists regCbsAssignStatements = new subComponentLists();  // list of register callback assign statements (per block)
+	protected subComponentLists subcompLazyMethodList = new subComponentLists();  // lists of lazy array element accessor methods (per block)
+	protected subComponentLists subcompLazyCaseList = new subComponentLists();  // lists of lazy array build_lazy_element case items (per block)
+	protected subComponentLists subcompAddrRegCaseList = new subComponentLists();  // lists of address lookup table reg case items (per block)
+	protected subComponentLists subcompAddrBlockCaseList = new subComponentLists();  // lists of address lookup table block case items (per block)
+	protected HashMap<String, Integer> addrRangeCounts = new HashMap<String, Integer>();  // number of address lookup table entries (per block)
 	protected List<SystemVerilogFunction> externMethods = new ArrayList<SystemVerilogFunction>();  // list of functions to be defined outside class scope
 	
 	protected int indentLvl = 0;
 	
+	protected UVMRegsOutputSpool outputSpool = ExtParameters.uvmregsStreamOutput()? new UVMRegsOutputSpool() : null;  // spool of completed class output (null if not streaming)
+	protected List<OutputLine> pkgImportLines = new ArrayList<OutputLine>();  // package import lines at start of output
+	protected long pkgImportEndPos = 0;  // output position following import lines
+	protected List<BlockFileSegment> blockFileSegments = new ArrayList<BlockFileSegment>();  // output end position of each top level block (multi-file output)
+	
 	protected static HashSet<String> reservedWords = getReservedWords();
 	
 	protected AliasGroups aliasGroups = new AliasGroups();  // list of alias groups (per block class)
@@ -69,6 +91,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 	public enum UvmMemStrategy { BASIC, BLOCK_WRAPPED, MIMIC_REG_API }
 	
 	protected boolean includeExtendedInfo = true;  // HEAVY model defaults
+	protected SystemVerilogDefinedSignal fieldRegisterSignal = SystemVerilogDefinedOrdtSignals.createFieldSignal();  // rtl field register naming (static hdl paths)
 	
     //---------------------------- constructor ----------------------------------
 
@@ -207,6 +230,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 			// bump defined reg count on the stack
 			activeRegisterCount.push(activeRegisterCount.pop() + 1);
 		}
+		flushOutputList();  // spool any completed classes
 	}
 
 	@Override
@@ -231,6 +255,9 @@ public class UVMRegsBuilder extends OutputBuilder {
 			// build the block class definition
 			if (createNewBlockClass) buildBlockClass(uvmBlockClassName, hasCallback);  
 		}
+		// if streaming, child info for this block is no longer needed
+		if (outputSpool != null) removeBlockStatements(regSetProperties.getBaseName());
+		flushOutputList();  // spool any completed classes
 		// parent also needs override if has callack
 		//if (regSetProperties.isRootInstance()) System.out.println("UVMRegsBuilder finishRegSet: root instance detected, id=" + regSetProperties.getId() + ", addrmap=" + getAddressMapName());
 		if (hasCallback && !regSetHasCallback.isEmpty()) {
@@ -238,6 +265,8 @@ public class UVMRegsBuilder extends OutputBuilder {
 			regSetHasCallback.push(true);
 		}
 		//System.out.println("UVMRegsBuilder finishRegSet: " + regSetProperties.getInstancePath() + ", activeRegisterCount=" + activeRegisterCount.peek());
+		// if a top level block, mark the end of its classes for multi-file output
+		if (activeRegisterCount.size() == 2) addBlockFileSegment(regSetProperties.getId());
 		Integer regCount = activeRegisterCount.pop();  // pop the count
 		// bump defined reg count on the stack
 		if (!activeRegisterCount.isEmpty()) activeRegisterCount.push(activeRegisterCount.pop() + regCount);
@@ -249,6 +278,8 @@ public class UVMRegsBuilder extends OutputBuilder {
 		regSetHasCallback.push(false);
 		activeRegisterCount.push(0);  // init to no defined regs
 		generatePkgImports();
+		pkgImportLines.addAll(outputList);
+		pkgImportEndPos = getOutputPosition();
 	}
 
 	/** finish root address map  */
@@ -263,7 +294,13 @@ public class UVMRegsBuilder extends OutputBuilder {
 		String uvmBlockClassName = blk_ret.name;
 		// save info for the base block
 		buildBaseBlockClass(uvmBlockClassName, hasCallback); 
+		flushOutputList();  // spool the base block class
 		//System.out.println("UVMRegsBuilder finishRegMap: " + regSetProperties.getInstancePath() + ", activeRegisterCount=" + activeRegisterCount.peek());
+		// report class reuse rates
+		if (ExtParameters.uvmregsReuseUvmClasses()) {
+			MsgUtils.infoMessage("UVM reg class reuse: " + uniqueRegNames.getReuseStats());
+			MsgUtils.infoMessage("UVM block class reuse: " + uniqueBlockNames.getReuseStats());
+		}
 		//System.out.println("UVMRegsBuilder finishRegMap: regs=" + regClassCount + ", unique regs=" + uniqueRegClasses.size());
 		//System.out.println("UVMRegsBuilder finishRegMap: blocks=" + blockClassCount + ", unique blocks=" + uniqueBlockClasses.size());
 		
@@ -272,6 +309,52 @@ public class UVMRegsBuilder extends OutputBuilder {
 
     //---------------------------- helper methods --------------------------------------
 
+	/** save output end position of the current top level block if any classes were added */
+	protected void addBlockFileSegment(String blockId) {
+		long lastEndPos = blockFileSegments.isEmpty()? pkgImportEndPos : blockFileSegments.get(blockFileSegments.size() - 1).endPos;
+		long endPos = getOutputPosition();
+		if (endPos > lastEndPos) blockFileSegments.add(new BlockFileSegment(blockId, endPos));
+	}
+
+	/** move lines of completed classes from outputList to the output spool if streaming */
+	protected void flushOutputList() {
+		if (outputSpool == null) return;
+		outputSpool.add(outputList);
+		outputList.clear();
+	}
+
+	/** return current output position - a spool byte offset if streaming, else an outputList index */
+	protected long getOutputPosition() {
+		if (outputSpool == null) return outputList.size();
+		flushOutputList();
+		return outputSpool.size();
+	}
+
+	/** write output between two positions to a writer */
+	protected void writeOutputRange(Writer writer, long startPos, long endPos) throws IOException {
+		if (outputSpool != null) {
+			outputSpool.copyTo(writer, startPos, endPos);
+			return;
+		}
+		for (OutputLine rLine : outputList.subList((int) startPos, (int) endPos)) {
+			writer.write(MsgUtils.repeat(' ', rLine.getIndent()*2) + rLine.getLine() + "\n");
+		}
+	}
+
+	/** remove saved child statements of a block once its class has been generated */
+	protected void removeBlockStatements(String block) {
+		subcompDefList.removeStatements(block);
+		subcompBuildList.removeStatements(block);
+		subcompAddrCoverGroupList.removeStatements(block);
+		regCbsDefineStatements.removeStatements(block);
+		regCbsAssignStatements.removeStatements(block);
+		subcompLazyMethodList.removeStatements(block);
+		subcompLazyCaseList.removeStatements(block);
+		subcompAddrRegCaseList.removeStatements(block);
+		subcompAddrBlockCaseList.removeStatements(block);
+		addrRangeCounts.remove(block);
+	}
+
 	/** generate package import statements */
 	protected void generatePkgImports() {
 		outputList.add(new OutputLine(indentLvl, "import uvm_pkg::*;"));
@@ -319,6 +402,8 @@ public class UVMRegsBuilder extends OutputBuilder {
 	
 	/** create block addr covergroup statements adding current register */
 	protected void addRegToAddrCoverageList(String parentID, String regId, boolean parentIsWrapper) {
+		CoverageSettings coverage = ExtParameters.getCoveragePolicy().getSettings(regProperties.getInstancePath());
+		if (coverage.isExcluded()) return;  // no coverage in excluded subtrees
 		RegNumber baseAddress = parentIsWrapper? new RegNumber(0) : regProperties.getRelativeBaseAddress();
 		String addrString = baseAddress.toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog);
 		if (regProperties.isReplicated()) {
@@ -328,9 +413,14 @@ public class UVMRegsBuilder extends OutputBuilder {
 			offset.add(regProperties.getRelativeBaseAddress());
 			offset.subtract(1);
 			String endAddr = offset.toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog);
+			subcompAddrCoverGroupList.addStatement(parentID, "  " + regId + ": coverpoint m_offset");  
+			// if merging reps use a single bin for the reg range
+			if (coverage.mergeReps()) {
+				subcompAddrCoverGroupList.addStatement(parentID, "      { bins hit = { [" + addrString + " : " + endAddr + "] }; }"); 
+				return;
+			}
 			// if bin threshold is exceeded then set bins to 8 
 			int bins = (regProperties.getRepCount() > ExtParameters.uvmregsMaxRegCoverageBins())? 8 : regProperties.getRepCount();
-			subcompAddrCoverGroupList.addStatement(parentID, "  " + regId + ": coverpoint m_offset");  
 			subcompAddrCoverGroupList.addStatement(parentID, "      { bins offset[" + bins + "] = { [" + addrString + " : " + endAddr + "] }; }"); 
 		}
 		else {
@@ -344,7 +434,10 @@ public class UVMRegsBuilder extends OutputBuilder {
 		// set hdl path component
 		String hdlPath = regProperties.isAlias() ? regProperties.getAliasedId() : regProperties.getId();
 		String addr = "`UVM_REG_ADDR_WIDTH" + regProperties.getRelativeBaseAddress().toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog);
-		if (regProperties.isReplicated()) {
+		if (regProperties.isReplicated() && !regProperties.isAlias() && isLazyArray(regProperties.getRepCount())) {
+			addLazyRegArrayToBuildList(uvmRegClassName, parentID, regId, hdlPath, addr);
+		}
+		else if (regProperties.isReplicated()) {
 			subcompBuildList.addStatement(parentID, "foreach (this." + regId + "[i]) begin");
 			if (ExtParameters.uvmregsRegsUseFactory()) subcompBuildList.addStatement(parentID, "  this." + regId + "[i] = " + uvmRegClassName + "::type_id::create($psprintf(\"" + regId + " [%0d]\",i));");
 			else subcompBuildList.addStatement(parentID, "  this." + regId + "[i] = new($psprintf(\"" + regProperties.getId() + " [%0d]\",i));");  
@@ -358,6 +451,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 			subcompBuildList.addStatement(parentID, "  this." + regId + "[i].build();");
 			subcompBuildList.addStatement(parentID, "  this.default_map.add_reg(this." + regId + "[i], " + addr + "+i*" + getRegAddrIncr() + ", \"" + getRegAccessType() + "\", 0);");						
 			subcompBuildList.addStatement(parentID, "end");
+			addToAddrLookupTable(parentID, addr, getRegAddrIncr(), regProperties.getRepCount(), regProperties.getRegByteWidth(), false, "this." + regId + "[idx]");
 		}
 		else {
 		   if (ExtParameters.uvmregsRegsUseFactory()) subcompBuildList.addStatement(parentID, "this." + regId + " = " + uvmRegClassName + "::type_id::create(\"" + regId + "\");");
@@ -371,9 +465,65 @@ public class UVMRegsBuilder extends OutputBuilder {
 			addUserDefinedPropertyElements(parentID, regProperties, regId);
 		   subcompBuildList.addStatement(parentID, "this." + regId + ".build();");
 		   subcompBuildList.addStatement(parentID, "this.default_map.add_reg(this." + regId + ", " + addr + ", \"" + getRegAccessType() + "\", 0);");			
+		   addToAddrLookupTable(parentID, addr, "`UVM_REG_ADDR_WIDTH" + new RegNumber(regProperties.getRegByteWidth()).toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog), 1, regProperties.getRegByteWidth(), false, "this." + regId);
 		}	
 	}
 
+	/** add an entry to the address lookup table of the parent block if lookup tables are enabled
+	 * @param parentID - block id for stmt store
+	 * @param addr - base address string of the element range
+	 * @param stride - address stride string of the element range
+	 * @param reps - number of elements in range
+	 * @param byteSize - size in bytes of a reg element (unused for blocks)
+	 * @param isBlock - true if the range contains blocks
+	 * @param elemRef - expression returning element idx of the range
+	 */
+	protected void addToAddrLookupTable(String parentID, String addr, String stride, int reps, int byteSize, boolean isBlock, String elemRef) {
+		if (!ExtParameters.uvmregsIncludeAddressLookup()) return;
+		Integer rangeId = addrRangeCounts.containsKey(parentID)? addrRangeCounts.get(parentID) : 0;
+		addrRangeCounts.put(parentID, rangeId + 1);
+		subcompBuildList.addStatement(parentID, "this.add_addr_range(" + addr + ", " + stride + ", " + reps + ", " + byteSize + ", " + (isBlock? "1" : "0") + ");");
+		if (isBlock) subcompAddrBlockCaseList.addStatement(parentID, rangeId + ": return " + elemRef + ";");
+		else subcompAddrRegCaseList.addStatement(parentID, rangeId + ": return " + elemRef + ";");
+	}
+
+	/** return true if a replicated reg or regset with the specified reps should be built on first access */
+	protected boolean isLazyArray(int reps) {
+		int threshold = ExtParameters.uvmregsLazyArrayThreshold();
+		return (threshold > 0) && (reps >= threshold);
+	}
+
+	/** create block build statements and element accessor for a lazily built register array */
+	protected void addLazyRegArrayToBuildList(String uvmRegClassName, String parentID, String regId, String hdlPath, String addr) {
+		String id = regProperties.getId();
+		int reps = regProperties.getRepCount();
+		String incr = getRegAddrIncr();
+		// register the address range so elements can be built by address
+		subcompBuildList.addStatement(parentID, "this.add_lazy_range(\"" + id + "\", " + addr + ", " + incr + ", " + reps + ");");
+		addToAddrLookupTable(parentID, addr, incr, reps, regProperties.getRegByteWidth(), false, "get_" + id + "_elem(idx)");
+		// element accessor
+		subcompLazyCaseList.addStatement(parentID, "\"" + id + "\": void'(get_" + id + "_elem(idx));");
+		subcompLazyMethodList.addStatement(parentID, "");
+		subcompLazyMethodList.addStatement(parentID, "virtual function " + uvmRegClassName + " get_" + id + "_elem(int unsigned idx);");
+		subcompLazyMethodList.addStatement(parentID, "  if (idx >= " + reps + ") return null;");
+		subcompLazyMethodList.addStatement(parentID, "  if (this." + regId + "[idx] == null) begin");
+		subcompLazyMethodList.addStatement(parentID, "    if (!this.lazy_build_begin()) return null;");
+		if (ExtParameters.uvmregsRegsUseFactory()) subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx] = " + uvmRegClassName + "::type_id::create($psprintf(\"" + regId + " [%0d]\",idx));");
+		else subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx] = new($psprintf(\"" + id + " [%0d]\",idx));");  
+		subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx].configure(this, null, \"\");");  
+		subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx].set_rdl_tag($psprintf(\"" + hdlPath + "_%0d_\",idx));");
+		if (regProperties.isLocalExternal()) 
+			subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx].set_external(1);");
+		subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx]" + getUvmRegTestModeString());  
+		addUserDefinedPropertyElements(subcompLazyMethodList, parentID, "    ", regProperties, regId + "[idx]");
+		subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx].build();");
+		subcompLazyMethodList.addStatement(parentID, "    this.default_map.add_reg(this." + regId + "[idx], " + addr + "+idx*" + incr + ", \"" + getRegAccessType() + "\", 0);");						
+		subcompLazyMethodList.addStatement(parentID, "    this." + regId + "[idx].add_rdl_callbacks();");
+		subcompLazyMethodList.addStatement(parentID, "  end");
+		subcompLazyMethodList.addStatement(parentID, "  return this." + regId + "[idx];");
+		subcompLazyMethodList.addStatement(parentID, "endfunction: get_" + id + "_elem");
+	}
+
 	/* return a string with a call to set_reg_test_info */
 	protected String getUvmRegTestModeString() {
 		String dontTestBit = regProperties.isDontTest()? "1" : "0";
@@ -507,7 +657,10 @@ public class UVMRegsBuilder extends OutputBuilder {
 		RegNumber addr = (addrOffsetOverride != null)? addrOffsetOverride : regSetProperties.getRelativeBaseAddress();
 		String addrStr = "`UVM_REG_ADDR_WIDTH" + addr.toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog);
 		// save register build statements
-		if (!hasInstanceNameOverride && regSetProperties.isReplicated()) {  
+		if (!hasInstanceNameOverride && regSetProperties.isReplicated() && isLazyArray(regSetProperties.getRepCount())) {
+			addLazyRegSetArrayToBuildList(uvmBlockClassName, parentID, blockId, escapedBlockId, addrStr);
+		}
+		else if (!hasInstanceNameOverride && regSetProperties.isReplicated()) {  
 			subcompBuildList.addStatement(parentID, "foreach (this." + escapedBlockId + "[i]) begin");
 			subcompBuildList.addStatement(parentID, "  this." + escapedBlockId + "[i] = " + uvmBlockClassName + "::type_id::create($psprintf(\"" + blockId + " [%0d]\",i),, get_full_name());");
 			subcompBuildList.addStatement(parentID, "  this." + escapedBlockId + "[i].configure(this, \"\");");  
@@ -522,6 +675,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 			subcompBuildList.addStatement(parentID, "  this." + escapedBlockId + "[i].build();");
 			subcompBuildList.addStatement(parentID, "  this.default_map.add_submap(this." + escapedBlockId + "[i].default_map, " + addrStr + "+i*" + getRegSetAddrIncrString() + ");");						
 			subcompBuildList.addStatement(parentID, "end");
+			addToAddrLookupTable(parentID, addrStr, getRegSetAddrIncrString(), regSetProperties.getRepCount(), 0, true, "this." + escapedBlockId + "[idx]");
 		}
 		else {
 		   subcompBuildList.addStatement(parentID, "this." + escapedBlockId + " = " + uvmBlockClassName + "::type_id::create(\"" + blockId + "\",, get_full_name());");
@@ -538,10 +692,42 @@ public class UVMRegsBuilder extends OutputBuilder {
 		   addUserDefinedPropertyElements(parentID, regSetProperties, escapedBlockId);
 		   subcompBuildList.addStatement(parentID, "this." + escapedBlockId + ".build();");
 		   subcompBuildList.addStatement(parentID, "this.default_map.add_submap(this." + escapedBlockId + ".default_map, " + addrStr + ");");			
+		   if (!hasInstanceNameOverride) addToAddrLookupTable(parentID, addrStr, getRegSetAddrIncrString(), 1, 0, true, "this." + escapedBlockId);
 		}		
 		//System.out.println("UVMBuilder saveRegSetInfo: " + regSetProperties.getBaseName() + ", parent=" + parentID + ", rel addr=" + regSetProperties.getRelativeBaseAddress());
 	}
 
+	/** create block build statements and element accessor for a lazily built regset array */
+	protected void addLazyRegSetArrayToBuildList(String uvmBlockClassName, String parentID, String blockId, String escapedBlockId, String addrStr) {
+		int reps = regSetProperties.getRepCount();
+		String incr = getRegSetAddrIncrString();
+		// register the address range so elements can be built by address
+		subcompBuildList.addStatement(parentID, "this.add_lazy_range(\"" + blockId + "\", " + addrStr + ", " + incr + ", " + reps + ");");
+		addToAddrLookupTable(parentID, addrStr, incr, reps, 0, true, "get_" + blockId + "_elem(idx)");
+		// element accessor
+		subcompLazyCaseList.addStatement(parentID, "\"" + blockId + "\": void'(get_" + blockId + "_elem(idx));");
+		subcompLazyMethodList.addStatement(parentID, "");
+		subcompLazyMethodList.addStatement(parentID, "virtual function " + uvmBlockClassName + " get_" + blockId + "_elem(int unsigned idx);");
+		subcompLazyMethodList.addStatement(parentID, "  if (idx >= " + reps + ") return null;");
+		subcompLazyMethodList.addStatement(parentID, "  if (this." + escapedBlockId + "[idx] == null) begin");
+		subcompLazyMethodList.addStatement(parentID, "    if (!this.lazy_build_begin()) return null;");
+		subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx] = " + uvmBlockClassName + "::type_id::create($psprintf(\"" + blockId + " [%0d]\",idx),, get_full_name());");
+		subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx].configure(this, \"\");");  
+		if (regSetProperties.isAddressMap()) {
+			subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx].set_rdl_address_map(1);");  // tag block as an address map
+			subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx].set_rdl_address_map_hdl_path({`" + getParentAddressMapName().toUpperCase() + "_PIO_INSTANCE_PATH, \".pio_logic\"});");
+		}
+		else
+			subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx].set_rdl_tag($psprintf(\"" + blockId + "_%0d_\",idx));");
+		addUserDefinedPropertyElements(subcompLazyMethodList, parentID, "    ", regSetProperties, escapedBlockId + "[idx]");
+		subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx].build();");
+		subcompLazyMethodList.addStatement(parentID, "    this.default_map.add_submap(this." + escapedBlockId + "[idx].default_map, " + addrStr + "+idx*" + incr + ");");						
+		subcompLazyMethodList.addStatement(parentID, "    this." + escapedBlockId + "[idx].add_rdl_callbacks();");
+		subcompLazyMethodList.addStatement(parentID, "  end");
+		subcompLazyMethodList.addStatement(parentID, "  return this." + escapedBlockId + "[idx];");
+		subcompLazyMethodList.addStatement(parentID, "endfunction: get_" + blockId + "_elem");
+	}
+
 	/** get the increment string for this group of regs */
 	protected String getRegAddrIncr() {
 		RegNumber incr = regProperties.getAddrStride();
@@ -591,6 +777,9 @@ public class UVMRegsBuilder extends OutputBuilder {
 		
 		// if this register has interrupt fields, add interrupt get methods
 		if (regProperties.hasInterruptFields()) buildRegIntrFunctions();
+		
+		// add packed reset value and check mask if bulk reset routines are enabled
+		if (ExtParameters.uvmregsIncludeBulkReset()) buildRegResetValueFunctions();
 				
 		// close out the register definition
 		outputList.add(new OutputLine(indentLvl, ""));	
@@ -598,6 +787,48 @@ public class UVMRegsBuilder extends OutputBuilder {
 		outputList.add(new OutputLine(--indentLvl, "endclass : " + uvmRegClassName));
 	}
 
+	/** add functions returning the packed reset value, reset check mask, and mirror check mask of the current register */
+	protected void buildRegResetValueFunctions() {
+		BigInteger resetValue = BigInteger.ZERO;
+		BigInteger checkMask = BigInteger.ZERO;
+		BigInteger mirrorMask = BigInteger.ZERO;
+		for (FieldProperties field : fieldList) {
+			// mirror checks compare all readable fields that are not volatile, independent of reset
+			if (field.isSwReadable() && !field.hwChangesValue() && !field.isDontCompare())
+				mirrorMask = mirrorMask.or(BigInteger.ONE.shiftLeft(field.getFieldWidth()).subtract(BigInteger.ONE).shiftLeft(field.getLowIndex()));
+			if (field.getReset() == null) continue;
+			RegNumber resetVal = new RegNumber(field.getReset());
+			if (!resetVal.isDefined()) continue;
+			BigInteger fieldMask = BigInteger.ONE.shiftLeft(field.getFieldWidth()).subtract(BigInteger.ONE);
+			resetValue = resetValue.or(resetVal.getValue().and(fieldMask).shiftLeft(field.getLowIndex()));
+			// write-only and volatile fields are not checked (dontcompare fields are configured as volatile)
+			if (!field.isSwReadable() || field.hwChangesValue() || field.isDontCompare()) continue;
+			if (field.getDontTestMask() != null) fieldMask = fieldMask.andNot(field.getDontTestMask().getValue());
+			checkMask = checkMask.or(fieldMask.shiftLeft(field.getLowIndex()));
+		}
+		String widthStr = regProperties.getRegWidth() + "'h";
+		
+		SystemVerilogFunction func = new SystemVerilogFunction("uvm_reg_data_t", "get_rdl_reset_value");
+		func.setVirtual();
+		func.addIO("input", "string", "kind", "\"HARD\"");
+		func.addStatement("if (kind != \"HARD\") return super.get_rdl_reset_value(kind);");
+		func.addStatement("return " + widthStr + resetValue.toString(16) + ";");
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg_data_t", "get_rdl_reset_check_mask");
+		func.setVirtual();
+		func.addIO("input", "string", "kind", "\"HARD\"");
+		func.addStatement("if (kind != \"HARD\") return super.get_rdl_reset_check_mask(kind);");
+		func.addStatement("return " + widthStr + checkMask.toString(16) + ";");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+		
+		func = new SystemVerilogFunction("uvm_reg_data_t", "get_rdl_mirror_check_mask");
+		func.setVirtual();
+		func.addStatement("return " + widthStr + mirrorMask.toString(16) + ";");
+		outputList.addAll(func.genOutputLines(indentLvl));	
+	}
+
 	/** add interrupt field get methods */
 	protected void buildRegIntrFunctions() {
 		// these override defaults in uvm_reg_rdl
@@ -823,6 +1054,12 @@ public class UVMRegsBuilder extends OutputBuilder {
 		Integer mapWidthOverride = (ExtParameters.hasDebugMode("uvmregs_maps_use_max_width"))?  regSetProperties.getMaxRegByteWidth()  : null; // if debug mode 1 use regset property width
 		buildBlockBuildFunction(refId, mapWidthOverride, false);
 		
+		// create lazy array element accessors
+		buildBlockLazyMethods(refId);
+		
+		// create address lookup table element accessors
+		buildBlockAddrLookupMethods(refId);
+		
 		// close out the class definition
 		outputList.add(new OutputLine(indentLvl, ""));	
 		outputList.add(new OutputLine(indentLvl, "`uvm_object_utils(" + uvmBlockClassName + ")"));
@@ -892,6 +1129,12 @@ public class UVMRegsBuilder extends OutputBuilder {
 		// create build function (no width override) 
 		buildBlockBuildFunction(refId, null, false);
 		
+		// create lazy array element accessors
+		buildBlockLazyMethods(refId);
+		
+		// create address lookup table element accessors
+		buildBlockAddrLookupMethods(refId);
+		
 		// close out the class definition
 		outputList.add(new OutputLine(indentLvl, ""));	
 		outputList.add(new OutputLine(indentLvl, "`uvm_object_utils(" + uvmBlockClassName + ")"));
@@ -921,18 +1164,63 @@ public class UVMRegsBuilder extends OutputBuilder {
 		outputList.add(new OutputLine(indentLvl, "this.get_registers(m_regs, UVM_NO_HIER);"));
 		outputList.add(new OutputLine(indentLvl++, "foreach (m_regs[rg_]) begin"));  
 		outputList.add(new OutputLine(indentLvl, "$cast(rg, m_regs[rg_]);"));
-		outputList.add(new OutputLine(indentLvl, "rg.add_callbacks();"));
+		outputList.add(new OutputLine(indentLvl, (ExtParameters.uvmregsLazyArrayThreshold() > 0)? "rg.add_rdl_callbacks();" : "rg.add_callbacks();"));
 		outputList.add(new OutputLine(--indentLvl, "end"));
 		// loop through child blocks and add_callbacks
 		outputList.add(new OutputLine(indentLvl, "this.get_blocks(m_blks, UVM_NO_HIER);"));
 		outputList.add(new OutputLine(indentLvl++, "foreach (m_blks[blk_]) begin"));  
 		outputList.add(new OutputLine(indentLvl, "$cast(blk, m_blks[blk_]);"));
-		outputList.add(new OutputLine(indentLvl, "blk.add_callbacks();"));
+		outputList.add(new OutputLine(indentLvl, (ExtParameters.uvmregsLazyArrayThreshold() > 0)? "blk.add_rdl_callbacks();" : "blk.add_callbacks();"));
 		outputList.add(new OutputLine(--indentLvl, "end"));
 
 		outputList.add(new OutputLine(--indentLvl, "endfunction: add_callbacks"));		
 	}
 
+	/** build lazy array element accessor methods and build_lazy_element override for current block 
+	 * @param block - getBaseName of current regSet used as hash key*/
+	protected void buildBlockLazyMethods(String block) {
+		List<SpecialLine> caseList = subcompLazyCaseList.getStatements(block);
+		if (caseList == null) return;
+		// add the element accessors
+		for (SpecialLine line : subcompLazyMethodList.getStatements(block)) {
+			line.setIndent(indentLvl);
+			outputList.add(line);
+		}
+		// dispatch element builds by array name
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.add(new OutputLine(indentLvl++, "virtual function void build_lazy_element(string name, int unsigned idx);"));
+		outputList.add(new OutputLine(indentLvl++, "case (name)"));
+		for (SpecialLine line : caseList) {
+			line.setIndent(indentLvl);
+			outputList.add(line);
+		}
+		outputList.add(new OutputLine(indentLvl, "default: super.build_lazy_element(name, idx);"));
+		outputList.add(new OutputLine(--indentLvl, "endcase"));
+		outputList.add(new OutputLine(--indentLvl, "endfunction: build_lazy_element"));
+	}
+
+	/** build address lookup table element accessor overrides for current block 
+	 * @param block - getBaseName of current regSet used as hash key*/
+	protected void buildBlockAddrLookupMethods(String block) {
+		buildAddrLookupCaseMethod("uvm_reg", "get_addr_range_reg", subcompAddrRegCaseList.getStatements(block));
+		buildAddrLookupCaseMethod("uvm_reg_block", "get_addr_range_block", subcompAddrBlockCaseList.getStatements(block));
+	}
+
+	/** build an address lookup table accessor method returning the element of range id at index idx */
+	private void buildAddrLookupCaseMethod(String retType, String methodName, List<SpecialLine> caseList) {
+		if (caseList == null) return;
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.add(new OutputLine(indentLvl++, "virtual function " + retType + " " + methodName + "(int unsigned id, int unsigned idx);"));
+		outputList.add(new OutputLine(indentLvl++, "case (id)"));
+		for (SpecialLine line : caseList) {
+			line.setIndent(indentLvl);
+			outputList.add(line);
+		}
+		outputList.add(new OutputLine(indentLvl, "default: return null;"));
+		outputList.add(new OutputLine(--indentLvl, "endcase"));
+		outputList.add(new OutputLine(--indentLvl, "endfunction: " + methodName));
+	}
+
 	/** build field definitions for current register */
 	protected void buildRegFieldDefines() {
 		Iterator<FieldProperties> iter = fieldList.iterator();
@@ -976,6 +1264,15 @@ public class UVMRegsBuilder extends OutputBuilder {
 	/** build field hdl paths for current register */
 	protected void buildRegHdlPaths() {
 		outputList.add(new OutputLine(indentLvl, ""));	
+		// if rtl field names are known at generation time, use them directly
+		if (hasStaticHdlPath()) {
+			String regBaseName = regProperties.isAlias()? regProperties.getAliasBaseName() : regProperties.getBaseName();
+			for (FieldProperties field : fieldList) {
+				String fieldRegisterName = fieldRegisterSignal.getFullName(regBaseName + "_" + field.getPrefixedId(), true);
+				outputList.add(new OutputLine(indentLvl, "add_hdl_path_slice(\"" + fieldRegisterName + "\", " + field.getLowIndex() + ", " + field.getFieldWidth() + ");"));
+			}
+			return;
+		}
 		outputList.add(new OutputLine(indentLvl, "rdl_reg_name = get_rdl_name(\"rg_\");"));	// get register name
 		
 		Iterator<FieldProperties> iter = fieldList.iterator();
@@ -986,6 +1283,19 @@ public class UVMRegsBuilder extends OutputBuilder {
 		}		
 	}
 
+	/** return true if the current register class is used by a single instance whose rtl field names
+	 *  are fixed, so hdl path slices can be generated as literals rather than built at run time.
+	 *  Literal slices are derived from the rdl instance names, so a set_rdl_tag override of the register
+	 *  or an ancestor block made before build() is not reflected in them (static_hdl_paths should not be
+	 *  used if rdl tags are overridden). */
+	protected boolean hasStaticHdlPath() {
+		if (!ExtParameters.uvmregsStaticHdlPaths() || ExtParameters.uvmregsReuseUvmClasses() || ExtParameters.sysVerGenerateChildAddrmaps()) return false;
+		for (InstanceProperties inst : instancePropertyStack) {
+			if ((inst != null) && inst.isReplicated()) return false;
+		}
+		return true;
+	}
+
 	/** build subcomponent definitions for current block 
 	 * @param block - getBaseName of current regSet used as hash key*/
 	protected void buildBlockDefines(String block) {  
@@ -1401,11 +1711,16 @@ public class UVMRegsBuilder extends OutputBuilder {
 
 	/** add user defined property assigns (for regs, vregs, regsets) */
 	protected void addUserDefinedPropertyElements(String parentID, InstanceProperties instProperties, String instName) {
+		addUserDefinedPropertyElements(subcompBuildList, parentID, "  ", instProperties, instName);
+	}
+
+	/** add user defined property assigns to the specified statement list using indent prefix */
+	protected void addUserDefinedPropertyElements(subComponentLists stmtList, String parentID, String prefix, InstanceProperties instProperties, String instName) {
 		if (!instProperties.hasUserDefinedProperties()) return;  // done if no external properties
 		PropertyList pList = instProperties.getUserDefinedProperties();
 		for (String name : pList.getProperties().keySet()) {
 			String value = (pList.getProperty(name) == null)? "" : pList.getProperty(name);
-			subcompBuildList.addStatement(parentID, "  this." + instName + ".add_def_property(\"" + name + "\", \"" + cleanSysVerString(value) + "\");"); 
+			stmtList.addStatement(parentID, prefix + "this." + instName + ".add_def_property(\"" + name + "\", \"" + cleanSysVerString(value) + "\");"); 
 		}
 	}
 //				subcompBuildList.addStatement(parentID, "  this." + regId + "[i].set_external(1);");
@@ -1661,6 +1976,21 @@ public class UVMRegsBuilder extends OutputBuilder {
     		}
     		return null;
     	}
+    	
+    	protected void removeStatements(String block) {
+    		subCompList.remove(block);
+    	}
+    }
+    
+    /** output range of a top level block output file - lines since the prior block end are included */
+    protected class BlockFileSegment {
+    	protected String blockId;
+    	protected long endPos;
+
+    	protected BlockFileSegment(String blockId, long endPos) {
+    		this.blockId = blockId;
+    		this.endPos = endPos;
+    	}
     }
     
     /** class of alias regs in a group */
@@ -1804,6 +2134,142 @@ public class UVMRegsBuilder extends OutputBuilder {
     
     //---------------------------- output write methods ----------------------------------------
 
+	/** write output to specified output file or, if outName ends with '/', to a directory
+	 *  containing a file per top level block (<map>_uvmregs_<block>_block.sv), a base file with remaining
+	 *  classes (<map>_uvmregs_base.sv), a package file (<map>_uvmregs_pkg.sv) and a filelist (<map>_uvmregs.f)
+	 *  in compile order.  If no extern methods are generated, each block file is wrapped in its own package
+	 *  so unchanged blocks need not be recompiled, otherwise all files are included in the single package.
+	 * @param outName - output file or directory
+	 * @param description - text description of file generated
+	 * @param commentPrefix - comment chars for this file type */
+	@Override
+	public void write(String outName, String description, String commentPrefix) {
+		if (!outName.endsWith("/")) {
+			super.write(outName, description, commentPrefix);
+			return;
+		}
+		File saveDir = new File(outName);
+   	    saveDir.mkdirs();   // make sure directory exists
+   	    String baseName = getAddressMapName().isEmpty()? "uvmregs" : getAddressMapName() + "_uvmregs";
+
+		// create text replacement set to set final max width  
+    	HashMap<String, String> repStrings = new HashMap<String, String>();
+    	repStrings.put("<MAX_REG_BYTE_WIDTH>", String.valueOf(this.getMaxRegByteWidth())); // replace with max reg size   	
+    	OutputLine.setReplacements(repStrings);
+
+		// split output into per block files, with trailing lines and extern methods in the base file
+		flushOutputList();
+		long endPos = getOutputPosition();
+		if (outputSpool != null) outputSpool.finish();
+		List<String> fileNames = new ArrayList<String>();
+		List<Long> fileStarts = new ArrayList<Long>();
+		List<Long> fileEnds = new ArrayList<Long>();
+		long startPos = pkgImportEndPos;
+		for (BlockFileSegment segment : blockFileSegments) {
+			fileNames.add(baseName + "_" + segment.blockId + "_block.sv");  // suffix avoids collision of blocks named base or pkg with common files
+			fileStarts.add(startPos);
+			fileEnds.add(segment.endPos);
+			startPos = segment.endPos;
+		}
+		fileNames.add(baseName + "_base.sv");
+		fileStarts.add(startPos);
+		fileEnds.add(endPos);
+		List<OutputLine> externLines = new ArrayList<OutputLine>();
+		for (SystemVerilogFunction func: externMethods) {
+			externLines.addAll(getResolvedFuncStatements(func.genOutputLines(indentLvl, true)));  // resolve class names before parallel write
+		}
+		
+		// extern method bodies in the base file reference classes of every block, so only wrap blocks if none exist
+		boolean blockPackages = externMethods.isEmpty();
+		if (!blockPackages && (fileNames.size() > 1))
+			MsgUtils.infoMessage("UVM register extern methods were generated, so block files will be included in a single package");
+		List<List<String>> fileHeads = new ArrayList<List<String>>();
+		List<List<String>> fileTails = new ArrayList<List<String>>();
+		List<String> blockPkgNames = new ArrayList<String>();
+		for (int idx = 0; idx < fileNames.size(); idx++) {
+			List<String> head = new ArrayList<String>();
+			List<String> tail = new ArrayList<String>();
+			if (blockPackages && (idx < fileNames.size() - 1)) {
+				String blockPkgName = fileNames.get(idx).replaceFirst("\\.sv$", "_pkg");
+				head.add("`ifndef " + blockPkgName.toUpperCase() + "_SV");
+				head.add("`define " + blockPkgName.toUpperCase() + "_SV");
+				head.add("`include \"uvm_macros.svh\"");
+				head.add("package " + blockPkgName + ";");
+				for (OutputLine rLine : pkgImportLines) head.add("  " + rLine.getLine());
+				for (String prevPkgName : blockPkgNames) head.add("  import " + prevPkgName + "::*;");  // reused classes may be defined in an earlier block
+				tail.add("endpackage : " + blockPkgName);
+				tail.add("`endif");
+				blockPkgNames.add(blockPkgName);
+			}
+			fileHeads.add(head);
+			fileTails.add(tail);
+		}
+
+		// write files in parallel, each task opening and closing its own file so open files are bounded by pool size
+		int threads = Math.max(1, Math.min(fileNames.size(), Runtime.getRuntime().availableProcessors()));
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> futures = new ArrayList<Future<String>>();
+			for (int idx = 0; idx < fileNames.size(); idx++) {
+				final String fileName = outName + fileNames.get(idx);
+				final long fileStart = fileStarts.get(idx);
+				final long fileEnd = fileEnds.get(idx);
+				final List<String> headLines = fileHeads.get(idx);
+				final List<String> tailLines = fileTails.get(idx);
+				final List<OutputLine> trailingLines = (idx == fileNames.size() - 1)? externLines : new ArrayList<OutputLine>();
+				final String fileDescription = description;
+				final String fileCommentPrefix = commentPrefix;
+				futures.add(pool.submit(new Callable<String>() {
+					@Override
+					public String call() {
+				    	BufferedWriter bw = openBufferedWriter(fileName, fileDescription);
+				    	if (bw == null) return fileName;
+						try {
+				    		writeHeader(bw, fileCommentPrefix);
+							for (String line : headLines) bw.write(line + "\n");
+							writeOutputRange(bw, fileStart, fileEnd);
+							for (OutputLine rLine : trailingLines) bw.write(MsgUtils.repeat(' ', rLine.getIndent()*2) + rLine.getLine() + "\n");
+							for (String line : tailLines) bw.write(line + "\n");
+						} catch (IOException e) {
+							MsgUtils.errorMessage("Write of " + fileName + " failed: " + e.getMessage());
+						}
+						finally {
+				    		closeBufferedWriter(bw);
+						}
+						return fileName;
+					}
+				}));
+			}
+			for (Future<String> future : futures) future.get();
+		} catch (InterruptedException | ExecutionException e) {
+			MsgUtils.errorExit("UVM output write failed: " + e.getMessage());
+		}
+		finally {
+			pool.shutdown();
+			if (outputSpool != null) outputSpool.delete();
+		}
+
+		// write the package file importing block packages (or including block files) in generation order
+		String pkgName = baseName + "_pkg";
+		List<String> pkgStmts = new ArrayList<String>();
+		pkgStmts.add("`ifndef " + pkgName.toUpperCase() + "_SV");
+		pkgStmts.add("`define " + pkgName.toUpperCase() + "_SV");
+		pkgStmts.add("`include \"uvm_macros.svh\"");
+		pkgStmts.add("package " + pkgName + ";");
+		for (OutputLine rLine : pkgImportLines) pkgStmts.add("  " + rLine.getLine());
+		for (String blockPkgName : blockPkgNames) pkgStmts.add("  import " + blockPkgName + "::*;");
+		for (int idx = blockPkgNames.size(); idx < fileNames.size(); idx++) pkgStmts.add("  `include \"" + fileNames.get(idx) + "\"");
+		pkgStmts.add("endpackage : " + pkgName);
+		pkgStmts.add("`endif");
+		writeStatementsToFile(outName + pkgName + ".sv", description + " package", commentPrefix, pkgStmts);
+		
+		// write a filelist with separately compiled files in dependency order
+		List<String> fileListStmts = new ArrayList<String>();
+		for (int idx = 0; idx < blockPkgNames.size(); idx++) fileListStmts.add(fileNames.get(idx));
+		fileListStmts.add(pkgName + ".sv");
+		writeStatementsToFile(outName + baseName + ".f", description + " filelist", "//", fileListStmts);
+	}
+
 	@Override
 	public void write(BufferedWriter bw) {
 		bufferedWriter = bw;
@@ -1814,8 +2280,21 @@ public class UVMRegsBuilder extends OutputBuilder {
     	OutputLine.setReplacements(repStrings);
 
 		// write the output for each output group
-		for (OutputLine rLine: outputList) {
-			writeStmt(rLine.getIndent(), rLine.getLine());  
+		if (outputSpool != null) {
+			// copy completed classes from the spool, applying deferred replacements
+			flushOutputList();
+			outputSpool.finish();
+			try {
+				outputSpool.copyTo(bw, 0, outputSpool.size());
+			} catch (IOException e) {
+				MsgUtils.errorMessage("Write of UVM spooled output failed: " + e.getMessage());
+			}
+			outputSpool.delete();
+		}
+		else {
+			for (OutputLine rLine: outputList) {
+				writeStmt(rLine.getIndent(), rLine.getLine());  
+			}
 		}
 		
 		// write any extern methods	
@@ -1865,7 +2344,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 		bufferedWriter = bw;
 
 		writeStmt(0, "//   Ordt " + Ordt.getVersion() + " autogenerated file ");
-		writeStmt(0, "//   Date: " + new Date());
+		if (!ExtParameters.writeIfChanged()) writeStmt(0, "//   Date: " + new Date());  // no date if unchanged files are kept
 		writeStmt(0, "//");
 		writeStmt(0, "");
 		
@@ -1,6 +1,8 @@
 package ordt.output.uvmregs;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import ordt.output.common.MsgUtils;
 import ordt.extract.RegModelIntf;
@@ -55,10 +57,12 @@ public class UVMRegsLite1Builder extends UVMRegsNativeBuilder {
 		// generate register header 
 		outputList.add(new OutputLine(indentLvl, ""));	
 		outputList.add(new OutputLine(indentLvl, "// " + textName));
-		outputList.add(new OutputLine(indentLvl++, "class " + uvmRegClassName + " extends uvm_reg_lite;"));  // use lightweight reg class
+		boolean compactFields = ExtParameters.uvmregsCompactFields();
+		outputList.add(new OutputLine(indentLvl++, "class " + uvmRegClassName + " extends " + (compactFields? "uvm_reg_lite_compact;" : "uvm_reg_lite;")));  // use lightweight reg class
 		
 		// create field definitions
-		buildRegFieldDefines();
+		if (compactFields) buildRegFieldTable();
+		else buildRegFieldDefines();
 		
 		// create new function
 		outputList.add(new OutputLine(indentLvl, ""));	
@@ -68,6 +72,9 @@ public class UVMRegsLite1Builder extends UVMRegsNativeBuilder {
 
 		// create build function
 		buildRegBuildFunction();
+		
+		// create field table accessors
+		if (compactFields) buildRegFieldTableFunctions();
 						
 		// close out the register definition
 		outputList.add(new OutputLine(indentLvl, ""));	
@@ -89,6 +96,54 @@ public class UVMRegsLite1Builder extends UVMRegsNativeBuilder {
 		}
 	}
 
+	/** build static field table for current register (compact field mode).  No table is created for
+	 *  registers without fields, since zero size arrays are not legal */
+	protected void buildRegFieldTable() {
+		if (fieldList.isEmpty()) return;
+		List<String> names = new ArrayList<String>();
+		List<String> lsbs = new ArrayList<String>();
+		List<String> widths = new ArrayList<String>();
+		for (FieldProperties field : fieldList) {
+			names.add("\"" + field.getPrefixedId() + "\"");
+			lsbs.add(String.valueOf(field.getLowIndex()));
+			widths.add(String.valueOf(field.getFieldWidth()));
+		}
+		int fieldCount = fieldList.size();
+		outputList.add(new OutputLine(indentLvl, "local static const string m_field_name[" + fieldCount + "] = '{" + String.join(", ", names) + "};"));
+		outputList.add(new OutputLine(indentLvl, "local static const int m_field_lsb[" + fieldCount + "] = '{" + String.join(", ", lsbs) + "};"));
+		outputList.add(new OutputLine(indentLvl, "local static const int m_field_width[" + fieldCount + "] = '{" + String.join(", ", widths) + "};"));
+	}
+
+	/** build field table accessor functions for current register (compact field mode).  Registers without
+	 *  fields use the uvm_reg_lite_compact defaults */
+	protected void buildRegFieldTableFunctions() {
+		if (fieldList.isEmpty()) return;
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.add(new OutputLine(indentLvl++, "virtual function int get_n_fields_lite();"));
+		outputList.add(new OutputLine(indentLvl, "return " + fieldList.size() + ";"));
+		outputList.add(new OutputLine(--indentLvl, "endfunction: get_n_fields_lite"));
+		
+		outputList.add(new OutputLine(indentLvl, ""));	
+		outputList.add(new OutputLine(indentLvl++, "virtual function int get_field_lite_idx(string name);"));
+		outputList.add(new OutputLine(indentLvl++, "case (name)"));
+		int idx = 0;
+		for (FieldProperties field : fieldList) {
+			outputList.add(new OutputLine(indentLvl, "\"" + field.getPrefixedId() + "\": return " + idx++ + ";"));
+		}
+		outputList.add(new OutputLine(indentLvl, "default: return -1;"));
+		outputList.add(new OutputLine(--indentLvl, "endcase"));
+		outputList.add(new OutputLine(--indentLvl, "endfunction: get_field_lite_idx"));
+		
+		String[] tables = {"name", "lsb", "width"};
+		String[] types = {"string", "int", "int"};
+		for (int tIdx = 0; tIdx < tables.length; tIdx++) {
+			outputList.add(new OutputLine(indentLvl, ""));	
+			outputList.add(new OutputLine(indentLvl++, "virtual function " + types[tIdx] + " get_field_lite_" + tables[tIdx] + "(int idx);"));
+			outputList.add(new OutputLine(indentLvl, "return m_field_" + tables[tIdx] + "[idx];"));
+			outputList.add(new OutputLine(--indentLvl, "endfunction: get_field_lite_" + tables[tIdx]));
+		}
+	}
+
 	/** build the build function for current register */
 	@Override
 	protected void buildRegBuildFunction() {
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.uvmregs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import ordt.output.common.MsgUtils;
+import ordt.output.common.OutputLine;
+
+/** temporary file holding rendered uvm class output so completed classes need not be kept in memory.
+ *  Each spooled line is stored as a record of a tag byte indicating if text replacements are deferred until copy,
+ *  a 4 byte text length, and the utf-8 line text, so lines containing newlines are copied intact.
+ *  Only completed class output is spooled - extern methods and alias groups are still held in memory by the builder. */
+public class UVMRegsOutputSpool {
+	private static final byte PLAIN_TAG = ' ';
+	private static final byte REPLACE_TAG = 'R';
+
+	private File spoolFile = null;
+	private DataOutputStream spoolStream = null;
+	private long size = 0;  // number of bytes spooled
+
+	/** return the current spool size in bytes (used as a position for later copies) */
+	public long size() {
+		return size;
+	}
+
+	/** append a list of output lines to the spool */
+	public void add(List<OutputLine> lines) {
+		if (lines.isEmpty()) return;
+		try {
+			if (spoolStream == null) {
+				spoolFile = File.createTempFile("ordt_uvmregs", ".spool");
+				spoolFile.deleteOnExit();
+				spoolStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spoolFile)));
+			}
+			for (OutputLine line : lines) {
+				byte[] bytes = (MsgUtils.repeat(' ', line.getIndent()*2) + line.getRawLine()).getBytes(StandardCharsets.UTF_8);
+				spoolStream.writeByte(line.hasTextReplacements()? REPLACE_TAG : PLAIN_TAG);
+				spoolStream.writeInt(bytes.length);
+				spoolStream.write(bytes);
+				size += bytes.length + 5;
+			}
+		} catch (IOException e) {
+			MsgUtils.errorExit("UVM output spool write failed: " + e.getMessage());
+		}
+	}
+
+	/** close the spool for writing - must be called before any copies */
+	public void finish() {
+		if (spoolStream == null) return;
+		try {
+			spoolStream.close();
+		} catch (IOException e) {
+			MsgUtils.errorExit("UVM output spool close failed: " + e.getMessage());
+		}
+		spoolStream = null;
+	}
+
+	/** copy spooled lines between byte positions start and end to a writer, applying current
+	 *  OutputLine text replacements on tagged lines.  Copies of separate ranges may run concurrently. */
+	public void copyTo(Writer writer, long start, long end) throws IOException {
+		if ((spoolFile == null) || (end <= start)) return;
+		FileInputStream fis = new FileInputStream(spoolFile);
+		try {
+			fis.getChannel().position(start);
+			DataInputStream is = new DataInputStream(new BufferedInputStream(fis));
+			long pos = start;
+			while (pos < end) {
+				byte tag = is.readByte();
+				byte[] lineBytes = new byte[is.readInt()];
+				is.readFully(lineBytes);
+				pos += lineBytes.length + 5;
+				OutputLine line = new OutputLine(0, new String(lineBytes, StandardCharsets.UTF_8));
+				line.setHasTextReplacements(tag == REPLACE_TAG);
+				writer.write(line.getLine());
+				writer.write('\n');
+			}
+		}
+		finally {
+			fis.close();
+		}
+	}
+
+	/** remove the spool file */
+	public void delete() {
+		finish();
+		if (spoolFile != null) spoolFile.delete();
+		spoolFile = null;
+		size = 0;
+	}
+}
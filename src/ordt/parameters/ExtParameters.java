@@ -8,9 +8,11 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -21,9 +23,11 @@ import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 import ordt.annotate.AnnotateCommand;
 import ordt.annotate.AnnotateSetCommand;
+import ordt.output.common.CoveragePolicy;
 import ordt.output.common.MsgUtils;
 import ordt.extract.RegNumber;
 import ordt.extract.model.ModComponent.CompType;
+import ordt.output.StructuralFingerprint;
 import ordt.output.systemverilog.common.wrap.WrapperRemapInvertXform;
 import ordt.output.systemverilog.common.wrap.WrapperRemapSyncStagesXform;
 import ordt.output.systemverilog.common.wrap.WrapperRemapXform;
@@ -65,6 +69,9 @@ public class ExtParameters extends ExtParmsBaseListener  {
 	// set of systemverilog wrapper signal mapping rules
 	private static LinkedHashMap<String, WrapperRemapXform> xformMap = new LinkedHashMap<String, WrapperRemapXform>();
 	
+	// path based coverage generation rules
+	private static CoveragePolicy coveragePolicy = new CoveragePolicy();
+	
 	public ExtParameters() {
 	}
 	
@@ -96,6 +103,7 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		initBooleanParameter("suppress_alignment_warnings", false); 
 		initStringParameter("default_base_map_name", "");  
 		initBooleanParameter("allow_unordered_addresses", false); 
+		initBooleanParameter("write_if_changed", false); 
 		// special handling for debug_mode. currently defined:
 		//     uvmregs_no_mem_wrap
 		//     uvmregs_maps_use_max_width
@@ -134,11 +142,15 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		initBooleanParameter("always_generate_iwrap", false);
 		initBooleanParameter("suppress_no_reset_warnings", false); 
 		initBooleanParameter("generate_child_addrmaps", false); 
+		initBooleanParameter("parallel_child_addrmaps", false); 
+		initBooleanParameter("incremental_output", false); 
 		initIntegerParameter("ring_inter_node_delay", 0); 	
 		initBooleanParameter("bbv5_timeout_input", false); 
 		initBooleanParameter("include_default_coverage", false);
 		sysVerChildInfoMode = SVChildInfoModes.PERL;  
 		initBooleanParameter("pulse_intr_on_clear", false);
+		initIntegerParameter("intr_or_tree_fanin", 0);
+		initIntegerParameter("intr_or_tree_stages", 0);
 		initBooleanParameter("reuse_iwrap_structures", false); 
 		initBooleanParameter("optimize_parallel_externals", false); 
 		initBooleanParameter("use_async_resets", false); 
@@ -183,6 +195,12 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		initBooleanParameter("use_numeric_uvm_class_names", false); 
 		uvmMemStrategy = UvmMemStrategy.BLOCK_WRAPPED;
 		initRegNumberParameter("base_address_override", null); 
+		initIntegerParameter("lazy_array_threshold", 0);
+		initBooleanParameter("include_address_lookup", false); 
+		initBooleanParameter("stream_output", false); 
+		initBooleanParameter("static_hdl_paths", false); 
+		initBooleanParameter("include_bulk_reset", false); 
+		initBooleanParameter("compact_fields", false); 
 
 		// ---- bench output defaults
 		initStringListParameter("add_test_command", new ArrayList<String>());
@@ -192,6 +210,13 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		
 		// ---- xml output defaults
 		initBooleanParameter("include_field_hw_info", true);
+		
+		// ---- cppmod output defaults
+		initIntegerParameter("sparse_array_threshold", 0);
+		
+		// ---- pydrvmod output defaults
+		initIntegerParameter("address_cache_size", 4096);
+		initBooleanParameter("generate_benchmark", false);
 	}
 	
 	static void initBooleanParameter(String name, Boolean value) {
@@ -413,6 +438,20 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 
+	/**
+	 * Assign cppmod output parameters
+	 */
+	@Override public void enterCppmod_out_parm_assign(ExtParmsParser.Cppmod_out_parm_assignContext ctx) {
+		assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+	}
+
+	/**
+	 * Assign pydrvmod output parameters
+	 */
+	@Override public void enterPydrvmod_out_parm_assign(ExtParmsParser.Pydrvmod_out_parm_assignContext ctx) {
+		assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+	}
+
 	/**
 	 * Capture annotation command  
 		 annotation_command
@@ -426,8 +465,40 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		processAnnotationCommand(ctx);
 	}
 
+	/**
+	 * Capture coverage policy command
+	 */
+	@Override public void enterCoverage_policy_command(ExtParmsParser.Coverage_policy_commandContext ctx) {
+		processCoveragePolicyCommand(ctx);
+	}
+
 	// -------------------
 
+	/** add a coverage policy rule */
+	public static void processCoveragePolicyCommand(ParserRuleContext ctx) {
+		String cmdName = ctx.getChild(0).getText();
+		String pathPattern = ctx.getChild(1).getText().replaceAll("\"", "");
+		switch(cmdName) {
+		case ("include_coverage"): // 'include_coverage' STR
+			coveragePolicy.addRule(CoveragePolicy.RuleType.INCLUDE, pathPattern, 0);
+			break;
+		case ("exclude_coverage"): // 'exclude_coverage' STR
+			coveragePolicy.addRule(CoveragePolicy.RuleType.EXCLUDE, pathPattern, 0);
+			break;
+		case ("merge_replicated_coverage"): // 'merge_replicated_coverage' STR
+			coveragePolicy.addRule(CoveragePolicy.RuleType.MERGE_REPS, pathPattern, 0);
+			break;
+		case ("sample_coverage"): // 'sample_coverage' STR NUM
+			Integer sampleRate = Utils.strToInteger(ctx.getChild(2).getText());
+			if ((sampleRate == null) || (sampleRate < 0)) MsgUtils.errorExit("Invalid sample rate specified in coverage policy command (" + ctx.getText() + ").");
+			coveragePolicy.addRule(CoveragePolicy.RuleType.SAMPLE, pathPattern, sampleRate);
+			break;
+		default:
+			MsgUtils.errorExit("Unsupported coverage policy command (" + ctx.getText() + ") specified in parameters.");
+			break;
+		}
+	}
+
 	public static void processAnnotationCommand(ParserRuleContext ctx) {
 		// extract command info
 		String cmdName = ctx.getChild(0).getText();
@@ -527,12 +598,42 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		return parmFiles;
 	}
 
+	/** return a fingerprint of all parameter values and wrapper remap rules (used to detect changed output) */
+	public static StructuralFingerprint getParameterFingerprint() {
+		StructuralFingerprint.Builder fp = new StructuralFingerprint.Builder();
+		List<String> names = new ArrayList<String>(params.keySet());
+		Collections.sort(names);
+		for (String name : names) {
+			fp.add(name);
+			fp.add(String.valueOf(params.get(name).get()));
+		}
+		fp.add(String.valueOf(sysVerRootDecoderInterface));
+		fp.add(String.valueOf(sysVerSecondaryDecoderInterface));
+		fp.add(String.valueOf(systemverilogBlockSelectMode));
+		fp.add(String.valueOf(sysVerChildInfoMode));
+		fp.add(String.valueOf(uvmModelMode));
+		fp.add(String.valueOf(uvmMemStrategy));
+		fp.add(defaultMaxInternalRegReps);
+		for (Map.Entry<String, WrapperRemapXform> xform : xformMap.entrySet()) {
+			fp.add(xform.getKey());
+			fp.add(xform.getValue().getType().name());
+		}
+		for (String rule : coveragePolicy.getRuleSignatures()) fp.add(rule);
+		if (parmFiles != null) for (String parmFile : parmFiles) fp.add(parmFile);
+		return fp.build();
+	}
+
 	// ----------------------------------- getters ------------------------------------------
 	
 	public static List<AnnotateCommand> getAnnotations() {
 		return annotations;
 	}
 
+	/** return path based coverage generation rules */
+	public static CoveragePolicy getCoveragePolicy() {
+		return coveragePolicy;
+	}
+
 	/** get leafAddressSize
 	 *  @return the leafAddressSize
 	 */
@@ -603,6 +704,12 @@ public class ExtParameters extends ExtParmsBaseListener  {
 	public static Boolean allowUnorderedAddresses() {
 		return getBooleanParameter("allow_unordered_addresses");
 	}
+	
+	/** get writeIfChanged  
+	 */
+	public static Boolean writeIfChanged() {
+		return getBooleanParameter("write_if_changed");
+	}
 
 	/** get defaultBaseMapName
 	 *  @return the defaultBaseMapName
@@ -736,6 +843,14 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		return getBooleanParameter("generate_child_addrmaps");
 	}
 	
+	public static Boolean sysVerParallelChildAddrmaps() {
+		return getBooleanParameter("parallel_child_addrmaps");
+	}
+	
+	public static Boolean sysVerIncrementalOutput() {
+		return getBooleanParameter("incremental_output");
+	}
+	
 	public static int sysVerRingInterNodeDelay() {
 		return getIntegerParameter("ring_inter_node_delay");
 	}
@@ -751,6 +866,16 @@ public class ExtParameters extends ExtParmsBaseListener  {
 	public static Boolean sysVerPulseIntrOnClear() {
 		return getBooleanParameter("pulse_intr_on_clear");
 	}
+
+	/** return max inputs per node of register interrupt output or trees (or tree is not used if less than 2) */
+	public static int sysVerIntrOrTreeFanIn() {
+		return getIntegerParameter("intr_or_tree_fanin");
+	}
+
+	/** return number of pipeline stages added to register interrupt output or trees */
+	public static int sysVerIntrOrTreeStages() {
+		return getIntegerParameter("intr_or_tree_stages");
+	}
 	
 	public static Boolean sysVerOptimizeParallelExternals() {
 		return getBooleanParameter("optimize_parallel_externals");
@@ -944,6 +1069,30 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		return getRegNumberParameter("base_address_override");
 	}
 	
+	public static Integer uvmregsLazyArrayThreshold() {
+		return getIntegerParameter("lazy_array_threshold");
+	}
+
+	public static Boolean uvmregsIncludeAddressLookup() {
+		return getBooleanParameter("include_address_lookup");
+	}
+
+	public static Boolean uvmregsStreamOutput() {
+		return getBooleanParameter("stream_output");
+	}
+
+	public static Boolean uvmregsStaticHdlPaths() {
+		return getBooleanParameter("static_hdl_paths");
+	}
+
+	public static Boolean uvmregsIncludeBulkReset() {
+		return getBooleanParameter("include_bulk_reset");
+	}
+
+	public static Boolean uvmregsCompactFields() {
+		return getBooleanParameter("compact_fields");
+	}
+
 	public static boolean hasUvmregsBaseAddressOverride() {
 		return uvmregsBaseAddressOverride() != null;
 	}
@@ -973,6 +1122,20 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		return getBooleanParameter("include_field_hw_info");
 	}
 	
+	/** return min reps at which c++ model arrays are sparsely allocated (0 disables) */
+	public static int cppmodSparseArrayThreshold() {
+		return getIntegerParameter("sparse_array_threshold");
+	}
+	
+	/** return max number of resolved paths cached by the python driver model (0 disables) */
+	public static int pydrvmodAddressCacheSize() {
+		return getIntegerParameter("address_cache_size");
+	}
+	
+	public static Boolean pydrvmodGenerateBenchmark() {
+		return getBooleanParameter("generate_benchmark");
+	}
+	
 	/**
 	 * @param args
 	 */
@@ -20,7 +20,9 @@ ext_parm_defs
     | reglist_out_defs
     | bench_out_defs
     | xml_out_defs
- //   | cppmod_out_defs
+    | cppmod_out_defs
+    | pydrvmod_out_defs
+    | coverage_policy
     | model_annotation
     )*
   ;
@@ -41,6 +43,7 @@ ext_parm_defs
    | 'default_base_map_name' EQ STR
    | 'allow_unordered_addresses' EQ bool
    | 'debug_mode' EQ STR
+   | 'write_if_changed' EQ bool
    ;
 
 // ------------ rdl_in_defs
@@ -134,12 +137,16 @@ ext_parm_defs
    | 'always_generate_iwrap' EQ bool 
    | 'suppress_no_reset_warnings' EQ bool
    | 'generate_child_addrmaps' EQ bool
+   | 'parallel_child_addrmaps' EQ bool
+   | 'incremental_output' EQ bool
    | 'ring_inter_node_delay' EQ NUM
    | 'bbv5_timeout_input' EQ bool
    | 'include_default_coverage' EQ bool
    | 'generate_external_regs' EQ bool   // also allowed in bench output
    | 'child_info_mode' EQ ('perl' | 'module') 
    | 'pulse_intr_on_clear' EQ bool
+   | 'intr_or_tree_fanin' EQ NUM
+   | 'intr_or_tree_stages' EQ NUM
    | 'reuse_iwrap_structures' EQ bool
    | 'optimize_parallel_externals' EQ bool
    | 'use_async_resets' EQ bool
@@ -187,6 +194,12 @@ ext_parm_defs
    | 'use_numeric_uvm_class_names' EQ bool
    | 'uvm_mem_strategy' EQ ('basic' | 'block_wrapped' | 'mimic_reg_api') 
    | 'base_address_override' EQ NUM
+   | 'lazy_array_threshold' EQ NUM
+   | 'include_address_lookup' EQ bool
+   | 'stream_output' EQ bool
+   | 'static_hdl_paths' EQ bool
+   | 'include_bulk_reset' EQ bool
+   | 'compact_fields' EQ bool
    ;   
    
 // ------------ reglist_out_defs
@@ -231,7 +244,6 @@ ext_parm_defs
    : 'include_field_hw_info' EQ bool 
    ;
    
-/*   
 // ------------ cppmod_out_defs
  cppmod_out_defs
    : 'output' 'cppmod'
@@ -241,11 +253,35 @@ ext_parm_defs
    ;  
    
  cppmod_out_parm_assign
-   : 'set_no_model' EQ STR
-   | 'set_lite_model' EQ STR
-   | 'set_full_model' EQ STR
+   : 'sparse_array_threshold' EQ NUM
+   ;
+   
+// ------------ pydrvmod_out_defs
+ pydrvmod_out_defs
+   : 'output' 'pydrvmod'
+     LBRACE
+     (pydrvmod_out_parm_assign)*
+     RBRACE
+   ;  
+   
+ pydrvmod_out_parm_assign
+   : 'address_cache_size' EQ NUM
+   | 'generate_benchmark' EQ bool
+   ;
+// ------------ coverage_policy
+ coverage_policy
+   : 'coverage'
+     LBRACE
+     (coverage_policy_command)*
+     RBRACE
+   ;
+
+ coverage_policy_command
+   : 'include_coverage' STR   // instance path pattern
+   | 'exclude_coverage' STR
+   | 'merge_replicated_coverage' STR
+   | 'sample_coverage' STR NUM   // instance path pattern, sample rate in clocks
    ;
-*/
 
 // ------------ model_annotation
  model_annotation
@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_basic_01/test.rdl
 //   Parms: ./rdl_basic_01/test.parms
-//   Date: Tue Mar 27 14:56:05 EDT 2018
+//   Date: Mon Oct 19 03:30:34 UTC 2026
 //
 
 //
@@ -358,51 +358,154 @@ module simple1_jrdl_logic
   assign  rg_stats_features_correctable = 1'd0;
   assign  rg_stats_features_adr_logged = 1'd1;
   
-  //------- combinatorial assigns for stats_features (pio read data)
+  //------- combinatorial assigns for stats_disable_check_0
   always_comb begin
-    l2d_stats_features_r = 32'b0;
-    l2d_stats_features_r [31:30]  = rg_stats_features_version;
-    l2d_stats_features_r [9]  = rg_stats_features_syn_logged;
-    l2d_stats_features_r [8:4]  = rg_stats_features_wdth;
-    l2d_stats_features_r [3]  = rg_stats_features_generator;
-    l2d_stats_features_r [2]  = rg_stats_features_checker;
-    l2d_stats_features_r [1]  = rg_stats_features_correctable;
-    l2d_stats_features_r [0]  = rg_stats_features_adr_logged;
+    reg_stats_disable_check_0_timer_sram_next = rg_stats_disable_check_0_timer_sram;
+    l2h_stats_disable_check_0_timer_sram_r = rg_stats_disable_check_0_timer_sram;
+    reg_stats_disable_check_0_cbuf_fifo_next = rg_stats_disable_check_0_cbuf_fifo;
+    l2h_stats_disable_check_0_cbuf_fifo_r = rg_stats_disable_check_0_cbuf_fifo;
+    reg_stats_disable_check_0_lut_st_next = rg_stats_disable_check_0_lut_st;
+    l2h_stats_disable_check_0_lut_st_r = rg_stats_disable_check_0_lut_st;
+    reg_stats_disable_check_0_l0_b0_next = rg_stats_disable_check_0_l0_b0;
+    l2h_stats_disable_check_0_l0_b0_r = rg_stats_disable_check_0_l0_b0;
+    reg_stats_disable_check_0_l0_b1_next = rg_stats_disable_check_0_l0_b1;
+    l2h_stats_disable_check_0_l0_b1_r = rg_stats_disable_check_0_l0_b1;
+    reg_stats_disable_check_0_l0_b2_next = rg_stats_disable_check_0_l0_b2;
+    l2h_stats_disable_check_0_l0_b2_r = rg_stats_disable_check_0_l0_b2;
+    reg_stats_disable_check_0_l0_b3_next = rg_stats_disable_check_0_l0_b3;
+    l2h_stats_disable_check_0_l0_b3_r = rg_stats_disable_check_0_l0_b3;
+    l2h_stats_disable_check_0_intr_o = 1'b0;
+    reg_stats_disable_check_0_l0_b0_next = (h2l_stats_disable_check_0_l0_b0_intr | rg_stats_disable_check_0_l0_b0);
+    l2h_stats_disable_check_0_intr_o = l2h_stats_disable_check_0_intr_o | (rg_stats_disable_check_0_l0_b0);
+    reg_stats_disable_check_0_l0_b1_next = (h2l_stats_disable_check_0_l0_b1_intr | rg_stats_disable_check_0_l0_b1);
+    l2h_stats_disable_check_0_intr_o = l2h_stats_disable_check_0_intr_o | (rg_stats_disable_check_0_l0_b1);
+    l2h_stats_disable_check_0_halt_o = 1'b0;
+    reg_stats_disable_check_0_l0_b2_next = (h2l_stats_disable_check_0_l0_b2_intr | rg_stats_disable_check_0_l0_b2);
+    l2h_stats_disable_check_0_intr_o = l2h_stats_disable_check_0_intr_o | (rg_stats_disable_check_0_l0_b2);
+    l2h_stats_disable_check_0_halt_o = l2h_stats_disable_check_0_halt_o | (rg_stats_disable_check_0_l0_b2);
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_timer_sram_next = d2l_stats_disable_check_0_w [0] ;
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_cbuf_fifo_next = d2l_stats_disable_check_0_w [1] ;
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_lut_st_next = d2l_stats_disable_check_0_w [2] ;
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b0_next = d2l_stats_disable_check_0_w [3] ;
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b1_next = d2l_stats_disable_check_0_w [4] ;
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b2_next = d2l_stats_disable_check_0_w [5] ;
+    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b3_next = d2l_stats_disable_check_0_w [6] ;
   end
   
-  //------- combinatorial assigns for stats_log_address2 (pio read data)
+  //------- reg assigns for stats_disable_check_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_stats_disable_check_0_timer_sram <= #1 1'd0;
+      rg_stats_disable_check_0_cbuf_fifo <= #1 1'd0;
+      rg_stats_disable_check_0_lut_st <= #1 1'd0;
+      rg_stats_disable_check_0_l0_b0 <= #1 1'd0;
+      rg_stats_disable_check_0_l0_b1 <= #1 1'd0;
+      rg_stats_disable_check_0_l0_b2 <= #1 1'd0;
+      rg_stats_disable_check_0_l0_b3 <= #1 1'd0;
+    end
+    else begin
+      rg_stats_disable_check_0_timer_sram <= #1  reg_stats_disable_check_0_timer_sram_next;
+      rg_stats_disable_check_0_cbuf_fifo <= #1  reg_stats_disable_check_0_cbuf_fifo_next;
+      rg_stats_disable_check_0_lut_st <= #1  reg_stats_disable_check_0_lut_st_next;
+      rg_stats_disable_check_0_l0_b0 <= #1  reg_stats_disable_check_0_l0_b0_next;
+      rg_stats_disable_check_0_l0_b1 <= #1  reg_stats_disable_check_0_l0_b1_next;
+      rg_stats_disable_check_0_l0_b2 <= #1  reg_stats_disable_check_0_l0_b2_next;
+      rg_stats_disable_check_0_l0_b3 <= #1  reg_stats_disable_check_0_l0_b3_next;
+    end
+  end
+  
+  //------- combinatorial assigns for stats_disable_check_0 (pio read data)
   always_comb begin
-    l2d_stats_log_address2_r = 32'b0;
-    l2d_stats_log_address2_r [9:0]  = rg_stats_log_address2_value;
+    l2d_stats_disable_check_0_r = 32'b0;
+    l2d_stats_disable_check_0_r [0]  = rg_stats_disable_check_0_timer_sram;
+    l2d_stats_disable_check_0_r [1]  = rg_stats_disable_check_0_cbuf_fifo;
+    l2d_stats_disable_check_0_r [2]  = rg_stats_disable_check_0_lut_st;
+    l2d_stats_disable_check_0_r [3]  = rg_stats_disable_check_0_l0_b0;
+    l2d_stats_disable_check_0_r [4]  = rg_stats_disable_check_0_l0_b1;
+    l2d_stats_disable_check_0_r [5]  = rg_stats_disable_check_0_l0_b2;
+    l2d_stats_disable_check_0_r [6]  = rg_stats_disable_check_0_l0_b3;
   end
   
-  //------- combinatorial assigns for rdr_sat32_counter_reg
+  //------- combinatorial assigns for stats_disable_check_1
   always_comb begin
-    reg_rdr_sat32_counter_reg_count_next = rg_rdr_sat32_counter_reg_count;
-    cntr_rdr_sat32_counter_reg_count_next = { 1'b0, rg_rdr_sat32_counter_reg_count};
-    l2h_rdr_sat32_counter_reg_count_r = rg_rdr_sat32_counter_reg_count;
-    if (d2l_rdr_sat32_counter_reg_we) cntr_rdr_sat32_counter_reg_count_next = d2l_rdr_sat32_counter_reg_w [3:0] ;
-    if (d2l_rdr_sat32_counter_reg_re) cntr_rdr_sat32_counter_reg_count_next = 4'b0;
-    if (h2l_rdr_sat32_counter_reg_count_incr)
-       cntr_rdr_sat32_counter_reg_count_next = cntr_rdr_sat32_counter_reg_count_next + 5'd1;
-    if (cntr_rdr_sat32_counter_reg_count_next > 5'b1111)
-       cntr_rdr_sat32_counter_reg_count_next = 5'b1111;
-    l2h_rdr_sat32_counter_reg_count_incrsat_o = ( {1'b0, rg_rdr_sat32_counter_reg_count} == 5'b1111);
-    l2h_rdr_sat32_counter_reg_count_incrthold_o = ( {1'b0, rg_rdr_sat32_counter_reg_count} == 5'h8);
-    reg_rdr_sat32_counter_reg_count_next = cntr_rdr_sat32_counter_reg_count_next [3:0] ;
-    if (h2l_rdr_sat32_counter_reg_count_we) reg_rdr_sat32_counter_reg_count_next = h2l_rdr_sat32_counter_reg_count_w;
+    reg_stats_disable_check_1_timer_sram_next = rg_stats_disable_check_1_timer_sram;
+    l2h_stats_disable_check_1_timer_sram_r = rg_stats_disable_check_1_timer_sram;
+    reg_stats_disable_check_1_cbuf_fifo_next = rg_stats_disable_check_1_cbuf_fifo;
+    l2h_stats_disable_check_1_cbuf_fifo_r = rg_stats_disable_check_1_cbuf_fifo;
+    reg_stats_disable_check_1_lut_st_next = rg_stats_disable_check_1_lut_st;
+    l2h_stats_disable_check_1_lut_st_r = rg_stats_disable_check_1_lut_st;
+    reg_stats_disable_check_1_l0_b0_next = rg_stats_disable_check_1_l0_b0;
+    l2h_stats_disable_check_1_l0_b0_r = rg_stats_disable_check_1_l0_b0;
+    reg_stats_disable_check_1_l0_b1_next = rg_stats_disable_check_1_l0_b1;
+    l2h_stats_disable_check_1_l0_b1_r = rg_stats_disable_check_1_l0_b1;
+    reg_stats_disable_check_1_l0_b2_next = rg_stats_disable_check_1_l0_b2;
+    l2h_stats_disable_check_1_l0_b2_r = rg_stats_disable_check_1_l0_b2;
+    reg_stats_disable_check_1_l0_b3_next = rg_stats_disable_check_1_l0_b3;
+    l2h_stats_disable_check_1_l0_b3_r = rg_stats_disable_check_1_l0_b3;
+    l2h_stats_disable_check_1_intr_o = 1'b0;
+    reg_stats_disable_check_1_l0_b0_next = (h2l_stats_disable_check_1_l0_b0_intr | rg_stats_disable_check_1_l0_b0);
+    l2h_stats_disable_check_1_intr_o = l2h_stats_disable_check_1_intr_o | (rg_stats_disable_check_1_l0_b0);
+    reg_stats_disable_check_1_l0_b1_next = (h2l_stats_disable_check_1_l0_b1_intr | rg_stats_disable_check_1_l0_b1);
+    l2h_stats_disable_check_1_intr_o = l2h_stats_disable_check_1_intr_o | (rg_stats_disable_check_1_l0_b1);
+    l2h_stats_disable_check_1_halt_o = 1'b0;
+    reg_stats_disable_check_1_l0_b2_next = (h2l_stats_disable_check_1_l0_b2_intr | rg_stats_disable_check_1_l0_b2);
+    l2h_stats_disable_check_1_intr_o = l2h_stats_disable_check_1_intr_o | (rg_stats_disable_check_1_l0_b2);
+    l2h_stats_disable_check_1_halt_o = l2h_stats_disable_check_1_halt_o | (rg_stats_disable_check_1_l0_b2);
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_timer_sram_next = d2l_stats_disable_check_1_w [0] ;
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_cbuf_fifo_next = d2l_stats_disable_check_1_w [1] ;
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_lut_st_next = d2l_stats_disable_check_1_w [2] ;
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b0_next = d2l_stats_disable_check_1_w [3] ;
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b1_next = d2l_stats_disable_check_1_w [4] ;
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b2_next = d2l_stats_disable_check_1_w [5] ;
+    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b3_next = d2l_stats_disable_check_1_w [6] ;
   end
   
-  //------- reg assigns for rdr_sat32_counter_reg
+  //------- reg assigns for stats_disable_check_1
   always_ff @ (posedge clk) begin
     if (reset) begin
-      rg_rdr_sat32_counter_reg_count <= #1 4'd0;
+      rg_stats_disable_check_1_timer_sram <= #1 1'd0;
+      rg_stats_disable_check_1_cbuf_fifo <= #1 1'd0;
+      rg_stats_disable_check_1_lut_st <= #1 1'd0;
+      rg_stats_disable_check_1_l0_b0 <= #1 1'd0;
+      rg_stats_disable_check_1_l0_b1 <= #1 1'd0;
+      rg_stats_disable_check_1_l0_b2 <= #1 1'd0;
+      rg_stats_disable_check_1_l0_b3 <= #1 1'd0;
     end
     else begin
-      rg_rdr_sat32_counter_reg_count <= #1  reg_rdr_sat32_counter_reg_count_next;
+      rg_stats_disable_check_1_timer_sram <= #1  reg_stats_disable_check_1_timer_sram_next;
+      rg_stats_disable_check_1_cbuf_fifo <= #1  reg_stats_disable_check_1_cbuf_fifo_next;
+      rg_stats_disable_check_1_lut_st <= #1  reg_stats_disable_check_1_lut_st_next;
+      rg_stats_disable_check_1_l0_b0 <= #1  reg_stats_disable_check_1_l0_b0_next;
+      rg_stats_disable_check_1_l0_b1 <= #1  reg_stats_disable_check_1_l0_b1_next;
+      rg_stats_disable_check_1_l0_b2 <= #1  reg_stats_disable_check_1_l0_b2_next;
+      rg_stats_disable_check_1_l0_b3 <= #1  reg_stats_disable_check_1_l0_b3_next;
     end
   end
   
+  //------- combinatorial assigns for stats_disable_check_1 (pio read data)
+  always_comb begin
+    l2d_stats_disable_check_1_r = 32'b0;
+    l2d_stats_disable_check_1_r [0]  = rg_stats_disable_check_1_timer_sram;
+    l2d_stats_disable_check_1_r [1]  = rg_stats_disable_check_1_cbuf_fifo;
+    l2d_stats_disable_check_1_r [2]  = rg_stats_disable_check_1_lut_st;
+    l2d_stats_disable_check_1_r [3]  = rg_stats_disable_check_1_l0_b0;
+    l2d_stats_disable_check_1_r [4]  = rg_stats_disable_check_1_l0_b1;
+    l2d_stats_disable_check_1_r [5]  = rg_stats_disable_check_1_l0_b2;
+    l2d_stats_disable_check_1_r [6]  = rg_stats_disable_check_1_l0_b3;
+  end
+  
+  //------- combinatorial assigns for stats_features (pio read data)
+  always_comb begin
+    l2d_stats_features_r = 32'b0;
+    l2d_stats_features_r [31:30]  = rg_stats_features_version;
+    l2d_stats_features_r [9]  = rg_stats_features_syn_logged;
+    l2d_stats_features_r [8:4]  = rg_stats_features_wdth;
+    l2d_stats_features_r [3]  = rg_stats_features_generator;
+    l2d_stats_features_r [2]  = rg_stats_features_checker;
+    l2d_stats_features_r [1]  = rg_stats_features_correctable;
+    l2d_stats_features_r [0]  = rg_stats_features_adr_logged;
+  end
+  
   //------- combinatorial assigns for stats_log_address1
   always_comb begin
     reg_stats_log_address1_value_next = rg_stats_log_address1_value;
@@ -420,22 +523,10 @@ module simple1_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for rdr_stream_reconf
+  //------- combinatorial assigns for stats_log_address1 (pio read data)
   always_comb begin
-    rg_rdr_stream_reconf_busy =  h2l_rdr_stream_reconf_busy_w;
-    reg_rdr_stream_reconf_stream_next = rg_rdr_stream_reconf_stream;
-    l2h_rdr_stream_reconf_stream_r = rg_rdr_stream_reconf_stream;
-    if (d2l_rdr_stream_reconf_we) reg_rdr_stream_reconf_stream_next = d2l_rdr_stream_reconf_w [9:0] ;
-  end
-  
-  //------- reg assigns for rdr_stream_reconf
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_rdr_stream_reconf_stream <= #1 10'd0;
-    end
-    else begin
-      rg_rdr_stream_reconf_stream <= #1  reg_rdr_stream_reconf_stream_next;
-    end
+    l2d_stats_log_address1_r = 32'b0;
+    l2d_stats_log_address1_r [9:0]  = rg_stats_log_address1_value;
   end
   
   //------- combinatorial assigns for stats_log_address2
@@ -455,10 +546,10 @@ module simple1_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for stats_log_address1 (pio read data)
+  //------- combinatorial assigns for stats_log_address2 (pio read data)
   always_comb begin
-    l2d_stats_log_address1_r = 32'b0;
-    l2d_stats_log_address1_r [9:0]  = rg_stats_log_address1_value;
+    l2d_stats_log_address2_r = 32'b0;
+    l2d_stats_log_address2_r [9:0]  = rg_stats_log_address2_value;
   end
   
   //------- combinatorial assigns for stats_wide_reg
@@ -479,19 +570,10 @@ module simple1_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for rdr_stream_reconf (pio read data)
-  always_comb begin
-    l2d_rdr_stream_reconf_r = 32'b0;
-    l2d_rdr_stream_reconf_r [16]  = rg_rdr_stream_reconf_busy;
-    l2d_rdr_stream_reconf_r [9:0]  = rg_rdr_stream_reconf_stream;
-  end
-  
-  //------- combinatorial assigns for rdr_rcnt_sat_log (pio read data)
+  //------- combinatorial assigns for stats_wide_reg (pio read data)
   always_comb begin
-    l2d_rdr_rcnt_sat_log_r [31]  = rg_rdr_rcnt_sat_log_en;
-    l2d_rdr_rcnt_sat_log_r [30:26]  = rg_rdr_rcnt_sat_log_subch;
-    l2d_rdr_rcnt_sat_log_r [25:16]  = rg_rdr_rcnt_sat_log_str;
-    l2d_rdr_rcnt_sat_log_r [15:0]  = rg_rdr_rcnt_sat_log_count;
+    l2d_stats_wide_reg_r = 128'b0;
+    l2d_stats_wide_reg_r [95:0]  = rg_stats_wide_reg_value;
   end
   
   //------- combinatorial assigns for rdr_reorder_window
@@ -521,29 +603,6 @@ module simple1_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for stats_disable_check_1 (pio read data)
-  always_comb begin
-    l2d_stats_disable_check_1_r = 32'b0;
-    l2d_stats_disable_check_1_r [0]  = rg_stats_disable_check_1_timer_sram;
-    l2d_stats_disable_check_1_r [1]  = rg_stats_disable_check_1_cbuf_fifo;
-    l2d_stats_disable_check_1_r [2]  = rg_stats_disable_check_1_lut_st;
-    l2d_stats_disable_check_1_r [3]  = rg_stats_disable_check_1_l0_b0;
-    l2d_stats_disable_check_1_r [4]  = rg_stats_disable_check_1_l0_b1;
-    l2d_stats_disable_check_1_r [5]  = rg_stats_disable_check_1_l0_b2;
-    l2d_stats_disable_check_1_r [6]  = rg_stats_disable_check_1_l0_b3;
-  end
-  
-  //------- combinatorial assigns for stats_wide_reg (pio read data)
-  always_comb begin
-    l2d_stats_wide_reg_r = 128'b0;
-    l2d_stats_wide_reg_r [95:0]  = rg_stats_wide_reg_value;
-  end
-  
-  //------- combinatorial assigns for extra_reg (pio read data)
-  always_comb begin
-    l2d_extra_reg_r = rg_extra_reg_value;
-  end
-  
   //------- combinatorial assigns for rdr_reorder_window (pio read data)
   always_comb begin
     l2d_rdr_reorder_window_r = 32'b0;
@@ -552,140 +611,29 @@ module simple1_jrdl_logic
     l2d_rdr_reorder_window_r [10:0]  = rg_rdr_reorder_window_size;
   end
   
-  //------- combinatorial assigns for extra_reg
-  always_comb begin
-    reg_extra_reg_value_next = rg_extra_reg_value;
-    l2h_extra_reg_value_r = rg_extra_reg_value;
-    if (d2l_extra_reg_we) reg_extra_reg_value_next = d2l_extra_reg_w;
-  end
-  
-  //------- reg assigns for extra_reg
-  always_ff @ (posedge clk) begin
-    rg_extra_reg_value <= #1  reg_extra_reg_value_next;
-  end
-  
-  //------- combinatorial assigns for stats_disable_check_0 (pio read data)
-  always_comb begin
-    l2d_stats_disable_check_0_r = 32'b0;
-    l2d_stats_disable_check_0_r [0]  = rg_stats_disable_check_0_timer_sram;
-    l2d_stats_disable_check_0_r [1]  = rg_stats_disable_check_0_cbuf_fifo;
-    l2d_stats_disable_check_0_r [2]  = rg_stats_disable_check_0_lut_st;
-    l2d_stats_disable_check_0_r [3]  = rg_stats_disable_check_0_l0_b0;
-    l2d_stats_disable_check_0_r [4]  = rg_stats_disable_check_0_l0_b1;
-    l2d_stats_disable_check_0_r [5]  = rg_stats_disable_check_0_l0_b2;
-    l2d_stats_disable_check_0_r [6]  = rg_stats_disable_check_0_l0_b3;
-  end
-  
-  //------- combinatorial assigns for stats_disable_check_0
+  //------- combinatorial assigns for rdr_stream_reconf
   always_comb begin
-    reg_stats_disable_check_0_timer_sram_next = rg_stats_disable_check_0_timer_sram;
-    l2h_stats_disable_check_0_timer_sram_r = rg_stats_disable_check_0_timer_sram;
-    reg_stats_disable_check_0_cbuf_fifo_next = rg_stats_disable_check_0_cbuf_fifo;
-    l2h_stats_disable_check_0_cbuf_fifo_r = rg_stats_disable_check_0_cbuf_fifo;
-    reg_stats_disable_check_0_lut_st_next = rg_stats_disable_check_0_lut_st;
-    l2h_stats_disable_check_0_lut_st_r = rg_stats_disable_check_0_lut_st;
-    reg_stats_disable_check_0_l0_b0_next = rg_stats_disable_check_0_l0_b0;
-    l2h_stats_disable_check_0_l0_b0_r = rg_stats_disable_check_0_l0_b0;
-    reg_stats_disable_check_0_l0_b1_next = rg_stats_disable_check_0_l0_b1;
-    l2h_stats_disable_check_0_l0_b1_r = rg_stats_disable_check_0_l0_b1;
-    reg_stats_disable_check_0_l0_b2_next = rg_stats_disable_check_0_l0_b2;
-    l2h_stats_disable_check_0_l0_b2_r = rg_stats_disable_check_0_l0_b2;
-    reg_stats_disable_check_0_l0_b3_next = rg_stats_disable_check_0_l0_b3;
-    l2h_stats_disable_check_0_l0_b3_r = rg_stats_disable_check_0_l0_b3;
-    l2h_stats_disable_check_0_intr_o = 1'b0;
-    reg_stats_disable_check_0_l0_b0_next = (h2l_stats_disable_check_0_l0_b0_intr | rg_stats_disable_check_0_l0_b0);
-    l2h_stats_disable_check_0_intr_o = l2h_stats_disable_check_0_intr_o | (rg_stats_disable_check_0_l0_b0);
-    reg_stats_disable_check_0_l0_b1_next = (h2l_stats_disable_check_0_l0_b1_intr | rg_stats_disable_check_0_l0_b1);
-    l2h_stats_disable_check_0_intr_o = l2h_stats_disable_check_0_intr_o | (rg_stats_disable_check_0_l0_b1);
-    l2h_stats_disable_check_0_halt_o = 1'b0;
-    reg_stats_disable_check_0_l0_b2_next = (h2l_stats_disable_check_0_l0_b2_intr | rg_stats_disable_check_0_l0_b2);
-    l2h_stats_disable_check_0_intr_o = l2h_stats_disable_check_0_intr_o | (rg_stats_disable_check_0_l0_b2);
-    l2h_stats_disable_check_0_halt_o = l2h_stats_disable_check_0_halt_o | (rg_stats_disable_check_0_l0_b2);
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_timer_sram_next = d2l_stats_disable_check_0_w [0] ;
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_cbuf_fifo_next = d2l_stats_disable_check_0_w [1] ;
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_lut_st_next = d2l_stats_disable_check_0_w [2] ;
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b0_next = d2l_stats_disable_check_0_w [3] ;
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b1_next = d2l_stats_disable_check_0_w [4] ;
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b2_next = d2l_stats_disable_check_0_w [5] ;
-    if (d2l_stats_disable_check_0_we) reg_stats_disable_check_0_l0_b3_next = d2l_stats_disable_check_0_w [6] ;
+    rg_rdr_stream_reconf_busy =  h2l_rdr_stream_reconf_busy_w;
+    reg_rdr_stream_reconf_stream_next = rg_rdr_stream_reconf_stream;
+    l2h_rdr_stream_reconf_stream_r = rg_rdr_stream_reconf_stream;
+    if (d2l_rdr_stream_reconf_we) reg_rdr_stream_reconf_stream_next = d2l_rdr_stream_reconf_w [9:0] ;
   end
   
-  //------- reg assigns for stats_disable_check_0
+  //------- reg assigns for rdr_stream_reconf
   always_ff @ (posedge clk) begin
     if (reset) begin
-      rg_stats_disable_check_0_timer_sram <= #1 1'd0;
-      rg_stats_disable_check_0_cbuf_fifo <= #1 1'd0;
-      rg_stats_disable_check_0_lut_st <= #1 1'd0;
-      rg_stats_disable_check_0_l0_b0 <= #1 1'd0;
-      rg_stats_disable_check_0_l0_b1 <= #1 1'd0;
-      rg_stats_disable_check_0_l0_b2 <= #1 1'd0;
-      rg_stats_disable_check_0_l0_b3 <= #1 1'd0;
+      rg_rdr_stream_reconf_stream <= #1 10'd0;
     end
     else begin
-      rg_stats_disable_check_0_timer_sram <= #1  reg_stats_disable_check_0_timer_sram_next;
-      rg_stats_disable_check_0_cbuf_fifo <= #1  reg_stats_disable_check_0_cbuf_fifo_next;
-      rg_stats_disable_check_0_lut_st <= #1  reg_stats_disable_check_0_lut_st_next;
-      rg_stats_disable_check_0_l0_b0 <= #1  reg_stats_disable_check_0_l0_b0_next;
-      rg_stats_disable_check_0_l0_b1 <= #1  reg_stats_disable_check_0_l0_b1_next;
-      rg_stats_disable_check_0_l0_b2 <= #1  reg_stats_disable_check_0_l0_b2_next;
-      rg_stats_disable_check_0_l0_b3 <= #1  reg_stats_disable_check_0_l0_b3_next;
+      rg_rdr_stream_reconf_stream <= #1  reg_rdr_stream_reconf_stream_next;
     end
   end
   
-  //------- combinatorial assigns for stats_disable_check_1
+  //------- combinatorial assigns for rdr_stream_reconf (pio read data)
   always_comb begin
-    reg_stats_disable_check_1_timer_sram_next = rg_stats_disable_check_1_timer_sram;
-    l2h_stats_disable_check_1_timer_sram_r = rg_stats_disable_check_1_timer_sram;
-    reg_stats_disable_check_1_cbuf_fifo_next = rg_stats_disable_check_1_cbuf_fifo;
-    l2h_stats_disable_check_1_cbuf_fifo_r = rg_stats_disable_check_1_cbuf_fifo;
-    reg_stats_disable_check_1_lut_st_next = rg_stats_disable_check_1_lut_st;
-    l2h_stats_disable_check_1_lut_st_r = rg_stats_disable_check_1_lut_st;
-    reg_stats_disable_check_1_l0_b0_next = rg_stats_disable_check_1_l0_b0;
-    l2h_stats_disable_check_1_l0_b0_r = rg_stats_disable_check_1_l0_b0;
-    reg_stats_disable_check_1_l0_b1_next = rg_stats_disable_check_1_l0_b1;
-    l2h_stats_disable_check_1_l0_b1_r = rg_stats_disable_check_1_l0_b1;
-    reg_stats_disable_check_1_l0_b2_next = rg_stats_disable_check_1_l0_b2;
-    l2h_stats_disable_check_1_l0_b2_r = rg_stats_disable_check_1_l0_b2;
-    reg_stats_disable_check_1_l0_b3_next = rg_stats_disable_check_1_l0_b3;
-    l2h_stats_disable_check_1_l0_b3_r = rg_stats_disable_check_1_l0_b3;
-    l2h_stats_disable_check_1_intr_o = 1'b0;
-    reg_stats_disable_check_1_l0_b0_next = (h2l_stats_disable_check_1_l0_b0_intr | rg_stats_disable_check_1_l0_b0);
-    l2h_stats_disable_check_1_intr_o = l2h_stats_disable_check_1_intr_o | (rg_stats_disable_check_1_l0_b0);
-    reg_stats_disable_check_1_l0_b1_next = (h2l_stats_disable_check_1_l0_b1_intr | rg_stats_disable_check_1_l0_b1);
-    l2h_stats_disable_check_1_intr_o = l2h_stats_disable_check_1_intr_o | (rg_stats_disable_check_1_l0_b1);
-    l2h_stats_disable_check_1_halt_o = 1'b0;
-    reg_stats_disable_check_1_l0_b2_next = (h2l_stats_disable_check_1_l0_b2_intr | rg_stats_disable_check_1_l0_b2);
-    l2h_stats_disable_check_1_intr_o = l2h_stats_disable_check_1_intr_o | (rg_stats_disable_check_1_l0_b2);
-    l2h_stats_disable_check_1_halt_o = l2h_stats_disable_check_1_halt_o | (rg_stats_disable_check_1_l0_b2);
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_timer_sram_next = d2l_stats_disable_check_1_w [0] ;
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_cbuf_fifo_next = d2l_stats_disable_check_1_w [1] ;
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_lut_st_next = d2l_stats_disable_check_1_w [2] ;
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b0_next = d2l_stats_disable_check_1_w [3] ;
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b1_next = d2l_stats_disable_check_1_w [4] ;
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b2_next = d2l_stats_disable_check_1_w [5] ;
-    if (d2l_stats_disable_check_1_we) reg_stats_disable_check_1_l0_b3_next = d2l_stats_disable_check_1_w [6] ;
-  end
-  
-  //------- reg assigns for stats_disable_check_1
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_stats_disable_check_1_timer_sram <= #1 1'd0;
-      rg_stats_disable_check_1_cbuf_fifo <= #1 1'd0;
-      rg_stats_disable_check_1_lut_st <= #1 1'd0;
-      rg_stats_disable_check_1_l0_b0 <= #1 1'd0;
-      rg_stats_disable_check_1_l0_b1 <= #1 1'd0;
-      rg_stats_disable_check_1_l0_b2 <= #1 1'd0;
-      rg_stats_disable_check_1_l0_b3 <= #1 1'd0;
-    end
-    else begin
-      rg_stats_disable_check_1_timer_sram <= #1  reg_stats_disable_check_1_timer_sram_next;
-      rg_stats_disable_check_1_cbuf_fifo <= #1  reg_stats_disable_check_1_cbuf_fifo_next;
-      rg_stats_disable_check_1_lut_st <= #1  reg_stats_disable_check_1_lut_st_next;
-      rg_stats_disable_check_1_l0_b0 <= #1  reg_stats_disable_check_1_l0_b0_next;
-      rg_stats_disable_check_1_l0_b1 <= #1  reg_stats_disable_check_1_l0_b1_next;
-      rg_stats_disable_check_1_l0_b2 <= #1  reg_stats_disable_check_1_l0_b2_next;
-      rg_stats_disable_check_1_l0_b3 <= #1  reg_stats_disable_check_1_l0_b3_next;
-    end
+    l2d_rdr_stream_reconf_r = 32'b0;
+    l2d_rdr_stream_reconf_r [16]  = rg_rdr_stream_reconf_busy;
+    l2d_rdr_stream_reconf_r [9:0]  = rg_rdr_stream_reconf_stream;
   end
   
   //------- combinatorial assigns for rdr_roll32_counter_reg
@@ -711,18 +659,45 @@ module simple1_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for rdr_sat32_counter_reg (pio read data)
-  always_comb begin
-    l2d_rdr_sat32_counter_reg_r = 32'b0;
-    l2d_rdr_sat32_counter_reg_r [3:0]  = rg_rdr_sat32_counter_reg_count;
-  end
-  
   //------- combinatorial assigns for rdr_roll32_counter_reg (pio read data)
   always_comb begin
     l2d_rdr_roll32_counter_reg_r = 32'b0;
     l2d_rdr_roll32_counter_reg_r [3:0]  = rg_rdr_roll32_counter_reg_count;
   end
   
+  //------- combinatorial assigns for rdr_sat32_counter_reg
+  always_comb begin
+    reg_rdr_sat32_counter_reg_count_next = rg_rdr_sat32_counter_reg_count;
+    cntr_rdr_sat32_counter_reg_count_next = { 1'b0, rg_rdr_sat32_counter_reg_count};
+    l2h_rdr_sat32_counter_reg_count_r = rg_rdr_sat32_counter_reg_count;
+    if (d2l_rdr_sat32_counter_reg_we) cntr_rdr_sat32_counter_reg_count_next = d2l_rdr_sat32_counter_reg_w [3:0] ;
+    if (d2l_rdr_sat32_counter_reg_re) cntr_rdr_sat32_counter_reg_count_next = 4'b0;
+    if (h2l_rdr_sat32_counter_reg_count_incr)
+       cntr_rdr_sat32_counter_reg_count_next = cntr_rdr_sat32_counter_reg_count_next + 5'd1;
+    if (cntr_rdr_sat32_counter_reg_count_next > 5'b1111)
+       cntr_rdr_sat32_counter_reg_count_next = 5'b1111;
+    l2h_rdr_sat32_counter_reg_count_incrsat_o = ( {1'b0, rg_rdr_sat32_counter_reg_count} == 5'b1111);
+    l2h_rdr_sat32_counter_reg_count_incrthold_o = ( {1'b0, rg_rdr_sat32_counter_reg_count} == 5'h8);
+    reg_rdr_sat32_counter_reg_count_next = cntr_rdr_sat32_counter_reg_count_next [3:0] ;
+    if (h2l_rdr_sat32_counter_reg_count_we) reg_rdr_sat32_counter_reg_count_next = h2l_rdr_sat32_counter_reg_count_w;
+  end
+  
+  //------- reg assigns for rdr_sat32_counter_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rdr_sat32_counter_reg_count <= #1 4'd0;
+    end
+    else begin
+      rg_rdr_sat32_counter_reg_count <= #1  reg_rdr_sat32_counter_reg_count_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rdr_sat32_counter_reg (pio read data)
+  always_comb begin
+    l2d_rdr_sat32_counter_reg_r = 32'b0;
+    l2d_rdr_sat32_counter_reg_r [3:0]  = rg_rdr_sat32_counter_reg_count;
+  end
+  
   //------- combinatorial assigns for rdr_rcnt_sat_log
   always_comb begin
     reg_rdr_rcnt_sat_log_en_next = rg_rdr_rcnt_sat_log_en;
@@ -767,6 +742,31 @@ module simple1_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for rdr_rcnt_sat_log (pio read data)
+  always_comb begin
+    l2d_rdr_rcnt_sat_log_r [31]  = rg_rdr_rcnt_sat_log_en;
+    l2d_rdr_rcnt_sat_log_r [30:26]  = rg_rdr_rcnt_sat_log_subch;
+    l2d_rdr_rcnt_sat_log_r [25:16]  = rg_rdr_rcnt_sat_log_str;
+    l2d_rdr_rcnt_sat_log_r [15:0]  = rg_rdr_rcnt_sat_log_count;
+  end
+  
+  //------- combinatorial assigns for extra_reg
+  always_comb begin
+    reg_extra_reg_value_next = rg_extra_reg_value;
+    l2h_extra_reg_value_r = rg_extra_reg_value;
+    if (d2l_extra_reg_we) reg_extra_reg_value_next = d2l_extra_reg_w;
+  end
+  
+  //------- reg assigns for extra_reg
+  always_ff @ (posedge clk) begin
+    rg_extra_reg_value <= #1  reg_extra_reg_value_next;
+  end
+  
+  //------- combinatorial assigns for extra_reg (pio read data)
+  always_comb begin
+    l2d_extra_reg_r = rg_extra_reg_value;
+  end
+  
 endmodule
 
 //
@@ -1040,18 +1040,39 @@ module simple1_jrdl_decode
   assign  dec_leaf_data_width [1:0]  = dec_pio_trans_size;
   assign  dec_leaf_retry_atomic_next = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle == 2'b00) & (leaf_dec_wr_width [1:0]  < reg_width);
   
-  //------- combinatorial assigns for pio read data
+  //------- reg assigns for external i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      d2h_rdr_cp_fp_wr_we_ex <= #1  1'b0;
+      d2h_rdr_cp_fp_wr_re_ex <= #1  1'b0;
+    end
+    else begin
+      d2h_rdr_cp_fp_wr_w_ex <= #1  d2h_rdr_cp_fp_wr_w_next;
+      d2h_rdr_cp_fp_wr_we_ex <= #1  d2h_rdr_cp_fp_wr_we_next & ~h2d_rdr_cp_fp_wr_ack_ex & ~h2d_rdr_cp_fp_wr_nack_ex;
+      d2h_rdr_cp_fp_wr_re_ex <= #1  d2h_rdr_cp_fp_wr_re_next & ~h2d_rdr_cp_fp_wr_ack_ex & ~h2d_rdr_cp_fp_wr_nack_ex;
+      d2h_rdr_cp_fp_wr_addr_ex <= #1  d2h_rdr_cp_fp_wr_addr_next;
+    end
+  end
+  
+  //------- combinatorial assigns for leaf i/f
   always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
   end
   
-  //------- reg assigns for pio read data
+  //------- reg assigns for leaf i/f
   always_ff @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  128'b0;
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+      dec_leaf_retry_atomic <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+      dec_leaf_retry_atomic <= #1 dec_leaf_retry_atomic_next;
     end
   end
   
@@ -1072,39 +1093,18 @@ module simple1_jrdl_decode
     end
   end
   
-  //------- reg assigns for external i/f
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      d2h_rdr_cp_fp_wr_we_ex <= #1  1'b0;
-      d2h_rdr_cp_fp_wr_re_ex <= #1  1'b0;
-    end
-    else begin
-      d2h_rdr_cp_fp_wr_w_ex <= #1  d2h_rdr_cp_fp_wr_w_next;
-      d2h_rdr_cp_fp_wr_we_ex <= #1  d2h_rdr_cp_fp_wr_we_next & ~h2d_rdr_cp_fp_wr_ack_ex & ~h2d_rdr_cp_fp_wr_nack_ex;
-      d2h_rdr_cp_fp_wr_re_ex <= #1  d2h_rdr_cp_fp_wr_re_next & ~h2d_rdr_cp_fp_wr_ack_ex & ~h2d_rdr_cp_fp_wr_nack_ex;
-      d2h_rdr_cp_fp_wr_addr_ex <= #1  d2h_rdr_cp_fp_wr_addr_next;
-    end
-  end
-  
-  //------- combinatorial assigns for leaf i/f
+  //------- combinatorial assigns for pio read data
   always_comb begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for leaf i/f
+  //------- reg assigns for pio read data
   always_ff @ (posedge clk) begin
     if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
-      dec_leaf_retry_atomic <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  128'b0;
     end
     else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
-      dec_leaf_retry_atomic <= #1 dec_leaf_retry_atomic_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
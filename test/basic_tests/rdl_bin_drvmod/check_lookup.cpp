@@ -0,0 +1,33 @@
+// check address to path lookups of the binary driver model table c++ loader
+#include <iostream>
+#include <map>
+#include "ordt_drv_table.hpp"
+
+int main(int argc, char **argv) {
+  ordt_drv_table table;
+  if (table.open(argv[1]) != 0) {
+    std::cout << "ERROR: unable to open table " << argv[1] << "\n";
+    return 0;
+  }
+  std::map<uint64_t, std::string> expected = {
+    {0x0, "drv_map.first_reg"},
+    {0x100, "drv_map.pairs.a_regs[0]"},
+    {0x104, "drv_map.pairs.b_regs[0]"},
+    {0x110, "drv_map.pairs.a_regs[1]"},
+    {0x134, "drv_map.pairs.b_regs[3]"},
+    {0x210, "drv_map.rep_pairs[0].a_regs[1]"},
+    {0x2a4, "drv_map.rep_pairs[1].b_regs[2]"},
+    {0x400, "drv_map.last_reg"},
+    {0x108, ""},
+    {0x13c, ""}
+  };
+  for (auto const &exp: expected) {
+    std::string path;
+    std::vector<int> indices;
+    const ordt_drv_table_elem *elem;
+    int rc = table.get_path_by_address("drv_map", exp.first, path, indices, elem);
+    if ((rc == 0)? (path != exp.second) : (!exp.second.empty() || !path.empty() || !indices.empty()))
+      std::cout << "ERROR: address " << std::hex << exp.first << " lookup returned " << rc << " " << path << ", expected " << exp.second << "\n";
+  }
+  return 0;
+}
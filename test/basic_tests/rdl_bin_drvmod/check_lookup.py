@@ -0,0 +1,22 @@
+# check address to path lookups of the binary driver model table python loader
+import importlib.machinery, sys
+loader = importlib.machinery.SourceFileLoader('ordt_drv_table', sys.argv[1]).load_module()
+table = loader.ordt_drv_table(sys.argv[2])
+expected = {
+    0x0: 'drv_map.first_reg',
+    0x100: 'drv_map.pairs.a_regs[0]',
+    0x104: 'drv_map.pairs.b_regs[0]',
+    0x110: 'drv_map.pairs.a_regs[1]',
+    0x134: 'drv_map.pairs.b_regs[3]',
+    0x210: 'drv_map.rep_pairs[0].a_regs[1]',
+    0x2a4: 'drv_map.rep_pairs[1].b_regs[2]',
+    0x400: 'drv_map.last_reg',
+    0x108: None,
+    0x13c: None,
+}
+for address, path in expected.items():
+    result = table.get_path('drv_map', address)
+    found = result.get('path') if result['status'] == 'reg' else None
+    if found != path:
+        print('ERROR: address ' + hex(address) + ' lookup returned ' + str(found) + ', expected ' + str(path))
+table.close()
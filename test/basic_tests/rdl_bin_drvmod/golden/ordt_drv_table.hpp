@@ -0,0 +1,286 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: test.rdl
+//   Parms: test.parms
+//   Date: Mon Oct 19 05:10:55 UTC 2026
+//
+
+#ifndef __ORDT_DRV_TABLE_HPP_INCLUDED__
+#define __ORDT_DRV_TABLE_HPP_INCLUDED__
+
+#include <cstdint>
+#include <cstdlib>
+#include <cstring>
+#include <string>
+#include <vector>
+#include <fcntl.h>
+#include <unistd.h>
+#include <sys/mman.h>
+#include <sys/stat.h>
+
+#define ORDT_DRV_TABLE_FORMAT_VERSION 2
+
+// table records (little endian, queried in place from the mapped file)
+struct ordt_drv_table_header {
+  char m_magic[8];
+  uint32_t m_format_version;
+  uint32_t m_version_count;
+  uint32_t m_elem_count;
+  uint32_t m_child_count;
+  uint32_t m_field_count;
+  uint32_t m_strings_size;
+  uint64_t m_roots_offset;
+  uint64_t m_elems_offset;
+  uint64_t m_children_offset;
+  uint64_t m_fields_offset;
+  uint64_t m_strings_offset;
+};
+
+struct ordt_drv_table_root {
+  uint32_t m_elem;
+  uint32_t m_tag;
+  uint64_t m_offset;
+};
+
+struct ordt_drv_table_elem {
+  uint32_t m_name;
+  uint32_t m_kind;  // 0=regset, 1=reg
+  uint32_t m_width;  // reg width in bits
+  uint32_t m_first;  // first child (regset) or field (reg) index
+  uint32_t m_count;
+  uint32_t m_reserved;
+  bool is_reg() const { return m_kind == 1; }
+};
+
+struct ordt_drv_table_child {
+  uint32_t m_map;  // encoded overlay map
+  uint32_t m_elem;
+  uint32_t m_reps;
+  uint32_t m_reserved;
+  uint64_t m_offset;
+  uint64_t m_stride;
+  uint64_t m_max_end;  // max end address of this and prior children (interleaved arrays overlap)
+};
+
+struct ordt_drv_table_field {
+  uint32_t m_name;
+  uint32_t m_loidx;
+  uint32_t m_width;
+  uint32_t m_flags;  // 1=readable, 2=writeable
+  bool is_readable() const { return (m_flags & 1) != 0; }
+  bool is_writeable() const { return (m_flags & 2) != 0; }
+};
+
+class ordt_drv_table {
+  public:
+  ordt_drv_table() : m_base(nullptr), m_size(0), m_hdr(nullptr), m_roots(nullptr), m_elems(nullptr), m_children(nullptr), m_fields(nullptr), m_strings(nullptr) {}
+  ~ordt_drv_table() { close(); }
+  ordt_drv_table(const ordt_drv_table&) = delete;
+  ordt_drv_table& operator=(const ordt_drv_table&) = delete;
+
+  // map a table file, returns 0 on success, 1 if file can't be mapped, 16 if an invalid table
+  int open(const std::string &filename) {
+    close();
+    int fd = ::open(filename.c_str(), O_RDONLY);
+    if (fd < 0) return 1;
+    struct stat st;
+    if (fstat(fd, &st) != 0) {
+      ::close(fd);
+      return 1;
+    }
+    if (st.st_size < (off_t) sizeof(ordt_drv_table_header)) {
+      ::close(fd);
+      return 16;
+    }
+    void *base = mmap(nullptr, st.st_size, PROT_READ, MAP_SHARED, fd, 0);
+    ::close(fd);
+    if (base == MAP_FAILED) return 1;
+    m_base = static_cast<const char*>(base);
+    m_size = st.st_size;
+    if (!validate()) {
+      close();
+      return 16;
+    }
+    return 0;
+  }
+
+  void close() {
+    if (m_base != nullptr) munmap(const_cast<char*>(m_base), m_size);
+    m_base = nullptr;
+    m_size = 0;
+    m_hdr = nullptr;
+  }
+
+  bool is_open() const { return m_hdr != nullptr; }
+
+  int get_version(const std::string &tag) const {
+    if (!is_open()) return -1;
+    for (uint32_t version=0; version<m_hdr->m_version_count; version++)
+      if (tag == get_name(m_roots[version].m_tag)) return version;
+    return -1;
+  }
+
+  std::vector<std::string> get_tags() const {
+    std::vector<std::string> tags;
+    if (is_open())
+      for (uint32_t version=0; version<m_hdr->m_version_count; version++) tags.push_back(get_name(m_roots[version].m_tag));
+    return tags;
+  }
+
+  const char *get_name(const uint32_t str) const {
+    return (str < m_hdr->m_strings_size)? m_strings + str : "";
+  }
+
+  // return pointer to field records of a reg element
+  const ordt_drv_table_field *get_fields(const ordt_drv_table_elem *elem, int &num_fields) const {
+    if ((elem == nullptr) || !elem->is_reg()) {
+      num_fields = 0;
+      return nullptr;
+    }
+    num_fields = elem->m_count;
+    return m_fields + elem->m_first;
+  }
+
+  // get address and element of a path, returns 0 on success, 2 if bad tag, 4 if bad path, 8 if no matching child
+  int get_address(const std::string &tag, const std::string &pathstr, uint64_t &address, const ordt_drv_table_elem *&elem) const {
+    elem = nullptr;
+    int version = get_version(tag);
+    if (version < 0) return 2;
+    address = m_roots[version].m_offset;
+    uint32_t cur = m_roots[version].m_elem;
+    const char *pos = std::strchr(pathstr.c_str(), '.');  // root instance name is not checked
+    while (pos != nullptr) {
+      const char *name = pos + 1;
+      const char *end = name;
+      while ((*end != '\0') && (*end != '.') && (*end != '[')) end++;
+      size_t len = end - name;
+      bool has_idx = (*end == '[');
+      long idx = 0;
+      if (has_idx) {
+        char *idx_end;
+        idx = std::strtol(end + 1, &idx_end, 10);
+        if ((idx_end == end + 1) || (*idx_end != ']')) return 4;
+        end = idx_end + 1;
+      }
+      if ((*end != '\0') && (*end != '.')) return 4;
+      pos = (*end == '.')? end : nullptr;
+      const ordt_drv_table_elem &parent = m_elems[cur];
+      if (parent.is_reg()) return 8;
+      const ordt_drv_table_child *match = nullptr;
+      for (uint32_t cidx = parent.m_first; cidx < parent.m_first + parent.m_count; cidx++) {
+        const ordt_drv_table_child &child = m_children[cidx];
+        const char *child_name = get_name(m_elems[child.m_elem].m_name);
+        if (((1u<<version) & child.m_map) && (std::strncmp(child_name, name, len) == 0) && (child_name[len] == '\0')) {
+          match = &child;
+          break;
+        }
+      }
+      if (match == nullptr) return 8;
+      address += match->m_offset;
+      if (match->m_reps > 1) {
+        if (!has_idx) return 4;
+        if ((idx < 0) || (idx >= (long) match->m_reps)) return 8;
+        address += match->m_stride * idx;
+      }
+      cur = match->m_elem;
+    }
+    elem = &m_elems[cur];
+    return 0;
+  }
+
+  // get reg path, replication indices and element of an address, returns 0 on success, 2 if bad tag, 8 if no matching reg
+  int get_path_by_address(const std::string &tag, const uint64_t address, std::string &path, std::vector<int> &indices, const ordt_drv_table_elem *&elem) const {
+    elem = nullptr;
+    path.clear();
+    indices.clear();
+    int version = get_version(tag);
+    if (version < 0) return 2;
+    if (address < m_roots[version].m_offset) return 8;
+    uint32_t cur = m_roots[version].m_elem;
+    path = get_name(m_elems[cur].m_name);
+    if (!find_path(version, cur, address - m_roots[version].m_offset, path, indices, elem)) {
+      path.clear();
+      indices.clear();
+      return 8;
+    }
+    return 0;
+  }
+
+  private:
+  const char *m_base;
+  size_t m_size;
+  const ordt_drv_table_header *m_hdr;
+  const ordt_drv_table_root *m_roots;
+  const ordt_drv_table_elem *m_elems;
+  const ordt_drv_table_child *m_children;
+  const ordt_drv_table_field *m_fields;
+  const char *m_strings;
+
+  bool find_path(const int version, const uint32_t cur, const uint64_t rel_address, std::string &path, std::vector<int> &indices, const ordt_drv_table_elem *&elem) const {
+    const ordt_drv_table_elem &parent = m_elems[cur];
+    if (parent.is_reg()) {
+      if (rel_address >= (parent.m_width + 7) / 8) return false;  // address must fall within reg bytes
+      elem = &parent;
+      return true;
+    }
+    // find first child with offset > address
+    uint32_t lo = parent.m_first, hi = parent.m_first + parent.m_count;
+    while (lo < hi) {
+      uint32_t mid = lo + (hi - lo) / 2;
+      if (m_children[mid].m_offset <= rel_address) lo = mid + 1;
+      else hi = mid;
+    }
+    size_t path_size = path.size(), indices_size = indices.size();
+    for (; (lo > parent.m_first) && (m_children[lo - 1].m_max_end > rel_address); lo--) {
+      const ordt_drv_table_child &child = m_children[lo - 1];
+      if (!((1u<<version) & child.m_map)) continue;
+      uint64_t child_address = rel_address - child.m_offset;
+      uint64_t idx = (child.m_stride > 0)? child_address / child.m_stride : 0;
+      if (idx >= child.m_reps) continue;
+      path += '.';
+      path += get_name(m_elems[child.m_elem].m_name);
+      if (child.m_reps > 1) {
+        path += "[" + std::to_string(idx) + "]";
+        indices.push_back((int) idx);
+      }
+      if (find_path(version, child.m_elem, child_address - (idx * child.m_stride), path, indices, elem)) return true;
+      path.resize(path_size);  // no reg in this child so restore path and indices
+      indices.resize(indices_size);
+    }
+    return false;
+  }
+
+  bool section_valid(const uint64_t offset, const uint64_t count, const uint64_t size) const {
+    return ((offset % 8) == 0) && (offset <= m_size) && (count <= (m_size - offset) / size);
+  }
+
+  // check header and element references once so queries can skip bounds checks
+  bool validate() {
+    const ordt_drv_table_header *hdr = reinterpret_cast<const ordt_drv_table_header*>(m_base);
+    if ((std::memcmp(hdr->m_magic, "ORDTDRV", 8) != 0) || (hdr->m_format_version != ORDT_DRV_TABLE_FORMAT_VERSION)) return false;
+    if ((hdr->m_version_count < 1) || (hdr->m_version_count > 32)) return false;
+    if (!section_valid(hdr->m_roots_offset, hdr->m_version_count, sizeof(ordt_drv_table_root)) ||
+      !section_valid(hdr->m_elems_offset, hdr->m_elem_count, sizeof(ordt_drv_table_elem)) ||
+      !section_valid(hdr->m_children_offset, hdr->m_child_count, sizeof(ordt_drv_table_child)) ||
+      !section_valid(hdr->m_fields_offset, hdr->m_field_count, sizeof(ordt_drv_table_field)) ||
+      (hdr->m_strings_size < 1) || (hdr->m_strings_offset > m_size) || (hdr->m_strings_size > m_size - hdr->m_strings_offset)) return false;
+    m_roots = reinterpret_cast<const ordt_drv_table_root*>(m_base + hdr->m_roots_offset);
+    m_elems = reinterpret_cast<const ordt_drv_table_elem*>(m_base + hdr->m_elems_offset);
+    m_children = reinterpret_cast<const ordt_drv_table_child*>(m_base + hdr->m_children_offset);
+    m_fields = reinterpret_cast<const ordt_drv_table_field*>(m_base + hdr->m_fields_offset);
+    m_strings = m_base + hdr->m_strings_offset;
+    if (m_strings[hdr->m_strings_size - 1] != '\0') return false;
+    for (uint32_t version=0; version<hdr->m_version_count; version++)
+      if (m_roots[version].m_elem >= hdr->m_elem_count) return false;
+    for (uint32_t idx=0; idx<hdr->m_elem_count; idx++) {
+      const ordt_drv_table_elem &elem = m_elems[idx];
+      uint64_t limit = elem.is_reg()? hdr->m_field_count : hdr->m_child_count;
+      if ((elem.m_kind > 1) || ((uint64_t) elem.m_first + elem.m_count > limit)) return false;
+    }
+    for (uint32_t idx=0; idx<hdr->m_child_count; idx++)
+      if (m_children[idx].m_elem >= hdr->m_elem_count) return false;
+    m_hdr = hdr;
+    return true;
+  }
+};
+
+#endif // __ORDT_DRV_TABLE_HPP_INCLUDED__
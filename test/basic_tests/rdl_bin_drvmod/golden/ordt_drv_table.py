@@ -0,0 +1,143 @@
+#   Ordt 181018.01 autogenerated file 
+#   Input: test.rdl
+#   Parms: test.parms
+#   Date: Mon Oct 19 05:10:56 UTC 2026
+#
+
+import collections
+import mmap
+import struct
+
+ORDT_DRV_TABLE_FORMAT_VERSION = 2
+
+ordt_drv_table_field = collections.namedtuple('ordt_drv_table_field', ['name', 'loidx', 'width', 'readable', 'writeable'])
+
+class ordt_drv_table:
+  HEADER = struct.Struct('<8s6I5Q')
+  ROOT = struct.Struct('<IIQ')
+  ELEM = struct.Struct('<6I')
+  CHILD = struct.Struct('<4I3Q')
+  FIELD = struct.Struct('<4I')
+
+  def __init__(self, filename):
+    with open(filename, 'rb') as f:
+      self.mm = mmap.mmap(f.fileno(), 0, access=mmap.ACCESS_READ)
+    if len(self.mm) < __class__.HEADER.size:
+      raise ValueError('invalid driver model table: ' + filename)
+    (magic, format_version, self.version_count, self.elem_count, self.child_count, self.field_count, self.strings_size,
+      self.roots_offset, self.elems_offset, self.children_offset, self.fields_offset, self.strings_offset) = __class__.HEADER.unpack_from(self.mm, 0)
+    if (magic != b'ORDTDRV\0') or (format_version != ORDT_DRV_TABLE_FORMAT_VERSION):
+      raise ValueError('invalid driver model table: ' + filename)
+    if self.strings_offset + self.strings_size > len(self.mm):
+      raise ValueError('invalid driver model table: ' + filename)
+    self.tags = [self.get_name(self.get_root(version)[1]) for version in range(self.version_count)]
+
+  def close(self):
+    self.mm.close()
+
+  def get_name(self, str_offset):
+    start = self.strings_offset + str_offset
+    return self.mm[start:self.mm.find(b'\0', start)].decode('utf-8')
+
+  def get_root(self, version):
+    return __class__.ROOT.unpack_from(self.mm, self.roots_offset + version*__class__.ROOT.size)  # (elem, tag, offset)
+
+  def get_elem(self, idx):
+    return __class__.ELEM.unpack_from(self.mm, self.elems_offset + idx*__class__.ELEM.size)  # (name, kind, width, first, count, reserved)
+
+  def get_child(self, idx):
+    return __class__.CHILD.unpack_from(self.mm, self.children_offset + idx*__class__.CHILD.size)  # (map, elem, reps, reserved, offset, stride, max_end)
+
+  def get_fields(self, elem):
+    fields = []
+    if elem[1] == 1:
+      for idx in range(elem[3], elem[3] + elem[4]):
+        (name, loidx, width, flags) = __class__.FIELD.unpack_from(self.mm, self.fields_offset + idx*__class__.FIELD.size)
+        fields.append(ordt_drv_table_field(self.get_name(name), loidx, width, bool(flags & 1), bool(flags & 2)))
+    return fields
+
+  def get_tags(self):
+    return list(self.tags)
+
+  def get_version(self, tag):
+    return self.tags.index(tag) if tag in self.tags else -1
+
+  def get_address(self, tag, pathstr):
+    version = self.get_version(tag)
+    if version < 0:
+      return {'status':'bad tag'}
+    (cur, tag_offset, address) = self.get_root(version)
+    for str_elem in pathstr.split('.')[1:]:  # root instance name is not checked
+      sub_lst = str_elem.split('[')
+      name = sub_lst[0]
+      try:
+        idx = int(sub_lst[1].rstrip(']')) if len(sub_lst) == 2 else None
+      except ValueError:
+        return {'status':'bad path'}
+      parent = self.get_elem(cur)
+      match = None
+      if parent[1] != 1:
+        for cidx in range(parent[3], parent[3] + parent[4]):
+          child = self.get_child(cidx)
+          if ((1<<version) & child[0]) and (self.get_name(self.get_elem(child[1])[0]) == name):
+            match = child
+            break
+      if not match:
+        return {'status':'bad path'}
+      address += match[4]
+      if match[2] > 1:
+        if (idx is None) or (idx < 0) or (idx >= match[2]):
+          return {'status':'bad path'}
+        address += match[5]*idx
+      cur = match[1]
+    elem = self.get_elem(cur)
+    if elem[1] == 1:
+      return {'status':'reg', 'address':address, 'fields':self.get_fields(elem)}
+    children = [self.get_name(self.get_elem(child[1])[0]) for child in map(self.get_child, range(elem[3], elem[3] + elem[4])) if (1<<version) & child[0]]
+    return {'status':'reg set', 'address':address, 'children':children}
+
+  def get_path(self, tag, address):
+    version = self.get_version(tag)
+    if version < 0:
+      return {'status':'bad tag'}
+    (cur, tag_offset, root_offset) = self.get_root(version)
+    if address < root_offset:
+      return {'status':'bad address'}
+    result = self.find_path(version, cur, address - root_offset, self.get_name(self.get_elem(cur)[0]), [])
+    if not result:
+      return {'status':'bad address'}
+    (path, indices, elem) = result
+    return {'status':'reg', 'path':path, 'indices':indices, 'fields':self.get_fields(elem)}
+
+  def find_path(self, version, cur, rel_address, path, indices):
+    elem = self.get_elem(cur)
+    if elem[1] == 1:
+      return (path, indices, elem) if rel_address < (elem[2] + 7) // 8 else None  # address must fall within reg bytes
+    # find first child with offset > address, then check earlier children while their extents cover the address
+    (lo, hi) = (elem[3], elem[3] + elem[4])
+    while lo < hi:
+      mid = (lo + hi) // 2
+      if self.get_child(mid)[4] <= rel_address:
+        lo = mid + 1
+      else:
+        hi = mid
+    while lo > elem[3]:
+      lo -= 1
+      child = self.get_child(lo)
+      if child[6] <= rel_address:
+        break
+      if not ((1<<version) & child[0]):
+        continue
+      child_address = rel_address - child[4]
+      idx = child_address // child[5] if child[5] else 0
+      if idx >= child[2]:
+        continue
+      child_path = path + '.' + self.get_name(self.get_elem(child[1])[0])
+      child_indices = indices
+      if child[2] > 1:
+        child_path += '[' + str(idx) + ']'
+        child_indices = indices + [idx]
+      result = self.find_path(version, child[1], child_address - idx*child[5], child_path, child_indices)
+      if result:
+        return result
+    return None
@@ -0,0 +1,86 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_bin_drvmod/test.rdl
+ *   Parms: ./rdl_bin_drvmod/test.parms
+ *   Date: Mon Oct 19 04:16:29 UTC 2026
+ */
+
+register_set bin_map "Registers for bin_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register_set base_regs "base_regs register_set" {
+    address = 0x0;
+    
+    register config_regs "config_regs register" {
+      address = 0x0;
+      repeat = 4;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register state_regs "state_regs register" {
+      address = 0x100;
+      access_mode = READ_ONLY;
+      repeat = 4;
+      nop[16];
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_ONLY;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x110;
+  };
+  
+  register_set rep_regs "rep_regs register_set" {
+    address = 0x1000;
+    repeat = 2;
+    
+    register config_regs "config_regs register" {
+      address = 0x0;
+      repeat = 4;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register state_regs "state_regs register" {
+      address = 0x100;
+      access_mode = READ_ONLY;
+      repeat = 4;
+      nop[16];
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_ONLY;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x200;
+  };
+  
+  register last_reg "last_reg register" {
+    address = 0x2000;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set_size = 0x2004;
+};
+
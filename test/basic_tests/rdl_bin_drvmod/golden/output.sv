@@ -0,0 +1,1883 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_bin_drvmod/test.rdl
+//   Parms: ./rdl_bin_drvmod/test.parms
+//   Date: Mon Oct 19 04:16:29 UTC 2026
+//
+
+//
+//---------- module bin_map_jrdl_logic
+//
+module bin_map_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_base_regs_config_regs_0_w,
+  d2l_base_regs_config_regs_0_we,
+  d2l_base_regs_config_regs_0_re,
+  d2l_base_regs_config_regs_1_w,
+  d2l_base_regs_config_regs_1_we,
+  d2l_base_regs_config_regs_1_re,
+  d2l_base_regs_config_regs_2_w,
+  d2l_base_regs_config_regs_2_we,
+  d2l_base_regs_config_regs_2_re,
+  d2l_base_regs_config_regs_3_w,
+  d2l_base_regs_config_regs_3_we,
+  d2l_base_regs_config_regs_3_re,
+  d2l_base_regs_state_regs_0_w,
+  d2l_base_regs_state_regs_0_we,
+  d2l_base_regs_state_regs_0_re,
+  d2l_base_regs_state_regs_1_w,
+  d2l_base_regs_state_regs_1_we,
+  d2l_base_regs_state_regs_1_re,
+  d2l_base_regs_state_regs_2_w,
+  d2l_base_regs_state_regs_2_we,
+  d2l_base_regs_state_regs_2_re,
+  d2l_base_regs_state_regs_3_w,
+  d2l_base_regs_state_regs_3_we,
+  d2l_base_regs_state_regs_3_re,
+  d2l_rep_regs_0_config_regs_0_w,
+  d2l_rep_regs_0_config_regs_0_we,
+  d2l_rep_regs_0_config_regs_0_re,
+  d2l_rep_regs_0_config_regs_1_w,
+  d2l_rep_regs_0_config_regs_1_we,
+  d2l_rep_regs_0_config_regs_1_re,
+  d2l_rep_regs_0_config_regs_2_w,
+  d2l_rep_regs_0_config_regs_2_we,
+  d2l_rep_regs_0_config_regs_2_re,
+  d2l_rep_regs_0_config_regs_3_w,
+  d2l_rep_regs_0_config_regs_3_we,
+  d2l_rep_regs_0_config_regs_3_re,
+  d2l_rep_regs_0_state_regs_0_w,
+  d2l_rep_regs_0_state_regs_0_we,
+  d2l_rep_regs_0_state_regs_0_re,
+  d2l_rep_regs_0_state_regs_1_w,
+  d2l_rep_regs_0_state_regs_1_we,
+  d2l_rep_regs_0_state_regs_1_re,
+  d2l_rep_regs_0_state_regs_2_w,
+  d2l_rep_regs_0_state_regs_2_we,
+  d2l_rep_regs_0_state_regs_2_re,
+  d2l_rep_regs_0_state_regs_3_w,
+  d2l_rep_regs_0_state_regs_3_we,
+  d2l_rep_regs_0_state_regs_3_re,
+  d2l_rep_regs_1_config_regs_0_w,
+  d2l_rep_regs_1_config_regs_0_we,
+  d2l_rep_regs_1_config_regs_0_re,
+  d2l_rep_regs_1_config_regs_1_w,
+  d2l_rep_regs_1_config_regs_1_we,
+  d2l_rep_regs_1_config_regs_1_re,
+  d2l_rep_regs_1_config_regs_2_w,
+  d2l_rep_regs_1_config_regs_2_we,
+  d2l_rep_regs_1_config_regs_2_re,
+  d2l_rep_regs_1_config_regs_3_w,
+  d2l_rep_regs_1_config_regs_3_we,
+  d2l_rep_regs_1_config_regs_3_re,
+  d2l_rep_regs_1_state_regs_0_w,
+  d2l_rep_regs_1_state_regs_0_we,
+  d2l_rep_regs_1_state_regs_0_re,
+  d2l_rep_regs_1_state_regs_1_w,
+  d2l_rep_regs_1_state_regs_1_we,
+  d2l_rep_regs_1_state_regs_1_re,
+  d2l_rep_regs_1_state_regs_2_w,
+  d2l_rep_regs_1_state_regs_2_we,
+  d2l_rep_regs_1_state_regs_2_re,
+  d2l_rep_regs_1_state_regs_3_w,
+  d2l_rep_regs_1_state_regs_3_we,
+  d2l_rep_regs_1_state_regs_3_re,
+  d2l_last_reg_w,
+  d2l_last_reg_we,
+  d2l_last_reg_re,
+  h2l_base_regs_state_regs_0_lsb_field_w,
+  h2l_base_regs_state_regs_1_lsb_field_w,
+  h2l_base_regs_state_regs_2_lsb_field_w,
+  h2l_base_regs_state_regs_3_lsb_field_w,
+  h2l_rep_regs_0_state_regs_0_lsb_field_w,
+  h2l_rep_regs_0_state_regs_1_lsb_field_w,
+  h2l_rep_regs_0_state_regs_2_lsb_field_w,
+  h2l_rep_regs_0_state_regs_3_lsb_field_w,
+  h2l_rep_regs_1_state_regs_0_lsb_field_w,
+  h2l_rep_regs_1_state_regs_1_lsb_field_w,
+  h2l_rep_regs_1_state_regs_2_lsb_field_w,
+  h2l_rep_regs_1_state_regs_3_lsb_field_w,
+
+  l2d_base_regs_config_regs_0_r,
+  l2d_base_regs_config_regs_1_r,
+  l2d_base_regs_config_regs_2_r,
+  l2d_base_regs_config_regs_3_r,
+  l2d_base_regs_state_regs_0_r,
+  l2d_base_regs_state_regs_1_r,
+  l2d_base_regs_state_regs_2_r,
+  l2d_base_regs_state_regs_3_r,
+  l2d_rep_regs_0_config_regs_0_r,
+  l2d_rep_regs_0_config_regs_1_r,
+  l2d_rep_regs_0_config_regs_2_r,
+  l2d_rep_regs_0_config_regs_3_r,
+  l2d_rep_regs_0_state_regs_0_r,
+  l2d_rep_regs_0_state_regs_1_r,
+  l2d_rep_regs_0_state_regs_2_r,
+  l2d_rep_regs_0_state_regs_3_r,
+  l2d_rep_regs_1_config_regs_0_r,
+  l2d_rep_regs_1_config_regs_1_r,
+  l2d_rep_regs_1_config_regs_2_r,
+  l2d_rep_regs_1_config_regs_3_r,
+  l2d_rep_regs_1_state_regs_0_r,
+  l2d_rep_regs_1_state_regs_1_r,
+  l2d_rep_regs_1_state_regs_2_r,
+  l2d_rep_regs_1_state_regs_3_r,
+  l2d_last_reg_r,
+  l2h_base_regs_config_regs_0_lsb_field_r,
+  l2h_base_regs_config_regs_0_msb_field_r,
+  l2h_base_regs_config_regs_1_lsb_field_r,
+  l2h_base_regs_config_regs_1_msb_field_r,
+  l2h_base_regs_config_regs_2_lsb_field_r,
+  l2h_base_regs_config_regs_2_msb_field_r,
+  l2h_base_regs_config_regs_3_lsb_field_r,
+  l2h_base_regs_config_regs_3_msb_field_r,
+  l2h_rep_regs_0_config_regs_0_lsb_field_r,
+  l2h_rep_regs_0_config_regs_0_msb_field_r,
+  l2h_rep_regs_0_config_regs_1_lsb_field_r,
+  l2h_rep_regs_0_config_regs_1_msb_field_r,
+  l2h_rep_regs_0_config_regs_2_lsb_field_r,
+  l2h_rep_regs_0_config_regs_2_msb_field_r,
+  l2h_rep_regs_0_config_regs_3_lsb_field_r,
+  l2h_rep_regs_0_config_regs_3_msb_field_r,
+  l2h_rep_regs_1_config_regs_0_lsb_field_r,
+  l2h_rep_regs_1_config_regs_0_msb_field_r,
+  l2h_rep_regs_1_config_regs_1_lsb_field_r,
+  l2h_rep_regs_1_config_regs_1_msb_field_r,
+  l2h_rep_regs_1_config_regs_2_lsb_field_r,
+  l2h_rep_regs_1_config_regs_2_msb_field_r,
+  l2h_rep_regs_1_config_regs_3_lsb_field_r,
+  l2h_rep_regs_1_config_regs_3_msb_field_r,
+  l2h_last_reg_lsb_field_r,
+  l2h_last_reg_msb_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_base_regs_config_regs_0_w;
+  input    d2l_base_regs_config_regs_0_we;
+  input    d2l_base_regs_config_regs_0_re;
+  input     [31:0] d2l_base_regs_config_regs_1_w;
+  input    d2l_base_regs_config_regs_1_we;
+  input    d2l_base_regs_config_regs_1_re;
+  input     [31:0] d2l_base_regs_config_regs_2_w;
+  input    d2l_base_regs_config_regs_2_we;
+  input    d2l_base_regs_config_regs_2_re;
+  input     [31:0] d2l_base_regs_config_regs_3_w;
+  input    d2l_base_regs_config_regs_3_we;
+  input    d2l_base_regs_config_regs_3_re;
+  input     [31:0] d2l_base_regs_state_regs_0_w;
+  input    d2l_base_regs_state_regs_0_we;
+  input    d2l_base_regs_state_regs_0_re;
+  input     [31:0] d2l_base_regs_state_regs_1_w;
+  input    d2l_base_regs_state_regs_1_we;
+  input    d2l_base_regs_state_regs_1_re;
+  input     [31:0] d2l_base_regs_state_regs_2_w;
+  input    d2l_base_regs_state_regs_2_we;
+  input    d2l_base_regs_state_regs_2_re;
+  input     [31:0] d2l_base_regs_state_regs_3_w;
+  input    d2l_base_regs_state_regs_3_we;
+  input    d2l_base_regs_state_regs_3_re;
+  input     [31:0] d2l_rep_regs_0_config_regs_0_w;
+  input    d2l_rep_regs_0_config_regs_0_we;
+  input    d2l_rep_regs_0_config_regs_0_re;
+  input     [31:0] d2l_rep_regs_0_config_regs_1_w;
+  input    d2l_rep_regs_0_config_regs_1_we;
+  input    d2l_rep_regs_0_config_regs_1_re;
+  input     [31:0] d2l_rep_regs_0_config_regs_2_w;
+  input    d2l_rep_regs_0_config_regs_2_we;
+  input    d2l_rep_regs_0_config_regs_2_re;
+  input     [31:0] d2l_rep_regs_0_config_regs_3_w;
+  input    d2l_rep_regs_0_config_regs_3_we;
+  input    d2l_rep_regs_0_config_regs_3_re;
+  input     [31:0] d2l_rep_regs_0_state_regs_0_w;
+  input    d2l_rep_regs_0_state_regs_0_we;
+  input    d2l_rep_regs_0_state_regs_0_re;
+  input     [31:0] d2l_rep_regs_0_state_regs_1_w;
+  input    d2l_rep_regs_0_state_regs_1_we;
+  input    d2l_rep_regs_0_state_regs_1_re;
+  input     [31:0] d2l_rep_regs_0_state_regs_2_w;
+  input    d2l_rep_regs_0_state_regs_2_we;
+  input    d2l_rep_regs_0_state_regs_2_re;
+  input     [31:0] d2l_rep_regs_0_state_regs_3_w;
+  input    d2l_rep_regs_0_state_regs_3_we;
+  input    d2l_rep_regs_0_state_regs_3_re;
+  input     [31:0] d2l_rep_regs_1_config_regs_0_w;
+  input    d2l_rep_regs_1_config_regs_0_we;
+  input    d2l_rep_regs_1_config_regs_0_re;
+  input     [31:0] d2l_rep_regs_1_config_regs_1_w;
+  input    d2l_rep_regs_1_config_regs_1_we;
+  input    d2l_rep_regs_1_config_regs_1_re;
+  input     [31:0] d2l_rep_regs_1_config_regs_2_w;
+  input    d2l_rep_regs_1_config_regs_2_we;
+  input    d2l_rep_regs_1_config_regs_2_re;
+  input     [31:0] d2l_rep_regs_1_config_regs_3_w;
+  input    d2l_rep_regs_1_config_regs_3_we;
+  input    d2l_rep_regs_1_config_regs_3_re;
+  input     [31:0] d2l_rep_regs_1_state_regs_0_w;
+  input    d2l_rep_regs_1_state_regs_0_we;
+  input    d2l_rep_regs_1_state_regs_0_re;
+  input     [31:0] d2l_rep_regs_1_state_regs_1_w;
+  input    d2l_rep_regs_1_state_regs_1_we;
+  input    d2l_rep_regs_1_state_regs_1_re;
+  input     [31:0] d2l_rep_regs_1_state_regs_2_w;
+  input    d2l_rep_regs_1_state_regs_2_we;
+  input    d2l_rep_regs_1_state_regs_2_re;
+  input     [31:0] d2l_rep_regs_1_state_regs_3_w;
+  input    d2l_rep_regs_1_state_regs_3_we;
+  input    d2l_rep_regs_1_state_regs_3_re;
+  input     [31:0] d2l_last_reg_w;
+  input    d2l_last_reg_we;
+  input    d2l_last_reg_re;
+  input     [15:0] h2l_base_regs_state_regs_0_lsb_field_w;
+  input     [15:0] h2l_base_regs_state_regs_1_lsb_field_w;
+  input     [15:0] h2l_base_regs_state_regs_2_lsb_field_w;
+  input     [15:0] h2l_base_regs_state_regs_3_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_0_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_1_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_2_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_3_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_0_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_1_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_2_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_3_lsb_field_w;
+
+  //------- outputs
+  output     [31:0] l2d_base_regs_config_regs_0_r;
+  output     [31:0] l2d_base_regs_config_regs_1_r;
+  output     [31:0] l2d_base_regs_config_regs_2_r;
+  output     [31:0] l2d_base_regs_config_regs_3_r;
+  output     [31:0] l2d_base_regs_state_regs_0_r;
+  output     [31:0] l2d_base_regs_state_regs_1_r;
+  output     [31:0] l2d_base_regs_state_regs_2_r;
+  output     [31:0] l2d_base_regs_state_regs_3_r;
+  output     [31:0] l2d_rep_regs_0_config_regs_0_r;
+  output     [31:0] l2d_rep_regs_0_config_regs_1_r;
+  output     [31:0] l2d_rep_regs_0_config_regs_2_r;
+  output     [31:0] l2d_rep_regs_0_config_regs_3_r;
+  output     [31:0] l2d_rep_regs_0_state_regs_0_r;
+  output     [31:0] l2d_rep_regs_0_state_regs_1_r;
+  output     [31:0] l2d_rep_regs_0_state_regs_2_r;
+  output     [31:0] l2d_rep_regs_0_state_regs_3_r;
+  output     [31:0] l2d_rep_regs_1_config_regs_0_r;
+  output     [31:0] l2d_rep_regs_1_config_regs_1_r;
+  output     [31:0] l2d_rep_regs_1_config_regs_2_r;
+  output     [31:0] l2d_rep_regs_1_config_regs_3_r;
+  output     [31:0] l2d_rep_regs_1_state_regs_0_r;
+  output     [31:0] l2d_rep_regs_1_state_regs_1_r;
+  output     [31:0] l2d_rep_regs_1_state_regs_2_r;
+  output     [31:0] l2d_rep_regs_1_state_regs_3_r;
+  output     [31:0] l2d_last_reg_r;
+  output     [15:0] l2h_base_regs_config_regs_0_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_0_msb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_1_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_1_msb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_2_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_2_msb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_3_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_3_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_0_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_0_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_1_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_1_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_2_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_2_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_3_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_3_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_0_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_0_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_1_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_1_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_2_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_2_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_3_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_3_msb_field_r;
+  output     [15:0] l2h_last_reg_lsb_field_r;
+  output     [15:0] l2h_last_reg_msb_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_base_regs_config_regs_0_lsb_field;
+  logic   [15:0] reg_base_regs_config_regs_0_lsb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_0_lsb_field_r;
+  logic   [15:0] rg_base_regs_config_regs_0_msb_field;
+  logic   [15:0] reg_base_regs_config_regs_0_msb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_0_msb_field_r;
+  logic   [31:0] l2d_base_regs_config_regs_0_r;
+  logic   [15:0] rg_base_regs_config_regs_1_lsb_field;
+  logic   [15:0] reg_base_regs_config_regs_1_lsb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_1_lsb_field_r;
+  logic   [15:0] rg_base_regs_config_regs_1_msb_field;
+  logic   [15:0] reg_base_regs_config_regs_1_msb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_1_msb_field_r;
+  logic   [31:0] l2d_base_regs_config_regs_1_r;
+  logic   [15:0] rg_base_regs_config_regs_2_lsb_field;
+  logic   [15:0] reg_base_regs_config_regs_2_lsb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_2_lsb_field_r;
+  logic   [15:0] rg_base_regs_config_regs_2_msb_field;
+  logic   [15:0] reg_base_regs_config_regs_2_msb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_2_msb_field_r;
+  logic   [31:0] l2d_base_regs_config_regs_2_r;
+  logic   [15:0] rg_base_regs_config_regs_3_lsb_field;
+  logic   [15:0] reg_base_regs_config_regs_3_lsb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_3_lsb_field_r;
+  logic   [15:0] rg_base_regs_config_regs_3_msb_field;
+  logic   [15:0] reg_base_regs_config_regs_3_msb_field_next;
+  logic   [15:0] l2h_base_regs_config_regs_3_msb_field_r;
+  logic   [31:0] l2d_base_regs_config_regs_3_r;
+  logic   [15:0] rg_base_regs_state_regs_0_lsb_field;
+  logic   [31:0] l2d_base_regs_state_regs_0_r;
+  logic   [15:0] rg_base_regs_state_regs_1_lsb_field;
+  logic   [31:0] l2d_base_regs_state_regs_1_r;
+  logic   [15:0] rg_base_regs_state_regs_2_lsb_field;
+  logic   [31:0] l2d_base_regs_state_regs_2_r;
+  logic   [15:0] rg_base_regs_state_regs_3_lsb_field;
+  logic   [31:0] l2d_base_regs_state_regs_3_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_0_lsb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_0_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_0_lsb_field_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_0_msb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_0_msb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_0_msb_field_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_0_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_1_lsb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_1_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_1_lsb_field_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_1_msb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_1_msb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_1_msb_field_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_1_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_2_lsb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_2_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_2_lsb_field_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_2_msb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_2_msb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_2_msb_field_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_2_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_3_lsb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_3_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_3_lsb_field_r;
+  logic   [15:0] rg_rep_regs_0_config_regs_3_msb_field;
+  logic   [15:0] reg_rep_regs_0_config_regs_3_msb_field_next;
+  logic   [15:0] l2h_rep_regs_0_config_regs_3_msb_field_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_3_r;
+  logic   [15:0] rg_rep_regs_0_state_regs_0_lsb_field;
+  logic   [31:0] l2d_rep_regs_0_state_regs_0_r;
+  logic   [15:0] rg_rep_regs_0_state_regs_1_lsb_field;
+  logic   [31:0] l2d_rep_regs_0_state_regs_1_r;
+  logic   [15:0] rg_rep_regs_0_state_regs_2_lsb_field;
+  logic   [31:0] l2d_rep_regs_0_state_regs_2_r;
+  logic   [15:0] rg_rep_regs_0_state_regs_3_lsb_field;
+  logic   [31:0] l2d_rep_regs_0_state_regs_3_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_0_lsb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_0_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_0_lsb_field_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_0_msb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_0_msb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_0_msb_field_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_0_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_1_lsb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_1_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_1_lsb_field_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_1_msb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_1_msb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_1_msb_field_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_1_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_2_lsb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_2_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_2_lsb_field_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_2_msb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_2_msb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_2_msb_field_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_2_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_3_lsb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_3_lsb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_3_lsb_field_r;
+  logic   [15:0] rg_rep_regs_1_config_regs_3_msb_field;
+  logic   [15:0] reg_rep_regs_1_config_regs_3_msb_field_next;
+  logic   [15:0] l2h_rep_regs_1_config_regs_3_msb_field_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_3_r;
+  logic   [15:0] rg_rep_regs_1_state_regs_0_lsb_field;
+  logic   [31:0] l2d_rep_regs_1_state_regs_0_r;
+  logic   [15:0] rg_rep_regs_1_state_regs_1_lsb_field;
+  logic   [31:0] l2d_rep_regs_1_state_regs_1_r;
+  logic   [15:0] rg_rep_regs_1_state_regs_2_lsb_field;
+  logic   [31:0] l2d_rep_regs_1_state_regs_2_r;
+  logic   [15:0] rg_rep_regs_1_state_regs_3_lsb_field;
+  logic   [31:0] l2d_rep_regs_1_state_regs_3_r;
+  logic   [15:0] rg_last_reg_lsb_field;
+  logic   [15:0] reg_last_reg_lsb_field_next;
+  logic   [15:0] l2h_last_reg_lsb_field_r;
+  logic   [15:0] rg_last_reg_msb_field;
+  logic   [15:0] reg_last_reg_msb_field_next;
+  logic   [15:0] l2h_last_reg_msb_field_r;
+  logic   [31:0] l2d_last_reg_r;
+  
+  
+  //------- combinatorial assigns for base_regs_config_regs_0
+  always_comb begin
+    reg_base_regs_config_regs_0_lsb_field_next = rg_base_regs_config_regs_0_lsb_field;
+    l2h_base_regs_config_regs_0_lsb_field_r = rg_base_regs_config_regs_0_lsb_field;
+    reg_base_regs_config_regs_0_msb_field_next = rg_base_regs_config_regs_0_msb_field;
+    l2h_base_regs_config_regs_0_msb_field_r = rg_base_regs_config_regs_0_msb_field;
+    if (d2l_base_regs_config_regs_0_we) reg_base_regs_config_regs_0_lsb_field_next = d2l_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_base_regs_config_regs_0_we) reg_base_regs_config_regs_0_msb_field_next = d2l_base_regs_config_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_0_lsb_field <= #1  reg_base_regs_config_regs_0_lsb_field_next;
+      rg_base_regs_config_regs_0_msb_field <= #1  reg_base_regs_config_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
+  always_comb begin
+    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
+    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_1
+  always_comb begin
+    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
+    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
+    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
+    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
+      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
+  always_comb begin
+    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
+    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_2
+  always_comb begin
+    reg_base_regs_config_regs_2_lsb_field_next = rg_base_regs_config_regs_2_lsb_field;
+    l2h_base_regs_config_regs_2_lsb_field_r = rg_base_regs_config_regs_2_lsb_field;
+    reg_base_regs_config_regs_2_msb_field_next = rg_base_regs_config_regs_2_msb_field;
+    l2h_base_regs_config_regs_2_msb_field_r = rg_base_regs_config_regs_2_msb_field;
+    if (d2l_base_regs_config_regs_2_we) reg_base_regs_config_regs_2_lsb_field_next = d2l_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_base_regs_config_regs_2_we) reg_base_regs_config_regs_2_msb_field_next = d2l_base_regs_config_regs_2_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_2
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_2_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_2_lsb_field <= #1  reg_base_regs_config_regs_2_lsb_field_next;
+      rg_base_regs_config_regs_2_msb_field <= #1  reg_base_regs_config_regs_2_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
+  always_comb begin
+    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
+    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_3
+  always_comb begin
+    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
+    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
+    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
+    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_3
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
+      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
+  always_comb begin
+    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
+    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_0
+  always_comb begin
+    rg_base_regs_state_regs_0_lsb_field =  h2l_base_regs_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_0_r = 32'b0;
+    l2d_base_regs_state_regs_0_r [15:0]  = rg_base_regs_state_regs_0_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_1
+  always_comb begin
+    rg_base_regs_state_regs_1_lsb_field =  h2l_base_regs_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_1_r = 32'b0;
+    l2d_base_regs_state_regs_1_r [15:0]  = rg_base_regs_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_2
+  always_comb begin
+    rg_base_regs_state_regs_2_lsb_field =  h2l_base_regs_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_2 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_2_r = 32'b0;
+    l2d_base_regs_state_regs_2_r [15:0]  = rg_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_3
+  always_comb begin
+    rg_base_regs_state_regs_3_lsb_field =  h2l_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_3 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_3_r = 32'b0;
+    l2d_base_regs_state_regs_3_r [15:0]  = rg_base_regs_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_0
+  always_comb begin
+    reg_rep_regs_0_config_regs_0_lsb_field_next = rg_rep_regs_0_config_regs_0_lsb_field;
+    l2h_rep_regs_0_config_regs_0_lsb_field_r = rg_rep_regs_0_config_regs_0_lsb_field;
+    reg_rep_regs_0_config_regs_0_msb_field_next = rg_rep_regs_0_config_regs_0_msb_field;
+    l2h_rep_regs_0_config_regs_0_msb_field_r = rg_rep_regs_0_config_regs_0_msb_field;
+    if (d2l_rep_regs_0_config_regs_0_we) reg_rep_regs_0_config_regs_0_lsb_field_next = d2l_rep_regs_0_config_regs_0_w [15:0] ;
+    if (d2l_rep_regs_0_config_regs_0_we) reg_rep_regs_0_config_regs_0_msb_field_next = d2l_rep_regs_0_config_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_0_config_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_0_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_rep_regs_0_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_0_config_regs_0_lsb_field <= #1  reg_rep_regs_0_config_regs_0_lsb_field_next;
+      rg_rep_regs_0_config_regs_0_msb_field <= #1  reg_rep_regs_0_config_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_0 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_config_regs_0_r [15:0]  = rg_rep_regs_0_config_regs_0_lsb_field;
+    l2d_rep_regs_0_config_regs_0_r [31:16]  = rg_rep_regs_0_config_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_1
+  always_comb begin
+    reg_rep_regs_0_config_regs_1_lsb_field_next = rg_rep_regs_0_config_regs_1_lsb_field;
+    l2h_rep_regs_0_config_regs_1_lsb_field_r = rg_rep_regs_0_config_regs_1_lsb_field;
+    reg_rep_regs_0_config_regs_1_msb_field_next = rg_rep_regs_0_config_regs_1_msb_field;
+    l2h_rep_regs_0_config_regs_1_msb_field_r = rg_rep_regs_0_config_regs_1_msb_field;
+    if (d2l_rep_regs_0_config_regs_1_we) reg_rep_regs_0_config_regs_1_lsb_field_next = d2l_rep_regs_0_config_regs_1_w [15:0] ;
+    if (d2l_rep_regs_0_config_regs_1_we) reg_rep_regs_0_config_regs_1_msb_field_next = d2l_rep_regs_0_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_0_config_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_0_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_rep_regs_0_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_0_config_regs_1_lsb_field <= #1  reg_rep_regs_0_config_regs_1_lsb_field_next;
+      rg_rep_regs_0_config_regs_1_msb_field <= #1  reg_rep_regs_0_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_1 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_config_regs_1_r [15:0]  = rg_rep_regs_0_config_regs_1_lsb_field;
+    l2d_rep_regs_0_config_regs_1_r [31:16]  = rg_rep_regs_0_config_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_2
+  always_comb begin
+    reg_rep_regs_0_config_regs_2_lsb_field_next = rg_rep_regs_0_config_regs_2_lsb_field;
+    l2h_rep_regs_0_config_regs_2_lsb_field_r = rg_rep_regs_0_config_regs_2_lsb_field;
+    reg_rep_regs_0_config_regs_2_msb_field_next = rg_rep_regs_0_config_regs_2_msb_field;
+    l2h_rep_regs_0_config_regs_2_msb_field_r = rg_rep_regs_0_config_regs_2_msb_field;
+    if (d2l_rep_regs_0_config_regs_2_we) reg_rep_regs_0_config_regs_2_lsb_field_next = d2l_rep_regs_0_config_regs_2_w [15:0] ;
+    if (d2l_rep_regs_0_config_regs_2_we) reg_rep_regs_0_config_regs_2_msb_field_next = d2l_rep_regs_0_config_regs_2_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_0_config_regs_2
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_0_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_rep_regs_0_config_regs_2_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_0_config_regs_2_lsb_field <= #1  reg_rep_regs_0_config_regs_2_lsb_field_next;
+      rg_rep_regs_0_config_regs_2_msb_field <= #1  reg_rep_regs_0_config_regs_2_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_2 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_config_regs_2_r [15:0]  = rg_rep_regs_0_config_regs_2_lsb_field;
+    l2d_rep_regs_0_config_regs_2_r [31:16]  = rg_rep_regs_0_config_regs_2_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_3
+  always_comb begin
+    reg_rep_regs_0_config_regs_3_lsb_field_next = rg_rep_regs_0_config_regs_3_lsb_field;
+    l2h_rep_regs_0_config_regs_3_lsb_field_r = rg_rep_regs_0_config_regs_3_lsb_field;
+    reg_rep_regs_0_config_regs_3_msb_field_next = rg_rep_regs_0_config_regs_3_msb_field;
+    l2h_rep_regs_0_config_regs_3_msb_field_r = rg_rep_regs_0_config_regs_3_msb_field;
+    if (d2l_rep_regs_0_config_regs_3_we) reg_rep_regs_0_config_regs_3_lsb_field_next = d2l_rep_regs_0_config_regs_3_w [15:0] ;
+    if (d2l_rep_regs_0_config_regs_3_we) reg_rep_regs_0_config_regs_3_msb_field_next = d2l_rep_regs_0_config_regs_3_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_0_config_regs_3
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_0_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_rep_regs_0_config_regs_3_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_0_config_regs_3_lsb_field <= #1  reg_rep_regs_0_config_regs_3_lsb_field_next;
+      rg_rep_regs_0_config_regs_3_msb_field <= #1  reg_rep_regs_0_config_regs_3_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_config_regs_3 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_config_regs_3_r [15:0]  = rg_rep_regs_0_config_regs_3_lsb_field;
+    l2d_rep_regs_0_config_regs_3_r [31:16]  = rg_rep_regs_0_config_regs_3_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_0
+  always_comb begin
+    rg_rep_regs_0_state_regs_0_lsb_field =  h2l_rep_regs_0_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_state_regs_0_r = 32'b0;
+    l2d_rep_regs_0_state_regs_0_r [15:0]  = rg_rep_regs_0_state_regs_0_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_1
+  always_comb begin
+    rg_rep_regs_0_state_regs_1_lsb_field =  h2l_rep_regs_0_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_state_regs_1_r = 32'b0;
+    l2d_rep_regs_0_state_regs_1_r [15:0]  = rg_rep_regs_0_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_2
+  always_comb begin
+    rg_rep_regs_0_state_regs_2_lsb_field =  h2l_rep_regs_0_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_2 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_state_regs_2_r = 32'b0;
+    l2d_rep_regs_0_state_regs_2_r [15:0]  = rg_rep_regs_0_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_3
+  always_comb begin
+    rg_rep_regs_0_state_regs_3_lsb_field =  h2l_rep_regs_0_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_0_state_regs_3 (pio read data)
+  always_comb begin
+    l2d_rep_regs_0_state_regs_3_r = 32'b0;
+    l2d_rep_regs_0_state_regs_3_r [15:0]  = rg_rep_regs_0_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_0
+  always_comb begin
+    reg_rep_regs_1_config_regs_0_lsb_field_next = rg_rep_regs_1_config_regs_0_lsb_field;
+    l2h_rep_regs_1_config_regs_0_lsb_field_r = rg_rep_regs_1_config_regs_0_lsb_field;
+    reg_rep_regs_1_config_regs_0_msb_field_next = rg_rep_regs_1_config_regs_0_msb_field;
+    l2h_rep_regs_1_config_regs_0_msb_field_r = rg_rep_regs_1_config_regs_0_msb_field;
+    if (d2l_rep_regs_1_config_regs_0_we) reg_rep_regs_1_config_regs_0_lsb_field_next = d2l_rep_regs_1_config_regs_0_w [15:0] ;
+    if (d2l_rep_regs_1_config_regs_0_we) reg_rep_regs_1_config_regs_0_msb_field_next = d2l_rep_regs_1_config_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_1_config_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_1_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_rep_regs_1_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_1_config_regs_0_lsb_field <= #1  reg_rep_regs_1_config_regs_0_lsb_field_next;
+      rg_rep_regs_1_config_regs_0_msb_field <= #1  reg_rep_regs_1_config_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_0 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_config_regs_0_r [15:0]  = rg_rep_regs_1_config_regs_0_lsb_field;
+    l2d_rep_regs_1_config_regs_0_r [31:16]  = rg_rep_regs_1_config_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_1
+  always_comb begin
+    reg_rep_regs_1_config_regs_1_lsb_field_next = rg_rep_regs_1_config_regs_1_lsb_field;
+    l2h_rep_regs_1_config_regs_1_lsb_field_r = rg_rep_regs_1_config_regs_1_lsb_field;
+    reg_rep_regs_1_config_regs_1_msb_field_next = rg_rep_regs_1_config_regs_1_msb_field;
+    l2h_rep_regs_1_config_regs_1_msb_field_r = rg_rep_regs_1_config_regs_1_msb_field;
+    if (d2l_rep_regs_1_config_regs_1_we) reg_rep_regs_1_config_regs_1_lsb_field_next = d2l_rep_regs_1_config_regs_1_w [15:0] ;
+    if (d2l_rep_regs_1_config_regs_1_we) reg_rep_regs_1_config_regs_1_msb_field_next = d2l_rep_regs_1_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_1_config_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_1_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_rep_regs_1_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_1_config_regs_1_lsb_field <= #1  reg_rep_regs_1_config_regs_1_lsb_field_next;
+      rg_rep_regs_1_config_regs_1_msb_field <= #1  reg_rep_regs_1_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_1 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_config_regs_1_r [15:0]  = rg_rep_regs_1_config_regs_1_lsb_field;
+    l2d_rep_regs_1_config_regs_1_r [31:16]  = rg_rep_regs_1_config_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_2
+  always_comb begin
+    reg_rep_regs_1_config_regs_2_lsb_field_next = rg_rep_regs_1_config_regs_2_lsb_field;
+    l2h_rep_regs_1_config_regs_2_lsb_field_r = rg_rep_regs_1_config_regs_2_lsb_field;
+    reg_rep_regs_1_config_regs_2_msb_field_next = rg_rep_regs_1_config_regs_2_msb_field;
+    l2h_rep_regs_1_config_regs_2_msb_field_r = rg_rep_regs_1_config_regs_2_msb_field;
+    if (d2l_rep_regs_1_config_regs_2_we) reg_rep_regs_1_config_regs_2_lsb_field_next = d2l_rep_regs_1_config_regs_2_w [15:0] ;
+    if (d2l_rep_regs_1_config_regs_2_we) reg_rep_regs_1_config_regs_2_msb_field_next = d2l_rep_regs_1_config_regs_2_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_1_config_regs_2
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_1_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_rep_regs_1_config_regs_2_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_1_config_regs_2_lsb_field <= #1  reg_rep_regs_1_config_regs_2_lsb_field_next;
+      rg_rep_regs_1_config_regs_2_msb_field <= #1  reg_rep_regs_1_config_regs_2_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_2 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_config_regs_2_r [15:0]  = rg_rep_regs_1_config_regs_2_lsb_field;
+    l2d_rep_regs_1_config_regs_2_r [31:16]  = rg_rep_regs_1_config_regs_2_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_3
+  always_comb begin
+    reg_rep_regs_1_config_regs_3_lsb_field_next = rg_rep_regs_1_config_regs_3_lsb_field;
+    l2h_rep_regs_1_config_regs_3_lsb_field_r = rg_rep_regs_1_config_regs_3_lsb_field;
+    reg_rep_regs_1_config_regs_3_msb_field_next = rg_rep_regs_1_config_regs_3_msb_field;
+    l2h_rep_regs_1_config_regs_3_msb_field_r = rg_rep_regs_1_config_regs_3_msb_field;
+    if (d2l_rep_regs_1_config_regs_3_we) reg_rep_regs_1_config_regs_3_lsb_field_next = d2l_rep_regs_1_config_regs_3_w [15:0] ;
+    if (d2l_rep_regs_1_config_regs_3_we) reg_rep_regs_1_config_regs_3_msb_field_next = d2l_rep_regs_1_config_regs_3_w [31:16] ;
+  end
+  
+  //------- reg assigns for rep_regs_1_config_regs_3
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_rep_regs_1_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_rep_regs_1_config_regs_3_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_rep_regs_1_config_regs_3_lsb_field <= #1  reg_rep_regs_1_config_regs_3_lsb_field_next;
+      rg_rep_regs_1_config_regs_3_msb_field <= #1  reg_rep_regs_1_config_regs_3_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_config_regs_3 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_config_regs_3_r [15:0]  = rg_rep_regs_1_config_regs_3_lsb_field;
+    l2d_rep_regs_1_config_regs_3_r [31:16]  = rg_rep_regs_1_config_regs_3_msb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_0
+  always_comb begin
+    rg_rep_regs_1_state_regs_0_lsb_field =  h2l_rep_regs_1_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_state_regs_0_r = 32'b0;
+    l2d_rep_regs_1_state_regs_0_r [15:0]  = rg_rep_regs_1_state_regs_0_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_1
+  always_comb begin
+    rg_rep_regs_1_state_regs_1_lsb_field =  h2l_rep_regs_1_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_state_regs_1_r = 32'b0;
+    l2d_rep_regs_1_state_regs_1_r [15:0]  = rg_rep_regs_1_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_2
+  always_comb begin
+    rg_rep_regs_1_state_regs_2_lsb_field =  h2l_rep_regs_1_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_2 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_state_regs_2_r = 32'b0;
+    l2d_rep_regs_1_state_regs_2_r [15:0]  = rg_rep_regs_1_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_3
+  always_comb begin
+    rg_rep_regs_1_state_regs_3_lsb_field =  h2l_rep_regs_1_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for rep_regs_1_state_regs_3 (pio read data)
+  always_comb begin
+    l2d_rep_regs_1_state_regs_3_r = 32'b0;
+    l2d_rep_regs_1_state_regs_3_r [15:0]  = rg_rep_regs_1_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for last_reg
+  always_comb begin
+    reg_last_reg_lsb_field_next = rg_last_reg_lsb_field;
+    l2h_last_reg_lsb_field_r = rg_last_reg_lsb_field;
+    reg_last_reg_msb_field_next = rg_last_reg_msb_field;
+    l2h_last_reg_msb_field_r = rg_last_reg_msb_field;
+    if (d2l_last_reg_we) reg_last_reg_lsb_field_next = d2l_last_reg_w [15:0] ;
+    if (d2l_last_reg_we) reg_last_reg_msb_field_next = d2l_last_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for last_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_last_reg_lsb_field <= #1 16'hffff;
+      rg_last_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_last_reg_lsb_field <= #1  reg_last_reg_lsb_field_next;
+      rg_last_reg_msb_field <= #1  reg_last_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for last_reg (pio read data)
+  always_comb begin
+    l2d_last_reg_r [15:0]  = rg_last_reg_lsb_field;
+    l2d_last_reg_r [31:16]  = rg_last_reg_msb_field;
+  end
+  
+endmodule
+
+//
+//---------- module bin_map_jrdl_decode
+//
+module bin_map_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_base_regs_config_regs_0_r,
+  l2d_base_regs_config_regs_1_r,
+  l2d_base_regs_config_regs_2_r,
+  l2d_base_regs_config_regs_3_r,
+  l2d_base_regs_state_regs_0_r,
+  l2d_base_regs_state_regs_1_r,
+  l2d_base_regs_state_regs_2_r,
+  l2d_base_regs_state_regs_3_r,
+  l2d_rep_regs_0_config_regs_0_r,
+  l2d_rep_regs_0_config_regs_1_r,
+  l2d_rep_regs_0_config_regs_2_r,
+  l2d_rep_regs_0_config_regs_3_r,
+  l2d_rep_regs_0_state_regs_0_r,
+  l2d_rep_regs_0_state_regs_1_r,
+  l2d_rep_regs_0_state_regs_2_r,
+  l2d_rep_regs_0_state_regs_3_r,
+  l2d_rep_regs_1_config_regs_0_r,
+  l2d_rep_regs_1_config_regs_1_r,
+  l2d_rep_regs_1_config_regs_2_r,
+  l2d_rep_regs_1_config_regs_3_r,
+  l2d_rep_regs_1_state_regs_0_r,
+  l2d_rep_regs_1_state_regs_1_r,
+  l2d_rep_regs_1_state_regs_2_r,
+  l2d_rep_regs_1_state_regs_3_r,
+  l2d_last_reg_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_base_regs_config_regs_0_w,
+  d2l_base_regs_config_regs_0_we,
+  d2l_base_regs_config_regs_0_re,
+  d2l_base_regs_config_regs_1_w,
+  d2l_base_regs_config_regs_1_we,
+  d2l_base_regs_config_regs_1_re,
+  d2l_base_regs_config_regs_2_w,
+  d2l_base_regs_config_regs_2_we,
+  d2l_base_regs_config_regs_2_re,
+  d2l_base_regs_config_regs_3_w,
+  d2l_base_regs_config_regs_3_we,
+  d2l_base_regs_config_regs_3_re,
+  d2l_base_regs_state_regs_0_w,
+  d2l_base_regs_state_regs_0_we,
+  d2l_base_regs_state_regs_0_re,
+  d2l_base_regs_state_regs_1_w,
+  d2l_base_regs_state_regs_1_we,
+  d2l_base_regs_state_regs_1_re,
+  d2l_base_regs_state_regs_2_w,
+  d2l_base_regs_state_regs_2_we,
+  d2l_base_regs_state_regs_2_re,
+  d2l_base_regs_state_regs_3_w,
+  d2l_base_regs_state_regs_3_we,
+  d2l_base_regs_state_regs_3_re,
+  d2l_rep_regs_0_config_regs_0_w,
+  d2l_rep_regs_0_config_regs_0_we,
+  d2l_rep_regs_0_config_regs_0_re,
+  d2l_rep_regs_0_config_regs_1_w,
+  d2l_rep_regs_0_config_regs_1_we,
+  d2l_rep_regs_0_config_regs_1_re,
+  d2l_rep_regs_0_config_regs_2_w,
+  d2l_rep_regs_0_config_regs_2_we,
+  d2l_rep_regs_0_config_regs_2_re,
+  d2l_rep_regs_0_config_regs_3_w,
+  d2l_rep_regs_0_config_regs_3_we,
+  d2l_rep_regs_0_config_regs_3_re,
+  d2l_rep_regs_0_state_regs_0_w,
+  d2l_rep_regs_0_state_regs_0_we,
+  d2l_rep_regs_0_state_regs_0_re,
+  d2l_rep_regs_0_state_regs_1_w,
+  d2l_rep_regs_0_state_regs_1_we,
+  d2l_rep_regs_0_state_regs_1_re,
+  d2l_rep_regs_0_state_regs_2_w,
+  d2l_rep_regs_0_state_regs_2_we,
+  d2l_rep_regs_0_state_regs_2_re,
+  d2l_rep_regs_0_state_regs_3_w,
+  d2l_rep_regs_0_state_regs_3_we,
+  d2l_rep_regs_0_state_regs_3_re,
+  d2l_rep_regs_1_config_regs_0_w,
+  d2l_rep_regs_1_config_regs_0_we,
+  d2l_rep_regs_1_config_regs_0_re,
+  d2l_rep_regs_1_config_regs_1_w,
+  d2l_rep_regs_1_config_regs_1_we,
+  d2l_rep_regs_1_config_regs_1_re,
+  d2l_rep_regs_1_config_regs_2_w,
+  d2l_rep_regs_1_config_regs_2_we,
+  d2l_rep_regs_1_config_regs_2_re,
+  d2l_rep_regs_1_config_regs_3_w,
+  d2l_rep_regs_1_config_regs_3_we,
+  d2l_rep_regs_1_config_regs_3_re,
+  d2l_rep_regs_1_state_regs_0_w,
+  d2l_rep_regs_1_state_regs_0_we,
+  d2l_rep_regs_1_state_regs_0_re,
+  d2l_rep_regs_1_state_regs_1_w,
+  d2l_rep_regs_1_state_regs_1_we,
+  d2l_rep_regs_1_state_regs_1_re,
+  d2l_rep_regs_1_state_regs_2_w,
+  d2l_rep_regs_1_state_regs_2_we,
+  d2l_rep_regs_1_state_regs_2_re,
+  d2l_rep_regs_1_state_regs_3_w,
+  d2l_rep_regs_1_state_regs_3_we,
+  d2l_rep_regs_1_state_regs_3_re,
+  d2l_last_reg_w,
+  d2l_last_reg_we,
+  d2l_last_reg_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [15:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_base_regs_config_regs_0_r;
+  input     [31:0] l2d_base_regs_config_regs_1_r;
+  input     [31:0] l2d_base_regs_config_regs_2_r;
+  input     [31:0] l2d_base_regs_config_regs_3_r;
+  input     [31:0] l2d_base_regs_state_regs_0_r;
+  input     [31:0] l2d_base_regs_state_regs_1_r;
+  input     [31:0] l2d_base_regs_state_regs_2_r;
+  input     [31:0] l2d_base_regs_state_regs_3_r;
+  input     [31:0] l2d_rep_regs_0_config_regs_0_r;
+  input     [31:0] l2d_rep_regs_0_config_regs_1_r;
+  input     [31:0] l2d_rep_regs_0_config_regs_2_r;
+  input     [31:0] l2d_rep_regs_0_config_regs_3_r;
+  input     [31:0] l2d_rep_regs_0_state_regs_0_r;
+  input     [31:0] l2d_rep_regs_0_state_regs_1_r;
+  input     [31:0] l2d_rep_regs_0_state_regs_2_r;
+  input     [31:0] l2d_rep_regs_0_state_regs_3_r;
+  input     [31:0] l2d_rep_regs_1_config_regs_0_r;
+  input     [31:0] l2d_rep_regs_1_config_regs_1_r;
+  input     [31:0] l2d_rep_regs_1_config_regs_2_r;
+  input     [31:0] l2d_rep_regs_1_config_regs_3_r;
+  input     [31:0] l2d_rep_regs_1_state_regs_0_r;
+  input     [31:0] l2d_rep_regs_1_state_regs_1_r;
+  input     [31:0] l2d_rep_regs_1_state_regs_2_r;
+  input     [31:0] l2d_rep_regs_1_state_regs_3_r;
+  input     [31:0] l2d_last_reg_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_base_regs_config_regs_0_w;
+  output    d2l_base_regs_config_regs_0_we;
+  output    d2l_base_regs_config_regs_0_re;
+  output     [31:0] d2l_base_regs_config_regs_1_w;
+  output    d2l_base_regs_config_regs_1_we;
+  output    d2l_base_regs_config_regs_1_re;
+  output     [31:0] d2l_base_regs_config_regs_2_w;
+  output    d2l_base_regs_config_regs_2_we;
+  output    d2l_base_regs_config_regs_2_re;
+  output     [31:0] d2l_base_regs_config_regs_3_w;
+  output    d2l_base_regs_config_regs_3_we;
+  output    d2l_base_regs_config_regs_3_re;
+  output     [31:0] d2l_base_regs_state_regs_0_w;
+  output    d2l_base_regs_state_regs_0_we;
+  output    d2l_base_regs_state_regs_0_re;
+  output     [31:0] d2l_base_regs_state_regs_1_w;
+  output    d2l_base_regs_state_regs_1_we;
+  output    d2l_base_regs_state_regs_1_re;
+  output     [31:0] d2l_base_regs_state_regs_2_w;
+  output    d2l_base_regs_state_regs_2_we;
+  output    d2l_base_regs_state_regs_2_re;
+  output     [31:0] d2l_base_regs_state_regs_3_w;
+  output    d2l_base_regs_state_regs_3_we;
+  output    d2l_base_regs_state_regs_3_re;
+  output     [31:0] d2l_rep_regs_0_config_regs_0_w;
+  output    d2l_rep_regs_0_config_regs_0_we;
+  output    d2l_rep_regs_0_config_regs_0_re;
+  output     [31:0] d2l_rep_regs_0_config_regs_1_w;
+  output    d2l_rep_regs_0_config_regs_1_we;
+  output    d2l_rep_regs_0_config_regs_1_re;
+  output     [31:0] d2l_rep_regs_0_config_regs_2_w;
+  output    d2l_rep_regs_0_config_regs_2_we;
+  output    d2l_rep_regs_0_config_regs_2_re;
+  output     [31:0] d2l_rep_regs_0_config_regs_3_w;
+  output    d2l_rep_regs_0_config_regs_3_we;
+  output    d2l_rep_regs_0_config_regs_3_re;
+  output     [31:0] d2l_rep_regs_0_state_regs_0_w;
+  output    d2l_rep_regs_0_state_regs_0_we;
+  output    d2l_rep_regs_0_state_regs_0_re;
+  output     [31:0] d2l_rep_regs_0_state_regs_1_w;
+  output    d2l_rep_regs_0_state_regs_1_we;
+  output    d2l_rep_regs_0_state_regs_1_re;
+  output     [31:0] d2l_rep_regs_0_state_regs_2_w;
+  output    d2l_rep_regs_0_state_regs_2_we;
+  output    d2l_rep_regs_0_state_regs_2_re;
+  output     [31:0] d2l_rep_regs_0_state_regs_3_w;
+  output    d2l_rep_regs_0_state_regs_3_we;
+  output    d2l_rep_regs_0_state_regs_3_re;
+  output     [31:0] d2l_rep_regs_1_config_regs_0_w;
+  output    d2l_rep_regs_1_config_regs_0_we;
+  output    d2l_rep_regs_1_config_regs_0_re;
+  output     [31:0] d2l_rep_regs_1_config_regs_1_w;
+  output    d2l_rep_regs_1_config_regs_1_we;
+  output    d2l_rep_regs_1_config_regs_1_re;
+  output     [31:0] d2l_rep_regs_1_config_regs_2_w;
+  output    d2l_rep_regs_1_config_regs_2_we;
+  output    d2l_rep_regs_1_config_regs_2_re;
+  output     [31:0] d2l_rep_regs_1_config_regs_3_w;
+  output    d2l_rep_regs_1_config_regs_3_we;
+  output    d2l_rep_regs_1_config_regs_3_re;
+  output     [31:0] d2l_rep_regs_1_state_regs_0_w;
+  output    d2l_rep_regs_1_state_regs_0_we;
+  output    d2l_rep_regs_1_state_regs_0_re;
+  output     [31:0] d2l_rep_regs_1_state_regs_1_w;
+  output    d2l_rep_regs_1_state_regs_1_we;
+  output    d2l_rep_regs_1_state_regs_1_re;
+  output     [31:0] d2l_rep_regs_1_state_regs_2_w;
+  output    d2l_rep_regs_1_state_regs_2_we;
+  output    d2l_rep_regs_1_state_regs_2_re;
+  output     [31:0] d2l_rep_regs_1_state_regs_3_w;
+  output    d2l_rep_regs_1_state_regs_3_we;
+  output    d2l_rep_regs_1_state_regs_3_re;
+  output     [31:0] d2l_last_reg_w;
+  output    d2l_last_reg_we;
+  output    d2l_last_reg_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [13:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [15:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_base_regs_config_regs_0_w;
+  logic  d2l_base_regs_config_regs_0_we;
+  logic  d2l_base_regs_config_regs_0_re;
+  logic   [31:0] d2l_base_regs_config_regs_1_w;
+  logic  d2l_base_regs_config_regs_1_we;
+  logic  d2l_base_regs_config_regs_1_re;
+  logic   [31:0] d2l_base_regs_config_regs_2_w;
+  logic  d2l_base_regs_config_regs_2_we;
+  logic  d2l_base_regs_config_regs_2_re;
+  logic   [31:0] d2l_base_regs_config_regs_3_w;
+  logic  d2l_base_regs_config_regs_3_we;
+  logic  d2l_base_regs_config_regs_3_re;
+  logic   [31:0] d2l_base_regs_state_regs_0_w;
+  logic  d2l_base_regs_state_regs_0_we;
+  logic  d2l_base_regs_state_regs_0_re;
+  logic   [31:0] d2l_base_regs_state_regs_1_w;
+  logic  d2l_base_regs_state_regs_1_we;
+  logic  d2l_base_regs_state_regs_1_re;
+  logic   [31:0] d2l_base_regs_state_regs_2_w;
+  logic  d2l_base_regs_state_regs_2_we;
+  logic  d2l_base_regs_state_regs_2_re;
+  logic   [31:0] d2l_base_regs_state_regs_3_w;
+  logic  d2l_base_regs_state_regs_3_we;
+  logic  d2l_base_regs_state_regs_3_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_0_w;
+  logic  d2l_rep_regs_0_config_regs_0_we;
+  logic  d2l_rep_regs_0_config_regs_0_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_1_w;
+  logic  d2l_rep_regs_0_config_regs_1_we;
+  logic  d2l_rep_regs_0_config_regs_1_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_2_w;
+  logic  d2l_rep_regs_0_config_regs_2_we;
+  logic  d2l_rep_regs_0_config_regs_2_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_3_w;
+  logic  d2l_rep_regs_0_config_regs_3_we;
+  logic  d2l_rep_regs_0_config_regs_3_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_0_w;
+  logic  d2l_rep_regs_0_state_regs_0_we;
+  logic  d2l_rep_regs_0_state_regs_0_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_1_w;
+  logic  d2l_rep_regs_0_state_regs_1_we;
+  logic  d2l_rep_regs_0_state_regs_1_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_2_w;
+  logic  d2l_rep_regs_0_state_regs_2_we;
+  logic  d2l_rep_regs_0_state_regs_2_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_3_w;
+  logic  d2l_rep_regs_0_state_regs_3_we;
+  logic  d2l_rep_regs_0_state_regs_3_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_0_w;
+  logic  d2l_rep_regs_1_config_regs_0_we;
+  logic  d2l_rep_regs_1_config_regs_0_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_1_w;
+  logic  d2l_rep_regs_1_config_regs_1_we;
+  logic  d2l_rep_regs_1_config_regs_1_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_2_w;
+  logic  d2l_rep_regs_1_config_regs_2_we;
+  logic  d2l_rep_regs_1_config_regs_2_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_3_w;
+  logic  d2l_rep_regs_1_config_regs_3_we;
+  logic  d2l_rep_regs_1_config_regs_3_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_0_w;
+  logic  d2l_rep_regs_1_state_regs_0_we;
+  logic  d2l_rep_regs_1_state_regs_0_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_1_w;
+  logic  d2l_rep_regs_1_state_regs_1_we;
+  logic  d2l_rep_regs_1_state_regs_1_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_2_w;
+  logic  d2l_rep_regs_1_state_regs_2_we;
+  logic  d2l_rep_regs_1_state_regs_2_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_3_w;
+  logic  d2l_rep_regs_1_state_regs_3_we;
+  logic  d2l_rep_regs_1_state_regs_3_re;
+  logic   [31:0] d2l_last_reg_w;
+  logic  d2l_last_reg_we;
+  logic  d2l_last_reg_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [13:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [13:2] ;
+  assign  block_sel_addr = 16'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_base_regs_config_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_config_regs_0_we = 1'b0;
+    d2l_base_regs_config_regs_0_re = 1'b0;
+    d2l_base_regs_config_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_config_regs_1_we = 1'b0;
+    d2l_base_regs_config_regs_1_re = 1'b0;
+    d2l_base_regs_config_regs_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_config_regs_2_we = 1'b0;
+    d2l_base_regs_config_regs_2_re = 1'b0;
+    d2l_base_regs_config_regs_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_config_regs_3_we = 1'b0;
+    d2l_base_regs_config_regs_3_re = 1'b0;
+    d2l_base_regs_state_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_state_regs_0_we = 1'b0;
+    d2l_base_regs_state_regs_0_re = 1'b0;
+    d2l_base_regs_state_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_state_regs_1_we = 1'b0;
+    d2l_base_regs_state_regs_1_re = 1'b0;
+    d2l_base_regs_state_regs_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_state_regs_2_we = 1'b0;
+    d2l_base_regs_state_regs_2_re = 1'b0;
+    d2l_base_regs_state_regs_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_base_regs_state_regs_3_we = 1'b0;
+    d2l_base_regs_state_regs_3_re = 1'b0;
+    d2l_rep_regs_0_config_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_config_regs_0_we = 1'b0;
+    d2l_rep_regs_0_config_regs_0_re = 1'b0;
+    d2l_rep_regs_0_config_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_config_regs_1_we = 1'b0;
+    d2l_rep_regs_0_config_regs_1_re = 1'b0;
+    d2l_rep_regs_0_config_regs_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_config_regs_2_we = 1'b0;
+    d2l_rep_regs_0_config_regs_2_re = 1'b0;
+    d2l_rep_regs_0_config_regs_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_config_regs_3_we = 1'b0;
+    d2l_rep_regs_0_config_regs_3_re = 1'b0;
+    d2l_rep_regs_0_state_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_state_regs_0_we = 1'b0;
+    d2l_rep_regs_0_state_regs_0_re = 1'b0;
+    d2l_rep_regs_0_state_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_state_regs_1_we = 1'b0;
+    d2l_rep_regs_0_state_regs_1_re = 1'b0;
+    d2l_rep_regs_0_state_regs_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_state_regs_2_we = 1'b0;
+    d2l_rep_regs_0_state_regs_2_re = 1'b0;
+    d2l_rep_regs_0_state_regs_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_0_state_regs_3_we = 1'b0;
+    d2l_rep_regs_0_state_regs_3_re = 1'b0;
+    d2l_rep_regs_1_config_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_config_regs_0_we = 1'b0;
+    d2l_rep_regs_1_config_regs_0_re = 1'b0;
+    d2l_rep_regs_1_config_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_config_regs_1_we = 1'b0;
+    d2l_rep_regs_1_config_regs_1_re = 1'b0;
+    d2l_rep_regs_1_config_regs_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_config_regs_2_we = 1'b0;
+    d2l_rep_regs_1_config_regs_2_re = 1'b0;
+    d2l_rep_regs_1_config_regs_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_config_regs_3_we = 1'b0;
+    d2l_rep_regs_1_config_regs_3_re = 1'b0;
+    d2l_rep_regs_1_state_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_state_regs_0_we = 1'b0;
+    d2l_rep_regs_1_state_regs_0_re = 1'b0;
+    d2l_rep_regs_1_state_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_state_regs_1_we = 1'b0;
+    d2l_rep_regs_1_state_regs_1_re = 1'b0;
+    d2l_rep_regs_1_state_regs_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_state_regs_2_we = 1'b0;
+    d2l_rep_regs_1_state_regs_2_re = 1'b0;
+    d2l_rep_regs_1_state_regs_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_rep_regs_1_state_regs_3_we = 1'b0;
+    d2l_rep_regs_1_state_regs_3_re = 1'b0;
+    d2l_last_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_last_reg_we = 1'b0;
+    d2l_last_reg_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: base_regs.config_regs_0     Address: 0x0     External: false
+    12'b000000000000:
+      begin
+        d2l_base_regs_config_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_config_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_config_regs_0_r;
+      end
+    //  Register: base_regs.config_regs_1     Address: 0x4     External: false
+    12'b000000000001:
+      begin
+        d2l_base_regs_config_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_config_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_config_regs_1_r;
+      end
+    //  Register: base_regs.config_regs_2     Address: 0x8     External: false
+    12'b000000000010:
+      begin
+        d2l_base_regs_config_regs_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_config_regs_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_config_regs_2_r;
+      end
+    //  Register: base_regs.config_regs_3     Address: 0xc     External: false
+    12'b000000000011:
+      begin
+        d2l_base_regs_config_regs_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_config_regs_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_config_regs_3_r;
+      end
+    //  Register: base_regs.state_regs_0     Address: 0x100     External: false
+    12'b000001000000:
+      begin
+        d2l_base_regs_state_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_state_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_state_regs_0_r;
+      end
+    //  Register: base_regs.state_regs_1     Address: 0x104     External: false
+    12'b000001000001:
+      begin
+        d2l_base_regs_state_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_state_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_state_regs_1_r;
+      end
+    //  Register: base_regs.state_regs_2     Address: 0x108     External: false
+    12'b000001000010:
+      begin
+        d2l_base_regs_state_regs_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_state_regs_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_state_regs_2_r;
+      end
+    //  Register: base_regs.state_regs_3     Address: 0x10c     External: false
+    12'b000001000011:
+      begin
+        d2l_base_regs_state_regs_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_base_regs_state_regs_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_base_regs_state_regs_3_r;
+      end
+    //  Register: rep_regs_0.config_regs_0     Address: 0x1000     External: false
+    12'b010000000000:
+      begin
+        d2l_rep_regs_0_config_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_config_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_config_regs_0_r;
+      end
+    //  Register: rep_regs_0.config_regs_1     Address: 0x1004     External: false
+    12'b010000000001:
+      begin
+        d2l_rep_regs_0_config_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_config_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_config_regs_1_r;
+      end
+    //  Register: rep_regs_0.config_regs_2     Address: 0x1008     External: false
+    12'b010000000010:
+      begin
+        d2l_rep_regs_0_config_regs_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_config_regs_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_config_regs_2_r;
+      end
+    //  Register: rep_regs_0.config_regs_3     Address: 0x100c     External: false
+    12'b010000000011:
+      begin
+        d2l_rep_regs_0_config_regs_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_config_regs_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_config_regs_3_r;
+      end
+    //  Register: rep_regs_0.state_regs_0     Address: 0x1100     External: false
+    12'b010001000000:
+      begin
+        d2l_rep_regs_0_state_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_state_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_state_regs_0_r;
+      end
+    //  Register: rep_regs_0.state_regs_1     Address: 0x1104     External: false
+    12'b010001000001:
+      begin
+        d2l_rep_regs_0_state_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_state_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_state_regs_1_r;
+      end
+    //  Register: rep_regs_0.state_regs_2     Address: 0x1108     External: false
+    12'b010001000010:
+      begin
+        d2l_rep_regs_0_state_regs_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_state_regs_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_state_regs_2_r;
+      end
+    //  Register: rep_regs_0.state_regs_3     Address: 0x110c     External: false
+    12'b010001000011:
+      begin
+        d2l_rep_regs_0_state_regs_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_0_state_regs_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_0_state_regs_3_r;
+      end
+    //  Register: rep_regs_1.config_regs_0     Address: 0x1200     External: false
+    12'b010010000000:
+      begin
+        d2l_rep_regs_1_config_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_config_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_config_regs_0_r;
+      end
+    //  Register: rep_regs_1.config_regs_1     Address: 0x1204     External: false
+    12'b010010000001:
+      begin
+        d2l_rep_regs_1_config_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_config_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_config_regs_1_r;
+      end
+    //  Register: rep_regs_1.config_regs_2     Address: 0x1208     External: false
+    12'b010010000010:
+      begin
+        d2l_rep_regs_1_config_regs_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_config_regs_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_config_regs_2_r;
+      end
+    //  Register: rep_regs_1.config_regs_3     Address: 0x120c     External: false
+    12'b010010000011:
+      begin
+        d2l_rep_regs_1_config_regs_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_config_regs_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_config_regs_3_r;
+      end
+    //  Register: rep_regs_1.state_regs_0     Address: 0x1300     External: false
+    12'b010011000000:
+      begin
+        d2l_rep_regs_1_state_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_state_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_state_regs_0_r;
+      end
+    //  Register: rep_regs_1.state_regs_1     Address: 0x1304     External: false
+    12'b010011000001:
+      begin
+        d2l_rep_regs_1_state_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_state_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_state_regs_1_r;
+      end
+    //  Register: rep_regs_1.state_regs_2     Address: 0x1308     External: false
+    12'b010011000010:
+      begin
+        d2l_rep_regs_1_state_regs_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_state_regs_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_state_regs_2_r;
+      end
+    //  Register: rep_regs_1.state_regs_3     Address: 0x130c     External: false
+    12'b010011000011:
+      begin
+        d2l_rep_regs_1_state_regs_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_rep_regs_1_state_regs_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_rep_regs_1_state_regs_3_r;
+      end
+    //  Register: last_reg     Address: 0x2000     External: false
+    12'b100000000000:
+      begin
+        d2l_last_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_last_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_last_reg_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module bin_map_pio
+//
+module bin_map_pio
+(
+  clk,
+  reset,
+  h2l_base_regs_state_regs_0_lsb_field_w,
+  h2l_base_regs_state_regs_1_lsb_field_w,
+  h2l_base_regs_state_regs_2_lsb_field_w,
+  h2l_base_regs_state_regs_3_lsb_field_w,
+  h2l_rep_regs_0_state_regs_0_lsb_field_w,
+  h2l_rep_regs_0_state_regs_1_lsb_field_w,
+  h2l_rep_regs_0_state_regs_2_lsb_field_w,
+  h2l_rep_regs_0_state_regs_3_lsb_field_w,
+  h2l_rep_regs_1_state_regs_0_lsb_field_w,
+  h2l_rep_regs_1_state_regs_1_lsb_field_w,
+  h2l_rep_regs_1_state_regs_2_lsb_field_w,
+  h2l_rep_regs_1_state_regs_3_lsb_field_w,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_base_regs_config_regs_0_lsb_field_r,
+  l2h_base_regs_config_regs_0_msb_field_r,
+  l2h_base_regs_config_regs_1_lsb_field_r,
+  l2h_base_regs_config_regs_1_msb_field_r,
+  l2h_base_regs_config_regs_2_lsb_field_r,
+  l2h_base_regs_config_regs_2_msb_field_r,
+  l2h_base_regs_config_regs_3_lsb_field_r,
+  l2h_base_regs_config_regs_3_msb_field_r,
+  l2h_rep_regs_0_config_regs_0_lsb_field_r,
+  l2h_rep_regs_0_config_regs_0_msb_field_r,
+  l2h_rep_regs_0_config_regs_1_lsb_field_r,
+  l2h_rep_regs_0_config_regs_1_msb_field_r,
+  l2h_rep_regs_0_config_regs_2_lsb_field_r,
+  l2h_rep_regs_0_config_regs_2_msb_field_r,
+  l2h_rep_regs_0_config_regs_3_lsb_field_r,
+  l2h_rep_regs_0_config_regs_3_msb_field_r,
+  l2h_rep_regs_1_config_regs_0_lsb_field_r,
+  l2h_rep_regs_1_config_regs_0_msb_field_r,
+  l2h_rep_regs_1_config_regs_1_lsb_field_r,
+  l2h_rep_regs_1_config_regs_1_msb_field_r,
+  l2h_rep_regs_1_config_regs_2_lsb_field_r,
+  l2h_rep_regs_1_config_regs_2_msb_field_r,
+  l2h_rep_regs_1_config_regs_3_lsb_field_r,
+  l2h_rep_regs_1_config_regs_3_msb_field_r,
+  l2h_last_reg_lsb_field_r,
+  l2h_last_reg_msb_field_r,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [15:0] h2l_base_regs_state_regs_0_lsb_field_w;
+  input     [15:0] h2l_base_regs_state_regs_1_lsb_field_w;
+  input     [15:0] h2l_base_regs_state_regs_2_lsb_field_w;
+  input     [15:0] h2l_base_regs_state_regs_3_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_0_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_1_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_2_lsb_field_w;
+  input     [15:0] h2l_rep_regs_0_state_regs_3_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_0_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_1_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_2_lsb_field_w;
+  input     [15:0] h2l_rep_regs_1_state_regs_3_lsb_field_w;
+  input     [31:0] leaf_dec_wr_data;
+  input     [15:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [15:0] l2h_base_regs_config_regs_0_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_0_msb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_1_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_1_msb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_2_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_2_msb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_3_lsb_field_r;
+  output     [15:0] l2h_base_regs_config_regs_3_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_0_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_0_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_1_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_1_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_2_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_2_msb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_3_lsb_field_r;
+  output     [15:0] l2h_rep_regs_0_config_regs_3_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_0_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_0_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_1_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_1_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_2_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_2_msb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_3_lsb_field_r;
+  output     [15:0] l2h_rep_regs_1_config_regs_3_msb_field_r;
+  output     [15:0] l2h_last_reg_lsb_field_r;
+  output     [15:0] l2h_last_reg_msb_field_r;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_base_regs_config_regs_0_w;
+  logic  d2l_base_regs_config_regs_0_we;
+  logic  d2l_base_regs_config_regs_0_re;
+  logic   [31:0] d2l_base_regs_config_regs_1_w;
+  logic  d2l_base_regs_config_regs_1_we;
+  logic  d2l_base_regs_config_regs_1_re;
+  logic   [31:0] d2l_base_regs_config_regs_2_w;
+  logic  d2l_base_regs_config_regs_2_we;
+  logic  d2l_base_regs_config_regs_2_re;
+  logic   [31:0] d2l_base_regs_config_regs_3_w;
+  logic  d2l_base_regs_config_regs_3_we;
+  logic  d2l_base_regs_config_regs_3_re;
+  logic   [31:0] d2l_base_regs_state_regs_0_w;
+  logic  d2l_base_regs_state_regs_0_we;
+  logic  d2l_base_regs_state_regs_0_re;
+  logic   [31:0] d2l_base_regs_state_regs_1_w;
+  logic  d2l_base_regs_state_regs_1_we;
+  logic  d2l_base_regs_state_regs_1_re;
+  logic   [31:0] d2l_base_regs_state_regs_2_w;
+  logic  d2l_base_regs_state_regs_2_we;
+  logic  d2l_base_regs_state_regs_2_re;
+  logic   [31:0] d2l_base_regs_state_regs_3_w;
+  logic  d2l_base_regs_state_regs_3_we;
+  logic  d2l_base_regs_state_regs_3_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_0_w;
+  logic  d2l_rep_regs_0_config_regs_0_we;
+  logic  d2l_rep_regs_0_config_regs_0_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_1_w;
+  logic  d2l_rep_regs_0_config_regs_1_we;
+  logic  d2l_rep_regs_0_config_regs_1_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_2_w;
+  logic  d2l_rep_regs_0_config_regs_2_we;
+  logic  d2l_rep_regs_0_config_regs_2_re;
+  logic   [31:0] d2l_rep_regs_0_config_regs_3_w;
+  logic  d2l_rep_regs_0_config_regs_3_we;
+  logic  d2l_rep_regs_0_config_regs_3_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_0_w;
+  logic  d2l_rep_regs_0_state_regs_0_we;
+  logic  d2l_rep_regs_0_state_regs_0_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_1_w;
+  logic  d2l_rep_regs_0_state_regs_1_we;
+  logic  d2l_rep_regs_0_state_regs_1_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_2_w;
+  logic  d2l_rep_regs_0_state_regs_2_we;
+  logic  d2l_rep_regs_0_state_regs_2_re;
+  logic   [31:0] d2l_rep_regs_0_state_regs_3_w;
+  logic  d2l_rep_regs_0_state_regs_3_we;
+  logic  d2l_rep_regs_0_state_regs_3_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_0_w;
+  logic  d2l_rep_regs_1_config_regs_0_we;
+  logic  d2l_rep_regs_1_config_regs_0_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_1_w;
+  logic  d2l_rep_regs_1_config_regs_1_we;
+  logic  d2l_rep_regs_1_config_regs_1_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_2_w;
+  logic  d2l_rep_regs_1_config_regs_2_we;
+  logic  d2l_rep_regs_1_config_regs_2_re;
+  logic   [31:0] d2l_rep_regs_1_config_regs_3_w;
+  logic  d2l_rep_regs_1_config_regs_3_we;
+  logic  d2l_rep_regs_1_config_regs_3_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_0_w;
+  logic  d2l_rep_regs_1_state_regs_0_we;
+  logic  d2l_rep_regs_1_state_regs_0_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_1_w;
+  logic  d2l_rep_regs_1_state_regs_1_we;
+  logic  d2l_rep_regs_1_state_regs_1_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_2_w;
+  logic  d2l_rep_regs_1_state_regs_2_we;
+  logic  d2l_rep_regs_1_state_regs_2_re;
+  logic   [31:0] d2l_rep_regs_1_state_regs_3_w;
+  logic  d2l_rep_regs_1_state_regs_3_we;
+  logic  d2l_rep_regs_1_state_regs_3_re;
+  logic   [31:0] d2l_last_reg_w;
+  logic  d2l_last_reg_we;
+  logic  d2l_last_reg_re;
+  logic   [31:0] l2d_base_regs_config_regs_0_r;
+  logic   [31:0] l2d_base_regs_config_regs_1_r;
+  logic   [31:0] l2d_base_regs_config_regs_2_r;
+  logic   [31:0] l2d_base_regs_config_regs_3_r;
+  logic   [31:0] l2d_base_regs_state_regs_0_r;
+  logic   [31:0] l2d_base_regs_state_regs_1_r;
+  logic   [31:0] l2d_base_regs_state_regs_2_r;
+  logic   [31:0] l2d_base_regs_state_regs_3_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_0_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_1_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_2_r;
+  logic   [31:0] l2d_rep_regs_0_config_regs_3_r;
+  logic   [31:0] l2d_rep_regs_0_state_regs_0_r;
+  logic   [31:0] l2d_rep_regs_0_state_regs_1_r;
+  logic   [31:0] l2d_rep_regs_0_state_regs_2_r;
+  logic   [31:0] l2d_rep_regs_0_state_regs_3_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_0_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_1_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_2_r;
+  logic   [31:0] l2d_rep_regs_1_config_regs_3_r;
+  logic   [31:0] l2d_rep_regs_1_state_regs_0_r;
+  logic   [31:0] l2d_rep_regs_1_state_regs_1_r;
+  logic   [31:0] l2d_rep_regs_1_state_regs_2_r;
+  logic   [31:0] l2d_rep_regs_1_state_regs_3_r;
+  logic   [31:0] l2d_last_reg_r;
+  
+  
+  bin_map_jrdl_decode pio_decode ( .* );
+    
+  bin_map_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
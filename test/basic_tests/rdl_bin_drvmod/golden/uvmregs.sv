@@ -0,0 +1,230 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_bin_drvmod/test.rdl
+//   Parms: ./rdl_bin_drvmod/test.parms
+//   Date: Mon Oct 19 04:16:29 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register config_regs
+class reg_bin_map_base_regs_config_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_bin_map_base_regs_config_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_bin_map_base_regs_config_regs
+
+// Register state_regs
+class reg_bin_map_base_regs_state_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  
+  function new(string name = "reg_bin_map_base_regs_state_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RO", 1, 16'hffff, 1, 0, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_bin_map_base_regs_state_regs
+
+// Block base_regs
+class block_bin_map_base_regs extends uvm_reg_block_rdl;
+  rand reg_bin_map_base_regs_config_regs config_regs[4];
+  rand reg_bin_map_base_regs_state_regs state_regs[4];
+  
+  function new(string name = "block_bin_map_base_regs");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.config_regs[i]) begin
+      this.config_regs[i] = new($psprintf("config_regs [%0d]",i));
+      this.config_regs[i].configure(this, null, "");
+      this.config_regs[i].set_rdl_tag($psprintf("config_regs_%0d_",i));
+      this.config_regs[i].set_reg_test_info(0, 0, 0);
+      this.config_regs[i].build();
+      this.default_map.add_reg(this.config_regs[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    foreach (this.state_regs[i]) begin
+      this.state_regs[i] = new($psprintf("state_regs [%0d]",i));
+      this.state_regs[i].configure(this, null, "");
+      this.state_regs[i].set_rdl_tag($psprintf("state_regs_%0d_",i));
+      this.state_regs[i].set_reg_test_info(0, 0, 0);
+      this.state_regs[i].build();
+      this.default_map.add_reg(this.state_regs[i], `UVM_REG_ADDR_WIDTH'h100+i*`UVM_REG_ADDR_WIDTH'h4, "RO", 0);
+    end
+  endfunction: build
+  
+  `uvm_object_utils(block_bin_map_base_regs)
+endclass : block_bin_map_base_regs
+
+// Register config_regs
+class reg_bin_map_rep_regs_config_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_bin_map_rep_regs_config_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_bin_map_rep_regs_config_regs
+
+// Register state_regs
+class reg_bin_map_rep_regs_state_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  
+  function new(string name = "reg_bin_map_rep_regs_state_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RO", 1, 16'hffff, 1, 0, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_bin_map_rep_regs_state_regs
+
+// Block rep_regs
+class block_bin_map_rep_regs extends uvm_reg_block_rdl;
+  rand reg_bin_map_rep_regs_config_regs config_regs[4];
+  rand reg_bin_map_rep_regs_state_regs state_regs[4];
+  
+  function new(string name = "block_bin_map_rep_regs");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.config_regs[i]) begin
+      this.config_regs[i] = new($psprintf("config_regs [%0d]",i));
+      this.config_regs[i].configure(this, null, "");
+      this.config_regs[i].set_rdl_tag($psprintf("config_regs_%0d_",i));
+      this.config_regs[i].set_reg_test_info(0, 0, 0);
+      this.config_regs[i].build();
+      this.default_map.add_reg(this.config_regs[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    foreach (this.state_regs[i]) begin
+      this.state_regs[i] = new($psprintf("state_regs [%0d]",i));
+      this.state_regs[i].configure(this, null, "");
+      this.state_regs[i].set_rdl_tag($psprintf("state_regs_%0d_",i));
+      this.state_regs[i].set_reg_test_info(0, 0, 0);
+      this.state_regs[i].build();
+      this.default_map.add_reg(this.state_regs[i], `UVM_REG_ADDR_WIDTH'h100+i*`UVM_REG_ADDR_WIDTH'h4, "RO", 0);
+    end
+  endfunction: build
+  
+  `uvm_object_utils(block_bin_map_rep_regs)
+endclass : block_bin_map_rep_regs
+
+// Register last_reg
+class reg_bin_map_last_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_bin_map_last_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_bin_map_last_reg
+
+// Base block
+class block_bin_map extends uvm_reg_block_rdl;
+  rand block_bin_map_base_regs base_regs;
+  rand block_bin_map_rep_regs rep_regs[2];
+  rand reg_bin_map_last_reg last_reg;
+  
+  function new(string name = "block_bin_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`BIN_MAP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.base_regs = block_bin_map_base_regs::type_id::create("base_regs",, get_full_name());
+    this.base_regs.configure(this, "");
+    this.base_regs.set_rdl_tag("base_regs_");
+    this.base_regs.build();
+    this.default_map.add_submap(this.base_regs.default_map, `UVM_REG_ADDR_WIDTH'h0);
+    foreach (this.rep_regs[i]) begin
+      this.rep_regs[i] = block_bin_map_rep_regs::type_id::create($psprintf("rep_regs [%0d]",i),, get_full_name());
+      this.rep_regs[i].configure(this, "");
+      this.rep_regs[i].set_rdl_tag($psprintf("rep_regs_%0d_",i));
+      this.rep_regs[i].build();
+      this.default_map.add_submap(this.rep_regs[i].default_map, `UVM_REG_ADDR_WIDTH'h1000+i*`UVM_REG_ADDR_WIDTH'h200);
+    end
+    this.last_reg = new("last_reg");
+    this.last_reg.configure(this, null, "");
+    this.last_reg.set_rdl_tag("last_reg_");
+    this.last_reg.set_reg_test_info(0, 0, 0);
+    this.last_reg.build();
+    this.default_map.add_reg(this.last_reg, `UVM_REG_ADDR_WIDTH'h2000, "RW", 0);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_bin_map)
+endclass : block_bin_map
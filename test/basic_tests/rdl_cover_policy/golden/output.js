@@ -0,0 +1,61 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_cover_policy/test.rdl
+ *   Parms: ./rdl_cover_policy/test.parms
+ *   Date: Mon Oct 19 04:44:41 UTC 2026
+ */
+
+register_set top "Coverage policy test" {
+
+  address = 0x0;
+  register_width = 32;
+  register status_tbl "Status reg" {
+    address = 0x0;
+    access_mode = READ_ONLY;
+    repeat = 4;
+    nop[27];
+    integer valid_field[1] "Valid bit" param {
+      access_mode = READ_ONLY;
+      reset = 0x0;
+    };
+    integer status_field[4] "Status bits" param {
+      access_mode = READ_ONLY;
+      reset = 0x0;
+    };
+  };
+  
+  register status_single "Status reg" {
+    address = 0x10;
+    access_mode = READ_ONLY;
+    nop[27];
+    integer valid_field[1] "Valid bit" param {
+      access_mode = READ_ONLY;
+      reset = 0x0;
+    };
+    integer status_field[4] "Status bits" param {
+      access_mode = READ_ONLY;
+      reset = 0x0;
+    };
+  };
+  
+  register count_tbl "Count reg" {
+    address = 0x100;
+    repeat = 2;
+    nop[24];
+    integer count_field[8] "Event count" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+  };
+  
+  register count_single "Count reg" {
+    address = 0x108;
+    nop[24];
+    integer count_field[8] "Event count" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+  };
+  
+  register_set_size = 0x10c;
+};
+
@@ -0,0 +1,795 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_cover_policy/test.rdl
+//   Parms: ./rdl_cover_policy/test.parms
+//   Date: Mon Oct 19 04:44:41 UTC 2026
+//
+
+//
+//---------- module top_jrdl_logic
+//
+module top_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_status_tbl_0_w,
+  d2l_status_tbl_0_we,
+  d2l_status_tbl_0_re,
+  d2l_status_tbl_1_w,
+  d2l_status_tbl_1_we,
+  d2l_status_tbl_1_re,
+  d2l_status_tbl_2_w,
+  d2l_status_tbl_2_we,
+  d2l_status_tbl_2_re,
+  d2l_status_tbl_3_w,
+  d2l_status_tbl_3_we,
+  d2l_status_tbl_3_re,
+  d2l_status_single_w,
+  d2l_status_single_we,
+  d2l_status_single_re,
+  d2l_count_tbl_0_w,
+  d2l_count_tbl_0_we,
+  d2l_count_tbl_0_re,
+  d2l_count_tbl_1_w,
+  d2l_count_tbl_1_we,
+  d2l_count_tbl_1_re,
+  d2l_count_single_w,
+  d2l_count_single_we,
+  d2l_count_single_re,
+  h2l_status_tbl_0_status_field_w,
+  h2l_status_tbl_0_valid_field_w,
+  h2l_status_tbl_1_status_field_w,
+  h2l_status_tbl_1_valid_field_w,
+  h2l_status_tbl_2_status_field_w,
+  h2l_status_tbl_2_valid_field_w,
+  h2l_status_tbl_3_status_field_w,
+  h2l_status_tbl_3_valid_field_w,
+  h2l_status_single_status_field_w,
+  h2l_status_single_valid_field_w,
+  h2l_count_tbl_0_count_field_incr,
+  h2l_count_tbl_1_count_field_incr,
+  h2l_count_single_count_field_incr,
+
+  l2d_status_tbl_0_r,
+  l2d_status_tbl_1_r,
+  l2d_status_tbl_2_r,
+  l2d_status_tbl_3_r,
+  l2d_status_single_r,
+  l2d_count_tbl_0_r,
+  l2d_count_tbl_1_r,
+  l2d_count_single_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_status_tbl_0_w;
+  input    d2l_status_tbl_0_we;
+  input    d2l_status_tbl_0_re;
+  input     [31:0] d2l_status_tbl_1_w;
+  input    d2l_status_tbl_1_we;
+  input    d2l_status_tbl_1_re;
+  input     [31:0] d2l_status_tbl_2_w;
+  input    d2l_status_tbl_2_we;
+  input    d2l_status_tbl_2_re;
+  input     [31:0] d2l_status_tbl_3_w;
+  input    d2l_status_tbl_3_we;
+  input    d2l_status_tbl_3_re;
+  input     [31:0] d2l_status_single_w;
+  input    d2l_status_single_we;
+  input    d2l_status_single_re;
+  input     [31:0] d2l_count_tbl_0_w;
+  input    d2l_count_tbl_0_we;
+  input    d2l_count_tbl_0_re;
+  input     [31:0] d2l_count_tbl_1_w;
+  input    d2l_count_tbl_1_we;
+  input    d2l_count_tbl_1_re;
+  input     [31:0] d2l_count_single_w;
+  input    d2l_count_single_we;
+  input    d2l_count_single_re;
+  input     [3:0] h2l_status_tbl_0_status_field_w;
+  input    h2l_status_tbl_0_valid_field_w;
+  input     [3:0] h2l_status_tbl_1_status_field_w;
+  input    h2l_status_tbl_1_valid_field_w;
+  input     [3:0] h2l_status_tbl_2_status_field_w;
+  input    h2l_status_tbl_2_valid_field_w;
+  input     [3:0] h2l_status_tbl_3_status_field_w;
+  input    h2l_status_tbl_3_valid_field_w;
+  input     [3:0] h2l_status_single_status_field_w;
+  input    h2l_status_single_valid_field_w;
+  input    h2l_count_tbl_0_count_field_incr;
+  input    h2l_count_tbl_1_count_field_incr;
+  input    h2l_count_single_count_field_incr;
+
+  //------- outputs
+  output     [31:0] l2d_status_tbl_0_r;
+  output     [31:0] l2d_status_tbl_1_r;
+  output     [31:0] l2d_status_tbl_2_r;
+  output     [31:0] l2d_status_tbl_3_r;
+  output     [31:0] l2d_status_single_r;
+  output     [31:0] l2d_count_tbl_0_r;
+  output     [31:0] l2d_count_tbl_1_r;
+  output     [31:0] l2d_count_single_r;
+
+
+  //------- reg defines
+  logic   [3:0] rg_status_tbl_0_status_field;
+  logic  rg_status_tbl_0_valid_field;
+  logic   [31:0] l2d_status_tbl_0_r;
+  logic   [3:0] rg_status_tbl_1_status_field;
+  logic  rg_status_tbl_1_valid_field;
+  logic   [31:0] l2d_status_tbl_1_r;
+  logic   [3:0] rg_status_tbl_2_status_field;
+  logic  rg_status_tbl_2_valid_field;
+  logic   [31:0] l2d_status_tbl_2_r;
+  logic   [3:0] rg_status_tbl_3_status_field;
+  logic  rg_status_tbl_3_valid_field;
+  logic   [31:0] l2d_status_tbl_3_r;
+  logic   [3:0] rg_status_single_status_field;
+  logic  rg_status_single_valid_field;
+  logic   [31:0] l2d_status_single_r;
+  logic   [7:0] rg_count_tbl_0_count_field;
+  logic   [7:0] reg_count_tbl_0_count_field_next;
+  logic   [8:0] cntr_count_tbl_0_count_field_next;
+  logic   [31:0] l2d_count_tbl_0_r;
+  logic   [7:0] rg_count_tbl_1_count_field;
+  logic   [7:0] reg_count_tbl_1_count_field_next;
+  logic   [8:0] cntr_count_tbl_1_count_field_next;
+  logic   [31:0] l2d_count_tbl_1_r;
+  logic   [7:0] rg_count_single_count_field;
+  logic   [7:0] reg_count_single_count_field_next;
+  logic   [8:0] cntr_count_single_count_field_next;
+  logic   [31:0] l2d_count_single_r;
+  
+  
+  //------- combinatorial assigns for status_tbl_0
+  always_comb begin
+    rg_status_tbl_0_status_field =  h2l_status_tbl_0_status_field_w;
+    rg_status_tbl_0_valid_field =  h2l_status_tbl_0_valid_field_w;
+  end
+  
+  //------- combinatorial assigns for status_tbl_0 (pio read data)
+  always_comb begin
+    l2d_status_tbl_0_r = 32'b0;
+    l2d_status_tbl_0_r [3:0]  = rg_status_tbl_0_status_field;
+    l2d_status_tbl_0_r [4]  = rg_status_tbl_0_valid_field;
+  end
+  
+  //------- combinatorial assigns for status_tbl_1
+  always_comb begin
+    rg_status_tbl_1_status_field =  h2l_status_tbl_1_status_field_w;
+    rg_status_tbl_1_valid_field =  h2l_status_tbl_1_valid_field_w;
+  end
+  
+  //------- combinatorial assigns for status_tbl_1 (pio read data)
+  always_comb begin
+    l2d_status_tbl_1_r = 32'b0;
+    l2d_status_tbl_1_r [3:0]  = rg_status_tbl_1_status_field;
+    l2d_status_tbl_1_r [4]  = rg_status_tbl_1_valid_field;
+  end
+  
+  //------- combinatorial assigns for status_tbl_2
+  always_comb begin
+    rg_status_tbl_2_status_field =  h2l_status_tbl_2_status_field_w;
+    rg_status_tbl_2_valid_field =  h2l_status_tbl_2_valid_field_w;
+  end
+  
+  //------- combinatorial assigns for status_tbl_2 (pio read data)
+  always_comb begin
+    l2d_status_tbl_2_r = 32'b0;
+    l2d_status_tbl_2_r [3:0]  = rg_status_tbl_2_status_field;
+    l2d_status_tbl_2_r [4]  = rg_status_tbl_2_valid_field;
+  end
+  
+  //------- combinatorial assigns for status_tbl_3
+  always_comb begin
+    rg_status_tbl_3_status_field =  h2l_status_tbl_3_status_field_w;
+    rg_status_tbl_3_valid_field =  h2l_status_tbl_3_valid_field_w;
+  end
+  
+  //------- combinatorial assigns for status_tbl_3 (pio read data)
+  always_comb begin
+    l2d_status_tbl_3_r = 32'b0;
+    l2d_status_tbl_3_r [3:0]  = rg_status_tbl_3_status_field;
+    l2d_status_tbl_3_r [4]  = rg_status_tbl_3_valid_field;
+  end
+  
+  //------- combinatorial assigns for status_single
+  always_comb begin
+    rg_status_single_status_field =  h2l_status_single_status_field_w;
+    rg_status_single_valid_field =  h2l_status_single_valid_field_w;
+  end
+  
+  //------- combinatorial assigns for status_single (pio read data)
+  always_comb begin
+    l2d_status_single_r = 32'b0;
+    l2d_status_single_r [3:0]  = rg_status_single_status_field;
+    l2d_status_single_r [4]  = rg_status_single_valid_field;
+  end
+  
+  //------- combinatorial assigns for count_tbl_0
+  always_comb begin
+    reg_count_tbl_0_count_field_next = rg_count_tbl_0_count_field;
+    cntr_count_tbl_0_count_field_next = { 1'b0, rg_count_tbl_0_count_field};
+    if (d2l_count_tbl_0_we) cntr_count_tbl_0_count_field_next = d2l_count_tbl_0_w [7:0] ;
+    if (h2l_count_tbl_0_count_field_incr)
+       cntr_count_tbl_0_count_field_next = cntr_count_tbl_0_count_field_next + 1;
+    reg_count_tbl_0_count_field_next = cntr_count_tbl_0_count_field_next [7:0] ;
+  end
+  
+  //------- reg assigns for count_tbl_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_count_tbl_0_count_field <= #1 8'h0;
+    end
+    else begin
+      rg_count_tbl_0_count_field <= #1  reg_count_tbl_0_count_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for count_tbl_0 (pio read data)
+  always_comb begin
+    l2d_count_tbl_0_r = 32'b0;
+    l2d_count_tbl_0_r [7:0]  = rg_count_tbl_0_count_field;
+  end
+  
+  //------- combinatorial assigns for count_tbl_1
+  always_comb begin
+    reg_count_tbl_1_count_field_next = rg_count_tbl_1_count_field;
+    cntr_count_tbl_1_count_field_next = { 1'b0, rg_count_tbl_1_count_field};
+    if (d2l_count_tbl_1_we) cntr_count_tbl_1_count_field_next = d2l_count_tbl_1_w [7:0] ;
+    if (h2l_count_tbl_1_count_field_incr)
+       cntr_count_tbl_1_count_field_next = cntr_count_tbl_1_count_field_next + 1;
+    reg_count_tbl_1_count_field_next = cntr_count_tbl_1_count_field_next [7:0] ;
+  end
+  
+  //------- reg assigns for count_tbl_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_count_tbl_1_count_field <= #1 8'h0;
+    end
+    else begin
+      rg_count_tbl_1_count_field <= #1  reg_count_tbl_1_count_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for count_tbl_1 (pio read data)
+  always_comb begin
+    l2d_count_tbl_1_r = 32'b0;
+    l2d_count_tbl_1_r [7:0]  = rg_count_tbl_1_count_field;
+  end
+  
+  //------- combinatorial assigns for count_single
+  always_comb begin
+    reg_count_single_count_field_next = rg_count_single_count_field;
+    cntr_count_single_count_field_next = { 1'b0, rg_count_single_count_field};
+    if (d2l_count_single_we) cntr_count_single_count_field_next = d2l_count_single_w [7:0] ;
+    if (h2l_count_single_count_field_incr)
+       cntr_count_single_count_field_next = cntr_count_single_count_field_next + 1;
+    reg_count_single_count_field_next = cntr_count_single_count_field_next [7:0] ;
+  end
+  
+  //------- reg assigns for count_single
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_count_single_count_field <= #1 8'h0;
+    end
+    else begin
+      rg_count_single_count_field <= #1  reg_count_single_count_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for count_single (pio read data)
+  always_comb begin
+    l2d_count_single_r = 32'b0;
+    l2d_count_single_r [7:0]  = rg_count_single_count_field;
+  end
+  
+  `ifndef SYNTHESIS
+  //------- covergroup field_cg
+  covergroup field_cg @(posedge clk);
+    rg_status_tbl_reps_status_field: coverpoint (|rg_status_tbl_0_status_field | |rg_status_tbl_1_status_field | |rg_status_tbl_2_status_field | |rg_status_tbl_3_status_field) iff(!reset);
+    rg_status_tbl_reps_valid_field: coverpoint (rg_status_tbl_0_valid_field | rg_status_tbl_1_valid_field | rg_status_tbl_2_valid_field | rg_status_tbl_3_valid_field) iff(!reset);
+    rg_status_single_status_field: coverpoint rg_status_single_status_field iff(!reset);
+    rg_status_single_valid_field: coverpoint rg_status_single_valid_field iff(!reset);
+  endgroup
+  
+  field_cg field_cg_inst = new();
+  
+  //------- covergroup counter_s16_cg
+  covergroup counter_s16_cg;
+    h2l_count_tbl_reps_count_field_incr: coverpoint (h2l_count_tbl_0_count_field_incr | h2l_count_tbl_1_count_field_incr) iff(!reset);
+    h2l_count_single_count_field_incr: coverpoint h2l_count_single_count_field_incr iff(!reset);
+  endgroup
+  
+  counter_s16_cg counter_s16_cg_inst = new();
+  
+  int unsigned counter_s16_cg_sample_rate = 16;  // counter_s16_cg is sampled once every counter_s16_cg_sample_rate clocks (0 disables sampling)
+  int unsigned counter_s16_cg_sample_count = 0;
+  always @(posedge clk) begin
+    if (counter_s16_cg_sample_rate == 0) counter_s16_cg_sample_count <= 0;
+    else if (counter_s16_cg_sample_count + 1 >= counter_s16_cg_sample_rate) begin
+      counter_s16_cg_sample_count <= 0;
+      counter_s16_cg_inst.sample();
+    end
+    else counter_s16_cg_sample_count <= counter_s16_cg_sample_count + 1;
+  end
+  
+  `endif
+endmodule
+
+//
+//---------- module top_jrdl_decode
+//
+module top_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_status_tbl_0_r,
+  l2d_status_tbl_1_r,
+  l2d_status_tbl_2_r,
+  l2d_status_tbl_3_r,
+  l2d_status_single_r,
+  l2d_count_tbl_0_r,
+  l2d_count_tbl_1_r,
+  l2d_count_single_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_status_tbl_0_w,
+  d2l_status_tbl_0_we,
+  d2l_status_tbl_0_re,
+  d2l_status_tbl_1_w,
+  d2l_status_tbl_1_we,
+  d2l_status_tbl_1_re,
+  d2l_status_tbl_2_w,
+  d2l_status_tbl_2_we,
+  d2l_status_tbl_2_re,
+  d2l_status_tbl_3_w,
+  d2l_status_tbl_3_we,
+  d2l_status_tbl_3_re,
+  d2l_status_single_w,
+  d2l_status_single_we,
+  d2l_status_single_re,
+  d2l_count_tbl_0_w,
+  d2l_count_tbl_0_we,
+  d2l_count_tbl_0_re,
+  d2l_count_tbl_1_w,
+  d2l_count_tbl_1_we,
+  d2l_count_tbl_1_re,
+  d2l_count_single_w,
+  d2l_count_single_we,
+  d2l_count_single_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_status_tbl_0_r;
+  input     [31:0] l2d_status_tbl_1_r;
+  input     [31:0] l2d_status_tbl_2_r;
+  input     [31:0] l2d_status_tbl_3_r;
+  input     [31:0] l2d_status_single_r;
+  input     [31:0] l2d_count_tbl_0_r;
+  input     [31:0] l2d_count_tbl_1_r;
+  input     [31:0] l2d_count_single_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_status_tbl_0_w;
+  output    d2l_status_tbl_0_we;
+  output    d2l_status_tbl_0_re;
+  output     [31:0] d2l_status_tbl_1_w;
+  output    d2l_status_tbl_1_we;
+  output    d2l_status_tbl_1_re;
+  output     [31:0] d2l_status_tbl_2_w;
+  output    d2l_status_tbl_2_we;
+  output    d2l_status_tbl_2_re;
+  output     [31:0] d2l_status_tbl_3_w;
+  output    d2l_status_tbl_3_we;
+  output    d2l_status_tbl_3_re;
+  output     [31:0] d2l_status_single_w;
+  output    d2l_status_single_we;
+  output    d2l_status_single_re;
+  output     [31:0] d2l_count_tbl_0_w;
+  output    d2l_count_tbl_0_we;
+  output    d2l_count_tbl_0_re;
+  output     [31:0] d2l_count_tbl_1_w;
+  output    d2l_count_tbl_1_we;
+  output    d2l_count_tbl_1_re;
+  output     [31:0] d2l_count_single_w;
+  output    d2l_count_single_we;
+  output    d2l_count_single_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [8:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_status_tbl_0_w;
+  logic  d2l_status_tbl_0_we;
+  logic  d2l_status_tbl_0_re;
+  logic   [31:0] d2l_status_tbl_1_w;
+  logic  d2l_status_tbl_1_we;
+  logic  d2l_status_tbl_1_re;
+  logic   [31:0] d2l_status_tbl_2_w;
+  logic  d2l_status_tbl_2_we;
+  logic  d2l_status_tbl_2_re;
+  logic   [31:0] d2l_status_tbl_3_w;
+  logic  d2l_status_tbl_3_we;
+  logic  d2l_status_tbl_3_re;
+  logic   [31:0] d2l_status_single_w;
+  logic  d2l_status_single_we;
+  logic  d2l_status_single_re;
+  logic   [31:0] d2l_count_tbl_0_w;
+  logic  d2l_count_tbl_0_we;
+  logic  d2l_count_tbl_0_re;
+  logic   [31:0] d2l_count_tbl_1_w;
+  logic  d2l_count_tbl_1_we;
+  logic  d2l_count_tbl_1_re;
+  logic   [31:0] d2l_count_single_w;
+  logic  d2l_count_single_we;
+  logic  d2l_count_single_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [8:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [8:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_status_tbl_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_status_tbl_0_we = 1'b0;
+    d2l_status_tbl_0_re = 1'b0;
+    d2l_status_tbl_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_status_tbl_1_we = 1'b0;
+    d2l_status_tbl_1_re = 1'b0;
+    d2l_status_tbl_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_status_tbl_2_we = 1'b0;
+    d2l_status_tbl_2_re = 1'b0;
+    d2l_status_tbl_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_status_tbl_3_we = 1'b0;
+    d2l_status_tbl_3_re = 1'b0;
+    d2l_status_single_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_status_single_we = 1'b0;
+    d2l_status_single_re = 1'b0;
+    d2l_count_tbl_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_count_tbl_0_we = 1'b0;
+    d2l_count_tbl_0_re = 1'b0;
+    d2l_count_tbl_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_count_tbl_1_we = 1'b0;
+    d2l_count_tbl_1_re = 1'b0;
+    d2l_count_single_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_count_single_we = 1'b0;
+    d2l_count_single_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: status_tbl_0     Address: 0x0     External: false
+    7'b0000000:
+      begin
+        d2l_status_tbl_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_status_tbl_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_status_tbl_0_r;
+      end
+    //  Register: status_tbl_1     Address: 0x4     External: false
+    7'b0000001:
+      begin
+        d2l_status_tbl_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_status_tbl_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_status_tbl_1_r;
+      end
+    //  Register: status_tbl_2     Address: 0x8     External: false
+    7'b0000010:
+      begin
+        d2l_status_tbl_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_status_tbl_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_status_tbl_2_r;
+      end
+    //  Register: status_tbl_3     Address: 0xc     External: false
+    7'b0000011:
+      begin
+        d2l_status_tbl_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_status_tbl_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_status_tbl_3_r;
+      end
+    //  Register: status_single     Address: 0x10     External: false
+    7'b0000100:
+      begin
+        d2l_status_single_we = pio_write_active & ~dec_pio_ack;
+        d2l_status_single_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_status_single_r;
+      end
+    //  Register: count_tbl_0     Address: 0x100     External: false
+    7'b1000000:
+      begin
+        d2l_count_tbl_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_count_tbl_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_count_tbl_0_r;
+      end
+    //  Register: count_tbl_1     Address: 0x104     External: false
+    7'b1000001:
+      begin
+        d2l_count_tbl_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_count_tbl_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_count_tbl_1_r;
+      end
+    //  Register: count_single     Address: 0x108     External: false
+    7'b1000010:
+      begin
+        d2l_count_single_we = pio_write_active & ~dec_pio_ack;
+        d2l_count_single_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_count_single_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_pio
+//
+module top_pio
+(
+  clk,
+  reset,
+  h2l_status_tbl_0_status_field_w,
+  h2l_status_tbl_0_valid_field_w,
+  h2l_status_tbl_1_status_field_w,
+  h2l_status_tbl_1_valid_field_w,
+  h2l_status_tbl_2_status_field_w,
+  h2l_status_tbl_2_valid_field_w,
+  h2l_status_tbl_3_status_field_w,
+  h2l_status_tbl_3_valid_field_w,
+  h2l_status_single_status_field_w,
+  h2l_status_single_valid_field_w,
+  h2l_count_tbl_0_count_field_incr,
+  h2l_count_tbl_1_count_field_incr,
+  h2l_count_single_count_field_incr,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [3:0] h2l_status_tbl_0_status_field_w;
+  input    h2l_status_tbl_0_valid_field_w;
+  input     [3:0] h2l_status_tbl_1_status_field_w;
+  input    h2l_status_tbl_1_valid_field_w;
+  input     [3:0] h2l_status_tbl_2_status_field_w;
+  input    h2l_status_tbl_2_valid_field_w;
+  input     [3:0] h2l_status_tbl_3_status_field_w;
+  input    h2l_status_tbl_3_valid_field_w;
+  input     [3:0] h2l_status_single_status_field_w;
+  input    h2l_status_single_valid_field_w;
+  input    h2l_count_tbl_0_count_field_incr;
+  input    h2l_count_tbl_1_count_field_incr;
+  input    h2l_count_single_count_field_incr;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_status_tbl_0_w;
+  logic  d2l_status_tbl_0_we;
+  logic  d2l_status_tbl_0_re;
+  logic   [31:0] d2l_status_tbl_1_w;
+  logic  d2l_status_tbl_1_we;
+  logic  d2l_status_tbl_1_re;
+  logic   [31:0] d2l_status_tbl_2_w;
+  logic  d2l_status_tbl_2_we;
+  logic  d2l_status_tbl_2_re;
+  logic   [31:0] d2l_status_tbl_3_w;
+  logic  d2l_status_tbl_3_we;
+  logic  d2l_status_tbl_3_re;
+  logic   [31:0] d2l_status_single_w;
+  logic  d2l_status_single_we;
+  logic  d2l_status_single_re;
+  logic   [31:0] d2l_count_tbl_0_w;
+  logic  d2l_count_tbl_0_we;
+  logic  d2l_count_tbl_0_re;
+  logic   [31:0] d2l_count_tbl_1_w;
+  logic  d2l_count_tbl_1_we;
+  logic  d2l_count_tbl_1_re;
+  logic   [31:0] d2l_count_single_w;
+  logic  d2l_count_single_we;
+  logic  d2l_count_single_re;
+  logic   [31:0] l2d_status_tbl_0_r;
+  logic   [31:0] l2d_status_tbl_1_r;
+  logic   [31:0] l2d_status_tbl_2_r;
+  logic   [31:0] l2d_status_tbl_3_r;
+  logic   [31:0] l2d_status_single_r;
+  logic   [31:0] l2d_count_tbl_0_r;
+  logic   [31:0] l2d_count_tbl_1_r;
+  logic   [31:0] l2d_count_single_r;
+  
+  
+  top_jrdl_decode pio_decode ( .* );
+    
+  top_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
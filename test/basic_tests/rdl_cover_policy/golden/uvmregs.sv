@@ -0,0 +1,174 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_cover_policy/test.rdl
+//   Parms: ./rdl_cover_policy/test.parms
+//   Date: Mon Oct 19 04:44:41 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Status reg
+class reg_top_status_tbl extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl status_field;
+  rand uvm_reg_field_rdl valid_field;
+  
+  function new(string name = "reg_top_status_tbl");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.status_field = new("status_field");
+    this.status_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.status_field.configure(this, 4, 0, "RO", 1, 4'h0, 1, 0, 0);
+    this.valid_field = new("valid_field");
+    this.valid_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.valid_field.configure(this, 1, 4, "RO", 1, 1'h0, 1, 0, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "status_field"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "valid_field"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_status_tbl
+
+// Status reg
+class reg_top_status_single extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl status_field;
+  rand uvm_reg_field_rdl valid_field;
+  
+  function new(string name = "reg_top_status_single");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.status_field = new("status_field");
+    this.status_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.status_field.configure(this, 4, 0, "RO", 1, 4'h0, 1, 0, 0);
+    this.valid_field = new("valid_field");
+    this.valid_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.valid_field.configure(this, 1, 4, "RO", 1, 1'h0, 1, 0, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "status_field"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "valid_field"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_status_single
+
+// Count reg
+class reg_top_count_tbl extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl_counter count_field;
+  
+  function new(string name = "reg_top_count_tbl");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.count_field = new("count_field");
+    this.count_field.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.count_field.add_incr(1, "", "", 0);
+    this.count_field.configure(this, 8, 0, "RW", 1, 8'h0, 1, 1, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "count_field"}, 0, 8);
+  endfunction: build
+  
+endclass : reg_top_count_tbl
+
+// Count reg
+class reg_top_count_single extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl_counter count_field;
+  
+  function new(string name = "reg_top_count_single");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.count_field = new("count_field");
+    this.count_field.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.count_field.add_incr(1, "", "", 0);
+    this.count_field.configure(this, 8, 0, "RW", 1, 8'h0, 1, 1, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "count_field"}, 0, 8);
+  endfunction: build
+  
+endclass : reg_top_count_single
+
+// Base block
+class block_top extends uvm_reg_block_rdl;
+  rand reg_top_status_tbl status_tbl[4];
+  rand reg_top_status_single status_single;
+  rand reg_top_count_tbl count_tbl[2];
+  rand reg_top_count_single count_single;
+  local uvm_reg_addr_t m_offset;
+  
+  covergroup cg_addr;
+      status_tbl: coverpoint m_offset
+          { bins hit = { ['h0 : 'hf] }; }
+      status_single: coverpoint m_offset
+          { bins hit = { 'h10 }; }
+      count_tbl: coverpoint m_offset
+          { bins hit = { ['h100 : 'h107] }; }
+      count_single: coverpoint m_offset
+          { bins hit = { 'h108 }; }
+  endgroup
+  
+  function new(string name = "block_top");
+    super.new(name, build_coverage(UVM_CVR_ADDR_MAP));
+    if (has_coverage(UVM_CVR_ADDR_MAP))
+      cg_addr = new();
+  endfunction: new
+  
+  virtual function void sample(uvm_reg_addr_t offset, bit is_read, uvm_reg_map map);
+    if (get_coverage(UVM_CVR_ADDR_MAP)) begin
+      m_offset  = offset;
+      cg_addr.sample();
+    end
+  endfunction: sample
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`TOP_PIO_INSTANCE_PATH, ".pio_logic"});
+    foreach (this.status_tbl[i]) begin
+      this.status_tbl[i] = new($psprintf("status_tbl [%0d]",i));
+      this.status_tbl[i].configure(this, null, "");
+      this.status_tbl[i].set_rdl_tag($psprintf("status_tbl_%0d_",i));
+      this.status_tbl[i].set_reg_test_info(0, 0, 0);
+      this.status_tbl[i].build();
+      this.default_map.add_reg(this.status_tbl[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h4, "RO", 0);
+    end
+    this.status_single = new("status_single");
+    this.status_single.configure(this, null, "");
+    this.status_single.set_rdl_tag("status_single_");
+    this.status_single.set_reg_test_info(0, 0, 0);
+    this.status_single.build();
+    this.default_map.add_reg(this.status_single, `UVM_REG_ADDR_WIDTH'h10, "RO", 0);
+    foreach (this.count_tbl[i]) begin
+      this.count_tbl[i] = new($psprintf("count_tbl [%0d]",i));
+      this.count_tbl[i].configure(this, null, "");
+      this.count_tbl[i].set_rdl_tag($psprintf("count_tbl_%0d_",i));
+      this.count_tbl[i].set_reg_test_info(0, 0, 0);
+      this.count_tbl[i].build();
+      this.default_map.add_reg(this.count_tbl[i], `UVM_REG_ADDR_WIDTH'h100+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    this.count_single = new("count_single");
+    this.count_single.configure(this, null, "");
+    this.count_single.set_rdl_tag("count_single_");
+    this.count_single.set_reg_test_info(0, 0, 0);
+    this.count_single.build();
+    this.default_map.add_reg(this.count_single, `UVM_REG_ADDR_WIDTH'h108, "RW", 0);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_top)
+endclass : block_top
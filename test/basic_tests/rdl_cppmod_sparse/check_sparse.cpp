@@ -0,0 +1,34 @@
+// check writes, reads and copies of a sparsely allocated c++ model array
+#include <iostream>
+#include "ordt_pio_common.hpp"
+#include "ordt_pio.hpp"
+
+static uint32_t read_data(ordt_addr_elem &elem, uint64_t addr) {
+  ordt_data rdata;
+  if (elem.read(addr, rdata) != 0) std::cout << "ERROR: read of address " << std::hex << addr << " failed\n";
+  return rdata.empty()? 0 : rdata[0];
+}
+
+static void check(const char *desc, uint64_t actual, uint64_t expected) {
+  if (actual != expected) std::cout << "ERROR: " << desc << " is " << std::hex << actual << ", expected " << expected << "\n";
+}
+
+int main() {
+  ordt_root root;
+  const uint64_t data_addr = 0x1000 + 5*0x10 + 0x8;  // entries[5].data_regs[0]
+  const uint64_t ctrl_addr = 0x1000 + 4000*0x10;  // entries[4000].ctrl_reg
+  root.write(data_addr, ordt_data(1, 0x1234));
+  root.write(ctrl_addr, ordt_data(1, 0xabcd));
+  check("original materialized size", root.entries.materialized_size(), 2);
+  // copy must contain its own copies of materialized elements
+  ordt_sparse_addr_elem_array<ordt_rset_entries> copy(root.entries);
+  check("copy materialized size", copy.materialized_size(), 2);
+  check("copy data reg", read_data(copy, data_addr), 0x1234);
+  check("copy ctrl reg", read_data(copy, ctrl_addr), 0xabcd);
+  // writes to the copy must not reach the original
+  copy.write(data_addr, ordt_data(1, 0x5678));
+  check("copy data reg after copy write", read_data(copy, data_addr), 0x5678);
+  check("original data reg after copy write", read_data(root, data_addr), 0x1234);
+  check("original materialized size after copy write", root.entries.materialized_size(), 2);
+  return 0;
+}
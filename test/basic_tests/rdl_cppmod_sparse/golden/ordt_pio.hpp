@@ -0,0 +1,330 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: test.rdl
+//   Parms: test.parms
+//   Date: Mon Oct 19 05:16:19 UTC 2026
+//
+
+#ifndef __ORDT_PIO_HPP_INCLUDED__
+#define __ORDT_PIO_HPP_INCLUDED__
+
+#include <vector>
+#include <iostream>
+#include <memory>
+#include <cstdint>
+#include <algorithm>
+#include <string>
+#include <sstream>
+#include <mutex>
+#include <atomic>
+#include <unordered_map>
+#include <stdexcept>
+#include <utility>
+#define quote(x) #x
+
+enum ordt_read_mode_t : uint8_t {r_none, r_std, r_clr};
+enum ordt_write_mode_t : uint8_t {w_none, w_std, w_1clr, w_1set};
+class ordt_addr_elem {
+  protected:
+    uint64_t m_startaddress;
+    uint64_t m_endaddress;
+  public:
+    ordt_addr_elem(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata) = 0;
+    virtual int read(const uint64_t &addr, ordt_data &rdata) = 0;
+    bool containsAddress(const uint64_t &addr);
+    bool isBelowAddress(const uint64_t &addr);
+    bool isAboveAddress(const uint64_t &addr);
+    bool hasStartAddress(const uint64_t &addr);
+    virtual void update_child_ptrs();
+};
+
+class ordt_regset : public ordt_addr_elem {
+  private:
+    ordt_addr_elem* childElem;
+    ordt_addr_elem* findAddrElem(const uint64_t &addr);
+  protected:
+    std::vector<ordt_addr_elem *>  m_children;
+  public:
+    ordt_regset(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+};
+
+
+template<typename T>
+class ordt_addr_elem_array : public std::vector<T>, public ordt_addr_elem {
+  protected:
+    std::vector<T> vec;
+    uint64_t m_stride;
+  public:
+    ordt_addr_elem_array(uint64_t _m_startaddress, uint64_t _m_endaddress, int _reps, uint64_t _m_stride);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+};
+
+template<typename T>
+ordt_addr_elem_array<T>::ordt_addr_elem_array(uint64_t _m_startaddress, uint64_t _m_endaddress, int _reps, uint64_t _m_stride)
+   : ordt_addr_elem(_m_startaddress, _m_endaddress + (_m_stride * (_reps - 1))), m_stride(_m_stride) {
+   this->reserve(_reps);
+   uint64_t el_startaddress = _m_startaddress;
+   uint64_t el_endaddress = _m_endaddress;
+   for(int idx=0; idx<_reps; idx++) {
+      std::unique_ptr<T> new_elem(new T(el_startaddress, el_endaddress));
+      this->push_back(*new_elem);
+      this->back().update_child_ptrs();
+      el_startaddress += _m_stride;
+      el_endaddress += _m_stride;
+   }
+}
+
+template<typename T>
+int ordt_addr_elem_array<T>::write(const uint64_t &addr, const ordt_data &wdata) {
+   if (this->containsAddress(addr)) {
+      uint64_t idx = (addr - m_startaddress) / m_stride;
+      if (idx < this->size()) return this->at(idx).write(addr, wdata);
+   }
+#ifdef ORDT_PIO_VERBOSE
+   std::cout << "--> write to invalid address " << addr << " in arrayed regset\n";
+#endif
+   return 8;
+}
+
+template<typename T>
+int ordt_addr_elem_array<T>::read(const uint64_t &addr, ordt_data &rdata) {
+   if (this->containsAddress(addr)) {
+      uint64_t idx = (addr - m_startaddress) / m_stride;
+      if (idx < this->size()) return this->at(idx).read(addr, rdata);
+   }
+#ifdef ORDT_PIO_VERBOSE
+   std::cout << "--> read to invalid address " << addr << " in arrayed regset\n";
+#endif
+   rdata.clear();
+   return 8;
+}
+
+
+template<typename T>
+class ordt_sparse_addr_elem_array : public ordt_addr_elem {
+  protected:
+    std::unordered_map<uint64_t, std::unique_ptr<T>> m_elems;
+    mutable std::mutex m_elems_mutex;
+    uint64_t m_reps;
+    uint64_t m_stride;
+    uint64_t m_elemsize;
+    T* find_elem(uint64_t idx);
+  public:
+    ordt_sparse_addr_elem_array(uint64_t _m_startaddress, uint64_t _m_endaddress, int _reps, uint64_t _m_stride);
+    ordt_sparse_addr_elem_array(const ordt_sparse_addr_elem_array<T> &_old);
+    T& at(uint64_t idx);
+    uint64_t size() const;
+    uint64_t materialized_size();
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+};
+
+template<typename T>
+ordt_sparse_addr_elem_array<T>::ordt_sparse_addr_elem_array(uint64_t _m_startaddress, uint64_t _m_endaddress, int _reps, uint64_t _m_stride)
+   : ordt_addr_elem(_m_startaddress, _m_endaddress + (_m_stride * (_reps - 1))), m_elems(), m_elems_mutex(), m_reps(_reps), m_stride(_m_stride), m_elemsize(_m_endaddress - _m_startaddress) {
+}
+
+template<typename T>
+ordt_sparse_addr_elem_array<T>::ordt_sparse_addr_elem_array(const ordt_sparse_addr_elem_array<T> &_old)
+   : ordt_addr_elem(_old), m_elems(), m_elems_mutex(), m_reps(_old.m_reps), m_stride(_old.m_stride), m_elemsize(_old.m_elemsize) {
+   std::lock_guard<std::mutex> m_guard(_old.m_elems_mutex);
+   for (auto it = _old.m_elems.begin(); it != _old.m_elems.end(); ++it) {
+      std::unique_ptr<T> elem(new T(*it->second));
+      elem->update_child_ptrs();
+      m_elems[it->first] = std::move(elem);
+   }
+}
+
+template<typename T>
+T* ordt_sparse_addr_elem_array<T>::find_elem(uint64_t idx) {
+   std::lock_guard<std::mutex> m_guard(m_elems_mutex);
+   auto it = m_elems.find(idx);
+   return (it == m_elems.end())? nullptr : it->second.get();
+}
+
+template<typename T>
+T& ordt_sparse_addr_elem_array<T>::at(uint64_t idx) {
+   if (idx >= m_reps) throw std::out_of_range("ordt_sparse_addr_elem_array index out of range");
+   std::lock_guard<std::mutex> m_guard(m_elems_mutex);
+   std::unique_ptr<T> &elem = m_elems[idx];
+   if (!elem) {
+      uint64_t el_startaddress = m_startaddress + (idx * m_stride);
+      elem.reset(new T(el_startaddress, el_startaddress + m_elemsize));
+   }
+   return *elem;
+}
+
+template<typename T>
+uint64_t ordt_sparse_addr_elem_array<T>::size() const {
+   return m_reps;
+}
+
+template<typename T>
+uint64_t ordt_sparse_addr_elem_array<T>::materialized_size() {
+   std::lock_guard<std::mutex> m_guard(m_elems_mutex);
+   return m_elems.size();
+}
+
+template<typename T>
+int ordt_sparse_addr_elem_array<T>::write(const uint64_t &addr, const ordt_data &wdata) {
+   if (this->containsAddress(addr)) {
+      uint64_t idx = (addr - m_startaddress) / m_stride;
+      if (idx < m_reps) return this->at(idx).write(addr, wdata);
+   }
+#ifdef ORDT_PIO_VERBOSE
+   std::cout << "--> write to invalid address " << addr << " in sparse arrayed regset\n";
+#endif
+   return 8;
+}
+
+template<typename T>
+int ordt_sparse_addr_elem_array<T>::read(const uint64_t &addr, ordt_data &rdata) {
+   if (this->containsAddress(addr)) {
+      uint64_t idx = (addr - m_startaddress) / m_stride;
+      if (idx < m_reps) {
+         T* elem = this->find_elem(idx);
+         if (elem != nullptr) return elem->read(addr, rdata);
+         uint64_t el_startaddress = m_startaddress + (idx * m_stride);
+         T reset_elem(el_startaddress, el_startaddress + m_elemsize);
+         int rc = reset_elem.read(addr, rdata);
+         ordt_data post_rdata;
+         reset_elem.read(addr, post_rdata);
+         if (post_rdata != rdata) this->at(idx).read(addr, post_rdata);
+         return rc;
+      }
+   }
+#ifdef ORDT_PIO_VERBOSE
+   std::cout << "--> read to invalid address " << addr << " in sparse arrayed regset\n";
+#endif
+   rdata.clear();
+   return 8;
+}
+
+class ordt_reg : public ordt_addr_elem {
+  public:
+    std::mutex  m_mutex;
+    ordt_reg(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    ordt_reg(const ordt_reg &_old);
+    virtual void write(const ordt_data &wdata);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual void read(ordt_data &rdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+};
+
+
+template<typename T>
+class ordt_field {
+  public:
+    int lobit, size;
+    T data;
+    ordt_read_mode_t r_mode;
+    ordt_write_mode_t w_mode;
+    ordt_field(int _lobit, int _size, int _vsize, uint32_t _data, ordt_read_mode_t _r_mode, ordt_write_mode_t _w_mode);
+    ordt_field(int _lobit, int _size, T _init_data, ordt_read_mode_t _r_mode, ordt_write_mode_t _w_mode);
+    void write(const ordt_data &wdata);
+    void read(ordt_data &rdata);
+    void clear();
+};
+
+template<typename T>
+ordt_field<T>::ordt_field(int _lobit, int _size, int _vsize, uint32_t _data, ordt_read_mode_t _r_mode, ordt_write_mode_t _w_mode)
+   : lobit(_lobit), size(_size), data(_vsize, _data), r_mode(_r_mode), w_mode(_w_mode) {
+}
+
+template<typename T>
+ordt_field<T>::ordt_field(int _lobit, int _size, T _init_data, ordt_read_mode_t _r_mode, ordt_write_mode_t _w_mode)
+   : lobit(_lobit), size(_size), data(_init_data), r_mode(_r_mode), w_mode(_w_mode) {
+}
+
+template<typename T>
+void ordt_field<T>::write(const ordt_data &wdata) {
+   if (w_mode == w_std) wdata.get_slice(lobit, size, data);
+   else if (w_mode == w_1set) {
+      T mask_data;
+      wdata.get_slice(lobit, size, mask_data);
+      data = data | mask_data;
+   }
+   else if (w_mode == w_1clr) {
+      T mask_data;
+      wdata.get_slice(lobit, size, mask_data);
+      data = data & ~mask_data;
+   }
+}
+
+template<typename T>
+void ordt_field<T>::read(ordt_data &rdata) {
+   rdata.set_slice(lobit, size, data);
+   if (r_mode == r_clr) clear();
+}
+
+template<typename T>
+void ordt_field<T>::clear() {
+    data = 0;
+}
+
+class ordt_rg_first_reg : public ordt_reg {
+  public:
+    ordt_field<uint32_t> lsb_field;
+    ordt_field<uint32_t> msb_field;
+    ordt_rg_first_reg(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual void write(const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+    virtual void read(ordt_data &rdata);
+};
+
+class ordt_rg_entries_ctrl_reg : public ordt_reg {
+  public:
+    ordt_field<uint32_t> lsb_field;
+    ordt_field<uint32_t> msb_field;
+    ordt_rg_entries_ctrl_reg(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual void write(const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+    virtual void read(ordt_data &rdata);
+};
+
+class ordt_rg_entries_data_regs : public ordt_reg {
+  public:
+    ordt_field<uint32_t> lsb_field;
+    ordt_field<uint32_t> msb_field;
+    ordt_rg_entries_data_regs(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual void write(const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+    virtual void read(ordt_data &rdata);
+};
+
+class ordt_rset_entries : public ordt_regset {
+  public:
+    ordt_rg_entries_ctrl_reg ctrl_reg;
+    ordt_addr_elem_array<ordt_rg_entries_data_regs> data_regs;
+    ordt_rset_entries(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual void update_child_ptrs();
+};
+
+class ordt_rg_last_reg : public ordt_reg {
+  public:
+    ordt_field<uint32_t> lsb_field;
+    ordt_field<uint32_t> msb_field;
+    ordt_rg_last_reg(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual int write(const uint64_t &addr, const ordt_data &wdata);
+    virtual void write(const ordt_data &wdata);
+    virtual int read(const uint64_t &addr, ordt_data &rdata);
+    virtual void read(ordt_data &rdata);
+};
+
+class ordt_root : public ordt_regset {
+  public:
+    ordt_rg_first_reg first_reg;
+    ordt_sparse_addr_elem_array<ordt_rset_entries> entries;
+    ordt_rg_last_reg last_reg;
+    ordt_root();
+    ordt_root(uint64_t _m_startaddress, uint64_t _m_endaddress);
+    virtual void update_child_ptrs();
+};
+
+#endif // __ORDT_PIO_HPP_INCLUDED__
@@ -0,0 +1,69 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_cppmod_sparse/test.rdl
+ *   Parms: ./rdl_cppmod_sparse/test.parms
+ *   Date: Mon Oct 19 05:19:45 UTC 2026
+ */
+
+register_set sparse_map "Registers for sparse_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register first_reg "first_reg register" {
+    address = 0x0;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set entries "entries register_set" {
+    address = 0x1000;
+    repeat = 8;
+    
+    register ctrl_reg "ctrl_reg register" {
+      address = 0x0;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register data_regs "data_regs register" {
+      address = 0x8;
+      repeat = 2;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x10;
+  };
+  
+  register last_reg "last_reg register" {
+    address = 0x2000;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set_size = 0x2004;
+};
+
@@ -0,0 +1,2272 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_cppmod_sparse/test.rdl
+//   Parms: ./rdl_cppmod_sparse/test.parms
+//   Date: Mon Oct 19 05:19:45 UTC 2026
+//
+
+//
+//---------- module sparse_map_jrdl_logic
+//
+module sparse_map_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_first_reg_w,
+  d2l_first_reg_we,
+  d2l_first_reg_re,
+  d2l_entries_0_ctrl_reg_w,
+  d2l_entries_0_ctrl_reg_we,
+  d2l_entries_0_ctrl_reg_re,
+  d2l_entries_0_data_regs_0_w,
+  d2l_entries_0_data_regs_0_we,
+  d2l_entries_0_data_regs_0_re,
+  d2l_entries_0_data_regs_1_w,
+  d2l_entries_0_data_regs_1_we,
+  d2l_entries_0_data_regs_1_re,
+  d2l_entries_1_ctrl_reg_w,
+  d2l_entries_1_ctrl_reg_we,
+  d2l_entries_1_ctrl_reg_re,
+  d2l_entries_1_data_regs_0_w,
+  d2l_entries_1_data_regs_0_we,
+  d2l_entries_1_data_regs_0_re,
+  d2l_entries_1_data_regs_1_w,
+  d2l_entries_1_data_regs_1_we,
+  d2l_entries_1_data_regs_1_re,
+  d2l_entries_2_ctrl_reg_w,
+  d2l_entries_2_ctrl_reg_we,
+  d2l_entries_2_ctrl_reg_re,
+  d2l_entries_2_data_regs_0_w,
+  d2l_entries_2_data_regs_0_we,
+  d2l_entries_2_data_regs_0_re,
+  d2l_entries_2_data_regs_1_w,
+  d2l_entries_2_data_regs_1_we,
+  d2l_entries_2_data_regs_1_re,
+  d2l_entries_3_ctrl_reg_w,
+  d2l_entries_3_ctrl_reg_we,
+  d2l_entries_3_ctrl_reg_re,
+  d2l_entries_3_data_regs_0_w,
+  d2l_entries_3_data_regs_0_we,
+  d2l_entries_3_data_regs_0_re,
+  d2l_entries_3_data_regs_1_w,
+  d2l_entries_3_data_regs_1_we,
+  d2l_entries_3_data_regs_1_re,
+  d2l_entries_4_ctrl_reg_w,
+  d2l_entries_4_ctrl_reg_we,
+  d2l_entries_4_ctrl_reg_re,
+  d2l_entries_4_data_regs_0_w,
+  d2l_entries_4_data_regs_0_we,
+  d2l_entries_4_data_regs_0_re,
+  d2l_entries_4_data_regs_1_w,
+  d2l_entries_4_data_regs_1_we,
+  d2l_entries_4_data_regs_1_re,
+  d2l_entries_5_ctrl_reg_w,
+  d2l_entries_5_ctrl_reg_we,
+  d2l_entries_5_ctrl_reg_re,
+  d2l_entries_5_data_regs_0_w,
+  d2l_entries_5_data_regs_0_we,
+  d2l_entries_5_data_regs_0_re,
+  d2l_entries_5_data_regs_1_w,
+  d2l_entries_5_data_regs_1_we,
+  d2l_entries_5_data_regs_1_re,
+  d2l_entries_6_ctrl_reg_w,
+  d2l_entries_6_ctrl_reg_we,
+  d2l_entries_6_ctrl_reg_re,
+  d2l_entries_6_data_regs_0_w,
+  d2l_entries_6_data_regs_0_we,
+  d2l_entries_6_data_regs_0_re,
+  d2l_entries_6_data_regs_1_w,
+  d2l_entries_6_data_regs_1_we,
+  d2l_entries_6_data_regs_1_re,
+  d2l_entries_7_ctrl_reg_w,
+  d2l_entries_7_ctrl_reg_we,
+  d2l_entries_7_ctrl_reg_re,
+  d2l_entries_7_data_regs_0_w,
+  d2l_entries_7_data_regs_0_we,
+  d2l_entries_7_data_regs_0_re,
+  d2l_entries_7_data_regs_1_w,
+  d2l_entries_7_data_regs_1_we,
+  d2l_entries_7_data_regs_1_re,
+  d2l_last_reg_w,
+  d2l_last_reg_we,
+  d2l_last_reg_re,
+
+  l2d_first_reg_r,
+  l2d_entries_0_ctrl_reg_r,
+  l2d_entries_0_data_regs_0_r,
+  l2d_entries_0_data_regs_1_r,
+  l2d_entries_1_ctrl_reg_r,
+  l2d_entries_1_data_regs_0_r,
+  l2d_entries_1_data_regs_1_r,
+  l2d_entries_2_ctrl_reg_r,
+  l2d_entries_2_data_regs_0_r,
+  l2d_entries_2_data_regs_1_r,
+  l2d_entries_3_ctrl_reg_r,
+  l2d_entries_3_data_regs_0_r,
+  l2d_entries_3_data_regs_1_r,
+  l2d_entries_4_ctrl_reg_r,
+  l2d_entries_4_data_regs_0_r,
+  l2d_entries_4_data_regs_1_r,
+  l2d_entries_5_ctrl_reg_r,
+  l2d_entries_5_data_regs_0_r,
+  l2d_entries_5_data_regs_1_r,
+  l2d_entries_6_ctrl_reg_r,
+  l2d_entries_6_data_regs_0_r,
+  l2d_entries_6_data_regs_1_r,
+  l2d_entries_7_ctrl_reg_r,
+  l2d_entries_7_data_regs_0_r,
+  l2d_entries_7_data_regs_1_r,
+  l2d_last_reg_r,
+  l2h_first_reg_lsb_field_r,
+  l2h_first_reg_msb_field_r,
+  l2h_entries_0_ctrl_reg_lsb_field_r,
+  l2h_entries_0_ctrl_reg_msb_field_r,
+  l2h_entries_0_data_regs_0_lsb_field_r,
+  l2h_entries_0_data_regs_0_msb_field_r,
+  l2h_entries_0_data_regs_1_lsb_field_r,
+  l2h_entries_0_data_regs_1_msb_field_r,
+  l2h_entries_1_ctrl_reg_lsb_field_r,
+  l2h_entries_1_ctrl_reg_msb_field_r,
+  l2h_entries_1_data_regs_0_lsb_field_r,
+  l2h_entries_1_data_regs_0_msb_field_r,
+  l2h_entries_1_data_regs_1_lsb_field_r,
+  l2h_entries_1_data_regs_1_msb_field_r,
+  l2h_entries_2_ctrl_reg_lsb_field_r,
+  l2h_entries_2_ctrl_reg_msb_field_r,
+  l2h_entries_2_data_regs_0_lsb_field_r,
+  l2h_entries_2_data_regs_0_msb_field_r,
+  l2h_entries_2_data_regs_1_lsb_field_r,
+  l2h_entries_2_data_regs_1_msb_field_r,
+  l2h_entries_3_ctrl_reg_lsb_field_r,
+  l2h_entries_3_ctrl_reg_msb_field_r,
+  l2h_entries_3_data_regs_0_lsb_field_r,
+  l2h_entries_3_data_regs_0_msb_field_r,
+  l2h_entries_3_data_regs_1_lsb_field_r,
+  l2h_entries_3_data_regs_1_msb_field_r,
+  l2h_entries_4_ctrl_reg_lsb_field_r,
+  l2h_entries_4_ctrl_reg_msb_field_r,
+  l2h_entries_4_data_regs_0_lsb_field_r,
+  l2h_entries_4_data_regs_0_msb_field_r,
+  l2h_entries_4_data_regs_1_lsb_field_r,
+  l2h_entries_4_data_regs_1_msb_field_r,
+  l2h_entries_5_ctrl_reg_lsb_field_r,
+  l2h_entries_5_ctrl_reg_msb_field_r,
+  l2h_entries_5_data_regs_0_lsb_field_r,
+  l2h_entries_5_data_regs_0_msb_field_r,
+  l2h_entries_5_data_regs_1_lsb_field_r,
+  l2h_entries_5_data_regs_1_msb_field_r,
+  l2h_entries_6_ctrl_reg_lsb_field_r,
+  l2h_entries_6_ctrl_reg_msb_field_r,
+  l2h_entries_6_data_regs_0_lsb_field_r,
+  l2h_entries_6_data_regs_0_msb_field_r,
+  l2h_entries_6_data_regs_1_lsb_field_r,
+  l2h_entries_6_data_regs_1_msb_field_r,
+  l2h_entries_7_ctrl_reg_lsb_field_r,
+  l2h_entries_7_ctrl_reg_msb_field_r,
+  l2h_entries_7_data_regs_0_lsb_field_r,
+  l2h_entries_7_data_regs_0_msb_field_r,
+  l2h_entries_7_data_regs_1_lsb_field_r,
+  l2h_entries_7_data_regs_1_msb_field_r,
+  l2h_last_reg_lsb_field_r,
+  l2h_last_reg_msb_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_first_reg_w;
+  input    d2l_first_reg_we;
+  input    d2l_first_reg_re;
+  input     [31:0] d2l_entries_0_ctrl_reg_w;
+  input    d2l_entries_0_ctrl_reg_we;
+  input    d2l_entries_0_ctrl_reg_re;
+  input     [31:0] d2l_entries_0_data_regs_0_w;
+  input    d2l_entries_0_data_regs_0_we;
+  input    d2l_entries_0_data_regs_0_re;
+  input     [31:0] d2l_entries_0_data_regs_1_w;
+  input    d2l_entries_0_data_regs_1_we;
+  input    d2l_entries_0_data_regs_1_re;
+  input     [31:0] d2l_entries_1_ctrl_reg_w;
+  input    d2l_entries_1_ctrl_reg_we;
+  input    d2l_entries_1_ctrl_reg_re;
+  input     [31:0] d2l_entries_1_data_regs_0_w;
+  input    d2l_entries_1_data_regs_0_we;
+  input    d2l_entries_1_data_regs_0_re;
+  input     [31:0] d2l_entries_1_data_regs_1_w;
+  input    d2l_entries_1_data_regs_1_we;
+  input    d2l_entries_1_data_regs_1_re;
+  input     [31:0] d2l_entries_2_ctrl_reg_w;
+  input    d2l_entries_2_ctrl_reg_we;
+  input    d2l_entries_2_ctrl_reg_re;
+  input     [31:0] d2l_entries_2_data_regs_0_w;
+  input    d2l_entries_2_data_regs_0_we;
+  input    d2l_entries_2_data_regs_0_re;
+  input     [31:0] d2l_entries_2_data_regs_1_w;
+  input    d2l_entries_2_data_regs_1_we;
+  input    d2l_entries_2_data_regs_1_re;
+  input     [31:0] d2l_entries_3_ctrl_reg_w;
+  input    d2l_entries_3_ctrl_reg_we;
+  input    d2l_entries_3_ctrl_reg_re;
+  input     [31:0] d2l_entries_3_data_regs_0_w;
+  input    d2l_entries_3_data_regs_0_we;
+  input    d2l_entries_3_data_regs_0_re;
+  input     [31:0] d2l_entries_3_data_regs_1_w;
+  input    d2l_entries_3_data_regs_1_we;
+  input    d2l_entries_3_data_regs_1_re;
+  input     [31:0] d2l_entries_4_ctrl_reg_w;
+  input    d2l_entries_4_ctrl_reg_we;
+  input    d2l_entries_4_ctrl_reg_re;
+  input     [31:0] d2l_entries_4_data_regs_0_w;
+  input    d2l_entries_4_data_regs_0_we;
+  input    d2l_entries_4_data_regs_0_re;
+  input     [31:0] d2l_entries_4_data_regs_1_w;
+  input    d2l_entries_4_data_regs_1_we;
+  input    d2l_entries_4_data_regs_1_re;
+  input     [31:0] d2l_entries_5_ctrl_reg_w;
+  input    d2l_entries_5_ctrl_reg_we;
+  input    d2l_entries_5_ctrl_reg_re;
+  input     [31:0] d2l_entries_5_data_regs_0_w;
+  input    d2l_entries_5_data_regs_0_we;
+  input    d2l_entries_5_data_regs_0_re;
+  input     [31:0] d2l_entries_5_data_regs_1_w;
+  input    d2l_entries_5_data_regs_1_we;
+  input    d2l_entries_5_data_regs_1_re;
+  input     [31:0] d2l_entries_6_ctrl_reg_w;
+  input    d2l_entries_6_ctrl_reg_we;
+  input    d2l_entries_6_ctrl_reg_re;
+  input     [31:0] d2l_entries_6_data_regs_0_w;
+  input    d2l_entries_6_data_regs_0_we;
+  input    d2l_entries_6_data_regs_0_re;
+  input     [31:0] d2l_entries_6_data_regs_1_w;
+  input    d2l_entries_6_data_regs_1_we;
+  input    d2l_entries_6_data_regs_1_re;
+  input     [31:0] d2l_entries_7_ctrl_reg_w;
+  input    d2l_entries_7_ctrl_reg_we;
+  input    d2l_entries_7_ctrl_reg_re;
+  input     [31:0] d2l_entries_7_data_regs_0_w;
+  input    d2l_entries_7_data_regs_0_we;
+  input    d2l_entries_7_data_regs_0_re;
+  input     [31:0] d2l_entries_7_data_regs_1_w;
+  input    d2l_entries_7_data_regs_1_we;
+  input    d2l_entries_7_data_regs_1_re;
+  input     [31:0] d2l_last_reg_w;
+  input    d2l_last_reg_we;
+  input    d2l_last_reg_re;
+
+  //------- outputs
+  output     [31:0] l2d_first_reg_r;
+  output     [31:0] l2d_entries_0_ctrl_reg_r;
+  output     [31:0] l2d_entries_0_data_regs_0_r;
+  output     [31:0] l2d_entries_0_data_regs_1_r;
+  output     [31:0] l2d_entries_1_ctrl_reg_r;
+  output     [31:0] l2d_entries_1_data_regs_0_r;
+  output     [31:0] l2d_entries_1_data_regs_1_r;
+  output     [31:0] l2d_entries_2_ctrl_reg_r;
+  output     [31:0] l2d_entries_2_data_regs_0_r;
+  output     [31:0] l2d_entries_2_data_regs_1_r;
+  output     [31:0] l2d_entries_3_ctrl_reg_r;
+  output     [31:0] l2d_entries_3_data_regs_0_r;
+  output     [31:0] l2d_entries_3_data_regs_1_r;
+  output     [31:0] l2d_entries_4_ctrl_reg_r;
+  output     [31:0] l2d_entries_4_data_regs_0_r;
+  output     [31:0] l2d_entries_4_data_regs_1_r;
+  output     [31:0] l2d_entries_5_ctrl_reg_r;
+  output     [31:0] l2d_entries_5_data_regs_0_r;
+  output     [31:0] l2d_entries_5_data_regs_1_r;
+  output     [31:0] l2d_entries_6_ctrl_reg_r;
+  output     [31:0] l2d_entries_6_data_regs_0_r;
+  output     [31:0] l2d_entries_6_data_regs_1_r;
+  output     [31:0] l2d_entries_7_ctrl_reg_r;
+  output     [31:0] l2d_entries_7_data_regs_0_r;
+  output     [31:0] l2d_entries_7_data_regs_1_r;
+  output     [31:0] l2d_last_reg_r;
+  output     [15:0] l2h_first_reg_lsb_field_r;
+  output     [15:0] l2h_first_reg_msb_field_r;
+  output     [15:0] l2h_entries_0_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_0_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_1_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_1_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_2_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_2_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_3_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_3_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_4_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_4_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_5_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_5_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_6_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_6_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_7_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_7_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_1_msb_field_r;
+  output     [15:0] l2h_last_reg_lsb_field_r;
+  output     [15:0] l2h_last_reg_msb_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_first_reg_lsb_field;
+  logic   [15:0] reg_first_reg_lsb_field_next;
+  logic   [15:0] l2h_first_reg_lsb_field_r;
+  logic   [15:0] rg_first_reg_msb_field;
+  logic   [15:0] reg_first_reg_msb_field_next;
+  logic   [15:0] l2h_first_reg_msb_field_r;
+  logic   [31:0] l2d_first_reg_r;
+  logic   [15:0] rg_entries_0_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_0_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_0_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_0_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_0_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_0_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_0_ctrl_reg_r;
+  logic   [15:0] rg_entries_0_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_0_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_0_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_0_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_0_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_0_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_0_data_regs_0_r;
+  logic   [15:0] rg_entries_0_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_0_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_0_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_0_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_0_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_0_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_0_data_regs_1_r;
+  logic   [15:0] rg_entries_1_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_1_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_1_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_1_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_1_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_1_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_1_ctrl_reg_r;
+  logic   [15:0] rg_entries_1_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_1_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_1_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_1_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_1_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_1_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_1_data_regs_0_r;
+  logic   [15:0] rg_entries_1_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_1_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_1_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_1_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_1_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_1_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_1_data_regs_1_r;
+  logic   [15:0] rg_entries_2_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_2_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_2_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_2_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_2_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_2_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_2_ctrl_reg_r;
+  logic   [15:0] rg_entries_2_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_2_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_2_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_2_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_2_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_2_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_2_data_regs_0_r;
+  logic   [15:0] rg_entries_2_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_2_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_2_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_2_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_2_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_2_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_2_data_regs_1_r;
+  logic   [15:0] rg_entries_3_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_3_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_3_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_3_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_3_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_3_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_3_ctrl_reg_r;
+  logic   [15:0] rg_entries_3_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_3_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_3_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_3_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_3_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_3_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_3_data_regs_0_r;
+  logic   [15:0] rg_entries_3_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_3_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_3_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_3_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_3_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_3_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_3_data_regs_1_r;
+  logic   [15:0] rg_entries_4_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_4_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_4_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_4_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_4_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_4_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_4_ctrl_reg_r;
+  logic   [15:0] rg_entries_4_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_4_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_4_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_4_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_4_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_4_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_4_data_regs_0_r;
+  logic   [15:0] rg_entries_4_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_4_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_4_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_4_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_4_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_4_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_4_data_regs_1_r;
+  logic   [15:0] rg_entries_5_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_5_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_5_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_5_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_5_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_5_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_5_ctrl_reg_r;
+  logic   [15:0] rg_entries_5_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_5_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_5_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_5_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_5_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_5_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_5_data_regs_0_r;
+  logic   [15:0] rg_entries_5_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_5_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_5_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_5_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_5_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_5_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_5_data_regs_1_r;
+  logic   [15:0] rg_entries_6_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_6_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_6_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_6_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_6_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_6_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_6_ctrl_reg_r;
+  logic   [15:0] rg_entries_6_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_6_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_6_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_6_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_6_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_6_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_6_data_regs_0_r;
+  logic   [15:0] rg_entries_6_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_6_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_6_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_6_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_6_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_6_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_6_data_regs_1_r;
+  logic   [15:0] rg_entries_7_ctrl_reg_lsb_field;
+  logic   [15:0] reg_entries_7_ctrl_reg_lsb_field_next;
+  logic   [15:0] l2h_entries_7_ctrl_reg_lsb_field_r;
+  logic   [15:0] rg_entries_7_ctrl_reg_msb_field;
+  logic   [15:0] reg_entries_7_ctrl_reg_msb_field_next;
+  logic   [15:0] l2h_entries_7_ctrl_reg_msb_field_r;
+  logic   [31:0] l2d_entries_7_ctrl_reg_r;
+  logic   [15:0] rg_entries_7_data_regs_0_lsb_field;
+  logic   [15:0] reg_entries_7_data_regs_0_lsb_field_next;
+  logic   [15:0] l2h_entries_7_data_regs_0_lsb_field_r;
+  logic   [15:0] rg_entries_7_data_regs_0_msb_field;
+  logic   [15:0] reg_entries_7_data_regs_0_msb_field_next;
+  logic   [15:0] l2h_entries_7_data_regs_0_msb_field_r;
+  logic   [31:0] l2d_entries_7_data_regs_0_r;
+  logic   [15:0] rg_entries_7_data_regs_1_lsb_field;
+  logic   [15:0] reg_entries_7_data_regs_1_lsb_field_next;
+  logic   [15:0] l2h_entries_7_data_regs_1_lsb_field_r;
+  logic   [15:0] rg_entries_7_data_regs_1_msb_field;
+  logic   [15:0] reg_entries_7_data_regs_1_msb_field_next;
+  logic   [15:0] l2h_entries_7_data_regs_1_msb_field_r;
+  logic   [31:0] l2d_entries_7_data_regs_1_r;
+  logic   [15:0] rg_last_reg_lsb_field;
+  logic   [15:0] reg_last_reg_lsb_field_next;
+  logic   [15:0] l2h_last_reg_lsb_field_r;
+  logic   [15:0] rg_last_reg_msb_field;
+  logic   [15:0] reg_last_reg_msb_field_next;
+  logic   [15:0] l2h_last_reg_msb_field_r;
+  logic   [31:0] l2d_last_reg_r;
+  
+  
+  //------- combinatorial assigns for first_reg
+  always_comb begin
+    reg_first_reg_lsb_field_next = rg_first_reg_lsb_field;
+    l2h_first_reg_lsb_field_r = rg_first_reg_lsb_field;
+    reg_first_reg_msb_field_next = rg_first_reg_msb_field;
+    l2h_first_reg_msb_field_r = rg_first_reg_msb_field;
+    if (d2l_first_reg_we) reg_first_reg_lsb_field_next = d2l_first_reg_w [15:0] ;
+    if (d2l_first_reg_we) reg_first_reg_msb_field_next = d2l_first_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for first_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_first_reg_lsb_field <= #1 16'hffff;
+      rg_first_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_first_reg_lsb_field <= #1  reg_first_reg_lsb_field_next;
+      rg_first_reg_msb_field <= #1  reg_first_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for first_reg (pio read data)
+  always_comb begin
+    l2d_first_reg_r [15:0]  = rg_first_reg_lsb_field;
+    l2d_first_reg_r [31:16]  = rg_first_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_0_ctrl_reg
+  always_comb begin
+    reg_entries_0_ctrl_reg_lsb_field_next = rg_entries_0_ctrl_reg_lsb_field;
+    l2h_entries_0_ctrl_reg_lsb_field_r = rg_entries_0_ctrl_reg_lsb_field;
+    reg_entries_0_ctrl_reg_msb_field_next = rg_entries_0_ctrl_reg_msb_field;
+    l2h_entries_0_ctrl_reg_msb_field_r = rg_entries_0_ctrl_reg_msb_field;
+    if (d2l_entries_0_ctrl_reg_we) reg_entries_0_ctrl_reg_lsb_field_next = d2l_entries_0_ctrl_reg_w [15:0] ;
+    if (d2l_entries_0_ctrl_reg_we) reg_entries_0_ctrl_reg_msb_field_next = d2l_entries_0_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_0_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_0_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_0_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_0_ctrl_reg_lsb_field <= #1  reg_entries_0_ctrl_reg_lsb_field_next;
+      rg_entries_0_ctrl_reg_msb_field <= #1  reg_entries_0_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_0_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_0_ctrl_reg_r [15:0]  = rg_entries_0_ctrl_reg_lsb_field;
+    l2d_entries_0_ctrl_reg_r [31:16]  = rg_entries_0_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_0_data_regs_0
+  always_comb begin
+    reg_entries_0_data_regs_0_lsb_field_next = rg_entries_0_data_regs_0_lsb_field;
+    l2h_entries_0_data_regs_0_lsb_field_r = rg_entries_0_data_regs_0_lsb_field;
+    reg_entries_0_data_regs_0_msb_field_next = rg_entries_0_data_regs_0_msb_field;
+    l2h_entries_0_data_regs_0_msb_field_r = rg_entries_0_data_regs_0_msb_field;
+    if (d2l_entries_0_data_regs_0_we) reg_entries_0_data_regs_0_lsb_field_next = d2l_entries_0_data_regs_0_w [15:0] ;
+    if (d2l_entries_0_data_regs_0_we) reg_entries_0_data_regs_0_msb_field_next = d2l_entries_0_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_0_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_0_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_0_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_0_data_regs_0_lsb_field <= #1  reg_entries_0_data_regs_0_lsb_field_next;
+      rg_entries_0_data_regs_0_msb_field <= #1  reg_entries_0_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_0_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_0_data_regs_0_r [15:0]  = rg_entries_0_data_regs_0_lsb_field;
+    l2d_entries_0_data_regs_0_r [31:16]  = rg_entries_0_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_0_data_regs_1
+  always_comb begin
+    reg_entries_0_data_regs_1_lsb_field_next = rg_entries_0_data_regs_1_lsb_field;
+    l2h_entries_0_data_regs_1_lsb_field_r = rg_entries_0_data_regs_1_lsb_field;
+    reg_entries_0_data_regs_1_msb_field_next = rg_entries_0_data_regs_1_msb_field;
+    l2h_entries_0_data_regs_1_msb_field_r = rg_entries_0_data_regs_1_msb_field;
+    if (d2l_entries_0_data_regs_1_we) reg_entries_0_data_regs_1_lsb_field_next = d2l_entries_0_data_regs_1_w [15:0] ;
+    if (d2l_entries_0_data_regs_1_we) reg_entries_0_data_regs_1_msb_field_next = d2l_entries_0_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_0_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_0_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_0_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_0_data_regs_1_lsb_field <= #1  reg_entries_0_data_regs_1_lsb_field_next;
+      rg_entries_0_data_regs_1_msb_field <= #1  reg_entries_0_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_0_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_0_data_regs_1_r [15:0]  = rg_entries_0_data_regs_1_lsb_field;
+    l2d_entries_0_data_regs_1_r [31:16]  = rg_entries_0_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_1_ctrl_reg
+  always_comb begin
+    reg_entries_1_ctrl_reg_lsb_field_next = rg_entries_1_ctrl_reg_lsb_field;
+    l2h_entries_1_ctrl_reg_lsb_field_r = rg_entries_1_ctrl_reg_lsb_field;
+    reg_entries_1_ctrl_reg_msb_field_next = rg_entries_1_ctrl_reg_msb_field;
+    l2h_entries_1_ctrl_reg_msb_field_r = rg_entries_1_ctrl_reg_msb_field;
+    if (d2l_entries_1_ctrl_reg_we) reg_entries_1_ctrl_reg_lsb_field_next = d2l_entries_1_ctrl_reg_w [15:0] ;
+    if (d2l_entries_1_ctrl_reg_we) reg_entries_1_ctrl_reg_msb_field_next = d2l_entries_1_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_1_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_1_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_1_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_1_ctrl_reg_lsb_field <= #1  reg_entries_1_ctrl_reg_lsb_field_next;
+      rg_entries_1_ctrl_reg_msb_field <= #1  reg_entries_1_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_1_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_1_ctrl_reg_r [15:0]  = rg_entries_1_ctrl_reg_lsb_field;
+    l2d_entries_1_ctrl_reg_r [31:16]  = rg_entries_1_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_1_data_regs_0
+  always_comb begin
+    reg_entries_1_data_regs_0_lsb_field_next = rg_entries_1_data_regs_0_lsb_field;
+    l2h_entries_1_data_regs_0_lsb_field_r = rg_entries_1_data_regs_0_lsb_field;
+    reg_entries_1_data_regs_0_msb_field_next = rg_entries_1_data_regs_0_msb_field;
+    l2h_entries_1_data_regs_0_msb_field_r = rg_entries_1_data_regs_0_msb_field;
+    if (d2l_entries_1_data_regs_0_we) reg_entries_1_data_regs_0_lsb_field_next = d2l_entries_1_data_regs_0_w [15:0] ;
+    if (d2l_entries_1_data_regs_0_we) reg_entries_1_data_regs_0_msb_field_next = d2l_entries_1_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_1_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_1_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_1_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_1_data_regs_0_lsb_field <= #1  reg_entries_1_data_regs_0_lsb_field_next;
+      rg_entries_1_data_regs_0_msb_field <= #1  reg_entries_1_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_1_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_1_data_regs_0_r [15:0]  = rg_entries_1_data_regs_0_lsb_field;
+    l2d_entries_1_data_regs_0_r [31:16]  = rg_entries_1_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_1_data_regs_1
+  always_comb begin
+    reg_entries_1_data_regs_1_lsb_field_next = rg_entries_1_data_regs_1_lsb_field;
+    l2h_entries_1_data_regs_1_lsb_field_r = rg_entries_1_data_regs_1_lsb_field;
+    reg_entries_1_data_regs_1_msb_field_next = rg_entries_1_data_regs_1_msb_field;
+    l2h_entries_1_data_regs_1_msb_field_r = rg_entries_1_data_regs_1_msb_field;
+    if (d2l_entries_1_data_regs_1_we) reg_entries_1_data_regs_1_lsb_field_next = d2l_entries_1_data_regs_1_w [15:0] ;
+    if (d2l_entries_1_data_regs_1_we) reg_entries_1_data_regs_1_msb_field_next = d2l_entries_1_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_1_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_1_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_1_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_1_data_regs_1_lsb_field <= #1  reg_entries_1_data_regs_1_lsb_field_next;
+      rg_entries_1_data_regs_1_msb_field <= #1  reg_entries_1_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_1_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_1_data_regs_1_r [15:0]  = rg_entries_1_data_regs_1_lsb_field;
+    l2d_entries_1_data_regs_1_r [31:16]  = rg_entries_1_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_2_ctrl_reg
+  always_comb begin
+    reg_entries_2_ctrl_reg_lsb_field_next = rg_entries_2_ctrl_reg_lsb_field;
+    l2h_entries_2_ctrl_reg_lsb_field_r = rg_entries_2_ctrl_reg_lsb_field;
+    reg_entries_2_ctrl_reg_msb_field_next = rg_entries_2_ctrl_reg_msb_field;
+    l2h_entries_2_ctrl_reg_msb_field_r = rg_entries_2_ctrl_reg_msb_field;
+    if (d2l_entries_2_ctrl_reg_we) reg_entries_2_ctrl_reg_lsb_field_next = d2l_entries_2_ctrl_reg_w [15:0] ;
+    if (d2l_entries_2_ctrl_reg_we) reg_entries_2_ctrl_reg_msb_field_next = d2l_entries_2_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_2_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_2_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_2_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_2_ctrl_reg_lsb_field <= #1  reg_entries_2_ctrl_reg_lsb_field_next;
+      rg_entries_2_ctrl_reg_msb_field <= #1  reg_entries_2_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_2_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_2_ctrl_reg_r [15:0]  = rg_entries_2_ctrl_reg_lsb_field;
+    l2d_entries_2_ctrl_reg_r [31:16]  = rg_entries_2_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_2_data_regs_0
+  always_comb begin
+    reg_entries_2_data_regs_0_lsb_field_next = rg_entries_2_data_regs_0_lsb_field;
+    l2h_entries_2_data_regs_0_lsb_field_r = rg_entries_2_data_regs_0_lsb_field;
+    reg_entries_2_data_regs_0_msb_field_next = rg_entries_2_data_regs_0_msb_field;
+    l2h_entries_2_data_regs_0_msb_field_r = rg_entries_2_data_regs_0_msb_field;
+    if (d2l_entries_2_data_regs_0_we) reg_entries_2_data_regs_0_lsb_field_next = d2l_entries_2_data_regs_0_w [15:0] ;
+    if (d2l_entries_2_data_regs_0_we) reg_entries_2_data_regs_0_msb_field_next = d2l_entries_2_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_2_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_2_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_2_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_2_data_regs_0_lsb_field <= #1  reg_entries_2_data_regs_0_lsb_field_next;
+      rg_entries_2_data_regs_0_msb_field <= #1  reg_entries_2_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_2_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_2_data_regs_0_r [15:0]  = rg_entries_2_data_regs_0_lsb_field;
+    l2d_entries_2_data_regs_0_r [31:16]  = rg_entries_2_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_2_data_regs_1
+  always_comb begin
+    reg_entries_2_data_regs_1_lsb_field_next = rg_entries_2_data_regs_1_lsb_field;
+    l2h_entries_2_data_regs_1_lsb_field_r = rg_entries_2_data_regs_1_lsb_field;
+    reg_entries_2_data_regs_1_msb_field_next = rg_entries_2_data_regs_1_msb_field;
+    l2h_entries_2_data_regs_1_msb_field_r = rg_entries_2_data_regs_1_msb_field;
+    if (d2l_entries_2_data_regs_1_we) reg_entries_2_data_regs_1_lsb_field_next = d2l_entries_2_data_regs_1_w [15:0] ;
+    if (d2l_entries_2_data_regs_1_we) reg_entries_2_data_regs_1_msb_field_next = d2l_entries_2_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_2_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_2_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_2_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_2_data_regs_1_lsb_field <= #1  reg_entries_2_data_regs_1_lsb_field_next;
+      rg_entries_2_data_regs_1_msb_field <= #1  reg_entries_2_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_2_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_2_data_regs_1_r [15:0]  = rg_entries_2_data_regs_1_lsb_field;
+    l2d_entries_2_data_regs_1_r [31:16]  = rg_entries_2_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_3_ctrl_reg
+  always_comb begin
+    reg_entries_3_ctrl_reg_lsb_field_next = rg_entries_3_ctrl_reg_lsb_field;
+    l2h_entries_3_ctrl_reg_lsb_field_r = rg_entries_3_ctrl_reg_lsb_field;
+    reg_entries_3_ctrl_reg_msb_field_next = rg_entries_3_ctrl_reg_msb_field;
+    l2h_entries_3_ctrl_reg_msb_field_r = rg_entries_3_ctrl_reg_msb_field;
+    if (d2l_entries_3_ctrl_reg_we) reg_entries_3_ctrl_reg_lsb_field_next = d2l_entries_3_ctrl_reg_w [15:0] ;
+    if (d2l_entries_3_ctrl_reg_we) reg_entries_3_ctrl_reg_msb_field_next = d2l_entries_3_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_3_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_3_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_3_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_3_ctrl_reg_lsb_field <= #1  reg_entries_3_ctrl_reg_lsb_field_next;
+      rg_entries_3_ctrl_reg_msb_field <= #1  reg_entries_3_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_3_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_3_ctrl_reg_r [15:0]  = rg_entries_3_ctrl_reg_lsb_field;
+    l2d_entries_3_ctrl_reg_r [31:16]  = rg_entries_3_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_3_data_regs_0
+  always_comb begin
+    reg_entries_3_data_regs_0_lsb_field_next = rg_entries_3_data_regs_0_lsb_field;
+    l2h_entries_3_data_regs_0_lsb_field_r = rg_entries_3_data_regs_0_lsb_field;
+    reg_entries_3_data_regs_0_msb_field_next = rg_entries_3_data_regs_0_msb_field;
+    l2h_entries_3_data_regs_0_msb_field_r = rg_entries_3_data_regs_0_msb_field;
+    if (d2l_entries_3_data_regs_0_we) reg_entries_3_data_regs_0_lsb_field_next = d2l_entries_3_data_regs_0_w [15:0] ;
+    if (d2l_entries_3_data_regs_0_we) reg_entries_3_data_regs_0_msb_field_next = d2l_entries_3_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_3_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_3_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_3_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_3_data_regs_0_lsb_field <= #1  reg_entries_3_data_regs_0_lsb_field_next;
+      rg_entries_3_data_regs_0_msb_field <= #1  reg_entries_3_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_3_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_3_data_regs_0_r [15:0]  = rg_entries_3_data_regs_0_lsb_field;
+    l2d_entries_3_data_regs_0_r [31:16]  = rg_entries_3_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_3_data_regs_1
+  always_comb begin
+    reg_entries_3_data_regs_1_lsb_field_next = rg_entries_3_data_regs_1_lsb_field;
+    l2h_entries_3_data_regs_1_lsb_field_r = rg_entries_3_data_regs_1_lsb_field;
+    reg_entries_3_data_regs_1_msb_field_next = rg_entries_3_data_regs_1_msb_field;
+    l2h_entries_3_data_regs_1_msb_field_r = rg_entries_3_data_regs_1_msb_field;
+    if (d2l_entries_3_data_regs_1_we) reg_entries_3_data_regs_1_lsb_field_next = d2l_entries_3_data_regs_1_w [15:0] ;
+    if (d2l_entries_3_data_regs_1_we) reg_entries_3_data_regs_1_msb_field_next = d2l_entries_3_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_3_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_3_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_3_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_3_data_regs_1_lsb_field <= #1  reg_entries_3_data_regs_1_lsb_field_next;
+      rg_entries_3_data_regs_1_msb_field <= #1  reg_entries_3_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_3_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_3_data_regs_1_r [15:0]  = rg_entries_3_data_regs_1_lsb_field;
+    l2d_entries_3_data_regs_1_r [31:16]  = rg_entries_3_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_4_ctrl_reg
+  always_comb begin
+    reg_entries_4_ctrl_reg_lsb_field_next = rg_entries_4_ctrl_reg_lsb_field;
+    l2h_entries_4_ctrl_reg_lsb_field_r = rg_entries_4_ctrl_reg_lsb_field;
+    reg_entries_4_ctrl_reg_msb_field_next = rg_entries_4_ctrl_reg_msb_field;
+    l2h_entries_4_ctrl_reg_msb_field_r = rg_entries_4_ctrl_reg_msb_field;
+    if (d2l_entries_4_ctrl_reg_we) reg_entries_4_ctrl_reg_lsb_field_next = d2l_entries_4_ctrl_reg_w [15:0] ;
+    if (d2l_entries_4_ctrl_reg_we) reg_entries_4_ctrl_reg_msb_field_next = d2l_entries_4_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_4_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_4_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_4_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_4_ctrl_reg_lsb_field <= #1  reg_entries_4_ctrl_reg_lsb_field_next;
+      rg_entries_4_ctrl_reg_msb_field <= #1  reg_entries_4_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_4_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_4_ctrl_reg_r [15:0]  = rg_entries_4_ctrl_reg_lsb_field;
+    l2d_entries_4_ctrl_reg_r [31:16]  = rg_entries_4_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_4_data_regs_0
+  always_comb begin
+    reg_entries_4_data_regs_0_lsb_field_next = rg_entries_4_data_regs_0_lsb_field;
+    l2h_entries_4_data_regs_0_lsb_field_r = rg_entries_4_data_regs_0_lsb_field;
+    reg_entries_4_data_regs_0_msb_field_next = rg_entries_4_data_regs_0_msb_field;
+    l2h_entries_4_data_regs_0_msb_field_r = rg_entries_4_data_regs_0_msb_field;
+    if (d2l_entries_4_data_regs_0_we) reg_entries_4_data_regs_0_lsb_field_next = d2l_entries_4_data_regs_0_w [15:0] ;
+    if (d2l_entries_4_data_regs_0_we) reg_entries_4_data_regs_0_msb_field_next = d2l_entries_4_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_4_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_4_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_4_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_4_data_regs_0_lsb_field <= #1  reg_entries_4_data_regs_0_lsb_field_next;
+      rg_entries_4_data_regs_0_msb_field <= #1  reg_entries_4_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_4_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_4_data_regs_0_r [15:0]  = rg_entries_4_data_regs_0_lsb_field;
+    l2d_entries_4_data_regs_0_r [31:16]  = rg_entries_4_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_4_data_regs_1
+  always_comb begin
+    reg_entries_4_data_regs_1_lsb_field_next = rg_entries_4_data_regs_1_lsb_field;
+    l2h_entries_4_data_regs_1_lsb_field_r = rg_entries_4_data_regs_1_lsb_field;
+    reg_entries_4_data_regs_1_msb_field_next = rg_entries_4_data_regs_1_msb_field;
+    l2h_entries_4_data_regs_1_msb_field_r = rg_entries_4_data_regs_1_msb_field;
+    if (d2l_entries_4_data_regs_1_we) reg_entries_4_data_regs_1_lsb_field_next = d2l_entries_4_data_regs_1_w [15:0] ;
+    if (d2l_entries_4_data_regs_1_we) reg_entries_4_data_regs_1_msb_field_next = d2l_entries_4_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_4_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_4_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_4_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_4_data_regs_1_lsb_field <= #1  reg_entries_4_data_regs_1_lsb_field_next;
+      rg_entries_4_data_regs_1_msb_field <= #1  reg_entries_4_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_4_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_4_data_regs_1_r [15:0]  = rg_entries_4_data_regs_1_lsb_field;
+    l2d_entries_4_data_regs_1_r [31:16]  = rg_entries_4_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_5_ctrl_reg
+  always_comb begin
+    reg_entries_5_ctrl_reg_lsb_field_next = rg_entries_5_ctrl_reg_lsb_field;
+    l2h_entries_5_ctrl_reg_lsb_field_r = rg_entries_5_ctrl_reg_lsb_field;
+    reg_entries_5_ctrl_reg_msb_field_next = rg_entries_5_ctrl_reg_msb_field;
+    l2h_entries_5_ctrl_reg_msb_field_r = rg_entries_5_ctrl_reg_msb_field;
+    if (d2l_entries_5_ctrl_reg_we) reg_entries_5_ctrl_reg_lsb_field_next = d2l_entries_5_ctrl_reg_w [15:0] ;
+    if (d2l_entries_5_ctrl_reg_we) reg_entries_5_ctrl_reg_msb_field_next = d2l_entries_5_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_5_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_5_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_5_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_5_ctrl_reg_lsb_field <= #1  reg_entries_5_ctrl_reg_lsb_field_next;
+      rg_entries_5_ctrl_reg_msb_field <= #1  reg_entries_5_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_5_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_5_ctrl_reg_r [15:0]  = rg_entries_5_ctrl_reg_lsb_field;
+    l2d_entries_5_ctrl_reg_r [31:16]  = rg_entries_5_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_5_data_regs_0
+  always_comb begin
+    reg_entries_5_data_regs_0_lsb_field_next = rg_entries_5_data_regs_0_lsb_field;
+    l2h_entries_5_data_regs_0_lsb_field_r = rg_entries_5_data_regs_0_lsb_field;
+    reg_entries_5_data_regs_0_msb_field_next = rg_entries_5_data_regs_0_msb_field;
+    l2h_entries_5_data_regs_0_msb_field_r = rg_entries_5_data_regs_0_msb_field;
+    if (d2l_entries_5_data_regs_0_we) reg_entries_5_data_regs_0_lsb_field_next = d2l_entries_5_data_regs_0_w [15:0] ;
+    if (d2l_entries_5_data_regs_0_we) reg_entries_5_data_regs_0_msb_field_next = d2l_entries_5_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_5_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_5_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_5_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_5_data_regs_0_lsb_field <= #1  reg_entries_5_data_regs_0_lsb_field_next;
+      rg_entries_5_data_regs_0_msb_field <= #1  reg_entries_5_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_5_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_5_data_regs_0_r [15:0]  = rg_entries_5_data_regs_0_lsb_field;
+    l2d_entries_5_data_regs_0_r [31:16]  = rg_entries_5_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_5_data_regs_1
+  always_comb begin
+    reg_entries_5_data_regs_1_lsb_field_next = rg_entries_5_data_regs_1_lsb_field;
+    l2h_entries_5_data_regs_1_lsb_field_r = rg_entries_5_data_regs_1_lsb_field;
+    reg_entries_5_data_regs_1_msb_field_next = rg_entries_5_data_regs_1_msb_field;
+    l2h_entries_5_data_regs_1_msb_field_r = rg_entries_5_data_regs_1_msb_field;
+    if (d2l_entries_5_data_regs_1_we) reg_entries_5_data_regs_1_lsb_field_next = d2l_entries_5_data_regs_1_w [15:0] ;
+    if (d2l_entries_5_data_regs_1_we) reg_entries_5_data_regs_1_msb_field_next = d2l_entries_5_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_5_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_5_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_5_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_5_data_regs_1_lsb_field <= #1  reg_entries_5_data_regs_1_lsb_field_next;
+      rg_entries_5_data_regs_1_msb_field <= #1  reg_entries_5_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_5_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_5_data_regs_1_r [15:0]  = rg_entries_5_data_regs_1_lsb_field;
+    l2d_entries_5_data_regs_1_r [31:16]  = rg_entries_5_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_6_ctrl_reg
+  always_comb begin
+    reg_entries_6_ctrl_reg_lsb_field_next = rg_entries_6_ctrl_reg_lsb_field;
+    l2h_entries_6_ctrl_reg_lsb_field_r = rg_entries_6_ctrl_reg_lsb_field;
+    reg_entries_6_ctrl_reg_msb_field_next = rg_entries_6_ctrl_reg_msb_field;
+    l2h_entries_6_ctrl_reg_msb_field_r = rg_entries_6_ctrl_reg_msb_field;
+    if (d2l_entries_6_ctrl_reg_we) reg_entries_6_ctrl_reg_lsb_field_next = d2l_entries_6_ctrl_reg_w [15:0] ;
+    if (d2l_entries_6_ctrl_reg_we) reg_entries_6_ctrl_reg_msb_field_next = d2l_entries_6_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_6_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_6_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_6_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_6_ctrl_reg_lsb_field <= #1  reg_entries_6_ctrl_reg_lsb_field_next;
+      rg_entries_6_ctrl_reg_msb_field <= #1  reg_entries_6_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_6_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_6_ctrl_reg_r [15:0]  = rg_entries_6_ctrl_reg_lsb_field;
+    l2d_entries_6_ctrl_reg_r [31:16]  = rg_entries_6_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_6_data_regs_0
+  always_comb begin
+    reg_entries_6_data_regs_0_lsb_field_next = rg_entries_6_data_regs_0_lsb_field;
+    l2h_entries_6_data_regs_0_lsb_field_r = rg_entries_6_data_regs_0_lsb_field;
+    reg_entries_6_data_regs_0_msb_field_next = rg_entries_6_data_regs_0_msb_field;
+    l2h_entries_6_data_regs_0_msb_field_r = rg_entries_6_data_regs_0_msb_field;
+    if (d2l_entries_6_data_regs_0_we) reg_entries_6_data_regs_0_lsb_field_next = d2l_entries_6_data_regs_0_w [15:0] ;
+    if (d2l_entries_6_data_regs_0_we) reg_entries_6_data_regs_0_msb_field_next = d2l_entries_6_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_6_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_6_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_6_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_6_data_regs_0_lsb_field <= #1  reg_entries_6_data_regs_0_lsb_field_next;
+      rg_entries_6_data_regs_0_msb_field <= #1  reg_entries_6_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_6_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_6_data_regs_0_r [15:0]  = rg_entries_6_data_regs_0_lsb_field;
+    l2d_entries_6_data_regs_0_r [31:16]  = rg_entries_6_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_6_data_regs_1
+  always_comb begin
+    reg_entries_6_data_regs_1_lsb_field_next = rg_entries_6_data_regs_1_lsb_field;
+    l2h_entries_6_data_regs_1_lsb_field_r = rg_entries_6_data_regs_1_lsb_field;
+    reg_entries_6_data_regs_1_msb_field_next = rg_entries_6_data_regs_1_msb_field;
+    l2h_entries_6_data_regs_1_msb_field_r = rg_entries_6_data_regs_1_msb_field;
+    if (d2l_entries_6_data_regs_1_we) reg_entries_6_data_regs_1_lsb_field_next = d2l_entries_6_data_regs_1_w [15:0] ;
+    if (d2l_entries_6_data_regs_1_we) reg_entries_6_data_regs_1_msb_field_next = d2l_entries_6_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_6_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_6_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_6_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_6_data_regs_1_lsb_field <= #1  reg_entries_6_data_regs_1_lsb_field_next;
+      rg_entries_6_data_regs_1_msb_field <= #1  reg_entries_6_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_6_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_6_data_regs_1_r [15:0]  = rg_entries_6_data_regs_1_lsb_field;
+    l2d_entries_6_data_regs_1_r [31:16]  = rg_entries_6_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_7_ctrl_reg
+  always_comb begin
+    reg_entries_7_ctrl_reg_lsb_field_next = rg_entries_7_ctrl_reg_lsb_field;
+    l2h_entries_7_ctrl_reg_lsb_field_r = rg_entries_7_ctrl_reg_lsb_field;
+    reg_entries_7_ctrl_reg_msb_field_next = rg_entries_7_ctrl_reg_msb_field;
+    l2h_entries_7_ctrl_reg_msb_field_r = rg_entries_7_ctrl_reg_msb_field;
+    if (d2l_entries_7_ctrl_reg_we) reg_entries_7_ctrl_reg_lsb_field_next = d2l_entries_7_ctrl_reg_w [15:0] ;
+    if (d2l_entries_7_ctrl_reg_we) reg_entries_7_ctrl_reg_msb_field_next = d2l_entries_7_ctrl_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_7_ctrl_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_7_ctrl_reg_lsb_field <= #1 16'hffff;
+      rg_entries_7_ctrl_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_7_ctrl_reg_lsb_field <= #1  reg_entries_7_ctrl_reg_lsb_field_next;
+      rg_entries_7_ctrl_reg_msb_field <= #1  reg_entries_7_ctrl_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_7_ctrl_reg (pio read data)
+  always_comb begin
+    l2d_entries_7_ctrl_reg_r [15:0]  = rg_entries_7_ctrl_reg_lsb_field;
+    l2d_entries_7_ctrl_reg_r [31:16]  = rg_entries_7_ctrl_reg_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_7_data_regs_0
+  always_comb begin
+    reg_entries_7_data_regs_0_lsb_field_next = rg_entries_7_data_regs_0_lsb_field;
+    l2h_entries_7_data_regs_0_lsb_field_r = rg_entries_7_data_regs_0_lsb_field;
+    reg_entries_7_data_regs_0_msb_field_next = rg_entries_7_data_regs_0_msb_field;
+    l2h_entries_7_data_regs_0_msb_field_r = rg_entries_7_data_regs_0_msb_field;
+    if (d2l_entries_7_data_regs_0_we) reg_entries_7_data_regs_0_lsb_field_next = d2l_entries_7_data_regs_0_w [15:0] ;
+    if (d2l_entries_7_data_regs_0_we) reg_entries_7_data_regs_0_msb_field_next = d2l_entries_7_data_regs_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_7_data_regs_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_7_data_regs_0_lsb_field <= #1 16'hffff;
+      rg_entries_7_data_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_7_data_regs_0_lsb_field <= #1  reg_entries_7_data_regs_0_lsb_field_next;
+      rg_entries_7_data_regs_0_msb_field <= #1  reg_entries_7_data_regs_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_7_data_regs_0 (pio read data)
+  always_comb begin
+    l2d_entries_7_data_regs_0_r [15:0]  = rg_entries_7_data_regs_0_lsb_field;
+    l2d_entries_7_data_regs_0_r [31:16]  = rg_entries_7_data_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for entries_7_data_regs_1
+  always_comb begin
+    reg_entries_7_data_regs_1_lsb_field_next = rg_entries_7_data_regs_1_lsb_field;
+    l2h_entries_7_data_regs_1_lsb_field_r = rg_entries_7_data_regs_1_lsb_field;
+    reg_entries_7_data_regs_1_msb_field_next = rg_entries_7_data_regs_1_msb_field;
+    l2h_entries_7_data_regs_1_msb_field_r = rg_entries_7_data_regs_1_msb_field;
+    if (d2l_entries_7_data_regs_1_we) reg_entries_7_data_regs_1_lsb_field_next = d2l_entries_7_data_regs_1_w [15:0] ;
+    if (d2l_entries_7_data_regs_1_we) reg_entries_7_data_regs_1_msb_field_next = d2l_entries_7_data_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for entries_7_data_regs_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_entries_7_data_regs_1_lsb_field <= #1 16'hffff;
+      rg_entries_7_data_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_entries_7_data_regs_1_lsb_field <= #1  reg_entries_7_data_regs_1_lsb_field_next;
+      rg_entries_7_data_regs_1_msb_field <= #1  reg_entries_7_data_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for entries_7_data_regs_1 (pio read data)
+  always_comb begin
+    l2d_entries_7_data_regs_1_r [15:0]  = rg_entries_7_data_regs_1_lsb_field;
+    l2d_entries_7_data_regs_1_r [31:16]  = rg_entries_7_data_regs_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for last_reg
+  always_comb begin
+    reg_last_reg_lsb_field_next = rg_last_reg_lsb_field;
+    l2h_last_reg_lsb_field_r = rg_last_reg_lsb_field;
+    reg_last_reg_msb_field_next = rg_last_reg_msb_field;
+    l2h_last_reg_msb_field_r = rg_last_reg_msb_field;
+    if (d2l_last_reg_we) reg_last_reg_lsb_field_next = d2l_last_reg_w [15:0] ;
+    if (d2l_last_reg_we) reg_last_reg_msb_field_next = d2l_last_reg_w [31:16] ;
+  end
+  
+  //------- reg assigns for last_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_last_reg_lsb_field <= #1 16'hffff;
+      rg_last_reg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_last_reg_lsb_field <= #1  reg_last_reg_lsb_field_next;
+      rg_last_reg_msb_field <= #1  reg_last_reg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for last_reg (pio read data)
+  always_comb begin
+    l2d_last_reg_r [15:0]  = rg_last_reg_lsb_field;
+    l2d_last_reg_r [31:16]  = rg_last_reg_msb_field;
+  end
+  
+endmodule
+
+//
+//---------- module sparse_map_jrdl_decode
+//
+module sparse_map_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_first_reg_r,
+  l2d_entries_0_ctrl_reg_r,
+  l2d_entries_0_data_regs_0_r,
+  l2d_entries_0_data_regs_1_r,
+  l2d_entries_1_ctrl_reg_r,
+  l2d_entries_1_data_regs_0_r,
+  l2d_entries_1_data_regs_1_r,
+  l2d_entries_2_ctrl_reg_r,
+  l2d_entries_2_data_regs_0_r,
+  l2d_entries_2_data_regs_1_r,
+  l2d_entries_3_ctrl_reg_r,
+  l2d_entries_3_data_regs_0_r,
+  l2d_entries_3_data_regs_1_r,
+  l2d_entries_4_ctrl_reg_r,
+  l2d_entries_4_data_regs_0_r,
+  l2d_entries_4_data_regs_1_r,
+  l2d_entries_5_ctrl_reg_r,
+  l2d_entries_5_data_regs_0_r,
+  l2d_entries_5_data_regs_1_r,
+  l2d_entries_6_ctrl_reg_r,
+  l2d_entries_6_data_regs_0_r,
+  l2d_entries_6_data_regs_1_r,
+  l2d_entries_7_ctrl_reg_r,
+  l2d_entries_7_data_regs_0_r,
+  l2d_entries_7_data_regs_1_r,
+  l2d_last_reg_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_first_reg_w,
+  d2l_first_reg_we,
+  d2l_first_reg_re,
+  d2l_entries_0_ctrl_reg_w,
+  d2l_entries_0_ctrl_reg_we,
+  d2l_entries_0_ctrl_reg_re,
+  d2l_entries_0_data_regs_0_w,
+  d2l_entries_0_data_regs_0_we,
+  d2l_entries_0_data_regs_0_re,
+  d2l_entries_0_data_regs_1_w,
+  d2l_entries_0_data_regs_1_we,
+  d2l_entries_0_data_regs_1_re,
+  d2l_entries_1_ctrl_reg_w,
+  d2l_entries_1_ctrl_reg_we,
+  d2l_entries_1_ctrl_reg_re,
+  d2l_entries_1_data_regs_0_w,
+  d2l_entries_1_data_regs_0_we,
+  d2l_entries_1_data_regs_0_re,
+  d2l_entries_1_data_regs_1_w,
+  d2l_entries_1_data_regs_1_we,
+  d2l_entries_1_data_regs_1_re,
+  d2l_entries_2_ctrl_reg_w,
+  d2l_entries_2_ctrl_reg_we,
+  d2l_entries_2_ctrl_reg_re,
+  d2l_entries_2_data_regs_0_w,
+  d2l_entries_2_data_regs_0_we,
+  d2l_entries_2_data_regs_0_re,
+  d2l_entries_2_data_regs_1_w,
+  d2l_entries_2_data_regs_1_we,
+  d2l_entries_2_data_regs_1_re,
+  d2l_entries_3_ctrl_reg_w,
+  d2l_entries_3_ctrl_reg_we,
+  d2l_entries_3_ctrl_reg_re,
+  d2l_entries_3_data_regs_0_w,
+  d2l_entries_3_data_regs_0_we,
+  d2l_entries_3_data_regs_0_re,
+  d2l_entries_3_data_regs_1_w,
+  d2l_entries_3_data_regs_1_we,
+  d2l_entries_3_data_regs_1_re,
+  d2l_entries_4_ctrl_reg_w,
+  d2l_entries_4_ctrl_reg_we,
+  d2l_entries_4_ctrl_reg_re,
+  d2l_entries_4_data_regs_0_w,
+  d2l_entries_4_data_regs_0_we,
+  d2l_entries_4_data_regs_0_re,
+  d2l_entries_4_data_regs_1_w,
+  d2l_entries_4_data_regs_1_we,
+  d2l_entries_4_data_regs_1_re,
+  d2l_entries_5_ctrl_reg_w,
+  d2l_entries_5_ctrl_reg_we,
+  d2l_entries_5_ctrl_reg_re,
+  d2l_entries_5_data_regs_0_w,
+  d2l_entries_5_data_regs_0_we,
+  d2l_entries_5_data_regs_0_re,
+  d2l_entries_5_data_regs_1_w,
+  d2l_entries_5_data_regs_1_we,
+  d2l_entries_5_data_regs_1_re,
+  d2l_entries_6_ctrl_reg_w,
+  d2l_entries_6_ctrl_reg_we,
+  d2l_entries_6_ctrl_reg_re,
+  d2l_entries_6_data_regs_0_w,
+  d2l_entries_6_data_regs_0_we,
+  d2l_entries_6_data_regs_0_re,
+  d2l_entries_6_data_regs_1_w,
+  d2l_entries_6_data_regs_1_we,
+  d2l_entries_6_data_regs_1_re,
+  d2l_entries_7_ctrl_reg_w,
+  d2l_entries_7_ctrl_reg_we,
+  d2l_entries_7_ctrl_reg_re,
+  d2l_entries_7_data_regs_0_w,
+  d2l_entries_7_data_regs_0_we,
+  d2l_entries_7_data_regs_0_re,
+  d2l_entries_7_data_regs_1_w,
+  d2l_entries_7_data_regs_1_we,
+  d2l_entries_7_data_regs_1_re,
+  d2l_last_reg_w,
+  d2l_last_reg_we,
+  d2l_last_reg_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [19:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_first_reg_r;
+  input     [31:0] l2d_entries_0_ctrl_reg_r;
+  input     [31:0] l2d_entries_0_data_regs_0_r;
+  input     [31:0] l2d_entries_0_data_regs_1_r;
+  input     [31:0] l2d_entries_1_ctrl_reg_r;
+  input     [31:0] l2d_entries_1_data_regs_0_r;
+  input     [31:0] l2d_entries_1_data_regs_1_r;
+  input     [31:0] l2d_entries_2_ctrl_reg_r;
+  input     [31:0] l2d_entries_2_data_regs_0_r;
+  input     [31:0] l2d_entries_2_data_regs_1_r;
+  input     [31:0] l2d_entries_3_ctrl_reg_r;
+  input     [31:0] l2d_entries_3_data_regs_0_r;
+  input     [31:0] l2d_entries_3_data_regs_1_r;
+  input     [31:0] l2d_entries_4_ctrl_reg_r;
+  input     [31:0] l2d_entries_4_data_regs_0_r;
+  input     [31:0] l2d_entries_4_data_regs_1_r;
+  input     [31:0] l2d_entries_5_ctrl_reg_r;
+  input     [31:0] l2d_entries_5_data_regs_0_r;
+  input     [31:0] l2d_entries_5_data_regs_1_r;
+  input     [31:0] l2d_entries_6_ctrl_reg_r;
+  input     [31:0] l2d_entries_6_data_regs_0_r;
+  input     [31:0] l2d_entries_6_data_regs_1_r;
+  input     [31:0] l2d_entries_7_ctrl_reg_r;
+  input     [31:0] l2d_entries_7_data_regs_0_r;
+  input     [31:0] l2d_entries_7_data_regs_1_r;
+  input     [31:0] l2d_last_reg_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_first_reg_w;
+  output    d2l_first_reg_we;
+  output    d2l_first_reg_re;
+  output     [31:0] d2l_entries_0_ctrl_reg_w;
+  output    d2l_entries_0_ctrl_reg_we;
+  output    d2l_entries_0_ctrl_reg_re;
+  output     [31:0] d2l_entries_0_data_regs_0_w;
+  output    d2l_entries_0_data_regs_0_we;
+  output    d2l_entries_0_data_regs_0_re;
+  output     [31:0] d2l_entries_0_data_regs_1_w;
+  output    d2l_entries_0_data_regs_1_we;
+  output    d2l_entries_0_data_regs_1_re;
+  output     [31:0] d2l_entries_1_ctrl_reg_w;
+  output    d2l_entries_1_ctrl_reg_we;
+  output    d2l_entries_1_ctrl_reg_re;
+  output     [31:0] d2l_entries_1_data_regs_0_w;
+  output    d2l_entries_1_data_regs_0_we;
+  output    d2l_entries_1_data_regs_0_re;
+  output     [31:0] d2l_entries_1_data_regs_1_w;
+  output    d2l_entries_1_data_regs_1_we;
+  output    d2l_entries_1_data_regs_1_re;
+  output     [31:0] d2l_entries_2_ctrl_reg_w;
+  output    d2l_entries_2_ctrl_reg_we;
+  output    d2l_entries_2_ctrl_reg_re;
+  output     [31:0] d2l_entries_2_data_regs_0_w;
+  output    d2l_entries_2_data_regs_0_we;
+  output    d2l_entries_2_data_regs_0_re;
+  output     [31:0] d2l_entries_2_data_regs_1_w;
+  output    d2l_entries_2_data_regs_1_we;
+  output    d2l_entries_2_data_regs_1_re;
+  output     [31:0] d2l_entries_3_ctrl_reg_w;
+  output    d2l_entries_3_ctrl_reg_we;
+  output    d2l_entries_3_ctrl_reg_re;
+  output     [31:0] d2l_entries_3_data_regs_0_w;
+  output    d2l_entries_3_data_regs_0_we;
+  output    d2l_entries_3_data_regs_0_re;
+  output     [31:0] d2l_entries_3_data_regs_1_w;
+  output    d2l_entries_3_data_regs_1_we;
+  output    d2l_entries_3_data_regs_1_re;
+  output     [31:0] d2l_entries_4_ctrl_reg_w;
+  output    d2l_entries_4_ctrl_reg_we;
+  output    d2l_entries_4_ctrl_reg_re;
+  output     [31:0] d2l_entries_4_data_regs_0_w;
+  output    d2l_entries_4_data_regs_0_we;
+  output    d2l_entries_4_data_regs_0_re;
+  output     [31:0] d2l_entries_4_data_regs_1_w;
+  output    d2l_entries_4_data_regs_1_we;
+  output    d2l_entries_4_data_regs_1_re;
+  output     [31:0] d2l_entries_5_ctrl_reg_w;
+  output    d2l_entries_5_ctrl_reg_we;
+  output    d2l_entries_5_ctrl_reg_re;
+  output     [31:0] d2l_entries_5_data_regs_0_w;
+  output    d2l_entries_5_data_regs_0_we;
+  output    d2l_entries_5_data_regs_0_re;
+  output     [31:0] d2l_entries_5_data_regs_1_w;
+  output    d2l_entries_5_data_regs_1_we;
+  output    d2l_entries_5_data_regs_1_re;
+  output     [31:0] d2l_entries_6_ctrl_reg_w;
+  output    d2l_entries_6_ctrl_reg_we;
+  output    d2l_entries_6_ctrl_reg_re;
+  output     [31:0] d2l_entries_6_data_regs_0_w;
+  output    d2l_entries_6_data_regs_0_we;
+  output    d2l_entries_6_data_regs_0_re;
+  output     [31:0] d2l_entries_6_data_regs_1_w;
+  output    d2l_entries_6_data_regs_1_we;
+  output    d2l_entries_6_data_regs_1_re;
+  output     [31:0] d2l_entries_7_ctrl_reg_w;
+  output    d2l_entries_7_ctrl_reg_we;
+  output    d2l_entries_7_ctrl_reg_re;
+  output     [31:0] d2l_entries_7_data_regs_0_w;
+  output    d2l_entries_7_data_regs_0_we;
+  output    d2l_entries_7_data_regs_0_re;
+  output     [31:0] d2l_entries_7_data_regs_1_w;
+  output    d2l_entries_7_data_regs_1_we;
+  output    d2l_entries_7_data_regs_1_re;
+  output     [31:0] d2l_last_reg_w;
+  output    d2l_last_reg_we;
+  output    d2l_last_reg_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [13:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [19:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_first_reg_w;
+  logic  d2l_first_reg_we;
+  logic  d2l_first_reg_re;
+  logic   [31:0] d2l_entries_0_ctrl_reg_w;
+  logic  d2l_entries_0_ctrl_reg_we;
+  logic  d2l_entries_0_ctrl_reg_re;
+  logic   [31:0] d2l_entries_0_data_regs_0_w;
+  logic  d2l_entries_0_data_regs_0_we;
+  logic  d2l_entries_0_data_regs_0_re;
+  logic   [31:0] d2l_entries_0_data_regs_1_w;
+  logic  d2l_entries_0_data_regs_1_we;
+  logic  d2l_entries_0_data_regs_1_re;
+  logic   [31:0] d2l_entries_1_ctrl_reg_w;
+  logic  d2l_entries_1_ctrl_reg_we;
+  logic  d2l_entries_1_ctrl_reg_re;
+  logic   [31:0] d2l_entries_1_data_regs_0_w;
+  logic  d2l_entries_1_data_regs_0_we;
+  logic  d2l_entries_1_data_regs_0_re;
+  logic   [31:0] d2l_entries_1_data_regs_1_w;
+  logic  d2l_entries_1_data_regs_1_we;
+  logic  d2l_entries_1_data_regs_1_re;
+  logic   [31:0] d2l_entries_2_ctrl_reg_w;
+  logic  d2l_entries_2_ctrl_reg_we;
+  logic  d2l_entries_2_ctrl_reg_re;
+  logic   [31:0] d2l_entries_2_data_regs_0_w;
+  logic  d2l_entries_2_data_regs_0_we;
+  logic  d2l_entries_2_data_regs_0_re;
+  logic   [31:0] d2l_entries_2_data_regs_1_w;
+  logic  d2l_entries_2_data_regs_1_we;
+  logic  d2l_entries_2_data_regs_1_re;
+  logic   [31:0] d2l_entries_3_ctrl_reg_w;
+  logic  d2l_entries_3_ctrl_reg_we;
+  logic  d2l_entries_3_ctrl_reg_re;
+  logic   [31:0] d2l_entries_3_data_regs_0_w;
+  logic  d2l_entries_3_data_regs_0_we;
+  logic  d2l_entries_3_data_regs_0_re;
+  logic   [31:0] d2l_entries_3_data_regs_1_w;
+  logic  d2l_entries_3_data_regs_1_we;
+  logic  d2l_entries_3_data_regs_1_re;
+  logic   [31:0] d2l_entries_4_ctrl_reg_w;
+  logic  d2l_entries_4_ctrl_reg_we;
+  logic  d2l_entries_4_ctrl_reg_re;
+  logic   [31:0] d2l_entries_4_data_regs_0_w;
+  logic  d2l_entries_4_data_regs_0_we;
+  logic  d2l_entries_4_data_regs_0_re;
+  logic   [31:0] d2l_entries_4_data_regs_1_w;
+  logic  d2l_entries_4_data_regs_1_we;
+  logic  d2l_entries_4_data_regs_1_re;
+  logic   [31:0] d2l_entries_5_ctrl_reg_w;
+  logic  d2l_entries_5_ctrl_reg_we;
+  logic  d2l_entries_5_ctrl_reg_re;
+  logic   [31:0] d2l_entries_5_data_regs_0_w;
+  logic  d2l_entries_5_data_regs_0_we;
+  logic  d2l_entries_5_data_regs_0_re;
+  logic   [31:0] d2l_entries_5_data_regs_1_w;
+  logic  d2l_entries_5_data_regs_1_we;
+  logic  d2l_entries_5_data_regs_1_re;
+  logic   [31:0] d2l_entries_6_ctrl_reg_w;
+  logic  d2l_entries_6_ctrl_reg_we;
+  logic  d2l_entries_6_ctrl_reg_re;
+  logic   [31:0] d2l_entries_6_data_regs_0_w;
+  logic  d2l_entries_6_data_regs_0_we;
+  logic  d2l_entries_6_data_regs_0_re;
+  logic   [31:0] d2l_entries_6_data_regs_1_w;
+  logic  d2l_entries_6_data_regs_1_we;
+  logic  d2l_entries_6_data_regs_1_re;
+  logic   [31:0] d2l_entries_7_ctrl_reg_w;
+  logic  d2l_entries_7_ctrl_reg_we;
+  logic  d2l_entries_7_ctrl_reg_re;
+  logic   [31:0] d2l_entries_7_data_regs_0_w;
+  logic  d2l_entries_7_data_regs_0_we;
+  logic  d2l_entries_7_data_regs_0_re;
+  logic   [31:0] d2l_entries_7_data_regs_1_w;
+  logic  d2l_entries_7_data_regs_1_we;
+  logic  d2l_entries_7_data_regs_1_re;
+  logic   [31:0] d2l_last_reg_w;
+  logic  d2l_last_reg_we;
+  logic  d2l_last_reg_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [13:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [13:2] ;
+  assign  block_sel_addr = 20'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_first_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_first_reg_we = 1'b0;
+    d2l_first_reg_re = 1'b0;
+    d2l_entries_0_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_0_ctrl_reg_we = 1'b0;
+    d2l_entries_0_ctrl_reg_re = 1'b0;
+    d2l_entries_0_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_0_data_regs_0_we = 1'b0;
+    d2l_entries_0_data_regs_0_re = 1'b0;
+    d2l_entries_0_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_0_data_regs_1_we = 1'b0;
+    d2l_entries_0_data_regs_1_re = 1'b0;
+    d2l_entries_1_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_1_ctrl_reg_we = 1'b0;
+    d2l_entries_1_ctrl_reg_re = 1'b0;
+    d2l_entries_1_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_1_data_regs_0_we = 1'b0;
+    d2l_entries_1_data_regs_0_re = 1'b0;
+    d2l_entries_1_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_1_data_regs_1_we = 1'b0;
+    d2l_entries_1_data_regs_1_re = 1'b0;
+    d2l_entries_2_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_2_ctrl_reg_we = 1'b0;
+    d2l_entries_2_ctrl_reg_re = 1'b0;
+    d2l_entries_2_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_2_data_regs_0_we = 1'b0;
+    d2l_entries_2_data_regs_0_re = 1'b0;
+    d2l_entries_2_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_2_data_regs_1_we = 1'b0;
+    d2l_entries_2_data_regs_1_re = 1'b0;
+    d2l_entries_3_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_3_ctrl_reg_we = 1'b0;
+    d2l_entries_3_ctrl_reg_re = 1'b0;
+    d2l_entries_3_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_3_data_regs_0_we = 1'b0;
+    d2l_entries_3_data_regs_0_re = 1'b0;
+    d2l_entries_3_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_3_data_regs_1_we = 1'b0;
+    d2l_entries_3_data_regs_1_re = 1'b0;
+    d2l_entries_4_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_4_ctrl_reg_we = 1'b0;
+    d2l_entries_4_ctrl_reg_re = 1'b0;
+    d2l_entries_4_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_4_data_regs_0_we = 1'b0;
+    d2l_entries_4_data_regs_0_re = 1'b0;
+    d2l_entries_4_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_4_data_regs_1_we = 1'b0;
+    d2l_entries_4_data_regs_1_re = 1'b0;
+    d2l_entries_5_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_5_ctrl_reg_we = 1'b0;
+    d2l_entries_5_ctrl_reg_re = 1'b0;
+    d2l_entries_5_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_5_data_regs_0_we = 1'b0;
+    d2l_entries_5_data_regs_0_re = 1'b0;
+    d2l_entries_5_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_5_data_regs_1_we = 1'b0;
+    d2l_entries_5_data_regs_1_re = 1'b0;
+    d2l_entries_6_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_6_ctrl_reg_we = 1'b0;
+    d2l_entries_6_ctrl_reg_re = 1'b0;
+    d2l_entries_6_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_6_data_regs_0_we = 1'b0;
+    d2l_entries_6_data_regs_0_re = 1'b0;
+    d2l_entries_6_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_6_data_regs_1_we = 1'b0;
+    d2l_entries_6_data_regs_1_re = 1'b0;
+    d2l_entries_7_ctrl_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_7_ctrl_reg_we = 1'b0;
+    d2l_entries_7_ctrl_reg_re = 1'b0;
+    d2l_entries_7_data_regs_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_7_data_regs_0_we = 1'b0;
+    d2l_entries_7_data_regs_0_re = 1'b0;
+    d2l_entries_7_data_regs_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_entries_7_data_regs_1_we = 1'b0;
+    d2l_entries_7_data_regs_1_re = 1'b0;
+    d2l_last_reg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_last_reg_we = 1'b0;
+    d2l_last_reg_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: first_reg     Address: 0x0     External: false
+    12'b000000000000:
+      begin
+        d2l_first_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_first_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_first_reg_r;
+      end
+    //  Register: entries_0.ctrl_reg     Address: 0x1000     External: false
+    12'b010000000000:
+      begin
+        d2l_entries_0_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_0_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_0_ctrl_reg_r;
+      end
+    //  Register: entries_0.data_regs_0     Address: 0x1008     External: false
+    12'b010000000010:
+      begin
+        d2l_entries_0_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_0_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_0_data_regs_0_r;
+      end
+    //  Register: entries_0.data_regs_1     Address: 0x100c     External: false
+    12'b010000000011:
+      begin
+        d2l_entries_0_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_0_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_0_data_regs_1_r;
+      end
+    //  Register: entries_1.ctrl_reg     Address: 0x1010     External: false
+    12'b010000000100:
+      begin
+        d2l_entries_1_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_1_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_1_ctrl_reg_r;
+      end
+    //  Register: entries_1.data_regs_0     Address: 0x1018     External: false
+    12'b010000000110:
+      begin
+        d2l_entries_1_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_1_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_1_data_regs_0_r;
+      end
+    //  Register: entries_1.data_regs_1     Address: 0x101c     External: false
+    12'b010000000111:
+      begin
+        d2l_entries_1_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_1_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_1_data_regs_1_r;
+      end
+    //  Register: entries_2.ctrl_reg     Address: 0x1020     External: false
+    12'b010000001000:
+      begin
+        d2l_entries_2_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_2_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_2_ctrl_reg_r;
+      end
+    //  Register: entries_2.data_regs_0     Address: 0x1028     External: false
+    12'b010000001010:
+      begin
+        d2l_entries_2_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_2_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_2_data_regs_0_r;
+      end
+    //  Register: entries_2.data_regs_1     Address: 0x102c     External: false
+    12'b010000001011:
+      begin
+        d2l_entries_2_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_2_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_2_data_regs_1_r;
+      end
+    //  Register: entries_3.ctrl_reg     Address: 0x1030     External: false
+    12'b010000001100:
+      begin
+        d2l_entries_3_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_3_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_3_ctrl_reg_r;
+      end
+    //  Register: entries_3.data_regs_0     Address: 0x1038     External: false
+    12'b010000001110:
+      begin
+        d2l_entries_3_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_3_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_3_data_regs_0_r;
+      end
+    //  Register: entries_3.data_regs_1     Address: 0x103c     External: false
+    12'b010000001111:
+      begin
+        d2l_entries_3_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_3_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_3_data_regs_1_r;
+      end
+    //  Register: entries_4.ctrl_reg     Address: 0x1040     External: false
+    12'b010000010000:
+      begin
+        d2l_entries_4_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_4_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_4_ctrl_reg_r;
+      end
+    //  Register: entries_4.data_regs_0     Address: 0x1048     External: false
+    12'b010000010010:
+      begin
+        d2l_entries_4_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_4_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_4_data_regs_0_r;
+      end
+    //  Register: entries_4.data_regs_1     Address: 0x104c     External: false
+    12'b010000010011:
+      begin
+        d2l_entries_4_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_4_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_4_data_regs_1_r;
+      end
+    //  Register: entries_5.ctrl_reg     Address: 0x1050     External: false
+    12'b010000010100:
+      begin
+        d2l_entries_5_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_5_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_5_ctrl_reg_r;
+      end
+    //  Register: entries_5.data_regs_0     Address: 0x1058     External: false
+    12'b010000010110:
+      begin
+        d2l_entries_5_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_5_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_5_data_regs_0_r;
+      end
+    //  Register: entries_5.data_regs_1     Address: 0x105c     External: false
+    12'b010000010111:
+      begin
+        d2l_entries_5_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_5_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_5_data_regs_1_r;
+      end
+    //  Register: entries_6.ctrl_reg     Address: 0x1060     External: false
+    12'b010000011000:
+      begin
+        d2l_entries_6_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_6_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_6_ctrl_reg_r;
+      end
+    //  Register: entries_6.data_regs_0     Address: 0x1068     External: false
+    12'b010000011010:
+      begin
+        d2l_entries_6_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_6_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_6_data_regs_0_r;
+      end
+    //  Register: entries_6.data_regs_1     Address: 0x106c     External: false
+    12'b010000011011:
+      begin
+        d2l_entries_6_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_6_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_6_data_regs_1_r;
+      end
+    //  Register: entries_7.ctrl_reg     Address: 0x1070     External: false
+    12'b010000011100:
+      begin
+        d2l_entries_7_ctrl_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_7_ctrl_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_7_ctrl_reg_r;
+      end
+    //  Register: entries_7.data_regs_0     Address: 0x1078     External: false
+    12'b010000011110:
+      begin
+        d2l_entries_7_data_regs_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_7_data_regs_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_7_data_regs_0_r;
+      end
+    //  Register: entries_7.data_regs_1     Address: 0x107c     External: false
+    12'b010000011111:
+      begin
+        d2l_entries_7_data_regs_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_entries_7_data_regs_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_entries_7_data_regs_1_r;
+      end
+    //  Register: last_reg     Address: 0x2000     External: false
+    12'b100000000000:
+      begin
+        d2l_last_reg_we = pio_write_active & ~dec_pio_ack;
+        d2l_last_reg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_last_reg_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module sparse_map_pio
+//
+module sparse_map_pio
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_first_reg_lsb_field_r,
+  l2h_first_reg_msb_field_r,
+  l2h_entries_0_ctrl_reg_lsb_field_r,
+  l2h_entries_0_ctrl_reg_msb_field_r,
+  l2h_entries_0_data_regs_0_lsb_field_r,
+  l2h_entries_0_data_regs_0_msb_field_r,
+  l2h_entries_0_data_regs_1_lsb_field_r,
+  l2h_entries_0_data_regs_1_msb_field_r,
+  l2h_entries_1_ctrl_reg_lsb_field_r,
+  l2h_entries_1_ctrl_reg_msb_field_r,
+  l2h_entries_1_data_regs_0_lsb_field_r,
+  l2h_entries_1_data_regs_0_msb_field_r,
+  l2h_entries_1_data_regs_1_lsb_field_r,
+  l2h_entries_1_data_regs_1_msb_field_r,
+  l2h_entries_2_ctrl_reg_lsb_field_r,
+  l2h_entries_2_ctrl_reg_msb_field_r,
+  l2h_entries_2_data_regs_0_lsb_field_r,
+  l2h_entries_2_data_regs_0_msb_field_r,
+  l2h_entries_2_data_regs_1_lsb_field_r,
+  l2h_entries_2_data_regs_1_msb_field_r,
+  l2h_entries_3_ctrl_reg_lsb_field_r,
+  l2h_entries_3_ctrl_reg_msb_field_r,
+  l2h_entries_3_data_regs_0_lsb_field_r,
+  l2h_entries_3_data_regs_0_msb_field_r,
+  l2h_entries_3_data_regs_1_lsb_field_r,
+  l2h_entries_3_data_regs_1_msb_field_r,
+  l2h_entries_4_ctrl_reg_lsb_field_r,
+  l2h_entries_4_ctrl_reg_msb_field_r,
+  l2h_entries_4_data_regs_0_lsb_field_r,
+  l2h_entries_4_data_regs_0_msb_field_r,
+  l2h_entries_4_data_regs_1_lsb_field_r,
+  l2h_entries_4_data_regs_1_msb_field_r,
+  l2h_entries_5_ctrl_reg_lsb_field_r,
+  l2h_entries_5_ctrl_reg_msb_field_r,
+  l2h_entries_5_data_regs_0_lsb_field_r,
+  l2h_entries_5_data_regs_0_msb_field_r,
+  l2h_entries_5_data_regs_1_lsb_field_r,
+  l2h_entries_5_data_regs_1_msb_field_r,
+  l2h_entries_6_ctrl_reg_lsb_field_r,
+  l2h_entries_6_ctrl_reg_msb_field_r,
+  l2h_entries_6_data_regs_0_lsb_field_r,
+  l2h_entries_6_data_regs_0_msb_field_r,
+  l2h_entries_6_data_regs_1_lsb_field_r,
+  l2h_entries_6_data_regs_1_msb_field_r,
+  l2h_entries_7_ctrl_reg_lsb_field_r,
+  l2h_entries_7_ctrl_reg_msb_field_r,
+  l2h_entries_7_data_regs_0_lsb_field_r,
+  l2h_entries_7_data_regs_0_msb_field_r,
+  l2h_entries_7_data_regs_1_lsb_field_r,
+  l2h_entries_7_data_regs_1_msb_field_r,
+  l2h_last_reg_lsb_field_r,
+  l2h_last_reg_msb_field_r,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [19:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [15:0] l2h_first_reg_lsb_field_r;
+  output     [15:0] l2h_first_reg_msb_field_r;
+  output     [15:0] l2h_entries_0_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_0_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_0_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_1_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_1_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_1_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_2_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_2_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_2_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_3_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_3_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_3_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_4_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_4_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_4_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_5_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_5_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_5_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_6_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_6_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_6_data_regs_1_msb_field_r;
+  output     [15:0] l2h_entries_7_ctrl_reg_lsb_field_r;
+  output     [15:0] l2h_entries_7_ctrl_reg_msb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_0_lsb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_0_msb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_1_lsb_field_r;
+  output     [15:0] l2h_entries_7_data_regs_1_msb_field_r;
+  output     [15:0] l2h_last_reg_lsb_field_r;
+  output     [15:0] l2h_last_reg_msb_field_r;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_first_reg_w;
+  logic  d2l_first_reg_we;
+  logic  d2l_first_reg_re;
+  logic   [31:0] d2l_entries_0_ctrl_reg_w;
+  logic  d2l_entries_0_ctrl_reg_we;
+  logic  d2l_entries_0_ctrl_reg_re;
+  logic   [31:0] d2l_entries_0_data_regs_0_w;
+  logic  d2l_entries_0_data_regs_0_we;
+  logic  d2l_entries_0_data_regs_0_re;
+  logic   [31:0] d2l_entries_0_data_regs_1_w;
+  logic  d2l_entries_0_data_regs_1_we;
+  logic  d2l_entries_0_data_regs_1_re;
+  logic   [31:0] d2l_entries_1_ctrl_reg_w;
+  logic  d2l_entries_1_ctrl_reg_we;
+  logic  d2l_entries_1_ctrl_reg_re;
+  logic   [31:0] d2l_entries_1_data_regs_0_w;
+  logic  d2l_entries_1_data_regs_0_we;
+  logic  d2l_entries_1_data_regs_0_re;
+  logic   [31:0] d2l_entries_1_data_regs_1_w;
+  logic  d2l_entries_1_data_regs_1_we;
+  logic  d2l_entries_1_data_regs_1_re;
+  logic   [31:0] d2l_entries_2_ctrl_reg_w;
+  logic  d2l_entries_2_ctrl_reg_we;
+  logic  d2l_entries_2_ctrl_reg_re;
+  logic   [31:0] d2l_entries_2_data_regs_0_w;
+  logic  d2l_entries_2_data_regs_0_we;
+  logic  d2l_entries_2_data_regs_0_re;
+  logic   [31:0] d2l_entries_2_data_regs_1_w;
+  logic  d2l_entries_2_data_regs_1_we;
+  logic  d2l_entries_2_data_regs_1_re;
+  logic   [31:0] d2l_entries_3_ctrl_reg_w;
+  logic  d2l_entries_3_ctrl_reg_we;
+  logic  d2l_entries_3_ctrl_reg_re;
+  logic   [31:0] d2l_entries_3_data_regs_0_w;
+  logic  d2l_entries_3_data_regs_0_we;
+  logic  d2l_entries_3_data_regs_0_re;
+  logic   [31:0] d2l_entries_3_data_regs_1_w;
+  logic  d2l_entries_3_data_regs_1_we;
+  logic  d2l_entries_3_data_regs_1_re;
+  logic   [31:0] d2l_entries_4_ctrl_reg_w;
+  logic  d2l_entries_4_ctrl_reg_we;
+  logic  d2l_entries_4_ctrl_reg_re;
+  logic   [31:0] d2l_entries_4_data_regs_0_w;
+  logic  d2l_entries_4_data_regs_0_we;
+  logic  d2l_entries_4_data_regs_0_re;
+  logic   [31:0] d2l_entries_4_data_regs_1_w;
+  logic  d2l_entries_4_data_regs_1_we;
+  logic  d2l_entries_4_data_regs_1_re;
+  logic   [31:0] d2l_entries_5_ctrl_reg_w;
+  logic  d2l_entries_5_ctrl_reg_we;
+  logic  d2l_entries_5_ctrl_reg_re;
+  logic   [31:0] d2l_entries_5_data_regs_0_w;
+  logic  d2l_entries_5_data_regs_0_we;
+  logic  d2l_entries_5_data_regs_0_re;
+  logic   [31:0] d2l_entries_5_data_regs_1_w;
+  logic  d2l_entries_5_data_regs_1_we;
+  logic  d2l_entries_5_data_regs_1_re;
+  logic   [31:0] d2l_entries_6_ctrl_reg_w;
+  logic  d2l_entries_6_ctrl_reg_we;
+  logic  d2l_entries_6_ctrl_reg_re;
+  logic   [31:0] d2l_entries_6_data_regs_0_w;
+  logic  d2l_entries_6_data_regs_0_we;
+  logic  d2l_entries_6_data_regs_0_re;
+  logic   [31:0] d2l_entries_6_data_regs_1_w;
+  logic  d2l_entries_6_data_regs_1_we;
+  logic  d2l_entries_6_data_regs_1_re;
+  logic   [31:0] d2l_entries_7_ctrl_reg_w;
+  logic  d2l_entries_7_ctrl_reg_we;
+  logic  d2l_entries_7_ctrl_reg_re;
+  logic   [31:0] d2l_entries_7_data_regs_0_w;
+  logic  d2l_entries_7_data_regs_0_we;
+  logic  d2l_entries_7_data_regs_0_re;
+  logic   [31:0] d2l_entries_7_data_regs_1_w;
+  logic  d2l_entries_7_data_regs_1_we;
+  logic  d2l_entries_7_data_regs_1_re;
+  logic   [31:0] d2l_last_reg_w;
+  logic  d2l_last_reg_we;
+  logic  d2l_last_reg_re;
+  logic   [31:0] l2d_first_reg_r;
+  logic   [31:0] l2d_entries_0_ctrl_reg_r;
+  logic   [31:0] l2d_entries_0_data_regs_0_r;
+  logic   [31:0] l2d_entries_0_data_regs_1_r;
+  logic   [31:0] l2d_entries_1_ctrl_reg_r;
+  logic   [31:0] l2d_entries_1_data_regs_0_r;
+  logic   [31:0] l2d_entries_1_data_regs_1_r;
+  logic   [31:0] l2d_entries_2_ctrl_reg_r;
+  logic   [31:0] l2d_entries_2_data_regs_0_r;
+  logic   [31:0] l2d_entries_2_data_regs_1_r;
+  logic   [31:0] l2d_entries_3_ctrl_reg_r;
+  logic   [31:0] l2d_entries_3_data_regs_0_r;
+  logic   [31:0] l2d_entries_3_data_regs_1_r;
+  logic   [31:0] l2d_entries_4_ctrl_reg_r;
+  logic   [31:0] l2d_entries_4_data_regs_0_r;
+  logic   [31:0] l2d_entries_4_data_regs_1_r;
+  logic   [31:0] l2d_entries_5_ctrl_reg_r;
+  logic   [31:0] l2d_entries_5_data_regs_0_r;
+  logic   [31:0] l2d_entries_5_data_regs_1_r;
+  logic   [31:0] l2d_entries_6_ctrl_reg_r;
+  logic   [31:0] l2d_entries_6_data_regs_0_r;
+  logic   [31:0] l2d_entries_6_data_regs_1_r;
+  logic   [31:0] l2d_entries_7_ctrl_reg_r;
+  logic   [31:0] l2d_entries_7_data_regs_0_r;
+  logic   [31:0] l2d_entries_7_data_regs_1_r;
+  logic   [31:0] l2d_last_reg_r;
+  
+  
+  sparse_map_jrdl_decode pio_decode ( .* );
+    
+  sparse_map_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
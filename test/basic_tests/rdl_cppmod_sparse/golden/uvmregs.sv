@@ -0,0 +1,181 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_cppmod_sparse/test.rdl
+//   Parms: ./rdl_cppmod_sparse/test.parms
+//   Date: Mon Oct 19 05:19:45 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register first_reg
+class reg_sparse_map_first_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_sparse_map_first_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_sparse_map_first_reg
+
+// Register ctrl_reg
+class reg_sparse_map_entries_ctrl_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_sparse_map_entries_ctrl_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_sparse_map_entries_ctrl_reg
+
+// Register data_regs
+class reg_sparse_map_entries_data_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_sparse_map_entries_data_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_sparse_map_entries_data_regs
+
+// Block entries
+class block_sparse_map_entries extends uvm_reg_block_rdl;
+  rand reg_sparse_map_entries_ctrl_reg ctrl_reg;
+  rand reg_sparse_map_entries_data_regs data_regs[2];
+  
+  function new(string name = "block_sparse_map_entries");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.ctrl_reg = new("ctrl_reg");
+    this.ctrl_reg.configure(this, null, "");
+    this.ctrl_reg.set_rdl_tag("ctrl_reg_");
+    this.ctrl_reg.set_reg_test_info(0, 0, 0);
+    this.ctrl_reg.build();
+    this.default_map.add_reg(this.ctrl_reg, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    foreach (this.data_regs[i]) begin
+      this.data_regs[i] = new($psprintf("data_regs [%0d]",i));
+      this.data_regs[i].configure(this, null, "");
+      this.data_regs[i].set_rdl_tag($psprintf("data_regs_%0d_",i));
+      this.data_regs[i].set_reg_test_info(0, 0, 0);
+      this.data_regs[i].build();
+      this.default_map.add_reg(this.data_regs[i], `UVM_REG_ADDR_WIDTH'h8+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+  endfunction: build
+  
+  `uvm_object_utils(block_sparse_map_entries)
+endclass : block_sparse_map_entries
+
+// Register last_reg
+class reg_sparse_map_last_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_sparse_map_last_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_sparse_map_last_reg
+
+// Base block
+class block_sparse_map extends uvm_reg_block_rdl;
+  rand reg_sparse_map_first_reg first_reg;
+  rand block_sparse_map_entries entries[8];
+  rand reg_sparse_map_last_reg last_reg;
+  
+  function new(string name = "block_sparse_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`SPARSE_MAP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.first_reg = new("first_reg");
+    this.first_reg.configure(this, null, "");
+    this.first_reg.set_rdl_tag("first_reg_");
+    this.first_reg.set_reg_test_info(0, 0, 0);
+    this.first_reg.build();
+    this.default_map.add_reg(this.first_reg, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    foreach (this.entries[i]) begin
+      this.entries[i] = block_sparse_map_entries::type_id::create($psprintf("entries [%0d]",i),, get_full_name());
+      this.entries[i].configure(this, "");
+      this.entries[i].set_rdl_tag($psprintf("entries_%0d_",i));
+      this.entries[i].build();
+      this.default_map.add_submap(this.entries[i].default_map, `UVM_REG_ADDR_WIDTH'h1000+i*`UVM_REG_ADDR_WIDTH'h10);
+    end
+    this.last_reg = new("last_reg");
+    this.last_reg.configure(this, null, "");
+    this.last_reg.set_rdl_tag("last_reg_");
+    this.last_reg.set_reg_test_info(0, 0, 0);
+    this.last_reg.build();
+    this.default_map.add_reg(this.last_reg, `UVM_REG_ADDR_WIDTH'h2000, "RW", 0);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_sparse_map)
+endclass : block_sparse_map
@@ -0,0 +1,57 @@
+// check address to path lookups of the generated c++ driver model
+#include <iostream>
+#include <map>
+#include <vector>
+#include "ordt_pio_drv.hpp"
+
+int main() {
+  ordt_drv_root root;
+  std::map<uint64_t, std::string> expected = {
+    {0x0, "drv_map.first_reg"},
+    {0x100, "drv_map.pairs.a_regs[0]"},
+    {0x104, "drv_map.pairs.b_regs[0]"},
+    {0x110, "drv_map.pairs.a_regs[1]"},
+    {0x134, "drv_map.pairs.b_regs[3]"},
+    {0x210, "drv_map.rep_pairs[0].a_regs[1]"},
+    {0x2a4, "drv_map.rep_pairs[1].b_regs[2]"},
+    {0x400, "drv_map.last_reg"},
+    {0x108, ""},
+    {0x13c, ""}
+  };
+  for (auto const &exp: expected) {
+    std::string path;
+    std::vector<int> indices;
+    std::list<ordt_drv_field> fields;
+    int rc = root.get_path_by_address("drv_map", exp.first, path, indices, fields);
+    if ((rc == 0)? (path != exp.second) : (!exp.second.empty() || !path.empty() || !indices.empty()))
+      std::cout << "ERROR: address " << std::hex << exp.first << " lookup returned " << rc << " " << path << ", expected " << exp.second << "\n";
+  }
+  // check path index handles against path walk addresses
+  struct handle_check { std::string path; std::vector<int> indices; uint64_t address; };
+  std::vector<handle_check> handle_checks = {
+    {"drv_map.first_reg", {}, 0x0},
+    {"drv_map.pairs.a_regs[1]", {1}, 0x110},
+    {"drv_map.rep_pairs[1].b_regs[2]", {1, 2}, 0x2a4},
+    {"drv_map.last_reg", {}, 0x400}
+  };
+  for (auto const &chk: handle_checks) {
+    ordt_drv_path_handle handle;
+    uint64_t handle_address = 0, walk_address = 0;
+    std::list<ordt_drv_field> fields;
+    int rc = root.resolve_path("drv_map", chk.path, handle);
+    if ((rc != 0) || (root.get_handle_dims(handle) != (int) chk.indices.size()))
+      std::cout << "ERROR: path " << chk.path << " resolve returned " << rc << ", dims=" << root.get_handle_dims(handle) << "\n";
+    else if (root.get_handle_address(handle, chk.indices.data(), (int) chk.indices.size(), handle_address) != 0)
+      std::cout << "ERROR: path " << chk.path << " handle address failed\n";
+    else if ((root.get_address("drv_map", chk.path, walk_address, fields) != 0) || (handle_address != chk.address) || (walk_address != chk.address))
+      std::cout << "ERROR: path " << chk.path << " handle address " << std::hex << handle_address << ", path walk address " << walk_address << ", expected " << chk.address << "\n";
+  }
+  ordt_drv_path_handle handle;
+  uint64_t address = 0;
+  int bad_indices[2] = {2, 0};
+  if (root.resolve_path("drv_map", "drv_map.pairs.c_regs[0]", handle) != 4)
+    std::cout << "ERROR: invalid path was resolved\n";
+  if ((root.resolve_path("drv_map", "drv_map.rep_pairs[0].a_regs[0]", handle) != 0) || (root.get_handle_address(handle, bad_indices, 2, address) != 8))
+    std::cout << "ERROR: out of range handle index was not rejected\n";
+  return 0;
+}
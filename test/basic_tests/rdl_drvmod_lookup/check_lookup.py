@@ -0,0 +1,45 @@
+# check address to path lookups of the generated python driver model
+import importlib.machinery, sys
+drv = importlib.machinery.SourceFileLoader('ordt_drv', sys.argv[1]).load_module()
+root = drv.ordt_drv_root()
+expected = {
+    0x0: 'drv_map.first_reg',
+    0x100: 'drv_map.pairs.a_regs[0]',
+    0x104: 'drv_map.pairs.b_regs[0]',
+    0x110: 'drv_map.pairs.a_regs[1]',
+    0x134: 'drv_map.pairs.b_regs[3]',
+    0x210: 'drv_map.rep_pairs[0].a_regs[1]',
+    0x2a4: 'drv_map.rep_pairs[1].b_regs[2]',
+    0x400: 'drv_map.last_reg',
+    0x108: None,
+    0x13c: None,
+}
+for address, path in expected.items():
+    result = root.get_path('drv_map', address)
+    found = result.get('path') if result['status'] == 'reg' else None
+    if found != path:
+        print('ERROR: address ' + hex(address) + ' lookup returned ' + str(found) + ', expected ' + str(path))
+
+# check cached path to address lookups, bulk lookups, and that cached results are not shared with callers
+paths = {
+    'drv_map.first_reg': 0x0,
+    'drv_map.pairs.a_regs[1]': 0x110,
+    'drv_map.rep_pairs[1].b_regs[2]': 0x2a4,
+    'drv_map.last_reg': 0x400,
+}
+for pathstr, address in paths.items():
+    for attempt in range(2):
+        result = root.get_address('drv_map', pathstr)
+        if (result['status'] != 'reg') or (result['address'] != address):
+            print('ERROR: path ' + pathstr + ' lookup returned ' + str(result) + ', expected address ' + hex(address))
+if root.get_address_cache_info().hits < len(paths):
+    print('ERROR: repeated path lookups were not cached')
+bulk = root.get_addresses('drv_map', list(paths.keys()))
+if [result.get('address') for result in bulk] != list(paths.values()):
+    print('ERROR: bulk path lookup returned ' + str(bulk))
+result = root.get_address('drv_map', 'drv_map.pairs')
+result['children'].append('bogus')
+result['status'] = 'bogus'
+result = root.get_address('drv_map', 'drv_map.pairs')
+if (result['status'] != 'reg set') or ('bogus' in result['children']):
+    print('ERROR: cached path lookup result was modified by a caller')
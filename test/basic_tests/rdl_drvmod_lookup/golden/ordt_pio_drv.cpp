@@ -0,0 +1,429 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: interleave.rdl
+//   Parms: test.parms
+//   Date: Mon Oct 19 05:05:55 UTC 2026
+//
+
+#include "ordt_pio_common.hpp"
+#include "ordt_pio_drv.hpp"
+
+// ------------------ ordt_drv_path_element methods ------------------
+
+ordt_drv_path_element::ordt_drv_path_element(std::string _m_name, int _m_idx)
+  : m_name(_m_name),
+    m_idx(_m_idx) {
+}
+
+// ------------------ ordt_drv_field methods ------------------
+
+ordt_drv_field::ordt_drv_field(std::string _m_name, int _m_loidx, int _m_width, bool _m_readable, bool _m_writeable)
+  : m_name(_m_name),
+    m_loidx(_m_loidx),
+    m_width(_m_width),
+    m_readable(_m_readable),
+    m_writeable(_m_writeable) {
+}
+
+// ------------------ ordt_drv_path_handle methods ------------------
+
+ordt_drv_path_handle::ordt_drv_path_handle()
+  : m_entry(-1) {
+}
+
+bool  ordt_drv_path_handle::is_valid() const {
+  return m_entry >= 0;
+}
+
+// ------------------ ordt_drv_element methods ------------------
+
+std::list<std::string>  ordt_drv_element::split(const std::string &text, char sep, bool trim_rb) {
+  std::list<std::string> tokens;
+  std::size_t start = 0, end = 0, end_adj = 0;
+  while ((end = text.find(sep, start)) != std::string::npos) {
+    if (trim_rb && ((end_adj = text.find(']', start)) != std::string::npos) && (end_adj<end))
+      tokens.push_back(text.substr(start, end_adj - start));
+    else
+      tokens.push_back(text.substr(start, end - start));
+    start = end + 1;
+  }
+  if (trim_rb && ((end_adj = text.find(']', start)) != std::string::npos))
+    tokens.push_back(text.substr(start, end_adj - start));
+  else
+    tokens.push_back(text.substr(start));
+  return tokens;
+}
+
+int  ordt_drv_element::get_version(const std::string tag) {
+  if (tag == "drv_map") return 0;
+  else return -1;
+}
+
+std::list<ordt_drv_path_element>  ordt_drv_element::get_path(const std::string pathstr) {
+  std::list<ordt_drv_path_element> pathlist;
+  std::list<std::string> lst = split(pathstr, '.', true);
+  for(auto const& str_elem: lst) {
+     std::list<std::string> sub_lst = split(str_elem, '[', false);
+     if (sub_lst.size()==2) {
+       pathlist.emplace_back(sub_lst.front(), std::stoi(sub_lst.back()));
+     }
+     else {
+       pathlist.emplace_back(sub_lst.front(), 1);
+     }
+  }
+  return pathlist;
+}
+
+ordt_drv_element::ordt_drv_element(std::string _m_name)
+  : m_name(_m_name) {
+}
+
+int  ordt_drv_element::get_address_using_version(const int version, const std::string pathstr, uint64_t &address, std::list<ordt_drv_field> &fields) {
+  std::list<ordt_drv_path_element> path = get_path(pathstr);
+  if (path.size()>0) return get_address_using_list(version, path, false, address, fields);
+  #ifdef ORDT_PIO_DRV_VERBOSE
+     std::cout << "--> invalid path: " << pathstr << "\n";
+  #endif
+  return 4;
+}
+
+std::vector<std::string>  ordt_drv_element::get_tags() {
+  std::vector<std::string> tags;
+  tags.push_back("drv_map");
+  return tags;
+}
+
+int  ordt_drv_element::get_address(const std::string tag, const std::string pathstr, uint64_t &address, std::list<ordt_drv_field> &fields) {
+  int version = get_version(tag);
+  if (version<0) {
+  #ifdef ORDT_PIO_DRV_VERBOSE
+     std::cout << "--> invalid tag: " << tag << "\n";
+  #endif
+    return 2;
+  }
+  return get_address_using_version(version, pathstr, address, fields);
+}
+
+int  ordt_drv_element::get_path_by_address(const std::string tag, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields) {
+  int version = get_version(tag);
+  if (version<0) {
+  #ifdef ORDT_PIO_DRV_VERBOSE
+     std::cout << "--> invalid tag: " << tag << "\n";
+  #endif
+    return 2;
+  }
+  return get_path_using_version(version, address, path, indices, fields);
+}
+
+// ------------------ ordt_drv_regset_child methods ------------------
+
+ordt_drv_regset_child::ordt_drv_regset_child(int _m_map, std::shared_ptr<ordt_drv_element> _m_child, int _m_reps, uint64_t _m_offset, uint64_t _m_stride)
+  : m_map(_m_map),
+    m_child(_m_child),
+    m_reps(_m_reps),
+    m_offset(_m_offset),
+    m_stride(_m_stride) {
+}
+
+// ------------------ ordt_drv_regset methods ------------------
+
+ordt_drv_regset::ordt_drv_regset(std::string _m_name)
+  : ordt_drv_element(_m_name),
+    m_children(),
+    m_addr_index(),
+    m_addr_max_ends() {
+}
+
+int  ordt_drv_regset::get_address_using_list(const int version, std::list<ordt_drv_path_element> &path, const bool bypass_names, uint64_t &address, std::list<ordt_drv_field> &fields) {
+  if (path.empty())
+    return 8;
+  ordt_drv_path_element pelem = path.front();
+  if (!bypass_names) {
+    path.pop_front();
+    if (path.empty())
+      return 0;
+    pelem = path.front();
+  }
+  for (auto const &child: m_children) {
+    if (((1<<version) & child.m_map) && (bypass_names || (pelem.m_name == child.m_child->m_name))) {
+      address += child.m_offset;
+      if (child.m_reps>1) address += (child.m_stride*pelem.m_idx);
+      return child.m_child->get_address_using_list(version, path, false, address, fields);
+    }
+  }
+  #ifdef ORDT_PIO_DRV_VERBOSE
+  std::cout << "--> unable to find child " << pelem.m_name << " in regset " << m_name << "\n";
+  #endif
+  return 8;
+}
+
+void  ordt_drv_regset::add_child(int _m_map, std::shared_ptr<ordt_drv_element> _m_child, int _m_reps, uint64_t _m_offset, uint64_t _m_stride) {
+  ordt_drv_regset_child new_child(_m_map, _m_child, _m_reps, _m_offset, _m_stride);
+  m_children.push_back(new_child);
+}
+
+void  ordt_drv_regset::set_addr_index(int version, std::vector<int> index, std::vector<uint64_t> max_ends) {
+  if ((int) m_addr_index.size() <= version) {
+    m_addr_index.resize(version + 1);
+    m_addr_max_ends.resize(version + 1);
+  }
+  m_addr_index[version] = index;
+  m_addr_max_ends[version] = max_ends;
+}
+
+int  ordt_drv_regset::get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields) {
+  if ((version >= 0) && (version < (int) m_addr_index.size())) {
+    const std::vector<int> &index = m_addr_index[version];
+    int lo = 0, hi = (int) index.size() - 1, match = -1;
+    while (lo <= hi) {
+      int mid = (lo + hi) / 2;
+      if (m_children[index[mid]].m_offset <= address) {
+        match = mid;
+        lo = mid + 1;
+      }
+      else hi = mid - 1;
+    }
+    const std::vector<uint64_t> &max_ends = m_addr_max_ends[version];
+    size_t path_size = path.size(), indices_size = indices.size();
+    for (; (match >= 0) && (max_ends[match] > address); match--) {
+      const ordt_drv_regset_child &child = m_children[index[match]];
+      uint64_t rel_address = address - child.m_offset;
+      uint64_t idx = (child.m_stride > 0)? rel_address / child.m_stride : 0;
+      if (idx < (uint64_t) child.m_reps) {
+        path += "." + child.m_child->m_name;
+        if (child.m_reps>1) {
+          path += "[" + std::to_string(idx) + "]";
+          indices.push_back((int) idx);
+        }
+        if (child.m_child->get_path_using_version(version, rel_address - (idx*child.m_stride), path, indices, fields) == 0) return 0;
+        path.resize(path_size);
+        indices.resize(indices_size);
+      }
+    }
+  }
+  #ifdef ORDT_PIO_DRV_VERBOSE
+  std::cout << "--> unable to find child at address " << address << " in regset " << m_name << "\n";
+  #endif
+  return 8;
+}
+
+// ------------------ ordt_drv_reg methods ------------------
+
+ordt_drv_reg::ordt_drv_reg(std::string _m_name, int _m_width)
+  : ordt_drv_element(_m_name),
+    m_fields(),
+    m_width(_m_width) {
+}
+
+int  ordt_drv_reg::get_address_using_list(const int version, std::list<ordt_drv_path_element> &path, const bool bypass_names, uint64_t &address, std::list<ordt_drv_field> &fields) {
+  if (path.empty())
+    return 8;
+  path.pop_front();
+  if (path.empty()) {
+    fields = m_fields;
+    return 0;
+  }
+  #ifdef ORDT_PIO_DRV_VERBOSE
+  ordt_drv_path_element pelem = path.front();
+  std::cout << "--> invalid child " << pelem.m_name << " specified in reg " << m_name << "\n";
+  #endif
+  return 8;
+}
+
+void  ordt_drv_reg::add_field(std::string _m_name, int _m_loidx, int _width, bool _m_readable, bool _m_writeable) {
+  ordt_drv_field new_field(_m_name, _m_loidx, _width, _m_readable, _m_writeable);
+  m_fields.push_back(new_field);
+}
+
+int  ordt_drv_reg::get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields) {
+  if (address < (uint64_t) ((m_width + 7) / 8)) {
+    fields = m_fields;
+    return 0;
+  }
+  #ifdef ORDT_PIO_DRV_VERBOSE
+  std::cout << "--> address offset " << address << " is outside of reg " << m_name << "\n";
+  #endif
+  return 8;
+}
+
+// ------------------ path index tables ------------------
+
+namespace {
+
+struct ordt_drv_path_entry {
+  int m_version;
+  const char *m_path;
+  uint64_t m_offset;
+  int m_dim_start;
+  int m_num_dims;
+};
+
+const ordt_drv_path_entry ordt_drv_path_entries[] = {
+  {0, "", 0ULL, 0, 0},
+  {0, "first_reg", 0ULL, 0, 0},
+  {0, "last_reg", 1024ULL, 0, 0},
+  {0, "pairs", 256ULL, 0, 0},
+  {0, "pairs.a_regs[]", 256ULL, 0, 1},
+  {0, "pairs.b_regs[]", 260ULL, 1, 1},
+  {0, "rep_pairs[]", 512ULL, 2, 1},
+  {0, "rep_pairs[].a_regs[]", 512ULL, 3, 2},
+  {0, "rep_pairs[].b_regs[]", 516ULL, 5, 2},
+};
+const int ordt_drv_path_entry_count = 9;
+
+const uint64_t ordt_drv_path_strides[] = {
+  16ULL,
+  16ULL,
+  128ULL,
+  128ULL,
+  16ULL,
+  128ULL,
+  16ULL,
+};
+const int ordt_drv_path_reps[] = {
+  4,
+  4,
+  2,
+  2,
+  4,
+  2,
+  4,
+};
+
+int ordt_drv_path_compare(const char *entry_path, const char *query_path) {
+  bool in_brackets = false;
+  while (true) {
+    if (in_brackets && (*query_path != ']') && (*query_path != '\0')) {
+      query_path++;
+      continue;
+    }
+    unsigned char e = *entry_path;
+    unsigned char q = *query_path;
+    if (e != q) return (e < q)? -1 : 1;
+    if (e == '\0') return 0;
+    in_brackets = (q == '[');
+    entry_path++;
+    query_path++;
+  }
+}
+
+}
+
+// ------------------ ordt_drv_root methods ------------------
+
+ordt_drv_root::ordt_drv_root()
+  : ordt_drv_regset("root") {
+  build();
+}
+
+void  ordt_drv_root::build() {
+  std::shared_ptr<ordt_drv_reg> a_regs_3 = std::make_shared<ordt_drv_reg>("a_regs", 32);
+  a_regs_3->add_field("lsb_field", 0, 16, true, true);
+  a_regs_3->add_field("msb_field", 16, 16, true, true);
+  std::shared_ptr<ordt_drv_reg> b_regs_4 = std::make_shared<ordt_drv_reg>("b_regs", 32);
+  b_regs_4->add_field("lsb_field", 0, 16, true, true);
+  b_regs_4->add_field("msb_field", 16, 16, true, true);
+  std::shared_ptr<ordt_drv_regset> rep_pairs_5 = std::make_shared<ordt_drv_regset>("rep_pairs");
+  rep_pairs_5->add_child(1, a_regs_3, 4, 0, 16);
+  rep_pairs_5->add_child(1, b_regs_4, 4, 4, 16);
+  rep_pairs_5->set_addr_index(0, {0, 1}, {64ull, 68ull});
+  std::shared_ptr<ordt_drv_reg> first_reg_1 = std::make_shared<ordt_drv_reg>("first_reg", 32);
+  first_reg_1->add_field("lsb_field", 0, 16, true, true);
+  first_reg_1->add_field("msb_field", 16, 16, true, true);
+  std::shared_ptr<ordt_drv_reg> last_reg_8 = std::make_shared<ordt_drv_reg>("last_reg", 32);
+  last_reg_8->add_field("lsb_field", 0, 16, true, true);
+  last_reg_8->add_field("msb_field", 16, 16, true, true);
+  std::shared_ptr<ordt_drv_regset> pairs_2 = std::make_shared<ordt_drv_regset>("pairs");
+  pairs_2->add_child(1, a_regs_3, 4, 0, 16);
+  pairs_2->add_child(1, b_regs_4, 4, 4, 16);
+  pairs_2->set_addr_index(0, {0, 1}, {64ull, 68ull});
+  std::shared_ptr<ordt_drv_regset> drv_map_0 = std::make_shared<ordt_drv_regset>("drv_map");
+  drv_map_0->add_child(1, rep_pairs_5, 2, 512, 128);
+  drv_map_0->add_child(1, first_reg_1, 1, 0, 4);
+  drv_map_0->add_child(1, last_reg_8, 1, 1024, 4);
+  drv_map_0->add_child(1, pairs_2, 1, 256, 128);
+  drv_map_0->set_addr_index(0, {1, 3, 0, 2}, {4ull, 384ull, 768ull, 1028ull});
+  add_child(1, drv_map_0, 1, 0, 0);
+}
+
+int  ordt_drv_root::get_address_using_version(const int version, const std::string pathstr, uint64_t &address, std::list<ordt_drv_field> &fields) {
+  address=0;
+  fields.clear();
+  std::list<ordt_drv_path_element> path = get_path(pathstr);
+  if (path.size()>0) return get_address_using_list(version, path, true, address, fields);
+  #ifdef ORDT_PIO_DRV_VERBOSE
+     std::cout << "--> invalid path: " << pathstr << "\n";
+  #endif
+  return 4;
+}
+
+int  ordt_drv_root::get_path_using_version(const int version, const uint64_t address, std::string &path, std::vector<int> &indices, std::list<ordt_drv_field> &fields) {
+  path.clear();
+  indices.clear();
+  fields.clear();
+  for (auto const &child: m_children) {
+    if (((1<<version) & child.m_map) && (address >= child.m_offset)) {
+      path = child.m_child->m_name;
+      if (child.m_child->get_path_using_version(version, address - child.m_offset, path, indices, fields) == 0) return 0;
+      path.clear();
+      indices.clear();
+      return 8;
+    }
+  }
+  #ifdef ORDT_PIO_DRV_VERBOSE
+  std::cout << "--> invalid address: " << address << "\n";
+  #endif
+  return 8;
+}
+
+int  ordt_drv_root::resolve_path(const std::string &tag, const std::string &pathstr, ordt_drv_path_handle &handle) {
+  int version = get_version(tag);
+  if (version<0) {
+  #ifdef ORDT_PIO_DRV_VERBOSE
+     std::cout << "--> invalid tag: " << tag << "\n";
+  #endif
+    handle.m_entry = -1;
+    return 2;
+  }
+  return resolve_path_using_version(version, pathstr.c_str(), handle);
+}
+
+int  ordt_drv_root::resolve_path_using_version(const int version, const char *pathstr, ordt_drv_path_handle &handle) {
+  handle.m_entry = -1;
+  const char *rel_path = std::strchr(pathstr, '.');
+  rel_path = (rel_path == nullptr)? "" : rel_path + 1;
+  int lo = 0;
+  int hi = ordt_drv_path_entry_count - 1;
+  while (lo <= hi) {
+    int mid = (lo + hi) / 2;
+    const ordt_drv_path_entry &entry = ordt_drv_path_entries[mid];
+    int cmp = (entry.m_version != version)? ((entry.m_version < version)? -1 : 1) : ordt_drv_path_compare(entry.m_path, rel_path);
+    if (cmp == 0) {
+      handle.m_entry = mid;
+      return 0;
+    }
+    else if (cmp < 0) lo = mid + 1;
+    else hi = mid - 1;
+  }
+  #ifdef ORDT_PIO_DRV_VERBOSE
+  std::cout << "--> invalid path: " << pathstr << "\n";
+  #endif
+  return 4;
+}
+
+int  ordt_drv_root::get_handle_dims(const ordt_drv_path_handle &handle) {
+  if ((handle.m_entry < 0) || (handle.m_entry >= ordt_drv_path_entry_count)) return -1;
+  return ordt_drv_path_entries[handle.m_entry].m_num_dims;
+}
+
+int  ordt_drv_root::get_handle_address(const ordt_drv_path_handle &handle, const int *indices, const int num_indices, uint64_t &address) {
+  if ((handle.m_entry < 0) || (handle.m_entry >= ordt_drv_path_entry_count)) return 4;
+  const ordt_drv_path_entry &entry = ordt_drv_path_entries[handle.m_entry];
+  if (num_indices != entry.m_num_dims) return 8;
+  address = entry.m_offset;
+  for (int idx=0; idx<num_indices; idx++) {
+    if ((indices[idx] < 0) || (indices[idx] >= ordt_drv_path_reps[entry.m_dim_start + idx])) return 8;
+    address += ordt_drv_path_strides[entry.m_dim_start + idx] * indices[idx];
+  }
+  return 0;
+}
+
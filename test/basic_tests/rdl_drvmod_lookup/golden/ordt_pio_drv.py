@@ -0,0 +1,275 @@
+#   Ordt 181018.01 autogenerated file 
+#   Input: ../interleave.rdl
+#   Parms: ../test.parms
+#   Date: Mon Oct 19 06:06:38 UTC 2026
+#
+
+import bisect
+import functools
+
+class ordt_drv_path_element:
+  
+  def __init__(self, name, idx):
+    self.name = name
+    self.idx = idx
+  
+  def __init__(self, name_str):
+      sub_lst = name_str.split('[')
+      if len(sub_lst)==2:
+        self.name = sub_lst[0]
+        self.idx = sub_lst[1].rstrip(']')
+      else:
+        self.name = name_str
+        self.idx = 1
+  
+
+class ordt_drv_field:
+  
+  def __init__(self, name, loidx, width, readable, writeable):
+    self.name = name
+    self.loidx = loidx
+    self.width = width
+    self.readable = readable
+    self.writeable = writeable
+  
+
+class ordt_drv_element:
+  ORDT_PIO_DRV_VERBOSE = True
+  
+  def __init__(self, name):
+    self.name = name
+  
+  def get_address_using_version(self, version, pathstr, address):
+    path = self.get_pathlist(pathstr)
+    if path:
+      return self.get_address_using_list(version, path, False, address)
+    if __class__.ORDT_PIO_DRV_VERBOSE:
+      print('--> invalid path: ' + pathstr)
+    return {'status':'bad path'}
+  
+  def get_version(self, tag):
+    if tag == 'drv_map':
+      return 0
+    else:
+      return -1
+  
+  def get_tags(self):
+    tags = []
+    tags.append('drv_map')
+    return tags
+  
+  def get_address_using_tag(self, tag, pathstr, address):
+    version = self.get_version(tag)
+    if version<0:
+      if __class__.ORDT_PIO_DRV_VERBOSE:
+        print('--> invalid tag: ' + tag)
+      return {'status':'bad tag'}
+    return self.get_address_using_version(version, pathstr, address)
+  
+  def get_pathlist(self, pathstr):
+    pathlist = []
+    lst = pathstr.split('.')
+    for str_elem in lst:
+      path_elem = ordt_drv_path_element(str_elem)
+      pathlist.append(path_elem)
+    return pathlist
+  
+  def get_path_using_tag(self, tag, address, path_in):
+    version = self.get_version(tag)
+    if version<0:
+      if __class__.ORDT_PIO_DRV_VERBOSE:
+        print('--> invalid tag: ' + tag)
+      return {'status':'bad tag'}
+    return self.get_path_using_version(version, address, path_in, [])
+  
+
+class ordt_drv_regset_child:
+  
+  def __init__(self, map, child, reps, offset, stride):
+    self.map = map
+    self.child = child
+    self.reps = reps
+    self.offset = offset
+    self.stride = stride
+  
+  def find_offset(self, address_in):
+    if (address_in < self.offset) or (address_in >= self.offset + self.reps*self.stride):
+      return (0, None, [])
+    if self.reps < 2:
+      return (self.offset, '.' + self.child.name, [])
+    index = (address_in - self.offset) // self.stride
+    return (self.offset + index*self.stride, '.' + self.child.name + '[' + str(index) + ']', [index])
+  
+
+class ordt_drv_regset(ordt_drv_element):
+  
+  def __init__(self, name):
+    super().__init__(name)
+    self.children = []
+    self.name_index = {}
+    self.addr_index = {}
+  
+  def get_address_using_list(self, version, path, bypass_names, address_in):
+    if not path:
+      return {'status':'bad path'}
+    pelem = path[0]
+    if not bypass_names:
+      path.pop(0)
+      if not path:
+        return {'status':'reg set', 'address':address_in, 'children':self.get_child_names(version)}
+      pelem = path[0]
+    for child in (self.children if bypass_names else self.name_index.get(pelem.name, ())):
+      if (1<<version) & child.map:
+        address = address_in + child.offset
+        if child.reps > 1:
+          address += child.stride*int(pelem.idx)
+        return child.child.get_address_using_list(version, path, False, address)
+    if __class__.ORDT_PIO_DRV_VERBOSE:
+      print('--> unable to find child ' + pelem.name + ' in regset ' + self.name)
+    return {'status':'bad path'}
+  
+  def add_child(self, map, child, reps, offset, stride):
+    new_child = ordt_drv_regset_child(map, child, reps, offset, stride)
+    self.children.append(new_child)
+    self.name_index.setdefault(child.name, []).append(new_child)
+  
+  def get_child_names(self, version):
+    childnames = []
+    for child in self.children:
+      if (1<<version) & child.map:
+        childnames.append(child.child.name)
+    return childnames
+  
+  def set_addr_index(self, version, offsets, max_ends, positions):
+    self.addr_index[version] = (offsets, max_ends, [self.children[pos] for pos in positions])
+  
+  def get_path_using_version(self, version, address_in, path_in, indices_in):
+    if version in self.addr_index:
+      (offsets, max_ends, vchildren) = self.addr_index[version]
+      pos = bisect.bisect_right(offsets, address_in) - 1
+      while (pos >= 0) and (max_ends[pos] > address_in):
+        child = vchildren[pos]
+        (match_addr, match_path, match_idx) = child.find_offset(address_in)
+        if match_path:
+          result = child.child.get_path_using_version(version, address_in - match_addr, path_in + match_path, indices_in + match_idx)
+          if result['status'] != 'bad address':
+            return result
+        pos -= 1
+    return {'status':'bad address'}
+  
+
+class ordt_drv_reg(ordt_drv_element):
+  
+  def __init__(self, name, width):
+    super().__init__(name)
+    self.fields = []
+    self.width = width
+  
+  def get_address_using_list(self, version, path, bypass_names, address_in):
+    if not path:
+      return {'status':'bad path'}
+    path.pop(0)
+    if not path:
+      return {'status':'reg', 'address':address_in, 'fields':self.fields}
+    if __class__.ORDT_PIO_DRV_VERBOSE:
+      pelem = path[0]
+      print('--> invalid child ' + pelem.name + ' specified in reg ' + self.name)
+    return {'status':'bad path'}
+  
+  def add_field(self, name, loidx, width, readable, writeable):
+    new_field = ordt_drv_field(name, loidx, width, readable, writeable)
+    self.fields.append(new_field)
+  
+  def get_path_using_version(self, version, address_in, path_in, indices_in):
+    if address_in < (self.width + 7) // 8:
+      return {'status':'reg', 'path':path_in, 'indices':indices_in, 'fields':self.fields}
+    return {'status':'bad address'}
+  
+
+class ordt_drv_root(ordt_drv_regset):
+  base_address = 0
+  ADDRESS_CACHE_SIZE = 4096
+  
+  def __init__(self):
+    super().__init__('root')
+    self.build()
+    self.cached_address = functools.lru_cache(maxsize=__class__.ADDRESS_CACHE_SIZE)(self.get_address_using_version)
+  
+  def build(self):
+    a_regs_12 = ordt_drv_reg('a_regs', 32)
+    a_regs_12.add_field('lsb_field', 0, 16, True, True)
+    a_regs_12.add_field('msb_field', 16, 16, True, True)
+    b_regs_13 = ordt_drv_reg('b_regs', 32)
+    b_regs_13.add_field('lsb_field', 0, 16, True, True)
+    b_regs_13.add_field('msb_field', 16, 16, True, True)
+    rep_pairs_14 = ordt_drv_regset('rep_pairs')
+    rep_pairs_14.add_child(1, a_regs_12, 4, 0, 16)
+    rep_pairs_14.add_child(1, b_regs_13, 4, 4, 16)
+    rep_pairs_14.set_addr_index(0, [0, 4], [64, 68], [0, 1])
+    first_reg_10 = ordt_drv_reg('first_reg', 32)
+    first_reg_10.add_field('lsb_field', 0, 16, True, True)
+    first_reg_10.add_field('msb_field', 16, 16, True, True)
+    last_reg_17 = ordt_drv_reg('last_reg', 32)
+    last_reg_17.add_field('lsb_field', 0, 16, True, True)
+    last_reg_17.add_field('msb_field', 16, 16, True, True)
+    pairs_11 = ordt_drv_regset('pairs')
+    pairs_11.add_child(1, a_regs_12, 4, 0, 16)
+    pairs_11.add_child(1, b_regs_13, 4, 4, 16)
+    pairs_11.set_addr_index(0, [0, 4], [64, 68], [0, 1])
+    drv_map_9 = ordt_drv_regset('drv_map')
+    drv_map_9.add_child(1, rep_pairs_14, 2, 512, 128)
+    drv_map_9.add_child(1, first_reg_10, 1, 0, 4)
+    drv_map_9.add_child(1, last_reg_17, 1, 1024, 4)
+    drv_map_9.add_child(1, pairs_11, 1, 256, 128)
+    drv_map_9.set_addr_index(0, [0, 256, 512, 1024], [4, 384, 768, 1028], [1, 3, 0, 2])
+    self.add_child(1, drv_map_9, 1, 0, 0)
+  
+  def get_address_using_version(self, version, pathstr, address):
+    path = self.get_pathlist(pathstr)
+    if path:
+      return self.get_address_using_list(version, path, True, address)
+    if __class__.ORDT_PIO_DRV_VERBOSE:
+      print('--> invalid path: ' + pathstr)
+    return {'status':'bad path'}
+  
+  def copy_address_result(self, result):
+    result = dict(result)
+    if 'children' in result:
+      result['children'] = list(result['children'])
+    return result
+  
+  def get_address(self, tag, pathstr):
+    version = self.get_version(tag)
+    if version<0:
+      if __class__.ORDT_PIO_DRV_VERBOSE:
+        print('--> invalid tag: ' + tag)
+      return {'status':'bad tag'}
+    return self.copy_address_result(self.cached_address(version, pathstr, __class__.base_address))
+  
+  def get_addresses(self, tag, pathstrs):
+    version = self.get_version(tag)
+    if version<0:
+      if __class__.ORDT_PIO_DRV_VERBOSE:
+        print('--> invalid tag: ' + tag)
+      return [{'status':'bad tag'} for pathstr in pathstrs]
+    resolve = self.cached_address
+    base_address = __class__.base_address
+    copy_result = self.copy_address_result
+    return [copy_result(resolve(version, pathstr, base_address)) for pathstr in pathstrs]
+  
+  def clear_address_cache(self):
+    self.cached_address.cache_clear()
+  
+  def get_address_cache_info(self):
+    return self.cached_address.cache_info()
+  
+  def get_path_using_version(self, version, address_in, path_in, indices_in):
+    for child in self.children:
+      if ((1<<version) & child.map) and (address_in >= child.offset):
+        return child.child.get_path_using_version(version, address_in - child.offset, path_in + child.child.name, indices_in)
+    return {'status':'bad address'}
+  
+  def get_path(self, tag, address):
+    return self.get_path_using_tag(tag, address, '')
+  
+
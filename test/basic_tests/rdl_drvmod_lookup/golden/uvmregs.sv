@@ -0,0 +1,269 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_drvmod_lookup/test.rdl
+//   Parms: ./rdl_drvmod_lookup/test.parms
+//   Date: Mon Oct 19 05:08:41 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register first_reg
+class reg_drv_map_first_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_drv_map_first_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_drv_map_first_reg
+
+// Register a_regs
+class reg_drv_map_pairs_a_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_drv_map_pairs_a_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_drv_map_pairs_a_regs
+
+// Register b_reg
+class reg_drv_map_pairs_b_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_drv_map_pairs_b_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_drv_map_pairs_b_reg
+
+// Block pairs
+class block_drv_map_pairs extends uvm_reg_block_rdl;
+  rand reg_drv_map_pairs_a_regs a_regs[4];
+  rand reg_drv_map_pairs_b_reg b_reg;
+  
+  function new(string name = "block_drv_map_pairs");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.a_regs[i]) begin
+      this.a_regs[i] = new($psprintf("a_regs [%0d]",i));
+      this.a_regs[i].configure(this, null, "");
+      this.a_regs[i].set_rdl_tag($psprintf("a_regs_%0d_",i));
+      this.a_regs[i].set_reg_test_info(0, 0, 0);
+      this.a_regs[i].build();
+      this.default_map.add_reg(this.a_regs[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h10, "RW", 0);
+    end
+    this.b_reg = new("b_reg");
+    this.b_reg.configure(this, null, "");
+    this.b_reg.set_rdl_tag("b_reg_");
+    this.b_reg.set_reg_test_info(0, 0, 0);
+    this.b_reg.build();
+    this.default_map.add_reg(this.b_reg, `UVM_REG_ADDR_WIDTH'h40, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_drv_map_pairs)
+endclass : block_drv_map_pairs
+
+// Register a_regs
+class reg_drv_map_rep_pairs_a_regs extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_drv_map_rep_pairs_a_regs");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_drv_map_rep_pairs_a_regs
+
+// Register b_reg
+class reg_drv_map_rep_pairs_b_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_drv_map_rep_pairs_b_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_drv_map_rep_pairs_b_reg
+
+// Block rep_pairs
+class block_drv_map_rep_pairs extends uvm_reg_block_rdl;
+  rand reg_drv_map_rep_pairs_a_regs a_regs[4];
+  rand reg_drv_map_rep_pairs_b_reg b_reg;
+  
+  function new(string name = "block_drv_map_rep_pairs");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.a_regs[i]) begin
+      this.a_regs[i] = new($psprintf("a_regs [%0d]",i));
+      this.a_regs[i].configure(this, null, "");
+      this.a_regs[i].set_rdl_tag($psprintf("a_regs_%0d_",i));
+      this.a_regs[i].set_reg_test_info(0, 0, 0);
+      this.a_regs[i].build();
+      this.default_map.add_reg(this.a_regs[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h10, "RW", 0);
+    end
+    this.b_reg = new("b_reg");
+    this.b_reg.configure(this, null, "");
+    this.b_reg.set_rdl_tag("b_reg_");
+    this.b_reg.set_reg_test_info(0, 0, 0);
+    this.b_reg.build();
+    this.default_map.add_reg(this.b_reg, `UVM_REG_ADDR_WIDTH'h40, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_drv_map_rep_pairs)
+endclass : block_drv_map_rep_pairs
+
+// Register last_reg
+class reg_drv_map_last_reg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_drv_map_last_reg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_drv_map_last_reg
+
+// Base block
+class block_drv_map extends uvm_reg_block_rdl;
+  rand reg_drv_map_first_reg first_reg;
+  rand block_drv_map_pairs pairs;
+  rand block_drv_map_rep_pairs rep_pairs[2];
+  rand reg_drv_map_last_reg last_reg;
+  
+  function new(string name = "block_drv_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`DRV_MAP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.first_reg = new("first_reg");
+    this.first_reg.configure(this, null, "");
+    this.first_reg.set_rdl_tag("first_reg_");
+    this.first_reg.set_reg_test_info(0, 0, 0);
+    this.first_reg.build();
+    this.default_map.add_reg(this.first_reg, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.pairs = block_drv_map_pairs::type_id::create("pairs",, get_full_name());
+    this.pairs.configure(this, "");
+    this.pairs.set_rdl_tag("pairs_");
+    this.pairs.build();
+    this.default_map.add_submap(this.pairs.default_map, `UVM_REG_ADDR_WIDTH'h100);
+    foreach (this.rep_pairs[i]) begin
+      this.rep_pairs[i] = block_drv_map_rep_pairs::type_id::create($psprintf("rep_pairs [%0d]",i),, get_full_name());
+      this.rep_pairs[i].configure(this, "");
+      this.rep_pairs[i].set_rdl_tag($psprintf("rep_pairs_%0d_",i));
+      this.rep_pairs[i].build();
+      this.default_map.add_submap(this.rep_pairs[i].default_map, `UVM_REG_ADDR_WIDTH'h200+i*`UVM_REG_ADDR_WIDTH'h80);
+    end
+    this.last_reg = new("last_reg");
+    this.last_reg.configure(this, null, "");
+    this.last_reg.set_rdl_tag("last_reg_");
+    this.last_reg.set_reg_test_info(0, 0, 0);
+    this.last_reg.build();
+    this.default_map.add_reg(this.last_reg, `UVM_REG_ADDR_WIDTH'h400, "RW", 0);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_drv_map)
+endclass : block_drv_map
@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_fieldstruct/test.rdl
 //   Parms: ./rdl_fieldstruct/test.parms
-//   Date: Tue Mar 27 14:56:06 EDT 2018
+//   Date: Mon Oct 19 03:30:36 UTC 2026
 //
 
 //
@@ -214,33 +214,6 @@ module foo_jrdl_logic
   reg   [31:0] l2d_blabla_r;
   
   
-  //------- combinatorial assigns for areg_1 (pio read data)
-  always @ (*) begin
-    l2d_areg_1_r = 32'b0;
-    l2d_areg_1_r [3:0]  = rg_areg_1_hier_fs_fs1_fld1;
-    l2d_areg_1_r [4]  = rg_areg_1_hier_fs_fs1_fld2;
-    l2d_areg_1_r [5]  = rg_areg_1_hier_fs_fld1;
-    l2d_areg_1_r [9:6]  = rg_areg_1_hier_fs_fs2_fld1;
-    l2d_areg_1_r [14]  = rg_areg_1_hier_fs_fs2_fld2;
-    l2d_areg_1_r [27:24]  = rg_areg_1_fs3_fld1;
-    l2d_areg_1_r [28]  = rg_areg_1_fs3_fld2;
-  end
-  
-  //------- combinatorial assigns for blabla (pio read data)
-  always @ (*) begin
-    l2d_blabla_r = 32'b0;
-    l2d_blabla_r [3:0]  = rg_blabla_fs1_0_fld1;
-    l2d_blabla_r [4]  = rg_blabla_fs1_0_fld2;
-    l2d_blabla_r [8:5]  = rg_blabla_fs1_1_fld1;
-    l2d_blabla_r [9]  = rg_blabla_fs1_1_fld2;
-    l2d_blabla_r [13:10]  = rg_blabla_fs1_2_fld1;
-    l2d_blabla_r [14]  = rg_blabla_fs1_2_fld2;
-    l2d_blabla_r [18:15]  = rg_blabla_fs3_0_fld1;
-    l2d_blabla_r [19]  = rg_blabla_fs3_0_fld2;
-    l2d_blabla_r [26:23]  = rg_blabla_fs3_1_fld1;
-    l2d_blabla_r [27]  = rg_blabla_fs3_1_fld2;
-  end
-  
   //------- combinatorial assigns for areg_0
   always @ (*) begin
     reg_areg_0_hier_fs_fs1_fld1_next = rg_areg_0_hier_fs_fs1_fld1;
@@ -345,6 +318,18 @@ module foo_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for areg_1 (pio read data)
+  always @ (*) begin
+    l2d_areg_1_r = 32'b0;
+    l2d_areg_1_r [3:0]  = rg_areg_1_hier_fs_fs1_fld1;
+    l2d_areg_1_r [4]  = rg_areg_1_hier_fs_fs1_fld2;
+    l2d_areg_1_r [5]  = rg_areg_1_hier_fs_fld1;
+    l2d_areg_1_r [9:6]  = rg_areg_1_hier_fs_fs2_fld1;
+    l2d_areg_1_r [14]  = rg_areg_1_hier_fs_fs2_fld2;
+    l2d_areg_1_r [27:24]  = rg_areg_1_fs3_fld1;
+    l2d_areg_1_r [28]  = rg_areg_1_fs3_fld2;
+  end
+  
   //------- combinatorial assigns for blabla
   always @ (*) begin
     reg_blabla_fs1_0_fld1_next = rg_blabla_fs1_0_fld1;
@@ -407,6 +392,21 @@ module foo_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for blabla (pio read data)
+  always @ (*) begin
+    l2d_blabla_r = 32'b0;
+    l2d_blabla_r [3:0]  = rg_blabla_fs1_0_fld1;
+    l2d_blabla_r [4]  = rg_blabla_fs1_0_fld2;
+    l2d_blabla_r [8:5]  = rg_blabla_fs1_1_fld1;
+    l2d_blabla_r [9]  = rg_blabla_fs1_1_fld2;
+    l2d_blabla_r [13:10]  = rg_blabla_fs1_2_fld1;
+    l2d_blabla_r [14]  = rg_blabla_fs1_2_fld2;
+    l2d_blabla_r [18:15]  = rg_blabla_fs3_0_fld1;
+    l2d_blabla_r [19]  = rg_blabla_fs3_0_fld2;
+    l2d_blabla_r [26:23]  = rg_blabla_fs3_1_fld1;
+    l2d_blabla_r [27]  = rg_blabla_fs3_1_fld2;
+  end
+  
 endmodule
 
 //
@@ -541,18 +541,23 @@ module foo_jrdl_decode
   assign  dec_leaf_retry_atomic = 1'b0;
   assign  dec_leaf_data_width = 3'b0;
   
-  //------- combinatorial assigns for pio read data
+  //------- combinatorial assigns for leaf i/f
   always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
   end
   
-  //------- reg assigns for pio read data
+  //------- reg assigns for leaf i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
     end
   end
   
@@ -570,23 +575,18 @@ module foo_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for leaf i/f
+  //------- combinatorial assigns for pio read data
   always @ (*) begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for leaf i/f
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
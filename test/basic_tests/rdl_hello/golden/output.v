@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_hello/test.rdl
 //   Parms: ./rdl_hello/test.parms
-//   Date: Tue Mar 27 14:56:06 EDT 2018
+//   Date: Mon Oct 19 03:30:37 UTC 2026
 //
 
 //
@@ -79,14 +79,6 @@ module foo_jrdl_logic
   reg   [31:0] l2d_bar_a_reg_1_r;
   
   
-  //------- combinatorial assigns for bar_a_reg_1 (pio read data)
-  always @ (*) begin
-    l2d_bar_a_reg_1_r = 32'b0;
-    l2d_bar_a_reg_1_r [9:0]  = rg_bar_a_reg_1_fld1;
-    l2d_bar_a_reg_1_r [15]  = rg_bar_a_reg_1_fld2;
-    l2d_bar_a_reg_1_r [25]  = rg_bar_a_reg_1_ERR25;
-  end
-  
   //------- combinatorial assigns for bar_a_reg_0
   always @ (*) begin
     reg_bar_a_reg_0_fld1_next = rg_bar_a_reg_0_fld1;
@@ -114,6 +106,14 @@ module foo_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for bar_a_reg_0 (pio read data)
+  always @ (*) begin
+    l2d_bar_a_reg_0_r = 32'b0;
+    l2d_bar_a_reg_0_r [9:0]  = rg_bar_a_reg_0_fld1;
+    l2d_bar_a_reg_0_r [15]  = rg_bar_a_reg_0_fld2;
+    l2d_bar_a_reg_0_r [25]  = rg_bar_a_reg_0_ERR25;
+  end
+  
   //------- combinatorial assigns for bar_a_reg_1
   always @ (*) begin
     reg_bar_a_reg_1_fld1_next = rg_bar_a_reg_1_fld1;
@@ -141,12 +141,12 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for bar_a_reg_0 (pio read data)
+  //------- combinatorial assigns for bar_a_reg_1 (pio read data)
   always @ (*) begin
-    l2d_bar_a_reg_0_r = 32'b0;
-    l2d_bar_a_reg_0_r [9:0]  = rg_bar_a_reg_0_fld1;
-    l2d_bar_a_reg_0_r [15]  = rg_bar_a_reg_0_fld2;
-    l2d_bar_a_reg_0_r [25]  = rg_bar_a_reg_0_ERR25;
+    l2d_bar_a_reg_1_r = 32'b0;
+    l2d_bar_a_reg_1_r [9:0]  = rg_bar_a_reg_1_fld1;
+    l2d_bar_a_reg_1_r [15]  = rg_bar_a_reg_1_fld2;
+    l2d_bar_a_reg_1_r [25]  = rg_bar_a_reg_1_ERR25;
   end
   
 endmodule
@@ -272,18 +272,23 @@ module foo_jrdl_decode
   assign  dec_leaf_retry_atomic = 1'b0;
   assign  dec_leaf_data_width = 3'b0;
   
-  //------- combinatorial assigns for pio read data
+  //------- combinatorial assigns for leaf i/f
   always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
   end
   
-  //------- reg assigns for pio read data
+  //------- reg assigns for leaf i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
     end
   end
   
@@ -301,23 +306,18 @@ module foo_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for leaf i/f
+  //------- combinatorial assigns for pio read data
   always @ (*) begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for leaf i/f
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_hier_01/test.rdl
 //   Parms: ./rdl_hier_01/test.parms
-//   Date: Tue Mar 27 14:56:07 EDT 2018
+//   Date: Mon Oct 19 03:30:39 UTC 2026
 //
 
 //
@@ -271,108 +271,6 @@ module base_map_jrdl_logic
   reg   [31:0] l2d_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for base_regs_config_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_5_r [15:0]  = rg_base_regs_config_regs_5_lsb_field;
-    l2d_base_regs_config_regs_5_r [31:16]  = rg_base_regs_config_regs_5_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_6 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_state_regs_6_r = 32'b0;
-    l2d_base_regs_state_regs_6_r [15:0]  = rg_base_regs_state_regs_6_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_0 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_state_regs_0_r = 32'b0;
-    l2d_base_regs_state_regs_0_r [15:0]  = rg_base_regs_state_regs_0_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_3 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_state_regs_3_r = 32'b0;
-    l2d_base_regs_state_regs_3_r [15:0]  = rg_base_regs_state_regs_3_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
-    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_6
-  always @ (*) begin
-    reg_base_regs_config_regs_6_lsb_field_next = rg_base_regs_config_regs_6_lsb_field;
-    l2h_base_regs_config_regs_6_lsb_field_r = rg_base_regs_config_regs_6_lsb_field;
-    reg_base_regs_config_regs_6_msb_field_next = rg_base_regs_config_regs_6_msb_field;
-    l2h_base_regs_config_regs_6_msb_field_r = rg_base_regs_config_regs_6_msb_field;
-    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_lsb_field_next = d2l_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_msb_field_next = d2l_base_regs_config_regs_6_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_6
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_6_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_6_lsb_field <= #1  reg_base_regs_config_regs_6_lsb_field_next;
-      rg_base_regs_config_regs_6_msb_field <= #1  reg_base_regs_config_regs_6_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_5
-  always @ (*) begin
-    reg_base_regs_config_regs_5_lsb_field_next = rg_base_regs_config_regs_5_lsb_field;
-    l2h_base_regs_config_regs_5_lsb_field_r = rg_base_regs_config_regs_5_lsb_field;
-    reg_base_regs_config_regs_5_msb_field_next = rg_base_regs_config_regs_5_msb_field;
-    l2h_base_regs_config_regs_5_msb_field_r = rg_base_regs_config_regs_5_msb_field;
-    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_lsb_field_next = d2l_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_msb_field_next = d2l_base_regs_config_regs_5_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_5
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_5_lsb_field <= #1  reg_base_regs_config_regs_5_lsb_field_next;
-      rg_base_regs_config_regs_5_msb_field <= #1  reg_base_regs_config_regs_5_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_1 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_state_regs_1_r = 32'b0;
-    l2d_base_regs_state_regs_1_r [15:0]  = rg_base_regs_state_regs_1_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_7
-  always @ (*) begin
-    reg_base_regs_config_regs_7_lsb_field_next = rg_base_regs_config_regs_7_lsb_field;
-    l2h_base_regs_config_regs_7_lsb_field_r = rg_base_regs_config_regs_7_lsb_field;
-    reg_base_regs_config_regs_7_msb_field_next = rg_base_regs_config_regs_7_msb_field;
-    l2h_base_regs_config_regs_7_msb_field_r = rg_base_regs_config_regs_7_msb_field;
-    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_lsb_field_next = d2l_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_msb_field_next = d2l_base_regs_config_regs_7_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_7
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_7_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_7_lsb_field <= #1  reg_base_regs_config_regs_7_lsb_field_next;
-      rg_base_regs_config_regs_7_msb_field <= #1  reg_base_regs_config_regs_7_msb_field_next;
-    end
-  end
-  
   //------- combinatorial assigns for base_regs_config_regs_0
   always @ (*) begin
     reg_base_regs_config_regs_0_lsb_field_next = rg_base_regs_config_regs_0_lsb_field;
@@ -395,16 +293,38 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
   always @ (*) begin
-    l2d_base_regs_config_regs_4_r [15:0]  = rg_base_regs_config_regs_4_lsb_field;
-    l2d_base_regs_config_regs_4_r [31:16]  = rg_base_regs_config_regs_4_msb_field;
+    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
+    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_1
   always @ (*) begin
-    l2d_base_regs_state_regs_7_r = 32'b0;
-    l2d_base_regs_state_regs_7_r [15:0]  = rg_base_regs_state_regs_7_lsb_field;
+    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
+    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
+    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
+    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_1
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
+      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
+    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
   end
   
   //------- combinatorial assigns for base_regs_config_regs_2
@@ -429,34 +349,40 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_4 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
   always @ (*) begin
-    l2d_base_regs_state_regs_4_r = 32'b0;
-    l2d_base_regs_state_regs_4_r [15:0]  = rg_base_regs_state_regs_4_lsb_field;
+    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
+    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_1
+  //------- combinatorial assigns for base_regs_config_regs_3
   always @ (*) begin
-    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
-    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
-    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
-    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
-    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
+    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
+    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
+    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for base_regs_config_regs_1
+  //------- reg assigns for base_regs_config_regs_3
   always @ (posedge clk) begin
     if (reset) begin
-      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
-      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
+      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
+    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
+  end
+  
   //------- combinatorial assigns for base_regs_config_regs_4
   always @ (*) begin
     reg_base_regs_config_regs_4_lsb_field_next = rg_base_regs_config_regs_4_lsb_field;
@@ -479,43 +405,60 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_4 (pio read data)
   always @ (*) begin
-    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
-    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
-    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
-    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
-    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
+    l2d_base_regs_config_regs_4_r [15:0]  = rg_base_regs_config_regs_4_lsb_field;
+    l2d_base_regs_config_regs_4_r [31:16]  = rg_base_regs_config_regs_4_msb_field;
   end
   
-  //------- reg assigns for base_regs_config_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_5
+  always @ (*) begin
+    reg_base_regs_config_regs_5_lsb_field_next = rg_base_regs_config_regs_5_lsb_field;
+    l2h_base_regs_config_regs_5_lsb_field_r = rg_base_regs_config_regs_5_lsb_field;
+    reg_base_regs_config_regs_5_msb_field_next = rg_base_regs_config_regs_5_msb_field;
+    l2h_base_regs_config_regs_5_msb_field_r = rg_base_regs_config_regs_5_msb_field;
+    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_lsb_field_next = d2l_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_msb_field_next = d2l_base_regs_config_regs_5_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_5
   always @ (posedge clk) begin
     if (reset) begin
-      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
-      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
+      rg_base_regs_config_regs_5_lsb_field <= #1  reg_base_regs_config_regs_5_lsb_field_next;
+      rg_base_regs_config_regs_5_msb_field <= #1  reg_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_5 (pio read data)
   always @ (*) begin
-    l2d_base_regs_config_regs_7_r [15:0]  = rg_base_regs_config_regs_7_lsb_field;
-    l2d_base_regs_config_regs_7_r [31:16]  = rg_base_regs_config_regs_7_msb_field;
+    l2d_base_regs_config_regs_5_r [15:0]  = rg_base_regs_config_regs_5_lsb_field;
+    l2d_base_regs_config_regs_5_r [31:16]  = rg_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_6
   always @ (*) begin
-    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
-    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
+    reg_base_regs_config_regs_6_lsb_field_next = rg_base_regs_config_regs_6_lsb_field;
+    l2h_base_regs_config_regs_6_lsb_field_r = rg_base_regs_config_regs_6_lsb_field;
+    reg_base_regs_config_regs_6_msb_field_next = rg_base_regs_config_regs_6_msb_field;
+    l2h_base_regs_config_regs_6_msb_field_r = rg_base_regs_config_regs_6_msb_field;
+    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_lsb_field_next = d2l_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_msb_field_next = d2l_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_2
-  always @ (*) begin
-    rg_base_regs_state_regs_2_lsb_field =  h2l_base_regs_state_regs_2_lsb_field_w;
+  //------- reg assigns for base_regs_config_regs_6
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_6_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_6_lsb_field <= #1  reg_base_regs_config_regs_6_lsb_field_next;
+      rg_base_regs_config_regs_6_msb_field <= #1  reg_base_regs_config_regs_6_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for base_regs_config_regs_6 (pio read data)
@@ -524,9 +467,32 @@ module base_map_jrdl_logic
     l2d_base_regs_config_regs_6_r [31:16]  = rg_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_7
   always @ (*) begin
-    rg_base_regs_state_regs_3_lsb_field =  h2l_base_regs_state_regs_3_lsb_field_w;
+    reg_base_regs_config_regs_7_lsb_field_next = rg_base_regs_config_regs_7_lsb_field;
+    l2h_base_regs_config_regs_7_lsb_field_r = rg_base_regs_config_regs_7_lsb_field;
+    reg_base_regs_config_regs_7_msb_field_next = rg_base_regs_config_regs_7_msb_field;
+    l2h_base_regs_config_regs_7_msb_field_r = rg_base_regs_config_regs_7_msb_field;
+    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_lsb_field_next = d2l_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_msb_field_next = d2l_base_regs_config_regs_7_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_7
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_7_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_7_lsb_field <= #1  reg_base_regs_config_regs_7_lsb_field_next;
+      rg_base_regs_config_regs_7_msb_field <= #1  reg_base_regs_config_regs_7_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_7 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_config_regs_7_r [15:0]  = rg_base_regs_config_regs_7_lsb_field;
+    l2d_base_regs_config_regs_7_r [31:16]  = rg_base_regs_config_regs_7_msb_field;
   end
   
   //------- combinatorial assigns for base_regs_state_regs_0
@@ -534,10 +500,10 @@ module base_map_jrdl_logic
     rg_base_regs_state_regs_0_lsb_field =  h2l_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_0 (pio read data)
   always @ (*) begin
-    l2d_base_regs_state_regs_2_r = 32'b0;
-    l2d_base_regs_state_regs_2_r [15:0]  = rg_base_regs_state_regs_2_lsb_field;
+    l2d_base_regs_state_regs_0_r = 32'b0;
+    l2d_base_regs_state_regs_0_r [15:0]  = rg_base_regs_state_regs_0_lsb_field;
   end
   
   //------- combinatorial assigns for base_regs_state_regs_1
@@ -545,42 +511,76 @@ module base_map_jrdl_logic
     rg_base_regs_state_regs_1_lsb_field =  h2l_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_6
+  //------- combinatorial assigns for base_regs_state_regs_1 (pio read data)
   always @ (*) begin
-    rg_base_regs_state_regs_6_lsb_field =  h2l_base_regs_state_regs_6_lsb_field_w;
+    l2d_base_regs_state_regs_1_r = 32'b0;
+    l2d_base_regs_state_regs_1_r [15:0]  = rg_base_regs_state_regs_1_lsb_field;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_5 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_2
   always @ (*) begin
-    l2d_base_regs_state_regs_5_r = 32'b0;
-    l2d_base_regs_state_regs_5_r [15:0]  = rg_base_regs_state_regs_5_lsb_field;
+    rg_base_regs_state_regs_2_lsb_field =  h2l_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_7
+  //------- combinatorial assigns for base_regs_state_regs_2 (pio read data)
   always @ (*) begin
-    rg_base_regs_state_regs_7_lsb_field =  h2l_base_regs_state_regs_7_lsb_field_w;
+    l2d_base_regs_state_regs_2_r = 32'b0;
+    l2d_base_regs_state_regs_2_r [15:0]  = rg_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_3
+  always @ (*) begin
+    rg_base_regs_state_regs_3_lsb_field =  h2l_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_3 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_state_regs_3_r = 32'b0;
+    l2d_base_regs_state_regs_3_r [15:0]  = rg_base_regs_state_regs_3_lsb_field;
   end
   
   //------- combinatorial assigns for base_regs_state_regs_4
   always @ (*) begin
-    rg_base_regs_state_regs_4_lsb_field =  h2l_base_regs_state_regs_4_lsb_field_w;
+    rg_base_regs_state_regs_4_lsb_field =  h2l_base_regs_state_regs_4_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_4 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_state_regs_4_r = 32'b0;
+    l2d_base_regs_state_regs_4_r [15:0]  = rg_base_regs_state_regs_4_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_5
+  always @ (*) begin
+    rg_base_regs_state_regs_5_lsb_field =  h2l_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_5 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_state_regs_5_r = 32'b0;
+    l2d_base_regs_state_regs_5_r [15:0]  = rg_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_6
+  always @ (*) begin
+    rg_base_regs_state_regs_6_lsb_field =  h2l_base_regs_state_regs_6_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_5
+  //------- combinatorial assigns for base_regs_state_regs_6 (pio read data)
   always @ (*) begin
-    rg_base_regs_state_regs_5_lsb_field =  h2l_base_regs_state_regs_5_lsb_field_w;
+    l2d_base_regs_state_regs_6_r = 32'b0;
+    l2d_base_regs_state_regs_6_r [15:0]  = rg_base_regs_state_regs_6_lsb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_7
   always @ (*) begin
-    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
-    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
+    rg_base_regs_state_regs_7_lsb_field =  h2l_base_regs_state_regs_7_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_7 (pio read data)
   always @ (*) begin
-    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
-    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
+    l2d_base_regs_state_regs_7_r = 32'b0;
+    l2d_base_regs_state_regs_7_r [15:0]  = rg_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -1038,35 +1038,6 @@ module base_map_jrdl_decode
   assign  dec_leaf_retry_atomic = 1'b0;
   assign  dec_leaf_data_width = 3'b0;
   
-  //------- combinatorial assigns for pio read data
-  always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always @ (posedge clk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- reg assigns for pio i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- reg assigns for external i/f
   always @ (posedge clk) begin
     if (reset) begin
@@ -1103,136 +1074,6 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child serial8 i/f
-  always @ (*) begin
-    s8_l2_s8_child_state_next = s8_l2_s8_child_state;
-    s8_l2_s8_child_cmdValid_dly0 =  1'b0;
-    s8_l2_s8_child_cmdData_dly0 =  8'b0;
-    h2d_l2_s8_child_ack_ex =  1'b0;
-    h2d_l2_s8_child_nack_ex =  1'b0;
-    h2d_l2_s8_child_nack_early_next = h2d_l2_s8_child_nack_early;
-    s8_l2_s8_child_rdata_accum_next = s8_l2_s8_child_rdata_accum;
-    s8_l2_s8_child_addr_cnt_next = 1'b0;
-    s8_l2_s8_child_data_cnt_next = 2'b0;
-    case (s8_l2_s8_child_state)
-      3'h0: begin // IDLE
-          h2d_l2_s8_child_nack_early_next = 1'b0;
-          s8_l2_s8_child_rdata_accum_next = 32'b0;
-          if (d2h_l2_s8_child_re_ex | d2h_l2_s8_child_we_ex) begin
-            s8_l2_s8_child_cmdValid_dly0 =  1'b1;
-            s8_l2_s8_child_cmdData_dly0[7] = d2h_l2_s8_child_we_ex;
-            s8_l2_s8_child_cmdData_dly0[6:4] = 3'd2;
-            s8_l2_s8_child_state_next = 3'h1;
-          end
-        end
-      3'h1: begin // CMD_ADDR
-          s8_l2_s8_child_cmdValid_dly0 =  1'b1;
-          s8_l2_s8_child_addr_cnt_next = s8_l2_s8_child_addr_cnt + 1'b1;
-          if (s8_l2_s8_child_addr_cnt == 1'd0)
-            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_addr_ex [9:2] ;
-          else if (s8_l2_s8_child_addr_cnt == 1'd1)
-            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_addr_ex [13:10] ;
-          if (s8_l2_s8_child_addr_cnt == 1'd1) begin
-            if (d2h_l2_s8_child_we_ex) s8_l2_s8_child_state_next = 3'h2;
-            else s8_l2_s8_child_state_next = 3'h3;
-          end
-        end
-      3'h2: begin // CMD_DATA
-          s8_l2_s8_child_cmdValid_dly0 =  1'b1;
-          s8_l2_s8_child_data_cnt_next = s8_l2_s8_child_data_cnt + 2'b1;
-          if (s8_l2_s8_child_data_cnt == 2'd0)
-            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [7:0] ;
-          else if (s8_l2_s8_child_data_cnt == 2'd1)
-            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [15:8] ;
-          else if (s8_l2_s8_child_data_cnt == 2'd2)
-            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [23:16] ;
-          else if (s8_l2_s8_child_data_cnt == 2'd3)
-            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [31:24] ;
-          if (s8_l2_s8_child_data_cnt == 2'b11)
-            s8_l2_s8_child_state_next = 3'h3;
-        end
-      3'h3: begin  // RES_WAIT
-          if (s8_l2_s8_child_resValid_dly1) begin
-            h2d_l2_s8_child_nack_early_next = s8_l2_s8_child_resData_dly1[7];
-            if (d2h_l2_s8_child_re_ex) s8_l2_s8_child_state_next = 3'h4;
-            else if (h2d_l2_s8_child_nack_early_next) s8_l2_s8_child_state_next = 3'h6;
-            else s8_l2_s8_child_state_next = 3'h5;
-          end
-        end
-      3'h4: begin  // RES_READ
-          s8_l2_s8_child_data_cnt_next = s8_l2_s8_child_data_cnt;
-          if (s8_l2_s8_child_resValid_dly1) begin
-            s8_l2_s8_child_data_cnt_next = s8_l2_s8_child_data_cnt + 2'b1;
-            if (s8_l2_s8_child_data_cnt == 2'd0)
-              s8_l2_s8_child_rdata_accum_next [7:0]  = s8_l2_s8_child_resData_dly1;
-            else if (s8_l2_s8_child_data_cnt == 2'd1)
-              s8_l2_s8_child_rdata_accum_next [15:8]  = s8_l2_s8_child_resData_dly1;
-            else if (s8_l2_s8_child_data_cnt == 2'd2)
-              s8_l2_s8_child_rdata_accum_next [23:16]  = s8_l2_s8_child_resData_dly1;
-            else if (s8_l2_s8_child_data_cnt == 2'd3)
-              s8_l2_s8_child_rdata_accum_next [31:24]  = s8_l2_s8_child_resData_dly1;
-          end
-          else if (h2d_l2_s8_child_nack_early) s8_l2_s8_child_state_next = 3'h6;
-          if (s8_l2_s8_child_data_cnt == 2'b11) s8_l2_s8_child_state_next = 3'h5;
-        end
-      3'h5: begin // RES_DONE_ACK
-          h2d_l2_s8_child_ack_ex = 1'b1;
-          s8_l2_s8_child_state_next = 3'h0;
-        end
-      3'h6: begin // RES_DONE_NACK
-          h2d_l2_s8_child_nack_ex = 1'b1;
-          s8_l2_s8_child_state_next = 3'h0;
-        end
-      default:
-        s8_l2_s8_child_state_next = 3'h0;
-    endcase
-  end
-  
-  //------- reg assigns for l2_s8_child serial8 i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      s8_l2_s8_child_state <= #1  3'b0;
-      s8_l2_s8_child_cmdValid_dly1 <= #1  1'b0;
-      s8_l2_s8_child_cmdData_dly1 <= #1  8'b0;
-      s8_l2_s8_child_resValid_dly1 <= #1  1'b0;
-      s8_l2_s8_child_resData_dly1 <= #1  8'b0;
-      h2d_l2_s8_child_nack_early <= #1  1'b0;
-      s8_l2_s8_child_addr_cnt <= #1  1'b0;
-      s8_l2_s8_child_data_cnt <= #1  2'b0;
-    end
-    else begin
-      s8_l2_s8_child_state <= #1  s8_l2_s8_child_state_next;
-      s8_l2_s8_child_cmdValid_dly1 <= #1  s8_l2_s8_child_cmdValid_dly0;
-      s8_l2_s8_child_cmdData_dly1 <= #1  s8_l2_s8_child_cmdData_dly0;
-      s8_l2_s8_child_resValid_dly1 <= #1  s8_l2_s8_child_resValid_dly0;
-      s8_l2_s8_child_resData_dly1 <= #1  s8_l2_s8_child_resData_dly0;
-      s8_l2_s8_child_rdata_accum <= #1  s8_l2_s8_child_rdata_accum_next;
-      h2d_l2_s8_child_nack_early <= #1  h2d_l2_s8_child_nack_early_next;
-      s8_l2_s8_child_addr_cnt <= #1  s8_l2_s8_child_addr_cnt_next;
-      s8_l2_s8_child_data_cnt <= #1  s8_l2_s8_child_data_cnt_next;
-    end
-  end
-  
-  //------- combinatorial assigns for leaf i/f
-  always @ (*) begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
-  end
-  
-  //------- reg assigns for leaf i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
-    end
-    else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
-    end
-  end
-  
   //------- combinatorial assigns for l2_r16_child ring16 i/f
   always @ (*) begin
     r16_l2_r16_child_state_next = r16_l2_r16_child_state;
@@ -1328,29 +1169,113 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for pio ack/nack
+  //------- combinatorial assigns for l2_s8_child serial8 i/f
   always @ (*) begin
-    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
-    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
-    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
-    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
-    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
-    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+    s8_l2_s8_child_state_next = s8_l2_s8_child_state;
+    s8_l2_s8_child_cmdValid_dly0 =  1'b0;
+    s8_l2_s8_child_cmdData_dly0 =  8'b0;
+    h2d_l2_s8_child_ack_ex =  1'b0;
+    h2d_l2_s8_child_nack_ex =  1'b0;
+    h2d_l2_s8_child_nack_early_next = h2d_l2_s8_child_nack_early;
+    s8_l2_s8_child_rdata_accum_next = s8_l2_s8_child_rdata_accum;
+    s8_l2_s8_child_addr_cnt_next = 1'b0;
+    s8_l2_s8_child_data_cnt_next = 2'b0;
+    case (s8_l2_s8_child_state)
+      3'h0: begin // IDLE
+          h2d_l2_s8_child_nack_early_next = 1'b0;
+          s8_l2_s8_child_rdata_accum_next = 32'b0;
+          if (d2h_l2_s8_child_re_ex | d2h_l2_s8_child_we_ex) begin
+            s8_l2_s8_child_cmdValid_dly0 =  1'b1;
+            s8_l2_s8_child_cmdData_dly0[7] = d2h_l2_s8_child_we_ex;
+            s8_l2_s8_child_cmdData_dly0[6:4] = 3'd2;
+            s8_l2_s8_child_state_next = 3'h1;
+          end
+        end
+      3'h1: begin // CMD_ADDR
+          s8_l2_s8_child_cmdValid_dly0 =  1'b1;
+          s8_l2_s8_child_addr_cnt_next = s8_l2_s8_child_addr_cnt + 1'b1;
+          if (s8_l2_s8_child_addr_cnt == 1'd0)
+            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_addr_ex [9:2] ;
+          else if (s8_l2_s8_child_addr_cnt == 1'd1)
+            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_addr_ex [13:10] ;
+          if (s8_l2_s8_child_addr_cnt == 1'd1) begin
+            if (d2h_l2_s8_child_we_ex) s8_l2_s8_child_state_next = 3'h2;
+            else s8_l2_s8_child_state_next = 3'h3;
+          end
+        end
+      3'h2: begin // CMD_DATA
+          s8_l2_s8_child_cmdValid_dly0 =  1'b1;
+          s8_l2_s8_child_data_cnt_next = s8_l2_s8_child_data_cnt + 2'b1;
+          if (s8_l2_s8_child_data_cnt == 2'd0)
+            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [7:0] ;
+          else if (s8_l2_s8_child_data_cnt == 2'd1)
+            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [15:8] ;
+          else if (s8_l2_s8_child_data_cnt == 2'd2)
+            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [23:16] ;
+          else if (s8_l2_s8_child_data_cnt == 2'd3)
+            s8_l2_s8_child_cmdData_dly0 = d2h_l2_s8_child_w_ex [31:24] ;
+          if (s8_l2_s8_child_data_cnt == 2'b11)
+            s8_l2_s8_child_state_next = 3'h3;
+        end
+      3'h3: begin  // RES_WAIT
+          if (s8_l2_s8_child_resValid_dly1) begin
+            h2d_l2_s8_child_nack_early_next = s8_l2_s8_child_resData_dly1[7];
+            if (d2h_l2_s8_child_re_ex) s8_l2_s8_child_state_next = 3'h4;
+            else if (h2d_l2_s8_child_nack_early_next) s8_l2_s8_child_state_next = 3'h6;
+            else s8_l2_s8_child_state_next = 3'h5;
+          end
+        end
+      3'h4: begin  // RES_READ
+          s8_l2_s8_child_data_cnt_next = s8_l2_s8_child_data_cnt;
+          if (s8_l2_s8_child_resValid_dly1) begin
+            s8_l2_s8_child_data_cnt_next = s8_l2_s8_child_data_cnt + 2'b1;
+            if (s8_l2_s8_child_data_cnt == 2'd0)
+              s8_l2_s8_child_rdata_accum_next [7:0]  = s8_l2_s8_child_resData_dly1;
+            else if (s8_l2_s8_child_data_cnt == 2'd1)
+              s8_l2_s8_child_rdata_accum_next [15:8]  = s8_l2_s8_child_resData_dly1;
+            else if (s8_l2_s8_child_data_cnt == 2'd2)
+              s8_l2_s8_child_rdata_accum_next [23:16]  = s8_l2_s8_child_resData_dly1;
+            else if (s8_l2_s8_child_data_cnt == 2'd3)
+              s8_l2_s8_child_rdata_accum_next [31:24]  = s8_l2_s8_child_resData_dly1;
+          end
+          else if (h2d_l2_s8_child_nack_early) s8_l2_s8_child_state_next = 3'h6;
+          if (s8_l2_s8_child_data_cnt == 2'b11) s8_l2_s8_child_state_next = 3'h5;
+        end
+      3'h5: begin // RES_DONE_ACK
+          h2d_l2_s8_child_ack_ex = 1'b1;
+          s8_l2_s8_child_state_next = 3'h0;
+        end
+      3'h6: begin // RES_DONE_NACK
+          h2d_l2_s8_child_nack_ex = 1'b1;
+          s8_l2_s8_child_state_next = 3'h0;
+        end
+      default:
+        s8_l2_s8_child_state_next = 3'h0;
+    endcase
   end
   
-  //------- reg assigns for pio ack/nack
+  //------- reg assigns for l2_s8_child serial8 i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_ack <= #1 1'b0;
-      dec_pio_nack <= #1 1'b0;
-      pio_external_ack <= #1  1'b0;
-      pio_external_nack <= #1  1'b0;
+      s8_l2_s8_child_state <= #1  3'b0;
+      s8_l2_s8_child_cmdValid_dly1 <= #1  1'b0;
+      s8_l2_s8_child_cmdData_dly1 <= #1  8'b0;
+      s8_l2_s8_child_resValid_dly1 <= #1  1'b0;
+      s8_l2_s8_child_resData_dly1 <= #1  8'b0;
+      h2d_l2_s8_child_nack_early <= #1  1'b0;
+      s8_l2_s8_child_addr_cnt <= #1  1'b0;
+      s8_l2_s8_child_data_cnt <= #1  2'b0;
     end
     else begin
-      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
-      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
-      pio_external_ack <= #1 pio_external_ack_next;
-      pio_external_nack <= #1 pio_external_nack_next;
+      s8_l2_s8_child_state <= #1  s8_l2_s8_child_state_next;
+      s8_l2_s8_child_cmdValid_dly1 <= #1  s8_l2_s8_child_cmdValid_dly0;
+      s8_l2_s8_child_cmdData_dly1 <= #1  s8_l2_s8_child_cmdData_dly0;
+      s8_l2_s8_child_resValid_dly1 <= #1  s8_l2_s8_child_resValid_dly0;
+      s8_l2_s8_child_resData_dly1 <= #1  s8_l2_s8_child_resData_dly0;
+      s8_l2_s8_child_rdata_accum <= #1  s8_l2_s8_child_rdata_accum_next;
+      h2d_l2_s8_child_nack_early <= #1  h2d_l2_s8_child_nack_early_next;
+      s8_l2_s8_child_addr_cnt <= #1  s8_l2_s8_child_addr_cnt_next;
+      s8_l2_s8_child_data_cnt <= #1  s8_l2_s8_child_data_cnt_next;
     end
   end
   
@@ -1407,6 +1332,81 @@ module base_map_jrdl_decode
     end
   end
   
+  //------- combinatorial assigns for leaf i/f
+  always @ (*) begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always @ (*) begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always @ (*) begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
   
   //------- address decode
   always @ (*) begin
@@ -2344,82 +2344,6 @@ module base_map_l2_r16_child_jrdl_logic
   reg   [31:0] l2d_l2_r16_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_3_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_0_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_7 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_7_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_5_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_1_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_4_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_7_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_0 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_0_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7
-  always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_7_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_6
-  always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_6_lsb_field_w;
-  end
-  
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_0
   always @ (*) begin
     reg_l2_r16_child_base_regs_config_regs_0_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_0_lsb_field;
@@ -2442,41 +2366,10 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5
-  always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_5_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4
-  always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_4_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_4_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2
-  always @ (*) begin
-    reg_l2_r16_child_base_regs_config_regs_2_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_r16_child_base_regs_config_regs_2_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_r16_child_base_regs_config_regs_2_msb_field_next = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_r16_child_base_regs_config_regs_2_msb_field_r = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_r16_child_base_regs_config_regs_2_we) reg_l2_r16_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_r16_child_base_regs_config_regs_2_we) reg_l2_r16_child_base_regs_config_regs_2_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_2_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_base_regs_config_regs_2
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_r16_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_r16_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_2_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_0 (pio read data)
   always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_3_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_3_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_0_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1
@@ -2501,36 +2394,38 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1 (pio read data)
   always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_2_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2
   always @ (*) begin
-    reg_l2_r16_child_base_regs_config_regs_4_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
-    l2h_l2_r16_child_base_regs_config_regs_4_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
-    reg_l2_r16_child_base_regs_config_regs_4_msb_field_next = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
-    l2h_l2_r16_child_base_regs_config_regs_4_msb_field_r = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
-    if (d2l_l2_r16_child_base_regs_config_regs_4_we) reg_l2_r16_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_4_w [15:0] ;
-    if (d2l_l2_r16_child_base_regs_config_regs_4_we) reg_l2_r16_child_base_regs_config_regs_4_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_4_w [31:16] ;
+    reg_l2_r16_child_base_regs_config_regs_2_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_r16_child_base_regs_config_regs_2_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_2_msb_field_next = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_r16_child_base_regs_config_regs_2_msb_field_r = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_r16_child_base_regs_config_regs_2_we) reg_l2_r16_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_r16_child_base_regs_config_regs_2_we) reg_l2_r16_child_base_regs_config_regs_2_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_2_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_base_regs_config_regs_4
+  //------- reg assigns for l2_r16_child_base_regs_config_regs_2
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_r16_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
+      rg_l2_r16_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_4_lsb_field_next;
-      rg_l2_r16_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_4_msb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_2_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2 (pio read data)
   always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3
@@ -2555,33 +2450,40 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3 (pio read data)
   always @ (*) begin
-    rg_l2_r16_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_0_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4
   always @ (*) begin
-    reg_l2_r16_child_base_regs_config_regs_6_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_r16_child_base_regs_config_regs_6_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_r16_child_base_regs_config_regs_6_msb_field_next = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_r16_child_base_regs_config_regs_6_msb_field_r = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_r16_child_base_regs_config_regs_6_we) reg_l2_r16_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_r16_child_base_regs_config_regs_6_we) reg_l2_r16_child_base_regs_config_regs_6_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_6_w [31:16] ;
+    reg_l2_r16_child_base_regs_config_regs_4_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
+    l2h_l2_r16_child_base_regs_config_regs_4_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_4_msb_field_next = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
+    l2h_l2_r16_child_base_regs_config_regs_4_msb_field_r = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
+    if (d2l_l2_r16_child_base_regs_config_regs_4_we) reg_l2_r16_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_4_w [15:0] ;
+    if (d2l_l2_r16_child_base_regs_config_regs_4_we) reg_l2_r16_child_base_regs_config_regs_4_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_4_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_base_regs_config_regs_6
+  //------- reg assigns for l2_r16_child_base_regs_config_regs_4
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_r16_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+      rg_l2_r16_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_r16_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_6_msb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_4_lsb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_4_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_5
   always @ (*) begin
     reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
@@ -2610,10 +2512,32 @@ module base_map_l2_r16_child_jrdl_logic
     l2d_l2_r16_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6
   always @ (*) begin
-    l2d_l2_r16_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_2_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_6_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_r16_child_base_regs_config_regs_6_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_6_msb_field_next = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_r16_child_base_regs_config_regs_6_msb_field_r = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_r16_child_base_regs_config_regs_6_we) reg_l2_r16_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_r16_child_base_regs_config_regs_6_we) reg_l2_r16_child_base_regs_config_regs_6_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_6_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_r16_child_base_regs_config_regs_6
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_r16_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_6_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_7
@@ -2638,16 +2562,81 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_7 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
+    l2d_l2_r16_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0
   always @ (*) begin
-    l2d_l2_r16_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
+    rg_l2_r16_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_0_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_2_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_3_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_4_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_4_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_4_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_6
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_6_lsb_field_w;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_6 (pio read data)
@@ -2656,6 +2645,17 @@ module base_map_l2_r16_child_jrdl_logic
     l2d_l2_r16_child_base_regs_state_regs_6_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_6_lsb_field;
   end
   
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7
+  always @ (*) begin
+    rg_l2_r16_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_7_lsb_field;
+  end
+  
 endmodule
 
 //
@@ -3012,52 +3012,133 @@ module base_map_l2_r16_child_jrdl_decode
   assign  pio_dec_read = r16_pio_dec_read;
   assign  pio_dec_write = r16_pio_dec_write;
   
-  //------- combinatorial assigns for pio read data
-  always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_l2_r16_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_r16_child_ext_base_regs_re_ex <= #1  1'b0;
+      d2h_l2_r16_child_l3_child_we_ex <= #1  1'b0;
+      d2h_l2_r16_child_l3_child_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_l2_r16_child_ext_base_regs_w_ex <= #1  d2h_l2_r16_child_ext_base_regs_w_next;
+      d2h_l2_r16_child_ext_base_regs_we_ex <= #1  d2h_l2_r16_child_ext_base_regs_we_next & ~h2d_l2_r16_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_ext_base_regs_nack_ex;
+      d2h_l2_r16_child_ext_base_regs_re_ex <= #1  d2h_l2_r16_child_ext_base_regs_re_next & ~h2d_l2_r16_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_ext_base_regs_nack_ex;
+      d2h_l2_r16_child_ext_base_regs_addr_ex <= #1  d2h_l2_r16_child_ext_base_regs_addr_next;
+      d2h_l2_r16_child_l3_child_w_ex <= #1  d2h_l2_r16_child_l3_child_w_next;
+      d2h_l2_r16_child_l3_child_we_ex <= #1  d2h_l2_r16_child_l3_child_we_next & ~h2d_l2_r16_child_l3_child_ack_ex & ~h2d_l2_r16_child_l3_child_nack_ex;
+      d2h_l2_r16_child_l3_child_re_ex <= #1  d2h_l2_r16_child_l3_child_re_next & ~h2d_l2_r16_child_l3_child_ack_ex & ~h2d_l2_r16_child_l3_child_nack_ex;
+      d2h_l2_r16_child_l3_child_addr_ex <= #1  d2h_l2_r16_child_l3_child_addr_next;
     end
   end
   
-  //------- reg assigns for pio i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
+  //------- combinatorial assigns for l2_r16_child_l3_child serial8 i/f
+  always @ (*) begin
+    s8_l2_r16_child_l3_child_state_next = s8_l2_r16_child_l3_child_state;
+    s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b0;
+    s8_l2_r16_child_l3_child_cmdData_dly0 =  8'b0;
+    h2d_l2_r16_child_l3_child_ack_ex =  1'b0;
+    h2d_l2_r16_child_l3_child_nack_ex =  1'b0;
+    h2d_l2_r16_child_l3_child_nack_early_next = h2d_l2_r16_child_l3_child_nack_early;
+    s8_l2_r16_child_l3_child_rdata_accum_next = s8_l2_r16_child_l3_child_rdata_accum;
+    s8_l2_r16_child_l3_child_addr_cnt_next = 1'b0;
+    s8_l2_r16_child_l3_child_data_cnt_next = 2'b0;
+    case (s8_l2_r16_child_l3_child_state)
+      3'h0: begin // IDLE
+          h2d_l2_r16_child_l3_child_nack_early_next = 1'b0;
+          s8_l2_r16_child_l3_child_rdata_accum_next = 32'b0;
+          if (d2h_l2_r16_child_l3_child_re_ex | d2h_l2_r16_child_l3_child_we_ex) begin
+            s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
+            s8_l2_r16_child_l3_child_cmdData_dly0[7] = d2h_l2_r16_child_l3_child_we_ex;
+            s8_l2_r16_child_l3_child_cmdData_dly0[6:4] = 3'd2;
+            s8_l2_r16_child_l3_child_state_next = 3'h1;
+          end
+        end
+      3'h1: begin // CMD_ADDR
+          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
+          s8_l2_r16_child_l3_child_addr_cnt_next = s8_l2_r16_child_l3_child_addr_cnt + 1'b1;
+          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd0)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [9:2] ;
+          else if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [11:10] ;
+          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1) begin
+            if (d2h_l2_r16_child_l3_child_we_ex) s8_l2_r16_child_l3_child_state_next = 3'h2;
+            else s8_l2_r16_child_l3_child_state_next = 3'h3;
+          end
+        end
+      3'h2: begin // CMD_DATA
+          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
+          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
+          if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [7:0] ;
+          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [15:8] ;
+          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [23:16] ;
+          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [31:24] ;
+          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11)
+            s8_l2_r16_child_l3_child_state_next = 3'h3;
+        end
+      3'h3: begin  // RES_WAIT
+          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
+            h2d_l2_r16_child_l3_child_nack_early_next = s8_l2_r16_child_l3_child_resData_dly1[7];
+            if (d2h_l2_r16_child_l3_child_re_ex) s8_l2_r16_child_l3_child_state_next = 3'h4;
+            else if (h2d_l2_r16_child_l3_child_nack_early_next) s8_l2_r16_child_l3_child_state_next = 3'h6;
+            else s8_l2_r16_child_l3_child_state_next = 3'h5;
+          end
+        end
+      3'h4: begin  // RES_READ
+          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt;
+          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
+            s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
+            if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
+              s8_l2_r16_child_l3_child_rdata_accum_next [7:0]  = s8_l2_r16_child_l3_child_resData_dly1;
+            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
+              s8_l2_r16_child_l3_child_rdata_accum_next [15:8]  = s8_l2_r16_child_l3_child_resData_dly1;
+            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
+              s8_l2_r16_child_l3_child_rdata_accum_next [23:16]  = s8_l2_r16_child_l3_child_resData_dly1;
+            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
+              s8_l2_r16_child_l3_child_rdata_accum_next [31:24]  = s8_l2_r16_child_l3_child_resData_dly1;
+          end
+          else if (h2d_l2_r16_child_l3_child_nack_early) s8_l2_r16_child_l3_child_state_next = 3'h6;
+          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11) s8_l2_r16_child_l3_child_state_next = 3'h5;
+        end
+      3'h5: begin // RES_DONE_ACK
+          h2d_l2_r16_child_l3_child_ack_ex = 1'b1;
+          s8_l2_r16_child_l3_child_state_next = 3'h0;
+        end
+      3'h6: begin // RES_DONE_NACK
+          h2d_l2_r16_child_l3_child_nack_ex = 1'b1;
+          s8_l2_r16_child_l3_child_state_next = 3'h0;
+        end
+      default:
+        s8_l2_r16_child_l3_child_state_next = 3'h0;
+    endcase
   end
   
-  //------- reg assigns for external i/f
+  //------- reg assigns for l2_r16_child_l3_child serial8 i/f
   always @ (posedge clk) begin
     if (reset) begin
-      d2h_l2_r16_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_r16_child_ext_base_regs_re_ex <= #1  1'b0;
-      d2h_l2_r16_child_l3_child_we_ex <= #1  1'b0;
-      d2h_l2_r16_child_l3_child_re_ex <= #1  1'b0;
+      s8_l2_r16_child_l3_child_state <= #1  3'b0;
+      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  1'b0;
+      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  8'b0;
+      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  1'b0;
+      s8_l2_r16_child_l3_child_resData_dly1 <= #1  8'b0;
+      h2d_l2_r16_child_l3_child_nack_early <= #1  1'b0;
+      s8_l2_r16_child_l3_child_addr_cnt <= #1  1'b0;
+      s8_l2_r16_child_l3_child_data_cnt <= #1  2'b0;
     end
     else begin
-      d2h_l2_r16_child_ext_base_regs_w_ex <= #1  d2h_l2_r16_child_ext_base_regs_w_next;
-      d2h_l2_r16_child_ext_base_regs_we_ex <= #1  d2h_l2_r16_child_ext_base_regs_we_next & ~h2d_l2_r16_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_ext_base_regs_nack_ex;
-      d2h_l2_r16_child_ext_base_regs_re_ex <= #1  d2h_l2_r16_child_ext_base_regs_re_next & ~h2d_l2_r16_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_ext_base_regs_nack_ex;
-      d2h_l2_r16_child_ext_base_regs_addr_ex <= #1  d2h_l2_r16_child_ext_base_regs_addr_next;
-      d2h_l2_r16_child_l3_child_w_ex <= #1  d2h_l2_r16_child_l3_child_w_next;
-      d2h_l2_r16_child_l3_child_we_ex <= #1  d2h_l2_r16_child_l3_child_we_next & ~h2d_l2_r16_child_l3_child_ack_ex & ~h2d_l2_r16_child_l3_child_nack_ex;
-      d2h_l2_r16_child_l3_child_re_ex <= #1  d2h_l2_r16_child_l3_child_re_next & ~h2d_l2_r16_child_l3_child_ack_ex & ~h2d_l2_r16_child_l3_child_nack_ex;
-      d2h_l2_r16_child_l3_child_addr_ex <= #1  d2h_l2_r16_child_l3_child_addr_next;
+      s8_l2_r16_child_l3_child_state <= #1  s8_l2_r16_child_l3_child_state_next;
+      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  s8_l2_r16_child_l3_child_cmdValid_dly0;
+      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  s8_l2_r16_child_l3_child_cmdData_dly0;
+      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  s8_l2_r16_child_l3_child_resValid_dly0;
+      s8_l2_r16_child_l3_child_resData_dly1 <= #1  s8_l2_r16_child_l3_child_resData_dly0;
+      s8_l2_r16_child_l3_child_rdata_accum <= #1  s8_l2_r16_child_l3_child_rdata_accum_next;
+      h2d_l2_r16_child_l3_child_nack_early <= #1  h2d_l2_r16_child_l3_child_nack_early_next;
+      s8_l2_r16_child_l3_child_addr_cnt <= #1  s8_l2_r16_child_l3_child_addr_cnt_next;
+      s8_l2_r16_child_l3_child_data_cnt <= #1  s8_l2_r16_child_l3_child_data_cnt_next;
     end
   end
   
@@ -3244,113 +3325,32 @@ module base_map_l2_r16_child_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child serial8 i/f
+  //------- reg assigns for pio i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
   always @ (*) begin
-    s8_l2_r16_child_l3_child_state_next = s8_l2_r16_child_l3_child_state;
-    s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b0;
-    s8_l2_r16_child_l3_child_cmdData_dly0 =  8'b0;
-    h2d_l2_r16_child_l3_child_ack_ex =  1'b0;
-    h2d_l2_r16_child_l3_child_nack_ex =  1'b0;
-    h2d_l2_r16_child_l3_child_nack_early_next = h2d_l2_r16_child_l3_child_nack_early;
-    s8_l2_r16_child_l3_child_rdata_accum_next = s8_l2_r16_child_l3_child_rdata_accum;
-    s8_l2_r16_child_l3_child_addr_cnt_next = 1'b0;
-    s8_l2_r16_child_l3_child_data_cnt_next = 2'b0;
-    case (s8_l2_r16_child_l3_child_state)
-      3'h0: begin // IDLE
-          h2d_l2_r16_child_l3_child_nack_early_next = 1'b0;
-          s8_l2_r16_child_l3_child_rdata_accum_next = 32'b0;
-          if (d2h_l2_r16_child_l3_child_re_ex | d2h_l2_r16_child_l3_child_we_ex) begin
-            s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
-            s8_l2_r16_child_l3_child_cmdData_dly0[7] = d2h_l2_r16_child_l3_child_we_ex;
-            s8_l2_r16_child_l3_child_cmdData_dly0[6:4] = 3'd2;
-            s8_l2_r16_child_l3_child_state_next = 3'h1;
-          end
-        end
-      3'h1: begin // CMD_ADDR
-          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
-          s8_l2_r16_child_l3_child_addr_cnt_next = s8_l2_r16_child_l3_child_addr_cnt + 1'b1;
-          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd0)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [9:2] ;
-          else if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [11:10] ;
-          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1) begin
-            if (d2h_l2_r16_child_l3_child_we_ex) s8_l2_r16_child_l3_child_state_next = 3'h2;
-            else s8_l2_r16_child_l3_child_state_next = 3'h3;
-          end
-        end
-      3'h2: begin // CMD_DATA
-          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
-          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
-          if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [7:0] ;
-          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [15:8] ;
-          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [23:16] ;
-          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [31:24] ;
-          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11)
-            s8_l2_r16_child_l3_child_state_next = 3'h3;
-        end
-      3'h3: begin  // RES_WAIT
-          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
-            h2d_l2_r16_child_l3_child_nack_early_next = s8_l2_r16_child_l3_child_resData_dly1[7];
-            if (d2h_l2_r16_child_l3_child_re_ex) s8_l2_r16_child_l3_child_state_next = 3'h4;
-            else if (h2d_l2_r16_child_l3_child_nack_early_next) s8_l2_r16_child_l3_child_state_next = 3'h6;
-            else s8_l2_r16_child_l3_child_state_next = 3'h5;
-          end
-        end
-      3'h4: begin  // RES_READ
-          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt;
-          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
-            s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
-            if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
-              s8_l2_r16_child_l3_child_rdata_accum_next [7:0]  = s8_l2_r16_child_l3_child_resData_dly1;
-            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
-              s8_l2_r16_child_l3_child_rdata_accum_next [15:8]  = s8_l2_r16_child_l3_child_resData_dly1;
-            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
-              s8_l2_r16_child_l3_child_rdata_accum_next [23:16]  = s8_l2_r16_child_l3_child_resData_dly1;
-            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
-              s8_l2_r16_child_l3_child_rdata_accum_next [31:24]  = s8_l2_r16_child_l3_child_resData_dly1;
-          end
-          else if (h2d_l2_r16_child_l3_child_nack_early) s8_l2_r16_child_l3_child_state_next = 3'h6;
-          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11) s8_l2_r16_child_l3_child_state_next = 3'h5;
-        end
-      3'h5: begin // RES_DONE_ACK
-          h2d_l2_r16_child_l3_child_ack_ex = 1'b1;
-          s8_l2_r16_child_l3_child_state_next = 3'h0;
-        end
-      3'h6: begin // RES_DONE_NACK
-          h2d_l2_r16_child_l3_child_nack_ex = 1'b1;
-          s8_l2_r16_child_l3_child_state_next = 3'h0;
-        end
-      default:
-        s8_l2_r16_child_l3_child_state_next = 3'h0;
-    endcase
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child serial8 i/f
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      s8_l2_r16_child_l3_child_state <= #1  3'b0;
-      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  1'b0;
-      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  8'b0;
-      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  1'b0;
-      s8_l2_r16_child_l3_child_resData_dly1 <= #1  8'b0;
-      h2d_l2_r16_child_l3_child_nack_early <= #1  1'b0;
-      s8_l2_r16_child_l3_child_addr_cnt <= #1  1'b0;
-      s8_l2_r16_child_l3_child_data_cnt <= #1  2'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      s8_l2_r16_child_l3_child_state <= #1  s8_l2_r16_child_l3_child_state_next;
-      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  s8_l2_r16_child_l3_child_cmdValid_dly0;
-      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  s8_l2_r16_child_l3_child_cmdData_dly0;
-      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  s8_l2_r16_child_l3_child_resValid_dly0;
-      s8_l2_r16_child_l3_child_resData_dly1 <= #1  s8_l2_r16_child_l3_child_resData_dly0;
-      s8_l2_r16_child_l3_child_rdata_accum <= #1  s8_l2_r16_child_l3_child_rdata_accum_next;
-      h2d_l2_r16_child_l3_child_nack_early <= #1  h2d_l2_r16_child_l3_child_nack_early_next;
-      s8_l2_r16_child_l3_child_addr_cnt <= #1  s8_l2_r16_child_l3_child_addr_cnt_next;
-      s8_l2_r16_child_l3_child_data_cnt <= #1  s8_l2_r16_child_l3_child_data_cnt_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -4205,106 +4205,34 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
   reg   [31:0] l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_3 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_4 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5
-  always @ (*) begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_5
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4
-  always @ (*) begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_4
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7
-  always @ (*) begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_7
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0
   always @ (*) begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [31:16] ;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_6
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_0
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_1
   always @ (*) begin
     reg_l2_r16_child_l3_child_base_regs_config_regs_1_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_1_lsb_field;
@@ -4327,28 +4255,40 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_1 (pio read data)
   always @ (*) begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [31:16] ;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2
+  always @ (*) begin
+    reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_2
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_3
   always @ (*) begin
     reg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field;
@@ -4371,112 +4311,144 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_3 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0 (pio read data)
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_4
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5
   always @ (*) begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [31:16] ;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_2
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_5
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field;
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_6
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5
-  always @ (*) begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_7
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0
   always @ (*) begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+    rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1
   always @ (*) begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+    rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1 (pio read data)
   always @ (*) begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_2
@@ -4484,10 +4456,10 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     rg_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_2 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_3
@@ -4506,15 +4478,43 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     rg_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_4 (pio read data)
   always @ (*) begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5
   always @ (*) begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field_w;
+    rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6
+  always @ (*) begin
+    rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7
+  always @ (*) begin
+    rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7 (pio read data)
+  always @ (*) begin
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -4805,18 +4805,17 @@ module base_map_l2_r16_child_l3_child_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read;
   assign  pio_dec_write = s8_pio_dec_write;
   
-  //------- combinatorial assigns for pio read data
-  always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_l2_r16_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_w_next;
+      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_we_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_re_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_r16_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_addr_next;
     end
   end
   
@@ -4941,17 +4940,18 @@ module base_map_l2_r16_child_l3_child_jrdl_decode
     end
   end
   
-  //------- reg assigns for external i/f
+  //------- combinatorial assigns for pio read data
+  always @ (*) begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      d2h_l2_r16_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_w_next;
-      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_we_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_re_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_r16_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_addr_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -5780,28 +5780,54 @@ module base_map_l2_s8_child_jrdl_logic
   reg   [31:0] l2d_l2_s8_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
+    reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_1_lsb_field;
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_0
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0 (pio read data)
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
+    l2d_l2_s8_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_1
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_4_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_1
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_1 (pio read data)
@@ -5810,16 +5836,26 @@ module base_map_l2_s8_child_jrdl_logic
     l2d_l2_s8_child_base_regs_config_regs_1_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_2
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_6_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_2
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_2 (pio read data)
@@ -5828,62 +5864,32 @@ module base_map_l2_s8_child_jrdl_logic
     l2d_l2_s8_child_base_regs_config_regs_2_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_2_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_5_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_5_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_4_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_7_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_6_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_1_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_0_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
+    reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3
-  always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_3_lsb_field_w;
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_3
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3 (pio read data)
   always @ (*) begin
-    rg_l2_s8_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_s8_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_4
@@ -5908,94 +5914,66 @@ module base_map_l2_s8_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_4 (pio read data)
   always @ (*) begin
-    reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_3
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_msb_field_next;
-    end
+    l2d_l2_s8_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_4_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5
   always @ (*) begin
-    reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [31:16] ;
+    reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_5_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_5_msb_field_r = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_2
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_5
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_msb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5 (pio read data)
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_3_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_1
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6
   always @ (*) begin
-    reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [31:16] ;
+    reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_1
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_6
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_msb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_4 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_4_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6 (pio read data)
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_0_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7
@@ -6020,76 +5998,98 @@ module base_map_l2_s8_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7 (pio read data)
   always @ (*) begin
-    reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [31:16] ;
+    l2d_l2_s8_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_6
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0
+  always @ (*) begin
+    rg_l2_s8_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0 (pio read data)
   always @ (*) begin
-    l2d_l2_s8_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_7_lsb_field;
+    l2d_l2_s8_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1
   always @ (*) begin
-    reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_5_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_5_msb_field_r = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [31:16] ;
+    rg_l2_s8_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_5
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_1_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2
   always @ (*) begin
-    reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [31:16] ;
+    rg_l2_s8_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_0
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3
+  always @ (*) begin
+    rg_l2_s8_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4
+  always @ (*) begin
+    rg_l2_s8_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_4_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_4_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5
+  always @ (*) begin
+    rg_l2_s8_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6
+  always @ (*) begin
+    rg_l2_s8_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_6_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_6_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7
+  always @ (*) begin
+    rg_l2_s8_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -6424,18 +6424,133 @@ module base_map_l2_s8_child_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read;
   assign  pio_dec_write = s8_pio_dec_write;
   
-  //------- combinatorial assigns for pio read data
+  //------- reg assigns for external i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      d2h_l2_s8_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_s8_child_ext_base_regs_re_ex <= #1  1'b0;
+      d2h_l2_s8_child_l3_child_we_ex <= #1  1'b0;
+      d2h_l2_s8_child_l3_child_re_ex <= #1  1'b0;
+    end
+    else begin
+      d2h_l2_s8_child_ext_base_regs_w_ex <= #1  d2h_l2_s8_child_ext_base_regs_w_next;
+      d2h_l2_s8_child_ext_base_regs_we_ex <= #1  d2h_l2_s8_child_ext_base_regs_we_next & ~h2d_l2_s8_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_ext_base_regs_nack_ex;
+      d2h_l2_s8_child_ext_base_regs_re_ex <= #1  d2h_l2_s8_child_ext_base_regs_re_next & ~h2d_l2_s8_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_ext_base_regs_nack_ex;
+      d2h_l2_s8_child_ext_base_regs_addr_ex <= #1  d2h_l2_s8_child_ext_base_regs_addr_next;
+      d2h_l2_s8_child_l3_child_w_ex <= #1  d2h_l2_s8_child_l3_child_w_next;
+      d2h_l2_s8_child_l3_child_we_ex <= #1  d2h_l2_s8_child_l3_child_we_next & ~h2d_l2_s8_child_l3_child_ack_ex & ~h2d_l2_s8_child_l3_child_nack_ex;
+      d2h_l2_s8_child_l3_child_re_ex <= #1  d2h_l2_s8_child_l3_child_re_next & ~h2d_l2_s8_child_l3_child_ack_ex & ~h2d_l2_s8_child_l3_child_nack_ex;
+      d2h_l2_s8_child_l3_child_addr_ex <= #1  d2h_l2_s8_child_l3_child_addr_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child serial8 i/f
   always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
+    s8_l2_s8_child_l3_child_state_next = s8_l2_s8_child_l3_child_state;
+    s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b0;
+    s8_l2_s8_child_l3_child_cmdData_dly0 =  8'b0;
+    h2d_l2_s8_child_l3_child_ack_ex =  1'b0;
+    h2d_l2_s8_child_l3_child_nack_ex =  1'b0;
+    h2d_l2_s8_child_l3_child_nack_early_next = h2d_l2_s8_child_l3_child_nack_early;
+    s8_l2_s8_child_l3_child_rdata_accum_next = s8_l2_s8_child_l3_child_rdata_accum;
+    s8_l2_s8_child_l3_child_addr_cnt_next = 1'b0;
+    s8_l2_s8_child_l3_child_data_cnt_next = 2'b0;
+    case (s8_l2_s8_child_l3_child_state)
+      3'h0: begin // IDLE
+          h2d_l2_s8_child_l3_child_nack_early_next = 1'b0;
+          s8_l2_s8_child_l3_child_rdata_accum_next = 32'b0;
+          if (d2h_l2_s8_child_l3_child_re_ex | d2h_l2_s8_child_l3_child_we_ex) begin
+            s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b1;
+            s8_l2_s8_child_l3_child_cmdData_dly0[7] = d2h_l2_s8_child_l3_child_we_ex;
+            s8_l2_s8_child_l3_child_cmdData_dly0[6:4] = 3'd2;
+            s8_l2_s8_child_l3_child_state_next = 3'h1;
+          end
+        end
+      3'h1: begin // CMD_ADDR
+          s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b1;
+          s8_l2_s8_child_l3_child_addr_cnt_next = s8_l2_s8_child_l3_child_addr_cnt + 1'b1;
+          if (s8_l2_s8_child_l3_child_addr_cnt == 1'd0)
+            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_addr_ex [9:2] ;
+          else if (s8_l2_s8_child_l3_child_addr_cnt == 1'd1)
+            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_addr_ex [11:10] ;
+          if (s8_l2_s8_child_l3_child_addr_cnt == 1'd1) begin
+            if (d2h_l2_s8_child_l3_child_we_ex) s8_l2_s8_child_l3_child_state_next = 3'h2;
+            else s8_l2_s8_child_l3_child_state_next = 3'h3;
+          end
+        end
+      3'h2: begin // CMD_DATA
+          s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b1;
+          s8_l2_s8_child_l3_child_data_cnt_next = s8_l2_s8_child_l3_child_data_cnt + 2'b1;
+          if (s8_l2_s8_child_l3_child_data_cnt == 2'd0)
+            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [7:0] ;
+          else if (s8_l2_s8_child_l3_child_data_cnt == 2'd1)
+            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [15:8] ;
+          else if (s8_l2_s8_child_l3_child_data_cnt == 2'd2)
+            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [23:16] ;
+          else if (s8_l2_s8_child_l3_child_data_cnt == 2'd3)
+            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [31:24] ;
+          if (s8_l2_s8_child_l3_child_data_cnt == 2'b11)
+            s8_l2_s8_child_l3_child_state_next = 3'h3;
+        end
+      3'h3: begin  // RES_WAIT
+          if (s8_l2_s8_child_l3_child_resValid_dly1) begin
+            h2d_l2_s8_child_l3_child_nack_early_next = s8_l2_s8_child_l3_child_resData_dly1[7];
+            if (d2h_l2_s8_child_l3_child_re_ex) s8_l2_s8_child_l3_child_state_next = 3'h4;
+            else if (h2d_l2_s8_child_l3_child_nack_early_next) s8_l2_s8_child_l3_child_state_next = 3'h6;
+            else s8_l2_s8_child_l3_child_state_next = 3'h5;
+          end
+        end
+      3'h4: begin  // RES_READ
+          s8_l2_s8_child_l3_child_data_cnt_next = s8_l2_s8_child_l3_child_data_cnt;
+          if (s8_l2_s8_child_l3_child_resValid_dly1) begin
+            s8_l2_s8_child_l3_child_data_cnt_next = s8_l2_s8_child_l3_child_data_cnt + 2'b1;
+            if (s8_l2_s8_child_l3_child_data_cnt == 2'd0)
+              s8_l2_s8_child_l3_child_rdata_accum_next [7:0]  = s8_l2_s8_child_l3_child_resData_dly1;
+            else if (s8_l2_s8_child_l3_child_data_cnt == 2'd1)
+              s8_l2_s8_child_l3_child_rdata_accum_next [15:8]  = s8_l2_s8_child_l3_child_resData_dly1;
+            else if (s8_l2_s8_child_l3_child_data_cnt == 2'd2)
+              s8_l2_s8_child_l3_child_rdata_accum_next [23:16]  = s8_l2_s8_child_l3_child_resData_dly1;
+            else if (s8_l2_s8_child_l3_child_data_cnt == 2'd3)
+              s8_l2_s8_child_l3_child_rdata_accum_next [31:24]  = s8_l2_s8_child_l3_child_resData_dly1;
+          end
+          else if (h2d_l2_s8_child_l3_child_nack_early) s8_l2_s8_child_l3_child_state_next = 3'h6;
+          if (s8_l2_s8_child_l3_child_data_cnt == 2'b11) s8_l2_s8_child_l3_child_state_next = 3'h5;
+        end
+      3'h5: begin // RES_DONE_ACK
+          h2d_l2_s8_child_l3_child_ack_ex = 1'b1;
+          s8_l2_s8_child_l3_child_state_next = 3'h0;
+        end
+      3'h6: begin // RES_DONE_NACK
+          h2d_l2_s8_child_l3_child_nack_ex = 1'b1;
+          s8_l2_s8_child_l3_child_state_next = 3'h0;
+        end
+      default:
+        s8_l2_s8_child_l3_child_state_next = 3'h0;
+    endcase
   end
   
-  //------- reg assigns for pio read data
+  //------- reg assigns for l2_s8_child_l3_child serial8 i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      s8_l2_s8_child_l3_child_state <= #1  3'b0;
+      s8_l2_s8_child_l3_child_cmdValid_dly1 <= #1  1'b0;
+      s8_l2_s8_child_l3_child_cmdData_dly1 <= #1  8'b0;
+      s8_l2_s8_child_l3_child_resValid_dly1 <= #1  1'b0;
+      s8_l2_s8_child_l3_child_resData_dly1 <= #1  8'b0;
+      h2d_l2_s8_child_l3_child_nack_early <= #1  1'b0;
+      s8_l2_s8_child_l3_child_addr_cnt <= #1  1'b0;
+      s8_l2_s8_child_l3_child_data_cnt <= #1  2'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      s8_l2_s8_child_l3_child_state <= #1  s8_l2_s8_child_l3_child_state_next;
+      s8_l2_s8_child_l3_child_cmdValid_dly1 <= #1  s8_l2_s8_child_l3_child_cmdValid_dly0;
+      s8_l2_s8_child_l3_child_cmdData_dly1 <= #1  s8_l2_s8_child_l3_child_cmdData_dly0;
+      s8_l2_s8_child_l3_child_resValid_dly1 <= #1  s8_l2_s8_child_l3_child_resValid_dly0;
+      s8_l2_s8_child_l3_child_resData_dly1 <= #1  s8_l2_s8_child_l3_child_resData_dly0;
+      s8_l2_s8_child_l3_child_rdata_accum <= #1  s8_l2_s8_child_l3_child_rdata_accum_next;
+      h2d_l2_s8_child_l3_child_nack_early <= #1  h2d_l2_s8_child_l3_child_nack_early_next;
+      s8_l2_s8_child_l3_child_addr_cnt <= #1  s8_l2_s8_child_l3_child_addr_cnt_next;
+      s8_l2_s8_child_l3_child_data_cnt <= #1  s8_l2_s8_child_l3_child_data_cnt_next;
     end
   end
   
@@ -6560,133 +6675,18 @@ module base_map_l2_s8_child_jrdl_decode
     end
   end
   
-  //------- reg assigns for external i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      d2h_l2_s8_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_s8_child_ext_base_regs_re_ex <= #1  1'b0;
-      d2h_l2_s8_child_l3_child_we_ex <= #1  1'b0;
-      d2h_l2_s8_child_l3_child_re_ex <= #1  1'b0;
-    end
-    else begin
-      d2h_l2_s8_child_ext_base_regs_w_ex <= #1  d2h_l2_s8_child_ext_base_regs_w_next;
-      d2h_l2_s8_child_ext_base_regs_we_ex <= #1  d2h_l2_s8_child_ext_base_regs_we_next & ~h2d_l2_s8_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_ext_base_regs_nack_ex;
-      d2h_l2_s8_child_ext_base_regs_re_ex <= #1  d2h_l2_s8_child_ext_base_regs_re_next & ~h2d_l2_s8_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_ext_base_regs_nack_ex;
-      d2h_l2_s8_child_ext_base_regs_addr_ex <= #1  d2h_l2_s8_child_ext_base_regs_addr_next;
-      d2h_l2_s8_child_l3_child_w_ex <= #1  d2h_l2_s8_child_l3_child_w_next;
-      d2h_l2_s8_child_l3_child_we_ex <= #1  d2h_l2_s8_child_l3_child_we_next & ~h2d_l2_s8_child_l3_child_ack_ex & ~h2d_l2_s8_child_l3_child_nack_ex;
-      d2h_l2_s8_child_l3_child_re_ex <= #1  d2h_l2_s8_child_l3_child_re_next & ~h2d_l2_s8_child_l3_child_ack_ex & ~h2d_l2_s8_child_l3_child_nack_ex;
-      d2h_l2_s8_child_l3_child_addr_ex <= #1  d2h_l2_s8_child_l3_child_addr_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child serial8 i/f
+  //------- combinatorial assigns for pio read data
   always @ (*) begin
-    s8_l2_s8_child_l3_child_state_next = s8_l2_s8_child_l3_child_state;
-    s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b0;
-    s8_l2_s8_child_l3_child_cmdData_dly0 =  8'b0;
-    h2d_l2_s8_child_l3_child_ack_ex =  1'b0;
-    h2d_l2_s8_child_l3_child_nack_ex =  1'b0;
-    h2d_l2_s8_child_l3_child_nack_early_next = h2d_l2_s8_child_l3_child_nack_early;
-    s8_l2_s8_child_l3_child_rdata_accum_next = s8_l2_s8_child_l3_child_rdata_accum;
-    s8_l2_s8_child_l3_child_addr_cnt_next = 1'b0;
-    s8_l2_s8_child_l3_child_data_cnt_next = 2'b0;
-    case (s8_l2_s8_child_l3_child_state)
-      3'h0: begin // IDLE
-          h2d_l2_s8_child_l3_child_nack_early_next = 1'b0;
-          s8_l2_s8_child_l3_child_rdata_accum_next = 32'b0;
-          if (d2h_l2_s8_child_l3_child_re_ex | d2h_l2_s8_child_l3_child_we_ex) begin
-            s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b1;
-            s8_l2_s8_child_l3_child_cmdData_dly0[7] = d2h_l2_s8_child_l3_child_we_ex;
-            s8_l2_s8_child_l3_child_cmdData_dly0[6:4] = 3'd2;
-            s8_l2_s8_child_l3_child_state_next = 3'h1;
-          end
-        end
-      3'h1: begin // CMD_ADDR
-          s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b1;
-          s8_l2_s8_child_l3_child_addr_cnt_next = s8_l2_s8_child_l3_child_addr_cnt + 1'b1;
-          if (s8_l2_s8_child_l3_child_addr_cnt == 1'd0)
-            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_addr_ex [9:2] ;
-          else if (s8_l2_s8_child_l3_child_addr_cnt == 1'd1)
-            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_addr_ex [11:10] ;
-          if (s8_l2_s8_child_l3_child_addr_cnt == 1'd1) begin
-            if (d2h_l2_s8_child_l3_child_we_ex) s8_l2_s8_child_l3_child_state_next = 3'h2;
-            else s8_l2_s8_child_l3_child_state_next = 3'h3;
-          end
-        end
-      3'h2: begin // CMD_DATA
-          s8_l2_s8_child_l3_child_cmdValid_dly0 =  1'b1;
-          s8_l2_s8_child_l3_child_data_cnt_next = s8_l2_s8_child_l3_child_data_cnt + 2'b1;
-          if (s8_l2_s8_child_l3_child_data_cnt == 2'd0)
-            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [7:0] ;
-          else if (s8_l2_s8_child_l3_child_data_cnt == 2'd1)
-            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [15:8] ;
-          else if (s8_l2_s8_child_l3_child_data_cnt == 2'd2)
-            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [23:16] ;
-          else if (s8_l2_s8_child_l3_child_data_cnt == 2'd3)
-            s8_l2_s8_child_l3_child_cmdData_dly0 = d2h_l2_s8_child_l3_child_w_ex [31:24] ;
-          if (s8_l2_s8_child_l3_child_data_cnt == 2'b11)
-            s8_l2_s8_child_l3_child_state_next = 3'h3;
-        end
-      3'h3: begin  // RES_WAIT
-          if (s8_l2_s8_child_l3_child_resValid_dly1) begin
-            h2d_l2_s8_child_l3_child_nack_early_next = s8_l2_s8_child_l3_child_resData_dly1[7];
-            if (d2h_l2_s8_child_l3_child_re_ex) s8_l2_s8_child_l3_child_state_next = 3'h4;
-            else if (h2d_l2_s8_child_l3_child_nack_early_next) s8_l2_s8_child_l3_child_state_next = 3'h6;
-            else s8_l2_s8_child_l3_child_state_next = 3'h5;
-          end
-        end
-      3'h4: begin  // RES_READ
-          s8_l2_s8_child_l3_child_data_cnt_next = s8_l2_s8_child_l3_child_data_cnt;
-          if (s8_l2_s8_child_l3_child_resValid_dly1) begin
-            s8_l2_s8_child_l3_child_data_cnt_next = s8_l2_s8_child_l3_child_data_cnt + 2'b1;
-            if (s8_l2_s8_child_l3_child_data_cnt == 2'd0)
-              s8_l2_s8_child_l3_child_rdata_accum_next [7:0]  = s8_l2_s8_child_l3_child_resData_dly1;
-            else if (s8_l2_s8_child_l3_child_data_cnt == 2'd1)
-              s8_l2_s8_child_l3_child_rdata_accum_next [15:8]  = s8_l2_s8_child_l3_child_resData_dly1;
-            else if (s8_l2_s8_child_l3_child_data_cnt == 2'd2)
-              s8_l2_s8_child_l3_child_rdata_accum_next [23:16]  = s8_l2_s8_child_l3_child_resData_dly1;
-            else if (s8_l2_s8_child_l3_child_data_cnt == 2'd3)
-              s8_l2_s8_child_l3_child_rdata_accum_next [31:24]  = s8_l2_s8_child_l3_child_resData_dly1;
-          end
-          else if (h2d_l2_s8_child_l3_child_nack_early) s8_l2_s8_child_l3_child_state_next = 3'h6;
-          if (s8_l2_s8_child_l3_child_data_cnt == 2'b11) s8_l2_s8_child_l3_child_state_next = 3'h5;
-        end
-      3'h5: begin // RES_DONE_ACK
-          h2d_l2_s8_child_l3_child_ack_ex = 1'b1;
-          s8_l2_s8_child_l3_child_state_next = 3'h0;
-        end
-      3'h6: begin // RES_DONE_NACK
-          h2d_l2_s8_child_l3_child_nack_ex = 1'b1;
-          s8_l2_s8_child_l3_child_state_next = 3'h0;
-        end
-      default:
-        s8_l2_s8_child_l3_child_state_next = 3'h0;
-    endcase
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child serial8 i/f
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      s8_l2_s8_child_l3_child_state <= #1  3'b0;
-      s8_l2_s8_child_l3_child_cmdValid_dly1 <= #1  1'b0;
-      s8_l2_s8_child_l3_child_cmdData_dly1 <= #1  8'b0;
-      s8_l2_s8_child_l3_child_resValid_dly1 <= #1  1'b0;
-      s8_l2_s8_child_l3_child_resData_dly1 <= #1  8'b0;
-      h2d_l2_s8_child_l3_child_nack_early <= #1  1'b0;
-      s8_l2_s8_child_l3_child_addr_cnt <= #1  1'b0;
-      s8_l2_s8_child_l3_child_data_cnt <= #1  2'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      s8_l2_s8_child_l3_child_state <= #1  s8_l2_s8_child_l3_child_state_next;
-      s8_l2_s8_child_l3_child_cmdValid_dly1 <= #1  s8_l2_s8_child_l3_child_cmdValid_dly0;
-      s8_l2_s8_child_l3_child_cmdData_dly1 <= #1  s8_l2_s8_child_l3_child_cmdData_dly0;
-      s8_l2_s8_child_l3_child_resValid_dly1 <= #1  s8_l2_s8_child_l3_child_resValid_dly0;
-      s8_l2_s8_child_l3_child_resData_dly1 <= #1  s8_l2_s8_child_l3_child_resData_dly0;
-      s8_l2_s8_child_l3_child_rdata_accum <= #1  s8_l2_s8_child_l3_child_rdata_accum_next;
-      h2d_l2_s8_child_l3_child_nack_early <= #1  h2d_l2_s8_child_l3_child_nack_early_next;
-      s8_l2_s8_child_l3_child_addr_cnt <= #1  s8_l2_s8_child_l3_child_addr_cnt_next;
-      s8_l2_s8_child_l3_child_data_cnt <= #1  s8_l2_s8_child_l3_child_data_cnt_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -7541,40 +7541,54 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
   reg   [31:0] l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0
   always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field;
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_0
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0 (pio read data)
   always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1
   always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_4 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_msb_field;
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_1
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1 (pio read data)
@@ -7583,115 +7597,60 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
     l2d_l2_s8_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0 (pio read data)
-  always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7
-  always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6
-  always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5
-  always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2
   always @ (*) begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_6
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_2
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2 (pio read data)
   always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3
   always @ (*) begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_7
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_3
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3 (pio read data)
   always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_4
@@ -7716,9 +7675,10 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_4 (pio read data)
   always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_5
@@ -7743,114 +7703,154 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_5 (pio read data)
   always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6
   always @ (*) begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_2
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_6
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6 (pio read data)
   always @ (*) begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7
   always @ (*) begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_3
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_7
   always @ (posedge clk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7 (pio read data)
   always @ (*) begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [31:16] ;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_0
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0 (pio read data)
   always @ (*) begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [31:16] ;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_1
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1 (pio read data)
   always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2
   always @ (*) begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
+    rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7
+  always @ (*) begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7 (pio read data)
+  always @ (*) begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -8141,18 +8141,17 @@ module base_map_l2_s8_child_l3_child_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read;
   assign  pio_dec_write = s8_pio_dec_write;
   
-  //------- combinatorial assigns for pio read data
-  always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_l2_s8_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_w_next;
+      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_we_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_re_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_s8_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_addr_next;
     end
   end
   
@@ -8277,17 +8276,18 @@ module base_map_l2_s8_child_l3_child_jrdl_decode
     end
   end
   
-  //------- reg assigns for external i/f
+  //------- combinatorial assigns for pio read data
+  always @ (*) begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      d2h_l2_s8_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_w_next;
-      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_we_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_re_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_s8_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_addr_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
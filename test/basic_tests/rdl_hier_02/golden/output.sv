@@ -1,7 +1,7 @@
-//   Ordt 180725.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_hier_02/test.rdl
 //   Parms: ./rdl_hier_02/test.parms
-//   Date: Wed Jul 25 15:38:11 EDT 2018
+//   Date: Mon Oct 19 03:30:41 UTC 2026
 //
 
 //
@@ -271,108 +271,6 @@ module base_map_jrdl_logic
   logic   [31:0] l2d_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for base_regs_config_regs_5 (pio read data)
-  always_comb begin
-    l2d_base_regs_config_regs_5_r [15:0]  = rg_base_regs_config_regs_5_lsb_field;
-    l2d_base_regs_config_regs_5_r [31:16]  = rg_base_regs_config_regs_5_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_6 (pio read data)
-  always_comb begin
-    l2d_base_regs_state_regs_6_r = 32'b0;
-    l2d_base_regs_state_regs_6_r [15:0]  = rg_base_regs_state_regs_6_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_0 (pio read data)
-  always_comb begin
-    l2d_base_regs_state_regs_0_r = 32'b0;
-    l2d_base_regs_state_regs_0_r [15:0]  = rg_base_regs_state_regs_0_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_3 (pio read data)
-  always_comb begin
-    l2d_base_regs_state_regs_3_r = 32'b0;
-    l2d_base_regs_state_regs_3_r [15:0]  = rg_base_regs_state_regs_3_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
-  always_comb begin
-    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
-    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_6
-  always_comb begin
-    reg_base_regs_config_regs_6_lsb_field_next = rg_base_regs_config_regs_6_lsb_field;
-    l2h_base_regs_config_regs_6_lsb_field_r = rg_base_regs_config_regs_6_lsb_field;
-    reg_base_regs_config_regs_6_msb_field_next = rg_base_regs_config_regs_6_msb_field;
-    l2h_base_regs_config_regs_6_msb_field_r = rg_base_regs_config_regs_6_msb_field;
-    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_lsb_field_next = d2l_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_msb_field_next = d2l_base_regs_config_regs_6_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_6
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_6_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_6_lsb_field <= #1  reg_base_regs_config_regs_6_lsb_field_next;
-      rg_base_regs_config_regs_6_msb_field <= #1  reg_base_regs_config_regs_6_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_5
-  always_comb begin
-    reg_base_regs_config_regs_5_lsb_field_next = rg_base_regs_config_regs_5_lsb_field;
-    l2h_base_regs_config_regs_5_lsb_field_r = rg_base_regs_config_regs_5_lsb_field;
-    reg_base_regs_config_regs_5_msb_field_next = rg_base_regs_config_regs_5_msb_field;
-    l2h_base_regs_config_regs_5_msb_field_r = rg_base_regs_config_regs_5_msb_field;
-    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_lsb_field_next = d2l_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_msb_field_next = d2l_base_regs_config_regs_5_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_5
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_5_lsb_field <= #1  reg_base_regs_config_regs_5_lsb_field_next;
-      rg_base_regs_config_regs_5_msb_field <= #1  reg_base_regs_config_regs_5_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for base_regs_state_regs_1 (pio read data)
-  always_comb begin
-    l2d_base_regs_state_regs_1_r = 32'b0;
-    l2d_base_regs_state_regs_1_r [15:0]  = rg_base_regs_state_regs_1_lsb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_7
-  always_comb begin
-    reg_base_regs_config_regs_7_lsb_field_next = rg_base_regs_config_regs_7_lsb_field;
-    l2h_base_regs_config_regs_7_lsb_field_r = rg_base_regs_config_regs_7_lsb_field;
-    reg_base_regs_config_regs_7_msb_field_next = rg_base_regs_config_regs_7_msb_field;
-    l2h_base_regs_config_regs_7_msb_field_r = rg_base_regs_config_regs_7_msb_field;
-    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_lsb_field_next = d2l_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_msb_field_next = d2l_base_regs_config_regs_7_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_7
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_7_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_7_lsb_field <= #1  reg_base_regs_config_regs_7_lsb_field_next;
-      rg_base_regs_config_regs_7_msb_field <= #1  reg_base_regs_config_regs_7_msb_field_next;
-    end
-  end
-  
   //------- combinatorial assigns for base_regs_config_regs_0
   always_comb begin
     reg_base_regs_config_regs_0_lsb_field_next = rg_base_regs_config_regs_0_lsb_field;
@@ -395,16 +293,38 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
   always_comb begin
-    l2d_base_regs_config_regs_4_r [15:0]  = rg_base_regs_config_regs_4_lsb_field;
-    l2d_base_regs_config_regs_4_r [31:16]  = rg_base_regs_config_regs_4_msb_field;
+    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
+    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_1
   always_comb begin
-    l2d_base_regs_state_regs_7_r = 32'b0;
-    l2d_base_regs_state_regs_7_r [15:0]  = rg_base_regs_state_regs_7_lsb_field;
+    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
+    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
+    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
+    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_1
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
+      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
+  always_comb begin
+    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
+    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
   end
   
   //------- combinatorial assigns for base_regs_config_regs_2
@@ -429,34 +349,40 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_4 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
   always_comb begin
-    l2d_base_regs_state_regs_4_r = 32'b0;
-    l2d_base_regs_state_regs_4_r [15:0]  = rg_base_regs_state_regs_4_lsb_field;
+    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
+    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_1
+  //------- combinatorial assigns for base_regs_config_regs_3
   always_comb begin
-    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
-    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
-    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
-    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
-    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
+    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
+    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
+    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for base_regs_config_regs_1
+  //------- reg assigns for base_regs_config_regs_3
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
-      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
+      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
+  always_comb begin
+    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
+    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
+  end
+  
   //------- combinatorial assigns for base_regs_config_regs_4
   always_comb begin
     reg_base_regs_config_regs_4_lsb_field_next = rg_base_regs_config_regs_4_lsb_field;
@@ -479,43 +405,60 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_4 (pio read data)
   always_comb begin
-    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
-    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
-    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
-    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
-    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
+    l2d_base_regs_config_regs_4_r [15:0]  = rg_base_regs_config_regs_4_lsb_field;
+    l2d_base_regs_config_regs_4_r [31:16]  = rg_base_regs_config_regs_4_msb_field;
   end
   
-  //------- reg assigns for base_regs_config_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_5
+  always_comb begin
+    reg_base_regs_config_regs_5_lsb_field_next = rg_base_regs_config_regs_5_lsb_field;
+    l2h_base_regs_config_regs_5_lsb_field_r = rg_base_regs_config_regs_5_lsb_field;
+    reg_base_regs_config_regs_5_msb_field_next = rg_base_regs_config_regs_5_msb_field;
+    l2h_base_regs_config_regs_5_msb_field_r = rg_base_regs_config_regs_5_msb_field;
+    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_lsb_field_next = d2l_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_msb_field_next = d2l_base_regs_config_regs_5_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_5
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
-      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
+      rg_base_regs_config_regs_5_lsb_field <= #1  reg_base_regs_config_regs_5_lsb_field_next;
+      rg_base_regs_config_regs_5_msb_field <= #1  reg_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_5 (pio read data)
   always_comb begin
-    l2d_base_regs_config_regs_7_r [15:0]  = rg_base_regs_config_regs_7_lsb_field;
-    l2d_base_regs_config_regs_7_r [31:16]  = rg_base_regs_config_regs_7_msb_field;
+    l2d_base_regs_config_regs_5_r [15:0]  = rg_base_regs_config_regs_5_lsb_field;
+    l2d_base_regs_config_regs_5_r [31:16]  = rg_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_6
   always_comb begin
-    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
-    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
+    reg_base_regs_config_regs_6_lsb_field_next = rg_base_regs_config_regs_6_lsb_field;
+    l2h_base_regs_config_regs_6_lsb_field_r = rg_base_regs_config_regs_6_lsb_field;
+    reg_base_regs_config_regs_6_msb_field_next = rg_base_regs_config_regs_6_msb_field;
+    l2h_base_regs_config_regs_6_msb_field_r = rg_base_regs_config_regs_6_msb_field;
+    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_lsb_field_next = d2l_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_base_regs_config_regs_6_we) reg_base_regs_config_regs_6_msb_field_next = d2l_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_2
-  always_comb begin
-    rg_base_regs_state_regs_2_lsb_field =  h2l_base_regs_state_regs_2_lsb_field_w;
+  //------- reg assigns for base_regs_config_regs_6
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_6_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_6_lsb_field <= #1  reg_base_regs_config_regs_6_lsb_field_next;
+      rg_base_regs_config_regs_6_msb_field <= #1  reg_base_regs_config_regs_6_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for base_regs_config_regs_6 (pio read data)
@@ -524,20 +467,43 @@ module base_map_jrdl_logic
     l2d_base_regs_config_regs_6_r [31:16]  = rg_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_7
   always_comb begin
-    rg_base_regs_state_regs_3_lsb_field =  h2l_base_regs_state_regs_3_lsb_field_w;
+    reg_base_regs_config_regs_7_lsb_field_next = rg_base_regs_config_regs_7_lsb_field;
+    l2h_base_regs_config_regs_7_lsb_field_r = rg_base_regs_config_regs_7_lsb_field;
+    reg_base_regs_config_regs_7_msb_field_next = rg_base_regs_config_regs_7_msb_field;
+    l2h_base_regs_config_regs_7_msb_field_r = rg_base_regs_config_regs_7_msb_field;
+    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_lsb_field_next = d2l_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_base_regs_config_regs_7_we) reg_base_regs_config_regs_7_msb_field_next = d2l_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_0
-  always_comb begin
-    rg_base_regs_state_regs_0_lsb_field =  h2l_base_regs_state_regs_0_lsb_field_w;
+  //------- reg assigns for base_regs_config_regs_7
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_7_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_7_lsb_field <= #1  reg_base_regs_config_regs_7_lsb_field_next;
+      rg_base_regs_config_regs_7_msb_field <= #1  reg_base_regs_config_regs_7_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_7 (pio read data)
   always_comb begin
-    l2d_base_regs_state_regs_2_r = 32'b0;
-    l2d_base_regs_state_regs_2_r [15:0]  = rg_base_regs_state_regs_2_lsb_field;
+    l2d_base_regs_config_regs_7_r [15:0]  = rg_base_regs_config_regs_7_lsb_field;
+    l2d_base_regs_config_regs_7_r [31:16]  = rg_base_regs_config_regs_7_msb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_0
+  always_comb begin
+    rg_base_regs_state_regs_0_lsb_field =  h2l_base_regs_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_0_r = 32'b0;
+    l2d_base_regs_state_regs_0_r [15:0]  = rg_base_regs_state_regs_0_lsb_field;
   end
   
   //------- combinatorial assigns for base_regs_state_regs_1
@@ -545,20 +511,32 @@ module base_map_jrdl_logic
     rg_base_regs_state_regs_1_lsb_field =  h2l_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_6
+  //------- combinatorial assigns for base_regs_state_regs_1 (pio read data)
   always_comb begin
-    rg_base_regs_state_regs_6_lsb_field =  h2l_base_regs_state_regs_6_lsb_field_w;
+    l2d_base_regs_state_regs_1_r = 32'b0;
+    l2d_base_regs_state_regs_1_r [15:0]  = rg_base_regs_state_regs_1_lsb_field;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_5 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_2
   always_comb begin
-    l2d_base_regs_state_regs_5_r = 32'b0;
-    l2d_base_regs_state_regs_5_r [15:0]  = rg_base_regs_state_regs_5_lsb_field;
+    rg_base_regs_state_regs_2_lsb_field =  h2l_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_state_regs_7
+  //------- combinatorial assigns for base_regs_state_regs_2 (pio read data)
   always_comb begin
-    rg_base_regs_state_regs_7_lsb_field =  h2l_base_regs_state_regs_7_lsb_field_w;
+    l2d_base_regs_state_regs_2_r = 32'b0;
+    l2d_base_regs_state_regs_2_r [15:0]  = rg_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_3
+  always_comb begin
+    rg_base_regs_state_regs_3_lsb_field =  h2l_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_3 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_3_r = 32'b0;
+    l2d_base_regs_state_regs_3_r [15:0]  = rg_base_regs_state_regs_3_lsb_field;
   end
   
   //------- combinatorial assigns for base_regs_state_regs_4
@@ -566,21 +544,43 @@ module base_map_jrdl_logic
     rg_base_regs_state_regs_4_lsb_field =  h2l_base_regs_state_regs_4_lsb_field_w;
   end
   
+  //------- combinatorial assigns for base_regs_state_regs_4 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_4_r = 32'b0;
+    l2d_base_regs_state_regs_4_r [15:0]  = rg_base_regs_state_regs_4_lsb_field;
+  end
+  
   //------- combinatorial assigns for base_regs_state_regs_5
   always_comb begin
     rg_base_regs_state_regs_5_lsb_field =  h2l_base_regs_state_regs_5_lsb_field_w;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_5 (pio read data)
   always_comb begin
-    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
-    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
+    l2d_base_regs_state_regs_5_r = 32'b0;
+    l2d_base_regs_state_regs_5_r [15:0]  = rg_base_regs_state_regs_5_lsb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for base_regs_state_regs_6
   always_comb begin
-    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
-    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
+    rg_base_regs_state_regs_6_lsb_field =  h2l_base_regs_state_regs_6_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_6 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_6_r = 32'b0;
+    l2d_base_regs_state_regs_6_r [15:0]  = rg_base_regs_state_regs_6_lsb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_7
+  always_comb begin
+    rg_base_regs_state_regs_7_lsb_field =  h2l_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for base_regs_state_regs_7 (pio read data)
+  always_comb begin
+    l2d_base_regs_state_regs_7_r = 32'b0;
+    l2d_base_regs_state_regs_7_r [15:0]  = rg_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -1504,63 +1504,6 @@ module base_map_jrdl_decode
   assign  dec_leaf_retry_atomic = 1'b0;
   assign  dec_leaf_data_width = 3'b0;
   
-  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_2_reg_dflt external field read data assigns
-  always_comb begin
-    h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_msb_field_r;
-  end
-  
-  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_3_reg_dflt external field read data assigns
-  always_comb begin
-    h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_msb_field_r;
-  end
-  
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_0_reg_dflt external field read data assigns
-  always_comb begin
-    h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_msb_field_r;
-  end
-  
-  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_1_reg_dflt external field read data assigns
-  always_comb begin
-    h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_msb_field_r;
-  end
-  
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -1666,143 +1609,98 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- reg assigns for clock gate delay
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_dec_read_cgate_dly1 <= #1  1'b0;
-      pio_dec_write_cgate_dly1 <= #1  1'b0;
-      pio_dec_read_cgate_dly2 <= #1  1'b0;
-      pio_dec_write_cgate_dly2 <= #1  1'b0;
-      pio_dec_read_cgate_dly3 <= #1  1'b0;
-      pio_dec_write_cgate_dly3 <= #1  1'b0;
-      pio_dec_read_cgate_dly4 <= #1  1'b0;
-      pio_dec_write_cgate_dly4 <= #1  1'b0;
-      pio_dec_read_cgate_dly5 <= #1  1'b0;
-      pio_dec_write_cgate_dly5 <= #1  1'b0;
-      pio_dec_read_cgate_dly6 <= #1  1'b0;
-      pio_dec_write_cgate_dly6 <= #1  1'b0;
-    end
-    else begin
-      pio_dec_read_cgate_dly1 <= #1 block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
-      pio_dec_write_cgate_dly1 <= #1 block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
-      pio_dec_read_cgate_dly2 <= #1 (pio_dec_read_cgate_dly1 & !pio_dec_read_cgate_dly2) | (pio_dec_read_cgate_dly2 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
-      pio_dec_write_cgate_dly2 <= #1 (pio_dec_write_cgate_dly1 & !pio_dec_write_cgate_dly2) | (pio_dec_write_cgate_dly2 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
-      pio_dec_read_cgate_dly3 <= #1 (pio_dec_read_cgate_dly2 & !pio_dec_read_cgate_dly3) | (pio_dec_read_cgate_dly3 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
-      pio_dec_write_cgate_dly3 <= #1 (pio_dec_write_cgate_dly2 & !pio_dec_write_cgate_dly3) | (pio_dec_write_cgate_dly3 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
-      pio_dec_read_cgate_dly4 <= #1 (pio_dec_read_cgate_dly3 & !pio_dec_read_cgate_dly4) | (pio_dec_read_cgate_dly4 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
-      pio_dec_write_cgate_dly4 <= #1 (pio_dec_write_cgate_dly3 & !pio_dec_write_cgate_dly4) | (pio_dec_write_cgate_dly4 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
-      pio_dec_read_cgate_dly5 <= #1 (pio_dec_read_cgate_dly4 & !pio_dec_read_cgate_dly5) | (pio_dec_read_cgate_dly5 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
-      pio_dec_write_cgate_dly5 <= #1 (pio_dec_write_cgate_dly4 & !pio_dec_write_cgate_dly5) | (pio_dec_write_cgate_dly5 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
-      pio_dec_read_cgate_dly6 <= #1 (pio_dec_read_cgate_dly5 & !pio_dec_read_cgate_dly6) | (pio_dec_read_cgate_dly6 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
-      pio_dec_write_cgate_dly6 <= #1 (pio_dec_write_cgate_dly5 & !pio_dec_write_cgate_dly6) | (pio_dec_write_cgate_dly6 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
-    end
-  end
-  
-  //------- combinatorial assigns for singleton_rf_r16 ring16 i/f
+  //------- combinatorial assigns for l2_r16_child ring16 i/f
   always_comb begin
-    r16_singleton_rf_r16_state_next = r16_singleton_rf_r16_state;
-    r16_singleton_rf_r16_cmdValid_dly0 =  1'b0;
-    r16_singleton_rf_r16_cmdData_dly0 =  16'b0;
-    h2d_singleton_rf_r16_ack_ex =  1'b0;
-    h2d_singleton_rf_r16_nack_ex =  1'b0;
-    r16_singleton_rf_r16_rdata_accum_next = r16_singleton_rf_r16_rdata_accum;
-    r16_singleton_rf_r16_data_cnt_next = 1'b0;
-    case (r16_singleton_rf_r16_state)
+    r16_l2_r16_child_state_next = r16_l2_r16_child_state;
+    r16_l2_r16_child_cmdValid_dly0 =  1'b0;
+    r16_l2_r16_child_cmdData_dly0 =  16'b0;
+    h2d_l2_r16_child_ack_ex =  1'b0;
+    h2d_l2_r16_child_nack_ex =  1'b0;
+    r16_l2_r16_child_rdata_accum_next = r16_l2_r16_child_rdata_accum;
+    r16_l2_r16_child_data_cnt_next = 1'b0;
+    case (r16_l2_r16_child_state)
       3'h0: begin // IDLE
-          r16_singleton_rf_r16_rdata_accum_next = 32'b0;
-          if (d2h_singleton_rf_r16_re_ex | d2h_singleton_rf_r16_we_ex) begin
-            r16_singleton_rf_r16_cmdValid_dly0 =  1'b1;
-            r16_singleton_rf_r16_cmdData_dly0[7] = d2h_singleton_rf_r16_we_ex;
-            r16_singleton_rf_r16_cmdData_dly0 [5:4]  = 2'd0;
-            if (d2h_singleton_rf_r16_we_ex) r16_singleton_rf_r16_state_next = 3'h2;
-            else r16_singleton_rf_r16_state_next = 3'h3;
+          r16_l2_r16_child_rdata_accum_next = 32'b0;
+          if (d2h_l2_r16_child_re_ex | d2h_l2_r16_child_we_ex) begin
+            r16_l2_r16_child_cmdValid_dly0 =  1'b1;
+            r16_l2_r16_child_cmdData_dly0[7] = d2h_l2_r16_child_we_ex;
+            r16_l2_r16_child_cmdData_dly0 [5:4]  = 2'd1;
+            r16_l2_r16_child_state_next = 3'h1;
           end
         end
+      3'h1: begin // CMD_ADDR
+          r16_l2_r16_child_cmdValid_dly0 =  1'b1;
+          r16_l2_r16_child_cmdData_dly0 = {4'h8, d2h_l2_r16_child_addr_ex};
+          if (d2h_l2_r16_child_we_ex) r16_l2_r16_child_state_next = 3'h2;
+          else r16_l2_r16_child_state_next = 3'h3;
+        end
       3'h2: begin // CMD_DATA
-          r16_singleton_rf_r16_cmdValid_dly0 =  1'b1;
-          r16_singleton_rf_r16_data_cnt_next = r16_singleton_rf_r16_data_cnt + 1'b1;
-          if (r16_singleton_rf_r16_data_cnt == 1'd0)
-            r16_singleton_rf_r16_cmdData_dly0 = d2h_singleton_rf_r16_w_ex [15:0] ;
-          else if (r16_singleton_rf_r16_data_cnt == 1'd1)
-            r16_singleton_rf_r16_cmdData_dly0 = d2h_singleton_rf_r16_w_ex [31:16] ;
-          if (r16_singleton_rf_r16_data_cnt == 1'b1)
-            r16_singleton_rf_r16_state_next = 3'h3;
+          r16_l2_r16_child_cmdValid_dly0 =  1'b1;
+          r16_l2_r16_child_data_cnt_next = r16_l2_r16_child_data_cnt + 1'b1;
+          if (r16_l2_r16_child_data_cnt == 1'd0)
+            r16_l2_r16_child_cmdData_dly0 = d2h_l2_r16_child_w_ex [15:0] ;
+          else if (r16_l2_r16_child_data_cnt == 1'd1)
+            r16_l2_r16_child_cmdData_dly0 = d2h_l2_r16_child_w_ex [31:16] ;
+          if (r16_l2_r16_child_data_cnt == 1'b1)
+            r16_l2_r16_child_state_next = 3'h3;
         end
       3'h3: begin  // RES_WAIT
-          if (r16_singleton_rf_r16_resValid_dly1) begin
-            if (d2h_singleton_rf_r16_re_ex & r16_singleton_rf_r16_resData_dly1[14] & ~r16_singleton_rf_r16_resData_dly1[15]) r16_singleton_rf_r16_state_next = 3'h4;
-            else if (~r16_singleton_rf_r16_resData_dly1[14]) r16_singleton_rf_r16_state_next = 3'h6;
-            else r16_singleton_rf_r16_state_next = 3'h5;
+          if (r16_l2_r16_child_resValid_dly2) begin
+            if (d2h_l2_r16_child_re_ex & r16_l2_r16_child_resData_dly2[14] & ~r16_l2_r16_child_resData_dly2[15]) r16_l2_r16_child_state_next = 3'h4;
+            else if (~r16_l2_r16_child_resData_dly2[14]) r16_l2_r16_child_state_next = 3'h6;
+            else r16_l2_r16_child_state_next = 3'h5;
           end
         end
       3'h4: begin  // RES_READ
-          r16_singleton_rf_r16_data_cnt_next = r16_singleton_rf_r16_data_cnt;
-          if (r16_singleton_rf_r16_resValid_dly1) begin
-            r16_singleton_rf_r16_data_cnt_next = r16_singleton_rf_r16_data_cnt + 1'b1;
-            if (r16_singleton_rf_r16_data_cnt == 1'd0)
-              r16_singleton_rf_r16_rdata_accum_next [15:0]  = r16_singleton_rf_r16_resData_dly1;
-            else if (r16_singleton_rf_r16_data_cnt == 1'd1)
-              r16_singleton_rf_r16_rdata_accum_next [31:16]  = r16_singleton_rf_r16_resData_dly1;
+          r16_l2_r16_child_data_cnt_next = r16_l2_r16_child_data_cnt;
+          if (r16_l2_r16_child_resValid_dly2) begin
+            r16_l2_r16_child_data_cnt_next = r16_l2_r16_child_data_cnt + 1'b1;
+            if (r16_l2_r16_child_data_cnt == 1'd0)
+              r16_l2_r16_child_rdata_accum_next [15:0]  = r16_l2_r16_child_resData_dly2;
+            else if (r16_l2_r16_child_data_cnt == 1'd1)
+              r16_l2_r16_child_rdata_accum_next [31:16]  = r16_l2_r16_child_resData_dly2;
           end
-          if (r16_singleton_rf_r16_data_cnt == 1'b1) r16_singleton_rf_r16_state_next = 3'h5;
+          if (r16_l2_r16_child_data_cnt == 1'b1) r16_l2_r16_child_state_next = 3'h5;
         end
       3'h5: begin // RES_DONE_ACK
-          h2d_singleton_rf_r16_ack_ex = 1'b1;
-          r16_singleton_rf_r16_state_next = 3'h0;
+          h2d_l2_r16_child_ack_ex = 1'b1;
+          r16_l2_r16_child_state_next = 3'h0;
         end
       3'h6: begin // RES_DONE_NACK
-          h2d_singleton_rf_r16_nack_ex = 1'b1;
-          r16_singleton_rf_r16_state_next = 3'h0;
+          h2d_l2_r16_child_nack_ex = 1'b1;
+          r16_l2_r16_child_state_next = 3'h0;
         end
       default:
-        r16_singleton_rf_r16_state_next = 3'h0;
+        r16_l2_r16_child_state_next = 3'h0;
     endcase
   end
   
-  //------- reg assigns for singleton_rf_r16 ring16 i/f
+  //------- reg assigns for l2_r16_child ring16 i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
-      r16_singleton_rf_r16_state <= #1  3'b0;
-      r16_singleton_rf_r16_cmdValid_dly1 <= #1  1'b0;
-      r16_singleton_rf_r16_cmdData_dly1 <= #1  16'b0;
-      r16_singleton_rf_r16_resValid_dly1 <= #1  1'b0;
-      r16_singleton_rf_r16_resData_dly1 <= #1  16'b0;
-      r16_singleton_rf_r16_data_cnt <= #1  1'b0;
-    end
-    else begin
-      r16_singleton_rf_r16_state <= #1  r16_singleton_rf_r16_state_next;
-      r16_singleton_rf_r16_cmdValid_dly1 <= #1  r16_singleton_rf_r16_cmdValid_dly0;
-      r16_singleton_rf_r16_cmdData_dly1 <= #1  r16_singleton_rf_r16_cmdData_dly0;
-      r16_singleton_rf_r16_resValid_dly1 <= #1  r16_singleton_rf_r16_resValid_dly0;
-      r16_singleton_rf_r16_resData_dly1 <= #1  r16_singleton_rf_r16_resData_dly0;
-      r16_singleton_rf_r16_rdata_accum <= #1  r16_singleton_rf_r16_rdata_accum_next;
-      r16_singleton_rf_r16_data_cnt <= #1  r16_singleton_rf_r16_data_cnt_next;
-    end
-  end
-  
-  //------- combinatorial assigns for pio ack/nack
-  always_comb begin
-    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
-    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
-    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
-    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
-    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
-    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
-  end
-  
-  //------- reg assigns for pio ack/nack
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_ack <= #1 1'b0;
-      dec_pio_nack <= #1 1'b0;
-      pio_external_ack <= #1  1'b0;
-      pio_external_nack <= #1  1'b0;
+      r16_l2_r16_child_state <= #1  3'b0;
+      r16_l2_r16_child_cmdValid_dly1 <= #1  1'b0;
+      r16_l2_r16_child_cmdData_dly1 <= #1  16'b0;
+      r16_l2_r16_child_cmdValid_dly2 <= #1  1'b0;
+      r16_l2_r16_child_cmdData_dly2 <= #1  16'b0;
+      r16_l2_r16_child_resValid_dly1 <= #1  1'b0;
+      r16_l2_r16_child_resData_dly1 <= #1  16'b0;
+      r16_l2_r16_child_resValid_dly2 <= #1  1'b0;
+      r16_l2_r16_child_resData_dly2 <= #1  16'b0;
+      r16_l2_r16_child_data_cnt <= #1  1'b0;
     end
     else begin
-      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
-      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
-      pio_external_ack <= #1 pio_external_ack_next;
-      pio_external_nack <= #1 pio_external_nack_next;
+      r16_l2_r16_child_state <= #1  r16_l2_r16_child_state_next;
+      r16_l2_r16_child_cmdValid_dly1 <= #1  r16_l2_r16_child_cmdValid_dly0;
+      r16_l2_r16_child_cmdData_dly1 <= #1  r16_l2_r16_child_cmdData_dly0;
+      r16_l2_r16_child_cmdValid_dly2 <= #1  r16_l2_r16_child_cmdValid_dly1;
+      r16_l2_r16_child_cmdData_dly2 <= #1  r16_l2_r16_child_cmdData_dly1;
+      r16_l2_r16_child_resValid_dly1 <= #1  r16_l2_r16_child_resValid_dly0;
+      r16_l2_r16_child_resData_dly1 <= #1  r16_l2_r16_child_resData_dly0;
+      r16_l2_r16_child_resValid_dly2 <= #1  r16_l2_r16_child_resValid_dly1;
+      r16_l2_r16_child_resData_dly2 <= #1  r16_l2_r16_child_resData_dly1;
+      r16_l2_r16_child_rdata_accum <= #1  r16_l2_r16_child_rdata_accum_next;
+      r16_l2_r16_child_data_cnt <= #1  r16_l2_r16_child_data_cnt_next;
     end
   end
   
@@ -2012,140 +1910,93 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_0_reg_dflt external field read data assigns
-  always_comb begin
-    h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_r [15:0]  = h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_msb_field_r;
-  end
-  
-  //------- combinatorial assigns for leaf i/f
-  always_comb begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
-  end
-  
-  //------- reg assigns for leaf i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
-    end
-    else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child ring16 i/f
+  //------- combinatorial assigns for singleton_rf_r16 ring16 i/f
   always_comb begin
-    r16_l2_r16_child_state_next = r16_l2_r16_child_state;
-    r16_l2_r16_child_cmdValid_dly0 =  1'b0;
-    r16_l2_r16_child_cmdData_dly0 =  16'b0;
-    h2d_l2_r16_child_ack_ex =  1'b0;
-    h2d_l2_r16_child_nack_ex =  1'b0;
-    r16_l2_r16_child_rdata_accum_next = r16_l2_r16_child_rdata_accum;
-    r16_l2_r16_child_data_cnt_next = 1'b0;
-    case (r16_l2_r16_child_state)
+    r16_singleton_rf_r16_state_next = r16_singleton_rf_r16_state;
+    r16_singleton_rf_r16_cmdValid_dly0 =  1'b0;
+    r16_singleton_rf_r16_cmdData_dly0 =  16'b0;
+    h2d_singleton_rf_r16_ack_ex =  1'b0;
+    h2d_singleton_rf_r16_nack_ex =  1'b0;
+    r16_singleton_rf_r16_rdata_accum_next = r16_singleton_rf_r16_rdata_accum;
+    r16_singleton_rf_r16_data_cnt_next = 1'b0;
+    case (r16_singleton_rf_r16_state)
       3'h0: begin // IDLE
-          r16_l2_r16_child_rdata_accum_next = 32'b0;
-          if (d2h_l2_r16_child_re_ex | d2h_l2_r16_child_we_ex) begin
-            r16_l2_r16_child_cmdValid_dly0 =  1'b1;
-            r16_l2_r16_child_cmdData_dly0[7] = d2h_l2_r16_child_we_ex;
-            r16_l2_r16_child_cmdData_dly0 [5:4]  = 2'd1;
-            r16_l2_r16_child_state_next = 3'h1;
+          r16_singleton_rf_r16_rdata_accum_next = 32'b0;
+          if (d2h_singleton_rf_r16_re_ex | d2h_singleton_rf_r16_we_ex) begin
+            r16_singleton_rf_r16_cmdValid_dly0 =  1'b1;
+            r16_singleton_rf_r16_cmdData_dly0[7] = d2h_singleton_rf_r16_we_ex;
+            r16_singleton_rf_r16_cmdData_dly0 [5:4]  = 2'd0;
+            if (d2h_singleton_rf_r16_we_ex) r16_singleton_rf_r16_state_next = 3'h2;
+            else r16_singleton_rf_r16_state_next = 3'h3;
           end
         end
-      3'h1: begin // CMD_ADDR
-          r16_l2_r16_child_cmdValid_dly0 =  1'b1;
-          r16_l2_r16_child_cmdData_dly0 = {4'h8, d2h_l2_r16_child_addr_ex};
-          if (d2h_l2_r16_child_we_ex) r16_l2_r16_child_state_next = 3'h2;
-          else r16_l2_r16_child_state_next = 3'h3;
-        end
       3'h2: begin // CMD_DATA
-          r16_l2_r16_child_cmdValid_dly0 =  1'b1;
-          r16_l2_r16_child_data_cnt_next = r16_l2_r16_child_data_cnt + 1'b1;
-          if (r16_l2_r16_child_data_cnt == 1'd0)
-            r16_l2_r16_child_cmdData_dly0 = d2h_l2_r16_child_w_ex [15:0] ;
-          else if (r16_l2_r16_child_data_cnt == 1'd1)
-            r16_l2_r16_child_cmdData_dly0 = d2h_l2_r16_child_w_ex [31:16] ;
-          if (r16_l2_r16_child_data_cnt == 1'b1)
-            r16_l2_r16_child_state_next = 3'h3;
+          r16_singleton_rf_r16_cmdValid_dly0 =  1'b1;
+          r16_singleton_rf_r16_data_cnt_next = r16_singleton_rf_r16_data_cnt + 1'b1;
+          if (r16_singleton_rf_r16_data_cnt == 1'd0)
+            r16_singleton_rf_r16_cmdData_dly0 = d2h_singleton_rf_r16_w_ex [15:0] ;
+          else if (r16_singleton_rf_r16_data_cnt == 1'd1)
+            r16_singleton_rf_r16_cmdData_dly0 = d2h_singleton_rf_r16_w_ex [31:16] ;
+          if (r16_singleton_rf_r16_data_cnt == 1'b1)
+            r16_singleton_rf_r16_state_next = 3'h3;
         end
       3'h3: begin  // RES_WAIT
-          if (r16_l2_r16_child_resValid_dly2) begin
-            if (d2h_l2_r16_child_re_ex & r16_l2_r16_child_resData_dly2[14] & ~r16_l2_r16_child_resData_dly2[15]) r16_l2_r16_child_state_next = 3'h4;
-            else if (~r16_l2_r16_child_resData_dly2[14]) r16_l2_r16_child_state_next = 3'h6;
-            else r16_l2_r16_child_state_next = 3'h5;
+          if (r16_singleton_rf_r16_resValid_dly1) begin
+            if (d2h_singleton_rf_r16_re_ex & r16_singleton_rf_r16_resData_dly1[14] & ~r16_singleton_rf_r16_resData_dly1[15]) r16_singleton_rf_r16_state_next = 3'h4;
+            else if (~r16_singleton_rf_r16_resData_dly1[14]) r16_singleton_rf_r16_state_next = 3'h6;
+            else r16_singleton_rf_r16_state_next = 3'h5;
           end
         end
       3'h4: begin  // RES_READ
-          r16_l2_r16_child_data_cnt_next = r16_l2_r16_child_data_cnt;
-          if (r16_l2_r16_child_resValid_dly2) begin
-            r16_l2_r16_child_data_cnt_next = r16_l2_r16_child_data_cnt + 1'b1;
-            if (r16_l2_r16_child_data_cnt == 1'd0)
-              r16_l2_r16_child_rdata_accum_next [15:0]  = r16_l2_r16_child_resData_dly2;
-            else if (r16_l2_r16_child_data_cnt == 1'd1)
-              r16_l2_r16_child_rdata_accum_next [31:16]  = r16_l2_r16_child_resData_dly2;
+          r16_singleton_rf_r16_data_cnt_next = r16_singleton_rf_r16_data_cnt;
+          if (r16_singleton_rf_r16_resValid_dly1) begin
+            r16_singleton_rf_r16_data_cnt_next = r16_singleton_rf_r16_data_cnt + 1'b1;
+            if (r16_singleton_rf_r16_data_cnt == 1'd0)
+              r16_singleton_rf_r16_rdata_accum_next [15:0]  = r16_singleton_rf_r16_resData_dly1;
+            else if (r16_singleton_rf_r16_data_cnt == 1'd1)
+              r16_singleton_rf_r16_rdata_accum_next [31:16]  = r16_singleton_rf_r16_resData_dly1;
           end
-          if (r16_l2_r16_child_data_cnt == 1'b1) r16_l2_r16_child_state_next = 3'h5;
+          if (r16_singleton_rf_r16_data_cnt == 1'b1) r16_singleton_rf_r16_state_next = 3'h5;
         end
       3'h5: begin // RES_DONE_ACK
-          h2d_l2_r16_child_ack_ex = 1'b1;
-          r16_l2_r16_child_state_next = 3'h0;
+          h2d_singleton_rf_r16_ack_ex = 1'b1;
+          r16_singleton_rf_r16_state_next = 3'h0;
         end
       3'h6: begin // RES_DONE_NACK
-          h2d_l2_r16_child_nack_ex = 1'b1;
-          r16_l2_r16_child_state_next = 3'h0;
+          h2d_singleton_rf_r16_nack_ex = 1'b1;
+          r16_singleton_rf_r16_state_next = 3'h0;
         end
       default:
-        r16_l2_r16_child_state_next = 3'h0;
+        r16_singleton_rf_r16_state_next = 3'h0;
     endcase
   end
   
-  //------- reg assigns for l2_r16_child ring16 i/f
+  //------- reg assigns for singleton_rf_r16 ring16 i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
-      r16_l2_r16_child_state <= #1  3'b0;
-      r16_l2_r16_child_cmdValid_dly1 <= #1  1'b0;
-      r16_l2_r16_child_cmdData_dly1 <= #1  16'b0;
-      r16_l2_r16_child_cmdValid_dly2 <= #1  1'b0;
-      r16_l2_r16_child_cmdData_dly2 <= #1  16'b0;
-      r16_l2_r16_child_resValid_dly1 <= #1  1'b0;
-      r16_l2_r16_child_resData_dly1 <= #1  16'b0;
-      r16_l2_r16_child_resValid_dly2 <= #1  1'b0;
-      r16_l2_r16_child_resData_dly2 <= #1  16'b0;
-      r16_l2_r16_child_data_cnt <= #1  1'b0;
+      r16_singleton_rf_r16_state <= #1  3'b0;
+      r16_singleton_rf_r16_cmdValid_dly1 <= #1  1'b0;
+      r16_singleton_rf_r16_cmdData_dly1 <= #1  16'b0;
+      r16_singleton_rf_r16_resValid_dly1 <= #1  1'b0;
+      r16_singleton_rf_r16_resData_dly1 <= #1  16'b0;
+      r16_singleton_rf_r16_data_cnt <= #1  1'b0;
     end
     else begin
-      r16_l2_r16_child_state <= #1  r16_l2_r16_child_state_next;
-      r16_l2_r16_child_cmdValid_dly1 <= #1  r16_l2_r16_child_cmdValid_dly0;
-      r16_l2_r16_child_cmdData_dly1 <= #1  r16_l2_r16_child_cmdData_dly0;
-      r16_l2_r16_child_cmdValid_dly2 <= #1  r16_l2_r16_child_cmdValid_dly1;
-      r16_l2_r16_child_cmdData_dly2 <= #1  r16_l2_r16_child_cmdData_dly1;
-      r16_l2_r16_child_resValid_dly1 <= #1  r16_l2_r16_child_resValid_dly0;
-      r16_l2_r16_child_resData_dly1 <= #1  r16_l2_r16_child_resData_dly0;
-      r16_l2_r16_child_resValid_dly2 <= #1  r16_l2_r16_child_resValid_dly1;
-      r16_l2_r16_child_resData_dly2 <= #1  r16_l2_r16_child_resData_dly1;
-      r16_l2_r16_child_rdata_accum <= #1  r16_l2_r16_child_rdata_accum_next;
-      r16_l2_r16_child_data_cnt <= #1  r16_l2_r16_child_data_cnt_next;
+      r16_singleton_rf_r16_state <= #1  r16_singleton_rf_r16_state_next;
+      r16_singleton_rf_r16_cmdValid_dly1 <= #1  r16_singleton_rf_r16_cmdValid_dly0;
+      r16_singleton_rf_r16_cmdData_dly1 <= #1  r16_singleton_rf_r16_cmdData_dly0;
+      r16_singleton_rf_r16_resValid_dly1 <= #1  r16_singleton_rf_r16_resValid_dly0;
+      r16_singleton_rf_r16_resData_dly1 <= #1  r16_singleton_rf_r16_resData_dly0;
+      r16_singleton_rf_r16_rdata_accum <= #1  r16_singleton_rf_r16_rdata_accum_next;
+      r16_singleton_rf_r16_data_cnt <= #1  r16_singleton_rf_r16_data_cnt_next;
     end
   end
   
-  //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_2_reg_dflt external field read data assigns
-  always_comb begin
-    h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_r [15:0]  = h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_msb_field_r;
-  end
-  
-  //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_3_reg_dflt external field read data assigns
+  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_0_reg_dflt external field read data assigns
   always_comb begin
-    h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_r = 32'd0;
-    h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_r [15:0]  = h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_lsb_field_r;
-    h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_msb_field_r;
+    h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_0_reg_dflt_msb_field_r;
   end
   
   //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_0_reg_l2 external field read data assigns
@@ -2155,6 +2006,34 @@ module base_map_jrdl_decode
     h2d_rf_lvl2_rf_lvl1_reg_l2_r [31:16]  = h2d_rf_lvl2_rf_lvl1_reg_l2_msb_field_r;
   end
   
+  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_1_reg_dflt external field read data assigns
+  always_comb begin
+    h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_1_reg_dflt_msb_field_r;
+  end
+  
+  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_2_reg_dflt external field read data assigns
+  always_comb begin
+    h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_2_reg_dflt_msb_field_r;
+  end
+  
+  //------- combinatorial assigns for rf_lvl2_0_rf_lvl1_3_reg_dflt external field read data assigns
+  always_comb begin
+    h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_r [15:0]  = h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_r [31:16]  = h2d_rf_lvl2_0_rf_lvl1_3_reg_dflt_msb_field_r;
+  end
+  
+  //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_0_reg_dflt external field read data assigns
+  always_comb begin
+    h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_r [15:0]  = h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_0_reg_dflt_msb_field_r;
+  end
+  
   //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_1_reg_dflt external field read data assigns
   always_comb begin
     h2d_rf_lvl2_1_rf_lvl1_1_reg_dflt_r = 32'd0;
@@ -2162,13 +2041,134 @@ module base_map_jrdl_decode
     h2d_rf_lvl2_1_rf_lvl1_1_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_1_reg_dflt_msb_field_r;
   end
   
-  
-  //------- address decode
+  //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_2_reg_dflt external field read data assigns
   always_comb begin
-    pio_internal_ack = 1'b0;
-    external_transaction_active = 1'b0;
-    pio_external_ack_next = 1'b0;
-    pio_external_nack_next = 1'b0;
+    h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_r [15:0]  = h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_2_reg_dflt_msb_field_r;
+  end
+  
+  //------- combinatorial assigns for rf_lvl2_1_rf_lvl1_3_reg_dflt external field read data assigns
+  always_comb begin
+    h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_r = 32'd0;
+    h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_r [15:0]  = h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_lsb_field_r;
+    h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_r [31:16]  = h2d_rf_lvl2_1_rf_lvl1_3_reg_dflt_msb_field_r;
+  end
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for clock gate delay
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_dec_read_cgate_dly1 <= #1  1'b0;
+      pio_dec_write_cgate_dly1 <= #1  1'b0;
+      pio_dec_read_cgate_dly2 <= #1  1'b0;
+      pio_dec_write_cgate_dly2 <= #1  1'b0;
+      pio_dec_read_cgate_dly3 <= #1  1'b0;
+      pio_dec_write_cgate_dly3 <= #1  1'b0;
+      pio_dec_read_cgate_dly4 <= #1  1'b0;
+      pio_dec_write_cgate_dly4 <= #1  1'b0;
+      pio_dec_read_cgate_dly5 <= #1  1'b0;
+      pio_dec_write_cgate_dly5 <= #1  1'b0;
+      pio_dec_read_cgate_dly6 <= #1  1'b0;
+      pio_dec_write_cgate_dly6 <= #1  1'b0;
+    end
+    else begin
+      pio_dec_read_cgate_dly1 <= #1 block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+      pio_dec_write_cgate_dly1 <= #1 block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+      pio_dec_read_cgate_dly2 <= #1 (pio_dec_read_cgate_dly1 & !pio_dec_read_cgate_dly2) | (pio_dec_read_cgate_dly2 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
+      pio_dec_write_cgate_dly2 <= #1 (pio_dec_write_cgate_dly1 & !pio_dec_write_cgate_dly2) | (pio_dec_write_cgate_dly2 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
+      pio_dec_read_cgate_dly3 <= #1 (pio_dec_read_cgate_dly2 & !pio_dec_read_cgate_dly3) | (pio_dec_read_cgate_dly3 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
+      pio_dec_write_cgate_dly3 <= #1 (pio_dec_write_cgate_dly2 & !pio_dec_write_cgate_dly3) | (pio_dec_write_cgate_dly3 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
+      pio_dec_read_cgate_dly4 <= #1 (pio_dec_read_cgate_dly3 & !pio_dec_read_cgate_dly4) | (pio_dec_read_cgate_dly4 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
+      pio_dec_write_cgate_dly4 <= #1 (pio_dec_write_cgate_dly3 & !pio_dec_write_cgate_dly4) | (pio_dec_write_cgate_dly4 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
+      pio_dec_read_cgate_dly5 <= #1 (pio_dec_read_cgate_dly4 & !pio_dec_read_cgate_dly5) | (pio_dec_read_cgate_dly5 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
+      pio_dec_write_cgate_dly5 <= #1 (pio_dec_write_cgate_dly4 & !pio_dec_write_cgate_dly5) | (pio_dec_write_cgate_dly5 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
+      pio_dec_read_cgate_dly6 <= #1 (pio_dec_read_cgate_dly5 & !pio_dec_read_cgate_dly6) | (pio_dec_read_cgate_dly6 & !(pio_dec_read_cgate_dly1 & !(block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10))));
+      pio_dec_write_cgate_dly6 <= #1 (pio_dec_write_cgate_dly5 & !pio_dec_write_cgate_dly6) | (pio_dec_write_cgate_dly6 & !(pio_dec_write_cgate_dly1 & !(block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0))));
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
     dec_pio_read_data_next = 32'b0;
     
     d2l_base_regs_config_regs_0_w = pio_dec_write_data_d1  [31:0] ;
@@ -3425,82 +3425,6 @@ module base_map_l2_r16_child_jrdl_logic
   logic   [31:0] l2d_l2_r16_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_3_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_0_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_7_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_5_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_1_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_4_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_7_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_0 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_0_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7
-  always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_7_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_6
-  always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_6_lsb_field_w;
-  end
-  
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_0
   always_comb begin
     reg_l2_r16_child_base_regs_config_regs_0_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_0_lsb_field;
@@ -3523,14 +3447,38 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_0 (pio read data)
   always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_5_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1
   always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_4_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_4_lsb_field_w;
+    reg_l2_r16_child_base_regs_config_regs_1_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
+    l2h_l2_r16_child_base_regs_config_regs_1_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_1_msb_field_next = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
+    l2h_l2_r16_child_base_regs_config_regs_1_msb_field_r = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
+    if (d2l_l2_r16_child_base_regs_config_regs_1_we) reg_l2_r16_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_l2_r16_child_base_regs_config_regs_1_we) reg_l2_r16_child_base_regs_config_regs_1_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_r16_child_base_regs_config_regs_1
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_r16_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_1_lsb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2
@@ -3555,36 +3503,38 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2 (pio read data)
   always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_3_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_3_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3
   always_comb begin
-    reg_l2_r16_child_base_regs_config_regs_1_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
-    l2h_l2_r16_child_base_regs_config_regs_1_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
-    reg_l2_r16_child_base_regs_config_regs_1_msb_field_next = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
-    l2h_l2_r16_child_base_regs_config_regs_1_msb_field_r = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
-    if (d2l_l2_r16_child_base_regs_config_regs_1_we) reg_l2_r16_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_l2_r16_child_base_regs_config_regs_1_we) reg_l2_r16_child_base_regs_config_regs_1_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_1_w [31:16] ;
+    reg_l2_r16_child_base_regs_config_regs_3_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_r16_child_base_regs_config_regs_3_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_3_msb_field_next = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_r16_child_base_regs_config_regs_3_msb_field_r = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_r16_child_base_regs_config_regs_3_we) reg_l2_r16_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_r16_child_base_regs_config_regs_3_we) reg_l2_r16_child_base_regs_config_regs_3_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_base_regs_config_regs_1
+  //------- reg assigns for l2_r16_child_base_regs_config_regs_3
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_r16_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+      rg_l2_r16_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_1_lsb_field_next;
-      rg_l2_r16_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_1_msb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_3_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3 (pio read data)
   always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_2_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4
@@ -3609,36 +3559,38 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_4 (pio read data)
   always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_4_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_3
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_5
   always_comb begin
-    reg_l2_r16_child_base_regs_config_regs_3_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_r16_child_base_regs_config_regs_3_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_r16_child_base_regs_config_regs_3_msb_field_next = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_r16_child_base_regs_config_regs_3_msb_field_r = rg_l2_r16_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_r16_child_base_regs_config_regs_3_we) reg_l2_r16_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_r16_child_base_regs_config_regs_3_we) reg_l2_r16_child_base_regs_config_regs_3_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_3_w [31:16] ;
+    reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
+    l2h_l2_r16_child_base_regs_config_regs_5_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
+    reg_l2_r16_child_base_regs_config_regs_5_msb_field_next = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
+    l2h_l2_r16_child_base_regs_config_regs_5_msb_field_r = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
+    if (d2l_l2_r16_child_base_regs_config_regs_5_we) reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_l2_r16_child_base_regs_config_regs_5_we) reg_l2_r16_child_base_regs_config_regs_5_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_5_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_base_regs_config_regs_3
+  //------- reg assigns for l2_r16_child_base_regs_config_regs_5
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_r16_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_l2_r16_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_r16_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_3_msb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next;
+      rg_l2_r16_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_5 (pio read data)
   always_comb begin
-    rg_l2_r16_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_0_lsb_field_w;
+    l2d_l2_r16_child_base_regs_config_regs_5_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6
@@ -3663,38 +3615,10 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_5
-  always_comb begin
-    reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
-    l2h_l2_r16_child_base_regs_config_regs_5_lsb_field_r = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
-    reg_l2_r16_child_base_regs_config_regs_5_msb_field_next = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
-    l2h_l2_r16_child_base_regs_config_regs_5_msb_field_r = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
-    if (d2l_l2_r16_child_base_regs_config_regs_5_we) reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_r16_child_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_l2_r16_child_base_regs_config_regs_5_we) reg_l2_r16_child_base_regs_config_regs_5_msb_field_next = d2l_l2_r16_child_base_regs_config_regs_5_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_base_regs_config_regs_5
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_r16_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_r16_child_base_regs_config_regs_5_lsb_field_next;
-      rg_l2_r16_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_r16_child_base_regs_config_regs_5_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_5_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_5_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_6 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_r16_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_2_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_6_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_7
@@ -3719,16 +3643,81 @@ module base_map_l2_r16_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_7 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_2_msb_field;
+    l2d_l2_r16_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_r16_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0
   always_comb begin
-    l2d_l2_r16_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_config_regs_1_lsb_field;
-    l2d_l2_r16_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_base_regs_config_regs_1_msb_field;
+    rg_l2_r16_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_0_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_2_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_2 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_3_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_3 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_3_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_4_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_4_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_4 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_4_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_5 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_6
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_6_lsb_field_w;
   end
   
   //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_6 (pio read data)
@@ -3737,6 +3726,17 @@ module base_map_l2_r16_child_jrdl_logic
     l2d_l2_r16_child_base_regs_state_regs_6_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_6_lsb_field;
   end
   
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7
+  always_comb begin
+    rg_l2_r16_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_base_regs_state_regs_7 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_r16_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_base_regs_state_regs_7_lsb_field;
+  end
+  
 endmodule
 
 //
@@ -4108,35 +4108,6 @@ module base_map_l2_r16_child_jrdl_decode
   assign  pio_dec_read = r16_pio_dec_read & pio_dec_read_cgate_dly6;
   assign  pio_dec_write = r16_pio_dec_write & pio_dec_write_cgate_dly6;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -4157,49 +4128,159 @@ module base_map_l2_r16_child_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for ring16 i/f
+  //------- combinatorial assigns for l2_r16_child_l3_child serial8 i/f
   always_comb begin
-    r16_state_next = r16_state;
-    r16_resValid_dly0 =  1'b0;
-    r16_resData_dly0 =  16'b0;
-    r16_pio_dec_write =  1'b0;
-    r16_pio_dec_read =  1'b0;
-    r16_wr_state_capture_next = r16_wr_state_capture;
-    r16_addr_cnt_capture_next = r16_addr_cnt_capture;
-    r16_addr_accum_next = r16_addr_accum;
-    r16_not_mine_next =  1'b0;
-    r16_wdata_accum_next = r16_wdata_accum;
-    r16_rdata_capture_next = r16_rdata_capture;
-    r16_addr_cnt_next = 2'b0;
-    r16_data_cnt_next = 1'b0;
-    r16_out_fifo_advance =  1'b0;
-    r16_out_fifo_data_dly0 = r16_cmdData_dly1;
-    case (r16_state)
-      4'h0: begin // IDLE
-          r16_wr_state_capture_next = 1'b0;
-          r16_addr_accum_next = 12'b0;
-          r16_wdata_accum_next = 32'b0;
-          if (r16_cmdValid_dly1) begin
-            r16_out_fifo_advance =  1'b1;
-            r16_wr_state_capture_next = r16_cmdData_dly1[7];
-            r16_addr_cnt_capture_next = r16_cmdData_dly1 [5:4] ;
-            if (r16_cmdData_dly1[15] | r16_cmdData_dly1[14]) begin
-              if (~r16_wr_state_capture_next) r16_state_next = 4'h7;
-              else r16_state_next = 4'h8;
-            end
-            else if (r16_addr_cnt_capture_next > 2'd0) r16_state_next = 4'h1;
-            else if (r16_wr_state_capture_next) r16_state_next = 4'h2;
-            else r16_state_next = 4'h3;
+    s8_l2_r16_child_l3_child_state_next = s8_l2_r16_child_l3_child_state;
+    s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b0;
+    s8_l2_r16_child_l3_child_cmdData_dly0 =  8'b0;
+    h2d_l2_r16_child_l3_child_ack_ex =  1'b0;
+    h2d_l2_r16_child_l3_child_nack_ex =  1'b0;
+    h2d_l2_r16_child_l3_child_nack_early_next = h2d_l2_r16_child_l3_child_nack_early;
+    s8_l2_r16_child_l3_child_rdata_accum_next = s8_l2_r16_child_l3_child_rdata_accum;
+    s8_l2_r16_child_l3_child_addr_cnt_next = 1'b0;
+    s8_l2_r16_child_l3_child_data_cnt_next = 2'b0;
+    case (s8_l2_r16_child_l3_child_state)
+      3'h0: begin // IDLE
+          h2d_l2_r16_child_l3_child_nack_early_next = 1'b0;
+          s8_l2_r16_child_l3_child_rdata_accum_next = 32'b0;
+          if (d2h_l2_r16_child_l3_child_re_ex | d2h_l2_r16_child_l3_child_we_ex) begin
+            s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
+            s8_l2_r16_child_l3_child_cmdData_dly0[7] = d2h_l2_r16_child_l3_child_we_ex;
+            s8_l2_r16_child_l3_child_cmdData_dly0[6:4] = 3'd2;
+            s8_l2_r16_child_l3_child_state_next = 3'h1;
           end
         end
-      4'h1: begin // CMD_ADDR
-          r16_addr_cnt_next = r16_addr_cnt;
-          r16_not_mine_next = r16_not_mine;
-          if (r16_cmdValid_dly1) begin
-            r16_out_fifo_advance =  1'b1;
-            r16_addr_cnt_next = r16_addr_cnt + 2'b1;
-            if (r16_addr_cnt == 2'd0) begin
-              r16_not_mine_next = r16_not_mine | (r16_cmdData_dly1 [15:12]  != block_base_address [17:14] );
+      3'h1: begin // CMD_ADDR
+          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
+          s8_l2_r16_child_l3_child_addr_cnt_next = s8_l2_r16_child_l3_child_addr_cnt + 1'b1;
+          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd0)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [9:2] ;
+          else if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [11:10] ;
+          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1) begin
+            if (d2h_l2_r16_child_l3_child_we_ex) s8_l2_r16_child_l3_child_state_next = 3'h2;
+            else s8_l2_r16_child_l3_child_state_next = 3'h3;
+          end
+        end
+      3'h2: begin // CMD_DATA
+          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
+          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
+          if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [7:0] ;
+          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [15:8] ;
+          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [23:16] ;
+          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
+            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [31:24] ;
+          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11)
+            s8_l2_r16_child_l3_child_state_next = 3'h3;
+        end
+      3'h3: begin  // RES_WAIT
+          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
+            h2d_l2_r16_child_l3_child_nack_early_next = s8_l2_r16_child_l3_child_resData_dly1[7];
+            if (d2h_l2_r16_child_l3_child_re_ex) s8_l2_r16_child_l3_child_state_next = 3'h4;
+            else if (h2d_l2_r16_child_l3_child_nack_early_next) s8_l2_r16_child_l3_child_state_next = 3'h6;
+            else s8_l2_r16_child_l3_child_state_next = 3'h5;
+          end
+        end
+      3'h4: begin  // RES_READ
+          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt;
+          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
+            s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
+            if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
+              s8_l2_r16_child_l3_child_rdata_accum_next [7:0]  = s8_l2_r16_child_l3_child_resData_dly1;
+            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
+              s8_l2_r16_child_l3_child_rdata_accum_next [15:8]  = s8_l2_r16_child_l3_child_resData_dly1;
+            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
+              s8_l2_r16_child_l3_child_rdata_accum_next [23:16]  = s8_l2_r16_child_l3_child_resData_dly1;
+            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
+              s8_l2_r16_child_l3_child_rdata_accum_next [31:24]  = s8_l2_r16_child_l3_child_resData_dly1;
+          end
+          else if (h2d_l2_r16_child_l3_child_nack_early) s8_l2_r16_child_l3_child_state_next = 3'h6;
+          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11) s8_l2_r16_child_l3_child_state_next = 3'h5;
+        end
+      3'h5: begin // RES_DONE_ACK
+          h2d_l2_r16_child_l3_child_ack_ex = 1'b1;
+          s8_l2_r16_child_l3_child_state_next = 3'h0;
+        end
+      3'h6: begin // RES_DONE_NACK
+          h2d_l2_r16_child_l3_child_nack_ex = 1'b1;
+          s8_l2_r16_child_l3_child_state_next = 3'h0;
+        end
+      default:
+        s8_l2_r16_child_l3_child_state_next = 3'h0;
+    endcase
+  end
+  
+  //------- reg assigns for l2_r16_child_l3_child serial8 i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      s8_l2_r16_child_l3_child_state <= #1  3'b0;
+      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  1'b0;
+      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  8'b0;
+      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  1'b0;
+      s8_l2_r16_child_l3_child_resData_dly1 <= #1  8'b0;
+      h2d_l2_r16_child_l3_child_nack_early <= #1  1'b0;
+      s8_l2_r16_child_l3_child_addr_cnt <= #1  1'b0;
+      s8_l2_r16_child_l3_child_data_cnt <= #1  2'b0;
+    end
+    else begin
+      s8_l2_r16_child_l3_child_state <= #1  s8_l2_r16_child_l3_child_state_next;
+      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  s8_l2_r16_child_l3_child_cmdValid_dly0;
+      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  s8_l2_r16_child_l3_child_cmdData_dly0;
+      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  s8_l2_r16_child_l3_child_resValid_dly0;
+      s8_l2_r16_child_l3_child_resData_dly1 <= #1  s8_l2_r16_child_l3_child_resData_dly0;
+      s8_l2_r16_child_l3_child_rdata_accum <= #1  s8_l2_r16_child_l3_child_rdata_accum_next;
+      h2d_l2_r16_child_l3_child_nack_early <= #1  h2d_l2_r16_child_l3_child_nack_early_next;
+      s8_l2_r16_child_l3_child_addr_cnt <= #1  s8_l2_r16_child_l3_child_addr_cnt_next;
+      s8_l2_r16_child_l3_child_data_cnt <= #1  s8_l2_r16_child_l3_child_data_cnt_next;
+    end
+  end
+  
+  //------- combinatorial assigns for ring16 i/f
+  always_comb begin
+    r16_state_next = r16_state;
+    r16_resValid_dly0 =  1'b0;
+    r16_resData_dly0 =  16'b0;
+    r16_pio_dec_write =  1'b0;
+    r16_pio_dec_read =  1'b0;
+    r16_wr_state_capture_next = r16_wr_state_capture;
+    r16_addr_cnt_capture_next = r16_addr_cnt_capture;
+    r16_addr_accum_next = r16_addr_accum;
+    r16_not_mine_next =  1'b0;
+    r16_wdata_accum_next = r16_wdata_accum;
+    r16_rdata_capture_next = r16_rdata_capture;
+    r16_addr_cnt_next = 2'b0;
+    r16_data_cnt_next = 1'b0;
+    r16_out_fifo_advance =  1'b0;
+    r16_out_fifo_data_dly0 = r16_cmdData_dly1;
+    case (r16_state)
+      4'h0: begin // IDLE
+          r16_wr_state_capture_next = 1'b0;
+          r16_addr_accum_next = 12'b0;
+          r16_wdata_accum_next = 32'b0;
+          if (r16_cmdValid_dly1) begin
+            r16_out_fifo_advance =  1'b1;
+            r16_wr_state_capture_next = r16_cmdData_dly1[7];
+            r16_addr_cnt_capture_next = r16_cmdData_dly1 [5:4] ;
+            if (r16_cmdData_dly1[15] | r16_cmdData_dly1[14]) begin
+              if (~r16_wr_state_capture_next) r16_state_next = 4'h7;
+              else r16_state_next = 4'h8;
+            end
+            else if (r16_addr_cnt_capture_next > 2'd0) r16_state_next = 4'h1;
+            else if (r16_wr_state_capture_next) r16_state_next = 4'h2;
+            else r16_state_next = 4'h3;
+          end
+        end
+      4'h1: begin // CMD_ADDR
+          r16_addr_cnt_next = r16_addr_cnt;
+          r16_not_mine_next = r16_not_mine;
+          if (r16_cmdValid_dly1) begin
+            r16_out_fifo_advance =  1'b1;
+            r16_addr_cnt_next = r16_addr_cnt + 2'b1;
+            if (r16_addr_cnt == 2'd0) begin
+              r16_not_mine_next = r16_not_mine | (r16_cmdData_dly1 [15:12]  != block_base_address [17:14] );
               r16_addr_accum_next [13:2]  = r16_cmdData_dly1 [11:0] ;
             end
             else if (r16_addr_cnt == 2'd1) begin
@@ -4372,113 +4453,32 @@ module base_map_l2_r16_child_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child serial8 i/f
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
   always_comb begin
-    s8_l2_r16_child_l3_child_state_next = s8_l2_r16_child_l3_child_state;
-    s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b0;
-    s8_l2_r16_child_l3_child_cmdData_dly0 =  8'b0;
-    h2d_l2_r16_child_l3_child_ack_ex =  1'b0;
-    h2d_l2_r16_child_l3_child_nack_ex =  1'b0;
-    h2d_l2_r16_child_l3_child_nack_early_next = h2d_l2_r16_child_l3_child_nack_early;
-    s8_l2_r16_child_l3_child_rdata_accum_next = s8_l2_r16_child_l3_child_rdata_accum;
-    s8_l2_r16_child_l3_child_addr_cnt_next = 1'b0;
-    s8_l2_r16_child_l3_child_data_cnt_next = 2'b0;
-    case (s8_l2_r16_child_l3_child_state)
-      3'h0: begin // IDLE
-          h2d_l2_r16_child_l3_child_nack_early_next = 1'b0;
-          s8_l2_r16_child_l3_child_rdata_accum_next = 32'b0;
-          if (d2h_l2_r16_child_l3_child_re_ex | d2h_l2_r16_child_l3_child_we_ex) begin
-            s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
-            s8_l2_r16_child_l3_child_cmdData_dly0[7] = d2h_l2_r16_child_l3_child_we_ex;
-            s8_l2_r16_child_l3_child_cmdData_dly0[6:4] = 3'd2;
-            s8_l2_r16_child_l3_child_state_next = 3'h1;
-          end
-        end
-      3'h1: begin // CMD_ADDR
-          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
-          s8_l2_r16_child_l3_child_addr_cnt_next = s8_l2_r16_child_l3_child_addr_cnt + 1'b1;
-          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd0)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [9:2] ;
-          else if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_addr_ex [11:10] ;
-          if (s8_l2_r16_child_l3_child_addr_cnt == 1'd1) begin
-            if (d2h_l2_r16_child_l3_child_we_ex) s8_l2_r16_child_l3_child_state_next = 3'h2;
-            else s8_l2_r16_child_l3_child_state_next = 3'h3;
-          end
-        end
-      3'h2: begin // CMD_DATA
-          s8_l2_r16_child_l3_child_cmdValid_dly0 =  1'b1;
-          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
-          if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [7:0] ;
-          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [15:8] ;
-          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [23:16] ;
-          else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
-            s8_l2_r16_child_l3_child_cmdData_dly0 = d2h_l2_r16_child_l3_child_w_ex [31:24] ;
-          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11)
-            s8_l2_r16_child_l3_child_state_next = 3'h3;
-        end
-      3'h3: begin  // RES_WAIT
-          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
-            h2d_l2_r16_child_l3_child_nack_early_next = s8_l2_r16_child_l3_child_resData_dly1[7];
-            if (d2h_l2_r16_child_l3_child_re_ex) s8_l2_r16_child_l3_child_state_next = 3'h4;
-            else if (h2d_l2_r16_child_l3_child_nack_early_next) s8_l2_r16_child_l3_child_state_next = 3'h6;
-            else s8_l2_r16_child_l3_child_state_next = 3'h5;
-          end
-        end
-      3'h4: begin  // RES_READ
-          s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt;
-          if (s8_l2_r16_child_l3_child_resValid_dly1) begin
-            s8_l2_r16_child_l3_child_data_cnt_next = s8_l2_r16_child_l3_child_data_cnt + 2'b1;
-            if (s8_l2_r16_child_l3_child_data_cnt == 2'd0)
-              s8_l2_r16_child_l3_child_rdata_accum_next [7:0]  = s8_l2_r16_child_l3_child_resData_dly1;
-            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd1)
-              s8_l2_r16_child_l3_child_rdata_accum_next [15:8]  = s8_l2_r16_child_l3_child_resData_dly1;
-            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd2)
-              s8_l2_r16_child_l3_child_rdata_accum_next [23:16]  = s8_l2_r16_child_l3_child_resData_dly1;
-            else if (s8_l2_r16_child_l3_child_data_cnt == 2'd3)
-              s8_l2_r16_child_l3_child_rdata_accum_next [31:24]  = s8_l2_r16_child_l3_child_resData_dly1;
-          end
-          else if (h2d_l2_r16_child_l3_child_nack_early) s8_l2_r16_child_l3_child_state_next = 3'h6;
-          if (s8_l2_r16_child_l3_child_data_cnt == 2'b11) s8_l2_r16_child_l3_child_state_next = 3'h5;
-        end
-      3'h5: begin // RES_DONE_ACK
-          h2d_l2_r16_child_l3_child_ack_ex = 1'b1;
-          s8_l2_r16_child_l3_child_state_next = 3'h0;
-        end
-      3'h6: begin // RES_DONE_NACK
-          h2d_l2_r16_child_l3_child_nack_ex = 1'b1;
-          s8_l2_r16_child_l3_child_state_next = 3'h0;
-        end
-      default:
-        s8_l2_r16_child_l3_child_state_next = 3'h0;
-    endcase
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child serial8 i/f
+  //------- reg assigns for pio read data
   always_ff @ (posedge uclk) begin
     if (reset) begin
-      s8_l2_r16_child_l3_child_state <= #1  3'b0;
-      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  1'b0;
-      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  8'b0;
-      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  1'b0;
-      s8_l2_r16_child_l3_child_resData_dly1 <= #1  8'b0;
-      h2d_l2_r16_child_l3_child_nack_early <= #1  1'b0;
-      s8_l2_r16_child_l3_child_addr_cnt <= #1  1'b0;
-      s8_l2_r16_child_l3_child_data_cnt <= #1  2'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      s8_l2_r16_child_l3_child_state <= #1  s8_l2_r16_child_l3_child_state_next;
-      s8_l2_r16_child_l3_child_cmdValid_dly1 <= #1  s8_l2_r16_child_l3_child_cmdValid_dly0;
-      s8_l2_r16_child_l3_child_cmdData_dly1 <= #1  s8_l2_r16_child_l3_child_cmdData_dly0;
-      s8_l2_r16_child_l3_child_resValid_dly1 <= #1  s8_l2_r16_child_l3_child_resValid_dly0;
-      s8_l2_r16_child_l3_child_resData_dly1 <= #1  s8_l2_r16_child_l3_child_resData_dly0;
-      s8_l2_r16_child_l3_child_rdata_accum <= #1  s8_l2_r16_child_l3_child_rdata_accum_next;
-      h2d_l2_r16_child_l3_child_nack_early <= #1  h2d_l2_r16_child_l3_child_nack_early_next;
-      s8_l2_r16_child_l3_child_addr_cnt <= #1  s8_l2_r16_child_l3_child_addr_cnt_next;
-      s8_l2_r16_child_l3_child_data_cnt <= #1  s8_l2_r16_child_l3_child_data_cnt_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -5166,104 +5166,32 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
   logic   [31:0] l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_4 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5
-  always_comb begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_5
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4
-  always_comb begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_4
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7
-  always_comb begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [31:16] ;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_7
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_0
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0 (pio read data)
   always_comb begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_6
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next;
-    end
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_1
@@ -5288,28 +5216,40 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_1 (pio read data)
   always_comb begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_0_we) reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_0_w [31:16] ;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2
+  always_comb begin
+    reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_2
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_3
   always_comb begin
     reg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field;
@@ -5332,112 +5272,144 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_3 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_3_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_4_we) reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_4_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_0 (pio read data)
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_4
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5
   always_comb begin
-    reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_2_we) reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_2_w [31:16] ;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_5_we) reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_5_w [31:16] ;
   end
   
-  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_2
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_5
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_6_we) reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_6
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_6 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_2_msb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_r16_child_l3_child_base_regs_config_regs_7_we) reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_r16_child_l3_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_2 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field;
+  //------- reg assigns for l2_r16_child_l3_child_base_regs_config_regs_7
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_7 (pio read data)
   always_comb begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_5_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0
   always_comb begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+    rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1
   always_comb begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+    rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_1 (pio read data)
   always_comb begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_1_lsb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_2
@@ -5445,10 +5417,10 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     rg_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_2 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_1_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_2_lsb_field;
   end
   
   //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_3
@@ -5467,15 +5439,43 @@ module base_map_l2_r16_child_l3_child_jrdl_logic
     rg_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_4 (pio read data)
   always_comb begin
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_r16_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_r16_child_l3_child_base_regs_config_regs_4_msb_field;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_4_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5
   always_comb begin
-    rg_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_0_lsb_field_w;
+    rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_5 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6
+  always_comb begin
+    rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_6 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_6_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7
+  always_comb begin
+    rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_r16_child_l3_child_base_regs_state_regs_7 (pio read data)
+  always_comb begin
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_r16_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_r16_child_l3_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -5781,18 +5781,17 @@ module base_map_l2_r16_child_l3_child_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read & pio_dec_read_cgate_dly6;
   assign  pio_dec_write = s8_pio_dec_write & pio_dec_write_cgate_dly6;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_l2_r16_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_w_next;
+      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_we_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_re_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_r16_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_addr_next;
     end
   end
   
@@ -5903,34 +5902,6 @@ module base_map_l2_r16_child_l3_child_jrdl_decode
     end
   end
   
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
-  //------- reg assigns for external i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
-    end
-    else begin
-      d2h_l2_r16_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_w_next;
-      d2h_l2_r16_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_we_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_r16_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_re_next & ~h2d_l2_r16_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_r16_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_r16_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_r16_child_l3_child_ext_base_regs_addr_next;
-    end
-  end
-  
   //------- reg assigns for clock gate delay
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -5963,6 +5934,35 @@ module base_map_l2_r16_child_l3_child_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -6625,28 +6625,54 @@ module base_map_l2_s8_child_jrdl_logic
   logic   [31:0] l2d_l2_s8_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0
   always_comb begin
-    l2d_l2_s8_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
+    reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_1_lsb_field;
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_0
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0 (pio read data)
   always_comb begin
-    l2d_l2_s8_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
+    l2d_l2_s8_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_1
   always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_4_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_1
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_1 (pio read data)
@@ -6655,16 +6681,26 @@ module base_map_l2_s8_child_jrdl_logic
     l2d_l2_s8_child_base_regs_config_regs_1_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_2
   always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_6_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_2
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_2 (pio read data)
@@ -6673,62 +6709,32 @@ module base_map_l2_s8_child_jrdl_logic
     l2d_l2_s8_child_base_regs_config_regs_2_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_2_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_5_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_5_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_4_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_7_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_6_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_1_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_0_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3
   always_comb begin
-    l2d_l2_s8_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
+    reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3
-  always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_3_lsb_field_w;
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_3
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3 (pio read data)
   always_comb begin
-    rg_l2_s8_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_s8_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_4
@@ -6753,188 +6759,182 @@ module base_map_l2_s8_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_3
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_4 (pio read data)
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_3_we) reg_l2_s8_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_3_w [31:16] ;
+    l2d_l2_s8_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_4_msb_field;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_3
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5
+  always_comb begin
+    reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_5_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_5_msb_field_r = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_5
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_3_msb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5 (pio read data)
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_2_we) reg_l2_s8_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_2_w [31:16] ;
+    l2d_l2_s8_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6
+  always_comb begin
+    reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_6
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_2_msb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6 (pio read data)
   always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_3_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_1
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_1_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_base_regs_config_regs_1_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_1_we) reg_l2_s8_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_1_w [31:16] ;
+    reg_l2_s8_child_base_regs_config_regs_7_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_s8_child_base_regs_config_regs_7_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_s8_child_base_regs_config_regs_7_msb_field_next = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_s8_child_base_regs_config_regs_7_msb_field_r = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_s8_child_base_regs_config_regs_7_we) reg_l2_s8_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_s8_child_base_regs_config_regs_7_we) reg_l2_s8_child_base_regs_config_regs_7_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_1
+  //------- reg assigns for l2_s8_child_base_regs_config_regs_7
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+      rg_l2_s8_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_1_msb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_s8_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_7_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_s8_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0
+  always_comb begin
+    rg_l2_s8_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_0_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_0_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1
+  always_comb begin
+    rg_l2_s8_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2
   always_comb begin
-    l2d_l2_s8_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_4_msb_field;
+    rg_l2_s8_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_2 (pio read data)
   always_comb begin
-    l2d_l2_s8_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_s8_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_s8_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_2_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3
   always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_0_lsb_field;
+    rg_l2_s8_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_3_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_7
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_3 (pio read data)
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_7_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_7_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_7_msb_field_next = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_7_msb_field_r = rg_l2_s8_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_7_we) reg_l2_s8_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_7_we) reg_l2_s8_child_base_regs_config_regs_7_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_7_w [31:16] ;
+    l2d_l2_s8_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_3_lsb_field;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_7
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_7_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4
+  always_comb begin
+    rg_l2_s8_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_4_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_4 (pio read data)
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_6_we) reg_l2_s8_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_6_w [31:16] ;
+    l2d_l2_s8_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_4_lsb_field;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_6
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_6_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5
+  always_comb begin
+    rg_l2_s8_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_5_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_5 (pio read data)
   always_comb begin
-    l2d_l2_s8_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_s8_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_7_lsb_field;
+    l2d_l2_s8_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_5_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_5
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_5_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_5_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_5_msb_field_r = rg_l2_s8_child_base_regs_config_regs_5_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_5_we) reg_l2_s8_child_base_regs_config_regs_5_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_5_w [31:16] ;
+    rg_l2_s8_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_6_lsb_field_w;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_5
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_5_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_6 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_6_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7
   always_comb begin
-    reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_s8_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_s8_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_s8_child_base_regs_config_regs_0_we) reg_l2_s8_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_base_regs_config_regs_0_w [31:16] ;
+    rg_l2_s8_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_base_regs_state_regs_7_lsb_field_w;
   end
   
-  //------- reg assigns for l2_s8_child_base_regs_config_regs_0
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_s8_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_base_regs_config_regs_0_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_base_regs_state_regs_7 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_s8_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -7264,161 +7264,25 @@ module base_map_l2_s8_child_jrdl_decode
   logic   [31:0] dec_pio_read_data_next;
   logic  external_transaction_active;
   
-  
-  //------- assigns
-  assign  d2h_l2_s8_child_ext_base_regs_we = d2h_l2_s8_child_ext_base_regs_we_ex;
-  assign  d2h_l2_s8_child_ext_base_regs_w = d2h_l2_s8_child_ext_base_regs_w_ex;
-  assign  d2h_l2_s8_child_ext_base_regs_re = d2h_l2_s8_child_ext_base_regs_re_ex;
-  assign  h2d_l2_s8_child_ext_base_regs_r_ex = h2d_l2_s8_child_ext_base_regs_r;
-  assign  h2d_l2_s8_child_ext_base_regs_ack_ex = h2d_l2_s8_child_ext_base_regs_ack;
-  assign  h2d_l2_s8_child_ext_base_regs_nack_ex = h2d_l2_s8_child_ext_base_regs_nack;
-  assign  d2h_l2_s8_child_ext_base_regs_addr = d2h_l2_s8_child_ext_base_regs_addr_ex;
-  assign  d2s_l2_s8_child_l3_child_cmd_valid = s8_l2_s8_child_l3_child_cmdValid_dly1;
-  assign  d2s_l2_s8_child_l3_child_cmd_data = s8_l2_s8_child_l3_child_cmdData_dly1;
-  assign  s8_l2_s8_child_l3_child_resValid_dly0 = s2d_l2_s8_child_l3_child_res_valid;
-  assign  s8_l2_s8_child_l3_child_resData_dly0 = s2d_l2_s8_child_l3_child_res_data;
-  assign  h2d_l2_s8_child_l3_child_r_ex = s8_l2_s8_child_l3_child_rdata_accum;
-  assign  pio_dec_address = s8_addr_accum;
-  assign  pio_dec_write_data = s8_wdata_accum;
-  assign  gclk_enable_5 = pio_dec_read_cgate_dly1 | pio_dec_write_cgate_dly1;
-  assign  pio_dec_read = s8_pio_dec_read & pio_dec_read_cgate_dly6;
-  assign  pio_dec_write = s8_pio_dec_write & pio_dec_write_cgate_dly6;
-  
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- combinatorial assigns for serial8 i/f
-  always_comb begin
-    s8_state_next = s8_state;
-    s2d_l2_s8_child_res_valid =  1'b0;
-    s2d_l2_s8_child_res_data =  8'b0;
-    s8_pio_dec_write =  1'b0;
-    s8_pio_dec_read =  1'b0;
-    s8_wr_state_capture_next = s8_wr_state_capture;
-    s8_addr_accum_next = s8_addr_accum;
-    s8_wdata_accum_next = s8_wdata_accum;
-    s8_rdata_capture_next = s8_rdata_capture;
-    s8_addr_cnt_next = 1'b0;
-    s8_data_cnt_next = 2'b0;
-    case (s8_state)
-      3'h0: begin // IDLE
-          s8_wr_state_capture_next = 1'b0;
-          s8_addr_accum_next = 12'b0;
-          s8_wdata_accum_next = 32'b0;
-          if (d2s_l2_s8_child_cmd_valid) begin
-            s8_wr_state_capture_next = d2s_l2_s8_child_cmd_data[7];
-            if (d2s_l2_s8_child_cmd_data[6:4] != 3'd2) s8_state_next = 3'h5;
-            else s8_state_next = 3'h1;
-          end
-        end
-      3'h1: begin // CMD_ADDR
-          s8_addr_cnt_next = s8_addr_cnt;
-          if (d2s_l2_s8_child_cmd_valid) begin
-            s8_addr_cnt_next = s8_addr_cnt + 1'b1;
-            if (s8_addr_cnt == 1'd0)
-              s8_addr_accum_next [9:2]  = d2s_l2_s8_child_cmd_data [7:0] ;
-            else if (s8_addr_cnt == 1'd1)
-              s8_addr_accum_next [13:10]  = d2s_l2_s8_child_cmd_data [3:0] ;
-            if (s8_addr_cnt == 1'd1) begin
-              if (s8_wr_state_capture) s8_state_next = 3'h2;
-              else s8_state_next = 3'h3;
-            end
-          end
-        end
-      3'h2: begin // CMD_DATA
-          s8_data_cnt_next = s8_data_cnt;
-          if (d2s_l2_s8_child_cmd_valid) begin
-            s8_data_cnt_next = s8_data_cnt + 2'b1;
-            if (s8_data_cnt == 2'd0)
-              s8_wdata_accum_next [7:0]  = d2s_l2_s8_child_cmd_data;
-            else if (s8_data_cnt == 2'd1)
-              s8_wdata_accum_next [15:8]  = d2s_l2_s8_child_cmd_data;
-            else if (s8_data_cnt == 2'd2)
-              s8_wdata_accum_next [23:16]  = d2s_l2_s8_child_cmd_data;
-            else if (s8_data_cnt == 2'd3)
-              s8_wdata_accum_next [31:24]  = d2s_l2_s8_child_cmd_data;
-            if (s8_data_cnt == 2'b11)
-              s8_state_next = 3'h3;
-          end
-        end
-      3'h3: begin  // RES_WAIT
-          s8_pio_dec_write = s8_wr_state_capture;
-          s8_pio_dec_read = ~s8_wr_state_capture;
-          if (dec_pio_ack | dec_pio_nack) begin
-            s2d_l2_s8_child_res_valid =  1'b1;
-            s8_rdata_capture_next = dec_pio_read_data;
-            s2d_l2_s8_child_res_data[7] = dec_pio_nack;
-            if (~s8_wr_state_capture) s8_state_next = 3'h4;
-            else s8_state_next = 3'h0;
-          end
-        end
-      3'h4: begin  // RES_READ
-          s2d_l2_s8_child_res_valid =  1'b1;
-          s8_data_cnt_next = s8_data_cnt + 2'b1;
-          if (s8_data_cnt == 2'd0)
-            s2d_l2_s8_child_res_data = s8_rdata_capture [7:0] ;
-          else if (s8_data_cnt == 2'd1)
-            s2d_l2_s8_child_res_data = s8_rdata_capture [15:8] ;
-          else if (s8_data_cnt == 2'd2)
-            s2d_l2_s8_child_res_data = s8_rdata_capture [23:16] ;
-          else if (s8_data_cnt == 2'd3)
-            s2d_l2_s8_child_res_data = s8_rdata_capture [31:24] ;
-          if (s8_data_cnt == 2'b11) s8_state_next = 3'h0;
-        end
-      3'h5: begin  // BAD_CMD
-          if (~d2s_l2_s8_child_cmd_valid) begin
-            s2d_l2_s8_child_res_valid =  1'b1;
-            s2d_l2_s8_child_res_data[7] = 1'b1;
-          end
-        end
-      default:
-        s8_state_next = 3'h0;
-    endcase
-  end
-  
-  //------- reg assigns for serial8 i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      s8_state <= #1  3'b0;
-      s8_addr_cnt <= #1  1'b0;
-      s8_data_cnt <= #1  2'b0;
-    end
-    else begin
-      s8_state <= #1  s8_state_next;
-      s8_addr_accum <= #1  s8_addr_accum_next;
-      s8_wdata_accum <= #1  s8_wdata_accum_next;
-      s8_wr_state_capture <= #1  s8_wr_state_capture_next;
-      s8_rdata_capture <= #1  s8_rdata_capture_next;
-      s8_addr_cnt <= #1  s8_addr_cnt_next;
-      s8_data_cnt <= #1  s8_data_cnt_next;
-    end
-  end
-  
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
+  
+  //------- assigns
+  assign  d2h_l2_s8_child_ext_base_regs_we = d2h_l2_s8_child_ext_base_regs_we_ex;
+  assign  d2h_l2_s8_child_ext_base_regs_w = d2h_l2_s8_child_ext_base_regs_w_ex;
+  assign  d2h_l2_s8_child_ext_base_regs_re = d2h_l2_s8_child_ext_base_regs_re_ex;
+  assign  h2d_l2_s8_child_ext_base_regs_r_ex = h2d_l2_s8_child_ext_base_regs_r;
+  assign  h2d_l2_s8_child_ext_base_regs_ack_ex = h2d_l2_s8_child_ext_base_regs_ack;
+  assign  h2d_l2_s8_child_ext_base_regs_nack_ex = h2d_l2_s8_child_ext_base_regs_nack;
+  assign  d2h_l2_s8_child_ext_base_regs_addr = d2h_l2_s8_child_ext_base_regs_addr_ex;
+  assign  d2s_l2_s8_child_l3_child_cmd_valid = s8_l2_s8_child_l3_child_cmdValid_dly1;
+  assign  d2s_l2_s8_child_l3_child_cmd_data = s8_l2_s8_child_l3_child_cmdData_dly1;
+  assign  s8_l2_s8_child_l3_child_resValid_dly0 = s2d_l2_s8_child_l3_child_res_valid;
+  assign  s8_l2_s8_child_l3_child_resData_dly0 = s2d_l2_s8_child_l3_child_res_data;
+  assign  h2d_l2_s8_child_l3_child_r_ex = s8_l2_s8_child_l3_child_rdata_accum;
+  assign  pio_dec_address = s8_addr_accum;
+  assign  pio_dec_write_data = s8_wdata_accum;
+  assign  gclk_enable_5 = pio_dec_read_cgate_dly1 | pio_dec_write_cgate_dly1;
+  assign  pio_dec_read = s8_pio_dec_read & pio_dec_read_cgate_dly6;
+  assign  pio_dec_write = s8_pio_dec_write & pio_dec_write_cgate_dly6;
   
   //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
@@ -7550,6 +7414,113 @@ module base_map_l2_s8_child_jrdl_decode
     end
   end
   
+  //------- combinatorial assigns for serial8 i/f
+  always_comb begin
+    s8_state_next = s8_state;
+    s2d_l2_s8_child_res_valid =  1'b0;
+    s2d_l2_s8_child_res_data =  8'b0;
+    s8_pio_dec_write =  1'b0;
+    s8_pio_dec_read =  1'b0;
+    s8_wr_state_capture_next = s8_wr_state_capture;
+    s8_addr_accum_next = s8_addr_accum;
+    s8_wdata_accum_next = s8_wdata_accum;
+    s8_rdata_capture_next = s8_rdata_capture;
+    s8_addr_cnt_next = 1'b0;
+    s8_data_cnt_next = 2'b0;
+    case (s8_state)
+      3'h0: begin // IDLE
+          s8_wr_state_capture_next = 1'b0;
+          s8_addr_accum_next = 12'b0;
+          s8_wdata_accum_next = 32'b0;
+          if (d2s_l2_s8_child_cmd_valid) begin
+            s8_wr_state_capture_next = d2s_l2_s8_child_cmd_data[7];
+            if (d2s_l2_s8_child_cmd_data[6:4] != 3'd2) s8_state_next = 3'h5;
+            else s8_state_next = 3'h1;
+          end
+        end
+      3'h1: begin // CMD_ADDR
+          s8_addr_cnt_next = s8_addr_cnt;
+          if (d2s_l2_s8_child_cmd_valid) begin
+            s8_addr_cnt_next = s8_addr_cnt + 1'b1;
+            if (s8_addr_cnt == 1'd0)
+              s8_addr_accum_next [9:2]  = d2s_l2_s8_child_cmd_data [7:0] ;
+            else if (s8_addr_cnt == 1'd1)
+              s8_addr_accum_next [13:10]  = d2s_l2_s8_child_cmd_data [3:0] ;
+            if (s8_addr_cnt == 1'd1) begin
+              if (s8_wr_state_capture) s8_state_next = 3'h2;
+              else s8_state_next = 3'h3;
+            end
+          end
+        end
+      3'h2: begin // CMD_DATA
+          s8_data_cnt_next = s8_data_cnt;
+          if (d2s_l2_s8_child_cmd_valid) begin
+            s8_data_cnt_next = s8_data_cnt + 2'b1;
+            if (s8_data_cnt == 2'd0)
+              s8_wdata_accum_next [7:0]  = d2s_l2_s8_child_cmd_data;
+            else if (s8_data_cnt == 2'd1)
+              s8_wdata_accum_next [15:8]  = d2s_l2_s8_child_cmd_data;
+            else if (s8_data_cnt == 2'd2)
+              s8_wdata_accum_next [23:16]  = d2s_l2_s8_child_cmd_data;
+            else if (s8_data_cnt == 2'd3)
+              s8_wdata_accum_next [31:24]  = d2s_l2_s8_child_cmd_data;
+            if (s8_data_cnt == 2'b11)
+              s8_state_next = 3'h3;
+          end
+        end
+      3'h3: begin  // RES_WAIT
+          s8_pio_dec_write = s8_wr_state_capture;
+          s8_pio_dec_read = ~s8_wr_state_capture;
+          if (dec_pio_ack | dec_pio_nack) begin
+            s2d_l2_s8_child_res_valid =  1'b1;
+            s8_rdata_capture_next = dec_pio_read_data;
+            s2d_l2_s8_child_res_data[7] = dec_pio_nack;
+            if (~s8_wr_state_capture) s8_state_next = 3'h4;
+            else s8_state_next = 3'h0;
+          end
+        end
+      3'h4: begin  // RES_READ
+          s2d_l2_s8_child_res_valid =  1'b1;
+          s8_data_cnt_next = s8_data_cnt + 2'b1;
+          if (s8_data_cnt == 2'd0)
+            s2d_l2_s8_child_res_data = s8_rdata_capture [7:0] ;
+          else if (s8_data_cnt == 2'd1)
+            s2d_l2_s8_child_res_data = s8_rdata_capture [15:8] ;
+          else if (s8_data_cnt == 2'd2)
+            s2d_l2_s8_child_res_data = s8_rdata_capture [23:16] ;
+          else if (s8_data_cnt == 2'd3)
+            s2d_l2_s8_child_res_data = s8_rdata_capture [31:24] ;
+          if (s8_data_cnt == 2'b11) s8_state_next = 3'h0;
+        end
+      3'h5: begin  // BAD_CMD
+          if (~d2s_l2_s8_child_cmd_valid) begin
+            s2d_l2_s8_child_res_valid =  1'b1;
+            s2d_l2_s8_child_res_data[7] = 1'b1;
+          end
+        end
+      default:
+        s8_state_next = 3'h0;
+    endcase
+  end
+  
+  //------- reg assigns for serial8 i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      s8_state <= #1  3'b0;
+      s8_addr_cnt <= #1  1'b0;
+      s8_data_cnt <= #1  2'b0;
+    end
+    else begin
+      s8_state <= #1  s8_state_next;
+      s8_addr_accum <= #1  s8_addr_accum_next;
+      s8_wdata_accum <= #1  s8_wdata_accum_next;
+      s8_wr_state_capture <= #1  s8_wr_state_capture_next;
+      s8_rdata_capture <= #1  s8_rdata_capture_next;
+      s8_addr_cnt <= #1  s8_addr_cnt_next;
+      s8_data_cnt <= #1  s8_data_cnt_next;
+    end
+  end
+  
   //------- reg assigns for clock gate delay
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -7582,6 +7553,35 @@ module base_map_l2_s8_child_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -8266,157 +8266,116 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
   logic   [31:0] l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_4 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
-  end
-  
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0
   always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2 (pio read data)
-  always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field;
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_0
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0 (pio read data)
   always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6
-  always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_1
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1 (pio read data)
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2
   always_comb begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_6
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_2
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2 (pio read data)
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3
   always_comb begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_7
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_3
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3 (pio read data)
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_4
@@ -8441,9 +8400,10 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_4 (pio read data)
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_4_msb_field;
   end
   
   //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_5
@@ -8468,114 +8428,154 @@ module base_map_l2_s8_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_5 (pio read data)
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_2
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6
   always_comb begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_2_we) reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_2_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_6_we) reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_6_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_2
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_6
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_2_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_6 (pio read data)
   always_comb begin
-    rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field_w;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7
   always_comb begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_3_we) reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_3_w [31:16] ;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_7_we) reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_3
+  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_7
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_7 (pio read data)
   always_comb begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_0_we) reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_0_w [31:16] ;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_s8_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_0
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_1
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_0 (pio read data)
   always_comb begin
-    reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field;
-    reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
-    l2h_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_r = rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_l2_s8_child_l3_child_base_regs_config_regs_1_we) reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next = d2l_l2_s8_child_l3_child_base_regs_config_regs_1_w [31:16] ;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- reg assigns for l2_s8_child_l3_child_base_regs_config_regs_1
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_lsb_field_next;
-      rg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_s8_child_l3_child_base_regs_config_regs_1_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_2 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_3 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_3_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_4 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_4_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_5 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_5_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6
+  always_comb begin
+    rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_6 (pio read data)
   always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_6_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7
   always_comb begin
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_s8_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_s8_child_l3_child_base_regs_config_regs_3_msb_field;
+    rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_s8_child_l3_child_base_regs_state_regs_7 (pio read data)
+  always_comb begin
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_s8_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_s8_child_l3_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -8881,18 +8881,17 @@ module base_map_l2_s8_child_l3_child_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read & pio_dec_read_cgate_dly6;
   assign  pio_dec_write = s8_pio_dec_write & pio_dec_write_cgate_dly6;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_l2_s8_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_w_next;
+      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_we_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_re_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_s8_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_addr_next;
     end
   end
   
@@ -9003,34 +9002,6 @@ module base_map_l2_s8_child_l3_child_jrdl_decode
     end
   end
   
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
-  //------- reg assigns for external i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
-    end
-    else begin
-      d2h_l2_s8_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_w_next;
-      d2h_l2_s8_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_we_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_s8_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_re_next & ~h2d_l2_s8_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_s8_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_s8_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_s8_child_l3_child_ext_base_regs_addr_next;
-    end
-  end
-  
   //------- reg assigns for clock gate delay
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -9063,6 +9034,35 @@ module base_map_l2_s8_child_l3_child_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -9725,40 +9725,54 @@ module base_map_l2_dflt_child_jrdl_logic
   logic   [31:0] l2d_l2_dflt_child_base_regs_state_regs_7_r;
   
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_7_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_7_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_0
   always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_4_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_4_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_0_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_0_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_0_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_0_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_dflt_child_base_regs_config_regs_0_we) reg_l2_dflt_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_dflt_child_base_regs_config_regs_0_we) reg_l2_dflt_child_base_regs_config_regs_0_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_7 (pio read data)
-  always_comb begin
-    l2d_l2_dflt_child_base_regs_config_regs_7_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_dflt_child_base_regs_config_regs_7_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_7_msb_field;
+  //------- reg assigns for l2_dflt_child_base_regs_config_regs_0
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_dflt_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_dflt_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_0_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_0 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_base_regs_config_regs_4_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_dflt_child_base_regs_config_regs_4_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_4_msb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_0_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_0_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_0_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_1
   always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_2_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_2_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_1_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_1_lsb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_1_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_1_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_1_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_1_msb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_1_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_1_msb_field;
+    if (d2l_l2_dflt_child_base_regs_config_regs_1_we) reg_l2_dflt_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_l2_dflt_child_base_regs_config_regs_1_we) reg_l2_dflt_child_base_regs_config_regs_1_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_1_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_5_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_5_lsb_field;
+  //------- reg assigns for l2_dflt_child_base_regs_config_regs_1
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_dflt_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_dflt_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_1_lsb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_1_msb_field_next;
+    end
   end
   
   //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_1 (pio read data)
@@ -9767,28 +9781,6 @@ module base_map_l2_dflt_child_jrdl_logic
     l2d_l2_dflt_child_base_regs_config_regs_1_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_1_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_3
-  always_comb begin
-    reg_l2_dflt_child_base_regs_config_regs_3_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_3_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_dflt_child_base_regs_config_regs_3_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_3_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_dflt_child_base_regs_config_regs_3_we) reg_l2_dflt_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_dflt_child_base_regs_config_regs_3_we) reg_l2_dflt_child_base_regs_config_regs_3_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_3_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_dflt_child_base_regs_config_regs_3
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_dflt_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_dflt_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_dflt_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_3_msb_field_next;
-    end
-  end
-  
   //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_2
   always_comb begin
     reg_l2_dflt_child_base_regs_config_regs_2_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_2_lsb_field;
@@ -9811,113 +9803,94 @@ module base_map_l2_dflt_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_1
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_2 (pio read data)
   always_comb begin
-    reg_l2_dflt_child_base_regs_config_regs_1_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_1_lsb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_1_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_1_lsb_field;
-    reg_l2_dflt_child_base_regs_config_regs_1_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_1_msb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_1_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_1_msb_field;
-    if (d2l_l2_dflt_child_base_regs_config_regs_1_we) reg_l2_dflt_child_base_regs_config_regs_1_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_l2_dflt_child_base_regs_config_regs_1_we) reg_l2_dflt_child_base_regs_config_regs_1_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_1_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_dflt_child_base_regs_config_regs_1
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_dflt_child_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_base_regs_config_regs_1_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_dflt_child_base_regs_config_regs_1_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_1_lsb_field_next;
-      rg_l2_dflt_child_base_regs_config_regs_1_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_1_msb_field_next;
-    end
+    l2d_l2_dflt_child_base_regs_config_regs_2_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_2_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_3
   always_comb begin
-    reg_l2_dflt_child_base_regs_config_regs_0_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_0_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_dflt_child_base_regs_config_regs_0_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_0_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_dflt_child_base_regs_config_regs_0_we) reg_l2_dflt_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_dflt_child_base_regs_config_regs_0_we) reg_l2_dflt_child_base_regs_config_regs_0_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_0_w [31:16] ;
+    reg_l2_dflt_child_base_regs_config_regs_3_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_3_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_3_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_3_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_dflt_child_base_regs_config_regs_3_we) reg_l2_dflt_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_dflt_child_base_regs_config_regs_3_we) reg_l2_dflt_child_base_regs_config_regs_3_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for l2_dflt_child_base_regs_config_regs_0
+  //------- reg assigns for l2_dflt_child_base_regs_config_regs_3
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_dflt_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
+      rg_l2_dflt_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_dflt_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_dflt_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_0_msb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_3_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_1
-  always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_1_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_1_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_0 (pio read data)
-  always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_0_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_0_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_0_lsb_field;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_2
-  always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_2_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_2_lsb_field_w;
-  end
-  
   //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_3 (pio read data)
   always_comb begin
     l2d_l2_dflt_child_base_regs_config_regs_3_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_3_lsb_field;
     l2d_l2_dflt_child_base_regs_config_regs_3_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_3_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_3
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_4
   always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_3_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_3_lsb_field_w;
+    reg_l2_dflt_child_base_regs_config_regs_4_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_4_lsb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_4_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_4_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_4_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_4_msb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_4_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_4_msb_field;
+    if (d2l_l2_dflt_child_base_regs_config_regs_4_we) reg_l2_dflt_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_4_w [15:0] ;
+    if (d2l_l2_dflt_child_base_regs_config_regs_4_we) reg_l2_dflt_child_base_regs_config_regs_4_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_4_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_4
+  //------- reg assigns for l2_dflt_child_base_regs_config_regs_4
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_dflt_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_dflt_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_4_lsb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_4_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_4 (pio read data)
   always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_4_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_4_lsb_field_w;
+    l2d_l2_dflt_child_base_regs_config_regs_4_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_4_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_4_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_7
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_5
   always_comb begin
-    reg_l2_dflt_child_base_regs_config_regs_7_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_7_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_dflt_child_base_regs_config_regs_7_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_7_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_dflt_child_base_regs_config_regs_7_we) reg_l2_dflt_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_dflt_child_base_regs_config_regs_7_we) reg_l2_dflt_child_base_regs_config_regs_7_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_7_w [31:16] ;
+    reg_l2_dflt_child_base_regs_config_regs_5_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_5_lsb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_5_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_5_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_5_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_5_msb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_5_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_5_msb_field;
+    if (d2l_l2_dflt_child_base_regs_config_regs_5_we) reg_l2_dflt_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_l2_dflt_child_base_regs_config_regs_5_we) reg_l2_dflt_child_base_regs_config_regs_5_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_5_w [31:16] ;
   end
   
-  //------- reg assigns for l2_dflt_child_base_regs_config_regs_7
+  //------- reg assigns for l2_dflt_child_base_regs_config_regs_5
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_dflt_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+      rg_l2_dflt_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_dflt_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_dflt_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_7_msb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_5_lsb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_5_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_5
-  always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_5_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_5_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_5 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_base_regs_config_regs_0_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_dflt_child_base_regs_config_regs_0_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_5_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_5_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_5_msb_field;
   end
   
   //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_6
@@ -9942,64 +9915,76 @@ module base_map_l2_dflt_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_6
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_6 (pio read data)
   always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_6_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_6_lsb_field_w;
+    l2d_l2_dflt_child_base_regs_config_regs_6_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_6_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_5
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_7
   always_comb begin
-    reg_l2_dflt_child_base_regs_config_regs_5_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_5_lsb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_5_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_5_lsb_field;
-    reg_l2_dflt_child_base_regs_config_regs_5_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_5_msb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_5_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_5_msb_field;
-    if (d2l_l2_dflt_child_base_regs_config_regs_5_we) reg_l2_dflt_child_base_regs_config_regs_5_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_l2_dflt_child_base_regs_config_regs_5_we) reg_l2_dflt_child_base_regs_config_regs_5_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_5_w [31:16] ;
+    reg_l2_dflt_child_base_regs_config_regs_7_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_7_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_dflt_child_base_regs_config_regs_7_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_dflt_child_base_regs_config_regs_7_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_dflt_child_base_regs_config_regs_7_we) reg_l2_dflt_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_dflt_child_base_regs_config_regs_7_we) reg_l2_dflt_child_base_regs_config_regs_7_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- reg assigns for l2_dflt_child_base_regs_config_regs_5
+  //------- reg assigns for l2_dflt_child_base_regs_config_regs_7
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_dflt_child_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_base_regs_config_regs_5_msb_field <= #1 16'h0;
+      rg_l2_dflt_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_dflt_child_base_regs_config_regs_5_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_5_lsb_field_next;
-      rg_l2_dflt_child_base_regs_config_regs_5_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_5_msb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_dflt_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_7_msb_field_next;
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_7
+  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_7 (pio read data)
   always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_7_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_7_lsb_field_w;
+    l2d_l2_dflt_child_base_regs_config_regs_7_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_dflt_child_base_regs_config_regs_7_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_7_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_4
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_0
   always_comb begin
-    reg_l2_dflt_child_base_regs_config_regs_4_lsb_field_next = rg_l2_dflt_child_base_regs_config_regs_4_lsb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_4_lsb_field_r = rg_l2_dflt_child_base_regs_config_regs_4_lsb_field;
-    reg_l2_dflt_child_base_regs_config_regs_4_msb_field_next = rg_l2_dflt_child_base_regs_config_regs_4_msb_field;
-    l2h_l2_dflt_child_base_regs_config_regs_4_msb_field_r = rg_l2_dflt_child_base_regs_config_regs_4_msb_field;
-    if (d2l_l2_dflt_child_base_regs_config_regs_4_we) reg_l2_dflt_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_dflt_child_base_regs_config_regs_4_w [15:0] ;
-    if (d2l_l2_dflt_child_base_regs_config_regs_4_we) reg_l2_dflt_child_base_regs_config_regs_4_msb_field_next = d2l_l2_dflt_child_base_regs_config_regs_4_w [31:16] ;
+    rg_l2_dflt_child_base_regs_state_regs_0_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- reg assigns for l2_dflt_child_base_regs_config_regs_4
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_dflt_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_dflt_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_4_lsb_field_next;
-      rg_l2_dflt_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_dflt_child_base_regs_config_regs_4_msb_field_next;
-    end
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_0 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_base_regs_state_regs_0_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_0_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_1
   always_comb begin
-    l2d_l2_dflt_child_base_regs_config_regs_6_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_dflt_child_base_regs_config_regs_6_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_6_msb_field;
+    rg_l2_dflt_child_base_regs_state_regs_1_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_1_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_1 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_1_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_1_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_2
+  always_comb begin
+    rg_l2_dflt_child_base_regs_state_regs_2_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_2_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_2 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_2_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_2_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_3
+  always_comb begin
+    rg_l2_dflt_child_base_regs_state_regs_3_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_3_lsb_field_w;
   end
   
   //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_3 (pio read data)
@@ -10008,33 +9993,48 @@ module base_map_l2_dflt_child_jrdl_logic
     l2d_l2_dflt_child_base_regs_state_regs_3_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_3_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_4
   always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_6_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_6_lsb_field;
+    rg_l2_dflt_child_base_regs_state_regs_4_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_4_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_5 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_4 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_base_regs_config_regs_5_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_dflt_child_base_regs_config_regs_5_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_5_msb_field;
+    l2d_l2_dflt_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_4_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_4_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_5
   always_comb begin
-    l2d_l2_dflt_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_dflt_child_base_regs_state_regs_1_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_1_lsb_field;
+    rg_l2_dflt_child_base_regs_state_regs_5_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_5_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_config_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_5 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_base_regs_config_regs_2_r [15:0]  = rg_l2_dflt_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_dflt_child_base_regs_config_regs_2_r [31:16]  = rg_l2_dflt_child_base_regs_config_regs_2_msb_field;
+    l2d_l2_dflt_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_5_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_5_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_0
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_6
   always_comb begin
-    rg_l2_dflt_child_base_regs_state_regs_0_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_0_lsb_field_w;
+    rg_l2_dflt_child_base_regs_state_regs_6_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_6_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_6 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_6_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_6_lsb_field;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_7
+  always_comb begin
+    rg_l2_dflt_child_base_regs_state_regs_7_lsb_field =  h2l_l2_dflt_child_base_regs_state_regs_7_lsb_field_w;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_base_regs_state_regs_7 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_dflt_child_base_regs_state_regs_7_r [15:0]  = rg_l2_dflt_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -10375,35 +10375,6 @@ module base_map_l2_dflt_child_jrdl_decode
   assign  h2d_l2_dflt_child_ack = dec_pio_ack;
   assign  h2d_l2_dflt_child_nack = dec_pio_nack;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -10566,6 +10537,35 @@ module base_map_l2_dflt_child_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -11254,52 +11254,36 @@ module base_map_l2_dflt_child_l3_child_jrdl_logic
   logic   [31:0] l2d_l2_dflt_child_l3_child_base_regs_state_regs_6_r;
   logic   [15:0] rg_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field;
   logic   [31:0] l2d_l2_dflt_child_l3_child_base_regs_state_regs_7_r;
-  
-  
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_3
-  always_comb begin
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field;
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_3
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_next;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_next;
-    end
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_4
-  always_comb begin
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field;
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_w [15:0] ;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_w [31:16] ;
+  
+  
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_0
+  always_comb begin
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field;
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_w [15:0] ;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_w [31:16] ;
   end
   
-  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_4
+  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_0
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_next;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_next;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_next;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_0 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_1
   always_comb begin
     reg_l2_dflt_child_l3_child_base_regs_config_regs_1_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_1_lsb_field;
@@ -11322,6 +11306,12 @@ module base_map_l2_dflt_child_l3_child_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_1 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_1_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_1_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_2
   always_comb begin
     reg_l2_dflt_child_l3_child_base_regs_config_regs_2_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_2_lsb_field;
@@ -11344,34 +11334,68 @@ module base_map_l2_dflt_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_2 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_0_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_0_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_2_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_2_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_7
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_3
   always_comb begin
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field;
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_w [15:0] ;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_w [31:16] ;
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field;
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_3_w [31:16] ;
   end
   
-  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_7
+  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_3
   always_ff @ (posedge gclk) begin
     if (reset) begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_next;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_next;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field_next;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_3 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field;
+  end
+  
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_4
+  always_comb begin
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field;
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_w [15:0] ;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_4_w [31:16] ;
+  end
+  
+  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_4
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field_next;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_4 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_5
   always_comb begin
     reg_l2_dflt_child_l3_child_base_regs_config_regs_5_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_5_lsb_field;
@@ -11394,6 +11418,12 @@ module base_map_l2_dflt_child_l3_child_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_5 (pio read data)
+  always_comb begin
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_5_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_5_msb_field;
+  end
+  
   //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_6
   always_comb begin
     reg_l2_dflt_child_l3_child_base_regs_config_regs_6_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_6_lsb_field;
@@ -11416,41 +11446,38 @@ module base_map_l2_dflt_child_l3_child_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_5
-  always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_5_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_4
-  always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_4_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_7
-  always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field_w;
-  end
-  
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_6
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_6 (pio read data)
   always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_6_lsb_field_w;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_6_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_6_msb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_7
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_2_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_2_lsb_field;
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field;
+    reg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field;
+    l2h_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_w [15:0] ;
+    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_7_w [31:16] ;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_5 (pio read data)
-  always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_5_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_5_lsb_field;
+  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_7
+  always_ff @ (posedge gclk) begin
+    if (reset) begin
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field <= #1 16'hffff;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field_next;
+      rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field_next;
+    end
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_1
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_7 (pio read data)
   always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_1_lsb_field_w;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field;
   end
   
   //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_0
@@ -11458,114 +11485,87 @@ module base_map_l2_dflt_child_l3_child_jrdl_logic
     rg_l2_dflt_child_l3_child_base_regs_state_regs_0_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_0_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_3 (pio read data)
-  always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_3_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_3_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_3_lsb_field;
-  end
-  
   //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_0 (pio read data)
   always_comb begin
     l2d_l2_dflt_child_l3_child_base_regs_state_regs_0_r = 32'b0;
     l2d_l2_dflt_child_l3_child_base_regs_state_regs_0_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_0_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_3
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_1
   always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_3_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_3_lsb_field_w;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_1_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_1_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_2
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_1 (pio read data)
   always_comb begin
-    rg_l2_dflt_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_2_lsb_field_w;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_1_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_1_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_5 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_2
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_5_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_5_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_5_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_5_msb_field;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_2_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_2_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_2 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_6_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_6_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_2_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_2_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_2_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_2 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_3
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_2_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_2_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_2_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_2_msb_field;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_3_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_3_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_3 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_4_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_4_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_4_msb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_3_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_3_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_3_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_4
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_7_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_7_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_7_msb_field;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_4_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_4_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_4 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_1_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_1_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_1_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_1_msb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_4_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_4_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_7 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_5
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_7_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_5_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_5_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_6 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_5 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_6_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_6_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_6_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_6_msb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_5_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_5_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_5_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_3 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_6
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_3_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_lsb_field;
-    l2d_l2_dflt_child_l3_child_base_regs_config_regs_3_r [31:16]  = rg_l2_dflt_child_l3_child_base_regs_config_regs_3_msb_field;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_6_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_6_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_4 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_6 (pio read data)
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_4_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_4_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_4_lsb_field;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_6_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_6_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_6_lsb_field;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_1 (pio read data)
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_7
   always_comb begin
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_1_r = 32'b0;
-    l2d_l2_dflt_child_l3_child_base_regs_state_regs_1_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_1_lsb_field;
+    rg_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field =  h2l_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field_w;
   end
   
-  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_config_regs_0
+  //------- combinatorial assigns for l2_dflt_child_l3_child_base_regs_state_regs_7 (pio read data)
   always_comb begin
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field;
-    reg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_next = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field;
-    l2h_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_r = rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_w [15:0] ;
-    if (d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_we) reg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_next = d2l_l2_dflt_child_l3_child_base_regs_config_regs_0_w [31:16] ;
-  end
-  
-  //------- reg assigns for l2_dflt_child_l3_child_base_regs_config_regs_0
-  always_ff @ (posedge gclk) begin
-    if (reset) begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field <= #1 16'hffff;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_0_lsb_field_next;
-      rg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field <= #1  reg_l2_dflt_child_l3_child_base_regs_config_regs_0_msb_field_next;
-    end
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_7_r = 32'b0;
+    l2d_l2_dflt_child_l3_child_base_regs_state_regs_7_r [15:0]  = rg_l2_dflt_child_l3_child_base_regs_state_regs_7_lsb_field;
   end
   
 endmodule
@@ -11871,18 +11871,17 @@ module base_map_l2_dflt_child_l3_child_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read & pio_dec_read_cgate_dly6;
   assign  pio_dec_write = s8_pio_dec_write & pio_dec_write_cgate_dly6;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always_ff @ (posedge uclk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_l2_dflt_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
+      d2h_l2_dflt_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_l2_dflt_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_w_next;
+      d2h_l2_dflt_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_we_next & ~h2d_l2_dflt_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_dflt_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_dflt_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_re_next & ~h2d_l2_dflt_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_dflt_child_l3_child_ext_base_regs_nack_ex;
+      d2h_l2_dflt_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_addr_next;
     end
   end
   
@@ -11993,34 +11992,6 @@ module base_map_l2_dflt_child_l3_child_jrdl_decode
     end
   end
   
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_address_d1 <= #1   pio_dec_address;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
-  //------- reg assigns for external i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      d2h_l2_dflt_child_l3_child_ext_base_regs_we_ex <= #1  1'b0;
-      d2h_l2_dflt_child_l3_child_ext_base_regs_re_ex <= #1  1'b0;
-    end
-    else begin
-      d2h_l2_dflt_child_l3_child_ext_base_regs_w_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_w_next;
-      d2h_l2_dflt_child_l3_child_ext_base_regs_we_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_we_next & ~h2d_l2_dflt_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_dflt_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_dflt_child_l3_child_ext_base_regs_re_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_re_next & ~h2d_l2_dflt_child_l3_child_ext_base_regs_ack_ex & ~h2d_l2_dflt_child_l3_child_ext_base_regs_nack_ex;
-      d2h_l2_dflt_child_l3_child_ext_base_regs_addr_ex <= #1  d2h_l2_dflt_child_l3_child_ext_base_regs_addr_next;
-    end
-  end
-  
   //------- reg assigns for clock gate delay
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -12053,6 +12024,35 @@ module base_map_l2_dflt_child_l3_child_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -12486,12 +12486,6 @@ module base_map_singleton_rf_s8_jrdl_logic
   logic   [31:0] l2d_singleton_rf_s8_sing_reg_r;
   
   
-  //------- combinatorial assigns for singleton_rf_s8_sing_reg (pio read data)
-  always_comb begin
-    l2d_singleton_rf_s8_sing_reg_r [15:0]  = rg_singleton_rf_s8_sing_reg_lsb_field;
-    l2d_singleton_rf_s8_sing_reg_r [31:16]  = rg_singleton_rf_s8_sing_reg_msb_field;
-  end
-  
   //------- combinatorial assigns for singleton_rf_s8_sing_reg
   always_comb begin
     reg_singleton_rf_s8_sing_reg_lsb_field_next = rg_singleton_rf_s8_sing_reg_lsb_field;
@@ -12514,6 +12508,12 @@ module base_map_singleton_rf_s8_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for singleton_rf_s8_sing_reg (pio read data)
+  always_comb begin
+    l2d_singleton_rf_s8_sing_reg_r [15:0]  = rg_singleton_rf_s8_sing_reg_lsb_field;
+    l2d_singleton_rf_s8_sing_reg_r [31:16]  = rg_singleton_rf_s8_sing_reg_msb_field;
+  end
+  
 endmodule
 
 //
@@ -12613,21 +12613,6 @@ module base_map_singleton_rf_s8_jrdl_decode
   assign  pio_dec_read = s8_pio_dec_read & pio_dec_read_cgate_dly6;
   assign  pio_dec_write = s8_pio_dec_write & pio_dec_write_cgate_dly6;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
   //------- combinatorial assigns for serial8 i/f
   always_comb begin
     s8_state_next = s8_state;
@@ -12716,19 +12701,6 @@ module base_map_singleton_rf_s8_jrdl_decode
     end
   end
   
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- reg assigns for clock gate delay
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -12761,6 +12733,34 @@ module base_map_singleton_rf_s8_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -12894,12 +12894,6 @@ module base_map_singleton_rf_r16_jrdl_logic
   logic   [31:0] l2d_singleton_rf_r16_sing_reg_r;
   
   
-  //------- combinatorial assigns for singleton_rf_r16_sing_reg (pio read data)
-  always_comb begin
-    l2d_singleton_rf_r16_sing_reg_r [15:0]  = rg_singleton_rf_r16_sing_reg_lsb_field;
-    l2d_singleton_rf_r16_sing_reg_r [31:16]  = rg_singleton_rf_r16_sing_reg_msb_field;
-  end
-  
   //------- combinatorial assigns for singleton_rf_r16_sing_reg
   always_comb begin
     reg_singleton_rf_r16_sing_reg_lsb_field_next = rg_singleton_rf_r16_sing_reg_lsb_field;
@@ -12922,6 +12916,12 @@ module base_map_singleton_rf_r16_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for singleton_rf_r16_sing_reg (pio read data)
+  always_comb begin
+    l2d_singleton_rf_r16_sing_reg_r [15:0]  = rg_singleton_rf_r16_sing_reg_lsb_field;
+    l2d_singleton_rf_r16_sing_reg_r [31:16]  = rg_singleton_rf_r16_sing_reg_msb_field;
+  end
+  
 endmodule
 
 //
@@ -13047,34 +13047,6 @@ module base_map_singleton_rf_r16_jrdl_decode
   assign  pio_dec_read = r16_pio_dec_read & pio_dec_read_cgate_dly6;
   assign  pio_dec_write = r16_pio_dec_write & pio_dec_write_cgate_dly6;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- combinatorial assigns for ring16 i/f
   always_comb begin
     r16_state_next = r16_state;
@@ -13286,6 +13258,34 @@ module base_map_singleton_rf_r16_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
@@ -13539,34 +13539,6 @@ module base_map_singleton_rf_dflt_jrdl_decode
   assign  h2d_singleton_rf_dflt_ack = dec_pio_ack;
   assign  h2d_singleton_rf_dflt_nack = dec_pio_nack;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
-  //------- reg assigns for pio i/f
-  always_ff @ (posedge uclk) begin
-    if (reset) begin
-      pio_write_active <= #1  1'b0;
-      pio_read_active <= #1  1'b0;
-    end
-    else begin
-      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
-      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
-      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
-    end
-  end
-  
   //------- reg assigns for clock gate delay
   always_ff @ (posedge uclk) begin
     if (reset) begin
@@ -13599,6 +13571,34 @@ module base_map_singleton_rf_dflt_jrdl_decode
     end
   end
   
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge uclk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
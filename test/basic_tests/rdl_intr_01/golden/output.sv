@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_intr_01/test.rdl
 //   Parms: ./rdl_intr_01/test.parms
-//   Date: Tue Mar 27 14:56:10 EDT 2018
+//   Date: Mon Oct 19 03:30:43 UTC 2026
 //
 
 //
@@ -224,38 +224,6 @@ module foo_jrdl_logic
   logic   [31:0] l2d_intr_cascade_merge_r;
   
   
-  //------- combinatorial assigns for bar_rst_reg
-  always_comb begin
-    reg_bar_rst_reg_fld1_next = rg_bar_rst_reg_fld1;
-    l2h_bar_rst_reg_fld1_r = rg_bar_rst_reg_fld1;
-    reg_bar_rst_reg_fld2_next = rg_bar_rst_reg_fld2;
-    l2h_bar_rst_reg_fld2_r = rg_bar_rst_reg_fld2;
-    reg_bar_rst_reg_fld3_next = rg_bar_rst_reg_fld3;
-    l2h_bar_rst_reg_fld3_r = rg_bar_rst_reg_fld3;
-    reg_bar_rst_reg_fld4_next = rg_bar_rst_reg_fld4;
-    l2h_bar_rst_reg_fld4_r = rg_bar_rst_reg_fld4;
-    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld1_next = d2l_bar_rst_reg_w [7:4] ;
-    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld2_next = d2l_bar_rst_reg_w [3:0] ;
-    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld3_next = d2l_bar_rst_reg_w [10:8] ;
-    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld4_next = d2l_bar_rst_reg_w [13:11] ;
-  end
-  
-  //------- reg assigns for bar_rst_reg
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_bar_rst_reg_fld1 <= #1 4'd1;
-      rg_bar_rst_reg_fld2 <= #1 4'd2;
-      rg_bar_rst_reg_fld3 <= #1 3'd3;
-      rg_bar_rst_reg_fld4 <= #1 3'd4;
-    end
-    else begin
-      rg_bar_rst_reg_fld1 <= #1  reg_bar_rst_reg_fld1_next;
-      rg_bar_rst_reg_fld2 <= #1  reg_bar_rst_reg_fld2_next;
-      rg_bar_rst_reg_fld3 <= #1  reg_bar_rst_reg_fld3_next;
-      rg_bar_rst_reg_fld4 <= #1  reg_bar_rst_reg_fld4_next;
-    end
-  end
-  
   //------- combinatorial assigns for bar_a_reg_0
   always_comb begin
     reg_bar_a_reg_0_fld1_next = rg_bar_a_reg_0_fld1;
@@ -278,52 +246,11 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for bar_intr_reg1
-  always_comb begin
-    reg_bar_intr_reg1_int1_next = rg_bar_intr_reg1_int1;
-    reg_bar_intr_reg1_int2_next = rg_bar_intr_reg1_int2;
-    l2h_bar_intr_reg1_intr_o = 1'b0;
-    reg_bar_intr_reg1_int1_next = (h2l_bar_intr_reg1_int1_intr | rg_bar_intr_reg1_int1);
-    l2h_bar_intr_reg1_intr_o = l2h_bar_intr_reg1_intr_o | (rg_bar_intr_reg1_int1);
-    reg_bar_intr_reg1_int2_next = (h2l_bar_intr_reg1_int2_intr | rg_bar_intr_reg1_int2);
-    l2h_bar_intr_reg1_intr_o = l2h_bar_intr_reg1_intr_o | (rg_bar_intr_reg1_int2);
-    if (d2l_bar_intr_reg1_we) reg_bar_intr_reg1_int1_next = (reg_bar_intr_reg1_int1_next & ~d2l_bar_intr_reg1_w [0] );
-    if (d2l_bar_intr_reg1_we) reg_bar_intr_reg1_int2_next = (reg_bar_intr_reg1_int2_next & ~d2l_bar_intr_reg1_w [1] );
-  end
-  
-  //------- reg assigns for bar_intr_reg1
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_bar_intr_reg1_int1 <= #1 1'd0;
-      rg_bar_intr_reg1_int2 <= #1 1'd0;
-    end
-    else begin
-      rg_bar_intr_reg1_int1 <= #1  reg_bar_intr_reg1_int1_next;
-      rg_bar_intr_reg1_int2 <= #1  reg_bar_intr_reg1_int2_next;
-    end
-  end
-  
-  //------- combinatorial assigns for intr_cascade_merge
+  //------- combinatorial assigns for bar_a_reg_0 (pio read data)
   always_comb begin
-    reg_intr_cascade_merge_fld1_next = rg_intr_cascade_merge_fld1;
-    reg_intr_cascade_merge_fld2_next = rg_intr_cascade_merge_fld2;
-    l2h_intr_cascade_merge_intr_o = 1'b0;
-    l2h_intr_cascade_merge_intr_o = l2h_intr_cascade_merge_intr_o | (rg_intr_cascade_merge_fld1);
-    reg_intr_cascade_merge_fld1_next = l2h_bar_intr_reg1_intr_o;
-    reg_intr_cascade_merge_fld2_next = (h2l_intr_cascade_merge_fld2_intr | rg_intr_cascade_merge_fld2);
-    l2h_intr_cascade_merge_intr_o = l2h_intr_cascade_merge_intr_o | (rg_intr_cascade_merge_fld2);
-  end
-  
-  //------- reg assigns for intr_cascade_merge
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_intr_cascade_merge_fld1 <= #1 1'd0;
-      rg_intr_cascade_merge_fld2 <= #1 1'd0;
-    end
-    else begin
-      rg_intr_cascade_merge_fld1 <= #1  reg_intr_cascade_merge_fld1_next;
-      rg_intr_cascade_merge_fld2 <= #1  reg_intr_cascade_merge_fld2_next;
-    end
+    l2d_bar_a_reg_0_r = 32'b0;
+    l2d_bar_a_reg_0_r [9:0]  = rg_bar_a_reg_0_fld1;
+    l2d_bar_a_reg_0_r [15]  = rg_bar_a_reg_0_fld2;
   end
   
   //------- combinatorial assigns for bar_a_reg_1
@@ -348,65 +275,43 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for bar_sub_intr_reg3 (pio read data)
-  always_comb begin
-    l2d_bar_sub_intr_reg3_r = 32'b0;
-    l2d_bar_sub_intr_reg3_r [0]  = rg_bar_sub_intr_reg3_int1;
-    l2d_bar_sub_intr_reg3_r [1]  = rg_bar_sub_intr_reg3_int2;
-  end
-  
-  //------- combinatorial assigns for bar_intr_reg1 (pio read data)
+  //------- combinatorial assigns for bar_a_reg_1 (pio read data)
   always_comb begin
-    l2d_bar_intr_reg1_r = 32'b0;
-    l2d_bar_intr_reg1_r [0]  = rg_bar_intr_reg1_int1;
-    l2d_bar_intr_reg1_r [1]  = rg_bar_intr_reg1_int2;
+    l2d_bar_a_reg_1_r = 32'b0;
+    l2d_bar_a_reg_1_r [9:0]  = rg_bar_a_reg_1_fld1;
+    l2d_bar_a_reg_1_r [15]  = rg_bar_a_reg_1_fld2;
   end
   
-  //------- combinatorial assigns for bar_sub_intr_reg2
+  //------- combinatorial assigns for bar_intr_reg1
   always_comb begin
-    reg_bar_sub_intr_reg2_int1_next = rg_bar_sub_intr_reg2_int1;
-    reg_bar_sub_intr_reg2_int2_next = rg_bar_sub_intr_reg2_int2;
-    l2h_bar_sub_intr_reg2_intr_o = 1'b0;
-    reg_bar_sub_intr_reg2_int1_next = (h2l_bar_sub_intr_reg2_int1_intr | rg_bar_sub_intr_reg2_int1);
-    l2h_bar_sub_intr_reg2_intr_o = l2h_bar_sub_intr_reg2_intr_o | (rg_bar_sub_intr_reg2_int1 & rg_bar_intr_reg1_int1);
-    reg_bar_sub_intr_reg2_int2_next = (h2l_bar_sub_intr_reg2_int2_intr | rg_bar_sub_intr_reg2_int2) & rg_bar_intr_reg1_int2;
-    l2h_bar_sub_intr_reg2_intr_o = l2h_bar_sub_intr_reg2_intr_o | (rg_bar_sub_intr_reg2_int2);
-    if (d2l_bar_sub_intr_reg2_we) reg_bar_sub_intr_reg2_int1_next = (reg_bar_sub_intr_reg2_int1_next & ~d2l_bar_sub_intr_reg2_w [0] );
-    if (d2l_bar_sub_intr_reg2_we) reg_bar_sub_intr_reg2_int2_next = (reg_bar_sub_intr_reg2_int2_next & ~d2l_bar_sub_intr_reg2_w [1] );
+    reg_bar_intr_reg1_int1_next = rg_bar_intr_reg1_int1;
+    reg_bar_intr_reg1_int2_next = rg_bar_intr_reg1_int2;
+    l2h_bar_intr_reg1_intr_o = 1'b0;
+    reg_bar_intr_reg1_int1_next = (h2l_bar_intr_reg1_int1_intr | rg_bar_intr_reg1_int1);
+    l2h_bar_intr_reg1_intr_o = l2h_bar_intr_reg1_intr_o | (rg_bar_intr_reg1_int1);
+    reg_bar_intr_reg1_int2_next = (h2l_bar_intr_reg1_int2_intr | rg_bar_intr_reg1_int2);
+    l2h_bar_intr_reg1_intr_o = l2h_bar_intr_reg1_intr_o | (rg_bar_intr_reg1_int2);
+    if (d2l_bar_intr_reg1_we) reg_bar_intr_reg1_int1_next = (reg_bar_intr_reg1_int1_next & ~d2l_bar_intr_reg1_w [0] );
+    if (d2l_bar_intr_reg1_we) reg_bar_intr_reg1_int2_next = (reg_bar_intr_reg1_int2_next & ~d2l_bar_intr_reg1_w [1] );
   end
   
-  //------- reg assigns for bar_sub_intr_reg2
+  //------- reg assigns for bar_intr_reg1
   always_ff @ (posedge clk) begin
     if (reset) begin
-      rg_bar_sub_intr_reg2_int1 <= #1 1'd0;
-      rg_bar_sub_intr_reg2_int2 <= #1 1'd0;
+      rg_bar_intr_reg1_int1 <= #1 1'd0;
+      rg_bar_intr_reg1_int2 <= #1 1'd0;
     end
     else begin
-      rg_bar_sub_intr_reg2_int1 <= #1  reg_bar_sub_intr_reg2_int1_next;
-      rg_bar_sub_intr_reg2_int2 <= #1  reg_bar_sub_intr_reg2_int2_next;
+      rg_bar_intr_reg1_int1 <= #1  reg_bar_intr_reg1_int1_next;
+      rg_bar_intr_reg1_int2 <= #1  reg_bar_intr_reg1_int2_next;
     end
   end
   
-  //------- combinatorial assigns for bar_log_reg3 (pio read data)
-  always_comb begin
-    l2d_bar_log_reg3_r = 32'b0;
-    l2d_bar_log_reg3_r [9:0]  = rg_bar_log_reg3_err_log;
-  end
-  
-  //------- combinatorial assigns for bar_rst_reg (pio read data)
-  always_comb begin
-    l2d_bar_rst_reg_r = 32'b0;
-    l2d_bar_rst_reg_r [7:4]  = rg_bar_rst_reg_fld1;
-    l2d_bar_rst_reg_r [3:0]  = rg_bar_rst_reg_fld2;
-    l2d_bar_rst_reg_r [10:8]  = rg_bar_rst_reg_fld3;
-    l2d_bar_rst_reg_r [13:11]  = rg_bar_rst_reg_fld4;
-  end
-  
-  //------- combinatorial assigns for bar_a_reg_0 (pio read data)
+  //------- combinatorial assigns for bar_intr_reg1 (pio read data)
   always_comb begin
-    l2d_bar_a_reg_0_r = 32'b0;
-    l2d_bar_a_reg_0_r [9:0]  = rg_bar_a_reg_0_fld1;
-    l2d_bar_a_reg_0_r [15]  = rg_bar_a_reg_0_fld2;
+    l2d_bar_intr_reg1_r = 32'b0;
+    l2d_bar_intr_reg1_r [0]  = rg_bar_intr_reg1_int1;
+    l2d_bar_intr_reg1_r [1]  = rg_bar_intr_reg1_int2;
   end
   
   //------- combinatorial assigns for bar_log_reg1
@@ -426,11 +331,10 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for intr_cascade_merge (pio read data)
+  //------- combinatorial assigns for bar_log_reg1 (pio read data)
   always_comb begin
-    l2d_intr_cascade_merge_r = 32'b0;
-    l2d_intr_cascade_merge_r [0]  = rg_intr_cascade_merge_fld1;
-    l2d_intr_cascade_merge_r [1]  = rg_intr_cascade_merge_fld2;
+    l2d_bar_log_reg1_r = 32'b0;
+    l2d_bar_log_reg1_r [9:0]  = rg_bar_log_reg1_err_log;
   end
   
   //------- combinatorial assigns for bar_log_reg2
@@ -450,6 +354,12 @@ module foo_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for bar_log_reg2 (pio read data)
+  always_comb begin
+    l2d_bar_log_reg2_r = 32'b0;
+    l2d_bar_log_reg2_r [9:0]  = rg_bar_log_reg2_err_log;
+  end
+  
   //------- combinatorial assigns for bar_log_reg3
   always_comb begin
     reg_bar_log_reg3_err_log_next = rg_bar_log_reg3_err_log;
@@ -467,17 +377,42 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for bar_a_reg_1 (pio read data)
+  //------- combinatorial assigns for bar_log_reg3 (pio read data)
   always_comb begin
-    l2d_bar_a_reg_1_r = 32'b0;
-    l2d_bar_a_reg_1_r [9:0]  = rg_bar_a_reg_1_fld1;
-    l2d_bar_a_reg_1_r [15]  = rg_bar_a_reg_1_fld2;
+    l2d_bar_log_reg3_r = 32'b0;
+    l2d_bar_log_reg3_r [9:0]  = rg_bar_log_reg3_err_log;
   end
   
-  //------- combinatorial assigns for bar_log_reg2 (pio read data)
+  //------- combinatorial assigns for bar_sub_intr_reg2
   always_comb begin
-    l2d_bar_log_reg2_r = 32'b0;
-    l2d_bar_log_reg2_r [9:0]  = rg_bar_log_reg2_err_log;
+    reg_bar_sub_intr_reg2_int1_next = rg_bar_sub_intr_reg2_int1;
+    reg_bar_sub_intr_reg2_int2_next = rg_bar_sub_intr_reg2_int2;
+    l2h_bar_sub_intr_reg2_intr_o = 1'b0;
+    reg_bar_sub_intr_reg2_int1_next = (h2l_bar_sub_intr_reg2_int1_intr | rg_bar_sub_intr_reg2_int1);
+    l2h_bar_sub_intr_reg2_intr_o = l2h_bar_sub_intr_reg2_intr_o | (rg_bar_sub_intr_reg2_int1 & rg_bar_intr_reg1_int1);
+    reg_bar_sub_intr_reg2_int2_next = (h2l_bar_sub_intr_reg2_int2_intr | rg_bar_sub_intr_reg2_int2) & rg_bar_intr_reg1_int2;
+    l2h_bar_sub_intr_reg2_intr_o = l2h_bar_sub_intr_reg2_intr_o | (rg_bar_sub_intr_reg2_int2);
+    if (d2l_bar_sub_intr_reg2_we) reg_bar_sub_intr_reg2_int1_next = (reg_bar_sub_intr_reg2_int1_next & ~d2l_bar_sub_intr_reg2_w [0] );
+    if (d2l_bar_sub_intr_reg2_we) reg_bar_sub_intr_reg2_int2_next = (reg_bar_sub_intr_reg2_int2_next & ~d2l_bar_sub_intr_reg2_w [1] );
+  end
+  
+  //------- reg assigns for bar_sub_intr_reg2
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_bar_sub_intr_reg2_int1 <= #1 1'd0;
+      rg_bar_sub_intr_reg2_int2 <= #1 1'd0;
+    end
+    else begin
+      rg_bar_sub_intr_reg2_int1 <= #1  reg_bar_sub_intr_reg2_int1_next;
+      rg_bar_sub_intr_reg2_int2 <= #1  reg_bar_sub_intr_reg2_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for bar_sub_intr_reg2 (pio read data)
+  always_comb begin
+    l2d_bar_sub_intr_reg2_r = 32'b0;
+    l2d_bar_sub_intr_reg2_r [0]  = rg_bar_sub_intr_reg2_int1;
+    l2d_bar_sub_intr_reg2_r [1]  = rg_bar_sub_intr_reg2_int2;
   end
   
   //------- combinatorial assigns for bar_sub_intr_reg3
@@ -505,17 +440,82 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for bar_log_reg1 (pio read data)
+  //------- combinatorial assigns for bar_sub_intr_reg3 (pio read data)
   always_comb begin
-    l2d_bar_log_reg1_r = 32'b0;
-    l2d_bar_log_reg1_r [9:0]  = rg_bar_log_reg1_err_log;
+    l2d_bar_sub_intr_reg3_r = 32'b0;
+    l2d_bar_sub_intr_reg3_r [0]  = rg_bar_sub_intr_reg3_int1;
+    l2d_bar_sub_intr_reg3_r [1]  = rg_bar_sub_intr_reg3_int2;
   end
   
-  //------- combinatorial assigns for bar_sub_intr_reg2 (pio read data)
+  //------- combinatorial assigns for bar_rst_reg
   always_comb begin
-    l2d_bar_sub_intr_reg2_r = 32'b0;
-    l2d_bar_sub_intr_reg2_r [0]  = rg_bar_sub_intr_reg2_int1;
-    l2d_bar_sub_intr_reg2_r [1]  = rg_bar_sub_intr_reg2_int2;
+    reg_bar_rst_reg_fld1_next = rg_bar_rst_reg_fld1;
+    l2h_bar_rst_reg_fld1_r = rg_bar_rst_reg_fld1;
+    reg_bar_rst_reg_fld2_next = rg_bar_rst_reg_fld2;
+    l2h_bar_rst_reg_fld2_r = rg_bar_rst_reg_fld2;
+    reg_bar_rst_reg_fld3_next = rg_bar_rst_reg_fld3;
+    l2h_bar_rst_reg_fld3_r = rg_bar_rst_reg_fld3;
+    reg_bar_rst_reg_fld4_next = rg_bar_rst_reg_fld4;
+    l2h_bar_rst_reg_fld4_r = rg_bar_rst_reg_fld4;
+    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld1_next = d2l_bar_rst_reg_w [7:4] ;
+    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld2_next = d2l_bar_rst_reg_w [3:0] ;
+    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld3_next = d2l_bar_rst_reg_w [10:8] ;
+    if (d2l_bar_rst_reg_we) reg_bar_rst_reg_fld4_next = d2l_bar_rst_reg_w [13:11] ;
+  end
+  
+  //------- reg assigns for bar_rst_reg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_bar_rst_reg_fld1 <= #1 4'd1;
+      rg_bar_rst_reg_fld2 <= #1 4'd2;
+      rg_bar_rst_reg_fld3 <= #1 3'd3;
+      rg_bar_rst_reg_fld4 <= #1 3'd4;
+    end
+    else begin
+      rg_bar_rst_reg_fld1 <= #1  reg_bar_rst_reg_fld1_next;
+      rg_bar_rst_reg_fld2 <= #1  reg_bar_rst_reg_fld2_next;
+      rg_bar_rst_reg_fld3 <= #1  reg_bar_rst_reg_fld3_next;
+      rg_bar_rst_reg_fld4 <= #1  reg_bar_rst_reg_fld4_next;
+    end
+  end
+  
+  //------- combinatorial assigns for bar_rst_reg (pio read data)
+  always_comb begin
+    l2d_bar_rst_reg_r = 32'b0;
+    l2d_bar_rst_reg_r [7:4]  = rg_bar_rst_reg_fld1;
+    l2d_bar_rst_reg_r [3:0]  = rg_bar_rst_reg_fld2;
+    l2d_bar_rst_reg_r [10:8]  = rg_bar_rst_reg_fld3;
+    l2d_bar_rst_reg_r [13:11]  = rg_bar_rst_reg_fld4;
+  end
+  
+  //------- combinatorial assigns for intr_cascade_merge
+  always_comb begin
+    reg_intr_cascade_merge_fld1_next = rg_intr_cascade_merge_fld1;
+    reg_intr_cascade_merge_fld2_next = rg_intr_cascade_merge_fld2;
+    l2h_intr_cascade_merge_intr_o = 1'b0;
+    l2h_intr_cascade_merge_intr_o = l2h_intr_cascade_merge_intr_o | (rg_intr_cascade_merge_fld1);
+    reg_intr_cascade_merge_fld1_next = l2h_bar_intr_reg1_intr_o;
+    reg_intr_cascade_merge_fld2_next = (h2l_intr_cascade_merge_fld2_intr | rg_intr_cascade_merge_fld2);
+    l2h_intr_cascade_merge_intr_o = l2h_intr_cascade_merge_intr_o | (rg_intr_cascade_merge_fld2);
+  end
+  
+  //------- reg assigns for intr_cascade_merge
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_intr_cascade_merge_fld1 <= #1 1'd0;
+      rg_intr_cascade_merge_fld2 <= #1 1'd0;
+    end
+    else begin
+      rg_intr_cascade_merge_fld1 <= #1  reg_intr_cascade_merge_fld1_next;
+      rg_intr_cascade_merge_fld2 <= #1  reg_intr_cascade_merge_fld2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for intr_cascade_merge (pio read data)
+  always_comb begin
+    l2d_intr_cascade_merge_r = 32'b0;
+    l2d_intr_cascade_merge_r [0]  = rg_intr_cascade_merge_fld1;
+    l2d_intr_cascade_merge_r [1]  = rg_intr_cascade_merge_fld2;
   end
   
 endmodule
@@ -729,18 +729,23 @@ module foo_jrdl_decode
   assign  dec_leaf_retry_atomic = 1'b0;
   assign  dec_leaf_data_width = 3'b0;
   
-  //------- combinatorial assigns for pio read data
+  //------- combinatorial assigns for leaf i/f
   always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
   end
   
-  //------- reg assigns for pio read data
+  //------- reg assigns for leaf i/f
   always_ff @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
     end
   end
   
@@ -758,23 +763,18 @@ module foo_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for leaf i/f
+  //------- combinatorial assigns for pio read data
   always_comb begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for leaf i/f
+  //------- reg assigns for pio read data
   always_ff @ (posedge clk) begin
     if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -0,0 +1,76 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_intr_or_tree/test.rdl
+ *   Parms: ./rdl_intr_or_tree/test.parms
+ *   Date: Mon Oct 19 04:48:29 UTC 2026
+ */
+
+register_set top "Registers for top" {
+
+  address = 0x0;
+  register_width = 32;
+  register intr_reg1 "intr_reg1 register" {
+    address = 0x0;
+    nop[24];
+    integer wide_int[4] "wide interrupt" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+    integer int4[1] "interrupt 4" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+    integer int3[1] "interrupt 3" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+    integer int2[1] "interrupt 2" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+    integer int1[1] "interrupt 1" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+  };
+  
+  register intr_en_reg1 "intr_en_reg1 register" {
+    address = 0x4;
+    nop[24];
+    integer wide_int[4] "wide_int field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer int4[1] "int4 field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer int3[1] "int3 field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer int2[1] "int2 field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer int1[1] "int1 field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+  };
+  
+  register merge "merge register" {
+    address = 0x8;
+    nop[30];
+    integer fld2[1] "fld2 field" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+    integer fld1[1] "fld1 field" param {
+      access_mode = WRITE_ONE_TO_CLEAR;
+      reset = 0x0;
+    };
+  };
+  
+  register_set_size = 0xc;
+};
+
@@ -0,0 +1,623 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_intr_or_tree/test.rdl
+//   Parms: ./rdl_intr_or_tree/test.parms
+//   Date: Mon Oct 19 04:48:29 UTC 2026
+//
+
+//
+//---------- module top_jrdl_logic
+//
+module top_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_intr_reg1_w,
+  d2l_intr_reg1_we,
+  d2l_intr_reg1_re,
+  d2l_intr_en_reg1_w,
+  d2l_intr_en_reg1_we,
+  d2l_intr_en_reg1_re,
+  d2l_merge_w,
+  d2l_merge_we,
+  d2l_merge_re,
+  h2l_intr_reg1_int1_intr,
+  h2l_intr_reg1_int2_intr,
+  h2l_intr_reg1_int3_intr,
+  h2l_intr_reg1_int4_intr,
+  h2l_intr_reg1_wide_int_intr,
+  h2l_merge_fld2_intr,
+
+  l2d_intr_reg1_r,
+  l2d_intr_en_reg1_r,
+  l2d_merge_r,
+  l2h_intr_reg1_intr_o,
+  l2h_merge_intr_o );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_intr_reg1_w;
+  input    d2l_intr_reg1_we;
+  input    d2l_intr_reg1_re;
+  input     [31:0] d2l_intr_en_reg1_w;
+  input    d2l_intr_en_reg1_we;
+  input    d2l_intr_en_reg1_re;
+  input     [31:0] d2l_merge_w;
+  input    d2l_merge_we;
+  input    d2l_merge_re;
+  input    h2l_intr_reg1_int1_intr;
+  input    h2l_intr_reg1_int2_intr;
+  input    h2l_intr_reg1_int3_intr;
+  input    h2l_intr_reg1_int4_intr;
+  input     [3:0] h2l_intr_reg1_wide_int_intr;
+  input    h2l_merge_fld2_intr;
+
+  //------- outputs
+  output     [31:0] l2d_intr_reg1_r;
+  output     [31:0] l2d_intr_en_reg1_r;
+  output     [31:0] l2d_merge_r;
+  output    l2h_intr_reg1_intr_o;
+  output    l2h_merge_intr_o;
+
+
+  //------- wire defines
+  logic  h2l_intr_reg1_int1_intr;
+  logic  h2l_intr_reg1_int2_intr;
+  logic  h2l_intr_reg1_int3_intr;
+  logic  h2l_intr_reg1_int4_intr;
+  logic   [3:0] h2l_intr_reg1_wide_int_intr;
+  logic  intr_intr_reg1_or1_0;
+  logic  intr_intr_reg1_or1_1;
+  logic  intr_intr_reg1_or1_2;
+  logic  h2l_merge_fld2_intr;
+  
+  //------- reg defines
+  logic  rg_intr_reg1_int1;
+  logic  reg_intr_reg1_int1_next;
+  logic  l2h_intr_reg1_intr_o;
+  logic  intr_intr_reg1_clear;
+  logic  intr_intr_reg1_int1_delay;
+  logic  rg_intr_reg1_int2;
+  logic  reg_intr_reg1_int2_next;
+  logic  intr_intr_reg1_int2_delay;
+  logic  rg_intr_reg1_int3;
+  logic  reg_intr_reg1_int3_next;
+  logic  intr_intr_reg1_int3_delay;
+  logic  rg_intr_reg1_int4;
+  logic  reg_intr_reg1_int4_next;
+  logic  intr_intr_reg1_int4_delay;
+  logic   [3:0] rg_intr_reg1_wide_int;
+  logic   [3:0] reg_intr_reg1_wide_int_next;
+  logic   [3:0] intr_intr_reg1_wide_int_delay;
+  logic  intr_intr_reg1_or2_0;
+  logic  intr_intr_reg1_or2_1;
+  logic  intr_intr_reg1_or3_0;
+  logic  intr_intr_reg1_clear_dly_d1;
+  logic  intr_intr_reg1_clear_dly_d2;
+  logic   [31:0] l2d_intr_reg1_r;
+  logic  rg_intr_en_reg1_int1;
+  logic  reg_intr_en_reg1_int1_next;
+  logic  rg_intr_en_reg1_int2;
+  logic  reg_intr_en_reg1_int2_next;
+  logic  rg_intr_en_reg1_int3;
+  logic  reg_intr_en_reg1_int3_next;
+  logic  rg_intr_en_reg1_int4;
+  logic  reg_intr_en_reg1_int4_next;
+  logic   [3:0] rg_intr_en_reg1_wide_int;
+  logic   [3:0] reg_intr_en_reg1_wide_int_next;
+  logic   [31:0] l2d_intr_en_reg1_r;
+  logic  rg_merge_fld1;
+  logic  reg_merge_fld1_next;
+  logic  l2h_merge_intr_o;
+  logic  intr_merge_clear;
+  logic  intr_merge_fld1_delay;
+  logic  rg_merge_fld2;
+  logic  reg_merge_fld2_next;
+  logic  intr_merge_fld2_delay;
+  logic  intr_merge_or1_0_d1;
+  logic  intr_merge_or1_0_d2;
+  logic  intr_merge_clear_dly_d1;
+  logic  intr_merge_clear_dly_d2;
+  logic   [31:0] l2d_merge_r;
+  
+  
+  //------- assigns
+  assign  intr_intr_reg1_or1_0 = (rg_intr_reg1_int1 & rg_intr_en_reg1_int1);
+  assign  intr_intr_reg1_or1_1 = (rg_intr_reg1_int2 & rg_intr_en_reg1_int2) | (rg_intr_reg1_int3 & rg_intr_en_reg1_int3);
+  assign  intr_intr_reg1_or1_2 = (rg_intr_reg1_int4 & rg_intr_en_reg1_int4) | (|(rg_intr_reg1_wide_int & rg_intr_en_reg1_wide_int));
+  
+  //------- combinatorial assigns for intr_reg1
+  always_comb begin
+    reg_intr_reg1_int1_next = rg_intr_reg1_int1;
+    reg_intr_reg1_int2_next = rg_intr_reg1_int2;
+    reg_intr_reg1_int3_next = rg_intr_reg1_int3;
+    reg_intr_reg1_int4_next = rg_intr_reg1_int4;
+    reg_intr_reg1_wide_int_next = rg_intr_reg1_wide_int;
+    intr_intr_reg1_clear = 1'b0;
+    reg_intr_reg1_int1_next = (h2l_intr_reg1_int1_intr | rg_intr_reg1_int1);
+    intr_intr_reg1_clear = intr_intr_reg1_clear | (intr_intr_reg1_int1_delay & ~rg_intr_reg1_int1);
+    reg_intr_reg1_int2_next = (h2l_intr_reg1_int2_intr | rg_intr_reg1_int2);
+    intr_intr_reg1_clear = intr_intr_reg1_clear | (intr_intr_reg1_int2_delay & ~rg_intr_reg1_int2);
+    reg_intr_reg1_int3_next = (h2l_intr_reg1_int3_intr | rg_intr_reg1_int3);
+    intr_intr_reg1_clear = intr_intr_reg1_clear | (intr_intr_reg1_int3_delay & ~rg_intr_reg1_int3);
+    reg_intr_reg1_int4_next = (h2l_intr_reg1_int4_intr | rg_intr_reg1_int4);
+    intr_intr_reg1_clear = intr_intr_reg1_clear | (intr_intr_reg1_int4_delay & ~rg_intr_reg1_int4);
+    reg_intr_reg1_wide_int_next = (h2l_intr_reg1_wide_int_intr | rg_intr_reg1_wide_int);
+    intr_intr_reg1_clear = intr_intr_reg1_clear | ( | (intr_intr_reg1_wide_int_delay & ~rg_intr_reg1_wide_int));
+    l2h_intr_reg1_intr_o = intr_intr_reg1_or3_0;
+    l2h_intr_reg1_intr_o = l2h_intr_reg1_intr_o & ~intr_intr_reg1_clear_dly_d2;
+    if (d2l_intr_reg1_we) reg_intr_reg1_int1_next = (reg_intr_reg1_int1_next & ~d2l_intr_reg1_w [0] );
+    if (d2l_intr_reg1_we) reg_intr_reg1_int2_next = (reg_intr_reg1_int2_next & ~d2l_intr_reg1_w [1] );
+    if (d2l_intr_reg1_we) reg_intr_reg1_int3_next = (reg_intr_reg1_int3_next & ~d2l_intr_reg1_w [2] );
+    if (d2l_intr_reg1_we) reg_intr_reg1_int4_next = (reg_intr_reg1_int4_next & ~d2l_intr_reg1_w [3] );
+    if (d2l_intr_reg1_we) reg_intr_reg1_wide_int_next = (reg_intr_reg1_wide_int_next & ~d2l_intr_reg1_w [7:4] );
+  end
+  
+  //------- reg assigns for intr_reg1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_intr_reg1_int1 <= #1 1'd0;
+      rg_intr_reg1_int2 <= #1 1'd0;
+      rg_intr_reg1_int3 <= #1 1'd0;
+      rg_intr_reg1_int4 <= #1 1'd0;
+      rg_intr_reg1_wide_int <= #1 4'd0;
+      intr_intr_reg1_or2_0 <= #1 1'b0;
+      intr_intr_reg1_or2_1 <= #1 1'b0;
+      intr_intr_reg1_or3_0 <= #1 1'b0;
+      intr_intr_reg1_clear_dly_d1 <= #1 1'b0;
+      intr_intr_reg1_clear_dly_d2 <= #1 1'b0;
+    end
+    else begin
+      rg_intr_reg1_int1 <= #1  reg_intr_reg1_int1_next;
+      intr_intr_reg1_int1_delay <= #1 rg_intr_reg1_int1;
+      rg_intr_reg1_int2 <= #1  reg_intr_reg1_int2_next;
+      intr_intr_reg1_int2_delay <= #1 rg_intr_reg1_int2;
+      rg_intr_reg1_int3 <= #1  reg_intr_reg1_int3_next;
+      intr_intr_reg1_int3_delay <= #1 rg_intr_reg1_int3;
+      rg_intr_reg1_int4 <= #1  reg_intr_reg1_int4_next;
+      intr_intr_reg1_int4_delay <= #1 rg_intr_reg1_int4;
+      rg_intr_reg1_wide_int <= #1  reg_intr_reg1_wide_int_next;
+      intr_intr_reg1_wide_int_delay <= #1 rg_intr_reg1_wide_int;
+      intr_intr_reg1_or2_0 <= #1 intr_intr_reg1_or1_0;
+      intr_intr_reg1_or2_1 <= #1 intr_intr_reg1_or1_1 | intr_intr_reg1_or1_2;
+      intr_intr_reg1_or3_0 <= #1 intr_intr_reg1_or2_0 | intr_intr_reg1_or2_1;
+      intr_intr_reg1_clear_dly_d1 <= #1 intr_intr_reg1_clear;
+      intr_intr_reg1_clear_dly_d2 <= #1 intr_intr_reg1_clear_dly_d1;
+    end
+  end
+  
+  //------- combinatorial assigns for intr_reg1 (pio read data)
+  always_comb begin
+    l2d_intr_reg1_r = 32'b0;
+    l2d_intr_reg1_r [0]  = rg_intr_reg1_int1;
+    l2d_intr_reg1_r [1]  = rg_intr_reg1_int2;
+    l2d_intr_reg1_r [2]  = rg_intr_reg1_int3;
+    l2d_intr_reg1_r [3]  = rg_intr_reg1_int4;
+    l2d_intr_reg1_r [7:4]  = rg_intr_reg1_wide_int;
+  end
+  
+  //------- combinatorial assigns for intr_en_reg1
+  always_comb begin
+    reg_intr_en_reg1_int1_next = rg_intr_en_reg1_int1;
+    reg_intr_en_reg1_int2_next = rg_intr_en_reg1_int2;
+    reg_intr_en_reg1_int3_next = rg_intr_en_reg1_int3;
+    reg_intr_en_reg1_int4_next = rg_intr_en_reg1_int4;
+    reg_intr_en_reg1_wide_int_next = rg_intr_en_reg1_wide_int;
+    if (d2l_intr_en_reg1_we) reg_intr_en_reg1_int1_next = d2l_intr_en_reg1_w [0] ;
+    if (d2l_intr_en_reg1_we) reg_intr_en_reg1_int2_next = d2l_intr_en_reg1_w [1] ;
+    if (d2l_intr_en_reg1_we) reg_intr_en_reg1_int3_next = d2l_intr_en_reg1_w [2] ;
+    if (d2l_intr_en_reg1_we) reg_intr_en_reg1_int4_next = d2l_intr_en_reg1_w [3] ;
+    if (d2l_intr_en_reg1_we) reg_intr_en_reg1_wide_int_next = d2l_intr_en_reg1_w [7:4] ;
+  end
+  
+  //------- reg assigns for intr_en_reg1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_intr_en_reg1_int1 <= #1 1'd0;
+      rg_intr_en_reg1_int2 <= #1 1'd0;
+      rg_intr_en_reg1_int3 <= #1 1'd0;
+      rg_intr_en_reg1_int4 <= #1 1'd0;
+      rg_intr_en_reg1_wide_int <= #1 4'd0;
+    end
+    else begin
+      rg_intr_en_reg1_int1 <= #1  reg_intr_en_reg1_int1_next;
+      rg_intr_en_reg1_int2 <= #1  reg_intr_en_reg1_int2_next;
+      rg_intr_en_reg1_int3 <= #1  reg_intr_en_reg1_int3_next;
+      rg_intr_en_reg1_int4 <= #1  reg_intr_en_reg1_int4_next;
+      rg_intr_en_reg1_wide_int <= #1  reg_intr_en_reg1_wide_int_next;
+    end
+  end
+  
+  //------- combinatorial assigns for intr_en_reg1 (pio read data)
+  always_comb begin
+    l2d_intr_en_reg1_r = 32'b0;
+    l2d_intr_en_reg1_r [0]  = rg_intr_en_reg1_int1;
+    l2d_intr_en_reg1_r [1]  = rg_intr_en_reg1_int2;
+    l2d_intr_en_reg1_r [2]  = rg_intr_en_reg1_int3;
+    l2d_intr_en_reg1_r [3]  = rg_intr_en_reg1_int4;
+    l2d_intr_en_reg1_r [7:4]  = rg_intr_en_reg1_wide_int;
+  end
+  
+  //------- combinatorial assigns for merge
+  always_comb begin
+    reg_merge_fld1_next = rg_merge_fld1;
+    reg_merge_fld2_next = rg_merge_fld2;
+    intr_merge_clear = 1'b0;
+    intr_merge_clear = intr_merge_clear | (intr_merge_fld1_delay & ~rg_merge_fld1);
+    reg_merge_fld1_next = l2h_intr_reg1_intr_o;
+    reg_merge_fld2_next = (h2l_merge_fld2_intr | rg_merge_fld2);
+    intr_merge_clear = intr_merge_clear | (intr_merge_fld2_delay & ~rg_merge_fld2);
+    l2h_merge_intr_o = intr_merge_or1_0_d2;
+    l2h_merge_intr_o = l2h_merge_intr_o & ~intr_merge_clear_dly_d2;
+    if (d2l_merge_we) reg_merge_fld1_next = (reg_merge_fld1_next & ~d2l_merge_w [0] );
+    if (d2l_merge_we) reg_merge_fld2_next = (reg_merge_fld2_next & ~d2l_merge_w [1] );
+  end
+  
+  //------- reg assigns for merge
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_merge_fld1 <= #1 1'd0;
+      rg_merge_fld2 <= #1 1'd0;
+      intr_merge_or1_0_d1 <= #1 1'b0;
+      intr_merge_or1_0_d2 <= #1 1'b0;
+      intr_merge_clear_dly_d1 <= #1 1'b0;
+      intr_merge_clear_dly_d2 <= #1 1'b0;
+    end
+    else begin
+      rg_merge_fld1 <= #1  reg_merge_fld1_next;
+      intr_merge_fld1_delay <= #1 rg_merge_fld1;
+      rg_merge_fld2 <= #1  reg_merge_fld2_next;
+      intr_merge_fld2_delay <= #1 rg_merge_fld2;
+      intr_merge_or1_0_d1 <= #1 (rg_merge_fld1) | (rg_merge_fld2);
+      intr_merge_or1_0_d2 <= #1 intr_merge_or1_0_d1;
+      intr_merge_clear_dly_d1 <= #1 intr_merge_clear;
+      intr_merge_clear_dly_d2 <= #1 intr_merge_clear_dly_d1;
+    end
+  end
+  
+  //------- combinatorial assigns for merge (pio read data)
+  always_comb begin
+    l2d_merge_r = 32'b0;
+    l2d_merge_r [0]  = rg_merge_fld1;
+    l2d_merge_r [1]  = rg_merge_fld2;
+  end
+  
+endmodule
+
+//
+//---------- module top_jrdl_decode
+//
+module top_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_intr_reg1_r,
+  l2d_intr_en_reg1_r,
+  l2d_merge_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_intr_reg1_w,
+  d2l_intr_reg1_we,
+  d2l_intr_reg1_re,
+  d2l_intr_en_reg1_w,
+  d2l_intr_en_reg1_we,
+  d2l_intr_en_reg1_re,
+  d2l_merge_w,
+  d2l_merge_we,
+  d2l_merge_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_intr_reg1_r;
+  input     [31:0] l2d_intr_en_reg1_r;
+  input     [31:0] l2d_merge_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_intr_reg1_w;
+  output    d2l_intr_reg1_we;
+  output    d2l_intr_reg1_re;
+  output     [31:0] d2l_intr_en_reg1_w;
+  output    d2l_intr_en_reg1_we;
+  output    d2l_intr_en_reg1_re;
+  output     [31:0] d2l_merge_w;
+  output    d2l_merge_we;
+  output    d2l_merge_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [3:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_intr_reg1_w;
+  logic  d2l_intr_reg1_we;
+  logic  d2l_intr_reg1_re;
+  logic   [31:0] d2l_intr_en_reg1_w;
+  logic  d2l_intr_en_reg1_we;
+  logic  d2l_intr_en_reg1_re;
+  logic   [31:0] d2l_merge_w;
+  logic  d2l_merge_we;
+  logic  d2l_merge_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [3:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [3:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_intr_reg1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_intr_reg1_we = 1'b0;
+    d2l_intr_reg1_re = 1'b0;
+    d2l_intr_en_reg1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_intr_en_reg1_we = 1'b0;
+    d2l_intr_en_reg1_re = 1'b0;
+    d2l_merge_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_merge_we = 1'b0;
+    d2l_merge_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: intr_reg1     Address: 0x0     External: false
+    2'b00:
+      begin
+        d2l_intr_reg1_we = pio_write_active & ~dec_pio_ack;
+        d2l_intr_reg1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_intr_reg1_r;
+      end
+    //  Register: intr_en_reg1     Address: 0x4     External: false
+    2'b01:
+      begin
+        d2l_intr_en_reg1_we = pio_write_active & ~dec_pio_ack;
+        d2l_intr_en_reg1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_intr_en_reg1_r;
+      end
+    //  Register: merge     Address: 0x8     External: false
+    2'b10:
+      begin
+        d2l_merge_we = pio_write_active & ~dec_pio_ack;
+        d2l_merge_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_merge_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_pio
+//
+module top_pio
+(
+  clk,
+  reset,
+  h2l_intr_reg1_int1_intr,
+  h2l_intr_reg1_int2_intr,
+  h2l_intr_reg1_int3_intr,
+  h2l_intr_reg1_int4_intr,
+  h2l_intr_reg1_wide_int_intr,
+  h2l_merge_fld2_intr,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_intr_reg1_intr_o,
+  l2h_merge_intr_o,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input    h2l_intr_reg1_int1_intr;
+  input    h2l_intr_reg1_int2_intr;
+  input    h2l_intr_reg1_int3_intr;
+  input    h2l_intr_reg1_int4_intr;
+  input     [3:0] h2l_intr_reg1_wide_int_intr;
+  input    h2l_merge_fld2_intr;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output    l2h_intr_reg1_intr_o;
+  output    l2h_merge_intr_o;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_intr_reg1_w;
+  logic  d2l_intr_reg1_we;
+  logic  d2l_intr_reg1_re;
+  logic   [31:0] d2l_intr_en_reg1_w;
+  logic  d2l_intr_en_reg1_we;
+  logic  d2l_intr_en_reg1_re;
+  logic   [31:0] d2l_merge_w;
+  logic  d2l_merge_we;
+  logic  d2l_merge_re;
+  logic   [31:0] l2d_intr_reg1_r;
+  logic   [31:0] l2d_intr_en_reg1_r;
+  logic   [31:0] l2d_merge_r;
+  
+  
+  top_jrdl_decode pio_decode ( .* );
+    
+  top_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
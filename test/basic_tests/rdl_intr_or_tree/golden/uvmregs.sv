@@ -0,0 +1,276 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_intr_or_tree/test.rdl
+//   Parms: ./rdl_intr_or_tree/test.parms
+//   Date: Mon Oct 19 04:48:29 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register intr_reg1
+class reg_top_intr_reg1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl_interrupt int1;
+  rand uvm_reg_field_rdl_interrupt int2;
+  rand uvm_reg_field_rdl_interrupt int3;
+  rand uvm_reg_field_rdl_interrupt int4;
+  rand uvm_reg_field_rdl_interrupt wide_int;
+  
+  function new(string name = "reg_top_intr_reg1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.int1 = new("int1");
+    this.int1.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int1.add_intr(0, 0, "", 0);
+    this.int1.configure(this, 1, 0, "W1C", 1, 1'h0, 1, 1, 0);
+    this.int2 = new("int2");
+    this.int2.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int2.add_intr(0, 0, "", 0);
+    this.int2.configure(this, 1, 1, "W1C", 1, 1'h0, 1, 1, 0);
+    this.int3 = new("int3");
+    this.int3.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int3.add_intr(0, 0, "", 0);
+    this.int3.configure(this, 1, 2, "W1C", 1, 1'h0, 1, 1, 0);
+    this.int4 = new("int4");
+    this.int4.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int4.add_intr(0, 0, "", 0);
+    this.int4.configure(this, 1, 3, "W1C", 1, 1'h0, 1, 1, 0);
+    this.wide_int = new("wide_int");
+    this.wide_int.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.wide_int.add_intr(0, 0, "", 0);
+    this.wide_int.configure(this, 4, 4, "W1C", 1, 4'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "int1"}, 0, 1);
+    add_hdl_path_slice({rdl_reg_name, "int2"}, 1, 1);
+    add_hdl_path_slice({rdl_reg_name, "int3"}, 2, 1);
+    add_hdl_path_slice({rdl_reg_name, "int4"}, 3, 1);
+    add_hdl_path_slice({rdl_reg_name, "wide_int"}, 4, 4);
+  endfunction: build
+  
+  extern virtual function void add_callbacks();
+  
+  virtual function void get_intr_fields(ref uvm_reg_field fields[$]); // return all source interrupt fields
+    uvm_reg_field f[$];
+    uvm_reg_field_rdl rdl_f;
+    uvm_reg_field_rdl_interrupt rdl_intr_f;
+    get_fields(f);
+    foreach(f[i]) begin
+      $cast(rdl_f, f[i]);
+      if (rdl_f.is_interrupt()) begin
+        $cast(rdl_intr_f, rdl_f);
+        rdl_intr_f.get_intr_fields(fields);
+      end
+    end
+  endfunction: get_intr_fields
+  
+  virtual task get_active_intr_fields(ref uvm_reg_field fields[$], input bit is_halt, input uvm_path_e path = UVM_DEFAULT_PATH); // return all active source intr/halt fields
+    uvm_reg_field f[$];
+    uvm_reg_field_rdl rdl_f;
+    uvm_reg_field_rdl_interrupt rdl_intr_f;
+    uvm_status_e status;
+    uvm_reg_data_t value;
+    read(status, value, path);
+    get_fields(f);
+    foreach(f[i]) begin
+      $cast(rdl_f, f[i]);
+      if (rdl_f.is_interrupt() && rdl_f.get()) begin
+        $cast(rdl_intr_f, rdl_f);
+        rdl_intr_f.get_active_intr_fields(fields, is_halt, path);
+      end
+    end
+  endtask: get_active_intr_fields
+  
+endclass : reg_top_intr_reg1
+
+// Register intr_en_reg1
+class reg_top_intr_en_reg1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl int1;
+  rand uvm_reg_field_rdl int2;
+  rand uvm_reg_field_rdl int3;
+  rand uvm_reg_field_rdl int4;
+  rand uvm_reg_field_rdl wide_int;
+  
+  function new(string name = "reg_top_intr_en_reg1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.int1 = new("int1");
+    this.int1.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int1.configure(this, 1, 0, "RW", 0, 1'h0, 1, 1, 0);
+    this.int2 = new("int2");
+    this.int2.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int2.configure(this, 1, 1, "RW", 0, 1'h0, 1, 1, 0);
+    this.int3 = new("int3");
+    this.int3.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int3.configure(this, 1, 2, "RW", 0, 1'h0, 1, 1, 0);
+    this.int4 = new("int4");
+    this.int4.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int4.configure(this, 1, 3, "RW", 0, 1'h0, 1, 1, 0);
+    this.wide_int = new("wide_int");
+    this.wide_int.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.wide_int.configure(this, 4, 4, "RW", 0, 4'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "int1"}, 0, 1);
+    add_hdl_path_slice({rdl_reg_name, "int2"}, 1, 1);
+    add_hdl_path_slice({rdl_reg_name, "int3"}, 2, 1);
+    add_hdl_path_slice({rdl_reg_name, "int4"}, 3, 1);
+    add_hdl_path_slice({rdl_reg_name, "wide_int"}, 4, 4);
+  endfunction: build
+  
+endclass : reg_top_intr_en_reg1
+
+// Register merge
+class reg_top_merge extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl_interrupt fld1;
+  rand uvm_reg_field_rdl_interrupt fld2;
+  
+  function new(string name = "reg_top_merge");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.fld1 = new("fld1");
+    this.fld1.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.fld1.add_intr(0, 0, "", 0);
+    this.fld1.configure(this, 1, 0, "W1C", 1, 1'h0, 1, 1, 0);
+    this.fld2 = new("fld2");
+    this.fld2.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.fld2.add_intr(0, 0, "", 0);
+    this.fld2.configure(this, 1, 1, "W1C", 1, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "fld1"}, 0, 1);
+    add_hdl_path_slice({rdl_reg_name, "fld2"}, 1, 1);
+  endfunction: build
+  
+  extern virtual function void add_callbacks();
+  
+  virtual function void get_intr_fields(ref uvm_reg_field fields[$]); // return all source interrupt fields
+    uvm_reg_field f[$];
+    uvm_reg_field_rdl rdl_f;
+    uvm_reg_field_rdl_interrupt rdl_intr_f;
+    get_fields(f);
+    foreach(f[i]) begin
+      $cast(rdl_f, f[i]);
+      if (rdl_f.is_interrupt()) begin
+        $cast(rdl_intr_f, rdl_f);
+        rdl_intr_f.get_intr_fields(fields);
+      end
+    end
+  endfunction: get_intr_fields
+  
+  virtual task get_active_intr_fields(ref uvm_reg_field fields[$], input bit is_halt, input uvm_path_e path = UVM_DEFAULT_PATH); // return all active source intr/halt fields
+    uvm_reg_field f[$];
+    uvm_reg_field_rdl rdl_f;
+    uvm_reg_field_rdl_interrupt rdl_intr_f;
+    uvm_status_e status;
+    uvm_reg_data_t value;
+    read(status, value, path);
+    get_fields(f);
+    foreach(f[i]) begin
+      $cast(rdl_f, f[i]);
+      if (rdl_f.is_interrupt() && rdl_f.get()) begin
+        $cast(rdl_intr_f, rdl_f);
+        rdl_intr_f.get_active_intr_fields(fields, is_halt, path);
+      end
+    end
+  endtask: get_active_intr_fields
+  
+endclass : reg_top_merge
+
+// Base block
+class block_top extends uvm_reg_block_rdl;
+  rand reg_top_intr_reg1 intr_reg1;
+  rand reg_top_intr_en_reg1 intr_en_reg1;
+  rand reg_top_merge merge;
+  
+  function new(string name = "block_top");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void add_callbacks();
+    uvm_reg m_regs[$];
+    uvm_reg_block  m_blks[$];
+    uvm_reg_rdl rg;
+    uvm_reg_block_rdl blk;
+    this.get_registers(m_regs, UVM_NO_HIER);
+    foreach (m_regs[rg_]) begin
+      $cast(rg, m_regs[rg_]);
+      rg.add_callbacks();
+    end
+    this.get_blocks(m_blks, UVM_NO_HIER);
+    foreach (m_blks[blk_]) begin
+      $cast(blk, m_blks[blk_]);
+      blk.add_callbacks();
+    end
+  endfunction: add_callbacks
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`TOP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.intr_reg1 = new("intr_reg1");
+    this.intr_reg1.configure(this, null, "");
+    this.intr_reg1.set_rdl_tag("intr_reg1_");
+    this.intr_reg1.set_reg_test_info(0, 0, 0);
+    this.intr_reg1.build();
+    this.default_map.add_reg(this.intr_reg1, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.intr_en_reg1 = new("intr_en_reg1");
+    this.intr_en_reg1.configure(this, null, "");
+    this.intr_en_reg1.set_rdl_tag("intr_en_reg1_");
+    this.intr_en_reg1.set_reg_test_info(0, 0, 0);
+    this.intr_en_reg1.build();
+    this.default_map.add_reg(this.intr_en_reg1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    this.merge = new("merge");
+    this.merge.configure(this, null, "");
+    this.merge.set_rdl_tag("merge_");
+    this.merge.set_reg_test_info(0, 0, 0);
+    this.merge.build();
+    this.default_map.add_reg(this.merge, `UVM_REG_ADDR_WIDTH'h8, "RW", 0);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_top)
+endclass : block_top
+
+/* Add model callbacks associated with intr_reg1. */
+function void reg_top_intr_reg1::add_callbacks();
+  uvm_reg_block m_root_cb_block;
+  uvm_reg m_cb_reg;
+  uvm_reg_field m_cb_field;
+  block_top m_root_cb_block_1;
+  m_root_cb_block = this.get_ancestor(1);
+  $cast(m_root_cb_block_1, m_root_cb_block);
+  m_cb_field = m_root_cb_block_1.intr_en_reg1.int1;
+  int1.set_intr_mask_field(m_cb_field, 1);
+  m_cb_field = m_root_cb_block_1.intr_en_reg1.int2;
+  int2.set_intr_mask_field(m_cb_field, 1);
+  m_cb_field = m_root_cb_block_1.intr_en_reg1.int3;
+  int3.set_intr_mask_field(m_cb_field, 1);
+  m_cb_field = m_root_cb_block_1.intr_en_reg1.int4;
+  int4.set_intr_mask_field(m_cb_field, 1);
+  m_cb_field = m_root_cb_block_1.intr_en_reg1.wide_int;
+  wide_int.set_intr_mask_field(m_cb_field, 1);
+endfunction: add_callbacks
+
+/* Add model callbacks associated with merge. */
+function void reg_top_merge::add_callbacks();
+  uvm_reg_block m_root_cb_block;
+  uvm_reg m_cb_reg;
+  uvm_reg_field m_cb_field;
+  block_top m_root_cb_block_1;
+  m_root_cb_block = this.get_ancestor(1);
+  $cast(m_root_cb_block_1, m_root_cb_block);
+  m_cb_reg = m_root_cb_block_1.intr_reg1;
+  fld1.set_cascade_intr_reg(m_cb_reg, 0);
+endfunction: add_callbacks
@@ -1,7 +1,7 @@
-/*   Ordt 180327.01 autogenerated file 
+/*   Ordt 181018.01 autogenerated file 
  *   Input: ./rdl_iwrap/test.rdl
  *   Parms: ./rdl_iwrap/test.parms
- *   Date: Tue Mar 27 14:56:10 EDT 2018
+ *   Date: Mon Oct 19 05:51:29 UTC 2026
  */
 
 register_set top "Registers for top" {
@@ -106,7 +106,15 @@ register_set top "Registers for top" {
   
   register wrap_info_reg "wrap_info_reg register" {
     address = 0x200;
-    nop[29];
+    nop[21];
+    integer bar5[4] "bar5 field" param {
+      access_mode = READ_ONLY;
+      reset = 0x0;
+    };
+    integer bar4[4] "bar4 field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
     integer bar3[1] "bar3 field" param {
       access_mode = READ_WRITE;
       reset = 0x0;
@@ -1,7 +1,7 @@
-//   Ordt 180712.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_iwrap/test.rdl
 //   Parms: ./rdl_iwrap/test.parms
-//   Date: Thu Jul 12 14:11:59 EDT 2018
+//   Date: Mon Oct 19 05:51:28 UTC 2026
 //
 
 //
@@ -58,6 +58,7 @@ module top_jrdl_logic
   h2l_regs_ext_reg_int_fld_ext_we,
   h2l_regs_ext_reg_int_fld_int_w,
   h2l_regs_ext_reg_int_fld_int_we,
+  h2l_wrap_info_reg_bar5_w,
 
   l2d_regs_none_reg_none_r,
   l2d_regs_none_reg_int_r,
@@ -82,7 +83,8 @@ module top_jrdl_logic
   l2h_regs_ext_reg_int_fld_int_r,
   l2h_wrap_info_reg_bar1_r,
   l2h_wrap_info_reg_bar2_r,
-  l2h_wrap_info_reg_bar3_r );
+  l2h_wrap_info_reg_bar3_r,
+  l2h_wrap_info_reg_bar4_r );
 
   //------- inputs
   input    clk;
@@ -134,6 +136,7 @@ module top_jrdl_logic
   input    h2l_regs_ext_reg_int_fld_ext_we;
   input    h2l_regs_ext_reg_int_fld_int_w;
   input    h2l_regs_ext_reg_int_fld_int_we;
+  input     [3:0] h2l_wrap_info_reg_bar5_w;
 
   //------- outputs
   output     [31:0] l2d_regs_none_reg_none_r;
@@ -160,6 +163,7 @@ module top_jrdl_logic
   output    l2h_wrap_info_reg_bar1_r;
   output    l2h_wrap_info_reg_bar2_r;
   output    l2h_wrap_info_reg_bar3_r;
+  output     [3:0] l2h_wrap_info_reg_bar4_r;
 
 
   //------- reg defines
@@ -224,54 +228,13 @@ module top_jrdl_logic
   reg  rg_wrap_info_reg_bar3;
   reg  reg_wrap_info_reg_bar3_next;
   reg  l2h_wrap_info_reg_bar3_r;
+  reg   [3:0] rg_wrap_info_reg_bar4;
+  reg   [3:0] reg_wrap_info_reg_bar4_next;
+  reg   [3:0] l2h_wrap_info_reg_bar4_r;
+  reg   [3:0] rg_wrap_info_reg_bar5;
   reg   [31:0] l2d_wrap_info_reg_r;
   
   
-  //------- combinatorial assigns for regs_none_reg_none (pio read data)
-  always @ (*) begin
-    l2d_regs_none_reg_none_r = 32'b0;
-    l2d_regs_none_reg_none_r [0]  = rg_regs_none_reg_none_fld_none;
-    l2d_regs_none_reg_none_r [1]  = rg_regs_none_reg_none_fld_gen;
-    l2d_regs_none_reg_none_r [2]  = rg_regs_none_reg_none_fld_ext;
-    l2d_regs_none_reg_none_r [3]  = rg_regs_none_reg_none_fld_int;
-  end
-  
-  //------- combinatorial assigns for regs_none_reg_int
-  always @ (*) begin
-    reg_regs_none_reg_int_fld_none_next = rg_regs_none_reg_int_fld_none;
-    l2h_regs_none_reg_int_fld_none_r = rg_regs_none_reg_int_fld_none;
-    reg_regs_none_reg_int_fld_gen_next = rg_regs_none_reg_int_fld_gen;
-    l2h_regs_none_reg_int_fld_gen_r = rg_regs_none_reg_int_fld_gen;
-    reg_regs_none_reg_int_fld_ext_next = rg_regs_none_reg_int_fld_ext;
-    l2h_regs_none_reg_int_fld_ext_r = rg_regs_none_reg_int_fld_ext;
-    reg_regs_none_reg_int_fld_int_next = rg_regs_none_reg_int_fld_int;
-    l2h_regs_none_reg_int_fld_int_r = rg_regs_none_reg_int_fld_int;
-    if (h2l_regs_none_reg_int_fld_none_we) reg_regs_none_reg_int_fld_none_next = h2l_regs_none_reg_int_fld_none_w;
-    if (h2l_regs_none_reg_int_fld_gen_we) reg_regs_none_reg_int_fld_gen_next = h2l_regs_none_reg_int_fld_gen_w;
-    if (h2l_regs_none_reg_int_fld_ext_we) reg_regs_none_reg_int_fld_ext_next = h2l_regs_none_reg_int_fld_ext_w;
-    if (h2l_regs_none_reg_int_fld_int_we) reg_regs_none_reg_int_fld_int_next = h2l_regs_none_reg_int_fld_int_w;
-    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_none_next = d2l_regs_none_reg_int_w [0] ;
-    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_gen_next = d2l_regs_none_reg_int_w [1] ;
-    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_ext_next = d2l_regs_none_reg_int_w [2] ;
-    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_int_next = d2l_regs_none_reg_int_w [3] ;
-  end
-  
-  //------- reg assigns for regs_none_reg_int
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_regs_none_reg_int_fld_none <= #1 1'b0;
-      rg_regs_none_reg_int_fld_gen <= #1 1'b0;
-      rg_regs_none_reg_int_fld_ext <= #1 1'b0;
-      rg_regs_none_reg_int_fld_int <= #1 1'b0;
-    end
-    else begin
-      rg_regs_none_reg_int_fld_none <= #1  reg_regs_none_reg_int_fld_none_next;
-      rg_regs_none_reg_int_fld_gen <= #1  reg_regs_none_reg_int_fld_gen_next;
-      rg_regs_none_reg_int_fld_ext <= #1  reg_regs_none_reg_int_fld_ext_next;
-      rg_regs_none_reg_int_fld_int <= #1  reg_regs_none_reg_int_fld_int_next;
-    end
-  end
-  
   //------- combinatorial assigns for regs_none_reg_none
   always @ (*) begin
     reg_regs_none_reg_none_fld_none_next = rg_regs_none_reg_none_fld_none;
@@ -308,59 +271,51 @@ module top_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for wrap_info_reg (pio read data)
-  always @ (*) begin
-    l2d_wrap_info_reg_r = 32'b0;
-    l2d_wrap_info_reg_r [0]  = rg_wrap_info_reg_bar1;
-    l2d_wrap_info_reg_r [1]  = rg_wrap_info_reg_bar2;
-    l2d_wrap_info_reg_r [2]  = rg_wrap_info_reg_bar3;
-  end
-  
-  //------- combinatorial assigns for regs_ext_reg_none (pio read data)
+  //------- combinatorial assigns for regs_none_reg_none (pio read data)
   always @ (*) begin
-    l2d_regs_ext_reg_none_r = 32'b0;
-    l2d_regs_ext_reg_none_r [0]  = rg_regs_ext_reg_none_fld_none;
-    l2d_regs_ext_reg_none_r [1]  = rg_regs_ext_reg_none_fld_gen;
-    l2d_regs_ext_reg_none_r [2]  = rg_regs_ext_reg_none_fld_ext;
-    l2d_regs_ext_reg_none_r [3]  = rg_regs_ext_reg_none_fld_int;
+    l2d_regs_none_reg_none_r = 32'b0;
+    l2d_regs_none_reg_none_r [0]  = rg_regs_none_reg_none_fld_none;
+    l2d_regs_none_reg_none_r [1]  = rg_regs_none_reg_none_fld_gen;
+    l2d_regs_none_reg_none_r [2]  = rg_regs_none_reg_none_fld_ext;
+    l2d_regs_none_reg_none_r [3]  = rg_regs_none_reg_none_fld_int;
   end
   
-  //------- combinatorial assigns for wrap_info_reg
+  //------- combinatorial assigns for regs_none_reg_int
   always @ (*) begin
-    reg_wrap_info_reg_bar1_next = rg_wrap_info_reg_bar1;
-    l2h_wrap_info_reg_bar1_r = rg_wrap_info_reg_bar1;
-    reg_wrap_info_reg_bar2_next = rg_wrap_info_reg_bar2;
-    l2h_wrap_info_reg_bar2_r = rg_wrap_info_reg_bar2;
-    reg_wrap_info_reg_bar3_next = rg_wrap_info_reg_bar3;
-    l2h_wrap_info_reg_bar3_r = rg_wrap_info_reg_bar3;
-    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar1_next = d2l_wrap_info_reg_w [0] ;
-    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar2_next = d2l_wrap_info_reg_w [1] ;
-    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar3_next = d2l_wrap_info_reg_w [2] ;
+    reg_regs_none_reg_int_fld_none_next = rg_regs_none_reg_int_fld_none;
+    l2h_regs_none_reg_int_fld_none_r = rg_regs_none_reg_int_fld_none;
+    reg_regs_none_reg_int_fld_gen_next = rg_regs_none_reg_int_fld_gen;
+    l2h_regs_none_reg_int_fld_gen_r = rg_regs_none_reg_int_fld_gen;
+    reg_regs_none_reg_int_fld_ext_next = rg_regs_none_reg_int_fld_ext;
+    l2h_regs_none_reg_int_fld_ext_r = rg_regs_none_reg_int_fld_ext;
+    reg_regs_none_reg_int_fld_int_next = rg_regs_none_reg_int_fld_int;
+    l2h_regs_none_reg_int_fld_int_r = rg_regs_none_reg_int_fld_int;
+    if (h2l_regs_none_reg_int_fld_none_we) reg_regs_none_reg_int_fld_none_next = h2l_regs_none_reg_int_fld_none_w;
+    if (h2l_regs_none_reg_int_fld_gen_we) reg_regs_none_reg_int_fld_gen_next = h2l_regs_none_reg_int_fld_gen_w;
+    if (h2l_regs_none_reg_int_fld_ext_we) reg_regs_none_reg_int_fld_ext_next = h2l_regs_none_reg_int_fld_ext_w;
+    if (h2l_regs_none_reg_int_fld_int_we) reg_regs_none_reg_int_fld_int_next = h2l_regs_none_reg_int_fld_int_w;
+    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_none_next = d2l_regs_none_reg_int_w [0] ;
+    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_gen_next = d2l_regs_none_reg_int_w [1] ;
+    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_ext_next = d2l_regs_none_reg_int_w [2] ;
+    if (d2l_regs_none_reg_int_we) reg_regs_none_reg_int_fld_int_next = d2l_regs_none_reg_int_w [3] ;
   end
   
-  //------- reg assigns for wrap_info_reg
+  //------- reg assigns for regs_none_reg_int
   always @ (posedge clk) begin
     if (reset) begin
-      rg_wrap_info_reg_bar1 <= #1 1'b0;
-      rg_wrap_info_reg_bar2 <= #1 1'b0;
-      rg_wrap_info_reg_bar3 <= #1 1'b0;
+      rg_regs_none_reg_int_fld_none <= #1 1'b0;
+      rg_regs_none_reg_int_fld_gen <= #1 1'b0;
+      rg_regs_none_reg_int_fld_ext <= #1 1'b0;
+      rg_regs_none_reg_int_fld_int <= #1 1'b0;
     end
     else begin
-      rg_wrap_info_reg_bar1 <= #1  reg_wrap_info_reg_bar1_next;
-      rg_wrap_info_reg_bar2 <= #1  reg_wrap_info_reg_bar2_next;
-      rg_wrap_info_reg_bar3 <= #1  reg_wrap_info_reg_bar3_next;
+      rg_regs_none_reg_int_fld_none <= #1  reg_regs_none_reg_int_fld_none_next;
+      rg_regs_none_reg_int_fld_gen <= #1  reg_regs_none_reg_int_fld_gen_next;
+      rg_regs_none_reg_int_fld_ext <= #1  reg_regs_none_reg_int_fld_ext_next;
+      rg_regs_none_reg_int_fld_int <= #1  reg_regs_none_reg_int_fld_int_next;
     end
   end
   
-  //------- combinatorial assigns for regs_ext_reg_int (pio read data)
-  always @ (*) begin
-    l2d_regs_ext_reg_int_r = 32'b0;
-    l2d_regs_ext_reg_int_r [0]  = rg_regs_ext_reg_int_fld_none;
-    l2d_regs_ext_reg_int_r [1]  = rg_regs_ext_reg_int_fld_gen;
-    l2d_regs_ext_reg_int_r [2]  = rg_regs_ext_reg_int_fld_ext;
-    l2d_regs_ext_reg_int_r [3]  = rg_regs_ext_reg_int_fld_int;
-  end
-  
   //------- combinatorial assigns for regs_none_reg_int (pio read data)
   always @ (*) begin
     l2d_regs_none_reg_int_r = 32'b0;
@@ -406,6 +361,15 @@ module top_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for regs_ext_reg_none (pio read data)
+  always @ (*) begin
+    l2d_regs_ext_reg_none_r = 32'b0;
+    l2d_regs_ext_reg_none_r [0]  = rg_regs_ext_reg_none_fld_none;
+    l2d_regs_ext_reg_none_r [1]  = rg_regs_ext_reg_none_fld_gen;
+    l2d_regs_ext_reg_none_r [2]  = rg_regs_ext_reg_none_fld_ext;
+    l2d_regs_ext_reg_none_r [3]  = rg_regs_ext_reg_none_fld_int;
+  end
+  
   //------- combinatorial assigns for regs_ext_reg_int
   always @ (*) begin
     reg_regs_ext_reg_int_fld_none_next = rg_regs_ext_reg_int_fld_none;
@@ -442,6 +406,58 @@ module top_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for regs_ext_reg_int (pio read data)
+  always @ (*) begin
+    l2d_regs_ext_reg_int_r = 32'b0;
+    l2d_regs_ext_reg_int_r [0]  = rg_regs_ext_reg_int_fld_none;
+    l2d_regs_ext_reg_int_r [1]  = rg_regs_ext_reg_int_fld_gen;
+    l2d_regs_ext_reg_int_r [2]  = rg_regs_ext_reg_int_fld_ext;
+    l2d_regs_ext_reg_int_r [3]  = rg_regs_ext_reg_int_fld_int;
+  end
+  
+  //------- combinatorial assigns for wrap_info_reg
+  always @ (*) begin
+    reg_wrap_info_reg_bar1_next = rg_wrap_info_reg_bar1;
+    l2h_wrap_info_reg_bar1_r = rg_wrap_info_reg_bar1;
+    reg_wrap_info_reg_bar2_next = rg_wrap_info_reg_bar2;
+    l2h_wrap_info_reg_bar2_r = rg_wrap_info_reg_bar2;
+    reg_wrap_info_reg_bar3_next = rg_wrap_info_reg_bar3;
+    l2h_wrap_info_reg_bar3_r = rg_wrap_info_reg_bar3;
+    reg_wrap_info_reg_bar4_next = rg_wrap_info_reg_bar4;
+    l2h_wrap_info_reg_bar4_r = rg_wrap_info_reg_bar4;
+    rg_wrap_info_reg_bar5 =  h2l_wrap_info_reg_bar5_w;
+    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar1_next = d2l_wrap_info_reg_w [0] ;
+    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar2_next = d2l_wrap_info_reg_w [1] ;
+    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar3_next = d2l_wrap_info_reg_w [2] ;
+    if (d2l_wrap_info_reg_we) reg_wrap_info_reg_bar4_next = d2l_wrap_info_reg_w [6:3] ;
+  end
+  
+  //------- reg assigns for wrap_info_reg
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_wrap_info_reg_bar1 <= #1 1'b0;
+      rg_wrap_info_reg_bar2 <= #1 1'b0;
+      rg_wrap_info_reg_bar3 <= #1 1'b0;
+      rg_wrap_info_reg_bar4 <= #1 1'b0;
+    end
+    else begin
+      rg_wrap_info_reg_bar1 <= #1  reg_wrap_info_reg_bar1_next;
+      rg_wrap_info_reg_bar2 <= #1  reg_wrap_info_reg_bar2_next;
+      rg_wrap_info_reg_bar3 <= #1  reg_wrap_info_reg_bar3_next;
+      rg_wrap_info_reg_bar4 <= #1  reg_wrap_info_reg_bar4_next;
+    end
+  end
+  
+  //------- combinatorial assigns for wrap_info_reg (pio read data)
+  always @ (*) begin
+    l2d_wrap_info_reg_r = 32'b0;
+    l2d_wrap_info_reg_r [0]  = rg_wrap_info_reg_bar1;
+    l2d_wrap_info_reg_r [1]  = rg_wrap_info_reg_bar2;
+    l2d_wrap_info_reg_r [2]  = rg_wrap_info_reg_bar3;
+    l2d_wrap_info_reg_r [6:3]  = rg_wrap_info_reg_bar4;
+    l2d_wrap_info_reg_r [10:7]  = rg_wrap_info_reg_bar5;
+  end
+  
 endmodule
 
 //
@@ -598,18 +614,23 @@ module top_jrdl_decode
   assign  dec_leaf_retry_atomic = 1'b0;
   assign  dec_leaf_data_width = 3'b0;
   
-  //------- combinatorial assigns for pio read data
+  //------- combinatorial assigns for leaf i/f
   always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
   end
   
-  //------- reg assigns for pio read data
+  //------- reg assigns for leaf i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
     end
   end
   
@@ -627,23 +648,18 @@ module top_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for leaf i/f
+  //------- combinatorial assigns for pio read data
   always @ (*) begin
-    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
-    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
-    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for leaf i/f
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      leaf_dec_valid_hld1 <= #1  1'b0;
-      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
-      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -783,6 +799,7 @@ module top_pio
   h2l_regs_ext_reg_int_fld_ext_we,
   h2l_regs_ext_reg_int_fld_int_w,
   h2l_regs_ext_reg_int_fld_int_we,
+  h2l_wrap_info_reg_bar5_w,
   leaf_dec_wr_data,
   leaf_dec_addr,
   leaf_dec_block_sel,
@@ -810,6 +827,7 @@ module top_pio
   l2h_wrap_info_reg_bar1_r,
   l2h_wrap_info_reg_bar2_r,
   l2h_wrap_info_reg_bar3_r,
+  l2h_wrap_info_reg_bar4_r,
   dec_leaf_rd_data,
   dec_leaf_ack,
   dec_leaf_nack,
@@ -853,6 +871,7 @@ module top_pio
   input    h2l_regs_ext_reg_int_fld_ext_we;
   input    h2l_regs_ext_reg_int_fld_int_w;
   input    h2l_regs_ext_reg_int_fld_int_we;
+  input     [3:0] h2l_wrap_info_reg_bar5_w;
   input     [31:0] leaf_dec_wr_data;
   input     [39:0] leaf_dec_addr;
   input    leaf_dec_block_sel;
@@ -881,6 +900,7 @@ module top_pio
   output    l2h_wrap_info_reg_bar1_r;
   output    l2h_wrap_info_reg_bar2_r;
   output    l2h_wrap_info_reg_bar3_r;
+  output     [3:0] l2h_wrap_info_reg_bar4_r;
   output     [31:0] dec_leaf_rd_data;
   output    dec_leaf_ack;
   output    dec_leaf_nack;
@@ -1001,6 +1021,7 @@ module top_pio
     .h2l_regs_ext_reg_int_fld_ext_we(h2l_regs_ext_reg_int_fld_ext_we),
     .h2l_regs_ext_reg_int_fld_int_w(h2l_regs_ext_reg_int_fld_int_w),
     .h2l_regs_ext_reg_int_fld_int_we(h2l_regs_ext_reg_int_fld_int_we),
+    .h2l_wrap_info_reg_bar5_w(h2l_wrap_info_reg_bar5_w),
     .l2d_regs_none_reg_none_r(l2d_regs_none_reg_none_r),
     .l2d_regs_none_reg_int_r(l2d_regs_none_reg_int_r),
     .l2d_regs_ext_reg_none_r(l2d_regs_ext_reg_none_r),
@@ -1024,7 +1045,8 @@ module top_pio
     .l2h_regs_ext_reg_int_fld_int_r(l2h_regs_ext_reg_int_fld_int_r),
     .l2h_wrap_info_reg_bar1_r(l2h_wrap_info_reg_bar1_r),
     .l2h_wrap_info_reg_bar2_r(l2h_wrap_info_reg_bar2_r),
-    .l2h_wrap_info_reg_bar3_r(l2h_wrap_info_reg_bar3_r) );
+    .l2h_wrap_info_reg_bar3_r(l2h_wrap_info_reg_bar3_r),
+    .l2h_wrap_info_reg_bar4_r(l2h_wrap_info_reg_bar4_r) );
     
 endmodule
 
@@ -1086,6 +1108,7 @@ module top_pio_iwrap
   h2l_regs_ext_reg_int_fld_ext_we,
   h2l_regs_ext_reg_int_fld_int_w,
   h2l_regs_ext_reg_int_fld_int_we,
+  h2l_wrap_info_reg_bar5_w,
   leaf_dec_wr_data,
   leaf_dec_addr,
   leaf_dec_block_sel,
@@ -1114,6 +1137,7 @@ module top_pio_iwrap
   l2h_wrap_info_reg_bar1_r,
   l2h_wrap_info_reg_bar2_r,
   l2h_wrap_info_reg_bar3_r,
+  l2h_wrap_info_reg_bar4_r,
   dec_leaf_rd_data,
   dec_leaf_ack,
   dec_leaf_nack,
@@ -1157,6 +1181,7 @@ module top_pio_iwrap
   input    h2l_regs_ext_reg_int_fld_ext_we;
   input    h2l_regs_ext_reg_int_fld_int_w;
   input    h2l_regs_ext_reg_int_fld_int_we;
+  input     [3:0] h2l_wrap_info_reg_bar5_w;
   input     [31:0] leaf_dec_wr_data;
   input     [39:0] leaf_dec_addr;
   input    leaf_dec_block_sel;
@@ -1186,6 +1211,7 @@ module top_pio_iwrap
   output    l2h_wrap_info_reg_bar1_r;
   output    l2h_wrap_info_reg_bar2_r;
   output    l2h_wrap_info_reg_bar3_r;
+  output     [3:0] l2h_wrap_info_reg_bar4_r;
   output     [31:0] dec_leaf_rd_data;
   output    dec_leaf_ack;
   output    dec_leaf_nack;
@@ -1215,6 +1241,7 @@ module top_pio_iwrap
   wire  l2h_wrap_info_reg_bar1_r;
   wire  l2h_wrap_info_reg_bar2_r;
   wire  l2h_wrap_info_reg_bar3_r;
+  wire   [3:0] l2h_wrap_info_reg_bar4_r;
   wire   [31:0] dec_leaf_rd_data;
   wire  dec_leaf_ack;
   wire  dec_leaf_nack;
@@ -1256,6 +1283,7 @@ module top_pio_iwrap
   wire  inst_pio_h2l_regs_ext_reg_int_fld_ext_we;
   wire  inst_pio_h2l_regs_ext_reg_int_fld_int_w;
   wire  inst_pio_h2l_regs_ext_reg_int_fld_int_we;
+  wire   [3:0] inst_pio_h2l_wrap_info_reg_bar5_w;
   wire   [31:0] inst_pio_leaf_dec_wr_data;
   wire   [39:0] inst_pio_leaf_dec_addr;
   wire  inst_pio_leaf_dec_block_sel;
@@ -1282,6 +1310,7 @@ module top_pio_iwrap
   wire  inst_pio_l2h_wrap_info_reg_bar1_r;
   wire  inst_pio_l2h_wrap_info_reg_bar2_r;
   wire  inst_pio_l2h_wrap_info_reg_bar3_r;
+  wire   [3:0] inst_pio_l2h_wrap_info_reg_bar4_r;
   wire   [31:0] inst_pio_dec_leaf_rd_data;
   wire  inst_pio_dec_leaf_ack;
   wire  inst_pio_dec_leaf_nack;
@@ -1327,6 +1356,8 @@ module top_pio_iwrap
   assign  inst_pio_h2l_regs_ext_reg_int_fld_ext_we = h2l_regs_ext_reg_int_fld_ext_we;
   assign  inst_pio_h2l_regs_ext_reg_int_fld_int_w = h2l_regs_ext_reg_int_fld_int_w;
   assign  inst_pio_h2l_regs_ext_reg_int_fld_int_we = h2l_regs_ext_reg_int_fld_int_we;
+  assign  inst_pio_h2l_wrap_info_reg_bar5_w [3]  = ~h2l_wrap_info_reg_bar5_w [3] ;
+  assign  inst_pio_h2l_wrap_info_reg_bar5_w [2:0]  = h2l_wrap_info_reg_bar5_w [2:0] ;
   assign  inst_pio_leaf_dec_wr_data = leaf_dec_wr_data;
   assign  inst_pio_leaf_dec_addr = leaf_dec_addr;
   assign  inst_pio_leaf_dec_block_sel = leaf_dec_block_sel;
@@ -1352,6 +1383,9 @@ module top_pio_iwrap
   assign  l2h_regs_ext_reg_int_fld_int_r = inst_pio_l2h_regs_ext_reg_int_fld_int_r;
   assign  l2h_wrap_info_reg_bar1_r = inst_pio_l2h_wrap_info_reg_bar1_r;
   assign  l2h_wrap_info_reg_bar2_r = ~inst_pio_l2h_wrap_info_reg_bar2_r;
+  assign  l2h_wrap_info_reg_bar4_r [2:1]  = ~inst_pio_l2h_wrap_info_reg_bar4_r [2:1] ;
+  assign  l2h_wrap_info_reg_bar4_r [0]  = inst_pio_l2h_wrap_info_reg_bar4_r [0] ;
+  assign  l2h_wrap_info_reg_bar4_r [3]  = inst_pio_l2h_wrap_info_reg_bar4_r [3] ;
   assign  dec_leaf_rd_data = inst_pio_dec_leaf_rd_data;
   assign  dec_leaf_ack = inst_pio_dec_leaf_ack;
   assign  dec_leaf_nack = inst_pio_dec_leaf_nack;
@@ -1395,6 +1429,7 @@ module top_pio_iwrap
     .h2l_regs_ext_reg_int_fld_ext_we(inst_pio_h2l_regs_ext_reg_int_fld_ext_we),
     .h2l_regs_ext_reg_int_fld_int_w(inst_pio_h2l_regs_ext_reg_int_fld_int_w),
     .h2l_regs_ext_reg_int_fld_int_we(inst_pio_h2l_regs_ext_reg_int_fld_int_we),
+    .h2l_wrap_info_reg_bar5_w(inst_pio_h2l_wrap_info_reg_bar5_w),
     .leaf_dec_wr_data(inst_pio_leaf_dec_wr_data),
     .leaf_dec_addr(inst_pio_leaf_dec_addr),
     .leaf_dec_block_sel(inst_pio_leaf_dec_block_sel),
@@ -1421,6 +1456,7 @@ module top_pio_iwrap
     .l2h_wrap_info_reg_bar1_r(inst_pio_l2h_wrap_info_reg_bar1_r),
     .l2h_wrap_info_reg_bar2_r(inst_pio_l2h_wrap_info_reg_bar2_r),
     .l2h_wrap_info_reg_bar3_r(inst_pio_l2h_wrap_info_reg_bar3_r),
+    .l2h_wrap_info_reg_bar4_r(inst_pio_l2h_wrap_info_reg_bar4_r),
     .dec_leaf_rd_data(inst_pio_dec_leaf_rd_data),
     .dec_leaf_ack(inst_pio_dec_leaf_ack),
     .dec_leaf_nack(inst_pio_dec_leaf_nack),
@@ -1,7 +1,7 @@
-//   Ordt 180623.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_iwrap/test.rdl
 //   Parms: ./rdl_iwrap/test.parms
-//   Date: Sat Jun 23 14:56:36 EDT 2018
+//   Date: Mon Oct 19 05:51:29 UTC 2026
 //
 
 import uvm_pkg::*;
@@ -213,6 +213,8 @@ class reg_top_wrap_info_reg extends uvm_reg_rdl;
   rand uvm_reg_field_rdl bar1;
   rand uvm_reg_field_rdl bar2;
   rand uvm_reg_field_rdl bar3;
+  rand uvm_reg_field_rdl bar4;
+  rand uvm_reg_field_rdl bar5;
   
   function new(string name = "reg_top_wrap_info_reg");
     super.new(name, 32, UVM_NO_COVERAGE);
@@ -229,11 +231,19 @@ class reg_top_wrap_info_reg extends uvm_reg_rdl;
     this.bar3 = new("bar3");
     this.bar3.set_rdl_access_info(1, 1, 1, 0, 0, 0);
     this.bar3.configure(this, 1, 2, "RW", 0, 1'h0, 1, 1, 0);
+    this.bar4 = new("bar4");
+    this.bar4.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.bar4.configure(this, 4, 3, "RW", 0, 1'h0, 1, 1, 0);
+    this.bar5 = new("bar5");
+    this.bar5.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.bar5.configure(this, 4, 7, "RO", 1, 1'h0, 1, 0, 0);
     
     rdl_reg_name = get_rdl_name("rg_");
     add_hdl_path_slice({rdl_reg_name, "bar1"}, 0, 1);
     add_hdl_path_slice({rdl_reg_name, "bar2"}, 1, 1);
     add_hdl_path_slice({rdl_reg_name, "bar3"}, 2, 1);
+    add_hdl_path_slice({rdl_reg_name, "bar4"}, 3, 4);
+    add_hdl_path_slice({rdl_reg_name, "bar5"}, 7, 4);
   endfunction: build
   
 endclass : reg_top_wrap_info_reg
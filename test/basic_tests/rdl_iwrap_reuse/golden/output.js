@@ -0,0 +1,223 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_iwrap_reuse/test.rdl
+ *   Parms: ./rdl_iwrap_reuse/test.parms
+ *   Date: Mon Oct 19 06:03:46 UTC 2026
+ */
+
+register_set top "Registers for top" {
+
+  address = 0x0;
+  register_width = 32;
+  register_set o0 "o0 register_set" {
+    address = 0x0;
+    
+    register_set i0 "i0 register_set" {
+      address = 0x0;
+      
+      register r0 "r0 register" {
+        address = 0x0;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register r1 "r1 register" {
+        address = 0x4;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register_set_size = 0x8;
+    };
+    
+    register_set i1 "i1 register_set" {
+      address = 0x8;
+      
+      register r0 "r0 register" {
+        address = 0x0;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register r1 "r1 register" {
+        address = 0x4;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register_set_size = 0x8;
+    };
+    
+    register_set_size = 0x10;
+  };
+  
+  register_set o1 "o1 register_set" {
+    address = 0x10;
+    
+    register_set i0 "i0 register_set" {
+      address = 0x0;
+      
+      register r0 "r0 register" {
+        address = 0x0;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register r1 "r1 register" {
+        address = 0x4;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register_set_size = 0x8;
+    };
+    
+    register_set i1 "i1 register_set" {
+      address = 0x8;
+      
+      register r0 "r0 register" {
+        address = 0x0;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register r1 "r1 register" {
+        address = 0x4;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register_set_size = 0x8;
+    };
+    
+    register_set_size = 0x10;
+  };
+  
+  register_set o2 "o2 register_set" {
+    address = 0x20;
+    
+    register_set i0 "i0 register_set" {
+      address = 0x0;
+      
+      register r0 "r0 register" {
+        address = 0x0;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register r1 "r1 register" {
+        address = 0x4;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register_set_size = 0x8;
+    };
+    
+    register_set i1 "i1 register_set" {
+      address = 0x8;
+      
+      register r0 "r0 register" {
+        address = 0x0;
+        nop[27];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[4] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register r1 "r1 register" {
+        address = 0x4;
+        nop[23];
+        integer b[1] "b field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer a[8] "a field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+      };
+      
+      register_set_size = 0x8;
+    };
+    
+    register_set_size = 0x10;
+  };
+  
+  register_set_size = 0x30;
+};
+
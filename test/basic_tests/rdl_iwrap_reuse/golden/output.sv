@@ -0,0 +1,1409 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_iwrap_reuse/test.rdl
+//   Parms: ./rdl_iwrap_reuse/test.parms
+//   Date: Mon Oct 19 06:03:46 UTC 2026
+//
+
+//
+//---------- module top_jrdl_logic
+//
+module top_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_o0_i0_r0_w,
+  d2l_o0_i0_r0_we,
+  d2l_o0_i0_r0_re,
+  d2l_o0_i0_r1_w,
+  d2l_o0_i0_r1_we,
+  d2l_o0_i0_r1_re,
+  d2l_o0_i1_r0_w,
+  d2l_o0_i1_r0_we,
+  d2l_o0_i1_r0_re,
+  d2l_o0_i1_r1_w,
+  d2l_o0_i1_r1_we,
+  d2l_o0_i1_r1_re,
+  d2l_o1_i0_r0_w,
+  d2l_o1_i0_r0_we,
+  d2l_o1_i0_r0_re,
+  d2l_o1_i0_r1_w,
+  d2l_o1_i0_r1_we,
+  d2l_o1_i0_r1_re,
+  d2l_o1_i1_r0_w,
+  d2l_o1_i1_r0_we,
+  d2l_o1_i1_r0_re,
+  d2l_o1_i1_r1_w,
+  d2l_o1_i1_r1_we,
+  d2l_o1_i1_r1_re,
+  d2l_o2_i0_r0_w,
+  d2l_o2_i0_r0_we,
+  d2l_o2_i0_r0_re,
+  d2l_o2_i0_r1_w,
+  d2l_o2_i0_r1_we,
+  d2l_o2_i0_r1_re,
+  d2l_o2_i1_r0_w,
+  d2l_o2_i1_r0_we,
+  d2l_o2_i1_r0_re,
+  d2l_o2_i1_r1_w,
+  d2l_o2_i1_r1_we,
+  d2l_o2_i1_r1_re,
+
+  l2d_o0_i0_r0_r,
+  l2d_o0_i0_r1_r,
+  l2d_o0_i1_r0_r,
+  l2d_o0_i1_r1_r,
+  l2d_o1_i0_r0_r,
+  l2d_o1_i0_r1_r,
+  l2d_o1_i1_r0_r,
+  l2d_o1_i1_r1_r,
+  l2d_o2_i0_r0_r,
+  l2d_o2_i0_r1_r,
+  l2d_o2_i1_r0_r,
+  l2d_o2_i1_r1_r,
+  l2h_o0_i0_r0_a_r,
+  l2h_o0_i0_r0_b_r,
+  l2h_o0_i0_r1_a_r,
+  l2h_o0_i0_r1_b_r,
+  l2h_o0_i1_r0_a_r,
+  l2h_o0_i1_r0_b_r,
+  l2h_o0_i1_r1_a_r,
+  l2h_o0_i1_r1_b_r,
+  l2h_o1_i0_r0_a_r,
+  l2h_o1_i0_r0_b_r,
+  l2h_o1_i0_r1_a_r,
+  l2h_o1_i0_r1_b_r,
+  l2h_o1_i1_r0_a_r,
+  l2h_o1_i1_r0_b_r,
+  l2h_o1_i1_r1_a_r,
+  l2h_o1_i1_r1_b_r,
+  l2h_o2_i0_r0_a_r,
+  l2h_o2_i0_r0_b_r,
+  l2h_o2_i0_r1_a_r,
+  l2h_o2_i0_r1_b_r,
+  l2h_o2_i1_r0_a_r,
+  l2h_o2_i1_r0_b_r,
+  l2h_o2_i1_r1_a_r,
+  l2h_o2_i1_r1_b_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_o0_i0_r0_w;
+  input    d2l_o0_i0_r0_we;
+  input    d2l_o0_i0_r0_re;
+  input     [31:0] d2l_o0_i0_r1_w;
+  input    d2l_o0_i0_r1_we;
+  input    d2l_o0_i0_r1_re;
+  input     [31:0] d2l_o0_i1_r0_w;
+  input    d2l_o0_i1_r0_we;
+  input    d2l_o0_i1_r0_re;
+  input     [31:0] d2l_o0_i1_r1_w;
+  input    d2l_o0_i1_r1_we;
+  input    d2l_o0_i1_r1_re;
+  input     [31:0] d2l_o1_i0_r0_w;
+  input    d2l_o1_i0_r0_we;
+  input    d2l_o1_i0_r0_re;
+  input     [31:0] d2l_o1_i0_r1_w;
+  input    d2l_o1_i0_r1_we;
+  input    d2l_o1_i0_r1_re;
+  input     [31:0] d2l_o1_i1_r0_w;
+  input    d2l_o1_i1_r0_we;
+  input    d2l_o1_i1_r0_re;
+  input     [31:0] d2l_o1_i1_r1_w;
+  input    d2l_o1_i1_r1_we;
+  input    d2l_o1_i1_r1_re;
+  input     [31:0] d2l_o2_i0_r0_w;
+  input    d2l_o2_i0_r0_we;
+  input    d2l_o2_i0_r0_re;
+  input     [31:0] d2l_o2_i0_r1_w;
+  input    d2l_o2_i0_r1_we;
+  input    d2l_o2_i0_r1_re;
+  input     [31:0] d2l_o2_i1_r0_w;
+  input    d2l_o2_i1_r0_we;
+  input    d2l_o2_i1_r0_re;
+  input     [31:0] d2l_o2_i1_r1_w;
+  input    d2l_o2_i1_r1_we;
+  input    d2l_o2_i1_r1_re;
+
+  //------- outputs
+  output     [31:0] l2d_o0_i0_r0_r;
+  output     [31:0] l2d_o0_i0_r1_r;
+  output     [31:0] l2d_o0_i1_r0_r;
+  output     [31:0] l2d_o0_i1_r1_r;
+  output     [31:0] l2d_o1_i0_r0_r;
+  output     [31:0] l2d_o1_i0_r1_r;
+  output     [31:0] l2d_o1_i1_r0_r;
+  output     [31:0] l2d_o1_i1_r1_r;
+  output     [31:0] l2d_o2_i0_r0_r;
+  output     [31:0] l2d_o2_i0_r1_r;
+  output     [31:0] l2d_o2_i1_r0_r;
+  output     [31:0] l2d_o2_i1_r1_r;
+  output     [3:0] l2h_o0_i0_r0_a_r;
+  output    l2h_o0_i0_r0_b_r;
+  output     [3:0] l2h_o0_i0_r1_a_r;
+  output    l2h_o0_i0_r1_b_r;
+  output     [3:0] l2h_o0_i1_r0_a_r;
+  output    l2h_o0_i1_r0_b_r;
+  output     [3:0] l2h_o0_i1_r1_a_r;
+  output    l2h_o0_i1_r1_b_r;
+  output     [3:0] l2h_o1_i0_r0_a_r;
+  output    l2h_o1_i0_r0_b_r;
+  output     [3:0] l2h_o1_i0_r1_a_r;
+  output    l2h_o1_i0_r1_b_r;
+  output     [3:0] l2h_o1_i1_r0_a_r;
+  output    l2h_o1_i1_r0_b_r;
+  output     [3:0] l2h_o1_i1_r1_a_r;
+  output    l2h_o1_i1_r1_b_r;
+  output     [3:0] l2h_o2_i0_r0_a_r;
+  output    l2h_o2_i0_r0_b_r;
+  output     [3:0] l2h_o2_i0_r1_a_r;
+  output    l2h_o2_i0_r1_b_r;
+  output     [3:0] l2h_o2_i1_r0_a_r;
+  output    l2h_o2_i1_r0_b_r;
+  output     [7:0] l2h_o2_i1_r1_a_r;
+  output    l2h_o2_i1_r1_b_r;
+
+
+  //------- reg defines
+  logic   [3:0] rg_o0_i0_r0_a;
+  logic   [3:0] reg_o0_i0_r0_a_next;
+  logic   [3:0] l2h_o0_i0_r0_a_r;
+  logic  rg_o0_i0_r0_b;
+  logic  reg_o0_i0_r0_b_next;
+  logic  l2h_o0_i0_r0_b_r;
+  logic   [31:0] l2d_o0_i0_r0_r;
+  logic   [3:0] rg_o0_i0_r1_a;
+  logic   [3:0] reg_o0_i0_r1_a_next;
+  logic   [3:0] l2h_o0_i0_r1_a_r;
+  logic  rg_o0_i0_r1_b;
+  logic  reg_o0_i0_r1_b_next;
+  logic  l2h_o0_i0_r1_b_r;
+  logic   [31:0] l2d_o0_i0_r1_r;
+  logic   [3:0] rg_o0_i1_r0_a;
+  logic   [3:0] reg_o0_i1_r0_a_next;
+  logic   [3:0] l2h_o0_i1_r0_a_r;
+  logic  rg_o0_i1_r0_b;
+  logic  reg_o0_i1_r0_b_next;
+  logic  l2h_o0_i1_r0_b_r;
+  logic   [31:0] l2d_o0_i1_r0_r;
+  logic   [3:0] rg_o0_i1_r1_a;
+  logic   [3:0] reg_o0_i1_r1_a_next;
+  logic   [3:0] l2h_o0_i1_r1_a_r;
+  logic  rg_o0_i1_r1_b;
+  logic  reg_o0_i1_r1_b_next;
+  logic  l2h_o0_i1_r1_b_r;
+  logic   [31:0] l2d_o0_i1_r1_r;
+  logic   [3:0] rg_o1_i0_r0_a;
+  logic   [3:0] reg_o1_i0_r0_a_next;
+  logic   [3:0] l2h_o1_i0_r0_a_r;
+  logic  rg_o1_i0_r0_b;
+  logic  reg_o1_i0_r0_b_next;
+  logic  l2h_o1_i0_r0_b_r;
+  logic   [31:0] l2d_o1_i0_r0_r;
+  logic   [3:0] rg_o1_i0_r1_a;
+  logic   [3:0] reg_o1_i0_r1_a_next;
+  logic   [3:0] l2h_o1_i0_r1_a_r;
+  logic  rg_o1_i0_r1_b;
+  logic  reg_o1_i0_r1_b_next;
+  logic  l2h_o1_i0_r1_b_r;
+  logic   [31:0] l2d_o1_i0_r1_r;
+  logic   [3:0] rg_o1_i1_r0_a;
+  logic   [3:0] reg_o1_i1_r0_a_next;
+  logic   [3:0] l2h_o1_i1_r0_a_r;
+  logic  rg_o1_i1_r0_b;
+  logic  reg_o1_i1_r0_b_next;
+  logic  l2h_o1_i1_r0_b_r;
+  logic   [31:0] l2d_o1_i1_r0_r;
+  logic   [3:0] rg_o1_i1_r1_a;
+  logic   [3:0] reg_o1_i1_r1_a_next;
+  logic   [3:0] l2h_o1_i1_r1_a_r;
+  logic  rg_o1_i1_r1_b;
+  logic  reg_o1_i1_r1_b_next;
+  logic  l2h_o1_i1_r1_b_r;
+  logic   [31:0] l2d_o1_i1_r1_r;
+  logic   [3:0] rg_o2_i0_r0_a;
+  logic   [3:0] reg_o2_i0_r0_a_next;
+  logic   [3:0] l2h_o2_i0_r0_a_r;
+  logic  rg_o2_i0_r0_b;
+  logic  reg_o2_i0_r0_b_next;
+  logic  l2h_o2_i0_r0_b_r;
+  logic   [31:0] l2d_o2_i0_r0_r;
+  logic   [3:0] rg_o2_i0_r1_a;
+  logic   [3:0] reg_o2_i0_r1_a_next;
+  logic   [3:0] l2h_o2_i0_r1_a_r;
+  logic  rg_o2_i0_r1_b;
+  logic  reg_o2_i0_r1_b_next;
+  logic  l2h_o2_i0_r1_b_r;
+  logic   [31:0] l2d_o2_i0_r1_r;
+  logic   [3:0] rg_o2_i1_r0_a;
+  logic   [3:0] reg_o2_i1_r0_a_next;
+  logic   [3:0] l2h_o2_i1_r0_a_r;
+  logic  rg_o2_i1_r0_b;
+  logic  reg_o2_i1_r0_b_next;
+  logic  l2h_o2_i1_r0_b_r;
+  logic   [31:0] l2d_o2_i1_r0_r;
+  logic   [7:0] rg_o2_i1_r1_a;
+  logic   [7:0] reg_o2_i1_r1_a_next;
+  logic   [7:0] l2h_o2_i1_r1_a_r;
+  logic  rg_o2_i1_r1_b;
+  logic  reg_o2_i1_r1_b_next;
+  logic  l2h_o2_i1_r1_b_r;
+  logic   [31:0] l2d_o2_i1_r1_r;
+  
+  
+  //------- combinatorial assigns for o0_i0_r0
+  always_comb begin
+    reg_o0_i0_r0_a_next = rg_o0_i0_r0_a;
+    l2h_o0_i0_r0_a_r = rg_o0_i0_r0_a;
+    reg_o0_i0_r0_b_next = rg_o0_i0_r0_b;
+    l2h_o0_i0_r0_b_r = rg_o0_i0_r0_b;
+    if (d2l_o0_i0_r0_we) reg_o0_i0_r0_a_next = d2l_o0_i0_r0_w [3:0] ;
+    if (d2l_o0_i0_r0_we) reg_o0_i0_r0_b_next = d2l_o0_i0_r0_w [4] ;
+  end
+  
+  //------- reg assigns for o0_i0_r0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o0_i0_r0_a <= #1 4'h0;
+      rg_o0_i0_r0_b <= #1 1'b0;
+    end
+    else begin
+      rg_o0_i0_r0_a <= #1  reg_o0_i0_r0_a_next;
+      rg_o0_i0_r0_b <= #1  reg_o0_i0_r0_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o0_i0_r0 (pio read data)
+  always_comb begin
+    l2d_o0_i0_r0_r = 32'b0;
+    l2d_o0_i0_r0_r [3:0]  = rg_o0_i0_r0_a;
+    l2d_o0_i0_r0_r [4]  = rg_o0_i0_r0_b;
+  end
+  
+  //------- combinatorial assigns for o0_i0_r1
+  always_comb begin
+    reg_o0_i0_r1_a_next = rg_o0_i0_r1_a;
+    l2h_o0_i0_r1_a_r = rg_o0_i0_r1_a;
+    reg_o0_i0_r1_b_next = rg_o0_i0_r1_b;
+    l2h_o0_i0_r1_b_r = rg_o0_i0_r1_b;
+    if (d2l_o0_i0_r1_we) reg_o0_i0_r1_a_next = d2l_o0_i0_r1_w [3:0] ;
+    if (d2l_o0_i0_r1_we) reg_o0_i0_r1_b_next = d2l_o0_i0_r1_w [4] ;
+  end
+  
+  //------- reg assigns for o0_i0_r1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o0_i0_r1_a <= #1 4'h0;
+      rg_o0_i0_r1_b <= #1 1'b0;
+    end
+    else begin
+      rg_o0_i0_r1_a <= #1  reg_o0_i0_r1_a_next;
+      rg_o0_i0_r1_b <= #1  reg_o0_i0_r1_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o0_i0_r1 (pio read data)
+  always_comb begin
+    l2d_o0_i0_r1_r = 32'b0;
+    l2d_o0_i0_r1_r [3:0]  = rg_o0_i0_r1_a;
+    l2d_o0_i0_r1_r [4]  = rg_o0_i0_r1_b;
+  end
+  
+  //------- combinatorial assigns for o0_i1_r0
+  always_comb begin
+    reg_o0_i1_r0_a_next = rg_o0_i1_r0_a;
+    l2h_o0_i1_r0_a_r = rg_o0_i1_r0_a;
+    reg_o0_i1_r0_b_next = rg_o0_i1_r0_b;
+    l2h_o0_i1_r0_b_r = rg_o0_i1_r0_b;
+    if (d2l_o0_i1_r0_we) reg_o0_i1_r0_a_next = d2l_o0_i1_r0_w [3:0] ;
+    if (d2l_o0_i1_r0_we) reg_o0_i1_r0_b_next = d2l_o0_i1_r0_w [4] ;
+  end
+  
+  //------- reg assigns for o0_i1_r0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o0_i1_r0_a <= #1 4'h0;
+      rg_o0_i1_r0_b <= #1 1'b0;
+    end
+    else begin
+      rg_o0_i1_r0_a <= #1  reg_o0_i1_r0_a_next;
+      rg_o0_i1_r0_b <= #1  reg_o0_i1_r0_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o0_i1_r0 (pio read data)
+  always_comb begin
+    l2d_o0_i1_r0_r = 32'b0;
+    l2d_o0_i1_r0_r [3:0]  = rg_o0_i1_r0_a;
+    l2d_o0_i1_r0_r [4]  = rg_o0_i1_r0_b;
+  end
+  
+  //------- combinatorial assigns for o0_i1_r1
+  always_comb begin
+    reg_o0_i1_r1_a_next = rg_o0_i1_r1_a;
+    l2h_o0_i1_r1_a_r = rg_o0_i1_r1_a;
+    reg_o0_i1_r1_b_next = rg_o0_i1_r1_b;
+    l2h_o0_i1_r1_b_r = rg_o0_i1_r1_b;
+    if (d2l_o0_i1_r1_we) reg_o0_i1_r1_a_next = d2l_o0_i1_r1_w [3:0] ;
+    if (d2l_o0_i1_r1_we) reg_o0_i1_r1_b_next = d2l_o0_i1_r1_w [4] ;
+  end
+  
+  //------- reg assigns for o0_i1_r1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o0_i1_r1_a <= #1 4'h0;
+      rg_o0_i1_r1_b <= #1 1'b0;
+    end
+    else begin
+      rg_o0_i1_r1_a <= #1  reg_o0_i1_r1_a_next;
+      rg_o0_i1_r1_b <= #1  reg_o0_i1_r1_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o0_i1_r1 (pio read data)
+  always_comb begin
+    l2d_o0_i1_r1_r = 32'b0;
+    l2d_o0_i1_r1_r [3:0]  = rg_o0_i1_r1_a;
+    l2d_o0_i1_r1_r [4]  = rg_o0_i1_r1_b;
+  end
+  
+  //------- combinatorial assigns for o1_i0_r0
+  always_comb begin
+    reg_o1_i0_r0_a_next = rg_o1_i0_r0_a;
+    l2h_o1_i0_r0_a_r = rg_o1_i0_r0_a;
+    reg_o1_i0_r0_b_next = rg_o1_i0_r0_b;
+    l2h_o1_i0_r0_b_r = rg_o1_i0_r0_b;
+    if (d2l_o1_i0_r0_we) reg_o1_i0_r0_a_next = d2l_o1_i0_r0_w [3:0] ;
+    if (d2l_o1_i0_r0_we) reg_o1_i0_r0_b_next = d2l_o1_i0_r0_w [4] ;
+  end
+  
+  //------- reg assigns for o1_i0_r0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o1_i0_r0_a <= #1 4'h0;
+      rg_o1_i0_r0_b <= #1 1'b0;
+    end
+    else begin
+      rg_o1_i0_r0_a <= #1  reg_o1_i0_r0_a_next;
+      rg_o1_i0_r0_b <= #1  reg_o1_i0_r0_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o1_i0_r0 (pio read data)
+  always_comb begin
+    l2d_o1_i0_r0_r = 32'b0;
+    l2d_o1_i0_r0_r [3:0]  = rg_o1_i0_r0_a;
+    l2d_o1_i0_r0_r [4]  = rg_o1_i0_r0_b;
+  end
+  
+  //------- combinatorial assigns for o1_i0_r1
+  always_comb begin
+    reg_o1_i0_r1_a_next = rg_o1_i0_r1_a;
+    l2h_o1_i0_r1_a_r = rg_o1_i0_r1_a;
+    reg_o1_i0_r1_b_next = rg_o1_i0_r1_b;
+    l2h_o1_i0_r1_b_r = rg_o1_i0_r1_b;
+    if (d2l_o1_i0_r1_we) reg_o1_i0_r1_a_next = d2l_o1_i0_r1_w [3:0] ;
+    if (d2l_o1_i0_r1_we) reg_o1_i0_r1_b_next = d2l_o1_i0_r1_w [4] ;
+  end
+  
+  //------- reg assigns for o1_i0_r1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o1_i0_r1_a <= #1 4'h0;
+      rg_o1_i0_r1_b <= #1 1'b0;
+    end
+    else begin
+      rg_o1_i0_r1_a <= #1  reg_o1_i0_r1_a_next;
+      rg_o1_i0_r1_b <= #1  reg_o1_i0_r1_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o1_i0_r1 (pio read data)
+  always_comb begin
+    l2d_o1_i0_r1_r = 32'b0;
+    l2d_o1_i0_r1_r [3:0]  = rg_o1_i0_r1_a;
+    l2d_o1_i0_r1_r [4]  = rg_o1_i0_r1_b;
+  end
+  
+  //------- combinatorial assigns for o1_i1_r0
+  always_comb begin
+    reg_o1_i1_r0_a_next = rg_o1_i1_r0_a;
+    l2h_o1_i1_r0_a_r = rg_o1_i1_r0_a;
+    reg_o1_i1_r0_b_next = rg_o1_i1_r0_b;
+    l2h_o1_i1_r0_b_r = rg_o1_i1_r0_b;
+    if (d2l_o1_i1_r0_we) reg_o1_i1_r0_a_next = d2l_o1_i1_r0_w [3:0] ;
+    if (d2l_o1_i1_r0_we) reg_o1_i1_r0_b_next = d2l_o1_i1_r0_w [4] ;
+  end
+  
+  //------- reg assigns for o1_i1_r0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o1_i1_r0_a <= #1 4'h0;
+      rg_o1_i1_r0_b <= #1 1'b0;
+    end
+    else begin
+      rg_o1_i1_r0_a <= #1  reg_o1_i1_r0_a_next;
+      rg_o1_i1_r0_b <= #1  reg_o1_i1_r0_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o1_i1_r0 (pio read data)
+  always_comb begin
+    l2d_o1_i1_r0_r = 32'b0;
+    l2d_o1_i1_r0_r [3:0]  = rg_o1_i1_r0_a;
+    l2d_o1_i1_r0_r [4]  = rg_o1_i1_r0_b;
+  end
+  
+  //------- combinatorial assigns for o1_i1_r1
+  always_comb begin
+    reg_o1_i1_r1_a_next = rg_o1_i1_r1_a;
+    l2h_o1_i1_r1_a_r = rg_o1_i1_r1_a;
+    reg_o1_i1_r1_b_next = rg_o1_i1_r1_b;
+    l2h_o1_i1_r1_b_r = rg_o1_i1_r1_b;
+    if (d2l_o1_i1_r1_we) reg_o1_i1_r1_a_next = d2l_o1_i1_r1_w [3:0] ;
+    if (d2l_o1_i1_r1_we) reg_o1_i1_r1_b_next = d2l_o1_i1_r1_w [4] ;
+  end
+  
+  //------- reg assigns for o1_i1_r1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o1_i1_r1_a <= #1 4'h0;
+      rg_o1_i1_r1_b <= #1 1'b0;
+    end
+    else begin
+      rg_o1_i1_r1_a <= #1  reg_o1_i1_r1_a_next;
+      rg_o1_i1_r1_b <= #1  reg_o1_i1_r1_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o1_i1_r1 (pio read data)
+  always_comb begin
+    l2d_o1_i1_r1_r = 32'b0;
+    l2d_o1_i1_r1_r [3:0]  = rg_o1_i1_r1_a;
+    l2d_o1_i1_r1_r [4]  = rg_o1_i1_r1_b;
+  end
+  
+  //------- combinatorial assigns for o2_i0_r0
+  always_comb begin
+    reg_o2_i0_r0_a_next = rg_o2_i0_r0_a;
+    l2h_o2_i0_r0_a_r = rg_o2_i0_r0_a;
+    reg_o2_i0_r0_b_next = rg_o2_i0_r0_b;
+    l2h_o2_i0_r0_b_r = rg_o2_i0_r0_b;
+    if (d2l_o2_i0_r0_we) reg_o2_i0_r0_a_next = d2l_o2_i0_r0_w [3:0] ;
+    if (d2l_o2_i0_r0_we) reg_o2_i0_r0_b_next = d2l_o2_i0_r0_w [4] ;
+  end
+  
+  //------- reg assigns for o2_i0_r0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o2_i0_r0_a <= #1 4'h0;
+      rg_o2_i0_r0_b <= #1 1'b0;
+    end
+    else begin
+      rg_o2_i0_r0_a <= #1  reg_o2_i0_r0_a_next;
+      rg_o2_i0_r0_b <= #1  reg_o2_i0_r0_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o2_i0_r0 (pio read data)
+  always_comb begin
+    l2d_o2_i0_r0_r = 32'b0;
+    l2d_o2_i0_r0_r [3:0]  = rg_o2_i0_r0_a;
+    l2d_o2_i0_r0_r [4]  = rg_o2_i0_r0_b;
+  end
+  
+  //------- combinatorial assigns for o2_i0_r1
+  always_comb begin
+    reg_o2_i0_r1_a_next = rg_o2_i0_r1_a;
+    l2h_o2_i0_r1_a_r = rg_o2_i0_r1_a;
+    reg_o2_i0_r1_b_next = rg_o2_i0_r1_b;
+    l2h_o2_i0_r1_b_r = rg_o2_i0_r1_b;
+    if (d2l_o2_i0_r1_we) reg_o2_i0_r1_a_next = d2l_o2_i0_r1_w [3:0] ;
+    if (d2l_o2_i0_r1_we) reg_o2_i0_r1_b_next = d2l_o2_i0_r1_w [4] ;
+  end
+  
+  //------- reg assigns for o2_i0_r1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o2_i0_r1_a <= #1 4'h0;
+      rg_o2_i0_r1_b <= #1 1'b0;
+    end
+    else begin
+      rg_o2_i0_r1_a <= #1  reg_o2_i0_r1_a_next;
+      rg_o2_i0_r1_b <= #1  reg_o2_i0_r1_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o2_i0_r1 (pio read data)
+  always_comb begin
+    l2d_o2_i0_r1_r = 32'b0;
+    l2d_o2_i0_r1_r [3:0]  = rg_o2_i0_r1_a;
+    l2d_o2_i0_r1_r [4]  = rg_o2_i0_r1_b;
+  end
+  
+  //------- combinatorial assigns for o2_i1_r0
+  always_comb begin
+    reg_o2_i1_r0_a_next = rg_o2_i1_r0_a;
+    l2h_o2_i1_r0_a_r = rg_o2_i1_r0_a;
+    reg_o2_i1_r0_b_next = rg_o2_i1_r0_b;
+    l2h_o2_i1_r0_b_r = rg_o2_i1_r0_b;
+    if (d2l_o2_i1_r0_we) reg_o2_i1_r0_a_next = d2l_o2_i1_r0_w [3:0] ;
+    if (d2l_o2_i1_r0_we) reg_o2_i1_r0_b_next = d2l_o2_i1_r0_w [4] ;
+  end
+  
+  //------- reg assigns for o2_i1_r0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o2_i1_r0_a <= #1 4'h0;
+      rg_o2_i1_r0_b <= #1 1'b0;
+    end
+    else begin
+      rg_o2_i1_r0_a <= #1  reg_o2_i1_r0_a_next;
+      rg_o2_i1_r0_b <= #1  reg_o2_i1_r0_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o2_i1_r0 (pio read data)
+  always_comb begin
+    l2d_o2_i1_r0_r = 32'b0;
+    l2d_o2_i1_r0_r [3:0]  = rg_o2_i1_r0_a;
+    l2d_o2_i1_r0_r [4]  = rg_o2_i1_r0_b;
+  end
+  
+  //------- combinatorial assigns for o2_i1_r1
+  always_comb begin
+    reg_o2_i1_r1_a_next = rg_o2_i1_r1_a;
+    l2h_o2_i1_r1_a_r = rg_o2_i1_r1_a;
+    reg_o2_i1_r1_b_next = rg_o2_i1_r1_b;
+    l2h_o2_i1_r1_b_r = rg_o2_i1_r1_b;
+    if (d2l_o2_i1_r1_we) reg_o2_i1_r1_a_next = d2l_o2_i1_r1_w [7:0] ;
+    if (d2l_o2_i1_r1_we) reg_o2_i1_r1_b_next = d2l_o2_i1_r1_w [8] ;
+  end
+  
+  //------- reg assigns for o2_i1_r1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_o2_i1_r1_a <= #1 8'h0;
+      rg_o2_i1_r1_b <= #1 1'b0;
+    end
+    else begin
+      rg_o2_i1_r1_a <= #1  reg_o2_i1_r1_a_next;
+      rg_o2_i1_r1_b <= #1  reg_o2_i1_r1_b_next;
+    end
+  end
+  
+  //------- combinatorial assigns for o2_i1_r1 (pio read data)
+  always_comb begin
+    l2d_o2_i1_r1_r = 32'b0;
+    l2d_o2_i1_r1_r [7:0]  = rg_o2_i1_r1_a;
+    l2d_o2_i1_r1_r [8]  = rg_o2_i1_r1_b;
+  end
+  
+endmodule
+
+//
+//---------- module top_jrdl_decode
+//
+module top_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_o0_i0_r0_r,
+  l2d_o0_i0_r1_r,
+  l2d_o0_i1_r0_r,
+  l2d_o0_i1_r1_r,
+  l2d_o1_i0_r0_r,
+  l2d_o1_i0_r1_r,
+  l2d_o1_i1_r0_r,
+  l2d_o1_i1_r1_r,
+  l2d_o2_i0_r0_r,
+  l2d_o2_i0_r1_r,
+  l2d_o2_i1_r0_r,
+  l2d_o2_i1_r1_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_o0_i0_r0_w,
+  d2l_o0_i0_r0_we,
+  d2l_o0_i0_r0_re,
+  d2l_o0_i0_r1_w,
+  d2l_o0_i0_r1_we,
+  d2l_o0_i0_r1_re,
+  d2l_o0_i1_r0_w,
+  d2l_o0_i1_r0_we,
+  d2l_o0_i1_r0_re,
+  d2l_o0_i1_r1_w,
+  d2l_o0_i1_r1_we,
+  d2l_o0_i1_r1_re,
+  d2l_o1_i0_r0_w,
+  d2l_o1_i0_r0_we,
+  d2l_o1_i0_r0_re,
+  d2l_o1_i0_r1_w,
+  d2l_o1_i0_r1_we,
+  d2l_o1_i0_r1_re,
+  d2l_o1_i1_r0_w,
+  d2l_o1_i1_r0_we,
+  d2l_o1_i1_r0_re,
+  d2l_o1_i1_r1_w,
+  d2l_o1_i1_r1_we,
+  d2l_o1_i1_r1_re,
+  d2l_o2_i0_r0_w,
+  d2l_o2_i0_r0_we,
+  d2l_o2_i0_r0_re,
+  d2l_o2_i0_r1_w,
+  d2l_o2_i0_r1_we,
+  d2l_o2_i0_r1_re,
+  d2l_o2_i1_r0_w,
+  d2l_o2_i1_r0_we,
+  d2l_o2_i1_r0_re,
+  d2l_o2_i1_r1_w,
+  d2l_o2_i1_r1_we,
+  d2l_o2_i1_r1_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_o0_i0_r0_r;
+  input     [31:0] l2d_o0_i0_r1_r;
+  input     [31:0] l2d_o0_i1_r0_r;
+  input     [31:0] l2d_o0_i1_r1_r;
+  input     [31:0] l2d_o1_i0_r0_r;
+  input     [31:0] l2d_o1_i0_r1_r;
+  input     [31:0] l2d_o1_i1_r0_r;
+  input     [31:0] l2d_o1_i1_r1_r;
+  input     [31:0] l2d_o2_i0_r0_r;
+  input     [31:0] l2d_o2_i0_r1_r;
+  input     [31:0] l2d_o2_i1_r0_r;
+  input     [31:0] l2d_o2_i1_r1_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_o0_i0_r0_w;
+  output    d2l_o0_i0_r0_we;
+  output    d2l_o0_i0_r0_re;
+  output     [31:0] d2l_o0_i0_r1_w;
+  output    d2l_o0_i0_r1_we;
+  output    d2l_o0_i0_r1_re;
+  output     [31:0] d2l_o0_i1_r0_w;
+  output    d2l_o0_i1_r0_we;
+  output    d2l_o0_i1_r0_re;
+  output     [31:0] d2l_o0_i1_r1_w;
+  output    d2l_o0_i1_r1_we;
+  output    d2l_o0_i1_r1_re;
+  output     [31:0] d2l_o1_i0_r0_w;
+  output    d2l_o1_i0_r0_we;
+  output    d2l_o1_i0_r0_re;
+  output     [31:0] d2l_o1_i0_r1_w;
+  output    d2l_o1_i0_r1_we;
+  output    d2l_o1_i0_r1_re;
+  output     [31:0] d2l_o1_i1_r0_w;
+  output    d2l_o1_i1_r0_we;
+  output    d2l_o1_i1_r0_re;
+  output     [31:0] d2l_o1_i1_r1_w;
+  output    d2l_o1_i1_r1_we;
+  output    d2l_o1_i1_r1_re;
+  output     [31:0] d2l_o2_i0_r0_w;
+  output    d2l_o2_i0_r0_we;
+  output    d2l_o2_i0_r0_re;
+  output     [31:0] d2l_o2_i0_r1_w;
+  output    d2l_o2_i0_r1_we;
+  output    d2l_o2_i0_r1_re;
+  output     [31:0] d2l_o2_i1_r0_w;
+  output    d2l_o2_i1_r0_we;
+  output    d2l_o2_i1_r0_re;
+  output     [31:0] d2l_o2_i1_r1_w;
+  output    d2l_o2_i1_r1_we;
+  output    d2l_o2_i1_r1_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [5:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_o0_i0_r0_w;
+  logic  d2l_o0_i0_r0_we;
+  logic  d2l_o0_i0_r0_re;
+  logic   [31:0] d2l_o0_i0_r1_w;
+  logic  d2l_o0_i0_r1_we;
+  logic  d2l_o0_i0_r1_re;
+  logic   [31:0] d2l_o0_i1_r0_w;
+  logic  d2l_o0_i1_r0_we;
+  logic  d2l_o0_i1_r0_re;
+  logic   [31:0] d2l_o0_i1_r1_w;
+  logic  d2l_o0_i1_r1_we;
+  logic  d2l_o0_i1_r1_re;
+  logic   [31:0] d2l_o1_i0_r0_w;
+  logic  d2l_o1_i0_r0_we;
+  logic  d2l_o1_i0_r0_re;
+  logic   [31:0] d2l_o1_i0_r1_w;
+  logic  d2l_o1_i0_r1_we;
+  logic  d2l_o1_i0_r1_re;
+  logic   [31:0] d2l_o1_i1_r0_w;
+  logic  d2l_o1_i1_r0_we;
+  logic  d2l_o1_i1_r0_re;
+  logic   [31:0] d2l_o1_i1_r1_w;
+  logic  d2l_o1_i1_r1_we;
+  logic  d2l_o1_i1_r1_re;
+  logic   [31:0] d2l_o2_i0_r0_w;
+  logic  d2l_o2_i0_r0_we;
+  logic  d2l_o2_i0_r0_re;
+  logic   [31:0] d2l_o2_i0_r1_w;
+  logic  d2l_o2_i0_r1_we;
+  logic  d2l_o2_i0_r1_re;
+  logic   [31:0] d2l_o2_i1_r0_w;
+  logic  d2l_o2_i1_r0_we;
+  logic  d2l_o2_i1_r0_re;
+  logic   [31:0] d2l_o2_i1_r1_w;
+  logic  d2l_o2_i1_r1_we;
+  logic  d2l_o2_i1_r1_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [5:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [5:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_o0_i0_r0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o0_i0_r0_we = 1'b0;
+    d2l_o0_i0_r0_re = 1'b0;
+    d2l_o0_i0_r1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o0_i0_r1_we = 1'b0;
+    d2l_o0_i0_r1_re = 1'b0;
+    d2l_o0_i1_r0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o0_i1_r0_we = 1'b0;
+    d2l_o0_i1_r0_re = 1'b0;
+    d2l_o0_i1_r1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o0_i1_r1_we = 1'b0;
+    d2l_o0_i1_r1_re = 1'b0;
+    d2l_o1_i0_r0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o1_i0_r0_we = 1'b0;
+    d2l_o1_i0_r0_re = 1'b0;
+    d2l_o1_i0_r1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o1_i0_r1_we = 1'b0;
+    d2l_o1_i0_r1_re = 1'b0;
+    d2l_o1_i1_r0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o1_i1_r0_we = 1'b0;
+    d2l_o1_i1_r0_re = 1'b0;
+    d2l_o1_i1_r1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o1_i1_r1_we = 1'b0;
+    d2l_o1_i1_r1_re = 1'b0;
+    d2l_o2_i0_r0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o2_i0_r0_we = 1'b0;
+    d2l_o2_i0_r0_re = 1'b0;
+    d2l_o2_i0_r1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o2_i0_r1_we = 1'b0;
+    d2l_o2_i0_r1_re = 1'b0;
+    d2l_o2_i1_r0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o2_i1_r0_we = 1'b0;
+    d2l_o2_i1_r0_re = 1'b0;
+    d2l_o2_i1_r1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_o2_i1_r1_we = 1'b0;
+    d2l_o2_i1_r1_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: o0.i0.r0     Address: 0x0     External: false
+    4'b0000:
+      begin
+        d2l_o0_i0_r0_we = pio_write_active & ~dec_pio_ack;
+        d2l_o0_i0_r0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o0_i0_r0_r;
+      end
+    //  Register: o0.i0.r1     Address: 0x4     External: false
+    4'b0001:
+      begin
+        d2l_o0_i0_r1_we = pio_write_active & ~dec_pio_ack;
+        d2l_o0_i0_r1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o0_i0_r1_r;
+      end
+    //  Register: o0.i1.r0     Address: 0x8     External: false
+    4'b0010:
+      begin
+        d2l_o0_i1_r0_we = pio_write_active & ~dec_pio_ack;
+        d2l_o0_i1_r0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o0_i1_r0_r;
+      end
+    //  Register: o0.i1.r1     Address: 0xc     External: false
+    4'b0011:
+      begin
+        d2l_o0_i1_r1_we = pio_write_active & ~dec_pio_ack;
+        d2l_o0_i1_r1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o0_i1_r1_r;
+      end
+    //  Register: o1.i0.r0     Address: 0x10     External: false
+    4'b0100:
+      begin
+        d2l_o1_i0_r0_we = pio_write_active & ~dec_pio_ack;
+        d2l_o1_i0_r0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o1_i0_r0_r;
+      end
+    //  Register: o1.i0.r1     Address: 0x14     External: false
+    4'b0101:
+      begin
+        d2l_o1_i0_r1_we = pio_write_active & ~dec_pio_ack;
+        d2l_o1_i0_r1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o1_i0_r1_r;
+      end
+    //  Register: o1.i1.r0     Address: 0x18     External: false
+    4'b0110:
+      begin
+        d2l_o1_i1_r0_we = pio_write_active & ~dec_pio_ack;
+        d2l_o1_i1_r0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o1_i1_r0_r;
+      end
+    //  Register: o1.i1.r1     Address: 0x1c     External: false
+    4'b0111:
+      begin
+        d2l_o1_i1_r1_we = pio_write_active & ~dec_pio_ack;
+        d2l_o1_i1_r1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o1_i1_r1_r;
+      end
+    //  Register: o2.i0.r0     Address: 0x20     External: false
+    4'b1000:
+      begin
+        d2l_o2_i0_r0_we = pio_write_active & ~dec_pio_ack;
+        d2l_o2_i0_r0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o2_i0_r0_r;
+      end
+    //  Register: o2.i0.r1     Address: 0x24     External: false
+    4'b1001:
+      begin
+        d2l_o2_i0_r1_we = pio_write_active & ~dec_pio_ack;
+        d2l_o2_i0_r1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o2_i0_r1_r;
+      end
+    //  Register: o2.i1.r0     Address: 0x28     External: false
+    4'b1010:
+      begin
+        d2l_o2_i1_r0_we = pio_write_active & ~dec_pio_ack;
+        d2l_o2_i1_r0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o2_i1_r0_r;
+      end
+    //  Register: o2.i1.r1     Address: 0x2c     External: false
+    4'b1011:
+      begin
+        d2l_o2_i1_r1_we = pio_write_active & ~dec_pio_ack;
+        d2l_o2_i1_r1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_o2_i1_r1_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_pio
+//
+module top_pio
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_o0_i0_r0_a_r,
+  l2h_o0_i0_r0_b_r,
+  l2h_o0_i0_r1_a_r,
+  l2h_o0_i0_r1_b_r,
+  l2h_o0_i1_r0_a_r,
+  l2h_o0_i1_r0_b_r,
+  l2h_o0_i1_r1_a_r,
+  l2h_o0_i1_r1_b_r,
+  l2h_o1_i0_r0_a_r,
+  l2h_o1_i0_r0_b_r,
+  l2h_o1_i0_r1_a_r,
+  l2h_o1_i0_r1_b_r,
+  l2h_o1_i1_r0_a_r,
+  l2h_o1_i1_r0_b_r,
+  l2h_o1_i1_r1_a_r,
+  l2h_o1_i1_r1_b_r,
+  l2h_o2_i0_r0_a_r,
+  l2h_o2_i0_r0_b_r,
+  l2h_o2_i0_r1_a_r,
+  l2h_o2_i0_r1_b_r,
+  l2h_o2_i1_r0_a_r,
+  l2h_o2_i1_r0_b_r,
+  l2h_o2_i1_r1_a_r,
+  l2h_o2_i1_r1_b_r,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [3:0] l2h_o0_i0_r0_a_r;
+  output    l2h_o0_i0_r0_b_r;
+  output     [3:0] l2h_o0_i0_r1_a_r;
+  output    l2h_o0_i0_r1_b_r;
+  output     [3:0] l2h_o0_i1_r0_a_r;
+  output    l2h_o0_i1_r0_b_r;
+  output     [3:0] l2h_o0_i1_r1_a_r;
+  output    l2h_o0_i1_r1_b_r;
+  output     [3:0] l2h_o1_i0_r0_a_r;
+  output    l2h_o1_i0_r0_b_r;
+  output     [3:0] l2h_o1_i0_r1_a_r;
+  output    l2h_o1_i0_r1_b_r;
+  output     [3:0] l2h_o1_i1_r0_a_r;
+  output    l2h_o1_i1_r0_b_r;
+  output     [3:0] l2h_o1_i1_r1_a_r;
+  output    l2h_o1_i1_r1_b_r;
+  output     [3:0] l2h_o2_i0_r0_a_r;
+  output    l2h_o2_i0_r0_b_r;
+  output     [3:0] l2h_o2_i0_r1_a_r;
+  output    l2h_o2_i0_r1_b_r;
+  output     [3:0] l2h_o2_i1_r0_a_r;
+  output    l2h_o2_i1_r0_b_r;
+  output     [7:0] l2h_o2_i1_r1_a_r;
+  output    l2h_o2_i1_r1_b_r;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_o0_i0_r0_w;
+  logic  d2l_o0_i0_r0_we;
+  logic  d2l_o0_i0_r0_re;
+  logic   [31:0] d2l_o0_i0_r1_w;
+  logic  d2l_o0_i0_r1_we;
+  logic  d2l_o0_i0_r1_re;
+  logic   [31:0] d2l_o0_i1_r0_w;
+  logic  d2l_o0_i1_r0_we;
+  logic  d2l_o0_i1_r0_re;
+  logic   [31:0] d2l_o0_i1_r1_w;
+  logic  d2l_o0_i1_r1_we;
+  logic  d2l_o0_i1_r1_re;
+  logic   [31:0] d2l_o1_i0_r0_w;
+  logic  d2l_o1_i0_r0_we;
+  logic  d2l_o1_i0_r0_re;
+  logic   [31:0] d2l_o1_i0_r1_w;
+  logic  d2l_o1_i0_r1_we;
+  logic  d2l_o1_i0_r1_re;
+  logic   [31:0] d2l_o1_i1_r0_w;
+  logic  d2l_o1_i1_r0_we;
+  logic  d2l_o1_i1_r0_re;
+  logic   [31:0] d2l_o1_i1_r1_w;
+  logic  d2l_o1_i1_r1_we;
+  logic  d2l_o1_i1_r1_re;
+  logic   [31:0] d2l_o2_i0_r0_w;
+  logic  d2l_o2_i0_r0_we;
+  logic  d2l_o2_i0_r0_re;
+  logic   [31:0] d2l_o2_i0_r1_w;
+  logic  d2l_o2_i0_r1_we;
+  logic  d2l_o2_i0_r1_re;
+  logic   [31:0] d2l_o2_i1_r0_w;
+  logic  d2l_o2_i1_r0_we;
+  logic  d2l_o2_i1_r0_re;
+  logic   [31:0] d2l_o2_i1_r1_w;
+  logic  d2l_o2_i1_r1_we;
+  logic  d2l_o2_i1_r1_re;
+  logic   [31:0] l2d_o0_i0_r0_r;
+  logic   [31:0] l2d_o0_i0_r1_r;
+  logic   [31:0] l2d_o0_i1_r0_r;
+  logic   [31:0] l2d_o0_i1_r1_r;
+  logic   [31:0] l2d_o1_i0_r0_r;
+  logic   [31:0] l2d_o1_i0_r1_r;
+  logic   [31:0] l2d_o1_i1_r0_r;
+  logic   [31:0] l2d_o1_i1_r1_r;
+  logic   [31:0] l2d_o2_i0_r0_r;
+  logic   [31:0] l2d_o2_i0_r1_r;
+  logic   [31:0] l2d_o2_i1_r0_r;
+  logic   [31:0] l2d_o2_i1_r1_r;
+  
+  
+  top_jrdl_decode pio_decode ( .* );
+    
+  top_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
+//
+//---------- interface lh_leaf_r_intf
+//
+interface lh_leaf_r_intf;
+  logic  [3:0] a_r;
+  logic b_r;
+endinterface
+
+//
+//---------- interface lh_inner_rf_intf
+//
+interface lh_inner_rf_intf;
+  lh_leaf_r_intf r0();
+  lh_leaf_r_intf r1();
+endinterface
+
+//
+//---------- interface lh_outer_rf_intf
+//
+interface lh_outer_rf_intf;
+  lh_inner_rf_intf i0();
+  lh_inner_rf_intf i1();
+endinterface
+
+//
+//---------- interface lh_wide_r_intf
+//
+interface lh_wide_r_intf;
+  logic  [7:0] a_r;
+  logic b_r;
+endinterface
+
+//
+//---------- interface lh_wide_inner_rf_intf
+//
+interface lh_wide_inner_rf_intf;
+  lh_leaf_r_intf r0();
+  lh_wide_r_intf r1();
+endinterface
+
+//
+//---------- interface lh_wide_outer_rf_intf
+//
+interface lh_wide_outer_rf_intf;
+  lh_inner_rf_intf i0();
+  lh_wide_inner_rf_intf i1();
+endinterface
+
+//
+//---------- module top_pio_iwrap
+//
+module top_pio_iwrap
+    (
+      input    clk,
+      input    reset,
+      lh_outer_rf_intf lh_o0,
+      lh_outer_rf_intf lh_o1,
+      lh_wide_outer_rf_intf lh_o2,
+      input     [31:0] leaf_dec_wr_data,
+      input     [39:0] leaf_dec_addr,
+      input    leaf_dec_block_sel,
+      input    leaf_dec_valid,
+      input    leaf_dec_wr_dvld,
+      input     [1:0] leaf_dec_cycle,
+      input     [2:0] leaf_dec_wr_width,
+    
+      output     [31:0] dec_leaf_rd_data,
+      output    dec_leaf_ack,
+      output    dec_leaf_nack,
+      output    dec_leaf_accept,
+      output    dec_leaf_reject,
+      output    dec_leaf_retry_atomic,
+      output     [2:0] dec_leaf_data_width );
+
+  //------- wire defines
+  logic  inst_pio_clk;
+  logic  inst_pio_reset;
+  logic   [31:0] inst_pio_leaf_dec_wr_data;
+  logic   [39:0] inst_pio_leaf_dec_addr;
+  logic  inst_pio_leaf_dec_block_sel;
+  logic  inst_pio_leaf_dec_valid;
+  logic  inst_pio_leaf_dec_wr_dvld;
+  logic   [1:0] inst_pio_leaf_dec_cycle;
+  logic   [2:0] inst_pio_leaf_dec_wr_width;
+  logic   [3:0] inst_pio_l2h_o0_i0_r0_a_r;
+  logic  inst_pio_l2h_o0_i0_r0_b_r;
+  logic   [3:0] inst_pio_l2h_o0_i0_r1_a_r;
+  logic  inst_pio_l2h_o0_i0_r1_b_r;
+  logic   [3:0] inst_pio_l2h_o0_i1_r0_a_r;
+  logic  inst_pio_l2h_o0_i1_r0_b_r;
+  logic   [3:0] inst_pio_l2h_o0_i1_r1_a_r;
+  logic  inst_pio_l2h_o0_i1_r1_b_r;
+  logic   [3:0] inst_pio_l2h_o1_i0_r0_a_r;
+  logic  inst_pio_l2h_o1_i0_r0_b_r;
+  logic   [3:0] inst_pio_l2h_o1_i0_r1_a_r;
+  logic  inst_pio_l2h_o1_i0_r1_b_r;
+  logic   [3:0] inst_pio_l2h_o1_i1_r0_a_r;
+  logic  inst_pio_l2h_o1_i1_r0_b_r;
+  logic   [3:0] inst_pio_l2h_o1_i1_r1_a_r;
+  logic  inst_pio_l2h_o1_i1_r1_b_r;
+  logic   [3:0] inst_pio_l2h_o2_i0_r0_a_r;
+  logic  inst_pio_l2h_o2_i0_r0_b_r;
+  logic   [3:0] inst_pio_l2h_o2_i0_r1_a_r;
+  logic  inst_pio_l2h_o2_i0_r1_b_r;
+  logic   [3:0] inst_pio_l2h_o2_i1_r0_a_r;
+  logic  inst_pio_l2h_o2_i1_r0_b_r;
+  logic   [7:0] inst_pio_l2h_o2_i1_r1_a_r;
+  logic  inst_pio_l2h_o2_i1_r1_b_r;
+  logic   [31:0] inst_pio_dec_leaf_rd_data;
+  logic  inst_pio_dec_leaf_ack;
+  logic  inst_pio_dec_leaf_nack;
+  logic  inst_pio_dec_leaf_accept;
+  logic  inst_pio_dec_leaf_reject;
+  logic  inst_pio_dec_leaf_retry_atomic;
+  logic   [2:0] inst_pio_dec_leaf_data_width;
+  
+  
+  //------- assigns
+  assign  inst_pio_clk = clk;
+  assign  inst_pio_reset = reset;
+  assign  inst_pio_leaf_dec_wr_data = leaf_dec_wr_data;
+  assign  inst_pio_leaf_dec_addr = leaf_dec_addr;
+  assign  inst_pio_leaf_dec_block_sel = leaf_dec_block_sel;
+  assign  inst_pio_leaf_dec_valid = leaf_dec_valid;
+  assign  inst_pio_leaf_dec_wr_dvld = leaf_dec_wr_dvld;
+  assign  inst_pio_leaf_dec_cycle = leaf_dec_cycle;
+  assign  inst_pio_leaf_dec_wr_width = leaf_dec_wr_width;
+  assign  lh_o0.i0.r0.a_r = inst_pio_l2h_o0_i0_r0_a_r;
+  assign  lh_o0.i0.r0.b_r = inst_pio_l2h_o0_i0_r0_b_r;
+  assign  lh_o0.i0.r1.a_r = inst_pio_l2h_o0_i0_r1_a_r;
+  assign  lh_o0.i0.r1.b_r = inst_pio_l2h_o0_i0_r1_b_r;
+  assign  lh_o0.i1.r0.a_r = inst_pio_l2h_o0_i1_r0_a_r;
+  assign  lh_o0.i1.r0.b_r = inst_pio_l2h_o0_i1_r0_b_r;
+  assign  lh_o0.i1.r1.a_r = inst_pio_l2h_o0_i1_r1_a_r;
+  assign  lh_o0.i1.r1.b_r = inst_pio_l2h_o0_i1_r1_b_r;
+  assign  lh_o1.i0.r0.a_r = inst_pio_l2h_o1_i0_r0_a_r;
+  assign  lh_o1.i0.r0.b_r = inst_pio_l2h_o1_i0_r0_b_r;
+  assign  lh_o1.i0.r1.a_r = inst_pio_l2h_o1_i0_r1_a_r;
+  assign  lh_o1.i0.r1.b_r = inst_pio_l2h_o1_i0_r1_b_r;
+  assign  lh_o1.i1.r0.a_r = inst_pio_l2h_o1_i1_r0_a_r;
+  assign  lh_o1.i1.r0.b_r = inst_pio_l2h_o1_i1_r0_b_r;
+  assign  lh_o1.i1.r1.a_r = inst_pio_l2h_o1_i1_r1_a_r;
+  assign  lh_o1.i1.r1.b_r = inst_pio_l2h_o1_i1_r1_b_r;
+  assign  lh_o2.i0.r0.a_r = inst_pio_l2h_o2_i0_r0_a_r;
+  assign  lh_o2.i0.r0.b_r = inst_pio_l2h_o2_i0_r0_b_r;
+  assign  lh_o2.i0.r1.a_r = inst_pio_l2h_o2_i0_r1_a_r;
+  assign  lh_o2.i0.r1.b_r = inst_pio_l2h_o2_i0_r1_b_r;
+  assign  lh_o2.i1.r0.a_r = inst_pio_l2h_o2_i1_r0_a_r;
+  assign  lh_o2.i1.r0.b_r = inst_pio_l2h_o2_i1_r0_b_r;
+  assign  lh_o2.i1.r1.a_r = inst_pio_l2h_o2_i1_r1_a_r;
+  assign  lh_o2.i1.r1.b_r = inst_pio_l2h_o2_i1_r1_b_r;
+  assign  dec_leaf_rd_data = inst_pio_dec_leaf_rd_data;
+  assign  dec_leaf_ack = inst_pio_dec_leaf_ack;
+  assign  dec_leaf_nack = inst_pio_dec_leaf_nack;
+  assign  dec_leaf_accept = inst_pio_dec_leaf_accept;
+  assign  dec_leaf_reject = inst_pio_dec_leaf_reject;
+  assign  dec_leaf_retry_atomic = inst_pio_dec_leaf_retry_atomic;
+  assign  dec_leaf_data_width = inst_pio_dec_leaf_data_width;
+  
+  top_pio pio (
+    .clk(inst_pio_clk),
+    .reset(inst_pio_reset),
+    .leaf_dec_wr_data(inst_pio_leaf_dec_wr_data),
+    .leaf_dec_addr(inst_pio_leaf_dec_addr),
+    .leaf_dec_block_sel(inst_pio_leaf_dec_block_sel),
+    .leaf_dec_valid(inst_pio_leaf_dec_valid),
+    .leaf_dec_wr_dvld(inst_pio_leaf_dec_wr_dvld),
+    .leaf_dec_cycle(inst_pio_leaf_dec_cycle),
+    .leaf_dec_wr_width(inst_pio_leaf_dec_wr_width),
+    .l2h_o0_i0_r0_a_r(inst_pio_l2h_o0_i0_r0_a_r),
+    .l2h_o0_i0_r0_b_r(inst_pio_l2h_o0_i0_r0_b_r),
+    .l2h_o0_i0_r1_a_r(inst_pio_l2h_o0_i0_r1_a_r),
+    .l2h_o0_i0_r1_b_r(inst_pio_l2h_o0_i0_r1_b_r),
+    .l2h_o0_i1_r0_a_r(inst_pio_l2h_o0_i1_r0_a_r),
+    .l2h_o0_i1_r0_b_r(inst_pio_l2h_o0_i1_r0_b_r),
+    .l2h_o0_i1_r1_a_r(inst_pio_l2h_o0_i1_r1_a_r),
+    .l2h_o0_i1_r1_b_r(inst_pio_l2h_o0_i1_r1_b_r),
+    .l2h_o1_i0_r0_a_r(inst_pio_l2h_o1_i0_r0_a_r),
+    .l2h_o1_i0_r0_b_r(inst_pio_l2h_o1_i0_r0_b_r),
+    .l2h_o1_i0_r1_a_r(inst_pio_l2h_o1_i0_r1_a_r),
+    .l2h_o1_i0_r1_b_r(inst_pio_l2h_o1_i0_r1_b_r),
+    .l2h_o1_i1_r0_a_r(inst_pio_l2h_o1_i1_r0_a_r),
+    .l2h_o1_i1_r0_b_r(inst_pio_l2h_o1_i1_r0_b_r),
+    .l2h_o1_i1_r1_a_r(inst_pio_l2h_o1_i1_r1_a_r),
+    .l2h_o1_i1_r1_b_r(inst_pio_l2h_o1_i1_r1_b_r),
+    .l2h_o2_i0_r0_a_r(inst_pio_l2h_o2_i0_r0_a_r),
+    .l2h_o2_i0_r0_b_r(inst_pio_l2h_o2_i0_r0_b_r),
+    .l2h_o2_i0_r1_a_r(inst_pio_l2h_o2_i0_r1_a_r),
+    .l2h_o2_i0_r1_b_r(inst_pio_l2h_o2_i0_r1_b_r),
+    .l2h_o2_i1_r0_a_r(inst_pio_l2h_o2_i1_r0_a_r),
+    .l2h_o2_i1_r0_b_r(inst_pio_l2h_o2_i1_r0_b_r),
+    .l2h_o2_i1_r1_a_r(inst_pio_l2h_o2_i1_r1_a_r),
+    .l2h_o2_i1_r1_b_r(inst_pio_l2h_o2_i1_r1_b_r),
+    .dec_leaf_rd_data(inst_pio_dec_leaf_rd_data),
+    .dec_leaf_ack(inst_pio_dec_leaf_ack),
+    .dec_leaf_nack(inst_pio_dec_leaf_nack),
+    .dec_leaf_accept(inst_pio_dec_leaf_accept),
+    .dec_leaf_reject(inst_pio_dec_leaf_reject),
+    .dec_leaf_retry_atomic(inst_pio_dec_leaf_retry_atomic),
+    .dec_leaf_data_width(inst_pio_dec_leaf_data_width) );
+    
+endmodule
+
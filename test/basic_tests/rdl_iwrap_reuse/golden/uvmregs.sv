@@ -0,0 +1,601 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_iwrap_reuse/test.rdl
+//   Parms: ./rdl_iwrap_reuse/test.parms
+//   Date: Mon Oct 19 06:03:46 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register r0
+class reg_top_o0_i0_r0 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o0_i0_r0");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o0_i0_r0
+
+// Register r1
+class reg_top_o0_i0_r1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o0_i0_r1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o0_i0_r1
+
+// Block i0
+class block_top_o0_i0 extends uvm_reg_block_rdl;
+  rand reg_top_o0_i0_r0 r0;
+  rand reg_top_o0_i0_r1 r1;
+  
+  function new(string name = "block_top_o0_i0");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.r0 = new("r0");
+    this.r0.configure(this, null, "");
+    this.r0.set_rdl_tag("r0_");
+    this.r0.set_reg_test_info(0, 0, 0);
+    this.r0.build();
+    this.default_map.add_reg(this.r0, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.r1 = new("r1");
+    this.r1.configure(this, null, "");
+    this.r1.set_rdl_tag("r1_");
+    this.r1.set_reg_test_info(0, 0, 0);
+    this.r1.build();
+    this.default_map.add_reg(this.r1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o0_i0)
+endclass : block_top_o0_i0
+
+// Register r0
+class reg_top_o0_i1_r0 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o0_i1_r0");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o0_i1_r0
+
+// Register r1
+class reg_top_o0_i1_r1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o0_i1_r1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o0_i1_r1
+
+// Block i1
+class block_top_o0_i1 extends uvm_reg_block_rdl;
+  rand reg_top_o0_i1_r0 r0;
+  rand reg_top_o0_i1_r1 r1;
+  
+  function new(string name = "block_top_o0_i1");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.r0 = new("r0");
+    this.r0.configure(this, null, "");
+    this.r0.set_rdl_tag("r0_");
+    this.r0.set_reg_test_info(0, 0, 0);
+    this.r0.build();
+    this.default_map.add_reg(this.r0, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.r1 = new("r1");
+    this.r1.configure(this, null, "");
+    this.r1.set_rdl_tag("r1_");
+    this.r1.set_reg_test_info(0, 0, 0);
+    this.r1.build();
+    this.default_map.add_reg(this.r1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o0_i1)
+endclass : block_top_o0_i1
+
+// Block o0
+class block_top_o0 extends uvm_reg_block_rdl;
+  rand block_top_o0_i0 i0;
+  rand block_top_o0_i1 i1;
+  
+  function new(string name = "block_top_o0");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.i0 = block_top_o0_i0::type_id::create("i0",, get_full_name());
+    this.i0.configure(this, "");
+    this.i0.set_rdl_tag("i0_");
+    this.i0.build();
+    this.default_map.add_submap(this.i0.default_map, `UVM_REG_ADDR_WIDTH'h0);
+    this.i1 = block_top_o0_i1::type_id::create("i1",, get_full_name());
+    this.i1.configure(this, "");
+    this.i1.set_rdl_tag("i1_");
+    this.i1.build();
+    this.default_map.add_submap(this.i1.default_map, `UVM_REG_ADDR_WIDTH'h8);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o0)
+endclass : block_top_o0
+
+// Register r0
+class reg_top_o1_i0_r0 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o1_i0_r0");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o1_i0_r0
+
+// Register r1
+class reg_top_o1_i0_r1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o1_i0_r1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o1_i0_r1
+
+// Block i0
+class block_top_o1_i0 extends uvm_reg_block_rdl;
+  rand reg_top_o1_i0_r0 r0;
+  rand reg_top_o1_i0_r1 r1;
+  
+  function new(string name = "block_top_o1_i0");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.r0 = new("r0");
+    this.r0.configure(this, null, "");
+    this.r0.set_rdl_tag("r0_");
+    this.r0.set_reg_test_info(0, 0, 0);
+    this.r0.build();
+    this.default_map.add_reg(this.r0, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.r1 = new("r1");
+    this.r1.configure(this, null, "");
+    this.r1.set_rdl_tag("r1_");
+    this.r1.set_reg_test_info(0, 0, 0);
+    this.r1.build();
+    this.default_map.add_reg(this.r1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o1_i0)
+endclass : block_top_o1_i0
+
+// Register r0
+class reg_top_o1_i1_r0 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o1_i1_r0");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o1_i1_r0
+
+// Register r1
+class reg_top_o1_i1_r1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o1_i1_r1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o1_i1_r1
+
+// Block i1
+class block_top_o1_i1 extends uvm_reg_block_rdl;
+  rand reg_top_o1_i1_r0 r0;
+  rand reg_top_o1_i1_r1 r1;
+  
+  function new(string name = "block_top_o1_i1");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.r0 = new("r0");
+    this.r0.configure(this, null, "");
+    this.r0.set_rdl_tag("r0_");
+    this.r0.set_reg_test_info(0, 0, 0);
+    this.r0.build();
+    this.default_map.add_reg(this.r0, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.r1 = new("r1");
+    this.r1.configure(this, null, "");
+    this.r1.set_rdl_tag("r1_");
+    this.r1.set_reg_test_info(0, 0, 0);
+    this.r1.build();
+    this.default_map.add_reg(this.r1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o1_i1)
+endclass : block_top_o1_i1
+
+// Block o1
+class block_top_o1 extends uvm_reg_block_rdl;
+  rand block_top_o1_i0 i0;
+  rand block_top_o1_i1 i1;
+  
+  function new(string name = "block_top_o1");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.i0 = block_top_o1_i0::type_id::create("i0",, get_full_name());
+    this.i0.configure(this, "");
+    this.i0.set_rdl_tag("i0_");
+    this.i0.build();
+    this.default_map.add_submap(this.i0.default_map, `UVM_REG_ADDR_WIDTH'h0);
+    this.i1 = block_top_o1_i1::type_id::create("i1",, get_full_name());
+    this.i1.configure(this, "");
+    this.i1.set_rdl_tag("i1_");
+    this.i1.build();
+    this.default_map.add_submap(this.i1.default_map, `UVM_REG_ADDR_WIDTH'h8);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o1)
+endclass : block_top_o1
+
+// Register r0
+class reg_top_o2_i0_r0 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o2_i0_r0");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o2_i0_r0
+
+// Register r1
+class reg_top_o2_i0_r1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o2_i0_r1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o2_i0_r1
+
+// Block i0
+class block_top_o2_i0 extends uvm_reg_block_rdl;
+  rand reg_top_o2_i0_r0 r0;
+  rand reg_top_o2_i0_r1 r1;
+  
+  function new(string name = "block_top_o2_i0");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.r0 = new("r0");
+    this.r0.configure(this, null, "");
+    this.r0.set_rdl_tag("r0_");
+    this.r0.set_reg_test_info(0, 0, 0);
+    this.r0.build();
+    this.default_map.add_reg(this.r0, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.r1 = new("r1");
+    this.r1.configure(this, null, "");
+    this.r1.set_rdl_tag("r1_");
+    this.r1.set_reg_test_info(0, 0, 0);
+    this.r1.build();
+    this.default_map.add_reg(this.r1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o2_i0)
+endclass : block_top_o2_i0
+
+// Register r0
+class reg_top_o2_i1_r0 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o2_i1_r0");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 4, 0, "RW", 0, 4'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 4, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 4);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 4, 1);
+  endfunction: build
+  
+endclass : reg_top_o2_i1_r0
+
+// Register r1
+class reg_top_o2_i1_r1 extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl a;
+  rand uvm_reg_field_rdl b;
+  
+  function new(string name = "reg_top_o2_i1_r1");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.a = new("a");
+    this.a.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.a.configure(this, 8, 0, "RW", 0, 8'h0, 1, 1, 0);
+    this.b = new("b");
+    this.b.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.b.configure(this, 1, 8, "RW", 0, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "a"}, 0, 8);
+    add_hdl_path_slice({rdl_reg_name, "b"}, 8, 1);
+  endfunction: build
+  
+endclass : reg_top_o2_i1_r1
+
+// Block i1
+class block_top_o2_i1 extends uvm_reg_block_rdl;
+  rand reg_top_o2_i1_r0 r0;
+  rand reg_top_o2_i1_r1 r1;
+  
+  function new(string name = "block_top_o2_i1");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.r0 = new("r0");
+    this.r0.configure(this, null, "");
+    this.r0.set_rdl_tag("r0_");
+    this.r0.set_reg_test_info(0, 0, 0);
+    this.r0.build();
+    this.default_map.add_reg(this.r0, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.r1 = new("r1");
+    this.r1.configure(this, null, "");
+    this.r1.set_rdl_tag("r1_");
+    this.r1.set_reg_test_info(0, 0, 0);
+    this.r1.build();
+    this.default_map.add_reg(this.r1, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o2_i1)
+endclass : block_top_o2_i1
+
+// Block o2
+class block_top_o2 extends uvm_reg_block_rdl;
+  rand block_top_o2_i0 i0;
+  rand block_top_o2_i1 i1;
+  
+  function new(string name = "block_top_o2");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.i0 = block_top_o2_i0::type_id::create("i0",, get_full_name());
+    this.i0.configure(this, "");
+    this.i0.set_rdl_tag("i0_");
+    this.i0.build();
+    this.default_map.add_submap(this.i0.default_map, `UVM_REG_ADDR_WIDTH'h0);
+    this.i1 = block_top_o2_i1::type_id::create("i1",, get_full_name());
+    this.i1.configure(this, "");
+    this.i1.set_rdl_tag("i1_");
+    this.i1.build();
+    this.default_map.add_submap(this.i1.default_map, `UVM_REG_ADDR_WIDTH'h8);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_o2)
+endclass : block_top_o2
+
+// Base block
+class block_top extends uvm_reg_block_rdl;
+  rand block_top_o0 o0;
+  rand block_top_o1 o1;
+  rand block_top_o2 o2;
+  
+  function new(string name = "block_top");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`TOP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.o0 = block_top_o0::type_id::create("o0",, get_full_name());
+    this.o0.configure(this, "");
+    this.o0.set_rdl_tag("o0_");
+    this.o0.build();
+    this.default_map.add_submap(this.o0.default_map, `UVM_REG_ADDR_WIDTH'h0);
+    this.o1 = block_top_o1::type_id::create("o1",, get_full_name());
+    this.o1.configure(this, "");
+    this.o1.set_rdl_tag("o1_");
+    this.o1.build();
+    this.default_map.add_submap(this.o1.default_map, `UVM_REG_ADDR_WIDTH'h10);
+    this.o2 = block_top_o2::type_id::create("o2",, get_full_name());
+    this.o2.configure(this, "");
+    this.o2.set_rdl_tag("o2_");
+    this.o2.build();
+    this.default_map.add_submap(this.o2.default_map, `UVM_REG_ADDR_WIDTH'h20);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_top)
+endclass : block_top
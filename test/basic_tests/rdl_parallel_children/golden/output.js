@@ -0,0 +1,103 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_parallel_children/test.rdl
+ *   Parms: ./rdl_parallel_children/test.parms
+ *   Date: Mon Oct 19 04:32:15 UTC 2026
+ */
+
+register_set top "Top map" {
+
+  address = 0x0;
+  register_width = 32;
+  register top_config "Config reg" {
+    address = 0x0;
+    nop[16];
+    integer cfg_field[16] "Config bits" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+  };
+  
+  register_set a_child "Child map a" {
+    address = 0x100;
+    
+    register a_config "Config reg" {
+      address = 0x0;
+      category = { CHILD_A_CONFIG };
+      nop[16];
+      integer cfg_field[16] "Config bits" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register a_state "State reg" {
+      address = 0x4;
+      access_mode = READ_ONLY;
+      category = { STATE, CHILD_A_STATE };
+      nop[16];
+      integer state_field[16] "State bits" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x8;
+  };
+  
+  register_set b_child "Child map b" {
+    address = 0x200;
+    
+    register b_config "Config reg" {
+      address = 0x0;
+      category = { CHILD_B_CONFIG };
+      nop[16];
+      integer cfg_field[16] "Config bits" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register b_state "State reg" {
+      address = 0x4;
+      access_mode = READ_ONLY;
+      category = { STATE, CHILD_A_STATE };
+      nop[16];
+      integer state_field[16] "State bits" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x8;
+  };
+  
+  register_set b_child2 "Child map b" {
+    address = 0x300;
+    
+    register b_config "Config reg" {
+      address = 0x0;
+      category = { CHILD_B_CONFIG };
+      nop[16];
+      integer cfg_field[16] "Config bits" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register b_state "State reg" {
+      address = 0x4;
+      access_mode = READ_ONLY;
+      category = { STATE, CHILD_A_STATE };
+      nop[16];
+      integer state_field[16] "State bits" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x8;
+  };
+  
+  register_set_size = 0x308;
+};
+
@@ -0,0 +1,1489 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_parallel_children/test.rdl
+//   Parms: ./rdl_parallel_children/test.parms
+//   Date: Mon Oct 19 04:32:15 UTC 2026
+//
+
+//
+//---------- module top_jrdl_logic
+//
+module top_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_top_config_w,
+  d2l_top_config_we,
+  d2l_top_config_re,
+
+  l2d_top_config_r,
+  l2h_top_config_cfg_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_top_config_w;
+  input    d2l_top_config_we;
+  input    d2l_top_config_re;
+
+  //------- outputs
+  output     [31:0] l2d_top_config_r;
+  output     [15:0] l2h_top_config_cfg_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_top_config_cfg_field;
+  logic   [15:0] reg_top_config_cfg_field_next;
+  logic   [15:0] l2h_top_config_cfg_field_r;
+  logic   [31:0] l2d_top_config_r;
+  
+  
+  //------- combinatorial assigns for top_config
+  always_comb begin
+    reg_top_config_cfg_field_next = rg_top_config_cfg_field;
+    l2h_top_config_cfg_field_r = rg_top_config_cfg_field;
+    if (d2l_top_config_we) reg_top_config_cfg_field_next = d2l_top_config_w [15:0] ;
+  end
+  
+  //------- reg assigns for top_config
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_top_config_cfg_field <= #1 16'h0;
+    end
+    else begin
+      rg_top_config_cfg_field <= #1  reg_top_config_cfg_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for top_config (pio read data)
+  always_comb begin
+    l2d_top_config_r = 32'b0;
+    l2d_top_config_r [15:0]  = rg_top_config_cfg_field;
+  end
+  
+endmodule
+
+//
+//---------- module top_jrdl_decode
+//
+module top_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_top_config_r,
+  h2d_a_child_r,
+  h2d_a_child_ack,
+  h2d_a_child_nack,
+  h2d_b_child_r,
+  h2d_b_child_ack,
+  h2d_b_child_nack,
+  h2d_b_child2_r,
+  h2d_b_child2_ack,
+  h2d_b_child2_nack,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_top_config_w,
+  d2l_top_config_we,
+  d2l_top_config_re,
+  d2h_a_child_w,
+  d2h_a_child_we,
+  d2h_a_child_re,
+  d2h_a_child_addr,
+  d2h_b_child_w,
+  d2h_b_child_we,
+  d2h_b_child_re,
+  d2h_b_child_addr,
+  d2h_b_child2_w,
+  d2h_b_child2_we,
+  d2h_b_child2_re,
+  d2h_b_child2_addr );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_top_config_r;
+  input     [31:0] h2d_a_child_r;
+  input    h2d_a_child_ack;
+  input    h2d_a_child_nack;
+  input     [31:0] h2d_b_child_r;
+  input    h2d_b_child_ack;
+  input    h2d_b_child_nack;
+  input     [31:0] h2d_b_child2_r;
+  input    h2d_b_child2_ack;
+  input    h2d_b_child2_nack;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_top_config_w;
+  output    d2l_top_config_we;
+  output    d2l_top_config_re;
+  output     [31:0] d2h_a_child_w;
+  output    d2h_a_child_we;
+  output    d2h_a_child_re;
+  output    d2h_a_child_addr;
+  output     [31:0] d2h_b_child_w;
+  output    d2h_b_child_we;
+  output    d2h_b_child_re;
+  output    d2h_b_child_addr;
+  output     [31:0] d2h_b_child2_w;
+  output    d2h_b_child2_we;
+  output    d2h_b_child2_re;
+  output    d2h_b_child2_addr;
+
+
+  //------- wire defines
+  logic   [31:0] h2d_a_child_r_ex;
+  logic  h2d_a_child_ack_ex;
+  logic  h2d_a_child_nack_ex;
+  logic   [31:0] h2d_b_child_r_ex;
+  logic  h2d_b_child_ack_ex;
+  logic  h2d_b_child_nack_ex;
+  logic   [31:0] h2d_b_child2_r_ex;
+  logic  h2d_b_child2_ack_ex;
+  logic  h2d_b_child2_nack_ex;
+  logic   [31:0] pio_dec_write_data;
+  logic   [9:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_top_config_w;
+  logic  d2l_top_config_we;
+  logic  d2l_top_config_re;
+  logic   [31:0] d2h_a_child_w_ex;
+  logic  d2h_a_child_we_ex;
+  logic  d2h_a_child_re_ex;
+  logic   [31:0] d2h_a_child_w_next;
+  logic  d2h_a_child_we_next;
+  logic  d2h_a_child_re_next;
+  logic  d2h_a_child_addr_ex;
+  logic  d2h_a_child_addr_next;
+  logic   [31:0] d2h_b_child_w_ex;
+  logic  d2h_b_child_we_ex;
+  logic  d2h_b_child_re_ex;
+  logic   [31:0] d2h_b_child_w_next;
+  logic  d2h_b_child_we_next;
+  logic  d2h_b_child_re_next;
+  logic  d2h_b_child_addr_ex;
+  logic  d2h_b_child_addr_next;
+  logic   [31:0] d2h_b_child2_w_ex;
+  logic  d2h_b_child2_we_ex;
+  logic  d2h_b_child2_re_ex;
+  logic   [31:0] d2h_b_child2_w_next;
+  logic  d2h_b_child2_we_next;
+  logic  d2h_b_child2_re_next;
+  logic  d2h_b_child2_addr_ex;
+  logic  d2h_b_child2_addr_next;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [9:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  d2h_a_child_we = d2h_a_child_we_ex;
+  assign  d2h_a_child_w = d2h_a_child_w_ex;
+  assign  d2h_a_child_re = d2h_a_child_re_ex;
+  assign  h2d_a_child_r_ex = h2d_a_child_r;
+  assign  h2d_a_child_ack_ex = h2d_a_child_ack;
+  assign  h2d_a_child_nack_ex = h2d_a_child_nack;
+  assign  d2h_a_child_addr = d2h_a_child_addr_ex;
+  assign  d2h_b_child_we = d2h_b_child_we_ex;
+  assign  d2h_b_child_w = d2h_b_child_w_ex;
+  assign  d2h_b_child_re = d2h_b_child_re_ex;
+  assign  h2d_b_child_r_ex = h2d_b_child_r;
+  assign  h2d_b_child_ack_ex = h2d_b_child_ack;
+  assign  h2d_b_child_nack_ex = h2d_b_child_nack;
+  assign  d2h_b_child_addr = d2h_b_child_addr_ex;
+  assign  d2h_b_child2_we = d2h_b_child2_we_ex;
+  assign  d2h_b_child2_w = d2h_b_child2_w_ex;
+  assign  d2h_b_child2_re = d2h_b_child2_re_ex;
+  assign  h2d_b_child2_r_ex = h2d_b_child2_r;
+  assign  h2d_b_child2_ack_ex = h2d_b_child2_ack;
+  assign  h2d_b_child2_nack_ex = h2d_b_child2_nack;
+  assign  d2h_b_child2_addr = d2h_b_child2_addr_ex;
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [9:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- reg assigns for external i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      d2h_a_child_we_ex <= #1  1'b0;
+      d2h_a_child_re_ex <= #1  1'b0;
+      d2h_b_child_we_ex <= #1  1'b0;
+      d2h_b_child_re_ex <= #1  1'b0;
+      d2h_b_child2_we_ex <= #1  1'b0;
+      d2h_b_child2_re_ex <= #1  1'b0;
+    end
+    else begin
+      d2h_a_child_w_ex <= #1  d2h_a_child_w_next;
+      d2h_a_child_we_ex <= #1  d2h_a_child_we_next & ~h2d_a_child_ack_ex & ~h2d_a_child_nack_ex;
+      d2h_a_child_re_ex <= #1  d2h_a_child_re_next & ~h2d_a_child_ack_ex & ~h2d_a_child_nack_ex;
+      d2h_a_child_addr_ex <= #1  d2h_a_child_addr_next;
+      d2h_b_child_w_ex <= #1  d2h_b_child_w_next;
+      d2h_b_child_we_ex <= #1  d2h_b_child_we_next & ~h2d_b_child_ack_ex & ~h2d_b_child_nack_ex;
+      d2h_b_child_re_ex <= #1  d2h_b_child_re_next & ~h2d_b_child_ack_ex & ~h2d_b_child_nack_ex;
+      d2h_b_child_addr_ex <= #1  d2h_b_child_addr_next;
+      d2h_b_child2_w_ex <= #1  d2h_b_child2_w_next;
+      d2h_b_child2_we_ex <= #1  d2h_b_child2_we_next & ~h2d_b_child2_ack_ex & ~h2d_b_child2_nack_ex;
+      d2h_b_child2_re_ex <= #1  d2h_b_child2_re_next & ~h2d_b_child2_ack_ex & ~h2d_b_child2_nack_ex;
+      d2h_b_child2_addr_ex <= #1  d2h_b_child2_addr_next;
+    end
+  end
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_top_config_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_top_config_we = 1'b0;
+    d2l_top_config_re = 1'b0;
+    d2h_a_child_w_next = pio_dec_write_data_d1 [31:0] ;
+    d2h_a_child_we_next = 1'b0;
+    d2h_a_child_re_next = 1'b0;
+    d2h_a_child_addr_next = pio_dec_address_d1 ;
+    d2h_b_child_w_next = pio_dec_write_data_d1 [31:0] ;
+    d2h_b_child_we_next = 1'b0;
+    d2h_b_child_re_next = 1'b0;
+    d2h_b_child_addr_next = pio_dec_address_d1 ;
+    d2h_b_child2_w_next = pio_dec_write_data_d1 [31:0] ;
+    d2h_b_child2_we_next = 1'b0;
+    d2h_b_child2_re_next = 1'b0;
+    d2h_b_child2_addr_next = pio_dec_address_d1 ;
+    
+    casez(pio_dec_address_d1)
+    //  Register: top_config     Address: 0x0     External: false
+    8'b00000000:
+      begin
+        d2l_top_config_we = pio_write_active & ~dec_pio_ack;
+        d2l_top_config_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_top_config_r;
+      end
+    //  Register: a_child     Address: 0x100     External: true
+    8'b0100000?:
+      begin
+        d2h_a_child_we_next = pio_write_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_ack_next = h2d_a_child_ack_ex;
+        external_transaction_active = pio_read_active | pio_write_active;
+        d2h_a_child_re_next = pio_read_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_nack_next = h2d_a_child_nack_ex;
+        dec_pio_read_data_next  [31:0]  = h2d_a_child_r_ex;
+      end
+    //  Register: b_child     Address: 0x200     External: true
+    8'b1000000?:
+      begin
+        d2h_b_child_we_next = pio_write_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_ack_next = h2d_b_child_ack_ex;
+        external_transaction_active = pio_read_active | pio_write_active;
+        d2h_b_child_re_next = pio_read_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_nack_next = h2d_b_child_nack_ex;
+        dec_pio_read_data_next  [31:0]  = h2d_b_child_r_ex;
+      end
+    //  Register: b_child2     Address: 0x300     External: true
+    8'b1100000?:
+      begin
+        d2h_b_child2_we_next = pio_write_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_ack_next = h2d_b_child2_ack_ex;
+        external_transaction_active = pio_read_active | pio_write_active;
+        d2h_b_child2_re_next = pio_read_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_nack_next = h2d_b_child2_nack_ex;
+        dec_pio_read_data_next  [31:0]  = h2d_b_child2_r_ex;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_pio
+//
+module top_pio
+(
+  clk,
+  reset,
+  h2d_a_child_r,
+  h2d_a_child_ack,
+  h2d_a_child_nack,
+  h2d_b_child_r,
+  h2d_b_child_ack,
+  h2d_b_child_nack,
+  h2d_b_child2_r,
+  h2d_b_child2_ack,
+  h2d_b_child2_nack,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_top_config_cfg_field_r,
+  d2h_a_child_w,
+  d2h_a_child_we,
+  d2h_a_child_re,
+  d2h_a_child_addr,
+  d2h_b_child_w,
+  d2h_b_child_we,
+  d2h_b_child_re,
+  d2h_b_child_addr,
+  d2h_b_child2_w,
+  d2h_b_child2_we,
+  d2h_b_child2_re,
+  d2h_b_child2_addr,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] h2d_a_child_r;
+  input    h2d_a_child_ack;
+  input    h2d_a_child_nack;
+  input     [31:0] h2d_b_child_r;
+  input    h2d_b_child_ack;
+  input    h2d_b_child_nack;
+  input     [31:0] h2d_b_child2_r;
+  input    h2d_b_child2_ack;
+  input    h2d_b_child2_nack;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [15:0] l2h_top_config_cfg_field_r;
+  output     [31:0] d2h_a_child_w;
+  output    d2h_a_child_we;
+  output    d2h_a_child_re;
+  output    d2h_a_child_addr;
+  output     [31:0] d2h_b_child_w;
+  output    d2h_b_child_we;
+  output    d2h_b_child_re;
+  output    d2h_b_child_addr;
+  output     [31:0] d2h_b_child2_w;
+  output    d2h_b_child2_we;
+  output    d2h_b_child2_re;
+  output    d2h_b_child2_addr;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_top_config_w;
+  logic  d2l_top_config_we;
+  logic  d2l_top_config_re;
+  logic   [31:0] l2d_top_config_r;
+  
+  
+  top_jrdl_decode pio_decode ( .* );
+    
+  top_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
+//
+//---------- module top_a_child_jrdl_logic
+//
+module top_a_child_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_a_child_a_config_w,
+  d2l_a_child_a_config_we,
+  d2l_a_child_a_config_re,
+  d2l_a_child_a_state_w,
+  d2l_a_child_a_state_we,
+  d2l_a_child_a_state_re,
+  h2l_a_child_a_state_state_field_w,
+
+  l2d_a_child_a_config_r,
+  l2d_a_child_a_state_r,
+  l2h_a_child_a_config_cfg_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_a_child_a_config_w;
+  input    d2l_a_child_a_config_we;
+  input    d2l_a_child_a_config_re;
+  input     [31:0] d2l_a_child_a_state_w;
+  input    d2l_a_child_a_state_we;
+  input    d2l_a_child_a_state_re;
+  input     [15:0] h2l_a_child_a_state_state_field_w;
+
+  //------- outputs
+  output     [31:0] l2d_a_child_a_config_r;
+  output     [31:0] l2d_a_child_a_state_r;
+  output     [15:0] l2h_a_child_a_config_cfg_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_a_child_a_config_cfg_field;
+  logic   [15:0] reg_a_child_a_config_cfg_field_next;
+  logic   [15:0] l2h_a_child_a_config_cfg_field_r;
+  logic   [31:0] l2d_a_child_a_config_r;
+  logic   [15:0] rg_a_child_a_state_state_field;
+  logic   [31:0] l2d_a_child_a_state_r;
+  
+  
+  //------- combinatorial assigns for a_child_a_config
+  always_comb begin
+    reg_a_child_a_config_cfg_field_next = rg_a_child_a_config_cfg_field;
+    l2h_a_child_a_config_cfg_field_r = rg_a_child_a_config_cfg_field;
+    if (d2l_a_child_a_config_we) reg_a_child_a_config_cfg_field_next = d2l_a_child_a_config_w [15:0] ;
+  end
+  
+  //------- reg assigns for a_child_a_config
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_a_child_a_config_cfg_field <= #1 16'h0;
+    end
+    else begin
+      rg_a_child_a_config_cfg_field <= #1  reg_a_child_a_config_cfg_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for a_child_a_config (pio read data)
+  always_comb begin
+    l2d_a_child_a_config_r = 32'b0;
+    l2d_a_child_a_config_r [15:0]  = rg_a_child_a_config_cfg_field;
+  end
+  
+  //------- combinatorial assigns for a_child_a_state
+  always_comb begin
+    rg_a_child_a_state_state_field =  h2l_a_child_a_state_state_field_w;
+  end
+  
+  //------- combinatorial assigns for a_child_a_state (pio read data)
+  always_comb begin
+    l2d_a_child_a_state_r = 32'b0;
+    l2d_a_child_a_state_r [15:0]  = rg_a_child_a_state_state_field;
+  end
+  
+endmodule
+
+//
+//---------- module top_a_child_jrdl_decode
+//
+module top_a_child_jrdl_decode
+(
+  clk,
+  reset,
+  d2h_a_child_addr,
+  d2h_a_child_w,
+  d2h_a_child_we,
+  d2h_a_child_re,
+  l2d_a_child_a_config_r,
+  l2d_a_child_a_state_r,
+
+  h2d_a_child_r,
+  h2d_a_child_ack,
+  h2d_a_child_nack,
+  d2l_a_child_a_config_w,
+  d2l_a_child_a_config_we,
+  d2l_a_child_a_config_re,
+  d2l_a_child_a_state_w,
+  d2l_a_child_a_state_we,
+  d2l_a_child_a_state_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input    d2h_a_child_addr;
+  input     [31:0] d2h_a_child_w;
+  input    d2h_a_child_we;
+  input    d2h_a_child_re;
+  input     [31:0] l2d_a_child_a_config_r;
+  input     [31:0] l2d_a_child_a_state_r;
+
+  //------- outputs
+  output     [31:0] h2d_a_child_r;
+  output    h2d_a_child_ack;
+  output    h2d_a_child_nack;
+  output     [31:0] d2l_a_child_a_config_w;
+  output    d2l_a_child_a_config_we;
+  output    d2l_a_child_a_config_re;
+  output     [31:0] d2l_a_child_a_state_w;
+  output    d2l_a_child_a_state_we;
+  output    d2l_a_child_a_state_re;
+
+
+  //------- wire defines
+  logic  pio_dec_address;
+  logic   [31:0] pio_dec_write_data;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  
+  //------- reg defines
+  logic   [31:0] d2l_a_child_a_config_w;
+  logic  d2l_a_child_a_config_we;
+  logic  d2l_a_child_a_config_re;
+  logic   [31:0] d2l_a_child_a_state_w;
+  logic  d2l_a_child_a_state_we;
+  logic  d2l_a_child_a_state_re;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic  pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_address = d2h_a_child_addr;
+  assign  pio_dec_write_data = d2h_a_child_w;
+  assign  pio_dec_read = d2h_a_child_re;
+  assign  pio_dec_write = d2h_a_child_we;
+  assign  h2d_a_child_r = dec_pio_read_data;
+  assign  h2d_a_child_ack = dec_pio_ack;
+  assign  h2d_a_child_nack = dec_pio_nack;
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_a_child_a_config_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_a_child_a_config_we = 1'b0;
+    d2l_a_child_a_config_re = 1'b0;
+    d2l_a_child_a_state_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_a_child_a_state_we = 1'b0;
+    d2l_a_child_a_state_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: a_child.a_config     Address: 0x100     External: false
+    1'b0:
+      begin
+        d2l_a_child_a_config_we = pio_write_active & ~dec_pio_ack;
+        d2l_a_child_a_config_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_a_child_a_config_r;
+      end
+    //  Register: a_child.a_state     Address: 0x104     External: false
+    1'b1:
+      begin
+        d2l_a_child_a_state_we = pio_write_active & ~dec_pio_ack;
+        d2l_a_child_a_state_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_a_child_a_state_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_a_child_pio
+//
+module top_a_child_pio
+(
+  clk,
+  reset,
+  h2l_a_child_a_state_state_field_w,
+  d2h_a_child_addr,
+  d2h_a_child_w,
+  d2h_a_child_we,
+  d2h_a_child_re,
+
+  l2h_a_child_a_config_cfg_field_r,
+  h2d_a_child_r,
+  h2d_a_child_ack,
+  h2d_a_child_nack );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [15:0] h2l_a_child_a_state_state_field_w;
+  input    d2h_a_child_addr;
+  input     [31:0] d2h_a_child_w;
+  input    d2h_a_child_we;
+  input    d2h_a_child_re;
+
+  //------- outputs
+  output     [15:0] l2h_a_child_a_config_cfg_field_r;
+  output     [31:0] h2d_a_child_r;
+  output    h2d_a_child_ack;
+  output    h2d_a_child_nack;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_a_child_a_config_w;
+  logic  d2l_a_child_a_config_we;
+  logic  d2l_a_child_a_config_re;
+  logic   [31:0] d2l_a_child_a_state_w;
+  logic  d2l_a_child_a_state_we;
+  logic  d2l_a_child_a_state_re;
+  logic   [31:0] l2d_a_child_a_config_r;
+  logic   [31:0] l2d_a_child_a_state_r;
+  
+  
+  top_a_child_jrdl_decode pio_decode ( .* );
+    
+  top_a_child_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
+//
+//---------- module top_b_child_jrdl_logic
+//
+module top_b_child_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_b_child_b_config_w,
+  d2l_b_child_b_config_we,
+  d2l_b_child_b_config_re,
+  d2l_b_child_b_state_w,
+  d2l_b_child_b_state_we,
+  d2l_b_child_b_state_re,
+  h2l_b_child_b_state_state_field_w,
+
+  l2d_b_child_b_config_r,
+  l2d_b_child_b_state_r,
+  l2h_b_child_b_config_cfg_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_b_child_b_config_w;
+  input    d2l_b_child_b_config_we;
+  input    d2l_b_child_b_config_re;
+  input     [31:0] d2l_b_child_b_state_w;
+  input    d2l_b_child_b_state_we;
+  input    d2l_b_child_b_state_re;
+  input     [15:0] h2l_b_child_b_state_state_field_w;
+
+  //------- outputs
+  output     [31:0] l2d_b_child_b_config_r;
+  output     [31:0] l2d_b_child_b_state_r;
+  output     [15:0] l2h_b_child_b_config_cfg_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_b_child_b_config_cfg_field;
+  logic   [15:0] reg_b_child_b_config_cfg_field_next;
+  logic   [15:0] l2h_b_child_b_config_cfg_field_r;
+  logic   [31:0] l2d_b_child_b_config_r;
+  logic   [15:0] rg_b_child_b_state_state_field;
+  logic   [31:0] l2d_b_child_b_state_r;
+  
+  
+  //------- combinatorial assigns for b_child_b_config
+  always_comb begin
+    reg_b_child_b_config_cfg_field_next = rg_b_child_b_config_cfg_field;
+    l2h_b_child_b_config_cfg_field_r = rg_b_child_b_config_cfg_field;
+    if (d2l_b_child_b_config_we) reg_b_child_b_config_cfg_field_next = d2l_b_child_b_config_w [15:0] ;
+  end
+  
+  //------- reg assigns for b_child_b_config
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_b_child_b_config_cfg_field <= #1 16'h0;
+    end
+    else begin
+      rg_b_child_b_config_cfg_field <= #1  reg_b_child_b_config_cfg_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for b_child_b_config (pio read data)
+  always_comb begin
+    l2d_b_child_b_config_r = 32'b0;
+    l2d_b_child_b_config_r [15:0]  = rg_b_child_b_config_cfg_field;
+  end
+  
+  //------- combinatorial assigns for b_child_b_state
+  always_comb begin
+    rg_b_child_b_state_state_field =  h2l_b_child_b_state_state_field_w;
+  end
+  
+  //------- combinatorial assigns for b_child_b_state (pio read data)
+  always_comb begin
+    l2d_b_child_b_state_r = 32'b0;
+    l2d_b_child_b_state_r [15:0]  = rg_b_child_b_state_state_field;
+  end
+  
+endmodule
+
+//
+//---------- module top_b_child_jrdl_decode
+//
+module top_b_child_jrdl_decode
+(
+  clk,
+  reset,
+  d2h_b_child_addr,
+  d2h_b_child_w,
+  d2h_b_child_we,
+  d2h_b_child_re,
+  l2d_b_child_b_config_r,
+  l2d_b_child_b_state_r,
+
+  h2d_b_child_r,
+  h2d_b_child_ack,
+  h2d_b_child_nack,
+  d2l_b_child_b_config_w,
+  d2l_b_child_b_config_we,
+  d2l_b_child_b_config_re,
+  d2l_b_child_b_state_w,
+  d2l_b_child_b_state_we,
+  d2l_b_child_b_state_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input    d2h_b_child_addr;
+  input     [31:0] d2h_b_child_w;
+  input    d2h_b_child_we;
+  input    d2h_b_child_re;
+  input     [31:0] l2d_b_child_b_config_r;
+  input     [31:0] l2d_b_child_b_state_r;
+
+  //------- outputs
+  output     [31:0] h2d_b_child_r;
+  output    h2d_b_child_ack;
+  output    h2d_b_child_nack;
+  output     [31:0] d2l_b_child_b_config_w;
+  output    d2l_b_child_b_config_we;
+  output    d2l_b_child_b_config_re;
+  output     [31:0] d2l_b_child_b_state_w;
+  output    d2l_b_child_b_state_we;
+  output    d2l_b_child_b_state_re;
+
+
+  //------- wire defines
+  logic  pio_dec_address;
+  logic   [31:0] pio_dec_write_data;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  
+  //------- reg defines
+  logic   [31:0] d2l_b_child_b_config_w;
+  logic  d2l_b_child_b_config_we;
+  logic  d2l_b_child_b_config_re;
+  logic   [31:0] d2l_b_child_b_state_w;
+  logic  d2l_b_child_b_state_we;
+  logic  d2l_b_child_b_state_re;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic  pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_address = d2h_b_child_addr;
+  assign  pio_dec_write_data = d2h_b_child_w;
+  assign  pio_dec_read = d2h_b_child_re;
+  assign  pio_dec_write = d2h_b_child_we;
+  assign  h2d_b_child_r = dec_pio_read_data;
+  assign  h2d_b_child_ack = dec_pio_ack;
+  assign  h2d_b_child_nack = dec_pio_nack;
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_b_child_b_config_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_b_child_b_config_we = 1'b0;
+    d2l_b_child_b_config_re = 1'b0;
+    d2l_b_child_b_state_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_b_child_b_state_we = 1'b0;
+    d2l_b_child_b_state_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: b_child.b_config     Address: 0x200     External: false
+    1'b0:
+      begin
+        d2l_b_child_b_config_we = pio_write_active & ~dec_pio_ack;
+        d2l_b_child_b_config_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_b_child_b_config_r;
+      end
+    //  Register: b_child.b_state     Address: 0x204     External: false
+    1'b1:
+      begin
+        d2l_b_child_b_state_we = pio_write_active & ~dec_pio_ack;
+        d2l_b_child_b_state_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_b_child_b_state_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_b_child_pio
+//
+module top_b_child_pio
+(
+  clk,
+  reset,
+  h2l_b_child_b_state_state_field_w,
+  d2h_b_child_addr,
+  d2h_b_child_w,
+  d2h_b_child_we,
+  d2h_b_child_re,
+
+  l2h_b_child_b_config_cfg_field_r,
+  h2d_b_child_r,
+  h2d_b_child_ack,
+  h2d_b_child_nack );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [15:0] h2l_b_child_b_state_state_field_w;
+  input    d2h_b_child_addr;
+  input     [31:0] d2h_b_child_w;
+  input    d2h_b_child_we;
+  input    d2h_b_child_re;
+
+  //------- outputs
+  output     [15:0] l2h_b_child_b_config_cfg_field_r;
+  output     [31:0] h2d_b_child_r;
+  output    h2d_b_child_ack;
+  output    h2d_b_child_nack;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_b_child_b_config_w;
+  logic  d2l_b_child_b_config_we;
+  logic  d2l_b_child_b_config_re;
+  logic   [31:0] d2l_b_child_b_state_w;
+  logic  d2l_b_child_b_state_we;
+  logic  d2l_b_child_b_state_re;
+  logic   [31:0] l2d_b_child_b_config_r;
+  logic   [31:0] l2d_b_child_b_state_r;
+  
+  
+  top_b_child_jrdl_decode pio_decode ( .* );
+    
+  top_b_child_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
+//
+//---------- module top_b_child2_jrdl_logic
+//
+module top_b_child2_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_b_child2_b_config_w,
+  d2l_b_child2_b_config_we,
+  d2l_b_child2_b_config_re,
+  d2l_b_child2_b_state_w,
+  d2l_b_child2_b_state_we,
+  d2l_b_child2_b_state_re,
+  h2l_b_child2_b_state_state_field_w,
+
+  l2d_b_child2_b_config_r,
+  l2d_b_child2_b_state_r,
+  l2h_b_child2_b_config_cfg_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_b_child2_b_config_w;
+  input    d2l_b_child2_b_config_we;
+  input    d2l_b_child2_b_config_re;
+  input     [31:0] d2l_b_child2_b_state_w;
+  input    d2l_b_child2_b_state_we;
+  input    d2l_b_child2_b_state_re;
+  input     [15:0] h2l_b_child2_b_state_state_field_w;
+
+  //------- outputs
+  output     [31:0] l2d_b_child2_b_config_r;
+  output     [31:0] l2d_b_child2_b_state_r;
+  output     [15:0] l2h_b_child2_b_config_cfg_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_b_child2_b_config_cfg_field;
+  logic   [15:0] reg_b_child2_b_config_cfg_field_next;
+  logic   [15:0] l2h_b_child2_b_config_cfg_field_r;
+  logic   [31:0] l2d_b_child2_b_config_r;
+  logic   [15:0] rg_b_child2_b_state_state_field;
+  logic   [31:0] l2d_b_child2_b_state_r;
+  
+  
+  //------- combinatorial assigns for b_child2_b_config
+  always_comb begin
+    reg_b_child2_b_config_cfg_field_next = rg_b_child2_b_config_cfg_field;
+    l2h_b_child2_b_config_cfg_field_r = rg_b_child2_b_config_cfg_field;
+    if (d2l_b_child2_b_config_we) reg_b_child2_b_config_cfg_field_next = d2l_b_child2_b_config_w [15:0] ;
+  end
+  
+  //------- reg assigns for b_child2_b_config
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_b_child2_b_config_cfg_field <= #1 16'h0;
+    end
+    else begin
+      rg_b_child2_b_config_cfg_field <= #1  reg_b_child2_b_config_cfg_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for b_child2_b_config (pio read data)
+  always_comb begin
+    l2d_b_child2_b_config_r = 32'b0;
+    l2d_b_child2_b_config_r [15:0]  = rg_b_child2_b_config_cfg_field;
+  end
+  
+  //------- combinatorial assigns for b_child2_b_state
+  always_comb begin
+    rg_b_child2_b_state_state_field =  h2l_b_child2_b_state_state_field_w;
+  end
+  
+  //------- combinatorial assigns for b_child2_b_state (pio read data)
+  always_comb begin
+    l2d_b_child2_b_state_r = 32'b0;
+    l2d_b_child2_b_state_r [15:0]  = rg_b_child2_b_state_state_field;
+  end
+  
+endmodule
+
+//
+//---------- module top_b_child2_jrdl_decode
+//
+module top_b_child2_jrdl_decode
+(
+  clk,
+  reset,
+  d2h_b_child2_addr,
+  d2h_b_child2_w,
+  d2h_b_child2_we,
+  d2h_b_child2_re,
+  l2d_b_child2_b_config_r,
+  l2d_b_child2_b_state_r,
+
+  h2d_b_child2_r,
+  h2d_b_child2_ack,
+  h2d_b_child2_nack,
+  d2l_b_child2_b_config_w,
+  d2l_b_child2_b_config_we,
+  d2l_b_child2_b_config_re,
+  d2l_b_child2_b_state_w,
+  d2l_b_child2_b_state_we,
+  d2l_b_child2_b_state_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input    d2h_b_child2_addr;
+  input     [31:0] d2h_b_child2_w;
+  input    d2h_b_child2_we;
+  input    d2h_b_child2_re;
+  input     [31:0] l2d_b_child2_b_config_r;
+  input     [31:0] l2d_b_child2_b_state_r;
+
+  //------- outputs
+  output     [31:0] h2d_b_child2_r;
+  output    h2d_b_child2_ack;
+  output    h2d_b_child2_nack;
+  output     [31:0] d2l_b_child2_b_config_w;
+  output    d2l_b_child2_b_config_we;
+  output    d2l_b_child2_b_config_re;
+  output     [31:0] d2l_b_child2_b_state_w;
+  output    d2l_b_child2_b_state_we;
+  output    d2l_b_child2_b_state_re;
+
+
+  //------- wire defines
+  logic  pio_dec_address;
+  logic   [31:0] pio_dec_write_data;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  
+  //------- reg defines
+  logic   [31:0] d2l_b_child2_b_config_w;
+  logic  d2l_b_child2_b_config_we;
+  logic  d2l_b_child2_b_config_re;
+  logic   [31:0] d2l_b_child2_b_state_w;
+  logic  d2l_b_child2_b_state_we;
+  logic  d2l_b_child2_b_state_re;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic  pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_address = d2h_b_child2_addr;
+  assign  pio_dec_write_data = d2h_b_child2_w;
+  assign  pio_dec_read = d2h_b_child2_re;
+  assign  pio_dec_write = d2h_b_child2_we;
+  assign  h2d_b_child2_r = dec_pio_read_data;
+  assign  h2d_b_child2_ack = dec_pio_ack;
+  assign  h2d_b_child2_nack = dec_pio_nack;
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_b_child2_b_config_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_b_child2_b_config_we = 1'b0;
+    d2l_b_child2_b_config_re = 1'b0;
+    d2l_b_child2_b_state_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_b_child2_b_state_we = 1'b0;
+    d2l_b_child2_b_state_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: b_child2.b_config     Address: 0x300     External: false
+    1'b0:
+      begin
+        d2l_b_child2_b_config_we = pio_write_active & ~dec_pio_ack;
+        d2l_b_child2_b_config_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_b_child2_b_config_r;
+      end
+    //  Register: b_child2.b_state     Address: 0x304     External: false
+    1'b1:
+      begin
+        d2l_b_child2_b_state_we = pio_write_active & ~dec_pio_ack;
+        d2l_b_child2_b_state_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active;
+        dec_pio_read_data_next  [31:0]  = l2d_b_child2_b_state_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_b_child2_pio
+//
+module top_b_child2_pio
+(
+  clk,
+  reset,
+  h2l_b_child2_b_state_state_field_w,
+  d2h_b_child2_addr,
+  d2h_b_child2_w,
+  d2h_b_child2_we,
+  d2h_b_child2_re,
+
+  l2h_b_child2_b_config_cfg_field_r,
+  h2d_b_child2_r,
+  h2d_b_child2_ack,
+  h2d_b_child2_nack );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [15:0] h2l_b_child2_b_state_state_field_w;
+  input    d2h_b_child2_addr;
+  input     [31:0] d2h_b_child2_w;
+  input    d2h_b_child2_we;
+  input    d2h_b_child2_re;
+
+  //------- outputs
+  output     [15:0] l2h_b_child2_b_config_cfg_field_r;
+  output     [31:0] h2d_b_child2_r;
+  output    h2d_b_child2_ack;
+  output    h2d_b_child2_nack;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_b_child2_b_config_w;
+  logic  d2l_b_child2_b_config_we;
+  logic  d2l_b_child2_b_config_re;
+  logic   [31:0] d2l_b_child2_b_state_w;
+  logic  d2l_b_child2_b_state_we;
+  logic  d2l_b_child2_b_state_re;
+  logic   [31:0] l2d_b_child2_b_config_r;
+  logic   [31:0] l2d_b_child2_b_state_r;
+  
+  
+  top_b_child2_jrdl_decode pio_decode ( .* );
+    
+  top_b_child2_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
@@ -0,0 +1,287 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_parallel_children/test.rdl
+//   Parms: ./rdl_parallel_children/test.parms
+//   Date: Mon Oct 19 04:32:15 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Config reg
+class reg_top_top_config extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl cfg_field;
+  
+  function new(string name = "reg_top_top_config");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.cfg_field = new("cfg_field");
+    this.cfg_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.cfg_field.configure(this, 16, 0, "RW", 0, 16'h0, 1, 1, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "cfg_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_top_config
+
+// Config reg
+class reg_top_a_child_a_config extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl cfg_field;
+  
+  function new(string name = "reg_top_a_child_a_config");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.cfg_field = new("cfg_field");
+    this.cfg_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.cfg_field.configure(this, 16, 0, "RW", 0, 16'h0, 1, 1, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "cfg_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_a_child_a_config
+
+// State reg
+class reg_top_a_child_a_state extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl state_field;
+  
+  function new(string name = "reg_top_a_child_a_state");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.state_field = new("state_field");
+    this.state_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.state_field.configure(this, 16, 0, "RO", 1, 16'h0, 1, 0, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "state_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_a_child_a_state
+
+// Child map a
+class block_top_a_child extends uvm_reg_block_rdl;
+  rand reg_top_a_child_a_config a_config;
+  rand reg_top_a_child_a_state a_state;
+  
+  function new(string name = "block_top_a_child");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.a_config = new("a_config");
+    this.a_config.configure(this, null, "");
+    this.a_config.set_rdl_tag("a_config_");
+    this.a_config.set_reg_test_info(0, 0, 1024);
+    this.a_config.build();
+    this.default_map.add_reg(this.a_config, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.a_state = new("a_state");
+    this.a_state.configure(this, null, "");
+    this.a_state.set_rdl_tag("a_state_");
+    this.a_state.set_reg_test_info(0, 0, 2080);
+    this.a_state.build();
+    this.default_map.add_reg(this.a_state, `UVM_REG_ADDR_WIDTH'h4, "RO", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_a_child)
+endclass : block_top_a_child
+
+// Config reg
+class reg_top_b_child_b_config extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl cfg_field;
+  
+  function new(string name = "reg_top_b_child_b_config");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.cfg_field = new("cfg_field");
+    this.cfg_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.cfg_field.configure(this, 16, 0, "RW", 0, 16'h0, 1, 1, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "cfg_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_b_child_b_config
+
+// State reg
+class reg_top_b_child_b_state extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl state_field;
+  
+  function new(string name = "reg_top_b_child_b_state");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.state_field = new("state_field");
+    this.state_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.state_field.configure(this, 16, 0, "RO", 1, 16'h0, 1, 0, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "state_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_b_child_b_state
+
+// Child map b
+class block_top_b_child extends uvm_reg_block_rdl;
+  rand reg_top_b_child_b_config b_config;
+  rand reg_top_b_child_b_state b_state;
+  
+  function new(string name = "block_top_b_child");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.b_config = new("b_config");
+    this.b_config.configure(this, null, "");
+    this.b_config.set_rdl_tag("b_config_");
+    this.b_config.set_reg_test_info(0, 0, 4096);
+    this.b_config.build();
+    this.default_map.add_reg(this.b_config, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.b_state = new("b_state");
+    this.b_state.configure(this, null, "");
+    this.b_state.set_rdl_tag("b_state_");
+    this.b_state.set_reg_test_info(0, 0, 2080);
+    this.b_state.build();
+    this.default_map.add_reg(this.b_state, `UVM_REG_ADDR_WIDTH'h4, "RO", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_b_child)
+endclass : block_top_b_child
+
+// Config reg
+class reg_top_b_child2_b_config extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl cfg_field;
+  
+  function new(string name = "reg_top_b_child2_b_config");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.cfg_field = new("cfg_field");
+    this.cfg_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.cfg_field.configure(this, 16, 0, "RW", 0, 16'h0, 1, 1, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "cfg_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_b_child2_b_config
+
+// State reg
+class reg_top_b_child2_b_state extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl state_field;
+  
+  function new(string name = "reg_top_b_child2_b_state");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.state_field = new("state_field");
+    this.state_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.state_field.configure(this, 16, 0, "RO", 1, 16'h0, 1, 0, 1);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "state_field"}, 0, 16);
+  endfunction: build
+  
+endclass : reg_top_b_child2_b_state
+
+// Child map b
+class block_top_b_child2 extends uvm_reg_block_rdl;
+  rand reg_top_b_child2_b_config b_config;
+  rand reg_top_b_child2_b_state b_state;
+  
+  function new(string name = "block_top_b_child2");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.b_config = new("b_config");
+    this.b_config.configure(this, null, "");
+    this.b_config.set_rdl_tag("b_config_");
+    this.b_config.set_reg_test_info(0, 0, 4096);
+    this.b_config.build();
+    this.default_map.add_reg(this.b_config, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.b_state = new("b_state");
+    this.b_state.configure(this, null, "");
+    this.b_state.set_rdl_tag("b_state_");
+    this.b_state.set_reg_test_info(0, 0, 2080);
+    this.b_state.build();
+    this.default_map.add_reg(this.b_state, `UVM_REG_ADDR_WIDTH'h4, "RO", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_b_child2)
+endclass : block_top_b_child2
+
+// Base block
+class block_top extends uvm_reg_block_rdl;
+  rand reg_top_top_config top_config;
+  rand block_top_a_child a_child;
+  rand block_top_b_child b_child;
+  rand block_top_b_child2 b_child2;
+  
+  function new(string name = "block_top");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`TOP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.top_config = new("top_config");
+    this.top_config.configure(this, null, "");
+    this.top_config.set_rdl_tag("top_config_");
+    this.top_config.set_reg_test_info(0, 0, 0);
+    this.top_config.build();
+    this.default_map.add_reg(this.top_config, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.a_child = block_top_a_child::type_id::create("a_child",, get_full_name());
+    this.a_child.configure(this, "");
+    this.a_child.set_rdl_address_map(1);
+    this.a_child.set_rdl_address_map_hdl_path({`TOP_A_CHILD_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.a_child.set_rdl_tag("a_child_");
+    this.a_child.build();
+    this.default_map.add_submap(this.a_child.default_map, `UVM_REG_ADDR_WIDTH'h100);
+    this.b_child = block_top_b_child::type_id::create("b_child",, get_full_name());
+    this.b_child.configure(this, "");
+    this.b_child.set_rdl_address_map(1);
+    this.b_child.set_rdl_address_map_hdl_path({`TOP_B_CHILD_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.b_child.set_rdl_tag("b_child_");
+    this.b_child.build();
+    this.default_map.add_submap(this.b_child.default_map, `UVM_REG_ADDR_WIDTH'h200);
+    this.b_child2 = block_top_b_child2::type_id::create("b_child2",, get_full_name());
+    this.b_child2.configure(this, "");
+    this.b_child2.set_rdl_address_map(1);
+    this.b_child2.set_rdl_address_map_hdl_path({`TOP_B_CHILD2_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.b_child2.set_rdl_tag("b_child2_");
+    this.b_child2.build();
+    this.default_map.add_submap(this.b_child2.default_map, `UVM_REG_ADDR_WIDTH'h300);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_top)
+endclass : block_top
@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_sec_if/test.rdl
 //   Parms: ./rdl_sec_if/test.parms
-//   Date: Tue Mar 27 14:56:11 EDT 2018
+//   Date: Mon Oct 19 03:30:45 UTC 2026
 //
 
 //
@@ -197,10 +197,38 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_4 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
   always @ (*) begin
-    l2d_base_regs_config_regs_4_r [15:0]  = rg_base_regs_config_regs_4_lsb_field;
-    l2d_base_regs_config_regs_4_r [31:16]  = rg_base_regs_config_regs_4_msb_field;
+    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
+    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_1
+  always @ (*) begin
+    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
+    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
+    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
+    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
+    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_1
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
+      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
+    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
   end
   
   //------- combinatorial assigns for base_regs_config_regs_2
@@ -225,28 +253,40 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_1
+  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
   always @ (*) begin
-    reg_base_regs_config_regs_1_lsb_field_next = rg_base_regs_config_regs_1_lsb_field;
-    l2h_base_regs_config_regs_1_lsb_field_r = rg_base_regs_config_regs_1_lsb_field;
-    reg_base_regs_config_regs_1_msb_field_next = rg_base_regs_config_regs_1_msb_field;
-    l2h_base_regs_config_regs_1_msb_field_r = rg_base_regs_config_regs_1_msb_field;
-    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_lsb_field_next = d2l_base_regs_config_regs_1_w [15:0] ;
-    if (d2l_base_regs_config_regs_1_we) reg_base_regs_config_regs_1_msb_field_next = d2l_base_regs_config_regs_1_w [31:16] ;
+    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
+    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
   end
   
-  //------- reg assigns for base_regs_config_regs_1
+  //------- combinatorial assigns for base_regs_config_regs_3
+  always @ (*) begin
+    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
+    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
+    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
+    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
+    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_3
   always @ (posedge clk) begin
     if (reset) begin
-      rg_base_regs_config_regs_1_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_1_msb_field <= #1 16'h0;
+      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
     end
     else begin
-      rg_base_regs_config_regs_1_lsb_field <= #1  reg_base_regs_config_regs_1_lsb_field_next;
-      rg_base_regs_config_regs_1_msb_field <= #1  reg_base_regs_config_regs_1_msb_field_next;
+      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
+      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
     end
   end
   
+  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
+  always @ (*) begin
+    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
+    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
+  end
+  
   //------- combinatorial assigns for base_regs_config_regs_4
   always @ (*) begin
     reg_base_regs_config_regs_4_lsb_field_next = rg_base_regs_config_regs_4_lsb_field;
@@ -269,25 +309,31 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_4 (pio read data)
   always @ (*) begin
-    reg_base_regs_config_regs_3_lsb_field_next = rg_base_regs_config_regs_3_lsb_field;
-    l2h_base_regs_config_regs_3_lsb_field_r = rg_base_regs_config_regs_3_lsb_field;
-    reg_base_regs_config_regs_3_msb_field_next = rg_base_regs_config_regs_3_msb_field;
-    l2h_base_regs_config_regs_3_msb_field_r = rg_base_regs_config_regs_3_msb_field;
-    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_lsb_field_next = d2l_base_regs_config_regs_3_w [15:0] ;
-    if (d2l_base_regs_config_regs_3_we) reg_base_regs_config_regs_3_msb_field_next = d2l_base_regs_config_regs_3_w [31:16] ;
+    l2d_base_regs_config_regs_4_r [15:0]  = rg_base_regs_config_regs_4_lsb_field;
+    l2d_base_regs_config_regs_4_r [31:16]  = rg_base_regs_config_regs_4_msb_field;
   end
   
-  //------- reg assigns for base_regs_config_regs_3
+  //------- combinatorial assigns for base_regs_config_regs_5
+  always @ (*) begin
+    reg_base_regs_config_regs_5_lsb_field_next = rg_base_regs_config_regs_5_lsb_field;
+    l2h_base_regs_config_regs_5_lsb_field_r = rg_base_regs_config_regs_5_lsb_field;
+    reg_base_regs_config_regs_5_msb_field_next = rg_base_regs_config_regs_5_msb_field;
+    l2h_base_regs_config_regs_5_msb_field_r = rg_base_regs_config_regs_5_msb_field;
+    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_lsb_field_next = d2l_base_regs_config_regs_5_w [15:0] ;
+    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_msb_field_next = d2l_base_regs_config_regs_5_w [31:16] ;
+  end
+  
+  //------- reg assigns for base_regs_config_regs_5
   always @ (posedge clk) begin
     if (reset) begin
-      rg_base_regs_config_regs_3_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_3_msb_field <= #1 16'h0;
+      rg_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
+      rg_base_regs_config_regs_5_msb_field <= #1 16'h0;
     end
     else begin
-      rg_base_regs_config_regs_3_lsb_field <= #1  reg_base_regs_config_regs_3_lsb_field_next;
-      rg_base_regs_config_regs_3_msb_field <= #1  reg_base_regs_config_regs_3_msb_field_next;
+      rg_base_regs_config_regs_5_lsb_field <= #1  reg_base_regs_config_regs_5_lsb_field_next;
+      rg_base_regs_config_regs_5_msb_field <= #1  reg_base_regs_config_regs_5_msb_field_next;
     end
   end
   
@@ -297,30 +343,6 @@ module base_map_jrdl_logic
     l2d_base_regs_config_regs_5_r [31:16]  = rg_base_regs_config_regs_5_msb_field;
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_7 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_7_r [15:0]  = rg_base_regs_config_regs_7_lsb_field;
-    l2d_base_regs_config_regs_7_r [31:16]  = rg_base_regs_config_regs_7_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_1 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_1_r [15:0]  = rg_base_regs_config_regs_1_lsb_field;
-    l2d_base_regs_config_regs_1_r [31:16]  = rg_base_regs_config_regs_1_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_6 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_6_r [15:0]  = rg_base_regs_config_regs_6_lsb_field;
-    l2d_base_regs_config_regs_6_r [31:16]  = rg_base_regs_config_regs_6_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_2 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_2_r [15:0]  = rg_base_regs_config_regs_2_lsb_field;
-    l2d_base_regs_config_regs_2_r [31:16]  = rg_base_regs_config_regs_2_msb_field;
-  end
-  
   //------- combinatorial assigns for base_regs_config_regs_6
   always @ (*) begin
     reg_base_regs_config_regs_6_lsb_field_next = rg_base_regs_config_regs_6_lsb_field;
@@ -343,32 +365,10 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_3 (pio read data)
-  always @ (*) begin
-    l2d_base_regs_config_regs_3_r [15:0]  = rg_base_regs_config_regs_3_lsb_field;
-    l2d_base_regs_config_regs_3_r [31:16]  = rg_base_regs_config_regs_3_msb_field;
-  end
-  
-  //------- combinatorial assigns for base_regs_config_regs_5
+  //------- combinatorial assigns for base_regs_config_regs_6 (pio read data)
   always @ (*) begin
-    reg_base_regs_config_regs_5_lsb_field_next = rg_base_regs_config_regs_5_lsb_field;
-    l2h_base_regs_config_regs_5_lsb_field_r = rg_base_regs_config_regs_5_lsb_field;
-    reg_base_regs_config_regs_5_msb_field_next = rg_base_regs_config_regs_5_msb_field;
-    l2h_base_regs_config_regs_5_msb_field_r = rg_base_regs_config_regs_5_msb_field;
-    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_lsb_field_next = d2l_base_regs_config_regs_5_w [15:0] ;
-    if (d2l_base_regs_config_regs_5_we) reg_base_regs_config_regs_5_msb_field_next = d2l_base_regs_config_regs_5_w [31:16] ;
-  end
-  
-  //------- reg assigns for base_regs_config_regs_5
-  always @ (posedge clk) begin
-    if (reset) begin
-      rg_base_regs_config_regs_5_lsb_field <= #1 16'hffff;
-      rg_base_regs_config_regs_5_msb_field <= #1 16'h0;
-    end
-    else begin
-      rg_base_regs_config_regs_5_lsb_field <= #1  reg_base_regs_config_regs_5_lsb_field_next;
-      rg_base_regs_config_regs_5_msb_field <= #1  reg_base_regs_config_regs_5_msb_field_next;
-    end
+    l2d_base_regs_config_regs_6_r [15:0]  = rg_base_regs_config_regs_6_lsb_field;
+    l2d_base_regs_config_regs_6_r [31:16]  = rg_base_regs_config_regs_6_msb_field;
   end
   
   //------- combinatorial assigns for base_regs_config_regs_7
@@ -393,10 +393,10 @@ module base_map_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for base_regs_config_regs_0 (pio read data)
+  //------- combinatorial assigns for base_regs_config_regs_7 (pio read data)
   always @ (*) begin
-    l2d_base_regs_config_regs_0_r [15:0]  = rg_base_regs_config_regs_0_lsb_field;
-    l2d_base_regs_config_regs_0_r [31:16]  = rg_base_regs_config_regs_0_msb_field;
+    l2d_base_regs_config_regs_7_r [15:0]  = rg_base_regs_config_regs_7_lsb_field;
+    l2d_base_regs_config_regs_7_r [31:16]  = rg_base_regs_config_regs_7_msb_field;
   end
   
 endmodule
@@ -710,74 +710,200 @@ module base_map_jrdl_decode
   assign  pio_dec_read = arb_pio_dec_read;
   assign  pio_dec_write = arb_pio_dec_write;
   
-  //------- combinatorial assigns for pio read data
-  always @ (*) begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
+      d2h_primary_we_ex <= #1  1'b0;
+      d2h_primary_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_primary_w_ex <= #1  d2h_primary_w_next;
+      d2h_primary_we_ex <= #1  d2h_primary_we_next & ~h2d_primary_ack_ex & ~h2d_primary_nack_ex;
+      d2h_primary_re_ex <= #1  d2h_primary_re_next & ~h2d_primary_ack_ex & ~h2d_primary_nack_ex;
+      d2h_primary_addr_ex <= #1  d2h_primary_addr_next;
     end
   end
   
-  //------- combinatorial assigns for secondary engine1 i/f sm
+  //------- combinatorial assigns for primary ring16 i/f
   always @ (*) begin
-    p2_e1_state_next = p2_e1_status_state_w;
-    p2_pio_dec_read_next =  1'b0;
-    p2_pio_dec_write_next =  1'b0;
-    p2_arb_atomic_request_next =  1'b0;
-    p2_pio_dec_write_data_next = p2_pio_dec_write_data;
-    p2_e1_last_read_data_val_w_next = p2_e1_last_read_data_val_w;
-    p2_e1_status_nack_error_intr =  1'b0;
-    p2_e1_status_bad_address_error_intr =  1'b0;
-    p2_e1_trans_count_next = p2_e1_trans_count;
-    p2_pio_dec_address_next = {1'b0, p2_pio_dec_address};
-    p2_e1_delay_count_next = 10'b0;
-    case (p2_e1_status_state_w)
+    r16_primary_state_next = r16_primary_state;
+    r16_primary_cmdValid_dly0 =  1'b0;
+    r16_primary_cmdData_dly0 =  16'b0;
+    h2d_primary_ack_ex =  1'b0;
+    h2d_primary_nack_ex =  1'b0;
+    r16_primary_rdata_accum_next = r16_primary_rdata_accum;
+    r16_primary_data_cnt_next = 1'b0;
+    case (r16_primary_state)
       3'h0: begin // IDLE
-          p2_e1_trans_count_next = 41'b0;
-          p2_pio_dec_address_next = {1'b0, p2_e1_address_start_val_r};
-          if (p2_e1_cntl_start_r && !p2_e1_cntl_force_stop_r) begin
-            if (p2_e1_cfg_read_capture_mode_r == 2'h1)
-              p2_e1_last_read_data_val_w_next = ~32'b0;
-            else
-              p2_e1_last_read_data_val_w_next = 32'b0;
-            if ((p2_e1_cfg_mode_r == 2'h1) || (p2_e1_cfg_mode_r == 2'h2)) begin
-              p2_e1_state_next = 3'h1;
-            end
-            else begin
-              p2_e1_state_next = 3'h2;
-              p2_pio_dec_write_data_next = p2_e1_write_data_val_r;
-            end
+          r16_primary_rdata_accum_next = 32'b0;
+          if (d2h_primary_re_ex | d2h_primary_we_ex) begin
+            r16_primary_cmdValid_dly0 =  1'b1;
+            r16_primary_cmdData_dly0[7] = d2h_primary_we_ex;
+            r16_primary_cmdData_dly0 [5:4]  = 2'd1;
+            r16_primary_state_next = 3'h1;
           end
         end
-      3'h1: begin // READ_WAIT
-          p2_e1_delay_count_next = p2_e1_delay_count + 10'b1;
-          if (p2_e1_cntl_force_stop_r) begin
-            p2_e1_state_next = 3'h0;
-          end
-          else if (p2_e1_delay_count == p2_e1_cfg_trans_delay_r) begin
-              p2_e1_state_next = 3'h3;
-              p2_pio_dec_read_next =  1'b1;
-              p2_arb_atomic_request_next =  (p2_e1_cfg_mode_r == 2'h2);
-          end
-          else if (|p2_e1_trans_count) begin
-            if ((p2_e1_cfg_stop_on_read_r == 2'h2) && ((p2_e1_last_read_data_val_w & ~p2_e1_read_mask_val_r) == p2_e1_read_match_data_val_r))
-              p2_e1_state_next = 3'h0;
-            if ((p2_e1_cfg_stop_on_read_r == 2'h1) && ((p2_e1_last_read_data_val_w & ~p2_e1_read_mask_val_r) < p2_e1_read_match_data_val_r))
-              p2_e1_state_next = 3'h0;
-            if ((p2_e1_cfg_stop_on_read_r == 2'h3) && ((p2_e1_last_read_data_val_w & ~p2_e1_read_mask_val_r) > p2_e1_read_match_data_val_r))
-              p2_e1_state_next = 3'h0;
+      3'h1: begin // CMD_ADDR
+          r16_primary_cmdValid_dly0 =  1'b1;
+          r16_primary_cmdData_dly0 = {13'h1, d2h_primary_addr_ex};
+          if (d2h_primary_we_ex) r16_primary_state_next = 3'h2;
+          else r16_primary_state_next = 3'h3;
+        end
+      3'h2: begin // CMD_DATA
+          r16_primary_cmdValid_dly0 =  1'b1;
+          r16_primary_data_cnt_next = r16_primary_data_cnt + 1'b1;
+          if (r16_primary_data_cnt == 1'd0)
+            r16_primary_cmdData_dly0 = d2h_primary_w_ex [15:0] ;
+          else if (r16_primary_data_cnt == 1'd1)
+            r16_primary_cmdData_dly0 = d2h_primary_w_ex [31:16] ;
+          if (r16_primary_data_cnt == 1'b1)
+            r16_primary_state_next = 3'h3;
+        end
+      3'h3: begin  // RES_WAIT
+          if (r16_primary_resValid_dly1) begin
+            if (d2h_primary_re_ex & r16_primary_resData_dly1[14] & ~r16_primary_resData_dly1[15]) r16_primary_state_next = 3'h4;
+            else if (~r16_primary_resData_dly1[14]) r16_primary_state_next = 3'h6;
+            else r16_primary_state_next = 3'h5;
           end
         end
-      3'h2: begin // WRITE_WAIT
-          p2_e1_delay_count_next = p2_e1_delay_count + 10'b1;
-          if (p2_e1_cntl_force_stop_r) begin
+      3'h4: begin  // RES_READ
+          r16_primary_data_cnt_next = r16_primary_data_cnt;
+          if (r16_primary_resValid_dly1) begin
+            r16_primary_data_cnt_next = r16_primary_data_cnt + 1'b1;
+            if (r16_primary_data_cnt == 1'd0)
+              r16_primary_rdata_accum_next [15:0]  = r16_primary_resData_dly1;
+            else if (r16_primary_data_cnt == 1'd1)
+              r16_primary_rdata_accum_next [31:16]  = r16_primary_resData_dly1;
+          end
+          if (r16_primary_data_cnt == 1'b1) r16_primary_state_next = 3'h5;
+        end
+      3'h5: begin // RES_DONE_ACK
+          h2d_primary_ack_ex = 1'b1;
+          r16_primary_state_next = 3'h0;
+        end
+      3'h6: begin // RES_DONE_NACK
+          h2d_primary_nack_ex = 1'b1;
+          r16_primary_state_next = 3'h0;
+        end
+      default:
+        r16_primary_state_next = 3'h0;
+    endcase
+  end
+  
+  //------- reg assigns for primary ring16 i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      r16_primary_state <= #1  3'b0;
+      r16_primary_cmdValid_dly1 <= #1  1'b0;
+      r16_primary_cmdData_dly1 <= #1  16'b0;
+      r16_primary_resValid_dly1 <= #1  1'b0;
+      r16_primary_resData_dly1 <= #1  16'b0;
+      r16_primary_data_cnt <= #1  1'b0;
+    end
+    else begin
+      r16_primary_state <= #1  r16_primary_state_next;
+      r16_primary_cmdValid_dly1 <= #1  r16_primary_cmdValid_dly0;
+      r16_primary_cmdData_dly1 <= #1  r16_primary_cmdData_dly0;
+      r16_primary_resValid_dly1 <= #1  r16_primary_resValid_dly0;
+      r16_primary_resData_dly1 <= #1  r16_primary_resData_dly0;
+      r16_primary_rdata_accum <= #1  r16_primary_rdata_accum_next;
+      r16_primary_data_cnt <= #1  r16_primary_data_cnt_next;
+    end
+  end
+  
+  //------- combinatorial assigns for primary leaf i/f
+  always @ (*) begin
+    p1_leaf_dec_valid_hld1_next = p1_leaf_dec_valid | p1_leaf_dec_valid_hld1;
+    if (p1_dec_pio_ack_next | p1_dec_pio_nack_next) p1_leaf_dec_valid_hld1_next = 1'b0;
+    p1_leaf_dec_wr_dvld_hld1_next = p1_leaf_dec_wr_dvld | p1_leaf_dec_wr_dvld_hld1;
+    if (p1_dec_pio_ack_next | p1_dec_pio_nack_next | p1_leaf_dec_valid) p1_leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for primary leaf i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      p1_leaf_dec_valid_hld1 <= #1  1'b0;
+      p1_leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      p1_leaf_dec_valid_hld1 <= #1 p1_leaf_dec_valid_hld1_next;
+      p1_leaf_dec_wr_dvld_hld1 <= #1 p1_leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for secondary engine1 i/f signals
+  always @ (posedge clk) begin
+    if (reset) begin
+      p2_pio_dec_write_data <= #1  32'b0;
+      p2_pio_dec_address <= #1  4'b0;
+      p2_pio_dec_read <= #1  1'b0;
+      p2_pio_dec_write <= #1  1'b0;
+      p2_arb_atomic_request <= #1  1'b0;
+      p2_e1_last_read_data_val_w <= #1  32'b0;
+    end
+    else begin
+      p2_pio_dec_write_data <= #1  p2_pio_dec_write_data_next;
+      p2_pio_dec_address <= #1  p2_pio_dec_address_next [5:2] ;
+      p2_pio_dec_read <= #1  p2_pio_dec_read_next;
+      p2_pio_dec_write <= #1  p2_pio_dec_write_next;
+      p2_arb_atomic_request <= #1  p2_arb_atomic_request_next;
+      p2_e1_last_read_data_val_w <= #1  p2_e1_last_read_data_val_w_next;
+    end
+  end
+  
+  //------- combinatorial assigns for secondary engine1 i/f sm
+  always @ (*) begin
+    p2_e1_state_next = p2_e1_status_state_w;
+    p2_pio_dec_read_next =  1'b0;
+    p2_pio_dec_write_next =  1'b0;
+    p2_arb_atomic_request_next =  1'b0;
+    p2_pio_dec_write_data_next = p2_pio_dec_write_data;
+    p2_e1_last_read_data_val_w_next = p2_e1_last_read_data_val_w;
+    p2_e1_status_nack_error_intr =  1'b0;
+    p2_e1_status_bad_address_error_intr =  1'b0;
+    p2_e1_trans_count_next = p2_e1_trans_count;
+    p2_pio_dec_address_next = {1'b0, p2_pio_dec_address};
+    p2_e1_delay_count_next = 10'b0;
+    case (p2_e1_status_state_w)
+      3'h0: begin // IDLE
+          p2_e1_trans_count_next = 41'b0;
+          p2_pio_dec_address_next = {1'b0, p2_e1_address_start_val_r};
+          if (p2_e1_cntl_start_r && !p2_e1_cntl_force_stop_r) begin
+            if (p2_e1_cfg_read_capture_mode_r == 2'h1)
+              p2_e1_last_read_data_val_w_next = ~32'b0;
+            else
+              p2_e1_last_read_data_val_w_next = 32'b0;
+            if ((p2_e1_cfg_mode_r == 2'h1) || (p2_e1_cfg_mode_r == 2'h2)) begin
+              p2_e1_state_next = 3'h1;
+            end
+            else begin
+              p2_e1_state_next = 3'h2;
+              p2_pio_dec_write_data_next = p2_e1_write_data_val_r;
+            end
+          end
+        end
+      3'h1: begin // READ_WAIT
+          p2_e1_delay_count_next = p2_e1_delay_count + 10'b1;
+          if (p2_e1_cntl_force_stop_r) begin
+            p2_e1_state_next = 3'h0;
+          end
+          else if (p2_e1_delay_count == p2_e1_cfg_trans_delay_r) begin
+              p2_e1_state_next = 3'h3;
+              p2_pio_dec_read_next =  1'b1;
+              p2_arb_atomic_request_next =  (p2_e1_cfg_mode_r == 2'h2);
+          end
+          else if (|p2_e1_trans_count) begin
+            if ((p2_e1_cfg_stop_on_read_r == 2'h2) && ((p2_e1_last_read_data_val_w & ~p2_e1_read_mask_val_r) == p2_e1_read_match_data_val_r))
+              p2_e1_state_next = 3'h0;
+            if ((p2_e1_cfg_stop_on_read_r == 2'h1) && ((p2_e1_last_read_data_val_w & ~p2_e1_read_mask_val_r) < p2_e1_read_match_data_val_r))
+              p2_e1_state_next = 3'h0;
+            if ((p2_e1_cfg_stop_on_read_r == 2'h3) && ((p2_e1_last_read_data_val_w & ~p2_e1_read_mask_val_r) > p2_e1_read_match_data_val_r))
+              p2_e1_state_next = 3'h0;
+          end
+        end
+      3'h2: begin // WRITE_WAIT
+          p2_e1_delay_count_next = p2_e1_delay_count + 10'b1;
+          if (p2_e1_cntl_force_stop_r) begin
             p2_e1_state_next = 3'h0;
           end
           else if (p2_e1_delay_count == p2_e1_cfg_trans_delay_r) begin
@@ -882,123 +1008,6 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- reg assigns for secondary engine1 i/f signals
-  always @ (posedge clk) begin
-    if (reset) begin
-      p2_pio_dec_write_data <= #1  32'b0;
-      p2_pio_dec_address <= #1  4'b0;
-      p2_pio_dec_read <= #1  1'b0;
-      p2_pio_dec_write <= #1  1'b0;
-      p2_arb_atomic_request <= #1  1'b0;
-      p2_e1_last_read_data_val_w <= #1  32'b0;
-    end
-    else begin
-      p2_pio_dec_write_data <= #1  p2_pio_dec_write_data_next;
-      p2_pio_dec_address <= #1  p2_pio_dec_address_next [5:2] ;
-      p2_pio_dec_read <= #1  p2_pio_dec_read_next;
-      p2_pio_dec_write <= #1  p2_pio_dec_write_next;
-      p2_arb_atomic_request <= #1  p2_arb_atomic_request_next;
-      p2_e1_last_read_data_val_w <= #1  p2_e1_last_read_data_val_w_next;
-    end
-  end
-  
-  //------- combinatorial assigns for interface arbiter input select
-  always @ (*) begin
-    pio_dec_address = p1_pio_dec_address;
-    pio_dec_write_data = p1_pio_dec_write_data;
-    if (arbiter_state == 3'h2) begin
-      pio_dec_address = p2_pio_dec_address;
-      pio_dec_write_data = p2_pio_dec_write_data;
-    end
-  end
-  
-  //------- combinatorial assigns for primary ring16 i/f
-  always @ (*) begin
-    r16_primary_state_next = r16_primary_state;
-    r16_primary_cmdValid_dly0 =  1'b0;
-    r16_primary_cmdData_dly0 =  16'b0;
-    h2d_primary_ack_ex =  1'b0;
-    h2d_primary_nack_ex =  1'b0;
-    r16_primary_rdata_accum_next = r16_primary_rdata_accum;
-    r16_primary_data_cnt_next = 1'b0;
-    case (r16_primary_state)
-      3'h0: begin // IDLE
-          r16_primary_rdata_accum_next = 32'b0;
-          if (d2h_primary_re_ex | d2h_primary_we_ex) begin
-            r16_primary_cmdValid_dly0 =  1'b1;
-            r16_primary_cmdData_dly0[7] = d2h_primary_we_ex;
-            r16_primary_cmdData_dly0 [5:4]  = 2'd1;
-            r16_primary_state_next = 3'h1;
-          end
-        end
-      3'h1: begin // CMD_ADDR
-          r16_primary_cmdValid_dly0 =  1'b1;
-          r16_primary_cmdData_dly0 = {13'h1, d2h_primary_addr_ex};
-          if (d2h_primary_we_ex) r16_primary_state_next = 3'h2;
-          else r16_primary_state_next = 3'h3;
-        end
-      3'h2: begin // CMD_DATA
-          r16_primary_cmdValid_dly0 =  1'b1;
-          r16_primary_data_cnt_next = r16_primary_data_cnt + 1'b1;
-          if (r16_primary_data_cnt == 1'd0)
-            r16_primary_cmdData_dly0 = d2h_primary_w_ex [15:0] ;
-          else if (r16_primary_data_cnt == 1'd1)
-            r16_primary_cmdData_dly0 = d2h_primary_w_ex [31:16] ;
-          if (r16_primary_data_cnt == 1'b1)
-            r16_primary_state_next = 3'h3;
-        end
-      3'h3: begin  // RES_WAIT
-          if (r16_primary_resValid_dly1) begin
-            if (d2h_primary_re_ex & r16_primary_resData_dly1[14] & ~r16_primary_resData_dly1[15]) r16_primary_state_next = 3'h4;
-            else if (~r16_primary_resData_dly1[14]) r16_primary_state_next = 3'h6;
-            else r16_primary_state_next = 3'h5;
-          end
-        end
-      3'h4: begin  // RES_READ
-          r16_primary_data_cnt_next = r16_primary_data_cnt;
-          if (r16_primary_resValid_dly1) begin
-            r16_primary_data_cnt_next = r16_primary_data_cnt + 1'b1;
-            if (r16_primary_data_cnt == 1'd0)
-              r16_primary_rdata_accum_next [15:0]  = r16_primary_resData_dly1;
-            else if (r16_primary_data_cnt == 1'd1)
-              r16_primary_rdata_accum_next [31:16]  = r16_primary_resData_dly1;
-          end
-          if (r16_primary_data_cnt == 1'b1) r16_primary_state_next = 3'h5;
-        end
-      3'h5: begin // RES_DONE_ACK
-          h2d_primary_ack_ex = 1'b1;
-          r16_primary_state_next = 3'h0;
-        end
-      3'h6: begin // RES_DONE_NACK
-          h2d_primary_nack_ex = 1'b1;
-          r16_primary_state_next = 3'h0;
-        end
-      default:
-        r16_primary_state_next = 3'h0;
-    endcase
-  end
-  
-  //------- reg assigns for primary ring16 i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      r16_primary_state <= #1  3'b0;
-      r16_primary_cmdValid_dly1 <= #1  1'b0;
-      r16_primary_cmdData_dly1 <= #1  16'b0;
-      r16_primary_resValid_dly1 <= #1  1'b0;
-      r16_primary_resData_dly1 <= #1  16'b0;
-      r16_primary_data_cnt <= #1  1'b0;
-    end
-    else begin
-      r16_primary_state <= #1  r16_primary_state_next;
-      r16_primary_cmdValid_dly1 <= #1  r16_primary_cmdValid_dly0;
-      r16_primary_cmdData_dly1 <= #1  r16_primary_cmdData_dly0;
-      r16_primary_resValid_dly1 <= #1  r16_primary_resValid_dly0;
-      r16_primary_resData_dly1 <= #1  r16_primary_resData_dly0;
-      r16_primary_rdata_accum <= #1  r16_primary_rdata_accum_next;
-      r16_primary_data_cnt <= #1  r16_primary_data_cnt_next;
-    end
-  end
-  
   //------- combinatorial assigns for interface arbiter sm
   always @ (*) begin
     arbiter_state_next = arbiter_state;
@@ -1094,6 +1103,51 @@ module base_map_jrdl_decode
     end
   end
   
+  //------- combinatorial assigns for interface arbiter acks/nacks
+  always @ (*) begin
+    p1_dec_pio_ack =  1'b0;
+    p1_dec_pio_nack =  1'b0;
+    p2_dec_pio_ack =  1'b0;
+    p2_dec_pio_nack =  1'b0;
+    if (arbiter_state == 3'h1) begin
+      p1_dec_pio_ack = dec_pio_ack;
+      p1_dec_pio_nack = dec_pio_nack;
+    end
+    else if (arbiter_state == 3'h2) begin
+      p2_dec_pio_ack = dec_pio_ack;
+      p2_dec_pio_nack = dec_pio_nack;
+    end
+    else if (arbiter_state == 3'h3) begin
+      p2_dec_pio_nack = 1'b1;
+    end
+  end
+  
+  //------- combinatorial assigns for interface arbiter early acks/nacks
+  always @ (*) begin
+    p1_dec_pio_ack_next =  1'b0;
+    p1_dec_pio_nack_next =  1'b0;
+    p2_dec_pio_ack_next =  1'b0;
+    p2_dec_pio_nack_next =  1'b0;
+    if (arbiter_state == 3'h1) begin
+      p1_dec_pio_ack_next = dec_pio_ack_next;
+      p1_dec_pio_nack_next = dec_pio_nack_next;
+    end
+    else if (arbiter_state == 3'h2) begin
+      p2_dec_pio_ack_next = dec_pio_ack_next;
+      p2_dec_pio_nack_next = dec_pio_nack_next;
+    end
+  end
+  
+  //------- combinatorial assigns for interface arbiter input select
+  always @ (*) begin
+    pio_dec_address = p1_pio_dec_address;
+    pio_dec_write_data = p1_pio_dec_write_data;
+    if (arbiter_state == 3'h2) begin
+      pio_dec_address = p2_pio_dec_address;
+      pio_dec_write_data = p2_pio_dec_write_data;
+    end
+  end
+  
   //------- reg assigns for pio i/f
   always @ (posedge clk) begin
     if (reset) begin
@@ -1108,53 +1162,18 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- reg assigns for external i/f
-  always @ (posedge clk) begin
-    if (reset) begin
-      d2h_primary_we_ex <= #1  1'b0;
-      d2h_primary_re_ex <= #1  1'b0;
-    end
-    else begin
-      d2h_primary_w_ex <= #1  d2h_primary_w_next;
-      d2h_primary_we_ex <= #1  d2h_primary_we_next & ~h2d_primary_ack_ex & ~h2d_primary_nack_ex;
-      d2h_primary_re_ex <= #1  d2h_primary_re_next & ~h2d_primary_ack_ex & ~h2d_primary_nack_ex;
-      d2h_primary_addr_ex <= #1  d2h_primary_addr_next;
-    end
-  end
-  
-  //------- combinatorial assigns for primary leaf i/f
+  //------- combinatorial assigns for pio read data
   always @ (*) begin
-    p1_leaf_dec_valid_hld1_next = p1_leaf_dec_valid | p1_leaf_dec_valid_hld1;
-    if (p1_dec_pio_ack_next | p1_dec_pio_nack_next) p1_leaf_dec_valid_hld1_next = 1'b0;
-    p1_leaf_dec_wr_dvld_hld1_next = p1_leaf_dec_wr_dvld | p1_leaf_dec_wr_dvld_hld1;
-    if (p1_dec_pio_ack_next | p1_dec_pio_nack_next | p1_leaf_dec_valid) p1_leaf_dec_wr_dvld_hld1_next = 1'b0;
+    dec_pio_read_data = dec_pio_read_data_d1;
   end
   
-  //------- reg assigns for primary leaf i/f
+  //------- reg assigns for pio read data
   always @ (posedge clk) begin
     if (reset) begin
-      p1_leaf_dec_valid_hld1 <= #1  1'b0;
-      p1_leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  32'b0;
     end
     else begin
-      p1_leaf_dec_valid_hld1 <= #1 p1_leaf_dec_valid_hld1_next;
-      p1_leaf_dec_wr_dvld_hld1 <= #1 p1_leaf_dec_wr_dvld_hld1_next;
-    end
-  end
-  
-  //------- combinatorial assigns for interface arbiter early acks/nacks
-  always @ (*) begin
-    p1_dec_pio_ack_next =  1'b0;
-    p1_dec_pio_nack_next =  1'b0;
-    p2_dec_pio_ack_next =  1'b0;
-    p2_dec_pio_nack_next =  1'b0;
-    if (arbiter_state == 3'h1) begin
-      p1_dec_pio_ack_next = dec_pio_ack_next;
-      p1_dec_pio_nack_next = dec_pio_nack_next;
-    end
-    else if (arbiter_state == 3'h2) begin
-      p2_dec_pio_ack_next = dec_pio_ack_next;
-      p2_dec_pio_nack_next = dec_pio_nack_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -1184,25 +1203,6 @@ module base_map_jrdl_decode
     end
   end
   
-  //------- combinatorial assigns for interface arbiter acks/nacks
-  always @ (*) begin
-    p1_dec_pio_ack =  1'b0;
-    p1_dec_pio_nack =  1'b0;
-    p2_dec_pio_ack =  1'b0;
-    p2_dec_pio_nack =  1'b0;
-    if (arbiter_state == 3'h1) begin
-      p1_dec_pio_ack = dec_pio_ack;
-      p1_dec_pio_nack = dec_pio_nack;
-    end
-    else if (arbiter_state == 3'h2) begin
-      p2_dec_pio_ack = dec_pio_ack;
-      p2_dec_pio_nack = dec_pio_nack;
-    end
-    else if (arbiter_state == 3'h3) begin
-      p2_dec_pio_nack = 1'b1;
-    end
-  end
-  
   
   //------- address decode
   always @ (*) begin
@@ -0,0 +1,515 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ../test.rdl
+//   Parms: ../test.parms
+//   Date: Mon Oct 19 06:12:14 UTC 2026
+//
+
+`timescale 1 ns / 100 ps
+//
+//---------- module base_map_test_leaf_bfm
+//
+module base_map_test_leaf_bfm
+(
+  address,
+  wr_data,
+  wr_enable,
+  rd_compare,
+  rd_data,
+  trans_type,
+  size,
+  leaf_go,
+  CLK,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+
+  active,
+  done,
+  leaf_dec_addr,
+  leaf_dec_wr_data,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width );
+
+  //------- inputs
+  input     [39:0] address;
+  input     [31:0] wr_data;
+  input    wr_enable;
+  input    rd_compare;
+  input     [31:0] rd_data;
+  input     [1:0] trans_type;
+  input     [3:0] size;
+  input    leaf_go;
+  input    CLK;
+  input     [31:0] dec_leaf_rd_data;
+  input    dec_leaf_ack;
+  input    dec_leaf_nack;
+  input    dec_leaf_accept;
+  input    dec_leaf_reject;
+  input    dec_leaf_retry_atomic;
+  input     [2:0] dec_leaf_data_width;
+
+  //------- outputs
+  output    active;
+  output    done;
+  output     [39:0] leaf_dec_addr;
+  output     [31:0] leaf_dec_wr_data;
+  output    leaf_dec_valid;
+  output    leaf_dec_wr_dvld;
+  output     [1:0] leaf_dec_cycle;
+  output     [2:0] leaf_dec_wr_width;
+
+
+  //------- reg defines
+  reg  active;
+  reg  done;
+  reg   [39:0] leaf_dec_addr;
+  reg   [31:0] leaf_dec_wr_data;
+  reg  leaf_dec_valid;
+  reg  leaf_dec_wr_dvld;
+  reg   [1:0] leaf_dec_cycle;
+  reg   [2:0] leaf_dec_wr_width;
+  reg   [4:0] trans_size;
+  
+  initial begin
+    active = 0;
+    done = 0;
+    leaf_dec_addr = 0;
+    leaf_dec_wr_data = 0;
+    leaf_dec_valid = 0;
+    leaf_dec_wr_dvld = 0;
+    leaf_dec_cycle = 0;
+    leaf_dec_wr_width = 0;
+  end
+  
+  always @(posedge leaf_go) begin
+    @(posedge CLK);
+      #1 active = 1'b1;
+      leaf_dec_addr = address;
+      leaf_dec_wr_data = wr_data;
+      leaf_dec_valid = 1'b1;
+      leaf_dec_wr_dvld = 1'b0;
+      leaf_dec_cycle = trans_type;
+      trans_size = {1'b0, size} + 5'b1;
+      if (trans_type[1] == 1'b0) begin
+        leaf_dec_wr_width = size [2:0] ;
+        $display("%0d: initiating %d word write to address %x (data=%x)...", $time, trans_size, address, wr_data);
+      end
+      else begin
+        leaf_dec_wr_width = 0;
+        $display("%0d: initiating %d word read to address %x...", $time, trans_size, address);
+      end
+  
+    @(posedge CLK);
+      leaf_dec_valid = 1'b0;
+      leaf_dec_wr_dvld <= ~trans_type[1];
+      while (~dec_leaf_reject & ~dec_leaf_ack & ~dec_leaf_nack) begin
+         @(posedge CLK);
+         leaf_dec_wr_dvld = 1'b0;
+      end
+  
+    leaf_dec_valid = 1'b0;
+    leaf_dec_wr_dvld = 1'b0;
+    done = 1'b1;
+    $display("  accept = %d", dec_leaf_accept);
+    $display("  reject = %d", dec_leaf_reject);
+    $display("  ack = %d", dec_leaf_ack);
+    $display("  nack = %d", dec_leaf_nack);
+    $display("  return size = %x", dec_leaf_data_width);
+    $display("  retry = %d", dec_leaf_retry_atomic);
+    if (trans_type[1] == 1'b1) begin
+      $display("  read data = %x", dec_leaf_rd_data);
+      if (rd_compare) begin
+        if (dec_leaf_rd_data !== rd_data) $display("  read compare FAILED - expected %x", rd_data);
+        else $display("  read compare OK - expected %x", rd_data);
+      end
+    end
+    #1 active = 1'b0;
+    #1 done = 1'b0;
+  end
+  
+endmodule
+
+//
+//---------- module base_map_test
+//
+module base_map_test ( );
+  //------- wire defines
+  wire   [31:0] p1_leaf_dec_wr_data;
+  wire   [39:0] p1_leaf_dec_addr;
+  wire  p1_leaf_dec_valid;
+  wire  p1_leaf_dec_wr_dvld;
+  wire   [1:0] p1_leaf_dec_cycle;
+  wire   [2:0] p1_leaf_dec_wr_width;
+  wire   [31:0] p1_dec_leaf_rd_data;
+  wire  p1_dec_leaf_ack;
+  wire  p1_dec_leaf_nack;
+  wire  p1_dec_leaf_accept;
+  wire  p1_dec_leaf_reject;
+  wire  p1_dec_leaf_retry_atomic;
+  wire   [2:0] p1_dec_leaf_data_width;
+  wire   [2:0] p2_e1_status_state_w;
+  wire  p2_e1_status_nack_error_intr;
+  wire  p2_e1_status_bad_address_error_intr;
+  wire   [31:0] p2_e1_last_read_data_val_w;
+  wire   [15:0] l2h_base_regs_config_regs_0_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_0_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_1_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_1_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_2_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_2_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_3_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_3_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_4_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_4_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_5_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_5_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_6_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_6_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_7_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_7_msb_field_r;
+  wire  d2r_primary_cmd_valid;
+  wire   [15:0] d2r_primary_cmd_data;
+  wire  active;
+  wire  done;
+  
+  //------- reg defines
+  reg  CLK;
+  reg  CLK_div2;
+  reg  CLK_div4;
+  reg  clk;
+  reg  reset;
+  reg  r2d_primary_res_valid;
+  reg   [15:0] r2d_primary_res_data;
+  reg   [39:0] address;
+  reg   [31:0] wr_data;
+  reg  wr_enable;
+  reg  rd_compare;
+  reg   [31:0] rd_data;
+  reg   [1:0] trans_type;
+  reg   [3:0] size;
+  reg  leaf_go;
+  reg  p2_e1_cntl_start_r;
+  reg  p2_e1_cntl_force_stop_r;
+  reg   [1:0] p2_e1_cfg_mode_r;
+  reg   [1:0] p2_e1_cfg_stop_on_read_r;
+  reg  p2_e1_cfg_stop_on_count_r;
+  reg   [9:0] p2_e1_cfg_trans_delay_r;
+  reg   [1:0] p2_e1_cfg_read_capture_mode_r;
+  reg   [31:0] p2_e1_write_data_val_r;
+  reg   [31:0] p2_e1_write_mask_val_r;
+  reg   [5:2] p2_e1_address_start_val_r;
+  reg   [5:2] p2_e1_address_step_val_r;
+  reg   [17:2] p2_e1_max_trans_count_val_r;
+  reg   [31:0] p2_e1_read_match_data_val_r;
+  reg   [31:0] p2_e1_read_mask_val_r;
+  
+  always @(*)
+     clk = CLK;
+  
+  initial
+    begin
+    $display(" << Starting the Simulation >>");
+    $dumpfile("test.vcd");
+    $dumpvars(0,base_map_test);
+    #5000
+    $dumpoff;
+    $finish;
+  end
+  
+  initial
+    begin
+    CLK = 1'b0; // at time 0
+    CLK_div2 = 1'b0;
+    CLK_div4 = 1'b0;
+    reset = 0; // toggle reset
+    #15 reset = 1'b1;
+    $display(" %0d: Applying reset...", $time);
+    #30 reset = 1'b0;
+    $display(" %0d: Releasing reset...", $time);
+  end
+  
+  always
+     #5 CLK = ~CLK;
+  
+  always @ (posedge CLK)
+     CLK_div2 = ~CLK_div2; 
+  
+  always @ (posedge CLK_div2)
+     CLK_div4 = ~CLK_div4; 
+  
+  // 32b write task
+  task write32;
+    input  [39:0] in_address;
+    input  [31:0] in_wr_data;
+    input in_wr_enable;
+    output  [39:0] address;
+    output  [31:0] wr_data;
+    output wr_enable;
+    output rd_compare;
+    output  [31:0] rd_data;
+    output [1:0] trans_type;
+    output [3:0] size;
+    output leaf_go;
+    begin
+      address = #1 in_address;
+      wr_data = 0;
+      wr_data [31:0] = in_wr_data;
+      wr_enable = in_wr_enable;
+      rd_compare = 0;
+      rd_data = 0;
+      trans_type = 0;
+      size = 4'd0;
+      leaf_go = 1'b1;
+    end
+  endtask
+  
+  // 32b read task
+  task read32;
+    input  [39:0] in_address;
+    input in_rd_compare;
+    input  [31:0] in_rd_data;
+    output  [39:0] address;
+    output  [31:0] wr_data;
+    output wr_enable;
+    output rd_compare;
+    output  [31:0] rd_data;
+    output [1:0] trans_type;
+    output [3:0] size;
+    output leaf_go;
+    begin
+      address = #1 in_address;
+      wr_data = 0;
+      wr_enable = 0;
+      rd_compare = in_rd_compare;
+      rd_data = 0;
+      rd_data [31:0] = in_rd_data;
+      trans_type = 2'b10;
+      size = 4'd0;
+      leaf_go = 1'b1;
+    end
+  endtask
+  
+  initial
+    begin
+    CLK = 0;
+    CLK_div2 = 0;
+    CLK_div4 = 0;
+    reset = 0;
+    r2d_primary_res_valid = 0;
+    r2d_primary_res_data = 0;
+    address = 0;
+    wr_data = 0;
+    wr_enable = 0;
+    rd_compare = 0;
+    rd_data = 0;
+    trans_type = 0;
+    size = 0;
+    leaf_go = 0;
+    p2_e1_cntl_start_r = 0;
+    p2_e1_cntl_force_stop_r = 0;
+    p2_e1_cfg_mode_r = 0;
+    p2_e1_cfg_stop_on_read_r = 0;
+    p2_e1_cfg_stop_on_count_r = 0;
+    p2_e1_cfg_trans_delay_r = 0;
+    p2_e1_cfg_read_capture_mode_r = 0;
+    p2_e1_write_data_val_r = 0;
+    p2_e1_write_mask_val_r = 0;
+    p2_e1_address_start_val_r = 0;
+    p2_e1_address_step_val_r = 0;
+    p2_e1_max_trans_count_val_r = 0;
+    p2_e1_read_match_data_val_r = 0;
+    p2_e1_read_mask_val_r = 0;
+  
+    address = 0;
+    wr_data = 0;
+    wr_enable = 0;
+    rd_compare = 0;
+    rd_data = 0;
+    trans_type = 0;
+    size = 0;
+    leaf_go = 0;
+    repeat(5)
+      @(posedge CLK);
+  
+  p2_e1_cntl_trans_delay = 10'd8;
+  
+  p2_e1_cntl_mode = 2'h2;
+  
+  p2_e1_cntl_start = 1'b1;
+  
+  p2_e1_cntl_stop_on_read = 2'h0;
+  
+  p2_e1_cntl_stop_on_count = 1'b0;
+  
+  p2_e1_cntl_force_stop = 1'b0;
+  
+  p2_e1_cntl_read_capture_mode = 2'h3;
+  
+  p2_e1_max_trans_count_val = 16'd16;
+  
+  p2_e1_address_start_val = 4'd0;
+  
+  p2_e1_address_step_val = 4'd1;
+  
+  p2_e1_write_data_val = 32'hdeadbeef;
+  
+  p2_e1_write_mask_val = 32'hfff00fff;
+  
+  p2_e1_read_match_data_val = 32'h0f000000;
+  
+  p2_e1_read_mask_val = 32'hf0ffffff;
+  
+  read32(40'h0, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  p2_e1_cntl_start = 1'b0;
+  
+  write32(40'h0, 32'h12345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h0, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h20, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h20, 32'hf2345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h20, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h3c, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h3c, 32'h12345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h3c, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h24, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h24, 32'hf000000, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h24, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h40, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h40, 32'h12345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h40, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  end
+  
+  
+  base_map_pio pio_dut_0 (
+    .clk(clk),
+    .reset(reset),
+    .r2d_primary_res_valid(r2d_primary_res_valid),
+    .r2d_primary_res_data(r2d_primary_res_data),
+    .p1_leaf_dec_wr_data(p1_leaf_dec_wr_data),
+    .p1_leaf_dec_addr(p1_leaf_dec_addr),
+    .p1_leaf_dec_valid(p1_leaf_dec_valid),
+    .p1_leaf_dec_wr_dvld(p1_leaf_dec_wr_dvld),
+    .p1_leaf_dec_cycle(p1_leaf_dec_cycle),
+    .p1_leaf_dec_wr_width(p1_leaf_dec_wr_width),
+    .p2_e1_cntl_start_r(p2_e1_cntl_start_r),
+    .p2_e1_cntl_force_stop_r(p2_e1_cntl_force_stop_r),
+    .p2_e1_cfg_mode_r(p2_e1_cfg_mode_r),
+    .p2_e1_cfg_stop_on_read_r(p2_e1_cfg_stop_on_read_r),
+    .p2_e1_cfg_stop_on_count_r(p2_e1_cfg_stop_on_count_r),
+    .p2_e1_cfg_trans_delay_r(p2_e1_cfg_trans_delay_r),
+    .p2_e1_cfg_read_capture_mode_r(p2_e1_cfg_read_capture_mode_r),
+    .p2_e1_write_data_val_r(p2_e1_write_data_val_r),
+    .p2_e1_write_mask_val_r(p2_e1_write_mask_val_r),
+    .p2_e1_address_start_val_r(p2_e1_address_start_val_r),
+    .p2_e1_address_step_val_r(p2_e1_address_step_val_r),
+    .p2_e1_max_trans_count_val_r(p2_e1_max_trans_count_val_r),
+    .p2_e1_read_match_data_val_r(p2_e1_read_match_data_val_r),
+    .p2_e1_read_mask_val_r(p2_e1_read_mask_val_r),
+    .l2h_base_regs_config_regs_0_lsb_field_r(l2h_base_regs_config_regs_0_lsb_field_r),
+    .l2h_base_regs_config_regs_0_msb_field_r(l2h_base_regs_config_regs_0_msb_field_r),
+    .l2h_base_regs_config_regs_1_lsb_field_r(l2h_base_regs_config_regs_1_lsb_field_r),
+    .l2h_base_regs_config_regs_1_msb_field_r(l2h_base_regs_config_regs_1_msb_field_r),
+    .l2h_base_regs_config_regs_2_lsb_field_r(l2h_base_regs_config_regs_2_lsb_field_r),
+    .l2h_base_regs_config_regs_2_msb_field_r(l2h_base_regs_config_regs_2_msb_field_r),
+    .l2h_base_regs_config_regs_3_lsb_field_r(l2h_base_regs_config_regs_3_lsb_field_r),
+    .l2h_base_regs_config_regs_3_msb_field_r(l2h_base_regs_config_regs_3_msb_field_r),
+    .l2h_base_regs_config_regs_4_lsb_field_r(l2h_base_regs_config_regs_4_lsb_field_r),
+    .l2h_base_regs_config_regs_4_msb_field_r(l2h_base_regs_config_regs_4_msb_field_r),
+    .l2h_base_regs_config_regs_5_lsb_field_r(l2h_base_regs_config_regs_5_lsb_field_r),
+    .l2h_base_regs_config_regs_5_msb_field_r(l2h_base_regs_config_regs_5_msb_field_r),
+    .l2h_base_regs_config_regs_6_lsb_field_r(l2h_base_regs_config_regs_6_lsb_field_r),
+    .l2h_base_regs_config_regs_6_msb_field_r(l2h_base_regs_config_regs_6_msb_field_r),
+    .l2h_base_regs_config_regs_7_lsb_field_r(l2h_base_regs_config_regs_7_lsb_field_r),
+    .l2h_base_regs_config_regs_7_msb_field_r(l2h_base_regs_config_regs_7_msb_field_r),
+    .d2r_primary_cmd_valid(d2r_primary_cmd_valid),
+    .d2r_primary_cmd_data(d2r_primary_cmd_data),
+    .p1_dec_leaf_rd_data(p1_dec_leaf_rd_data),
+    .p1_dec_leaf_ack(p1_dec_leaf_ack),
+    .p1_dec_leaf_nack(p1_dec_leaf_nack),
+    .p1_dec_leaf_accept(p1_dec_leaf_accept),
+    .p1_dec_leaf_reject(p1_dec_leaf_reject),
+    .p1_dec_leaf_retry_atomic(p1_dec_leaf_retry_atomic),
+    .p1_dec_leaf_data_width(p1_dec_leaf_data_width),
+    .p2_e1_status_state_w(p2_e1_status_state_w),
+    .p2_e1_status_nack_error_intr(p2_e1_status_nack_error_intr),
+    .p2_e1_status_bad_address_error_intr(p2_e1_status_bad_address_error_intr),
+    .p2_e1_last_read_data_val_w(p2_e1_last_read_data_val_w) );
+    
+  base_map_test_leaf_bfm leaf_bfm (
+    .address(address),
+    .wr_data(wr_data),
+    .wr_enable(wr_enable),
+    .rd_compare(rd_compare),
+    .rd_data(rd_data),
+    .trans_type(trans_type),
+    .size(size),
+    .leaf_go(leaf_go),
+    .CLK(CLK),
+    .dec_leaf_rd_data(p1_dec_leaf_rd_data),
+    .dec_leaf_ack(p1_dec_leaf_ack),
+    .dec_leaf_nack(p1_dec_leaf_nack),
+    .dec_leaf_accept(p1_dec_leaf_accept),
+    .dec_leaf_reject(p1_dec_leaf_reject),
+    .dec_leaf_retry_atomic(p1_dec_leaf_retry_atomic),
+    .dec_leaf_data_width(p1_dec_leaf_data_width),
+    .active(active),
+    .done(done),
+    .leaf_dec_addr(p1_leaf_dec_addr),
+    .leaf_dec_wr_data(p1_leaf_dec_wr_data),
+    .leaf_dec_valid(p1_leaf_dec_valid),
+    .leaf_dec_wr_dvld(p1_leaf_dec_wr_dvld),
+    .leaf_dec_cycle(p1_leaf_dec_cycle),
+    .leaf_dec_wr_width(p1_leaf_dec_wr_width) );
+    
+endmodule
+
@@ -0,0 +1,471 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: par.rdl
+//   Parms: ../test.parms
+//   Date: Mon Oct 19 06:12:15 UTC 2026
+//
+
+`timescale 1 ns / 100 ps
+//
+//---------- module base_map_test_parallel_bfm
+//
+module base_map_test_parallel_bfm
+(
+  address,
+  wr_data,
+  wr_enable,
+  rd_compare,
+  rd_data,
+  trans_type,
+  size,
+  leaf_go,
+  CLK,
+  dec_pio_read_data,
+  dec_pio_ack,
+  dec_pio_nack,
+
+  active,
+  done,
+  pio_dec_address,
+  pio_dec_write_data,
+  pio_dec_read,
+  pio_dec_write );
+
+  //------- inputs
+  input     [39:0] address;
+  input     [31:0] wr_data;
+  input    wr_enable;
+  input    rd_compare;
+  input     [31:0] rd_data;
+  input     [1:0] trans_type;
+  input     [3:0] size;
+  input    leaf_go;
+  input    CLK;
+  input     [31:0] dec_pio_read_data;
+  input    dec_pio_ack;
+  input    dec_pio_nack;
+
+  //------- outputs
+  output    active;
+  output    done;
+  output     [3:0] pio_dec_address;
+  output     [31:0] pio_dec_write_data;
+  output    pio_dec_read;
+  output    pio_dec_write;
+
+
+  //------- reg defines
+  reg  active;
+  reg  done;
+  reg   [3:0] pio_dec_address;
+  reg   [31:0] pio_dec_write_data;
+  reg  pio_dec_read;
+  reg  pio_dec_write;
+  reg   [4:0] trans_size;
+  
+  initial begin
+    active = 0;
+    done = 0;
+    pio_dec_address = 0;
+    pio_dec_write_data = 0;
+    pio_dec_read = 0;
+    pio_dec_write = 0;
+  end
+  
+  always @(posedge leaf_go) begin
+    @(posedge CLK);
+      #1 active = 1'b1;
+      pio_dec_address = address [5:2] ;
+      pio_dec_write_data = wr_data;
+      pio_dec_read = trans_type[1];
+      pio_dec_write = ~trans_type[1];
+      trans_size = {1'b0, size} + 5'b1;
+      if (trans_type[1] == 1'b0) begin
+        $display("%0d: initiating %d word write to address %x (data=%x)...", $time, trans_size, address, wr_data);
+      end
+      else begin
+        $display("%0d: initiating %d word read to address %x...", $time, trans_size, address);
+      end
+  
+    @(posedge CLK);
+      while (~dec_pio_ack & ~dec_pio_nack) begin
+         @(posedge CLK);
+      end
+  
+    pio_dec_read = 1'b0;
+    pio_dec_write = 1'b0;
+    done = 1'b1;
+    $display("  ack = %d", dec_pio_ack);
+    $display("  nack = %d", dec_pio_nack);
+    if (trans_type[1] == 1'b1) begin
+      $display("  read data = %x", dec_pio_read_data);
+      if (rd_compare) begin
+        if (dec_pio_read_data !== rd_data) $display("  read compare FAILED - expected %x", rd_data);
+        else $display("  read compare OK - expected %x", rd_data);
+      end
+    end
+    #1 active = 1'b0;
+    #1 done = 1'b0;
+  end
+  
+endmodule
+
+//
+//---------- module base_map_test
+//
+module base_map_test ( );
+  //------- wire defines
+  wire   [5:2] p1_h2d_pio_dec_address;
+  wire   [31:0] p1_h2d_pio_dec_write_data;
+  wire  p1_h2d_pio_dec_write;
+  wire  p1_h2d_pio_dec_read;
+  wire   [31:0] p1_d2h_dec_pio_read_data;
+  wire  p1_d2h_dec_pio_ack;
+  wire  p1_d2h_dec_pio_nack;
+  wire   [2:0] p2_e1_status_state_w;
+  wire  p2_e1_status_nack_error_intr;
+  wire  p2_e1_status_bad_address_error_intr;
+  wire   [31:0] p2_e1_last_read_data_val_w;
+  wire   [15:0] l2h_base_regs_config_regs_0_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_0_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_1_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_1_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_2_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_2_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_3_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_3_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_4_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_4_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_5_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_5_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_6_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_6_msb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_7_lsb_field_r;
+  wire   [15:0] l2h_base_regs_config_regs_7_msb_field_r;
+  wire  d2r_primary_cmd_valid;
+  wire   [15:0] d2r_primary_cmd_data;
+  wire  active;
+  wire  done;
+  
+  //------- reg defines
+  reg  CLK;
+  reg  CLK_div2;
+  reg  CLK_div4;
+  reg  clk;
+  reg  reset;
+  reg  r2d_primary_res_valid;
+  reg   [15:0] r2d_primary_res_data;
+  reg   [39:0] address;
+  reg   [31:0] wr_data;
+  reg  wr_enable;
+  reg  rd_compare;
+  reg   [31:0] rd_data;
+  reg   [1:0] trans_type;
+  reg   [3:0] size;
+  reg  leaf_go;
+  reg  p2_e1_cntl_start_r;
+  reg  p2_e1_cntl_force_stop_r;
+  reg   [1:0] p2_e1_cfg_mode_r;
+  reg   [1:0] p2_e1_cfg_stop_on_read_r;
+  reg  p2_e1_cfg_stop_on_count_r;
+  reg   [9:0] p2_e1_cfg_trans_delay_r;
+  reg   [1:0] p2_e1_cfg_read_capture_mode_r;
+  reg   [31:0] p2_e1_write_data_val_r;
+  reg   [31:0] p2_e1_write_mask_val_r;
+  reg   [5:2] p2_e1_address_start_val_r;
+  reg   [5:2] p2_e1_address_step_val_r;
+  reg   [17:2] p2_e1_max_trans_count_val_r;
+  reg   [31:0] p2_e1_read_match_data_val_r;
+  reg   [31:0] p2_e1_read_mask_val_r;
+  
+  always @(*)
+     clk = CLK;
+  
+  initial
+    begin
+    $display(" << Starting the Simulation >>");
+    $dumpfile("test.vcd");
+    $dumpvars(0,base_map_test);
+    #5000
+    $dumpoff;
+    $finish;
+  end
+  
+  initial
+    begin
+    CLK = 1'b0; // at time 0
+    CLK_div2 = 1'b0;
+    CLK_div4 = 1'b0;
+    reset = 0; // toggle reset
+    #15 reset = 1'b1;
+    $display(" %0d: Applying reset...", $time);
+    #30 reset = 1'b0;
+    $display(" %0d: Releasing reset...", $time);
+  end
+  
+  always
+     #5 CLK = ~CLK;
+  
+  always @ (posedge CLK)
+     CLK_div2 = ~CLK_div2; 
+  
+  always @ (posedge CLK_div2)
+     CLK_div4 = ~CLK_div4; 
+  
+  // 32b write task
+  task write32;
+    input  [39:0] in_address;
+    input  [31:0] in_wr_data;
+    input in_wr_enable;
+    output  [39:0] address;
+    output  [31:0] wr_data;
+    output wr_enable;
+    output rd_compare;
+    output  [31:0] rd_data;
+    output [1:0] trans_type;
+    output [3:0] size;
+    output leaf_go;
+    begin
+      address = #1 in_address;
+      wr_data = 0;
+      wr_data [31:0] = in_wr_data;
+      wr_enable = in_wr_enable;
+      rd_compare = 0;
+      rd_data = 0;
+      trans_type = 0;
+      size = 4'd0;
+      leaf_go = 1'b1;
+    end
+  endtask
+  
+  // 32b read task
+  task read32;
+    input  [39:0] in_address;
+    input in_rd_compare;
+    input  [31:0] in_rd_data;
+    output  [39:0] address;
+    output  [31:0] wr_data;
+    output wr_enable;
+    output rd_compare;
+    output  [31:0] rd_data;
+    output [1:0] trans_type;
+    output [3:0] size;
+    output leaf_go;
+    begin
+      address = #1 in_address;
+      wr_data = 0;
+      wr_enable = 0;
+      rd_compare = in_rd_compare;
+      rd_data = 0;
+      rd_data [31:0] = in_rd_data;
+      trans_type = 2'b10;
+      size = 4'd0;
+      leaf_go = 1'b1;
+    end
+  endtask
+  
+  initial
+    begin
+    CLK = 0;
+    CLK_div2 = 0;
+    CLK_div4 = 0;
+    reset = 0;
+    r2d_primary_res_valid = 0;
+    r2d_primary_res_data = 0;
+    address = 0;
+    wr_data = 0;
+    wr_enable = 0;
+    rd_compare = 0;
+    rd_data = 0;
+    trans_type = 0;
+    size = 0;
+    leaf_go = 0;
+    p2_e1_cntl_start_r = 0;
+    p2_e1_cntl_force_stop_r = 0;
+    p2_e1_cfg_mode_r = 0;
+    p2_e1_cfg_stop_on_read_r = 0;
+    p2_e1_cfg_stop_on_count_r = 0;
+    p2_e1_cfg_trans_delay_r = 0;
+    p2_e1_cfg_read_capture_mode_r = 0;
+    p2_e1_write_data_val_r = 0;
+    p2_e1_write_mask_val_r = 0;
+    p2_e1_address_start_val_r = 0;
+    p2_e1_address_step_val_r = 0;
+    p2_e1_max_trans_count_val_r = 0;
+    p2_e1_read_match_data_val_r = 0;
+    p2_e1_read_mask_val_r = 0;
+  
+    address = 0;
+    wr_data = 0;
+    wr_enable = 0;
+    rd_compare = 0;
+    rd_data = 0;
+    trans_type = 0;
+    size = 0;
+    leaf_go = 0;
+    repeat(5)
+      @(posedge CLK);
+  
+  p2_e1_cntl_trans_delay = 10'd8;
+  
+  p2_e1_cntl_mode = 2'h2;
+  
+  p2_e1_cntl_start = 1'b1;
+  
+  p2_e1_cntl_stop_on_read = 2'h0;
+  
+  p2_e1_cntl_stop_on_count = 1'b0;
+  
+  p2_e1_cntl_force_stop = 1'b0;
+  
+  p2_e1_cntl_read_capture_mode = 2'h3;
+  
+  p2_e1_max_trans_count_val = 16'd16;
+  
+  p2_e1_address_start_val = 4'd0;
+  
+  p2_e1_address_step_val = 4'd1;
+  
+  p2_e1_write_data_val = 32'hdeadbeef;
+  
+  p2_e1_write_mask_val = 32'hfff00fff;
+  
+  p2_e1_read_match_data_val = 32'h0f000000;
+  
+  p2_e1_read_mask_val = 32'hf0ffffff;
+  
+  read32(40'h0, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  p2_e1_cntl_start = 1'b0;
+  
+  write32(40'h0, 32'h12345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h0, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h20, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h20, 32'hf2345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h20, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h3c, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h3c, 32'h12345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h3c, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h24, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h24, 32'hf000000, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h24, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h40, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  write32(40'h40, 32'h12345678, 0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  read32(40'h40, 1'b0, 32'h0, address, wr_data, wr_enable, rd_compare, rd_data, trans_type, size, leaf_go);
+  @ (posedge done)
+     leaf_go = #2 1'b0;
+  
+  end
+  
+  
+  base_map_pio pio_dut_0 (
+    .clk(clk),
+    .reset(reset),
+    .r2d_primary_res_valid(r2d_primary_res_valid),
+    .r2d_primary_res_data(r2d_primary_res_data),
+    .p1_h2d_pio_dec_address(p1_h2d_pio_dec_address),
+    .p1_h2d_pio_dec_write_data(p1_h2d_pio_dec_write_data),
+    .p1_h2d_pio_dec_write(p1_h2d_pio_dec_write),
+    .p1_h2d_pio_dec_read(p1_h2d_pio_dec_read),
+    .p2_e1_cntl_start_r(p2_e1_cntl_start_r),
+    .p2_e1_cntl_force_stop_r(p2_e1_cntl_force_stop_r),
+    .p2_e1_cfg_mode_r(p2_e1_cfg_mode_r),
+    .p2_e1_cfg_stop_on_read_r(p2_e1_cfg_stop_on_read_r),
+    .p2_e1_cfg_stop_on_count_r(p2_e1_cfg_stop_on_count_r),
+    .p2_e1_cfg_trans_delay_r(p2_e1_cfg_trans_delay_r),
+    .p2_e1_cfg_read_capture_mode_r(p2_e1_cfg_read_capture_mode_r),
+    .p2_e1_write_data_val_r(p2_e1_write_data_val_r),
+    .p2_e1_write_mask_val_r(p2_e1_write_mask_val_r),
+    .p2_e1_address_start_val_r(p2_e1_address_start_val_r),
+    .p2_e1_address_step_val_r(p2_e1_address_step_val_r),
+    .p2_e1_max_trans_count_val_r(p2_e1_max_trans_count_val_r),
+    .p2_e1_read_match_data_val_r(p2_e1_read_match_data_val_r),
+    .p2_e1_read_mask_val_r(p2_e1_read_mask_val_r),
+    .l2h_base_regs_config_regs_0_lsb_field_r(l2h_base_regs_config_regs_0_lsb_field_r),
+    .l2h_base_regs_config_regs_0_msb_field_r(l2h_base_regs_config_regs_0_msb_field_r),
+    .l2h_base_regs_config_regs_1_lsb_field_r(l2h_base_regs_config_regs_1_lsb_field_r),
+    .l2h_base_regs_config_regs_1_msb_field_r(l2h_base_regs_config_regs_1_msb_field_r),
+    .l2h_base_regs_config_regs_2_lsb_field_r(l2h_base_regs_config_regs_2_lsb_field_r),
+    .l2h_base_regs_config_regs_2_msb_field_r(l2h_base_regs_config_regs_2_msb_field_r),
+    .l2h_base_regs_config_regs_3_lsb_field_r(l2h_base_regs_config_regs_3_lsb_field_r),
+    .l2h_base_regs_config_regs_3_msb_field_r(l2h_base_regs_config_regs_3_msb_field_r),
+    .l2h_base_regs_config_regs_4_lsb_field_r(l2h_base_regs_config_regs_4_lsb_field_r),
+    .l2h_base_regs_config_regs_4_msb_field_r(l2h_base_regs_config_regs_4_msb_field_r),
+    .l2h_base_regs_config_regs_5_lsb_field_r(l2h_base_regs_config_regs_5_lsb_field_r),
+    .l2h_base_regs_config_regs_5_msb_field_r(l2h_base_regs_config_regs_5_msb_field_r),
+    .l2h_base_regs_config_regs_6_lsb_field_r(l2h_base_regs_config_regs_6_lsb_field_r),
+    .l2h_base_regs_config_regs_6_msb_field_r(l2h_base_regs_config_regs_6_msb_field_r),
+    .l2h_base_regs_config_regs_7_lsb_field_r(l2h_base_regs_config_regs_7_lsb_field_r),
+    .l2h_base_regs_config_regs_7_msb_field_r(l2h_base_regs_config_regs_7_msb_field_r),
+    .d2r_primary_cmd_valid(d2r_primary_cmd_valid),
+    .d2r_primary_cmd_data(d2r_primary_cmd_data),
+    .p1_d2h_dec_pio_read_data(p1_d2h_dec_pio_read_data),
+    .p1_d2h_dec_pio_ack(p1_d2h_dec_pio_ack),
+    .p1_d2h_dec_pio_nack(p1_d2h_dec_pio_nack),
+    .p2_e1_status_state_w(p2_e1_status_state_w),
+    .p2_e1_status_nack_error_intr(p2_e1_status_nack_error_intr),
+    .p2_e1_status_bad_address_error_intr(p2_e1_status_bad_address_error_intr),
+    .p2_e1_last_read_data_val_w(p2_e1_last_read_data_val_w) );
+    
+  base_map_test_parallel_bfm parallel_bfm (
+    .address(address),
+    .wr_data(wr_data),
+    .wr_enable(wr_enable),
+    .rd_compare(rd_compare),
+    .rd_data(rd_data),
+    .trans_type(trans_type),
+    .size(size),
+    .leaf_go(leaf_go),
+    .CLK(CLK),
+    .dec_pio_read_data(p1_d2h_dec_pio_read_data),
+    .dec_pio_ack(p1_d2h_dec_pio_ack),
+    .dec_pio_nack(p1_d2h_dec_pio_nack),
+    .active(active),
+    .done(done),
+    .pio_dec_address(p1_h2d_pio_dec_address),
+    .pio_dec_write_data(p1_h2d_pio_dec_write_data),
+    .pio_dec_read(p1_h2d_pio_dec_read),
+    .pio_dec_write(p1_h2d_pio_dec_write) );
+    
+endmodule
+
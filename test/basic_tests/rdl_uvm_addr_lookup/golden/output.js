@@ -0,0 +1,100 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_uvm_addr_lookup/test.rdl
+ *   Parms: ./rdl_uvm_addr_lookup/test.parms
+ *   Date: Mon Oct 19 05:13:38 UTC 2026
+ */
+
+register_set lookup_map "Registers for lookup_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register first_reg "first_reg register" {
+    address = 0x0;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set pairs "pairs register_set" {
+    address = 0x100;
+    
+    register a_regs "a_regs register" {
+      address = 0x0;
+      repeat = 4;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register b_reg "b_reg register" {
+      address = 0x40;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x44;
+  };
+  
+  register_set rep_pairs "rep_pairs register_set" {
+    address = 0x200;
+    repeat = 2;
+    
+    register a_regs "a_regs register" {
+      address = 0x0;
+      repeat = 4;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register b_reg "b_reg register" {
+      address = 0x40;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x80;
+  };
+  
+  register last_reg "last_reg register" {
+    address = 0x400;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set_size = 0x404;
+};
+
@@ -0,0 +1,80 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_uvm_bulk_reset/test.rdl
+ *   Parms: ./rdl_uvm_bulk_reset/test.parms
+ *   Date: Mon Oct 19 04:24:48 UTC 2026
+ */
+
+register_set bulk_map "Registers for bulk_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register top_mixed "top_mixed register" {
+    address = 0x0;
+    integer wo_field[4] "wo_field field" param {
+      access_mode = WRITE_ONLY;
+      reset = 0x0;
+    };
+    integer dc_field[4] "dc_field field" param {
+      access_mode = READ_WRITE;
+      reset = unknown;
+    };
+    integer status_field[8] "status_field field" param {
+      access_mode = READ_ONLY;
+      reset = 0x0;
+    };
+    integer no_reset_field[8] "no_reset_field field" param {
+      access_mode = READ_WRITE;
+      reset = unknown;
+    };
+    integer reset_field[8] "reset_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x5a;
+    };
+  };
+  
+  register_set sub "sub register_set" {
+    address = 0x100;
+    repeat = 2;
+    
+    register mixed "mixed register" {
+      address = 0x0;
+      integer wo_field[4] "wo_field field" param {
+        access_mode = WRITE_ONLY;
+        reset = 0x0;
+      };
+      integer dc_field[4] "dc_field field" param {
+        access_mode = READ_WRITE;
+        reset = unknown;
+      };
+      integer status_field[8] "status_field field" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      integer no_reset_field[8] "no_reset_field field" param {
+        access_mode = READ_WRITE;
+        reset = unknown;
+      };
+      integer reset_field[8] "reset_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x5a;
+      };
+    };
+    
+    register all_reset "all_reset register" {
+      address = 0x4;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x1234;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x8;
+  };
+  
+  register_set_size = 0x110;
+};
+
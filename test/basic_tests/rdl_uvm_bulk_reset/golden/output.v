@@ -0,0 +1,825 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_bulk_reset/test.rdl
+//   Parms: ./rdl_uvm_bulk_reset/test.parms
+//   Date: Mon Oct 19 04:24:48 UTC 2026
+//
+
+//
+//---------- module bulk_map_jrdl_logic
+//
+module bulk_map_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_top_mixed_w,
+  d2l_top_mixed_we,
+  d2l_top_mixed_re,
+  d2l_sub_0_mixed_w,
+  d2l_sub_0_mixed_we,
+  d2l_sub_0_mixed_re,
+  d2l_sub_0_all_reset_w,
+  d2l_sub_0_all_reset_we,
+  d2l_sub_0_all_reset_re,
+  d2l_sub_1_mixed_w,
+  d2l_sub_1_mixed_we,
+  d2l_sub_1_mixed_re,
+  d2l_sub_1_all_reset_w,
+  d2l_sub_1_all_reset_we,
+  d2l_sub_1_all_reset_re,
+  h2l_top_mixed_status_field_w,
+  h2l_sub_0_mixed_status_field_w,
+  h2l_sub_1_mixed_status_field_w,
+
+  l2d_top_mixed_r,
+  l2d_sub_0_mixed_r,
+  l2d_sub_0_all_reset_r,
+  l2d_sub_1_mixed_r,
+  l2d_sub_1_all_reset_r,
+  l2h_top_mixed_reset_field_r,
+  l2h_top_mixed_no_reset_field_r,
+  l2h_top_mixed_dc_field_r,
+  l2h_top_mixed_wo_field_r,
+  l2h_sub_0_mixed_reset_field_r,
+  l2h_sub_0_mixed_no_reset_field_r,
+  l2h_sub_0_mixed_dc_field_r,
+  l2h_sub_0_mixed_wo_field_r,
+  l2h_sub_0_all_reset_lsb_field_r,
+  l2h_sub_0_all_reset_msb_field_r,
+  l2h_sub_1_mixed_reset_field_r,
+  l2h_sub_1_mixed_no_reset_field_r,
+  l2h_sub_1_mixed_dc_field_r,
+  l2h_sub_1_mixed_wo_field_r,
+  l2h_sub_1_all_reset_lsb_field_r,
+  l2h_sub_1_all_reset_msb_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_top_mixed_w;
+  input    d2l_top_mixed_we;
+  input    d2l_top_mixed_re;
+  input     [31:0] d2l_sub_0_mixed_w;
+  input    d2l_sub_0_mixed_we;
+  input    d2l_sub_0_mixed_re;
+  input     [31:0] d2l_sub_0_all_reset_w;
+  input    d2l_sub_0_all_reset_we;
+  input    d2l_sub_0_all_reset_re;
+  input     [31:0] d2l_sub_1_mixed_w;
+  input    d2l_sub_1_mixed_we;
+  input    d2l_sub_1_mixed_re;
+  input     [31:0] d2l_sub_1_all_reset_w;
+  input    d2l_sub_1_all_reset_we;
+  input    d2l_sub_1_all_reset_re;
+  input     [7:0] h2l_top_mixed_status_field_w;
+  input     [7:0] h2l_sub_0_mixed_status_field_w;
+  input     [7:0] h2l_sub_1_mixed_status_field_w;
+
+  //------- outputs
+  output     [31:0] l2d_top_mixed_r;
+  output     [31:0] l2d_sub_0_mixed_r;
+  output     [31:0] l2d_sub_0_all_reset_r;
+  output     [31:0] l2d_sub_1_mixed_r;
+  output     [31:0] l2d_sub_1_all_reset_r;
+  output     [7:0] l2h_top_mixed_reset_field_r;
+  output     [7:0] l2h_top_mixed_no_reset_field_r;
+  output     [3:0] l2h_top_mixed_dc_field_r;
+  output     [3:0] l2h_top_mixed_wo_field_r;
+  output     [7:0] l2h_sub_0_mixed_reset_field_r;
+  output     [7:0] l2h_sub_0_mixed_no_reset_field_r;
+  output     [3:0] l2h_sub_0_mixed_dc_field_r;
+  output     [3:0] l2h_sub_0_mixed_wo_field_r;
+  output     [15:0] l2h_sub_0_all_reset_lsb_field_r;
+  output     [15:0] l2h_sub_0_all_reset_msb_field_r;
+  output     [7:0] l2h_sub_1_mixed_reset_field_r;
+  output     [7:0] l2h_sub_1_mixed_no_reset_field_r;
+  output     [3:0] l2h_sub_1_mixed_dc_field_r;
+  output     [3:0] l2h_sub_1_mixed_wo_field_r;
+  output     [15:0] l2h_sub_1_all_reset_lsb_field_r;
+  output     [15:0] l2h_sub_1_all_reset_msb_field_r;
+
+
+  //------- reg defines
+  reg   [7:0] rg_top_mixed_reset_field;
+  reg   [7:0] reg_top_mixed_reset_field_next;
+  reg   [7:0] l2h_top_mixed_reset_field_r;
+  reg   [7:0] rg_top_mixed_no_reset_field;
+  reg   [7:0] reg_top_mixed_no_reset_field_next;
+  reg   [7:0] l2h_top_mixed_no_reset_field_r;
+  reg   [7:0] rg_top_mixed_status_field;
+  reg   [3:0] rg_top_mixed_dc_field;
+  reg   [3:0] reg_top_mixed_dc_field_next;
+  reg   [3:0] l2h_top_mixed_dc_field_r;
+  reg   [3:0] rg_top_mixed_wo_field;
+  reg   [3:0] reg_top_mixed_wo_field_next;
+  reg   [3:0] l2h_top_mixed_wo_field_r;
+  reg   [31:0] l2d_top_mixed_r;
+  reg   [7:0] rg_sub_0_mixed_reset_field;
+  reg   [7:0] reg_sub_0_mixed_reset_field_next;
+  reg   [7:0] l2h_sub_0_mixed_reset_field_r;
+  reg   [7:0] rg_sub_0_mixed_no_reset_field;
+  reg   [7:0] reg_sub_0_mixed_no_reset_field_next;
+  reg   [7:0] l2h_sub_0_mixed_no_reset_field_r;
+  reg   [7:0] rg_sub_0_mixed_status_field;
+  reg   [3:0] rg_sub_0_mixed_dc_field;
+  reg   [3:0] reg_sub_0_mixed_dc_field_next;
+  reg   [3:0] l2h_sub_0_mixed_dc_field_r;
+  reg   [3:0] rg_sub_0_mixed_wo_field;
+  reg   [3:0] reg_sub_0_mixed_wo_field_next;
+  reg   [3:0] l2h_sub_0_mixed_wo_field_r;
+  reg   [31:0] l2d_sub_0_mixed_r;
+  reg   [15:0] rg_sub_0_all_reset_lsb_field;
+  reg   [15:0] reg_sub_0_all_reset_lsb_field_next;
+  reg   [15:0] l2h_sub_0_all_reset_lsb_field_r;
+  reg   [15:0] rg_sub_0_all_reset_msb_field;
+  reg   [15:0] reg_sub_0_all_reset_msb_field_next;
+  reg   [15:0] l2h_sub_0_all_reset_msb_field_r;
+  reg   [31:0] l2d_sub_0_all_reset_r;
+  reg   [7:0] rg_sub_1_mixed_reset_field;
+  reg   [7:0] reg_sub_1_mixed_reset_field_next;
+  reg   [7:0] l2h_sub_1_mixed_reset_field_r;
+  reg   [7:0] rg_sub_1_mixed_no_reset_field;
+  reg   [7:0] reg_sub_1_mixed_no_reset_field_next;
+  reg   [7:0] l2h_sub_1_mixed_no_reset_field_r;
+  reg   [7:0] rg_sub_1_mixed_status_field;
+  reg   [3:0] rg_sub_1_mixed_dc_field;
+  reg   [3:0] reg_sub_1_mixed_dc_field_next;
+  reg   [3:0] l2h_sub_1_mixed_dc_field_r;
+  reg   [3:0] rg_sub_1_mixed_wo_field;
+  reg   [3:0] reg_sub_1_mixed_wo_field_next;
+  reg   [3:0] l2h_sub_1_mixed_wo_field_r;
+  reg   [31:0] l2d_sub_1_mixed_r;
+  reg   [15:0] rg_sub_1_all_reset_lsb_field;
+  reg   [15:0] reg_sub_1_all_reset_lsb_field_next;
+  reg   [15:0] l2h_sub_1_all_reset_lsb_field_r;
+  reg   [15:0] rg_sub_1_all_reset_msb_field;
+  reg   [15:0] reg_sub_1_all_reset_msb_field_next;
+  reg   [15:0] l2h_sub_1_all_reset_msb_field_r;
+  reg   [31:0] l2d_sub_1_all_reset_r;
+  
+  
+  //------- combinatorial assigns for top_mixed
+  always @ (*) begin
+    reg_top_mixed_reset_field_next = rg_top_mixed_reset_field;
+    l2h_top_mixed_reset_field_r = rg_top_mixed_reset_field;
+    reg_top_mixed_no_reset_field_next = rg_top_mixed_no_reset_field;
+    l2h_top_mixed_no_reset_field_r = rg_top_mixed_no_reset_field;
+    rg_top_mixed_status_field =  h2l_top_mixed_status_field_w;
+    reg_top_mixed_dc_field_next = rg_top_mixed_dc_field;
+    l2h_top_mixed_dc_field_r = rg_top_mixed_dc_field;
+    reg_top_mixed_wo_field_next = rg_top_mixed_wo_field;
+    l2h_top_mixed_wo_field_r = rg_top_mixed_wo_field;
+    if (d2l_top_mixed_we) reg_top_mixed_reset_field_next = d2l_top_mixed_w [7:0] ;
+    if (d2l_top_mixed_we) reg_top_mixed_no_reset_field_next = d2l_top_mixed_w [15:8] ;
+    if (d2l_top_mixed_we) reg_top_mixed_dc_field_next = d2l_top_mixed_w [27:24] ;
+    if (d2l_top_mixed_we) reg_top_mixed_wo_field_next = d2l_top_mixed_w [31:28] ;
+  end
+  
+  //------- reg assigns for top_mixed
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_top_mixed_reset_field <= #1 8'h5a;
+      rg_top_mixed_dc_field <= #1 4'h3;
+      rg_top_mixed_wo_field <= #1 4'h0;
+    end
+    else begin
+      rg_top_mixed_reset_field <= #1  reg_top_mixed_reset_field_next;
+      rg_top_mixed_no_reset_field <= #1  reg_top_mixed_no_reset_field_next;
+      rg_top_mixed_dc_field <= #1  reg_top_mixed_dc_field_next;
+      rg_top_mixed_wo_field <= #1  reg_top_mixed_wo_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for top_mixed (pio read data)
+  always @ (*) begin
+    l2d_top_mixed_r [7:0]  = rg_top_mixed_reset_field;
+    l2d_top_mixed_r [15:8]  = rg_top_mixed_no_reset_field;
+    l2d_top_mixed_r [23:16]  = rg_top_mixed_status_field;
+    l2d_top_mixed_r [27:24]  = rg_top_mixed_dc_field;
+  end
+  
+  //------- combinatorial assigns for sub_0_mixed
+  always @ (*) begin
+    reg_sub_0_mixed_reset_field_next = rg_sub_0_mixed_reset_field;
+    l2h_sub_0_mixed_reset_field_r = rg_sub_0_mixed_reset_field;
+    reg_sub_0_mixed_no_reset_field_next = rg_sub_0_mixed_no_reset_field;
+    l2h_sub_0_mixed_no_reset_field_r = rg_sub_0_mixed_no_reset_field;
+    rg_sub_0_mixed_status_field =  h2l_sub_0_mixed_status_field_w;
+    reg_sub_0_mixed_dc_field_next = rg_sub_0_mixed_dc_field;
+    l2h_sub_0_mixed_dc_field_r = rg_sub_0_mixed_dc_field;
+    reg_sub_0_mixed_wo_field_next = rg_sub_0_mixed_wo_field;
+    l2h_sub_0_mixed_wo_field_r = rg_sub_0_mixed_wo_field;
+    if (d2l_sub_0_mixed_we) reg_sub_0_mixed_reset_field_next = d2l_sub_0_mixed_w [7:0] ;
+    if (d2l_sub_0_mixed_we) reg_sub_0_mixed_no_reset_field_next = d2l_sub_0_mixed_w [15:8] ;
+    if (d2l_sub_0_mixed_we) reg_sub_0_mixed_dc_field_next = d2l_sub_0_mixed_w [27:24] ;
+    if (d2l_sub_0_mixed_we) reg_sub_0_mixed_wo_field_next = d2l_sub_0_mixed_w [31:28] ;
+  end
+  
+  //------- reg assigns for sub_0_mixed
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_sub_0_mixed_reset_field <= #1 8'h5a;
+      rg_sub_0_mixed_dc_field <= #1 4'h3;
+      rg_sub_0_mixed_wo_field <= #1 4'h0;
+    end
+    else begin
+      rg_sub_0_mixed_reset_field <= #1  reg_sub_0_mixed_reset_field_next;
+      rg_sub_0_mixed_no_reset_field <= #1  reg_sub_0_mixed_no_reset_field_next;
+      rg_sub_0_mixed_dc_field <= #1  reg_sub_0_mixed_dc_field_next;
+      rg_sub_0_mixed_wo_field <= #1  reg_sub_0_mixed_wo_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for sub_0_mixed (pio read data)
+  always @ (*) begin
+    l2d_sub_0_mixed_r [7:0]  = rg_sub_0_mixed_reset_field;
+    l2d_sub_0_mixed_r [15:8]  = rg_sub_0_mixed_no_reset_field;
+    l2d_sub_0_mixed_r [23:16]  = rg_sub_0_mixed_status_field;
+    l2d_sub_0_mixed_r [27:24]  = rg_sub_0_mixed_dc_field;
+  end
+  
+  //------- combinatorial assigns for sub_0_all_reset
+  always @ (*) begin
+    reg_sub_0_all_reset_lsb_field_next = rg_sub_0_all_reset_lsb_field;
+    l2h_sub_0_all_reset_lsb_field_r = rg_sub_0_all_reset_lsb_field;
+    reg_sub_0_all_reset_msb_field_next = rg_sub_0_all_reset_msb_field;
+    l2h_sub_0_all_reset_msb_field_r = rg_sub_0_all_reset_msb_field;
+    if (d2l_sub_0_all_reset_we) reg_sub_0_all_reset_lsb_field_next = d2l_sub_0_all_reset_w [15:0] ;
+    if (d2l_sub_0_all_reset_we) reg_sub_0_all_reset_msb_field_next = d2l_sub_0_all_reset_w [31:16] ;
+  end
+  
+  //------- reg assigns for sub_0_all_reset
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_sub_0_all_reset_lsb_field <= #1 16'hffff;
+      rg_sub_0_all_reset_msb_field <= #1 16'h1234;
+    end
+    else begin
+      rg_sub_0_all_reset_lsb_field <= #1  reg_sub_0_all_reset_lsb_field_next;
+      rg_sub_0_all_reset_msb_field <= #1  reg_sub_0_all_reset_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for sub_0_all_reset (pio read data)
+  always @ (*) begin
+    l2d_sub_0_all_reset_r [15:0]  = rg_sub_0_all_reset_lsb_field;
+    l2d_sub_0_all_reset_r [31:16]  = rg_sub_0_all_reset_msb_field;
+  end
+  
+  //------- combinatorial assigns for sub_1_mixed
+  always @ (*) begin
+    reg_sub_1_mixed_reset_field_next = rg_sub_1_mixed_reset_field;
+    l2h_sub_1_mixed_reset_field_r = rg_sub_1_mixed_reset_field;
+    reg_sub_1_mixed_no_reset_field_next = rg_sub_1_mixed_no_reset_field;
+    l2h_sub_1_mixed_no_reset_field_r = rg_sub_1_mixed_no_reset_field;
+    rg_sub_1_mixed_status_field =  h2l_sub_1_mixed_status_field_w;
+    reg_sub_1_mixed_dc_field_next = rg_sub_1_mixed_dc_field;
+    l2h_sub_1_mixed_dc_field_r = rg_sub_1_mixed_dc_field;
+    reg_sub_1_mixed_wo_field_next = rg_sub_1_mixed_wo_field;
+    l2h_sub_1_mixed_wo_field_r = rg_sub_1_mixed_wo_field;
+    if (d2l_sub_1_mixed_we) reg_sub_1_mixed_reset_field_next = d2l_sub_1_mixed_w [7:0] ;
+    if (d2l_sub_1_mixed_we) reg_sub_1_mixed_no_reset_field_next = d2l_sub_1_mixed_w [15:8] ;
+    if (d2l_sub_1_mixed_we) reg_sub_1_mixed_dc_field_next = d2l_sub_1_mixed_w [27:24] ;
+    if (d2l_sub_1_mixed_we) reg_sub_1_mixed_wo_field_next = d2l_sub_1_mixed_w [31:28] ;
+  end
+  
+  //------- reg assigns for sub_1_mixed
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_sub_1_mixed_reset_field <= #1 8'h5a;
+      rg_sub_1_mixed_dc_field <= #1 4'h3;
+      rg_sub_1_mixed_wo_field <= #1 4'h0;
+    end
+    else begin
+      rg_sub_1_mixed_reset_field <= #1  reg_sub_1_mixed_reset_field_next;
+      rg_sub_1_mixed_no_reset_field <= #1  reg_sub_1_mixed_no_reset_field_next;
+      rg_sub_1_mixed_dc_field <= #1  reg_sub_1_mixed_dc_field_next;
+      rg_sub_1_mixed_wo_field <= #1  reg_sub_1_mixed_wo_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for sub_1_mixed (pio read data)
+  always @ (*) begin
+    l2d_sub_1_mixed_r [7:0]  = rg_sub_1_mixed_reset_field;
+    l2d_sub_1_mixed_r [15:8]  = rg_sub_1_mixed_no_reset_field;
+    l2d_sub_1_mixed_r [23:16]  = rg_sub_1_mixed_status_field;
+    l2d_sub_1_mixed_r [27:24]  = rg_sub_1_mixed_dc_field;
+  end
+  
+  //------- combinatorial assigns for sub_1_all_reset
+  always @ (*) begin
+    reg_sub_1_all_reset_lsb_field_next = rg_sub_1_all_reset_lsb_field;
+    l2h_sub_1_all_reset_lsb_field_r = rg_sub_1_all_reset_lsb_field;
+    reg_sub_1_all_reset_msb_field_next = rg_sub_1_all_reset_msb_field;
+    l2h_sub_1_all_reset_msb_field_r = rg_sub_1_all_reset_msb_field;
+    if (d2l_sub_1_all_reset_we) reg_sub_1_all_reset_lsb_field_next = d2l_sub_1_all_reset_w [15:0] ;
+    if (d2l_sub_1_all_reset_we) reg_sub_1_all_reset_msb_field_next = d2l_sub_1_all_reset_w [31:16] ;
+  end
+  
+  //------- reg assigns for sub_1_all_reset
+  always @ (posedge clk) begin
+    if (reset) begin
+      rg_sub_1_all_reset_lsb_field <= #1 16'hffff;
+      rg_sub_1_all_reset_msb_field <= #1 16'h1234;
+    end
+    else begin
+      rg_sub_1_all_reset_lsb_field <= #1  reg_sub_1_all_reset_lsb_field_next;
+      rg_sub_1_all_reset_msb_field <= #1  reg_sub_1_all_reset_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for sub_1_all_reset (pio read data)
+  always @ (*) begin
+    l2d_sub_1_all_reset_r [15:0]  = rg_sub_1_all_reset_lsb_field;
+    l2d_sub_1_all_reset_r [31:16]  = rg_sub_1_all_reset_msb_field;
+  end
+  
+endmodule
+
+//
+//---------- module bulk_map_jrdl_decode
+//
+module bulk_map_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_top_mixed_r,
+  l2d_sub_0_mixed_r,
+  l2d_sub_0_all_reset_r,
+  l2d_sub_1_mixed_r,
+  l2d_sub_1_all_reset_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_top_mixed_w,
+  d2l_top_mixed_we,
+  d2l_top_mixed_re,
+  d2l_sub_0_mixed_w,
+  d2l_sub_0_mixed_we,
+  d2l_sub_0_mixed_re,
+  d2l_sub_0_all_reset_w,
+  d2l_sub_0_all_reset_we,
+  d2l_sub_0_all_reset_re,
+  d2l_sub_1_mixed_w,
+  d2l_sub_1_mixed_we,
+  d2l_sub_1_mixed_re,
+  d2l_sub_1_all_reset_w,
+  d2l_sub_1_all_reset_we,
+  d2l_sub_1_all_reset_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_top_mixed_r;
+  input     [31:0] l2d_sub_0_mixed_r;
+  input     [31:0] l2d_sub_0_all_reset_r;
+  input     [31:0] l2d_sub_1_mixed_r;
+  input     [31:0] l2d_sub_1_all_reset_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_top_mixed_w;
+  output    d2l_top_mixed_we;
+  output    d2l_top_mixed_re;
+  output     [31:0] d2l_sub_0_mixed_w;
+  output    d2l_sub_0_mixed_we;
+  output    d2l_sub_0_mixed_re;
+  output     [31:0] d2l_sub_0_all_reset_w;
+  output    d2l_sub_0_all_reset_we;
+  output    d2l_sub_0_all_reset_re;
+  output     [31:0] d2l_sub_1_mixed_w;
+  output    d2l_sub_1_mixed_we;
+  output    d2l_sub_1_mixed_re;
+  output     [31:0] d2l_sub_1_all_reset_w;
+  output    d2l_sub_1_all_reset_we;
+  output    d2l_sub_1_all_reset_re;
+
+
+  //------- wire defines
+  wire   [31:0] pio_dec_write_data;
+  wire   [8:2] pio_dec_address;
+  wire  pio_dec_read;
+  wire  pio_dec_write;
+  wire   [39:0] block_sel_addr;
+  wire  block_sel;
+  wire  leaf_dec_valid_active;
+  wire  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  reg   [31:0] d2l_top_mixed_w;
+  reg  d2l_top_mixed_we;
+  reg  d2l_top_mixed_re;
+  reg   [31:0] d2l_sub_0_mixed_w;
+  reg  d2l_sub_0_mixed_we;
+  reg  d2l_sub_0_mixed_re;
+  reg   [31:0] d2l_sub_0_all_reset_w;
+  reg  d2l_sub_0_all_reset_we;
+  reg  d2l_sub_0_all_reset_re;
+  reg   [31:0] d2l_sub_1_mixed_w;
+  reg  d2l_sub_1_mixed_we;
+  reg  d2l_sub_1_mixed_re;
+  reg   [31:0] d2l_sub_1_all_reset_w;
+  reg  d2l_sub_1_all_reset_we;
+  reg  d2l_sub_1_all_reset_re;
+  reg  leaf_dec_valid_hld1;
+  reg  leaf_dec_valid_hld1_next;
+  reg  leaf_dec_wr_dvld_hld1;
+  reg  leaf_dec_wr_dvld_hld1_next;
+  reg  pio_write_active;
+  reg  pio_read_active;
+  reg   [8:2] pio_dec_address_d1;
+  reg   [31:0] pio_dec_write_data_d1;
+  reg   [31:0] dec_pio_read_data;
+  reg   [31:0] dec_pio_read_data_d1;
+  reg  dec_pio_ack;
+  reg  dec_pio_nack;
+  reg  dec_pio_ack_next;
+  reg  dec_pio_nack_next;
+  reg  pio_internal_ack;
+  reg  pio_internal_nack;
+  reg  pio_external_ack;
+  reg  pio_external_nack;
+  reg  pio_external_ack_next;
+  reg  pio_external_nack_next;
+  reg  pio_no_acks;
+  reg  pio_activate_write;
+  reg  pio_activate_read;
+  reg   [31:0] dec_pio_read_data_next;
+  reg  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [8:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always @ (*) begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always @ (*) begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always @ (*) begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always @ (*) begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_top_mixed_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_top_mixed_we = 1'b0;
+    d2l_top_mixed_re = 1'b0;
+    d2l_sub_0_mixed_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_sub_0_mixed_we = 1'b0;
+    d2l_sub_0_mixed_re = 1'b0;
+    d2l_sub_0_all_reset_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_sub_0_all_reset_we = 1'b0;
+    d2l_sub_0_all_reset_re = 1'b0;
+    d2l_sub_1_mixed_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_sub_1_mixed_we = 1'b0;
+    d2l_sub_1_mixed_re = 1'b0;
+    d2l_sub_1_all_reset_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_sub_1_all_reset_we = 1'b0;
+    d2l_sub_1_all_reset_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: top_mixed     Address: 0x0     External: false
+    7'b0000000:
+      begin
+        d2l_top_mixed_we = pio_write_active & ~dec_pio_ack;
+        d2l_top_mixed_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_top_mixed_r;
+      end
+    //  Register: sub_0.mixed     Address: 0x100     External: false
+    7'b1000000:
+      begin
+        d2l_sub_0_mixed_we = pio_write_active & ~dec_pio_ack;
+        d2l_sub_0_mixed_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_sub_0_mixed_r;
+      end
+    //  Register: sub_0.all_reset     Address: 0x104     External: false
+    7'b1000001:
+      begin
+        d2l_sub_0_all_reset_we = pio_write_active & ~dec_pio_ack;
+        d2l_sub_0_all_reset_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_sub_0_all_reset_r;
+      end
+    //  Register: sub_1.mixed     Address: 0x108     External: false
+    7'b1000010:
+      begin
+        d2l_sub_1_mixed_we = pio_write_active & ~dec_pio_ack;
+        d2l_sub_1_mixed_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_sub_1_mixed_r;
+      end
+    //  Register: sub_1.all_reset     Address: 0x10c     External: false
+    7'b1000011:
+      begin
+        d2l_sub_1_all_reset_we = pio_write_active & ~dec_pio_ack;
+        d2l_sub_1_all_reset_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_sub_1_all_reset_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module bulk_map_pio
+//
+module bulk_map_pio
+(
+  clk,
+  reset,
+  h2l_top_mixed_status_field_w,
+  h2l_sub_0_mixed_status_field_w,
+  h2l_sub_1_mixed_status_field_w,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_top_mixed_reset_field_r,
+  l2h_top_mixed_no_reset_field_r,
+  l2h_top_mixed_dc_field_r,
+  l2h_top_mixed_wo_field_r,
+  l2h_sub_0_mixed_reset_field_r,
+  l2h_sub_0_mixed_no_reset_field_r,
+  l2h_sub_0_mixed_dc_field_r,
+  l2h_sub_0_mixed_wo_field_r,
+  l2h_sub_0_all_reset_lsb_field_r,
+  l2h_sub_0_all_reset_msb_field_r,
+  l2h_sub_1_mixed_reset_field_r,
+  l2h_sub_1_mixed_no_reset_field_r,
+  l2h_sub_1_mixed_dc_field_r,
+  l2h_sub_1_mixed_wo_field_r,
+  l2h_sub_1_all_reset_lsb_field_r,
+  l2h_sub_1_all_reset_msb_field_r,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [7:0] h2l_top_mixed_status_field_w;
+  input     [7:0] h2l_sub_0_mixed_status_field_w;
+  input     [7:0] h2l_sub_1_mixed_status_field_w;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [7:0] l2h_top_mixed_reset_field_r;
+  output     [7:0] l2h_top_mixed_no_reset_field_r;
+  output     [3:0] l2h_top_mixed_dc_field_r;
+  output     [3:0] l2h_top_mixed_wo_field_r;
+  output     [7:0] l2h_sub_0_mixed_reset_field_r;
+  output     [7:0] l2h_sub_0_mixed_no_reset_field_r;
+  output     [3:0] l2h_sub_0_mixed_dc_field_r;
+  output     [3:0] l2h_sub_0_mixed_wo_field_r;
+  output     [15:0] l2h_sub_0_all_reset_lsb_field_r;
+  output     [15:0] l2h_sub_0_all_reset_msb_field_r;
+  output     [7:0] l2h_sub_1_mixed_reset_field_r;
+  output     [7:0] l2h_sub_1_mixed_no_reset_field_r;
+  output     [3:0] l2h_sub_1_mixed_dc_field_r;
+  output     [3:0] l2h_sub_1_mixed_wo_field_r;
+  output     [15:0] l2h_sub_1_all_reset_lsb_field_r;
+  output     [15:0] l2h_sub_1_all_reset_msb_field_r;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  wire   [31:0] d2l_top_mixed_w;
+  wire  d2l_top_mixed_we;
+  wire  d2l_top_mixed_re;
+  wire   [31:0] d2l_sub_0_mixed_w;
+  wire  d2l_sub_0_mixed_we;
+  wire  d2l_sub_0_mixed_re;
+  wire   [31:0] d2l_sub_0_all_reset_w;
+  wire  d2l_sub_0_all_reset_we;
+  wire  d2l_sub_0_all_reset_re;
+  wire   [31:0] d2l_sub_1_mixed_w;
+  wire  d2l_sub_1_mixed_we;
+  wire  d2l_sub_1_mixed_re;
+  wire   [31:0] d2l_sub_1_all_reset_w;
+  wire  d2l_sub_1_all_reset_we;
+  wire  d2l_sub_1_all_reset_re;
+  wire   [31:0] l2d_top_mixed_r;
+  wire   [31:0] l2d_sub_0_mixed_r;
+  wire   [31:0] l2d_sub_0_all_reset_r;
+  wire   [31:0] l2d_sub_1_mixed_r;
+  wire   [31:0] l2d_sub_1_all_reset_r;
+  
+  
+  bulk_map_jrdl_decode pio_decode (
+    .clk(clk),
+    .reset(reset),
+    .leaf_dec_wr_data(leaf_dec_wr_data),
+    .leaf_dec_addr(leaf_dec_addr),
+    .leaf_dec_block_sel(leaf_dec_block_sel),
+    .leaf_dec_valid(leaf_dec_valid),
+    .leaf_dec_wr_dvld(leaf_dec_wr_dvld),
+    .leaf_dec_cycle(leaf_dec_cycle),
+    .leaf_dec_wr_width(leaf_dec_wr_width),
+    .l2d_top_mixed_r(l2d_top_mixed_r),
+    .l2d_sub_0_mixed_r(l2d_sub_0_mixed_r),
+    .l2d_sub_0_all_reset_r(l2d_sub_0_all_reset_r),
+    .l2d_sub_1_mixed_r(l2d_sub_1_mixed_r),
+    .l2d_sub_1_all_reset_r(l2d_sub_1_all_reset_r),
+    .dec_leaf_rd_data(dec_leaf_rd_data),
+    .dec_leaf_ack(dec_leaf_ack),
+    .dec_leaf_nack(dec_leaf_nack),
+    .dec_leaf_accept(dec_leaf_accept),
+    .dec_leaf_reject(dec_leaf_reject),
+    .dec_leaf_retry_atomic(dec_leaf_retry_atomic),
+    .dec_leaf_data_width(dec_leaf_data_width),
+    .d2l_top_mixed_w(d2l_top_mixed_w),
+    .d2l_top_mixed_we(d2l_top_mixed_we),
+    .d2l_top_mixed_re(d2l_top_mixed_re),
+    .d2l_sub_0_mixed_w(d2l_sub_0_mixed_w),
+    .d2l_sub_0_mixed_we(d2l_sub_0_mixed_we),
+    .d2l_sub_0_mixed_re(d2l_sub_0_mixed_re),
+    .d2l_sub_0_all_reset_w(d2l_sub_0_all_reset_w),
+    .d2l_sub_0_all_reset_we(d2l_sub_0_all_reset_we),
+    .d2l_sub_0_all_reset_re(d2l_sub_0_all_reset_re),
+    .d2l_sub_1_mixed_w(d2l_sub_1_mixed_w),
+    .d2l_sub_1_mixed_we(d2l_sub_1_mixed_we),
+    .d2l_sub_1_mixed_re(d2l_sub_1_mixed_re),
+    .d2l_sub_1_all_reset_w(d2l_sub_1_all_reset_w),
+    .d2l_sub_1_all_reset_we(d2l_sub_1_all_reset_we),
+    .d2l_sub_1_all_reset_re(d2l_sub_1_all_reset_re) );
+    
+  bulk_map_jrdl_logic pio_logic (
+    .clk(clk),
+    .reset(reset),
+    .d2l_top_mixed_w(d2l_top_mixed_w),
+    .d2l_top_mixed_we(d2l_top_mixed_we),
+    .d2l_top_mixed_re(d2l_top_mixed_re),
+    .d2l_sub_0_mixed_w(d2l_sub_0_mixed_w),
+    .d2l_sub_0_mixed_we(d2l_sub_0_mixed_we),
+    .d2l_sub_0_mixed_re(d2l_sub_0_mixed_re),
+    .d2l_sub_0_all_reset_w(d2l_sub_0_all_reset_w),
+    .d2l_sub_0_all_reset_we(d2l_sub_0_all_reset_we),
+    .d2l_sub_0_all_reset_re(d2l_sub_0_all_reset_re),
+    .d2l_sub_1_mixed_w(d2l_sub_1_mixed_w),
+    .d2l_sub_1_mixed_we(d2l_sub_1_mixed_we),
+    .d2l_sub_1_mixed_re(d2l_sub_1_mixed_re),
+    .d2l_sub_1_all_reset_w(d2l_sub_1_all_reset_w),
+    .d2l_sub_1_all_reset_we(d2l_sub_1_all_reset_we),
+    .d2l_sub_1_all_reset_re(d2l_sub_1_all_reset_re),
+    .h2l_top_mixed_status_field_w(h2l_top_mixed_status_field_w),
+    .h2l_sub_0_mixed_status_field_w(h2l_sub_0_mixed_status_field_w),
+    .h2l_sub_1_mixed_status_field_w(h2l_sub_1_mixed_status_field_w),
+    .l2d_top_mixed_r(l2d_top_mixed_r),
+    .l2d_sub_0_mixed_r(l2d_sub_0_mixed_r),
+    .l2d_sub_0_all_reset_r(l2d_sub_0_all_reset_r),
+    .l2d_sub_1_mixed_r(l2d_sub_1_mixed_r),
+    .l2d_sub_1_all_reset_r(l2d_sub_1_all_reset_r),
+    .l2h_top_mixed_reset_field_r(l2h_top_mixed_reset_field_r),
+    .l2h_top_mixed_no_reset_field_r(l2h_top_mixed_no_reset_field_r),
+    .l2h_top_mixed_dc_field_r(l2h_top_mixed_dc_field_r),
+    .l2h_top_mixed_wo_field_r(l2h_top_mixed_wo_field_r),
+    .l2h_sub_0_mixed_reset_field_r(l2h_sub_0_mixed_reset_field_r),
+    .l2h_sub_0_mixed_no_reset_field_r(l2h_sub_0_mixed_no_reset_field_r),
+    .l2h_sub_0_mixed_dc_field_r(l2h_sub_0_mixed_dc_field_r),
+    .l2h_sub_0_mixed_wo_field_r(l2h_sub_0_mixed_wo_field_r),
+    .l2h_sub_0_all_reset_lsb_field_r(l2h_sub_0_all_reset_lsb_field_r),
+    .l2h_sub_0_all_reset_msb_field_r(l2h_sub_0_all_reset_msb_field_r),
+    .l2h_sub_1_mixed_reset_field_r(l2h_sub_1_mixed_reset_field_r),
+    .l2h_sub_1_mixed_no_reset_field_r(l2h_sub_1_mixed_no_reset_field_r),
+    .l2h_sub_1_mixed_dc_field_r(l2h_sub_1_mixed_dc_field_r),
+    .l2h_sub_1_mixed_wo_field_r(l2h_sub_1_mixed_wo_field_r),
+    .l2h_sub_1_all_reset_lsb_field_r(l2h_sub_1_all_reset_lsb_field_r),
+    .l2h_sub_1_all_reset_msb_field_r(l2h_sub_1_all_reset_msb_field_r) );
+    
+endmodule
+
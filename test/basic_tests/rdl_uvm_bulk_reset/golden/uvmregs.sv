@@ -0,0 +1,225 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_bulk_reset/test.rdl
+//   Parms: ./rdl_uvm_bulk_reset/test.parms
+//   Date: Mon Oct 19 05:23:12 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register top_mixed
+class reg_bulk_map_top_mixed extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl reset_field;
+  rand uvm_reg_field_rdl no_reset_field;
+  rand uvm_reg_field_rdl status_field;
+  rand uvm_reg_field_rdl dc_field;
+  rand uvm_reg_field_rdl wo_field;
+  
+  function new(string name = "reg_bulk_map_top_mixed");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.reset_field = new("reset_field");
+    this.reset_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.reset_field.configure(this, 8, 0, "RW", 0, 8'h5a, 1, 1, 0);
+    this.no_reset_field = new("no_reset_field");
+    this.no_reset_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.no_reset_field.configure(this, 8, 8, "RW", 0, 0, 1, 1, 0);
+    void'(this.no_reset_field.has_reset(.delete(1)));
+    this.status_field = new("status_field");
+    this.status_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.status_field.configure(this, 8, 16, "RO", 1, 8'h0, 1, 0, 0);
+    this.dc_field = new("dc_field");
+    this.dc_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.dc_field.configure(this, 4, 24, "RW", 1, 4'h3, 1, 1, 0);
+    this.dc_field.set_dontcompare();
+    this.wo_field = new("wo_field");
+    this.wo_field.set_rdl_access_info(0, 1, 1, 0, 0, 0);
+    this.wo_field.configure(this, 4, 28, "WO", 0, 4'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "reset_field"}, 0, 8);
+    add_hdl_path_slice({rdl_reg_name, "no_reset_field"}, 8, 8);
+    add_hdl_path_slice({rdl_reg_name, "status_field"}, 16, 8);
+    add_hdl_path_slice({rdl_reg_name, "dc_field"}, 24, 4);
+    add_hdl_path_slice({rdl_reg_name, "wo_field"}, 28, 4);
+  endfunction: build
+  
+  
+  virtual function uvm_reg_data_t get_rdl_reset_value(string kind = "HARD");
+    if (kind != "HARD") return super.get_rdl_reset_value(kind);
+    return 32'h300005a;
+  endfunction: get_rdl_reset_value
+  
+  virtual function uvm_reg_data_t get_rdl_reset_check_mask(string kind = "HARD");
+    if (kind != "HARD") return super.get_rdl_reset_check_mask(kind);
+    return 32'hff;
+  endfunction: get_rdl_reset_check_mask
+  
+  virtual function uvm_reg_data_t get_rdl_mirror_check_mask();
+    return 32'hffff;
+  endfunction: get_rdl_mirror_check_mask
+  
+endclass : reg_bulk_map_top_mixed
+
+// Register mixed
+class reg_bulk_map_sub_mixed extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl reset_field;
+  rand uvm_reg_field_rdl no_reset_field;
+  rand uvm_reg_field_rdl status_field;
+  rand uvm_reg_field_rdl dc_field;
+  rand uvm_reg_field_rdl wo_field;
+  
+  function new(string name = "reg_bulk_map_sub_mixed");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.reset_field = new("reset_field");
+    this.reset_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.reset_field.configure(this, 8, 0, "RW", 0, 8'h5a, 1, 1, 0);
+    this.no_reset_field = new("no_reset_field");
+    this.no_reset_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.no_reset_field.configure(this, 8, 8, "RW", 0, 0, 1, 1, 0);
+    void'(this.no_reset_field.has_reset(.delete(1)));
+    this.status_field = new("status_field");
+    this.status_field.set_rdl_access_info(1, 0, 0, 1, 0, 0);
+    this.status_field.configure(this, 8, 16, "RO", 1, 8'h0, 1, 0, 0);
+    this.dc_field = new("dc_field");
+    this.dc_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.dc_field.configure(this, 4, 24, "RW", 1, 4'h3, 1, 1, 0);
+    this.dc_field.set_dontcompare();
+    this.wo_field = new("wo_field");
+    this.wo_field.set_rdl_access_info(0, 1, 1, 0, 0, 0);
+    this.wo_field.configure(this, 4, 28, "WO", 0, 4'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "reset_field"}, 0, 8);
+    add_hdl_path_slice({rdl_reg_name, "no_reset_field"}, 8, 8);
+    add_hdl_path_slice({rdl_reg_name, "status_field"}, 16, 8);
+    add_hdl_path_slice({rdl_reg_name, "dc_field"}, 24, 4);
+    add_hdl_path_slice({rdl_reg_name, "wo_field"}, 28, 4);
+  endfunction: build
+  
+  
+  virtual function uvm_reg_data_t get_rdl_reset_value(string kind = "HARD");
+    if (kind != "HARD") return super.get_rdl_reset_value(kind);
+    return 32'h300005a;
+  endfunction: get_rdl_reset_value
+  
+  virtual function uvm_reg_data_t get_rdl_reset_check_mask(string kind = "HARD");
+    if (kind != "HARD") return super.get_rdl_reset_check_mask(kind);
+    return 32'hff;
+  endfunction: get_rdl_reset_check_mask
+  
+  virtual function uvm_reg_data_t get_rdl_mirror_check_mask();
+    return 32'hffff;
+  endfunction: get_rdl_mirror_check_mask
+  
+endclass : reg_bulk_map_sub_mixed
+
+// Register all_reset
+class reg_bulk_map_sub_all_reset extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_bulk_map_sub_all_reset");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h1234, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+  
+  virtual function uvm_reg_data_t get_rdl_reset_value(string kind = "HARD");
+    if (kind != "HARD") return super.get_rdl_reset_value(kind);
+    return 32'h1234ffff;
+  endfunction: get_rdl_reset_value
+  
+  virtual function uvm_reg_data_t get_rdl_reset_check_mask(string kind = "HARD");
+    if (kind != "HARD") return super.get_rdl_reset_check_mask(kind);
+    return 32'hffff;
+  endfunction: get_rdl_reset_check_mask
+  
+  virtual function uvm_reg_data_t get_rdl_mirror_check_mask();
+    return 32'hffffffff;
+  endfunction: get_rdl_mirror_check_mask
+  
+endclass : reg_bulk_map_sub_all_reset
+
+// Block sub
+class block_bulk_map_sub extends uvm_reg_block_rdl;
+  rand reg_bulk_map_sub_mixed mixed;
+  rand reg_bulk_map_sub_all_reset all_reset;
+  
+  function new(string name = "block_bulk_map_sub");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.mixed = new("mixed");
+    this.mixed.configure(this, null, "");
+    this.mixed.set_rdl_tag("mixed_");
+    this.mixed.set_reg_test_info(0, 0, 0);
+    this.mixed.build();
+    this.default_map.add_reg(this.mixed, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.all_reset = new("all_reset");
+    this.all_reset.configure(this, null, "");
+    this.all_reset.set_rdl_tag("all_reset_");
+    this.all_reset.set_reg_test_info(0, 0, 0);
+    this.all_reset.build();
+    this.default_map.add_reg(this.all_reset, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_bulk_map_sub)
+endclass : block_bulk_map_sub
+
+// Base block
+class block_bulk_map extends uvm_reg_block_rdl;
+  rand reg_bulk_map_top_mixed top_mixed;
+  rand block_bulk_map_sub sub[2];
+  
+  function new(string name = "block_bulk_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`BULK_MAP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.top_mixed = new("top_mixed");
+    this.top_mixed.configure(this, null, "");
+    this.top_mixed.set_rdl_tag("top_mixed_");
+    this.top_mixed.set_reg_test_info(0, 0, 0);
+    this.top_mixed.build();
+    this.default_map.add_reg(this.top_mixed, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    foreach (this.sub[i]) begin
+      this.sub[i] = block_bulk_map_sub::type_id::create($psprintf("sub [%0d]",i),, get_full_name());
+      this.sub[i].configure(this, "");
+      this.sub[i].set_rdl_tag($psprintf("sub_%0d_",i));
+      this.sub[i].build();
+      this.default_map.add_submap(this.sub[i].default_map, `UVM_REG_ADDR_WIDTH'h100+i*`UVM_REG_ADDR_WIDTH'h8);
+    end
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_bulk_map)
+endclass : block_bulk_map
@@ -0,0 +1,73 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_uvm_lazy/test.rdl
+ *   Parms: ./rdl_uvm_lazy/test.parms
+ *   Date: Mon Oct 19 04:19:25 UTC 2026
+ */
+
+register_set lazy_map "Registers for lazy_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register small_array "small_array register" {
+    address = 0x0;
+    repeat = 2;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register big_array "big_array register" {
+    address = 0x100;
+    repeat = 8;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set big_rf_array "big_rf_array register_set" {
+    address = 0x200;
+    repeat = 4;
+    
+    register intr_en "intr_en register" {
+      address = 0x0;
+      nop[30];
+      integer int2[1] "int2 field" param {
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+      integer int1[1] "int1 field" param {
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+    };
+    
+    register status "status register" {
+      address = 0x4;
+      attributes = JS_ATTRIB_INT_STATUS;
+      nop[30];
+      integer int2[1] "int2 field" param {
+        access_mode = WRITE_ONE_TO_CLEAR;
+        reset = 0x0;
+      };
+      integer int1[1] "int1 field" param {
+        access_mode = WRITE_ONE_TO_CLEAR;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x10;
+  };
+  
+  register_set_size = 0x240;
+};
+
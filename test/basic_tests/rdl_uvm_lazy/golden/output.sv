@@ -0,0 +1,1650 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_lazy/test.rdl
+//   Parms: ./rdl_uvm_lazy/test.parms
+//   Date: Mon Oct 19 04:19:25 UTC 2026
+//
+
+//
+//---------- module lazy_map_jrdl_logic
+//
+module lazy_map_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_small_array_0_w,
+  d2l_small_array_0_we,
+  d2l_small_array_0_re,
+  d2l_small_array_1_w,
+  d2l_small_array_1_we,
+  d2l_small_array_1_re,
+  d2l_big_array_0_w,
+  d2l_big_array_0_we,
+  d2l_big_array_0_re,
+  d2l_big_array_1_w,
+  d2l_big_array_1_we,
+  d2l_big_array_1_re,
+  d2l_big_array_2_w,
+  d2l_big_array_2_we,
+  d2l_big_array_2_re,
+  d2l_big_array_3_w,
+  d2l_big_array_3_we,
+  d2l_big_array_3_re,
+  d2l_big_array_4_w,
+  d2l_big_array_4_we,
+  d2l_big_array_4_re,
+  d2l_big_array_5_w,
+  d2l_big_array_5_we,
+  d2l_big_array_5_re,
+  d2l_big_array_6_w,
+  d2l_big_array_6_we,
+  d2l_big_array_6_re,
+  d2l_big_array_7_w,
+  d2l_big_array_7_we,
+  d2l_big_array_7_re,
+  d2l_big_rf_array_0_intr_en_w,
+  d2l_big_rf_array_0_intr_en_we,
+  d2l_big_rf_array_0_intr_en_re,
+  d2l_big_rf_array_0_status_w,
+  d2l_big_rf_array_0_status_we,
+  d2l_big_rf_array_0_status_re,
+  d2l_big_rf_array_1_intr_en_w,
+  d2l_big_rf_array_1_intr_en_we,
+  d2l_big_rf_array_1_intr_en_re,
+  d2l_big_rf_array_1_status_w,
+  d2l_big_rf_array_1_status_we,
+  d2l_big_rf_array_1_status_re,
+  d2l_big_rf_array_2_intr_en_w,
+  d2l_big_rf_array_2_intr_en_we,
+  d2l_big_rf_array_2_intr_en_re,
+  d2l_big_rf_array_2_status_w,
+  d2l_big_rf_array_2_status_we,
+  d2l_big_rf_array_2_status_re,
+  d2l_big_rf_array_3_intr_en_w,
+  d2l_big_rf_array_3_intr_en_we,
+  d2l_big_rf_array_3_intr_en_re,
+  d2l_big_rf_array_3_status_w,
+  d2l_big_rf_array_3_status_we,
+  d2l_big_rf_array_3_status_re,
+  h2l_big_rf_array_0_status_int1_intr,
+  h2l_big_rf_array_0_status_int2_intr,
+  h2l_big_rf_array_1_status_int1_intr,
+  h2l_big_rf_array_1_status_int2_intr,
+  h2l_big_rf_array_2_status_int1_intr,
+  h2l_big_rf_array_2_status_int2_intr,
+  h2l_big_rf_array_3_status_int1_intr,
+  h2l_big_rf_array_3_status_int2_intr,
+
+  l2d_small_array_0_r,
+  l2d_small_array_1_r,
+  l2d_big_array_0_r,
+  l2d_big_array_1_r,
+  l2d_big_array_2_r,
+  l2d_big_array_3_r,
+  l2d_big_array_4_r,
+  l2d_big_array_5_r,
+  l2d_big_array_6_r,
+  l2d_big_array_7_r,
+  l2d_big_rf_array_0_intr_en_r,
+  l2d_big_rf_array_0_status_r,
+  l2d_big_rf_array_1_intr_en_r,
+  l2d_big_rf_array_1_status_r,
+  l2d_big_rf_array_2_intr_en_r,
+  l2d_big_rf_array_2_status_r,
+  l2d_big_rf_array_3_intr_en_r,
+  l2d_big_rf_array_3_status_r,
+  l2h_small_array_0_lsb_field_r,
+  l2h_small_array_0_msb_field_r,
+  l2h_small_array_1_lsb_field_r,
+  l2h_small_array_1_msb_field_r,
+  l2h_big_array_0_lsb_field_r,
+  l2h_big_array_0_msb_field_r,
+  l2h_big_array_1_lsb_field_r,
+  l2h_big_array_1_msb_field_r,
+  l2h_big_array_2_lsb_field_r,
+  l2h_big_array_2_msb_field_r,
+  l2h_big_array_3_lsb_field_r,
+  l2h_big_array_3_msb_field_r,
+  l2h_big_array_4_lsb_field_r,
+  l2h_big_array_4_msb_field_r,
+  l2h_big_array_5_lsb_field_r,
+  l2h_big_array_5_msb_field_r,
+  l2h_big_array_6_lsb_field_r,
+  l2h_big_array_6_msb_field_r,
+  l2h_big_array_7_lsb_field_r,
+  l2h_big_array_7_msb_field_r,
+  l2h_big_rf_array_0_status_intr_o,
+  l2h_big_rf_array_1_status_intr_o,
+  l2h_big_rf_array_2_status_intr_o,
+  l2h_big_rf_array_3_status_intr_o );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_small_array_0_w;
+  input    d2l_small_array_0_we;
+  input    d2l_small_array_0_re;
+  input     [31:0] d2l_small_array_1_w;
+  input    d2l_small_array_1_we;
+  input    d2l_small_array_1_re;
+  input     [31:0] d2l_big_array_0_w;
+  input    d2l_big_array_0_we;
+  input    d2l_big_array_0_re;
+  input     [31:0] d2l_big_array_1_w;
+  input    d2l_big_array_1_we;
+  input    d2l_big_array_1_re;
+  input     [31:0] d2l_big_array_2_w;
+  input    d2l_big_array_2_we;
+  input    d2l_big_array_2_re;
+  input     [31:0] d2l_big_array_3_w;
+  input    d2l_big_array_3_we;
+  input    d2l_big_array_3_re;
+  input     [31:0] d2l_big_array_4_w;
+  input    d2l_big_array_4_we;
+  input    d2l_big_array_4_re;
+  input     [31:0] d2l_big_array_5_w;
+  input    d2l_big_array_5_we;
+  input    d2l_big_array_5_re;
+  input     [31:0] d2l_big_array_6_w;
+  input    d2l_big_array_6_we;
+  input    d2l_big_array_6_re;
+  input     [31:0] d2l_big_array_7_w;
+  input    d2l_big_array_7_we;
+  input    d2l_big_array_7_re;
+  input     [31:0] d2l_big_rf_array_0_intr_en_w;
+  input    d2l_big_rf_array_0_intr_en_we;
+  input    d2l_big_rf_array_0_intr_en_re;
+  input     [31:0] d2l_big_rf_array_0_status_w;
+  input    d2l_big_rf_array_0_status_we;
+  input    d2l_big_rf_array_0_status_re;
+  input     [31:0] d2l_big_rf_array_1_intr_en_w;
+  input    d2l_big_rf_array_1_intr_en_we;
+  input    d2l_big_rf_array_1_intr_en_re;
+  input     [31:0] d2l_big_rf_array_1_status_w;
+  input    d2l_big_rf_array_1_status_we;
+  input    d2l_big_rf_array_1_status_re;
+  input     [31:0] d2l_big_rf_array_2_intr_en_w;
+  input    d2l_big_rf_array_2_intr_en_we;
+  input    d2l_big_rf_array_2_intr_en_re;
+  input     [31:0] d2l_big_rf_array_2_status_w;
+  input    d2l_big_rf_array_2_status_we;
+  input    d2l_big_rf_array_2_status_re;
+  input     [31:0] d2l_big_rf_array_3_intr_en_w;
+  input    d2l_big_rf_array_3_intr_en_we;
+  input    d2l_big_rf_array_3_intr_en_re;
+  input     [31:0] d2l_big_rf_array_3_status_w;
+  input    d2l_big_rf_array_3_status_we;
+  input    d2l_big_rf_array_3_status_re;
+  input    h2l_big_rf_array_0_status_int1_intr;
+  input    h2l_big_rf_array_0_status_int2_intr;
+  input    h2l_big_rf_array_1_status_int1_intr;
+  input    h2l_big_rf_array_1_status_int2_intr;
+  input    h2l_big_rf_array_2_status_int1_intr;
+  input    h2l_big_rf_array_2_status_int2_intr;
+  input    h2l_big_rf_array_3_status_int1_intr;
+  input    h2l_big_rf_array_3_status_int2_intr;
+
+  //------- outputs
+  output     [31:0] l2d_small_array_0_r;
+  output     [31:0] l2d_small_array_1_r;
+  output     [31:0] l2d_big_array_0_r;
+  output     [31:0] l2d_big_array_1_r;
+  output     [31:0] l2d_big_array_2_r;
+  output     [31:0] l2d_big_array_3_r;
+  output     [31:0] l2d_big_array_4_r;
+  output     [31:0] l2d_big_array_5_r;
+  output     [31:0] l2d_big_array_6_r;
+  output     [31:0] l2d_big_array_7_r;
+  output     [31:0] l2d_big_rf_array_0_intr_en_r;
+  output     [31:0] l2d_big_rf_array_0_status_r;
+  output     [31:0] l2d_big_rf_array_1_intr_en_r;
+  output     [31:0] l2d_big_rf_array_1_status_r;
+  output     [31:0] l2d_big_rf_array_2_intr_en_r;
+  output     [31:0] l2d_big_rf_array_2_status_r;
+  output     [31:0] l2d_big_rf_array_3_intr_en_r;
+  output     [31:0] l2d_big_rf_array_3_status_r;
+  output     [15:0] l2h_small_array_0_lsb_field_r;
+  output     [15:0] l2h_small_array_0_msb_field_r;
+  output     [15:0] l2h_small_array_1_lsb_field_r;
+  output     [15:0] l2h_small_array_1_msb_field_r;
+  output     [15:0] l2h_big_array_0_lsb_field_r;
+  output     [15:0] l2h_big_array_0_msb_field_r;
+  output     [15:0] l2h_big_array_1_lsb_field_r;
+  output     [15:0] l2h_big_array_1_msb_field_r;
+  output     [15:0] l2h_big_array_2_lsb_field_r;
+  output     [15:0] l2h_big_array_2_msb_field_r;
+  output     [15:0] l2h_big_array_3_lsb_field_r;
+  output     [15:0] l2h_big_array_3_msb_field_r;
+  output     [15:0] l2h_big_array_4_lsb_field_r;
+  output     [15:0] l2h_big_array_4_msb_field_r;
+  output     [15:0] l2h_big_array_5_lsb_field_r;
+  output     [15:0] l2h_big_array_5_msb_field_r;
+  output     [15:0] l2h_big_array_6_lsb_field_r;
+  output     [15:0] l2h_big_array_6_msb_field_r;
+  output     [15:0] l2h_big_array_7_lsb_field_r;
+  output     [15:0] l2h_big_array_7_msb_field_r;
+  output    l2h_big_rf_array_0_status_intr_o;
+  output    l2h_big_rf_array_1_status_intr_o;
+  output    l2h_big_rf_array_2_status_intr_o;
+  output    l2h_big_rf_array_3_status_intr_o;
+
+
+  //------- wire defines
+  logic  h2l_big_rf_array_0_status_int1_intr;
+  logic  h2l_big_rf_array_0_status_int2_intr;
+  logic  h2l_big_rf_array_1_status_int1_intr;
+  logic  h2l_big_rf_array_1_status_int2_intr;
+  logic  h2l_big_rf_array_2_status_int1_intr;
+  logic  h2l_big_rf_array_2_status_int2_intr;
+  logic  h2l_big_rf_array_3_status_int1_intr;
+  logic  h2l_big_rf_array_3_status_int2_intr;
+  
+  //------- reg defines
+  logic   [15:0] rg_small_array_0_lsb_field;
+  logic   [15:0] reg_small_array_0_lsb_field_next;
+  logic   [15:0] l2h_small_array_0_lsb_field_r;
+  logic   [15:0] rg_small_array_0_msb_field;
+  logic   [15:0] reg_small_array_0_msb_field_next;
+  logic   [15:0] l2h_small_array_0_msb_field_r;
+  logic   [31:0] l2d_small_array_0_r;
+  logic   [15:0] rg_small_array_1_lsb_field;
+  logic   [15:0] reg_small_array_1_lsb_field_next;
+  logic   [15:0] l2h_small_array_1_lsb_field_r;
+  logic   [15:0] rg_small_array_1_msb_field;
+  logic   [15:0] reg_small_array_1_msb_field_next;
+  logic   [15:0] l2h_small_array_1_msb_field_r;
+  logic   [31:0] l2d_small_array_1_r;
+  logic   [15:0] rg_big_array_0_lsb_field;
+  logic   [15:0] reg_big_array_0_lsb_field_next;
+  logic   [15:0] l2h_big_array_0_lsb_field_r;
+  logic   [15:0] rg_big_array_0_msb_field;
+  logic   [15:0] reg_big_array_0_msb_field_next;
+  logic   [15:0] l2h_big_array_0_msb_field_r;
+  logic   [31:0] l2d_big_array_0_r;
+  logic   [15:0] rg_big_array_1_lsb_field;
+  logic   [15:0] reg_big_array_1_lsb_field_next;
+  logic   [15:0] l2h_big_array_1_lsb_field_r;
+  logic   [15:0] rg_big_array_1_msb_field;
+  logic   [15:0] reg_big_array_1_msb_field_next;
+  logic   [15:0] l2h_big_array_1_msb_field_r;
+  logic   [31:0] l2d_big_array_1_r;
+  logic   [15:0] rg_big_array_2_lsb_field;
+  logic   [15:0] reg_big_array_2_lsb_field_next;
+  logic   [15:0] l2h_big_array_2_lsb_field_r;
+  logic   [15:0] rg_big_array_2_msb_field;
+  logic   [15:0] reg_big_array_2_msb_field_next;
+  logic   [15:0] l2h_big_array_2_msb_field_r;
+  logic   [31:0] l2d_big_array_2_r;
+  logic   [15:0] rg_big_array_3_lsb_field;
+  logic   [15:0] reg_big_array_3_lsb_field_next;
+  logic   [15:0] l2h_big_array_3_lsb_field_r;
+  logic   [15:0] rg_big_array_3_msb_field;
+  logic   [15:0] reg_big_array_3_msb_field_next;
+  logic   [15:0] l2h_big_array_3_msb_field_r;
+  logic   [31:0] l2d_big_array_3_r;
+  logic   [15:0] rg_big_array_4_lsb_field;
+  logic   [15:0] reg_big_array_4_lsb_field_next;
+  logic   [15:0] l2h_big_array_4_lsb_field_r;
+  logic   [15:0] rg_big_array_4_msb_field;
+  logic   [15:0] reg_big_array_4_msb_field_next;
+  logic   [15:0] l2h_big_array_4_msb_field_r;
+  logic   [31:0] l2d_big_array_4_r;
+  logic   [15:0] rg_big_array_5_lsb_field;
+  logic   [15:0] reg_big_array_5_lsb_field_next;
+  logic   [15:0] l2h_big_array_5_lsb_field_r;
+  logic   [15:0] rg_big_array_5_msb_field;
+  logic   [15:0] reg_big_array_5_msb_field_next;
+  logic   [15:0] l2h_big_array_5_msb_field_r;
+  logic   [31:0] l2d_big_array_5_r;
+  logic   [15:0] rg_big_array_6_lsb_field;
+  logic   [15:0] reg_big_array_6_lsb_field_next;
+  logic   [15:0] l2h_big_array_6_lsb_field_r;
+  logic   [15:0] rg_big_array_6_msb_field;
+  logic   [15:0] reg_big_array_6_msb_field_next;
+  logic   [15:0] l2h_big_array_6_msb_field_r;
+  logic   [31:0] l2d_big_array_6_r;
+  logic   [15:0] rg_big_array_7_lsb_field;
+  logic   [15:0] reg_big_array_7_lsb_field_next;
+  logic   [15:0] l2h_big_array_7_lsb_field_r;
+  logic   [15:0] rg_big_array_7_msb_field;
+  logic   [15:0] reg_big_array_7_msb_field_next;
+  logic   [15:0] l2h_big_array_7_msb_field_r;
+  logic   [31:0] l2d_big_array_7_r;
+  logic  rg_big_rf_array_0_intr_en_int1;
+  logic  reg_big_rf_array_0_intr_en_int1_next;
+  logic  rg_big_rf_array_0_intr_en_int2;
+  logic  reg_big_rf_array_0_intr_en_int2_next;
+  logic   [31:0] l2d_big_rf_array_0_intr_en_r;
+  logic  rg_big_rf_array_0_status_int1;
+  logic  reg_big_rf_array_0_status_int1_next;
+  logic  l2h_big_rf_array_0_status_intr_o;
+  logic  rg_big_rf_array_0_status_int2;
+  logic  reg_big_rf_array_0_status_int2_next;
+  logic   [31:0] l2d_big_rf_array_0_status_r;
+  logic  rg_big_rf_array_1_intr_en_int1;
+  logic  reg_big_rf_array_1_intr_en_int1_next;
+  logic  rg_big_rf_array_1_intr_en_int2;
+  logic  reg_big_rf_array_1_intr_en_int2_next;
+  logic   [31:0] l2d_big_rf_array_1_intr_en_r;
+  logic  rg_big_rf_array_1_status_int1;
+  logic  reg_big_rf_array_1_status_int1_next;
+  logic  l2h_big_rf_array_1_status_intr_o;
+  logic  rg_big_rf_array_1_status_int2;
+  logic  reg_big_rf_array_1_status_int2_next;
+  logic   [31:0] l2d_big_rf_array_1_status_r;
+  logic  rg_big_rf_array_2_intr_en_int1;
+  logic  reg_big_rf_array_2_intr_en_int1_next;
+  logic  rg_big_rf_array_2_intr_en_int2;
+  logic  reg_big_rf_array_2_intr_en_int2_next;
+  logic   [31:0] l2d_big_rf_array_2_intr_en_r;
+  logic  rg_big_rf_array_2_status_int1;
+  logic  reg_big_rf_array_2_status_int1_next;
+  logic  l2h_big_rf_array_2_status_intr_o;
+  logic  rg_big_rf_array_2_status_int2;
+  logic  reg_big_rf_array_2_status_int2_next;
+  logic   [31:0] l2d_big_rf_array_2_status_r;
+  logic  rg_big_rf_array_3_intr_en_int1;
+  logic  reg_big_rf_array_3_intr_en_int1_next;
+  logic  rg_big_rf_array_3_intr_en_int2;
+  logic  reg_big_rf_array_3_intr_en_int2_next;
+  logic   [31:0] l2d_big_rf_array_3_intr_en_r;
+  logic  rg_big_rf_array_3_status_int1;
+  logic  reg_big_rf_array_3_status_int1_next;
+  logic  l2h_big_rf_array_3_status_intr_o;
+  logic  rg_big_rf_array_3_status_int2;
+  logic  reg_big_rf_array_3_status_int2_next;
+  logic   [31:0] l2d_big_rf_array_3_status_r;
+  
+  
+  //------- combinatorial assigns for small_array_0
+  always_comb begin
+    reg_small_array_0_lsb_field_next = rg_small_array_0_lsb_field;
+    l2h_small_array_0_lsb_field_r = rg_small_array_0_lsb_field;
+    reg_small_array_0_msb_field_next = rg_small_array_0_msb_field;
+    l2h_small_array_0_msb_field_r = rg_small_array_0_msb_field;
+    if (d2l_small_array_0_we) reg_small_array_0_lsb_field_next = d2l_small_array_0_w [15:0] ;
+    if (d2l_small_array_0_we) reg_small_array_0_msb_field_next = d2l_small_array_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for small_array_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_small_array_0_lsb_field <= #1 16'hffff;
+      rg_small_array_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_small_array_0_lsb_field <= #1  reg_small_array_0_lsb_field_next;
+      rg_small_array_0_msb_field <= #1  reg_small_array_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for small_array_0 (pio read data)
+  always_comb begin
+    l2d_small_array_0_r [15:0]  = rg_small_array_0_lsb_field;
+    l2d_small_array_0_r [31:16]  = rg_small_array_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for small_array_1
+  always_comb begin
+    reg_small_array_1_lsb_field_next = rg_small_array_1_lsb_field;
+    l2h_small_array_1_lsb_field_r = rg_small_array_1_lsb_field;
+    reg_small_array_1_msb_field_next = rg_small_array_1_msb_field;
+    l2h_small_array_1_msb_field_r = rg_small_array_1_msb_field;
+    if (d2l_small_array_1_we) reg_small_array_1_lsb_field_next = d2l_small_array_1_w [15:0] ;
+    if (d2l_small_array_1_we) reg_small_array_1_msb_field_next = d2l_small_array_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for small_array_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_small_array_1_lsb_field <= #1 16'hffff;
+      rg_small_array_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_small_array_1_lsb_field <= #1  reg_small_array_1_lsb_field_next;
+      rg_small_array_1_msb_field <= #1  reg_small_array_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for small_array_1 (pio read data)
+  always_comb begin
+    l2d_small_array_1_r [15:0]  = rg_small_array_1_lsb_field;
+    l2d_small_array_1_r [31:16]  = rg_small_array_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_0
+  always_comb begin
+    reg_big_array_0_lsb_field_next = rg_big_array_0_lsb_field;
+    l2h_big_array_0_lsb_field_r = rg_big_array_0_lsb_field;
+    reg_big_array_0_msb_field_next = rg_big_array_0_msb_field;
+    l2h_big_array_0_msb_field_r = rg_big_array_0_msb_field;
+    if (d2l_big_array_0_we) reg_big_array_0_lsb_field_next = d2l_big_array_0_w [15:0] ;
+    if (d2l_big_array_0_we) reg_big_array_0_msb_field_next = d2l_big_array_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_0_lsb_field <= #1 16'hffff;
+      rg_big_array_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_0_lsb_field <= #1  reg_big_array_0_lsb_field_next;
+      rg_big_array_0_msb_field <= #1  reg_big_array_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_0 (pio read data)
+  always_comb begin
+    l2d_big_array_0_r [15:0]  = rg_big_array_0_lsb_field;
+    l2d_big_array_0_r [31:16]  = rg_big_array_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_1
+  always_comb begin
+    reg_big_array_1_lsb_field_next = rg_big_array_1_lsb_field;
+    l2h_big_array_1_lsb_field_r = rg_big_array_1_lsb_field;
+    reg_big_array_1_msb_field_next = rg_big_array_1_msb_field;
+    l2h_big_array_1_msb_field_r = rg_big_array_1_msb_field;
+    if (d2l_big_array_1_we) reg_big_array_1_lsb_field_next = d2l_big_array_1_w [15:0] ;
+    if (d2l_big_array_1_we) reg_big_array_1_msb_field_next = d2l_big_array_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_1_lsb_field <= #1 16'hffff;
+      rg_big_array_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_1_lsb_field <= #1  reg_big_array_1_lsb_field_next;
+      rg_big_array_1_msb_field <= #1  reg_big_array_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_1 (pio read data)
+  always_comb begin
+    l2d_big_array_1_r [15:0]  = rg_big_array_1_lsb_field;
+    l2d_big_array_1_r [31:16]  = rg_big_array_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_2
+  always_comb begin
+    reg_big_array_2_lsb_field_next = rg_big_array_2_lsb_field;
+    l2h_big_array_2_lsb_field_r = rg_big_array_2_lsb_field;
+    reg_big_array_2_msb_field_next = rg_big_array_2_msb_field;
+    l2h_big_array_2_msb_field_r = rg_big_array_2_msb_field;
+    if (d2l_big_array_2_we) reg_big_array_2_lsb_field_next = d2l_big_array_2_w [15:0] ;
+    if (d2l_big_array_2_we) reg_big_array_2_msb_field_next = d2l_big_array_2_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_2
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_2_lsb_field <= #1 16'hffff;
+      rg_big_array_2_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_2_lsb_field <= #1  reg_big_array_2_lsb_field_next;
+      rg_big_array_2_msb_field <= #1  reg_big_array_2_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_2 (pio read data)
+  always_comb begin
+    l2d_big_array_2_r [15:0]  = rg_big_array_2_lsb_field;
+    l2d_big_array_2_r [31:16]  = rg_big_array_2_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_3
+  always_comb begin
+    reg_big_array_3_lsb_field_next = rg_big_array_3_lsb_field;
+    l2h_big_array_3_lsb_field_r = rg_big_array_3_lsb_field;
+    reg_big_array_3_msb_field_next = rg_big_array_3_msb_field;
+    l2h_big_array_3_msb_field_r = rg_big_array_3_msb_field;
+    if (d2l_big_array_3_we) reg_big_array_3_lsb_field_next = d2l_big_array_3_w [15:0] ;
+    if (d2l_big_array_3_we) reg_big_array_3_msb_field_next = d2l_big_array_3_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_3
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_3_lsb_field <= #1 16'hffff;
+      rg_big_array_3_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_3_lsb_field <= #1  reg_big_array_3_lsb_field_next;
+      rg_big_array_3_msb_field <= #1  reg_big_array_3_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_3 (pio read data)
+  always_comb begin
+    l2d_big_array_3_r [15:0]  = rg_big_array_3_lsb_field;
+    l2d_big_array_3_r [31:16]  = rg_big_array_3_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_4
+  always_comb begin
+    reg_big_array_4_lsb_field_next = rg_big_array_4_lsb_field;
+    l2h_big_array_4_lsb_field_r = rg_big_array_4_lsb_field;
+    reg_big_array_4_msb_field_next = rg_big_array_4_msb_field;
+    l2h_big_array_4_msb_field_r = rg_big_array_4_msb_field;
+    if (d2l_big_array_4_we) reg_big_array_4_lsb_field_next = d2l_big_array_4_w [15:0] ;
+    if (d2l_big_array_4_we) reg_big_array_4_msb_field_next = d2l_big_array_4_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_4
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_4_lsb_field <= #1 16'hffff;
+      rg_big_array_4_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_4_lsb_field <= #1  reg_big_array_4_lsb_field_next;
+      rg_big_array_4_msb_field <= #1  reg_big_array_4_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_4 (pio read data)
+  always_comb begin
+    l2d_big_array_4_r [15:0]  = rg_big_array_4_lsb_field;
+    l2d_big_array_4_r [31:16]  = rg_big_array_4_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_5
+  always_comb begin
+    reg_big_array_5_lsb_field_next = rg_big_array_5_lsb_field;
+    l2h_big_array_5_lsb_field_r = rg_big_array_5_lsb_field;
+    reg_big_array_5_msb_field_next = rg_big_array_5_msb_field;
+    l2h_big_array_5_msb_field_r = rg_big_array_5_msb_field;
+    if (d2l_big_array_5_we) reg_big_array_5_lsb_field_next = d2l_big_array_5_w [15:0] ;
+    if (d2l_big_array_5_we) reg_big_array_5_msb_field_next = d2l_big_array_5_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_5
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_5_lsb_field <= #1 16'hffff;
+      rg_big_array_5_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_5_lsb_field <= #1  reg_big_array_5_lsb_field_next;
+      rg_big_array_5_msb_field <= #1  reg_big_array_5_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_5 (pio read data)
+  always_comb begin
+    l2d_big_array_5_r [15:0]  = rg_big_array_5_lsb_field;
+    l2d_big_array_5_r [31:16]  = rg_big_array_5_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_6
+  always_comb begin
+    reg_big_array_6_lsb_field_next = rg_big_array_6_lsb_field;
+    l2h_big_array_6_lsb_field_r = rg_big_array_6_lsb_field;
+    reg_big_array_6_msb_field_next = rg_big_array_6_msb_field;
+    l2h_big_array_6_msb_field_r = rg_big_array_6_msb_field;
+    if (d2l_big_array_6_we) reg_big_array_6_lsb_field_next = d2l_big_array_6_w [15:0] ;
+    if (d2l_big_array_6_we) reg_big_array_6_msb_field_next = d2l_big_array_6_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_6
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_6_lsb_field <= #1 16'hffff;
+      rg_big_array_6_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_6_lsb_field <= #1  reg_big_array_6_lsb_field_next;
+      rg_big_array_6_msb_field <= #1  reg_big_array_6_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_6 (pio read data)
+  always_comb begin
+    l2d_big_array_6_r [15:0]  = rg_big_array_6_lsb_field;
+    l2d_big_array_6_r [31:16]  = rg_big_array_6_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_array_7
+  always_comb begin
+    reg_big_array_7_lsb_field_next = rg_big_array_7_lsb_field;
+    l2h_big_array_7_lsb_field_r = rg_big_array_7_lsb_field;
+    reg_big_array_7_msb_field_next = rg_big_array_7_msb_field;
+    l2h_big_array_7_msb_field_r = rg_big_array_7_msb_field;
+    if (d2l_big_array_7_we) reg_big_array_7_lsb_field_next = d2l_big_array_7_w [15:0] ;
+    if (d2l_big_array_7_we) reg_big_array_7_msb_field_next = d2l_big_array_7_w [31:16] ;
+  end
+  
+  //------- reg assigns for big_array_7
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_array_7_lsb_field <= #1 16'hffff;
+      rg_big_array_7_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_big_array_7_lsb_field <= #1  reg_big_array_7_lsb_field_next;
+      rg_big_array_7_msb_field <= #1  reg_big_array_7_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_array_7 (pio read data)
+  always_comb begin
+    l2d_big_array_7_r [15:0]  = rg_big_array_7_lsb_field;
+    l2d_big_array_7_r [31:16]  = rg_big_array_7_msb_field;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_0_intr_en
+  always_comb begin
+    reg_big_rf_array_0_intr_en_int1_next = rg_big_rf_array_0_intr_en_int1;
+    reg_big_rf_array_0_intr_en_int2_next = rg_big_rf_array_0_intr_en_int2;
+    if (d2l_big_rf_array_0_intr_en_we) reg_big_rf_array_0_intr_en_int1_next = d2l_big_rf_array_0_intr_en_w [0] ;
+    if (d2l_big_rf_array_0_intr_en_we) reg_big_rf_array_0_intr_en_int2_next = d2l_big_rf_array_0_intr_en_w [1] ;
+  end
+  
+  //------- reg assigns for big_rf_array_0_intr_en
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_0_intr_en_int1 <= #1 1'b1;
+      rg_big_rf_array_0_intr_en_int2 <= #1 1'b1;
+    end
+    else begin
+      rg_big_rf_array_0_intr_en_int1 <= #1  reg_big_rf_array_0_intr_en_int1_next;
+      rg_big_rf_array_0_intr_en_int2 <= #1  reg_big_rf_array_0_intr_en_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_0_intr_en (pio read data)
+  always_comb begin
+    l2d_big_rf_array_0_intr_en_r = 32'b0;
+    l2d_big_rf_array_0_intr_en_r [0]  = rg_big_rf_array_0_intr_en_int1;
+    l2d_big_rf_array_0_intr_en_r [1]  = rg_big_rf_array_0_intr_en_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_0_status
+  always_comb begin
+    reg_big_rf_array_0_status_int1_next = rg_big_rf_array_0_status_int1;
+    reg_big_rf_array_0_status_int2_next = rg_big_rf_array_0_status_int2;
+    l2h_big_rf_array_0_status_intr_o = 1'b0;
+    reg_big_rf_array_0_status_int1_next = (h2l_big_rf_array_0_status_int1_intr | rg_big_rf_array_0_status_int1);
+    l2h_big_rf_array_0_status_intr_o = l2h_big_rf_array_0_status_intr_o | (rg_big_rf_array_0_status_int1 & rg_big_rf_array_0_intr_en_int1);
+    reg_big_rf_array_0_status_int2_next = (h2l_big_rf_array_0_status_int2_intr | rg_big_rf_array_0_status_int2) & rg_big_rf_array_0_intr_en_int2;
+    l2h_big_rf_array_0_status_intr_o = l2h_big_rf_array_0_status_intr_o | (rg_big_rf_array_0_status_int2);
+    if (d2l_big_rf_array_0_status_we) reg_big_rf_array_0_status_int1_next = (reg_big_rf_array_0_status_int1_next & ~d2l_big_rf_array_0_status_w [0] );
+    if (d2l_big_rf_array_0_status_we) reg_big_rf_array_0_status_int2_next = (reg_big_rf_array_0_status_int2_next & ~d2l_big_rf_array_0_status_w [1] );
+  end
+  
+  //------- reg assigns for big_rf_array_0_status
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_0_status_int1 <= #1 1'd0;
+      rg_big_rf_array_0_status_int2 <= #1 1'd0;
+    end
+    else begin
+      rg_big_rf_array_0_status_int1 <= #1  reg_big_rf_array_0_status_int1_next;
+      rg_big_rf_array_0_status_int2 <= #1  reg_big_rf_array_0_status_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_0_status (pio read data)
+  always_comb begin
+    l2d_big_rf_array_0_status_r = 32'b0;
+    l2d_big_rf_array_0_status_r [0]  = rg_big_rf_array_0_status_int1;
+    l2d_big_rf_array_0_status_r [1]  = rg_big_rf_array_0_status_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_1_intr_en
+  always_comb begin
+    reg_big_rf_array_1_intr_en_int1_next = rg_big_rf_array_1_intr_en_int1;
+    reg_big_rf_array_1_intr_en_int2_next = rg_big_rf_array_1_intr_en_int2;
+    if (d2l_big_rf_array_1_intr_en_we) reg_big_rf_array_1_intr_en_int1_next = d2l_big_rf_array_1_intr_en_w [0] ;
+    if (d2l_big_rf_array_1_intr_en_we) reg_big_rf_array_1_intr_en_int2_next = d2l_big_rf_array_1_intr_en_w [1] ;
+  end
+  
+  //------- reg assigns for big_rf_array_1_intr_en
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_1_intr_en_int1 <= #1 1'b1;
+      rg_big_rf_array_1_intr_en_int2 <= #1 1'b1;
+    end
+    else begin
+      rg_big_rf_array_1_intr_en_int1 <= #1  reg_big_rf_array_1_intr_en_int1_next;
+      rg_big_rf_array_1_intr_en_int2 <= #1  reg_big_rf_array_1_intr_en_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_1_intr_en (pio read data)
+  always_comb begin
+    l2d_big_rf_array_1_intr_en_r = 32'b0;
+    l2d_big_rf_array_1_intr_en_r [0]  = rg_big_rf_array_1_intr_en_int1;
+    l2d_big_rf_array_1_intr_en_r [1]  = rg_big_rf_array_1_intr_en_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_1_status
+  always_comb begin
+    reg_big_rf_array_1_status_int1_next = rg_big_rf_array_1_status_int1;
+    reg_big_rf_array_1_status_int2_next = rg_big_rf_array_1_status_int2;
+    l2h_big_rf_array_1_status_intr_o = 1'b0;
+    reg_big_rf_array_1_status_int1_next = (h2l_big_rf_array_1_status_int1_intr | rg_big_rf_array_1_status_int1);
+    l2h_big_rf_array_1_status_intr_o = l2h_big_rf_array_1_status_intr_o | (rg_big_rf_array_1_status_int1 & rg_big_rf_array_1_intr_en_int1);
+    reg_big_rf_array_1_status_int2_next = (h2l_big_rf_array_1_status_int2_intr | rg_big_rf_array_1_status_int2) & rg_big_rf_array_1_intr_en_int2;
+    l2h_big_rf_array_1_status_intr_o = l2h_big_rf_array_1_status_intr_o | (rg_big_rf_array_1_status_int2);
+    if (d2l_big_rf_array_1_status_we) reg_big_rf_array_1_status_int1_next = (reg_big_rf_array_1_status_int1_next & ~d2l_big_rf_array_1_status_w [0] );
+    if (d2l_big_rf_array_1_status_we) reg_big_rf_array_1_status_int2_next = (reg_big_rf_array_1_status_int2_next & ~d2l_big_rf_array_1_status_w [1] );
+  end
+  
+  //------- reg assigns for big_rf_array_1_status
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_1_status_int1 <= #1 1'd0;
+      rg_big_rf_array_1_status_int2 <= #1 1'd0;
+    end
+    else begin
+      rg_big_rf_array_1_status_int1 <= #1  reg_big_rf_array_1_status_int1_next;
+      rg_big_rf_array_1_status_int2 <= #1  reg_big_rf_array_1_status_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_1_status (pio read data)
+  always_comb begin
+    l2d_big_rf_array_1_status_r = 32'b0;
+    l2d_big_rf_array_1_status_r [0]  = rg_big_rf_array_1_status_int1;
+    l2d_big_rf_array_1_status_r [1]  = rg_big_rf_array_1_status_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_2_intr_en
+  always_comb begin
+    reg_big_rf_array_2_intr_en_int1_next = rg_big_rf_array_2_intr_en_int1;
+    reg_big_rf_array_2_intr_en_int2_next = rg_big_rf_array_2_intr_en_int2;
+    if (d2l_big_rf_array_2_intr_en_we) reg_big_rf_array_2_intr_en_int1_next = d2l_big_rf_array_2_intr_en_w [0] ;
+    if (d2l_big_rf_array_2_intr_en_we) reg_big_rf_array_2_intr_en_int2_next = d2l_big_rf_array_2_intr_en_w [1] ;
+  end
+  
+  //------- reg assigns for big_rf_array_2_intr_en
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_2_intr_en_int1 <= #1 1'b1;
+      rg_big_rf_array_2_intr_en_int2 <= #1 1'b1;
+    end
+    else begin
+      rg_big_rf_array_2_intr_en_int1 <= #1  reg_big_rf_array_2_intr_en_int1_next;
+      rg_big_rf_array_2_intr_en_int2 <= #1  reg_big_rf_array_2_intr_en_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_2_intr_en (pio read data)
+  always_comb begin
+    l2d_big_rf_array_2_intr_en_r = 32'b0;
+    l2d_big_rf_array_2_intr_en_r [0]  = rg_big_rf_array_2_intr_en_int1;
+    l2d_big_rf_array_2_intr_en_r [1]  = rg_big_rf_array_2_intr_en_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_2_status
+  always_comb begin
+    reg_big_rf_array_2_status_int1_next = rg_big_rf_array_2_status_int1;
+    reg_big_rf_array_2_status_int2_next = rg_big_rf_array_2_status_int2;
+    l2h_big_rf_array_2_status_intr_o = 1'b0;
+    reg_big_rf_array_2_status_int1_next = (h2l_big_rf_array_2_status_int1_intr | rg_big_rf_array_2_status_int1);
+    l2h_big_rf_array_2_status_intr_o = l2h_big_rf_array_2_status_intr_o | (rg_big_rf_array_2_status_int1 & rg_big_rf_array_2_intr_en_int1);
+    reg_big_rf_array_2_status_int2_next = (h2l_big_rf_array_2_status_int2_intr | rg_big_rf_array_2_status_int2) & rg_big_rf_array_2_intr_en_int2;
+    l2h_big_rf_array_2_status_intr_o = l2h_big_rf_array_2_status_intr_o | (rg_big_rf_array_2_status_int2);
+    if (d2l_big_rf_array_2_status_we) reg_big_rf_array_2_status_int1_next = (reg_big_rf_array_2_status_int1_next & ~d2l_big_rf_array_2_status_w [0] );
+    if (d2l_big_rf_array_2_status_we) reg_big_rf_array_2_status_int2_next = (reg_big_rf_array_2_status_int2_next & ~d2l_big_rf_array_2_status_w [1] );
+  end
+  
+  //------- reg assigns for big_rf_array_2_status
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_2_status_int1 <= #1 1'd0;
+      rg_big_rf_array_2_status_int2 <= #1 1'd0;
+    end
+    else begin
+      rg_big_rf_array_2_status_int1 <= #1  reg_big_rf_array_2_status_int1_next;
+      rg_big_rf_array_2_status_int2 <= #1  reg_big_rf_array_2_status_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_2_status (pio read data)
+  always_comb begin
+    l2d_big_rf_array_2_status_r = 32'b0;
+    l2d_big_rf_array_2_status_r [0]  = rg_big_rf_array_2_status_int1;
+    l2d_big_rf_array_2_status_r [1]  = rg_big_rf_array_2_status_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_3_intr_en
+  always_comb begin
+    reg_big_rf_array_3_intr_en_int1_next = rg_big_rf_array_3_intr_en_int1;
+    reg_big_rf_array_3_intr_en_int2_next = rg_big_rf_array_3_intr_en_int2;
+    if (d2l_big_rf_array_3_intr_en_we) reg_big_rf_array_3_intr_en_int1_next = d2l_big_rf_array_3_intr_en_w [0] ;
+    if (d2l_big_rf_array_3_intr_en_we) reg_big_rf_array_3_intr_en_int2_next = d2l_big_rf_array_3_intr_en_w [1] ;
+  end
+  
+  //------- reg assigns for big_rf_array_3_intr_en
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_3_intr_en_int1 <= #1 1'b1;
+      rg_big_rf_array_3_intr_en_int2 <= #1 1'b1;
+    end
+    else begin
+      rg_big_rf_array_3_intr_en_int1 <= #1  reg_big_rf_array_3_intr_en_int1_next;
+      rg_big_rf_array_3_intr_en_int2 <= #1  reg_big_rf_array_3_intr_en_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_3_intr_en (pio read data)
+  always_comb begin
+    l2d_big_rf_array_3_intr_en_r = 32'b0;
+    l2d_big_rf_array_3_intr_en_r [0]  = rg_big_rf_array_3_intr_en_int1;
+    l2d_big_rf_array_3_intr_en_r [1]  = rg_big_rf_array_3_intr_en_int2;
+  end
+  
+  //------- combinatorial assigns for big_rf_array_3_status
+  always_comb begin
+    reg_big_rf_array_3_status_int1_next = rg_big_rf_array_3_status_int1;
+    reg_big_rf_array_3_status_int2_next = rg_big_rf_array_3_status_int2;
+    l2h_big_rf_array_3_status_intr_o = 1'b0;
+    reg_big_rf_array_3_status_int1_next = (h2l_big_rf_array_3_status_int1_intr | rg_big_rf_array_3_status_int1);
+    l2h_big_rf_array_3_status_intr_o = l2h_big_rf_array_3_status_intr_o | (rg_big_rf_array_3_status_int1 & rg_big_rf_array_3_intr_en_int1);
+    reg_big_rf_array_3_status_int2_next = (h2l_big_rf_array_3_status_int2_intr | rg_big_rf_array_3_status_int2) & rg_big_rf_array_3_intr_en_int2;
+    l2h_big_rf_array_3_status_intr_o = l2h_big_rf_array_3_status_intr_o | (rg_big_rf_array_3_status_int2);
+    if (d2l_big_rf_array_3_status_we) reg_big_rf_array_3_status_int1_next = (reg_big_rf_array_3_status_int1_next & ~d2l_big_rf_array_3_status_w [0] );
+    if (d2l_big_rf_array_3_status_we) reg_big_rf_array_3_status_int2_next = (reg_big_rf_array_3_status_int2_next & ~d2l_big_rf_array_3_status_w [1] );
+  end
+  
+  //------- reg assigns for big_rf_array_3_status
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_big_rf_array_3_status_int1 <= #1 1'd0;
+      rg_big_rf_array_3_status_int2 <= #1 1'd0;
+    end
+    else begin
+      rg_big_rf_array_3_status_int1 <= #1  reg_big_rf_array_3_status_int1_next;
+      rg_big_rf_array_3_status_int2 <= #1  reg_big_rf_array_3_status_int2_next;
+    end
+  end
+  
+  //------- combinatorial assigns for big_rf_array_3_status (pio read data)
+  always_comb begin
+    l2d_big_rf_array_3_status_r = 32'b0;
+    l2d_big_rf_array_3_status_r [0]  = rg_big_rf_array_3_status_int1;
+    l2d_big_rf_array_3_status_r [1]  = rg_big_rf_array_3_status_int2;
+  end
+  
+endmodule
+
+//
+//---------- module lazy_map_jrdl_decode
+//
+module lazy_map_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_small_array_0_r,
+  l2d_small_array_1_r,
+  l2d_big_array_0_r,
+  l2d_big_array_1_r,
+  l2d_big_array_2_r,
+  l2d_big_array_3_r,
+  l2d_big_array_4_r,
+  l2d_big_array_5_r,
+  l2d_big_array_6_r,
+  l2d_big_array_7_r,
+  l2d_big_rf_array_0_intr_en_r,
+  l2d_big_rf_array_0_status_r,
+  l2d_big_rf_array_1_intr_en_r,
+  l2d_big_rf_array_1_status_r,
+  l2d_big_rf_array_2_intr_en_r,
+  l2d_big_rf_array_2_status_r,
+  l2d_big_rf_array_3_intr_en_r,
+  l2d_big_rf_array_3_status_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_small_array_0_w,
+  d2l_small_array_0_we,
+  d2l_small_array_0_re,
+  d2l_small_array_1_w,
+  d2l_small_array_1_we,
+  d2l_small_array_1_re,
+  d2l_big_array_0_w,
+  d2l_big_array_0_we,
+  d2l_big_array_0_re,
+  d2l_big_array_1_w,
+  d2l_big_array_1_we,
+  d2l_big_array_1_re,
+  d2l_big_array_2_w,
+  d2l_big_array_2_we,
+  d2l_big_array_2_re,
+  d2l_big_array_3_w,
+  d2l_big_array_3_we,
+  d2l_big_array_3_re,
+  d2l_big_array_4_w,
+  d2l_big_array_4_we,
+  d2l_big_array_4_re,
+  d2l_big_array_5_w,
+  d2l_big_array_5_we,
+  d2l_big_array_5_re,
+  d2l_big_array_6_w,
+  d2l_big_array_6_we,
+  d2l_big_array_6_re,
+  d2l_big_array_7_w,
+  d2l_big_array_7_we,
+  d2l_big_array_7_re,
+  d2l_big_rf_array_0_intr_en_w,
+  d2l_big_rf_array_0_intr_en_we,
+  d2l_big_rf_array_0_intr_en_re,
+  d2l_big_rf_array_0_status_w,
+  d2l_big_rf_array_0_status_we,
+  d2l_big_rf_array_0_status_re,
+  d2l_big_rf_array_1_intr_en_w,
+  d2l_big_rf_array_1_intr_en_we,
+  d2l_big_rf_array_1_intr_en_re,
+  d2l_big_rf_array_1_status_w,
+  d2l_big_rf_array_1_status_we,
+  d2l_big_rf_array_1_status_re,
+  d2l_big_rf_array_2_intr_en_w,
+  d2l_big_rf_array_2_intr_en_we,
+  d2l_big_rf_array_2_intr_en_re,
+  d2l_big_rf_array_2_status_w,
+  d2l_big_rf_array_2_status_we,
+  d2l_big_rf_array_2_status_re,
+  d2l_big_rf_array_3_intr_en_w,
+  d2l_big_rf_array_3_intr_en_we,
+  d2l_big_rf_array_3_intr_en_re,
+  d2l_big_rf_array_3_status_w,
+  d2l_big_rf_array_3_status_we,
+  d2l_big_rf_array_3_status_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_small_array_0_r;
+  input     [31:0] l2d_small_array_1_r;
+  input     [31:0] l2d_big_array_0_r;
+  input     [31:0] l2d_big_array_1_r;
+  input     [31:0] l2d_big_array_2_r;
+  input     [31:0] l2d_big_array_3_r;
+  input     [31:0] l2d_big_array_4_r;
+  input     [31:0] l2d_big_array_5_r;
+  input     [31:0] l2d_big_array_6_r;
+  input     [31:0] l2d_big_array_7_r;
+  input     [31:0] l2d_big_rf_array_0_intr_en_r;
+  input     [31:0] l2d_big_rf_array_0_status_r;
+  input     [31:0] l2d_big_rf_array_1_intr_en_r;
+  input     [31:0] l2d_big_rf_array_1_status_r;
+  input     [31:0] l2d_big_rf_array_2_intr_en_r;
+  input     [31:0] l2d_big_rf_array_2_status_r;
+  input     [31:0] l2d_big_rf_array_3_intr_en_r;
+  input     [31:0] l2d_big_rf_array_3_status_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_small_array_0_w;
+  output    d2l_small_array_0_we;
+  output    d2l_small_array_0_re;
+  output     [31:0] d2l_small_array_1_w;
+  output    d2l_small_array_1_we;
+  output    d2l_small_array_1_re;
+  output     [31:0] d2l_big_array_0_w;
+  output    d2l_big_array_0_we;
+  output    d2l_big_array_0_re;
+  output     [31:0] d2l_big_array_1_w;
+  output    d2l_big_array_1_we;
+  output    d2l_big_array_1_re;
+  output     [31:0] d2l_big_array_2_w;
+  output    d2l_big_array_2_we;
+  output    d2l_big_array_2_re;
+  output     [31:0] d2l_big_array_3_w;
+  output    d2l_big_array_3_we;
+  output    d2l_big_array_3_re;
+  output     [31:0] d2l_big_array_4_w;
+  output    d2l_big_array_4_we;
+  output    d2l_big_array_4_re;
+  output     [31:0] d2l_big_array_5_w;
+  output    d2l_big_array_5_we;
+  output    d2l_big_array_5_re;
+  output     [31:0] d2l_big_array_6_w;
+  output    d2l_big_array_6_we;
+  output    d2l_big_array_6_re;
+  output     [31:0] d2l_big_array_7_w;
+  output    d2l_big_array_7_we;
+  output    d2l_big_array_7_re;
+  output     [31:0] d2l_big_rf_array_0_intr_en_w;
+  output    d2l_big_rf_array_0_intr_en_we;
+  output    d2l_big_rf_array_0_intr_en_re;
+  output     [31:0] d2l_big_rf_array_0_status_w;
+  output    d2l_big_rf_array_0_status_we;
+  output    d2l_big_rf_array_0_status_re;
+  output     [31:0] d2l_big_rf_array_1_intr_en_w;
+  output    d2l_big_rf_array_1_intr_en_we;
+  output    d2l_big_rf_array_1_intr_en_re;
+  output     [31:0] d2l_big_rf_array_1_status_w;
+  output    d2l_big_rf_array_1_status_we;
+  output    d2l_big_rf_array_1_status_re;
+  output     [31:0] d2l_big_rf_array_2_intr_en_w;
+  output    d2l_big_rf_array_2_intr_en_we;
+  output    d2l_big_rf_array_2_intr_en_re;
+  output     [31:0] d2l_big_rf_array_2_status_w;
+  output    d2l_big_rf_array_2_status_we;
+  output    d2l_big_rf_array_2_status_re;
+  output     [31:0] d2l_big_rf_array_3_intr_en_w;
+  output    d2l_big_rf_array_3_intr_en_we;
+  output    d2l_big_rf_array_3_intr_en_re;
+  output     [31:0] d2l_big_rf_array_3_status_w;
+  output    d2l_big_rf_array_3_status_we;
+  output    d2l_big_rf_array_3_status_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [9:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_small_array_0_w;
+  logic  d2l_small_array_0_we;
+  logic  d2l_small_array_0_re;
+  logic   [31:0] d2l_small_array_1_w;
+  logic  d2l_small_array_1_we;
+  logic  d2l_small_array_1_re;
+  logic   [31:0] d2l_big_array_0_w;
+  logic  d2l_big_array_0_we;
+  logic  d2l_big_array_0_re;
+  logic   [31:0] d2l_big_array_1_w;
+  logic  d2l_big_array_1_we;
+  logic  d2l_big_array_1_re;
+  logic   [31:0] d2l_big_array_2_w;
+  logic  d2l_big_array_2_we;
+  logic  d2l_big_array_2_re;
+  logic   [31:0] d2l_big_array_3_w;
+  logic  d2l_big_array_3_we;
+  logic  d2l_big_array_3_re;
+  logic   [31:0] d2l_big_array_4_w;
+  logic  d2l_big_array_4_we;
+  logic  d2l_big_array_4_re;
+  logic   [31:0] d2l_big_array_5_w;
+  logic  d2l_big_array_5_we;
+  logic  d2l_big_array_5_re;
+  logic   [31:0] d2l_big_array_6_w;
+  logic  d2l_big_array_6_we;
+  logic  d2l_big_array_6_re;
+  logic   [31:0] d2l_big_array_7_w;
+  logic  d2l_big_array_7_we;
+  logic  d2l_big_array_7_re;
+  logic   [31:0] d2l_big_rf_array_0_intr_en_w;
+  logic  d2l_big_rf_array_0_intr_en_we;
+  logic  d2l_big_rf_array_0_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_0_status_w;
+  logic  d2l_big_rf_array_0_status_we;
+  logic  d2l_big_rf_array_0_status_re;
+  logic   [31:0] d2l_big_rf_array_1_intr_en_w;
+  logic  d2l_big_rf_array_1_intr_en_we;
+  logic  d2l_big_rf_array_1_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_1_status_w;
+  logic  d2l_big_rf_array_1_status_we;
+  logic  d2l_big_rf_array_1_status_re;
+  logic   [31:0] d2l_big_rf_array_2_intr_en_w;
+  logic  d2l_big_rf_array_2_intr_en_we;
+  logic  d2l_big_rf_array_2_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_2_status_w;
+  logic  d2l_big_rf_array_2_status_we;
+  logic  d2l_big_rf_array_2_status_re;
+  logic   [31:0] d2l_big_rf_array_3_intr_en_w;
+  logic  d2l_big_rf_array_3_intr_en_we;
+  logic  d2l_big_rf_array_3_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_3_status_w;
+  logic  d2l_big_rf_array_3_status_we;
+  logic  d2l_big_rf_array_3_status_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [9:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [9:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_small_array_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_small_array_0_we = 1'b0;
+    d2l_small_array_0_re = 1'b0;
+    d2l_small_array_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_small_array_1_we = 1'b0;
+    d2l_small_array_1_re = 1'b0;
+    d2l_big_array_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_0_we = 1'b0;
+    d2l_big_array_0_re = 1'b0;
+    d2l_big_array_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_1_we = 1'b0;
+    d2l_big_array_1_re = 1'b0;
+    d2l_big_array_2_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_2_we = 1'b0;
+    d2l_big_array_2_re = 1'b0;
+    d2l_big_array_3_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_3_we = 1'b0;
+    d2l_big_array_3_re = 1'b0;
+    d2l_big_array_4_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_4_we = 1'b0;
+    d2l_big_array_4_re = 1'b0;
+    d2l_big_array_5_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_5_we = 1'b0;
+    d2l_big_array_5_re = 1'b0;
+    d2l_big_array_6_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_6_we = 1'b0;
+    d2l_big_array_6_re = 1'b0;
+    d2l_big_array_7_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_array_7_we = 1'b0;
+    d2l_big_array_7_re = 1'b0;
+    d2l_big_rf_array_0_intr_en_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_0_intr_en_we = 1'b0;
+    d2l_big_rf_array_0_intr_en_re = 1'b0;
+    d2l_big_rf_array_0_status_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_0_status_we = 1'b0;
+    d2l_big_rf_array_0_status_re = 1'b0;
+    d2l_big_rf_array_1_intr_en_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_1_intr_en_we = 1'b0;
+    d2l_big_rf_array_1_intr_en_re = 1'b0;
+    d2l_big_rf_array_1_status_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_1_status_we = 1'b0;
+    d2l_big_rf_array_1_status_re = 1'b0;
+    d2l_big_rf_array_2_intr_en_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_2_intr_en_we = 1'b0;
+    d2l_big_rf_array_2_intr_en_re = 1'b0;
+    d2l_big_rf_array_2_status_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_2_status_we = 1'b0;
+    d2l_big_rf_array_2_status_re = 1'b0;
+    d2l_big_rf_array_3_intr_en_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_3_intr_en_we = 1'b0;
+    d2l_big_rf_array_3_intr_en_re = 1'b0;
+    d2l_big_rf_array_3_status_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_big_rf_array_3_status_we = 1'b0;
+    d2l_big_rf_array_3_status_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: small_array_0     Address: 0x0     External: false
+    8'b00000000:
+      begin
+        d2l_small_array_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_small_array_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_small_array_0_r;
+      end
+    //  Register: small_array_1     Address: 0x4     External: false
+    8'b00000001:
+      begin
+        d2l_small_array_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_small_array_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_small_array_1_r;
+      end
+    //  Register: big_array_0     Address: 0x100     External: false
+    8'b01000000:
+      begin
+        d2l_big_array_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_0_r;
+      end
+    //  Register: big_array_1     Address: 0x104     External: false
+    8'b01000001:
+      begin
+        d2l_big_array_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_1_r;
+      end
+    //  Register: big_array_2     Address: 0x108     External: false
+    8'b01000010:
+      begin
+        d2l_big_array_2_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_2_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_2_r;
+      end
+    //  Register: big_array_3     Address: 0x10c     External: false
+    8'b01000011:
+      begin
+        d2l_big_array_3_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_3_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_3_r;
+      end
+    //  Register: big_array_4     Address: 0x110     External: false
+    8'b01000100:
+      begin
+        d2l_big_array_4_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_4_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_4_r;
+      end
+    //  Register: big_array_5     Address: 0x114     External: false
+    8'b01000101:
+      begin
+        d2l_big_array_5_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_5_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_5_r;
+      end
+    //  Register: big_array_6     Address: 0x118     External: false
+    8'b01000110:
+      begin
+        d2l_big_array_6_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_6_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_6_r;
+      end
+    //  Register: big_array_7     Address: 0x11c     External: false
+    8'b01000111:
+      begin
+        d2l_big_array_7_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_array_7_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_array_7_r;
+      end
+    //  Register: big_rf_array_0.intr_en     Address: 0x200     External: false
+    8'b10000000:
+      begin
+        d2l_big_rf_array_0_intr_en_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_0_intr_en_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_0_intr_en_r;
+      end
+    //  Register: big_rf_array_0.status     Address: 0x204     External: false
+    8'b10000001:
+      begin
+        d2l_big_rf_array_0_status_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_0_status_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_0_status_r;
+      end
+    //  Register: big_rf_array_1.intr_en     Address: 0x210     External: false
+    8'b10000100:
+      begin
+        d2l_big_rf_array_1_intr_en_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_1_intr_en_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_1_intr_en_r;
+      end
+    //  Register: big_rf_array_1.status     Address: 0x214     External: false
+    8'b10000101:
+      begin
+        d2l_big_rf_array_1_status_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_1_status_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_1_status_r;
+      end
+    //  Register: big_rf_array_2.intr_en     Address: 0x220     External: false
+    8'b10001000:
+      begin
+        d2l_big_rf_array_2_intr_en_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_2_intr_en_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_2_intr_en_r;
+      end
+    //  Register: big_rf_array_2.status     Address: 0x224     External: false
+    8'b10001001:
+      begin
+        d2l_big_rf_array_2_status_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_2_status_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_2_status_r;
+      end
+    //  Register: big_rf_array_3.intr_en     Address: 0x230     External: false
+    8'b10001100:
+      begin
+        d2l_big_rf_array_3_intr_en_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_3_intr_en_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_3_intr_en_r;
+      end
+    //  Register: big_rf_array_3.status     Address: 0x234     External: false
+    8'b10001101:
+      begin
+        d2l_big_rf_array_3_status_we = pio_write_active & ~dec_pio_ack;
+        d2l_big_rf_array_3_status_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_big_rf_array_3_status_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module lazy_map_pio
+//
+module lazy_map_pio
+(
+  clk,
+  reset,
+  h2l_big_rf_array_0_status_int1_intr,
+  h2l_big_rf_array_0_status_int2_intr,
+  h2l_big_rf_array_1_status_int1_intr,
+  h2l_big_rf_array_1_status_int2_intr,
+  h2l_big_rf_array_2_status_int1_intr,
+  h2l_big_rf_array_2_status_int2_intr,
+  h2l_big_rf_array_3_status_int1_intr,
+  h2l_big_rf_array_3_status_int2_intr,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_small_array_0_lsb_field_r,
+  l2h_small_array_0_msb_field_r,
+  l2h_small_array_1_lsb_field_r,
+  l2h_small_array_1_msb_field_r,
+  l2h_big_array_0_lsb_field_r,
+  l2h_big_array_0_msb_field_r,
+  l2h_big_array_1_lsb_field_r,
+  l2h_big_array_1_msb_field_r,
+  l2h_big_array_2_lsb_field_r,
+  l2h_big_array_2_msb_field_r,
+  l2h_big_array_3_lsb_field_r,
+  l2h_big_array_3_msb_field_r,
+  l2h_big_array_4_lsb_field_r,
+  l2h_big_array_4_msb_field_r,
+  l2h_big_array_5_lsb_field_r,
+  l2h_big_array_5_msb_field_r,
+  l2h_big_array_6_lsb_field_r,
+  l2h_big_array_6_msb_field_r,
+  l2h_big_array_7_lsb_field_r,
+  l2h_big_array_7_msb_field_r,
+  l2h_big_rf_array_0_status_intr_o,
+  l2h_big_rf_array_1_status_intr_o,
+  l2h_big_rf_array_2_status_intr_o,
+  l2h_big_rf_array_3_status_intr_o,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input    h2l_big_rf_array_0_status_int1_intr;
+  input    h2l_big_rf_array_0_status_int2_intr;
+  input    h2l_big_rf_array_1_status_int1_intr;
+  input    h2l_big_rf_array_1_status_int2_intr;
+  input    h2l_big_rf_array_2_status_int1_intr;
+  input    h2l_big_rf_array_2_status_int2_intr;
+  input    h2l_big_rf_array_3_status_int1_intr;
+  input    h2l_big_rf_array_3_status_int2_intr;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [15:0] l2h_small_array_0_lsb_field_r;
+  output     [15:0] l2h_small_array_0_msb_field_r;
+  output     [15:0] l2h_small_array_1_lsb_field_r;
+  output     [15:0] l2h_small_array_1_msb_field_r;
+  output     [15:0] l2h_big_array_0_lsb_field_r;
+  output     [15:0] l2h_big_array_0_msb_field_r;
+  output     [15:0] l2h_big_array_1_lsb_field_r;
+  output     [15:0] l2h_big_array_1_msb_field_r;
+  output     [15:0] l2h_big_array_2_lsb_field_r;
+  output     [15:0] l2h_big_array_2_msb_field_r;
+  output     [15:0] l2h_big_array_3_lsb_field_r;
+  output     [15:0] l2h_big_array_3_msb_field_r;
+  output     [15:0] l2h_big_array_4_lsb_field_r;
+  output     [15:0] l2h_big_array_4_msb_field_r;
+  output     [15:0] l2h_big_array_5_lsb_field_r;
+  output     [15:0] l2h_big_array_5_msb_field_r;
+  output     [15:0] l2h_big_array_6_lsb_field_r;
+  output     [15:0] l2h_big_array_6_msb_field_r;
+  output     [15:0] l2h_big_array_7_lsb_field_r;
+  output     [15:0] l2h_big_array_7_msb_field_r;
+  output    l2h_big_rf_array_0_status_intr_o;
+  output    l2h_big_rf_array_1_status_intr_o;
+  output    l2h_big_rf_array_2_status_intr_o;
+  output    l2h_big_rf_array_3_status_intr_o;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_small_array_0_w;
+  logic  d2l_small_array_0_we;
+  logic  d2l_small_array_0_re;
+  logic   [31:0] d2l_small_array_1_w;
+  logic  d2l_small_array_1_we;
+  logic  d2l_small_array_1_re;
+  logic   [31:0] d2l_big_array_0_w;
+  logic  d2l_big_array_0_we;
+  logic  d2l_big_array_0_re;
+  logic   [31:0] d2l_big_array_1_w;
+  logic  d2l_big_array_1_we;
+  logic  d2l_big_array_1_re;
+  logic   [31:0] d2l_big_array_2_w;
+  logic  d2l_big_array_2_we;
+  logic  d2l_big_array_2_re;
+  logic   [31:0] d2l_big_array_3_w;
+  logic  d2l_big_array_3_we;
+  logic  d2l_big_array_3_re;
+  logic   [31:0] d2l_big_array_4_w;
+  logic  d2l_big_array_4_we;
+  logic  d2l_big_array_4_re;
+  logic   [31:0] d2l_big_array_5_w;
+  logic  d2l_big_array_5_we;
+  logic  d2l_big_array_5_re;
+  logic   [31:0] d2l_big_array_6_w;
+  logic  d2l_big_array_6_we;
+  logic  d2l_big_array_6_re;
+  logic   [31:0] d2l_big_array_7_w;
+  logic  d2l_big_array_7_we;
+  logic  d2l_big_array_7_re;
+  logic   [31:0] d2l_big_rf_array_0_intr_en_w;
+  logic  d2l_big_rf_array_0_intr_en_we;
+  logic  d2l_big_rf_array_0_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_0_status_w;
+  logic  d2l_big_rf_array_0_status_we;
+  logic  d2l_big_rf_array_0_status_re;
+  logic   [31:0] d2l_big_rf_array_1_intr_en_w;
+  logic  d2l_big_rf_array_1_intr_en_we;
+  logic  d2l_big_rf_array_1_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_1_status_w;
+  logic  d2l_big_rf_array_1_status_we;
+  logic  d2l_big_rf_array_1_status_re;
+  logic   [31:0] d2l_big_rf_array_2_intr_en_w;
+  logic  d2l_big_rf_array_2_intr_en_we;
+  logic  d2l_big_rf_array_2_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_2_status_w;
+  logic  d2l_big_rf_array_2_status_we;
+  logic  d2l_big_rf_array_2_status_re;
+  logic   [31:0] d2l_big_rf_array_3_intr_en_w;
+  logic  d2l_big_rf_array_3_intr_en_we;
+  logic  d2l_big_rf_array_3_intr_en_re;
+  logic   [31:0] d2l_big_rf_array_3_status_w;
+  logic  d2l_big_rf_array_3_status_we;
+  logic  d2l_big_rf_array_3_status_re;
+  logic   [31:0] l2d_small_array_0_r;
+  logic   [31:0] l2d_small_array_1_r;
+  logic   [31:0] l2d_big_array_0_r;
+  logic   [31:0] l2d_big_array_1_r;
+  logic   [31:0] l2d_big_array_2_r;
+  logic   [31:0] l2d_big_array_3_r;
+  logic   [31:0] l2d_big_array_4_r;
+  logic   [31:0] l2d_big_array_5_r;
+  logic   [31:0] l2d_big_array_6_r;
+  logic   [31:0] l2d_big_array_7_r;
+  logic   [31:0] l2d_big_rf_array_0_intr_en_r;
+  logic   [31:0] l2d_big_rf_array_0_status_r;
+  logic   [31:0] l2d_big_rf_array_1_intr_en_r;
+  logic   [31:0] l2d_big_rf_array_1_status_r;
+  logic   [31:0] l2d_big_rf_array_2_intr_en_r;
+  logic   [31:0] l2d_big_rf_array_2_status_r;
+  logic   [31:0] l2d_big_rf_array_3_intr_en_r;
+  logic   [31:0] l2d_big_rf_array_3_status_r;
+  
+  
+  lazy_map_jrdl_decode pio_decode ( .* );
+    
+  lazy_map_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
@@ -0,0 +1,293 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_lazy/test.rdl
+//   Parms: ./rdl_uvm_lazy/test.parms
+//   Date: Mon Oct 19 05:27:05 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register small_array
+class reg_lazy_map_small_array extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_lazy_map_small_array");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_lazy_map_small_array
+
+// Register big_array
+class reg_lazy_map_big_array extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_lazy_map_big_array");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_lazy_map_big_array
+
+// Register intr_en
+class reg_lazy_map_big_rf_array_intr_en extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl int1;
+  rand uvm_reg_field_rdl int2;
+  
+  function new(string name = "reg_lazy_map_big_rf_array_intr_en");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.int1 = new("int1");
+    this.int1.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int1.configure(this, 1, 0, "RW", 0, 1'h1, 1, 1, 0);
+    this.int2 = new("int2");
+    this.int2.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int2.configure(this, 1, 1, "RW", 0, 1'h1, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "int1"}, 0, 1);
+    add_hdl_path_slice({rdl_reg_name, "int2"}, 1, 1);
+  endfunction: build
+  
+endclass : reg_lazy_map_big_rf_array_intr_en
+
+// Register status
+class reg_lazy_map_big_rf_array_status extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl_interrupt int1;
+  rand uvm_reg_field_rdl_interrupt int2;
+  
+  function new(string name = "reg_lazy_map_big_rf_array_status");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.int1 = new("int1");
+    this.int1.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int1.add_intr(0, 0, "", 0);
+    this.int1.configure(this, 1, 0, "W1C", 1, 1'h0, 1, 1, 0);
+    this.int2 = new("int2");
+    this.int2.set_rdl_access_info(1, 1, 0, 0, 0, 0);
+    this.int2.add_intr(0, 0, "", 1);
+    this.int2.configure(this, 1, 1, "W1C", 1, 1'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "int1"}, 0, 1);
+    add_hdl_path_slice({rdl_reg_name, "int2"}, 1, 1);
+  endfunction: build
+  
+  extern virtual function void add_callbacks();
+  
+  virtual function void get_intr_fields(ref uvm_reg_field fields[$]); // return all source interrupt fields
+    uvm_reg_field f[$];
+    uvm_reg_field_rdl rdl_f;
+    uvm_reg_field_rdl_interrupt rdl_intr_f;
+    get_fields(f);
+    foreach(f[i]) begin
+      $cast(rdl_f, f[i]);
+      if (rdl_f.is_interrupt()) begin
+        $cast(rdl_intr_f, rdl_f);
+        rdl_intr_f.get_intr_fields(fields);
+      end
+    end
+  endfunction: get_intr_fields
+  
+  virtual task get_active_intr_fields(ref uvm_reg_field fields[$], input bit is_halt, input uvm_path_e path = UVM_DEFAULT_PATH); // return all active source intr/halt fields
+    uvm_reg_field f[$];
+    uvm_reg_field_rdl rdl_f;
+    uvm_reg_field_rdl_interrupt rdl_intr_f;
+    uvm_status_e status;
+    uvm_reg_data_t value;
+    read(status, value, path);
+    get_fields(f);
+    foreach(f[i]) begin
+      $cast(rdl_f, f[i]);
+      if (rdl_f.is_interrupt() && rdl_f.get()) begin
+        $cast(rdl_intr_f, rdl_f);
+        rdl_intr_f.get_active_intr_fields(fields, is_halt, path);
+      end
+    end
+  endtask: get_active_intr_fields
+  
+endclass : reg_lazy_map_big_rf_array_status
+
+// Block big_rf_array
+class block_lazy_map_big_rf_array extends uvm_reg_block_rdl;
+  rand reg_lazy_map_big_rf_array_intr_en intr_en;
+  rand reg_lazy_map_big_rf_array_status status;
+  
+  function new(string name = "block_lazy_map_big_rf_array");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void add_callbacks();
+    uvm_reg m_regs[$];
+    uvm_reg_block  m_blks[$];
+    uvm_reg_rdl rg;
+    uvm_reg_block_rdl blk;
+    this.get_registers(m_regs, UVM_NO_HIER);
+    foreach (m_regs[rg_]) begin
+      $cast(rg, m_regs[rg_]);
+      rg.add_rdl_callbacks();
+    end
+    this.get_blocks(m_blks, UVM_NO_HIER);
+    foreach (m_blks[blk_]) begin
+      $cast(blk, m_blks[blk_]);
+      blk.add_rdl_callbacks();
+    end
+  endfunction: add_callbacks
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.intr_en = new("intr_en");
+    this.intr_en.configure(this, null, "");
+    this.intr_en.set_rdl_tag("intr_en_");
+    this.intr_en.set_reg_test_info(0, 0, 0);
+    this.intr_en.build();
+    this.default_map.add_reg(this.intr_en, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.status = new("status");
+    this.status.configure(this, null, "");
+    this.status.set_rdl_tag("status_");
+    this.status.set_reg_test_info(0, 0, 0);
+    this.status.build();
+    this.default_map.add_reg(this.status, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_lazy_map_big_rf_array)
+endclass : block_lazy_map_big_rf_array
+
+// Base block
+class block_lazy_map extends uvm_reg_block_rdl;
+  rand reg_lazy_map_small_array small_array[2];
+  rand reg_lazy_map_big_array big_array[8];
+  rand block_lazy_map_big_rf_array big_rf_array[4];
+  
+  function new(string name = "block_lazy_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void add_callbacks();
+    uvm_reg m_regs[$];
+    uvm_reg_block  m_blks[$];
+    uvm_reg_rdl rg;
+    uvm_reg_block_rdl blk;
+    this.get_registers(m_regs, UVM_NO_HIER);
+    foreach (m_regs[rg_]) begin
+      $cast(rg, m_regs[rg_]);
+      rg.add_rdl_callbacks();
+    end
+    this.get_blocks(m_blks, UVM_NO_HIER);
+    foreach (m_blks[blk_]) begin
+      $cast(blk, m_blks[blk_]);
+      blk.add_rdl_callbacks();
+    end
+  endfunction: add_callbacks
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`LAZY_MAP_PIO_INSTANCE_PATH, ".pio_logic"});
+    foreach (this.small_array[i]) begin
+      this.small_array[i] = new($psprintf("small_array [%0d]",i));
+      this.small_array[i].configure(this, null, "");
+      this.small_array[i].set_rdl_tag($psprintf("small_array_%0d_",i));
+      this.small_array[i].set_reg_test_info(0, 0, 0);
+      this.small_array[i].build();
+      this.default_map.add_reg(this.small_array[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    this.add_lazy_range("big_array", `UVM_REG_ADDR_WIDTH'h100, `UVM_REG_ADDR_WIDTH'h4, 8);
+    this.add_lazy_range("big_rf_array", `UVM_REG_ADDR_WIDTH'h200, `UVM_REG_ADDR_WIDTH'h10, 4);
+    this.add_callbacks();
+  endfunction: build
+  
+  virtual function reg_lazy_map_big_array get_big_array_elem(int unsigned idx);
+    if (idx >= 8) return null;
+    if (this.big_array[idx] == null) begin
+      if (!this.lazy_build_begin()) return null;
+      this.big_array[idx] = new($psprintf("big_array [%0d]",idx));
+      this.big_array[idx].configure(this, null, "");
+      this.big_array[idx].set_rdl_tag($psprintf("big_array_%0d_",idx));
+      this.big_array[idx].set_reg_test_info(0, 0, 0);
+      this.big_array[idx].build();
+      this.default_map.add_reg(this.big_array[idx], `UVM_REG_ADDR_WIDTH'h100+idx*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+      this.big_array[idx].add_rdl_callbacks();
+    end
+    return this.big_array[idx];
+  endfunction: get_big_array_elem
+  
+  virtual function block_lazy_map_big_rf_array get_big_rf_array_elem(int unsigned idx);
+    if (idx >= 4) return null;
+    if (this.big_rf_array[idx] == null) begin
+      if (!this.lazy_build_begin()) return null;
+      this.big_rf_array[idx] = block_lazy_map_big_rf_array::type_id::create($psprintf("big_rf_array [%0d]",idx),, get_full_name());
+      this.big_rf_array[idx].configure(this, "");
+      this.big_rf_array[idx].set_rdl_tag($psprintf("big_rf_array_%0d_",idx));
+      this.big_rf_array[idx].build();
+      this.default_map.add_submap(this.big_rf_array[idx].default_map, `UVM_REG_ADDR_WIDTH'h200+idx*`UVM_REG_ADDR_WIDTH'h10);
+      this.big_rf_array[idx].add_rdl_callbacks();
+    end
+    return this.big_rf_array[idx];
+  endfunction: get_big_rf_array_elem
+  
+  virtual function void build_lazy_element(string name, int unsigned idx);
+    case (name)
+      "big_array": void'(get_big_array_elem(idx));
+      "big_rf_array": void'(get_big_rf_array_elem(idx));
+      default: super.build_lazy_element(name, idx);
+    endcase
+  endfunction: build_lazy_element
+  
+  `uvm_object_utils(block_lazy_map)
+endclass : block_lazy_map
+
+/* Add model callbacks associated with big_rf_array.status. */
+function void reg_lazy_map_big_rf_array_status::add_callbacks();
+  uvm_reg_block m_root_cb_block;
+  uvm_reg m_cb_reg;
+  uvm_reg_field m_cb_field;
+  block_lazy_map_big_rf_array m_root_cb_block_1;
+  rdl_mask_intr_field_cbs int2_mask_cb;
+  m_root_cb_block = this.get_ancestor(1);
+  $cast(m_root_cb_block_1, m_root_cb_block);
+  m_cb_field = m_root_cb_block_1.intr_en.int1;
+  int1.set_intr_mask_field(m_cb_field, 1);
+  m_cb_field = m_root_cb_block_1.intr_en.int2;
+  int2.set_intr_mask_field(m_cb_field, 1);
+  int2_mask_cb = new("int2_mask_cb",int2);
+  uvm_reg_field_cb::add(this.int2, int2_mask_cb);
+endfunction: add_callbacks
@@ -0,0 +1,68 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_uvm_lite_compact/test.rdl
+ *   Parms: ./rdl_uvm_lite_compact/test.parms
+ *   Date: Mon Oct 19 04:27:03 UTC 2026
+ */
+
+register_set compact_map "Registers for compact_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register top_multi "top_multi register" {
+    address = 0x0;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer mid_field[8] "mid_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x2;
+    };
+    integer lsb_field[8] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x1;
+    };
+  };
+  
+  register top_single "top_single register" {
+    address = 0x8;
+    repeat = 2;
+    integer data[32] "data field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+  };
+  
+  register_set sub "sub register_set" {
+    address = 0x100;
+    
+    register multi "multi register" {
+      address = 0x0;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer mid_field[8] "mid_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x2;
+      };
+      integer lsb_field[8] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+    };
+    
+    register single "single register" {
+      address = 0x4;
+      integer data[32] "data field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x8;
+  };
+  
+  register_set_size = 0x108;
+};
+
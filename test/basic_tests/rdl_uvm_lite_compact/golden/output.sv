@@ -0,0 +1,642 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_lite_compact/test.rdl
+//   Parms: ./rdl_uvm_lite_compact/test.parms
+//   Date: Mon Oct 19 04:27:03 UTC 2026
+//
+
+//
+//---------- module compact_map_jrdl_logic
+//
+module compact_map_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_top_multi_w,
+  d2l_top_multi_we,
+  d2l_top_multi_re,
+  d2l_top_single_0_w,
+  d2l_top_single_0_we,
+  d2l_top_single_0_re,
+  d2l_top_single_1_w,
+  d2l_top_single_1_we,
+  d2l_top_single_1_re,
+  d2l_sub_multi_w,
+  d2l_sub_multi_we,
+  d2l_sub_multi_re,
+  d2l_sub_single_w,
+  d2l_sub_single_we,
+  d2l_sub_single_re,
+
+  l2d_top_multi_r,
+  l2d_top_single_0_r,
+  l2d_top_single_1_r,
+  l2d_sub_multi_r,
+  l2d_sub_single_r,
+  l2h_top_multi_lsb_field_r,
+  l2h_top_multi_mid_field_r,
+  l2h_top_multi_msb_field_r,
+  l2h_top_single_0_data_r,
+  l2h_top_single_1_data_r,
+  l2h_sub_multi_lsb_field_r,
+  l2h_sub_multi_mid_field_r,
+  l2h_sub_multi_msb_field_r,
+  l2h_sub_single_data_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_top_multi_w;
+  input    d2l_top_multi_we;
+  input    d2l_top_multi_re;
+  input     [31:0] d2l_top_single_0_w;
+  input    d2l_top_single_0_we;
+  input    d2l_top_single_0_re;
+  input     [31:0] d2l_top_single_1_w;
+  input    d2l_top_single_1_we;
+  input    d2l_top_single_1_re;
+  input     [31:0] d2l_sub_multi_w;
+  input    d2l_sub_multi_we;
+  input    d2l_sub_multi_re;
+  input     [31:0] d2l_sub_single_w;
+  input    d2l_sub_single_we;
+  input    d2l_sub_single_re;
+
+  //------- outputs
+  output     [31:0] l2d_top_multi_r;
+  output     [31:0] l2d_top_single_0_r;
+  output     [31:0] l2d_top_single_1_r;
+  output     [31:0] l2d_sub_multi_r;
+  output     [31:0] l2d_sub_single_r;
+  output     [7:0] l2h_top_multi_lsb_field_r;
+  output     [7:0] l2h_top_multi_mid_field_r;
+  output     [15:0] l2h_top_multi_msb_field_r;
+  output     [31:0] l2h_top_single_0_data_r;
+  output     [31:0] l2h_top_single_1_data_r;
+  output     [7:0] l2h_sub_multi_lsb_field_r;
+  output     [7:0] l2h_sub_multi_mid_field_r;
+  output     [15:0] l2h_sub_multi_msb_field_r;
+  output     [31:0] l2h_sub_single_data_r;
+
+
+  //------- reg defines
+  logic   [7:0] rg_top_multi_lsb_field;
+  logic   [7:0] reg_top_multi_lsb_field_next;
+  logic   [7:0] l2h_top_multi_lsb_field_r;
+  logic   [7:0] rg_top_multi_mid_field;
+  logic   [7:0] reg_top_multi_mid_field_next;
+  logic   [7:0] l2h_top_multi_mid_field_r;
+  logic   [15:0] rg_top_multi_msb_field;
+  logic   [15:0] reg_top_multi_msb_field_next;
+  logic   [15:0] l2h_top_multi_msb_field_r;
+  logic   [31:0] l2d_top_multi_r;
+  logic   [31:0] rg_top_single_0_data;
+  logic   [31:0] reg_top_single_0_data_next;
+  logic   [31:0] l2h_top_single_0_data_r;
+  logic   [31:0] l2d_top_single_0_r;
+  logic   [31:0] rg_top_single_1_data;
+  logic   [31:0] reg_top_single_1_data_next;
+  logic   [31:0] l2h_top_single_1_data_r;
+  logic   [31:0] l2d_top_single_1_r;
+  logic   [7:0] rg_sub_multi_lsb_field;
+  logic   [7:0] reg_sub_multi_lsb_field_next;
+  logic   [7:0] l2h_sub_multi_lsb_field_r;
+  logic   [7:0] rg_sub_multi_mid_field;
+  logic   [7:0] reg_sub_multi_mid_field_next;
+  logic   [7:0] l2h_sub_multi_mid_field_r;
+  logic   [15:0] rg_sub_multi_msb_field;
+  logic   [15:0] reg_sub_multi_msb_field_next;
+  logic   [15:0] l2h_sub_multi_msb_field_r;
+  logic   [31:0] l2d_sub_multi_r;
+  logic   [31:0] rg_sub_single_data;
+  logic   [31:0] reg_sub_single_data_next;
+  logic   [31:0] l2h_sub_single_data_r;
+  logic   [31:0] l2d_sub_single_r;
+  
+  
+  //------- combinatorial assigns for top_multi
+  always_comb begin
+    reg_top_multi_lsb_field_next = rg_top_multi_lsb_field;
+    l2h_top_multi_lsb_field_r = rg_top_multi_lsb_field;
+    reg_top_multi_mid_field_next = rg_top_multi_mid_field;
+    l2h_top_multi_mid_field_r = rg_top_multi_mid_field;
+    reg_top_multi_msb_field_next = rg_top_multi_msb_field;
+    l2h_top_multi_msb_field_r = rg_top_multi_msb_field;
+    if (d2l_top_multi_we) reg_top_multi_lsb_field_next = d2l_top_multi_w [7:0] ;
+    if (d2l_top_multi_we) reg_top_multi_mid_field_next = d2l_top_multi_w [15:8] ;
+    if (d2l_top_multi_we) reg_top_multi_msb_field_next = d2l_top_multi_w [31:16] ;
+  end
+  
+  //------- reg assigns for top_multi
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_top_multi_lsb_field <= #1 8'h1;
+      rg_top_multi_mid_field <= #1 8'h2;
+      rg_top_multi_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_top_multi_lsb_field <= #1  reg_top_multi_lsb_field_next;
+      rg_top_multi_mid_field <= #1  reg_top_multi_mid_field_next;
+      rg_top_multi_msb_field <= #1  reg_top_multi_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for top_multi (pio read data)
+  always_comb begin
+    l2d_top_multi_r [7:0]  = rg_top_multi_lsb_field;
+    l2d_top_multi_r [15:8]  = rg_top_multi_mid_field;
+    l2d_top_multi_r [31:16]  = rg_top_multi_msb_field;
+  end
+  
+  //------- combinatorial assigns for top_single_0
+  always_comb begin
+    reg_top_single_0_data_next = rg_top_single_0_data;
+    l2h_top_single_0_data_r = rg_top_single_0_data;
+    if (d2l_top_single_0_we) reg_top_single_0_data_next = d2l_top_single_0_w;
+  end
+  
+  //------- reg assigns for top_single_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_top_single_0_data <= #1 32'h0;
+    end
+    else begin
+      rg_top_single_0_data <= #1  reg_top_single_0_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for top_single_0 (pio read data)
+  always_comb begin
+    l2d_top_single_0_r = rg_top_single_0_data;
+  end
+  
+  //------- combinatorial assigns for top_single_1
+  always_comb begin
+    reg_top_single_1_data_next = rg_top_single_1_data;
+    l2h_top_single_1_data_r = rg_top_single_1_data;
+    if (d2l_top_single_1_we) reg_top_single_1_data_next = d2l_top_single_1_w;
+  end
+  
+  //------- reg assigns for top_single_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_top_single_1_data <= #1 32'h0;
+    end
+    else begin
+      rg_top_single_1_data <= #1  reg_top_single_1_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for top_single_1 (pio read data)
+  always_comb begin
+    l2d_top_single_1_r = rg_top_single_1_data;
+  end
+  
+  //------- combinatorial assigns for sub_multi
+  always_comb begin
+    reg_sub_multi_lsb_field_next = rg_sub_multi_lsb_field;
+    l2h_sub_multi_lsb_field_r = rg_sub_multi_lsb_field;
+    reg_sub_multi_mid_field_next = rg_sub_multi_mid_field;
+    l2h_sub_multi_mid_field_r = rg_sub_multi_mid_field;
+    reg_sub_multi_msb_field_next = rg_sub_multi_msb_field;
+    l2h_sub_multi_msb_field_r = rg_sub_multi_msb_field;
+    if (d2l_sub_multi_we) reg_sub_multi_lsb_field_next = d2l_sub_multi_w [7:0] ;
+    if (d2l_sub_multi_we) reg_sub_multi_mid_field_next = d2l_sub_multi_w [15:8] ;
+    if (d2l_sub_multi_we) reg_sub_multi_msb_field_next = d2l_sub_multi_w [31:16] ;
+  end
+  
+  //------- reg assigns for sub_multi
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_sub_multi_lsb_field <= #1 8'h1;
+      rg_sub_multi_mid_field <= #1 8'h2;
+      rg_sub_multi_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_sub_multi_lsb_field <= #1  reg_sub_multi_lsb_field_next;
+      rg_sub_multi_mid_field <= #1  reg_sub_multi_mid_field_next;
+      rg_sub_multi_msb_field <= #1  reg_sub_multi_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for sub_multi (pio read data)
+  always_comb begin
+    l2d_sub_multi_r [7:0]  = rg_sub_multi_lsb_field;
+    l2d_sub_multi_r [15:8]  = rg_sub_multi_mid_field;
+    l2d_sub_multi_r [31:16]  = rg_sub_multi_msb_field;
+  end
+  
+  //------- combinatorial assigns for sub_single
+  always_comb begin
+    reg_sub_single_data_next = rg_sub_single_data;
+    l2h_sub_single_data_r = rg_sub_single_data;
+    if (d2l_sub_single_we) reg_sub_single_data_next = d2l_sub_single_w;
+  end
+  
+  //------- reg assigns for sub_single
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_sub_single_data <= #1 32'h0;
+    end
+    else begin
+      rg_sub_single_data <= #1  reg_sub_single_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for sub_single (pio read data)
+  always_comb begin
+    l2d_sub_single_r = rg_sub_single_data;
+  end
+  
+endmodule
+
+//
+//---------- module compact_map_jrdl_decode
+//
+module compact_map_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_top_multi_r,
+  l2d_top_single_0_r,
+  l2d_top_single_1_r,
+  l2d_sub_multi_r,
+  l2d_sub_single_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_top_multi_w,
+  d2l_top_multi_we,
+  d2l_top_multi_re,
+  d2l_top_single_0_w,
+  d2l_top_single_0_we,
+  d2l_top_single_0_re,
+  d2l_top_single_1_w,
+  d2l_top_single_1_we,
+  d2l_top_single_1_re,
+  d2l_sub_multi_w,
+  d2l_sub_multi_we,
+  d2l_sub_multi_re,
+  d2l_sub_single_w,
+  d2l_sub_single_we,
+  d2l_sub_single_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_top_multi_r;
+  input     [31:0] l2d_top_single_0_r;
+  input     [31:0] l2d_top_single_1_r;
+  input     [31:0] l2d_sub_multi_r;
+  input     [31:0] l2d_sub_single_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_top_multi_w;
+  output    d2l_top_multi_we;
+  output    d2l_top_multi_re;
+  output     [31:0] d2l_top_single_0_w;
+  output    d2l_top_single_0_we;
+  output    d2l_top_single_0_re;
+  output     [31:0] d2l_top_single_1_w;
+  output    d2l_top_single_1_we;
+  output    d2l_top_single_1_re;
+  output     [31:0] d2l_sub_multi_w;
+  output    d2l_sub_multi_we;
+  output    d2l_sub_multi_re;
+  output     [31:0] d2l_sub_single_w;
+  output    d2l_sub_single_we;
+  output    d2l_sub_single_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [8:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_top_multi_w;
+  logic  d2l_top_multi_we;
+  logic  d2l_top_multi_re;
+  logic   [31:0] d2l_top_single_0_w;
+  logic  d2l_top_single_0_we;
+  logic  d2l_top_single_0_re;
+  logic   [31:0] d2l_top_single_1_w;
+  logic  d2l_top_single_1_we;
+  logic  d2l_top_single_1_re;
+  logic   [31:0] d2l_sub_multi_w;
+  logic  d2l_sub_multi_we;
+  logic  d2l_sub_multi_re;
+  logic   [31:0] d2l_sub_single_w;
+  logic  d2l_sub_single_we;
+  logic  d2l_sub_single_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [8:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [8:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_top_multi_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_top_multi_we = 1'b0;
+    d2l_top_multi_re = 1'b0;
+    d2l_top_single_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_top_single_0_we = 1'b0;
+    d2l_top_single_0_re = 1'b0;
+    d2l_top_single_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_top_single_1_we = 1'b0;
+    d2l_top_single_1_re = 1'b0;
+    d2l_sub_multi_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_sub_multi_we = 1'b0;
+    d2l_sub_multi_re = 1'b0;
+    d2l_sub_single_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_sub_single_we = 1'b0;
+    d2l_sub_single_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: top_multi     Address: 0x0     External: false
+    7'b0000000:
+      begin
+        d2l_top_multi_we = pio_write_active & ~dec_pio_ack;
+        d2l_top_multi_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_top_multi_r;
+      end
+    //  Register: top_single_0     Address: 0x8     External: false
+    7'b0000010:
+      begin
+        d2l_top_single_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_top_single_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_top_single_0_r;
+      end
+    //  Register: top_single_1     Address: 0xc     External: false
+    7'b0000011:
+      begin
+        d2l_top_single_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_top_single_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_top_single_1_r;
+      end
+    //  Register: sub.multi     Address: 0x100     External: false
+    7'b1000000:
+      begin
+        d2l_sub_multi_we = pio_write_active & ~dec_pio_ack;
+        d2l_sub_multi_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_sub_multi_r;
+      end
+    //  Register: sub.single     Address: 0x104     External: false
+    7'b1000001:
+      begin
+        d2l_sub_single_we = pio_write_active & ~dec_pio_ack;
+        d2l_sub_single_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_sub_single_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module compact_map_pio
+//
+module compact_map_pio
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_top_multi_lsb_field_r,
+  l2h_top_multi_mid_field_r,
+  l2h_top_multi_msb_field_r,
+  l2h_top_single_0_data_r,
+  l2h_top_single_1_data_r,
+  l2h_sub_multi_lsb_field_r,
+  l2h_sub_multi_mid_field_r,
+  l2h_sub_multi_msb_field_r,
+  l2h_sub_single_data_r,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [7:0] l2h_top_multi_lsb_field_r;
+  output     [7:0] l2h_top_multi_mid_field_r;
+  output     [15:0] l2h_top_multi_msb_field_r;
+  output     [31:0] l2h_top_single_0_data_r;
+  output     [31:0] l2h_top_single_1_data_r;
+  output     [7:0] l2h_sub_multi_lsb_field_r;
+  output     [7:0] l2h_sub_multi_mid_field_r;
+  output     [15:0] l2h_sub_multi_msb_field_r;
+  output     [31:0] l2h_sub_single_data_r;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_top_multi_w;
+  logic  d2l_top_multi_we;
+  logic  d2l_top_multi_re;
+  logic   [31:0] d2l_top_single_0_w;
+  logic  d2l_top_single_0_we;
+  logic  d2l_top_single_0_re;
+  logic   [31:0] d2l_top_single_1_w;
+  logic  d2l_top_single_1_we;
+  logic  d2l_top_single_1_re;
+  logic   [31:0] d2l_sub_multi_w;
+  logic  d2l_sub_multi_we;
+  logic  d2l_sub_multi_re;
+  logic   [31:0] d2l_sub_single_w;
+  logic  d2l_sub_single_we;
+  logic  d2l_sub_single_re;
+  logic   [31:0] l2d_top_multi_r;
+  logic   [31:0] l2d_top_single_0_r;
+  logic   [31:0] l2d_top_single_1_r;
+  logic   [31:0] l2d_sub_multi_r;
+  logic   [31:0] l2d_sub_single_r;
+  
+  
+  compact_map_jrdl_decode pio_decode ( .* );
+    
+  compact_map_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
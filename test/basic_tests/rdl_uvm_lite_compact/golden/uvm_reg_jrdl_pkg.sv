@@ -0,0 +1,143 @@
+//   Ordt 181018.01 autogenerated file 
+//   Date: Mon Oct 19 04:27:03 UTC 2026
+//
+
+
+// ordt_uvm_reg_lite1_pkg
+`ifndef ORDT_UVM_REG_LITE1_PKG_SV
+  `define ORDT_UVM_REG_LITE1_PKG_SV
+  `include "uvm_macros.svh"
+  package ordt_uvm_reg_lite1_pkg;
+    import uvm_pkg::*;
+    
+    // uvm_reg_lite class
+    class uvm_reg_lite extends uvm_reg;
+      rand uvm_reg_field m_REG_FIELD = new();
+      
+      function new(string name = "uvm_reg_lite", int unsigned n_bits = 0, int has_coverage = UVM_NO_COVERAGE);
+        super.new(name, n_bits, has_coverage);
+      endfunction: new
+      
+      function uvm_reg_data_t get_slice(int loidx = 0, int width = 0);
+        uvm_reg_data_t gvalue;
+        gvalue = m_REG_FIELD.get();
+        return (gvalue & (((1<<width)-1) << loidx)) >> loidx;
+      endfunction: get_slice
+      
+      function void set_slice(uvm_reg_data_t value, int loidx = 0, int width = 0);
+        uvm_reg_data_t svalue;
+        if (value >> width) begin
+          $display("ERROR in UVM reg lite1 model: atempting to set a slice value greater than field width");
+          value &= ((1<<width)-1);
+        end
+        svalue = m_REG_FIELD.get();
+        svalue |= (((1<<width)-1) << loidx);
+        svalue ^= (((1<<width)-1) << loidx);
+        svalue |= (value << loidx);
+        m_REG_FIELD.set(svalue);
+      endfunction: set_slice
+      
+    endclass : uvm_reg_lite
+    
+    // uvm_field_lite class
+    class uvm_field_lite;
+      protected uvm_reg_lite m_parent;
+      protected int m_loidx;
+      protected int m_width;
+      
+      function new(uvm_reg_lite parent, int loidx, int width);
+        m_parent = parent;
+        m_loidx = loidx;
+        m_width = width;
+      endfunction: new
+      
+      virtual function uvm_reg_data_t get();
+        return m_parent.get_slice(m_loidx, m_width);
+      endfunction: get
+      
+      virtual function set(uvm_reg_data_t value);
+        m_parent.set_slice(value, m_loidx, m_width);
+      endfunction: set
+      
+    endclass : uvm_field_lite
+    
+    // uvm_reg_lite_compact class
+    class uvm_reg_lite_compact extends uvm_reg_lite;
+      local uvm_field_lite m_field_handles[int];
+      
+      function new(string name = "uvm_reg_lite_compact", int unsigned n_bits = 0, int has_coverage = UVM_NO_COVERAGE);
+        super.new(name, n_bits, has_coverage);
+      endfunction: new
+      
+      /* Return the number of fields in this register's field table. */
+      virtual function int get_n_fields_lite();
+        return 0;
+      endfunction: get_n_fields_lite
+      
+      /* Return the field table index of the named field, or -1 if not found. */
+      virtual function int get_field_lite_idx(string name);
+        return -1;
+      endfunction: get_field_lite_idx
+      
+      /* Return the name of the field at the specified table index. */
+      virtual function string get_field_lite_name(int idx);
+        return "";
+      endfunction: get_field_lite_name
+      
+      /* Return the low bit index of the field at the specified table index. */
+      virtual function int get_field_lite_lsb(int idx);
+        return 0;
+      endfunction: get_field_lite_lsb
+      
+      /* Return the width of the field at the specified table index. */
+      virtual function int get_field_lite_width(int idx);
+        return 0;
+      endfunction: get_field_lite_width
+      
+      /* Return the desired value of the named field. */
+      function uvm_reg_data_t get_field_value(string name);
+        int idx = get_field_lite_idx(name);
+        if (idx < 0) begin
+          `uvm_error("RegModel", {"Unable to locate field '", name, "' in register '", get_name(), "'"})
+          return 0;
+        end
+        return get_slice(get_field_lite_lsb(idx), get_field_lite_width(idx));
+      endfunction: get_field_value
+      
+      /* Set the desired value of the named field. */
+      function void set_field_value(string name, uvm_reg_data_t value);
+        int idx = get_field_lite_idx(name);
+        if (idx < 0) begin
+          `uvm_error("RegModel", {"Unable to locate field '", name, "' in register '", get_name(), "'"})
+          return;
+        end
+        set_slice(value, get_field_lite_lsb(idx), get_field_lite_width(idx));
+      endfunction: set_field_value
+      
+      /* Return a field handle for the named field, creating it on first request.  Names not in the
+       * field table are looked up using get_field_by_name (null is returned with the standard warning). */
+      function uvm_field_lite get_field_lite_by_name(string name);
+        int idx = get_field_lite_idx(name);
+        if (idx < 0) begin
+          void'(super.get_field_by_name(name));
+          return null;
+        end
+        if (!m_field_handles.exists(idx))
+          m_field_handles[idx] = new(this, get_field_lite_lsb(idx), get_field_lite_width(idx));
+        return m_field_handles[idx];
+      endfunction: get_field_lite_by_name
+      
+      /* Field table entries are not uvm_reg_fields, so table field names return null with a message
+       * directing the caller to get_field_lite_by_name.  Other names use the uvm_reg lookup. */
+      virtual function uvm_reg_field get_field_by_name(string name);
+        if (get_field_lite_idx(name) >= 0) begin
+          `uvm_warning("RegModel", {"Field '", name, "' in compact register '", get_name(), "' is not a uvm_reg_field (use get_field_lite_by_name)"})
+          return null;
+        end
+        return super.get_field_by_name(name);
+      endfunction: get_field_by_name
+      
+    endclass : uvm_reg_lite_compact
+    
+  endpackage
+`endif
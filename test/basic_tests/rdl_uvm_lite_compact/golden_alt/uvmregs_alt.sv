@@ -0,0 +1,121 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ../test.rdl
+//   Parms: ../alt.parms
+//   Date: Mon Oct 19 04:27:04 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_lite1_pkg::*;
+
+// Register top_multi
+class reg_compact_map_top_multi extends uvm_reg_lite;
+  uvm_field_lite lsb_field = new(this, 0, 8);
+  uvm_field_lite mid_field = new(this, 8, 8);
+  uvm_field_lite msb_field = new(this, 16, 16);
+  
+  function new(string name = "reg_compact_map_top_multi");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    this.m_REG_FIELD.configure(this, 32, 0, "RW", 0, 32'h201, 1, 1, 1);
+  endfunction: build
+  
+endclass : reg_compact_map_top_multi
+
+// Register top_single
+class reg_compact_map_top_single extends uvm_reg_lite;
+  uvm_field_lite data = new(this, 0, 32);
+  
+  function new(string name = "reg_compact_map_top_single");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    this.m_REG_FIELD.configure(this, 32, 0, "RW", 0, 32'h0, 1, 1, 1);
+  endfunction: build
+  
+endclass : reg_compact_map_top_single
+
+// Register multi
+class reg_compact_map_sub_multi extends uvm_reg_lite;
+  uvm_field_lite lsb_field = new(this, 0, 8);
+  uvm_field_lite mid_field = new(this, 8, 8);
+  uvm_field_lite msb_field = new(this, 16, 16);
+  
+  function new(string name = "reg_compact_map_sub_multi");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    this.m_REG_FIELD.configure(this, 32, 0, "RW", 0, 32'h201, 1, 1, 1);
+  endfunction: build
+  
+endclass : reg_compact_map_sub_multi
+
+// Register single
+class reg_compact_map_sub_single extends uvm_reg_lite;
+  uvm_field_lite data = new(this, 0, 32);
+  
+  function new(string name = "reg_compact_map_sub_single");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    this.m_REG_FIELD.configure(this, 32, 0, "RW", 0, 32'h0, 1, 1, 1);
+  endfunction: build
+  
+endclass : reg_compact_map_sub_single
+
+// Block sub
+class block_compact_map_sub extends uvm_reg_block;
+  rand reg_compact_map_sub_multi multi;
+  rand reg_compact_map_sub_single single;
+  
+  function new(string name = "block_compact_map_sub");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.multi = new("multi");
+    this.multi.configure(this, null, "");
+    this.multi.build();
+    this.default_map.add_reg(this.multi, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.single = new("single");
+    this.single.configure(this, null, "");
+    this.single.build();
+    this.default_map.add_reg(this.single, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+  endfunction: build
+  
+endclass : block_compact_map_sub
+
+// Base block
+class block_compact_map extends uvm_reg_block;
+  rand reg_compact_map_top_multi top_multi;
+  rand reg_compact_map_top_single top_single[2];
+  rand block_compact_map_sub sub;
+  
+  function new(string name = "block_compact_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.top_multi = new("top_multi");
+    this.top_multi.configure(this, null, "");
+    this.top_multi.build();
+    this.default_map.add_reg(this.top_multi, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    foreach (this.top_single[i]) begin
+      this.top_single[i] = new($psprintf("top_single [%0d]",i));
+      this.top_single[i].configure(this, null, "");
+      this.top_single[i].build();
+      this.default_map.add_reg(this.top_single[i], `UVM_REG_ADDR_WIDTH'h8+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    this.sub = new("sub");
+    this.sub.configure(this, "");
+    this.sub.build();
+    this.default_map.add_submap(this.sub.default_map, `UVM_REG_ADDR_WIDTH'h100);
+  endfunction: build
+  
+endclass : block_compact_map
@@ -0,0 +1,211 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_uvm_reuse/test.rdl
+ *   Parms: ./rdl_uvm_reuse/test.parms
+ *   Date: Mon Oct 19 05:39:51 UTC 2026
+ */
+
+register_set top "Registers for top" {
+
+  address = 0x0;
+  register_width = 32;
+  register_set grp_a "grp_a register_set" {
+    address = 0x100;
+    
+    register same_a "same_a register" {
+      address = 0x0;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register same_b "same_b register" {
+      address = 0x4;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register reset_diff "reset_diff register" {
+      address = 0x8;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register access_diff "access_diff register" {
+      address = 0xc;
+      integer msb[16] "msb field" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register name_diff "name_diff register" {
+      address = 0x10;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x14;
+  };
+  
+  register_set grp_b "grp_b register_set" {
+    address = 0x200;
+    
+    register same_a "same_a register" {
+      address = 0x0;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register same_b "same_b register" {
+      address = 0x4;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register reset_diff "reset_diff register" {
+      address = 0x8;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register access_diff "access_diff register" {
+      address = 0xc;
+      integer msb[16] "msb field" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register name_diff "name_diff register" {
+      address = 0x10;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x14;
+  };
+  
+  register_set grp_c "grp_c register_set" {
+    address = 0x300;
+    
+    register same_a "same_a register" {
+      address = 0x0;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register same_b "same_b register" {
+      address = 0x4;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register reset_diff "reset_diff register" {
+      address = 0x8;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x2;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register access_diff "access_diff register" {
+      address = 0xc;
+      integer msb[16] "msb field" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register name_diff "name_diff register" {
+      address = 0x10;
+      integer msb[16] "msb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb[16] "lsb field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x14;
+  };
+  
+  register_set_size = 0x314;
+};
+
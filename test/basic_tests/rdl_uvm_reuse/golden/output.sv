@@ -0,0 +1,1407 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_reuse/test.rdl
+//   Parms: ./rdl_uvm_reuse/test.parms
+//   Date: Mon Oct 19 05:39:51 UTC 2026
+//
+
+//
+//---------- module top_jrdl_logic
+//
+module top_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_grp_a_same_a_w,
+  d2l_grp_a_same_a_we,
+  d2l_grp_a_same_a_re,
+  d2l_grp_a_same_b_w,
+  d2l_grp_a_same_b_we,
+  d2l_grp_a_same_b_re,
+  d2l_grp_a_reset_diff_w,
+  d2l_grp_a_reset_diff_we,
+  d2l_grp_a_reset_diff_re,
+  d2l_grp_a_access_diff_w,
+  d2l_grp_a_access_diff_we,
+  d2l_grp_a_access_diff_re,
+  d2l_grp_a_name_diff_w,
+  d2l_grp_a_name_diff_we,
+  d2l_grp_a_name_diff_re,
+  d2l_grp_b_same_a_w,
+  d2l_grp_b_same_a_we,
+  d2l_grp_b_same_a_re,
+  d2l_grp_b_same_b_w,
+  d2l_grp_b_same_b_we,
+  d2l_grp_b_same_b_re,
+  d2l_grp_b_reset_diff_w,
+  d2l_grp_b_reset_diff_we,
+  d2l_grp_b_reset_diff_re,
+  d2l_grp_b_access_diff_w,
+  d2l_grp_b_access_diff_we,
+  d2l_grp_b_access_diff_re,
+  d2l_grp_b_name_diff_w,
+  d2l_grp_b_name_diff_we,
+  d2l_grp_b_name_diff_re,
+  d2l_grp_c_same_a_w,
+  d2l_grp_c_same_a_we,
+  d2l_grp_c_same_a_re,
+  d2l_grp_c_same_b_w,
+  d2l_grp_c_same_b_we,
+  d2l_grp_c_same_b_re,
+  d2l_grp_c_reset_diff_w,
+  d2l_grp_c_reset_diff_we,
+  d2l_grp_c_reset_diff_re,
+  d2l_grp_c_access_diff_w,
+  d2l_grp_c_access_diff_we,
+  d2l_grp_c_access_diff_re,
+  d2l_grp_c_name_diff_w,
+  d2l_grp_c_name_diff_we,
+  d2l_grp_c_name_diff_re,
+  h2l_grp_a_access_diff_msb_w,
+  h2l_grp_b_access_diff_msb_w,
+  h2l_grp_c_access_diff_msb_w,
+
+  l2d_grp_a_same_a_r,
+  l2d_grp_a_same_b_r,
+  l2d_grp_a_reset_diff_r,
+  l2d_grp_a_access_diff_r,
+  l2d_grp_a_name_diff_r,
+  l2d_grp_b_same_a_r,
+  l2d_grp_b_same_b_r,
+  l2d_grp_b_reset_diff_r,
+  l2d_grp_b_access_diff_r,
+  l2d_grp_b_name_diff_r,
+  l2d_grp_c_same_a_r,
+  l2d_grp_c_same_b_r,
+  l2d_grp_c_reset_diff_r,
+  l2d_grp_c_access_diff_r,
+  l2d_grp_c_name_diff_r,
+  l2h_grp_a_same_a_lsb_r,
+  l2h_grp_a_same_a_msb_r,
+  l2h_grp_a_same_b_lsb_r,
+  l2h_grp_a_same_b_msb_r,
+  l2h_grp_a_reset_diff_lsb_r,
+  l2h_grp_a_reset_diff_msb_r,
+  l2h_grp_a_access_diff_lsb_r,
+  l2h_grp_a_name_diff_lsb_r,
+  l2h_grp_a_name_diff_msb_r,
+  l2h_grp_b_same_a_lsb_r,
+  l2h_grp_b_same_a_msb_r,
+  l2h_grp_b_same_b_lsb_r,
+  l2h_grp_b_same_b_msb_r,
+  l2h_grp_b_reset_diff_lsb_r,
+  l2h_grp_b_reset_diff_msb_r,
+  l2h_grp_b_access_diff_lsb_r,
+  l2h_grp_b_name_diff_lsb_r,
+  l2h_grp_b_name_diff_msb_r,
+  l2h_grp_c_same_a_lsb_r,
+  l2h_grp_c_same_a_msb_r,
+  l2h_grp_c_same_b_lsb_r,
+  l2h_grp_c_same_b_msb_r,
+  l2h_grp_c_reset_diff_lsb_r,
+  l2h_grp_c_reset_diff_msb_r,
+  l2h_grp_c_access_diff_lsb_r,
+  l2h_grp_c_name_diff_lsb_r,
+  l2h_grp_c_name_diff_msb_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_grp_a_same_a_w;
+  input    d2l_grp_a_same_a_we;
+  input    d2l_grp_a_same_a_re;
+  input     [31:0] d2l_grp_a_same_b_w;
+  input    d2l_grp_a_same_b_we;
+  input    d2l_grp_a_same_b_re;
+  input     [31:0] d2l_grp_a_reset_diff_w;
+  input    d2l_grp_a_reset_diff_we;
+  input    d2l_grp_a_reset_diff_re;
+  input     [31:0] d2l_grp_a_access_diff_w;
+  input    d2l_grp_a_access_diff_we;
+  input    d2l_grp_a_access_diff_re;
+  input     [31:0] d2l_grp_a_name_diff_w;
+  input    d2l_grp_a_name_diff_we;
+  input    d2l_grp_a_name_diff_re;
+  input     [31:0] d2l_grp_b_same_a_w;
+  input    d2l_grp_b_same_a_we;
+  input    d2l_grp_b_same_a_re;
+  input     [31:0] d2l_grp_b_same_b_w;
+  input    d2l_grp_b_same_b_we;
+  input    d2l_grp_b_same_b_re;
+  input     [31:0] d2l_grp_b_reset_diff_w;
+  input    d2l_grp_b_reset_diff_we;
+  input    d2l_grp_b_reset_diff_re;
+  input     [31:0] d2l_grp_b_access_diff_w;
+  input    d2l_grp_b_access_diff_we;
+  input    d2l_grp_b_access_diff_re;
+  input     [31:0] d2l_grp_b_name_diff_w;
+  input    d2l_grp_b_name_diff_we;
+  input    d2l_grp_b_name_diff_re;
+  input     [31:0] d2l_grp_c_same_a_w;
+  input    d2l_grp_c_same_a_we;
+  input    d2l_grp_c_same_a_re;
+  input     [31:0] d2l_grp_c_same_b_w;
+  input    d2l_grp_c_same_b_we;
+  input    d2l_grp_c_same_b_re;
+  input     [31:0] d2l_grp_c_reset_diff_w;
+  input    d2l_grp_c_reset_diff_we;
+  input    d2l_grp_c_reset_diff_re;
+  input     [31:0] d2l_grp_c_access_diff_w;
+  input    d2l_grp_c_access_diff_we;
+  input    d2l_grp_c_access_diff_re;
+  input     [31:0] d2l_grp_c_name_diff_w;
+  input    d2l_grp_c_name_diff_we;
+  input    d2l_grp_c_name_diff_re;
+  input     [15:0] h2l_grp_a_access_diff_msb_w;
+  input     [15:0] h2l_grp_b_access_diff_msb_w;
+  input     [15:0] h2l_grp_c_access_diff_msb_w;
+
+  //------- outputs
+  output     [31:0] l2d_grp_a_same_a_r;
+  output     [31:0] l2d_grp_a_same_b_r;
+  output     [31:0] l2d_grp_a_reset_diff_r;
+  output     [31:0] l2d_grp_a_access_diff_r;
+  output     [31:0] l2d_grp_a_name_diff_r;
+  output     [31:0] l2d_grp_b_same_a_r;
+  output     [31:0] l2d_grp_b_same_b_r;
+  output     [31:0] l2d_grp_b_reset_diff_r;
+  output     [31:0] l2d_grp_b_access_diff_r;
+  output     [31:0] l2d_grp_b_name_diff_r;
+  output     [31:0] l2d_grp_c_same_a_r;
+  output     [31:0] l2d_grp_c_same_b_r;
+  output     [31:0] l2d_grp_c_reset_diff_r;
+  output     [31:0] l2d_grp_c_access_diff_r;
+  output     [31:0] l2d_grp_c_name_diff_r;
+  output     [15:0] l2h_grp_a_same_a_lsb_r;
+  output     [15:0] l2h_grp_a_same_a_msb_r;
+  output     [15:0] l2h_grp_a_same_b_lsb_r;
+  output     [15:0] l2h_grp_a_same_b_msb_r;
+  output     [15:0] l2h_grp_a_reset_diff_lsb_r;
+  output     [15:0] l2h_grp_a_reset_diff_msb_r;
+  output     [15:0] l2h_grp_a_access_diff_lsb_r;
+  output     [15:0] l2h_grp_a_name_diff_lsb_r;
+  output     [15:0] l2h_grp_a_name_diff_msb_r;
+  output     [15:0] l2h_grp_b_same_a_lsb_r;
+  output     [15:0] l2h_grp_b_same_a_msb_r;
+  output     [15:0] l2h_grp_b_same_b_lsb_r;
+  output     [15:0] l2h_grp_b_same_b_msb_r;
+  output     [15:0] l2h_grp_b_reset_diff_lsb_r;
+  output     [15:0] l2h_grp_b_reset_diff_msb_r;
+  output     [15:0] l2h_grp_b_access_diff_lsb_r;
+  output     [15:0] l2h_grp_b_name_diff_lsb_r;
+  output     [15:0] l2h_grp_b_name_diff_msb_r;
+  output     [15:0] l2h_grp_c_same_a_lsb_r;
+  output     [15:0] l2h_grp_c_same_a_msb_r;
+  output     [15:0] l2h_grp_c_same_b_lsb_r;
+  output     [15:0] l2h_grp_c_same_b_msb_r;
+  output     [15:0] l2h_grp_c_reset_diff_lsb_r;
+  output     [15:0] l2h_grp_c_reset_diff_msb_r;
+  output     [15:0] l2h_grp_c_access_diff_lsb_r;
+  output     [15:0] l2h_grp_c_name_diff_lsb_r;
+  output     [15:0] l2h_grp_c_name_diff_msb_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_grp_a_same_a_lsb;
+  logic   [15:0] reg_grp_a_same_a_lsb_next;
+  logic   [15:0] l2h_grp_a_same_a_lsb_r;
+  logic   [15:0] rg_grp_a_same_a_msb;
+  logic   [15:0] reg_grp_a_same_a_msb_next;
+  logic   [15:0] l2h_grp_a_same_a_msb_r;
+  logic   [31:0] l2d_grp_a_same_a_r;
+  logic   [15:0] rg_grp_a_same_b_lsb;
+  logic   [15:0] reg_grp_a_same_b_lsb_next;
+  logic   [15:0] l2h_grp_a_same_b_lsb_r;
+  logic   [15:0] rg_grp_a_same_b_msb;
+  logic   [15:0] reg_grp_a_same_b_msb_next;
+  logic   [15:0] l2h_grp_a_same_b_msb_r;
+  logic   [31:0] l2d_grp_a_same_b_r;
+  logic   [15:0] rg_grp_a_reset_diff_lsb;
+  logic   [15:0] reg_grp_a_reset_diff_lsb_next;
+  logic   [15:0] l2h_grp_a_reset_diff_lsb_r;
+  logic   [15:0] rg_grp_a_reset_diff_msb;
+  logic   [15:0] reg_grp_a_reset_diff_msb_next;
+  logic   [15:0] l2h_grp_a_reset_diff_msb_r;
+  logic   [31:0] l2d_grp_a_reset_diff_r;
+  logic   [15:0] rg_grp_a_access_diff_lsb;
+  logic   [15:0] reg_grp_a_access_diff_lsb_next;
+  logic   [15:0] l2h_grp_a_access_diff_lsb_r;
+  logic   [15:0] rg_grp_a_access_diff_msb;
+  logic   [31:0] l2d_grp_a_access_diff_r;
+  logic   [15:0] rg_grp_a_name_diff_lsb;
+  logic   [15:0] reg_grp_a_name_diff_lsb_next;
+  logic   [15:0] l2h_grp_a_name_diff_lsb_r;
+  logic   [15:0] rg_grp_a_name_diff_msb;
+  logic   [15:0] reg_grp_a_name_diff_msb_next;
+  logic   [15:0] l2h_grp_a_name_diff_msb_r;
+  logic   [31:0] l2d_grp_a_name_diff_r;
+  logic   [15:0] rg_grp_b_same_a_lsb;
+  logic   [15:0] reg_grp_b_same_a_lsb_next;
+  logic   [15:0] l2h_grp_b_same_a_lsb_r;
+  logic   [15:0] rg_grp_b_same_a_msb;
+  logic   [15:0] reg_grp_b_same_a_msb_next;
+  logic   [15:0] l2h_grp_b_same_a_msb_r;
+  logic   [31:0] l2d_grp_b_same_a_r;
+  logic   [15:0] rg_grp_b_same_b_lsb;
+  logic   [15:0] reg_grp_b_same_b_lsb_next;
+  logic   [15:0] l2h_grp_b_same_b_lsb_r;
+  logic   [15:0] rg_grp_b_same_b_msb;
+  logic   [15:0] reg_grp_b_same_b_msb_next;
+  logic   [15:0] l2h_grp_b_same_b_msb_r;
+  logic   [31:0] l2d_grp_b_same_b_r;
+  logic   [15:0] rg_grp_b_reset_diff_lsb;
+  logic   [15:0] reg_grp_b_reset_diff_lsb_next;
+  logic   [15:0] l2h_grp_b_reset_diff_lsb_r;
+  logic   [15:0] rg_grp_b_reset_diff_msb;
+  logic   [15:0] reg_grp_b_reset_diff_msb_next;
+  logic   [15:0] l2h_grp_b_reset_diff_msb_r;
+  logic   [31:0] l2d_grp_b_reset_diff_r;
+  logic   [15:0] rg_grp_b_access_diff_lsb;
+  logic   [15:0] reg_grp_b_access_diff_lsb_next;
+  logic   [15:0] l2h_grp_b_access_diff_lsb_r;
+  logic   [15:0] rg_grp_b_access_diff_msb;
+  logic   [31:0] l2d_grp_b_access_diff_r;
+  logic   [15:0] rg_grp_b_name_diff_lsb;
+  logic   [15:0] reg_grp_b_name_diff_lsb_next;
+  logic   [15:0] l2h_grp_b_name_diff_lsb_r;
+  logic   [15:0] rg_grp_b_name_diff_msb;
+  logic   [15:0] reg_grp_b_name_diff_msb_next;
+  logic   [15:0] l2h_grp_b_name_diff_msb_r;
+  logic   [31:0] l2d_grp_b_name_diff_r;
+  logic   [15:0] rg_grp_c_same_a_lsb;
+  logic   [15:0] reg_grp_c_same_a_lsb_next;
+  logic   [15:0] l2h_grp_c_same_a_lsb_r;
+  logic   [15:0] rg_grp_c_same_a_msb;
+  logic   [15:0] reg_grp_c_same_a_msb_next;
+  logic   [15:0] l2h_grp_c_same_a_msb_r;
+  logic   [31:0] l2d_grp_c_same_a_r;
+  logic   [15:0] rg_grp_c_same_b_lsb;
+  logic   [15:0] reg_grp_c_same_b_lsb_next;
+  logic   [15:0] l2h_grp_c_same_b_lsb_r;
+  logic   [15:0] rg_grp_c_same_b_msb;
+  logic   [15:0] reg_grp_c_same_b_msb_next;
+  logic   [15:0] l2h_grp_c_same_b_msb_r;
+  logic   [31:0] l2d_grp_c_same_b_r;
+  logic   [15:0] rg_grp_c_reset_diff_lsb;
+  logic   [15:0] reg_grp_c_reset_diff_lsb_next;
+  logic   [15:0] l2h_grp_c_reset_diff_lsb_r;
+  logic   [15:0] rg_grp_c_reset_diff_msb;
+  logic   [15:0] reg_grp_c_reset_diff_msb_next;
+  logic   [15:0] l2h_grp_c_reset_diff_msb_r;
+  logic   [31:0] l2d_grp_c_reset_diff_r;
+  logic   [15:0] rg_grp_c_access_diff_lsb;
+  logic   [15:0] reg_grp_c_access_diff_lsb_next;
+  logic   [15:0] l2h_grp_c_access_diff_lsb_r;
+  logic   [15:0] rg_grp_c_access_diff_msb;
+  logic   [31:0] l2d_grp_c_access_diff_r;
+  logic   [15:0] rg_grp_c_name_diff_lsb;
+  logic   [15:0] reg_grp_c_name_diff_lsb_next;
+  logic   [15:0] l2h_grp_c_name_diff_lsb_r;
+  logic   [15:0] rg_grp_c_name_diff_msb;
+  logic   [15:0] reg_grp_c_name_diff_msb_next;
+  logic   [15:0] l2h_grp_c_name_diff_msb_r;
+  logic   [31:0] l2d_grp_c_name_diff_r;
+  
+  
+  //------- combinatorial assigns for grp_a_same_a
+  always_comb begin
+    reg_grp_a_same_a_lsb_next = rg_grp_a_same_a_lsb;
+    l2h_grp_a_same_a_lsb_r = rg_grp_a_same_a_lsb;
+    reg_grp_a_same_a_msb_next = rg_grp_a_same_a_msb;
+    l2h_grp_a_same_a_msb_r = rg_grp_a_same_a_msb;
+    if (d2l_grp_a_same_a_we) reg_grp_a_same_a_lsb_next = d2l_grp_a_same_a_w [15:0] ;
+    if (d2l_grp_a_same_a_we) reg_grp_a_same_a_msb_next = d2l_grp_a_same_a_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_a_same_a
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_a_same_a_lsb <= #1 16'h0;
+      rg_grp_a_same_a_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_a_same_a_lsb <= #1  reg_grp_a_same_a_lsb_next;
+      rg_grp_a_same_a_msb <= #1  reg_grp_a_same_a_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_a_same_a (pio read data)
+  always_comb begin
+    l2d_grp_a_same_a_r [15:0]  = rg_grp_a_same_a_lsb;
+    l2d_grp_a_same_a_r [31:16]  = rg_grp_a_same_a_msb;
+  end
+  
+  //------- combinatorial assigns for grp_a_same_b
+  always_comb begin
+    reg_grp_a_same_b_lsb_next = rg_grp_a_same_b_lsb;
+    l2h_grp_a_same_b_lsb_r = rg_grp_a_same_b_lsb;
+    reg_grp_a_same_b_msb_next = rg_grp_a_same_b_msb;
+    l2h_grp_a_same_b_msb_r = rg_grp_a_same_b_msb;
+    if (d2l_grp_a_same_b_we) reg_grp_a_same_b_lsb_next = d2l_grp_a_same_b_w [15:0] ;
+    if (d2l_grp_a_same_b_we) reg_grp_a_same_b_msb_next = d2l_grp_a_same_b_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_a_same_b
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_a_same_b_lsb <= #1 16'h0;
+      rg_grp_a_same_b_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_a_same_b_lsb <= #1  reg_grp_a_same_b_lsb_next;
+      rg_grp_a_same_b_msb <= #1  reg_grp_a_same_b_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_a_same_b (pio read data)
+  always_comb begin
+    l2d_grp_a_same_b_r [15:0]  = rg_grp_a_same_b_lsb;
+    l2d_grp_a_same_b_r [31:16]  = rg_grp_a_same_b_msb;
+  end
+  
+  //------- combinatorial assigns for grp_a_reset_diff
+  always_comb begin
+    reg_grp_a_reset_diff_lsb_next = rg_grp_a_reset_diff_lsb;
+    l2h_grp_a_reset_diff_lsb_r = rg_grp_a_reset_diff_lsb;
+    reg_grp_a_reset_diff_msb_next = rg_grp_a_reset_diff_msb;
+    l2h_grp_a_reset_diff_msb_r = rg_grp_a_reset_diff_msb;
+    if (d2l_grp_a_reset_diff_we) reg_grp_a_reset_diff_lsb_next = d2l_grp_a_reset_diff_w [15:0] ;
+    if (d2l_grp_a_reset_diff_we) reg_grp_a_reset_diff_msb_next = d2l_grp_a_reset_diff_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_a_reset_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_a_reset_diff_lsb <= #1 16'h0;
+      rg_grp_a_reset_diff_msb <= #1 16'h1;
+    end
+    else begin
+      rg_grp_a_reset_diff_lsb <= #1  reg_grp_a_reset_diff_lsb_next;
+      rg_grp_a_reset_diff_msb <= #1  reg_grp_a_reset_diff_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_a_reset_diff (pio read data)
+  always_comb begin
+    l2d_grp_a_reset_diff_r [15:0]  = rg_grp_a_reset_diff_lsb;
+    l2d_grp_a_reset_diff_r [31:16]  = rg_grp_a_reset_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_a_access_diff
+  always_comb begin
+    reg_grp_a_access_diff_lsb_next = rg_grp_a_access_diff_lsb;
+    l2h_grp_a_access_diff_lsb_r = rg_grp_a_access_diff_lsb;
+    rg_grp_a_access_diff_msb =  h2l_grp_a_access_diff_msb_w;
+    if (d2l_grp_a_access_diff_we) reg_grp_a_access_diff_lsb_next = d2l_grp_a_access_diff_w [15:0] ;
+  end
+  
+  //------- reg assigns for grp_a_access_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_a_access_diff_lsb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_a_access_diff_lsb <= #1  reg_grp_a_access_diff_lsb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_a_access_diff (pio read data)
+  always_comb begin
+    l2d_grp_a_access_diff_r [15:0]  = rg_grp_a_access_diff_lsb;
+    l2d_grp_a_access_diff_r [31:16]  = rg_grp_a_access_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_a_name_diff
+  always_comb begin
+    reg_grp_a_name_diff_lsb_next = rg_grp_a_name_diff_lsb;
+    l2h_grp_a_name_diff_lsb_r = rg_grp_a_name_diff_lsb;
+    reg_grp_a_name_diff_msb_next = rg_grp_a_name_diff_msb;
+    l2h_grp_a_name_diff_msb_r = rg_grp_a_name_diff_msb;
+    if (d2l_grp_a_name_diff_we) reg_grp_a_name_diff_lsb_next = d2l_grp_a_name_diff_w [15:0] ;
+    if (d2l_grp_a_name_diff_we) reg_grp_a_name_diff_msb_next = d2l_grp_a_name_diff_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_a_name_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_a_name_diff_lsb <= #1 16'h0;
+      rg_grp_a_name_diff_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_a_name_diff_lsb <= #1  reg_grp_a_name_diff_lsb_next;
+      rg_grp_a_name_diff_msb <= #1  reg_grp_a_name_diff_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_a_name_diff (pio read data)
+  always_comb begin
+    l2d_grp_a_name_diff_r [15:0]  = rg_grp_a_name_diff_lsb;
+    l2d_grp_a_name_diff_r [31:16]  = rg_grp_a_name_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_b_same_a
+  always_comb begin
+    reg_grp_b_same_a_lsb_next = rg_grp_b_same_a_lsb;
+    l2h_grp_b_same_a_lsb_r = rg_grp_b_same_a_lsb;
+    reg_grp_b_same_a_msb_next = rg_grp_b_same_a_msb;
+    l2h_grp_b_same_a_msb_r = rg_grp_b_same_a_msb;
+    if (d2l_grp_b_same_a_we) reg_grp_b_same_a_lsb_next = d2l_grp_b_same_a_w [15:0] ;
+    if (d2l_grp_b_same_a_we) reg_grp_b_same_a_msb_next = d2l_grp_b_same_a_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_b_same_a
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_b_same_a_lsb <= #1 16'h0;
+      rg_grp_b_same_a_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_b_same_a_lsb <= #1  reg_grp_b_same_a_lsb_next;
+      rg_grp_b_same_a_msb <= #1  reg_grp_b_same_a_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_b_same_a (pio read data)
+  always_comb begin
+    l2d_grp_b_same_a_r [15:0]  = rg_grp_b_same_a_lsb;
+    l2d_grp_b_same_a_r [31:16]  = rg_grp_b_same_a_msb;
+  end
+  
+  //------- combinatorial assigns for grp_b_same_b
+  always_comb begin
+    reg_grp_b_same_b_lsb_next = rg_grp_b_same_b_lsb;
+    l2h_grp_b_same_b_lsb_r = rg_grp_b_same_b_lsb;
+    reg_grp_b_same_b_msb_next = rg_grp_b_same_b_msb;
+    l2h_grp_b_same_b_msb_r = rg_grp_b_same_b_msb;
+    if (d2l_grp_b_same_b_we) reg_grp_b_same_b_lsb_next = d2l_grp_b_same_b_w [15:0] ;
+    if (d2l_grp_b_same_b_we) reg_grp_b_same_b_msb_next = d2l_grp_b_same_b_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_b_same_b
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_b_same_b_lsb <= #1 16'h0;
+      rg_grp_b_same_b_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_b_same_b_lsb <= #1  reg_grp_b_same_b_lsb_next;
+      rg_grp_b_same_b_msb <= #1  reg_grp_b_same_b_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_b_same_b (pio read data)
+  always_comb begin
+    l2d_grp_b_same_b_r [15:0]  = rg_grp_b_same_b_lsb;
+    l2d_grp_b_same_b_r [31:16]  = rg_grp_b_same_b_msb;
+  end
+  
+  //------- combinatorial assigns for grp_b_reset_diff
+  always_comb begin
+    reg_grp_b_reset_diff_lsb_next = rg_grp_b_reset_diff_lsb;
+    l2h_grp_b_reset_diff_lsb_r = rg_grp_b_reset_diff_lsb;
+    reg_grp_b_reset_diff_msb_next = rg_grp_b_reset_diff_msb;
+    l2h_grp_b_reset_diff_msb_r = rg_grp_b_reset_diff_msb;
+    if (d2l_grp_b_reset_diff_we) reg_grp_b_reset_diff_lsb_next = d2l_grp_b_reset_diff_w [15:0] ;
+    if (d2l_grp_b_reset_diff_we) reg_grp_b_reset_diff_msb_next = d2l_grp_b_reset_diff_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_b_reset_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_b_reset_diff_lsb <= #1 16'h0;
+      rg_grp_b_reset_diff_msb <= #1 16'h1;
+    end
+    else begin
+      rg_grp_b_reset_diff_lsb <= #1  reg_grp_b_reset_diff_lsb_next;
+      rg_grp_b_reset_diff_msb <= #1  reg_grp_b_reset_diff_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_b_reset_diff (pio read data)
+  always_comb begin
+    l2d_grp_b_reset_diff_r [15:0]  = rg_grp_b_reset_diff_lsb;
+    l2d_grp_b_reset_diff_r [31:16]  = rg_grp_b_reset_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_b_access_diff
+  always_comb begin
+    reg_grp_b_access_diff_lsb_next = rg_grp_b_access_diff_lsb;
+    l2h_grp_b_access_diff_lsb_r = rg_grp_b_access_diff_lsb;
+    rg_grp_b_access_diff_msb =  h2l_grp_b_access_diff_msb_w;
+    if (d2l_grp_b_access_diff_we) reg_grp_b_access_diff_lsb_next = d2l_grp_b_access_diff_w [15:0] ;
+  end
+  
+  //------- reg assigns for grp_b_access_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_b_access_diff_lsb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_b_access_diff_lsb <= #1  reg_grp_b_access_diff_lsb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_b_access_diff (pio read data)
+  always_comb begin
+    l2d_grp_b_access_diff_r [15:0]  = rg_grp_b_access_diff_lsb;
+    l2d_grp_b_access_diff_r [31:16]  = rg_grp_b_access_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_b_name_diff
+  always_comb begin
+    reg_grp_b_name_diff_lsb_next = rg_grp_b_name_diff_lsb;
+    l2h_grp_b_name_diff_lsb_r = rg_grp_b_name_diff_lsb;
+    reg_grp_b_name_diff_msb_next = rg_grp_b_name_diff_msb;
+    l2h_grp_b_name_diff_msb_r = rg_grp_b_name_diff_msb;
+    if (d2l_grp_b_name_diff_we) reg_grp_b_name_diff_lsb_next = d2l_grp_b_name_diff_w [15:0] ;
+    if (d2l_grp_b_name_diff_we) reg_grp_b_name_diff_msb_next = d2l_grp_b_name_diff_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_b_name_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_b_name_diff_lsb <= #1 16'h0;
+      rg_grp_b_name_diff_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_b_name_diff_lsb <= #1  reg_grp_b_name_diff_lsb_next;
+      rg_grp_b_name_diff_msb <= #1  reg_grp_b_name_diff_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_b_name_diff (pio read data)
+  always_comb begin
+    l2d_grp_b_name_diff_r [15:0]  = rg_grp_b_name_diff_lsb;
+    l2d_grp_b_name_diff_r [31:16]  = rg_grp_b_name_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_c_same_a
+  always_comb begin
+    reg_grp_c_same_a_lsb_next = rg_grp_c_same_a_lsb;
+    l2h_grp_c_same_a_lsb_r = rg_grp_c_same_a_lsb;
+    reg_grp_c_same_a_msb_next = rg_grp_c_same_a_msb;
+    l2h_grp_c_same_a_msb_r = rg_grp_c_same_a_msb;
+    if (d2l_grp_c_same_a_we) reg_grp_c_same_a_lsb_next = d2l_grp_c_same_a_w [15:0] ;
+    if (d2l_grp_c_same_a_we) reg_grp_c_same_a_msb_next = d2l_grp_c_same_a_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_c_same_a
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_c_same_a_lsb <= #1 16'h0;
+      rg_grp_c_same_a_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_c_same_a_lsb <= #1  reg_grp_c_same_a_lsb_next;
+      rg_grp_c_same_a_msb <= #1  reg_grp_c_same_a_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_c_same_a (pio read data)
+  always_comb begin
+    l2d_grp_c_same_a_r [15:0]  = rg_grp_c_same_a_lsb;
+    l2d_grp_c_same_a_r [31:16]  = rg_grp_c_same_a_msb;
+  end
+  
+  //------- combinatorial assigns for grp_c_same_b
+  always_comb begin
+    reg_grp_c_same_b_lsb_next = rg_grp_c_same_b_lsb;
+    l2h_grp_c_same_b_lsb_r = rg_grp_c_same_b_lsb;
+    reg_grp_c_same_b_msb_next = rg_grp_c_same_b_msb;
+    l2h_grp_c_same_b_msb_r = rg_grp_c_same_b_msb;
+    if (d2l_grp_c_same_b_we) reg_grp_c_same_b_lsb_next = d2l_grp_c_same_b_w [15:0] ;
+    if (d2l_grp_c_same_b_we) reg_grp_c_same_b_msb_next = d2l_grp_c_same_b_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_c_same_b
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_c_same_b_lsb <= #1 16'h0;
+      rg_grp_c_same_b_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_c_same_b_lsb <= #1  reg_grp_c_same_b_lsb_next;
+      rg_grp_c_same_b_msb <= #1  reg_grp_c_same_b_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_c_same_b (pio read data)
+  always_comb begin
+    l2d_grp_c_same_b_r [15:0]  = rg_grp_c_same_b_lsb;
+    l2d_grp_c_same_b_r [31:16]  = rg_grp_c_same_b_msb;
+  end
+  
+  //------- combinatorial assigns for grp_c_reset_diff
+  always_comb begin
+    reg_grp_c_reset_diff_lsb_next = rg_grp_c_reset_diff_lsb;
+    l2h_grp_c_reset_diff_lsb_r = rg_grp_c_reset_diff_lsb;
+    reg_grp_c_reset_diff_msb_next = rg_grp_c_reset_diff_msb;
+    l2h_grp_c_reset_diff_msb_r = rg_grp_c_reset_diff_msb;
+    if (d2l_grp_c_reset_diff_we) reg_grp_c_reset_diff_lsb_next = d2l_grp_c_reset_diff_w [15:0] ;
+    if (d2l_grp_c_reset_diff_we) reg_grp_c_reset_diff_msb_next = d2l_grp_c_reset_diff_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_c_reset_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_c_reset_diff_lsb <= #1 16'h0;
+      rg_grp_c_reset_diff_msb <= #1 16'h2;
+    end
+    else begin
+      rg_grp_c_reset_diff_lsb <= #1  reg_grp_c_reset_diff_lsb_next;
+      rg_grp_c_reset_diff_msb <= #1  reg_grp_c_reset_diff_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_c_reset_diff (pio read data)
+  always_comb begin
+    l2d_grp_c_reset_diff_r [15:0]  = rg_grp_c_reset_diff_lsb;
+    l2d_grp_c_reset_diff_r [31:16]  = rg_grp_c_reset_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_c_access_diff
+  always_comb begin
+    reg_grp_c_access_diff_lsb_next = rg_grp_c_access_diff_lsb;
+    l2h_grp_c_access_diff_lsb_r = rg_grp_c_access_diff_lsb;
+    rg_grp_c_access_diff_msb =  h2l_grp_c_access_diff_msb_w;
+    if (d2l_grp_c_access_diff_we) reg_grp_c_access_diff_lsb_next = d2l_grp_c_access_diff_w [15:0] ;
+  end
+  
+  //------- reg assigns for grp_c_access_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_c_access_diff_lsb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_c_access_diff_lsb <= #1  reg_grp_c_access_diff_lsb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_c_access_diff (pio read data)
+  always_comb begin
+    l2d_grp_c_access_diff_r [15:0]  = rg_grp_c_access_diff_lsb;
+    l2d_grp_c_access_diff_r [31:16]  = rg_grp_c_access_diff_msb;
+  end
+  
+  //------- combinatorial assigns for grp_c_name_diff
+  always_comb begin
+    reg_grp_c_name_diff_lsb_next = rg_grp_c_name_diff_lsb;
+    l2h_grp_c_name_diff_lsb_r = rg_grp_c_name_diff_lsb;
+    reg_grp_c_name_diff_msb_next = rg_grp_c_name_diff_msb;
+    l2h_grp_c_name_diff_msb_r = rg_grp_c_name_diff_msb;
+    if (d2l_grp_c_name_diff_we) reg_grp_c_name_diff_lsb_next = d2l_grp_c_name_diff_w [15:0] ;
+    if (d2l_grp_c_name_diff_we) reg_grp_c_name_diff_msb_next = d2l_grp_c_name_diff_w [31:16] ;
+  end
+  
+  //------- reg assigns for grp_c_name_diff
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_grp_c_name_diff_lsb <= #1 16'h0;
+      rg_grp_c_name_diff_msb <= #1 16'h0;
+    end
+    else begin
+      rg_grp_c_name_diff_lsb <= #1  reg_grp_c_name_diff_lsb_next;
+      rg_grp_c_name_diff_msb <= #1  reg_grp_c_name_diff_msb_next;
+    end
+  end
+  
+  //------- combinatorial assigns for grp_c_name_diff (pio read data)
+  always_comb begin
+    l2d_grp_c_name_diff_r [15:0]  = rg_grp_c_name_diff_lsb;
+    l2d_grp_c_name_diff_r [31:16]  = rg_grp_c_name_diff_msb;
+  end
+  
+endmodule
+
+//
+//---------- module top_jrdl_decode
+//
+module top_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_grp_a_same_a_r,
+  l2d_grp_a_same_b_r,
+  l2d_grp_a_reset_diff_r,
+  l2d_grp_a_access_diff_r,
+  l2d_grp_a_name_diff_r,
+  l2d_grp_b_same_a_r,
+  l2d_grp_b_same_b_r,
+  l2d_grp_b_reset_diff_r,
+  l2d_grp_b_access_diff_r,
+  l2d_grp_b_name_diff_r,
+  l2d_grp_c_same_a_r,
+  l2d_grp_c_same_b_r,
+  l2d_grp_c_reset_diff_r,
+  l2d_grp_c_access_diff_r,
+  l2d_grp_c_name_diff_r,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_grp_a_same_a_w,
+  d2l_grp_a_same_a_we,
+  d2l_grp_a_same_a_re,
+  d2l_grp_a_same_b_w,
+  d2l_grp_a_same_b_we,
+  d2l_grp_a_same_b_re,
+  d2l_grp_a_reset_diff_w,
+  d2l_grp_a_reset_diff_we,
+  d2l_grp_a_reset_diff_re,
+  d2l_grp_a_access_diff_w,
+  d2l_grp_a_access_diff_we,
+  d2l_grp_a_access_diff_re,
+  d2l_grp_a_name_diff_w,
+  d2l_grp_a_name_diff_we,
+  d2l_grp_a_name_diff_re,
+  d2l_grp_b_same_a_w,
+  d2l_grp_b_same_a_we,
+  d2l_grp_b_same_a_re,
+  d2l_grp_b_same_b_w,
+  d2l_grp_b_same_b_we,
+  d2l_grp_b_same_b_re,
+  d2l_grp_b_reset_diff_w,
+  d2l_grp_b_reset_diff_we,
+  d2l_grp_b_reset_diff_re,
+  d2l_grp_b_access_diff_w,
+  d2l_grp_b_access_diff_we,
+  d2l_grp_b_access_diff_re,
+  d2l_grp_b_name_diff_w,
+  d2l_grp_b_name_diff_we,
+  d2l_grp_b_name_diff_re,
+  d2l_grp_c_same_a_w,
+  d2l_grp_c_same_a_we,
+  d2l_grp_c_same_a_re,
+  d2l_grp_c_same_b_w,
+  d2l_grp_c_same_b_we,
+  d2l_grp_c_same_b_re,
+  d2l_grp_c_reset_diff_w,
+  d2l_grp_c_reset_diff_we,
+  d2l_grp_c_reset_diff_re,
+  d2l_grp_c_access_diff_w,
+  d2l_grp_c_access_diff_we,
+  d2l_grp_c_access_diff_re,
+  d2l_grp_c_name_diff_w,
+  d2l_grp_c_name_diff_we,
+  d2l_grp_c_name_diff_re );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_grp_a_same_a_r;
+  input     [31:0] l2d_grp_a_same_b_r;
+  input     [31:0] l2d_grp_a_reset_diff_r;
+  input     [31:0] l2d_grp_a_access_diff_r;
+  input     [31:0] l2d_grp_a_name_diff_r;
+  input     [31:0] l2d_grp_b_same_a_r;
+  input     [31:0] l2d_grp_b_same_b_r;
+  input     [31:0] l2d_grp_b_reset_diff_r;
+  input     [31:0] l2d_grp_b_access_diff_r;
+  input     [31:0] l2d_grp_b_name_diff_r;
+  input     [31:0] l2d_grp_c_same_a_r;
+  input     [31:0] l2d_grp_c_same_b_r;
+  input     [31:0] l2d_grp_c_reset_diff_r;
+  input     [31:0] l2d_grp_c_access_diff_r;
+  input     [31:0] l2d_grp_c_name_diff_r;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_grp_a_same_a_w;
+  output    d2l_grp_a_same_a_we;
+  output    d2l_grp_a_same_a_re;
+  output     [31:0] d2l_grp_a_same_b_w;
+  output    d2l_grp_a_same_b_we;
+  output    d2l_grp_a_same_b_re;
+  output     [31:0] d2l_grp_a_reset_diff_w;
+  output    d2l_grp_a_reset_diff_we;
+  output    d2l_grp_a_reset_diff_re;
+  output     [31:0] d2l_grp_a_access_diff_w;
+  output    d2l_grp_a_access_diff_we;
+  output    d2l_grp_a_access_diff_re;
+  output     [31:0] d2l_grp_a_name_diff_w;
+  output    d2l_grp_a_name_diff_we;
+  output    d2l_grp_a_name_diff_re;
+  output     [31:0] d2l_grp_b_same_a_w;
+  output    d2l_grp_b_same_a_we;
+  output    d2l_grp_b_same_a_re;
+  output     [31:0] d2l_grp_b_same_b_w;
+  output    d2l_grp_b_same_b_we;
+  output    d2l_grp_b_same_b_re;
+  output     [31:0] d2l_grp_b_reset_diff_w;
+  output    d2l_grp_b_reset_diff_we;
+  output    d2l_grp_b_reset_diff_re;
+  output     [31:0] d2l_grp_b_access_diff_w;
+  output    d2l_grp_b_access_diff_we;
+  output    d2l_grp_b_access_diff_re;
+  output     [31:0] d2l_grp_b_name_diff_w;
+  output    d2l_grp_b_name_diff_we;
+  output    d2l_grp_b_name_diff_re;
+  output     [31:0] d2l_grp_c_same_a_w;
+  output    d2l_grp_c_same_a_we;
+  output    d2l_grp_c_same_a_re;
+  output     [31:0] d2l_grp_c_same_b_w;
+  output    d2l_grp_c_same_b_we;
+  output    d2l_grp_c_same_b_re;
+  output     [31:0] d2l_grp_c_reset_diff_w;
+  output    d2l_grp_c_reset_diff_we;
+  output    d2l_grp_c_reset_diff_re;
+  output     [31:0] d2l_grp_c_access_diff_w;
+  output    d2l_grp_c_access_diff_we;
+  output    d2l_grp_c_access_diff_re;
+  output     [31:0] d2l_grp_c_name_diff_w;
+  output    d2l_grp_c_name_diff_we;
+  output    d2l_grp_c_name_diff_re;
+
+
+  //------- wire defines
+  logic   [31:0] pio_dec_write_data;
+  logic   [9:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_grp_a_same_a_w;
+  logic  d2l_grp_a_same_a_we;
+  logic  d2l_grp_a_same_a_re;
+  logic   [31:0] d2l_grp_a_same_b_w;
+  logic  d2l_grp_a_same_b_we;
+  logic  d2l_grp_a_same_b_re;
+  logic   [31:0] d2l_grp_a_reset_diff_w;
+  logic  d2l_grp_a_reset_diff_we;
+  logic  d2l_grp_a_reset_diff_re;
+  logic   [31:0] d2l_grp_a_access_diff_w;
+  logic  d2l_grp_a_access_diff_we;
+  logic  d2l_grp_a_access_diff_re;
+  logic   [31:0] d2l_grp_a_name_diff_w;
+  logic  d2l_grp_a_name_diff_we;
+  logic  d2l_grp_a_name_diff_re;
+  logic   [31:0] d2l_grp_b_same_a_w;
+  logic  d2l_grp_b_same_a_we;
+  logic  d2l_grp_b_same_a_re;
+  logic   [31:0] d2l_grp_b_same_b_w;
+  logic  d2l_grp_b_same_b_we;
+  logic  d2l_grp_b_same_b_re;
+  logic   [31:0] d2l_grp_b_reset_diff_w;
+  logic  d2l_grp_b_reset_diff_we;
+  logic  d2l_grp_b_reset_diff_re;
+  logic   [31:0] d2l_grp_b_access_diff_w;
+  logic  d2l_grp_b_access_diff_we;
+  logic  d2l_grp_b_access_diff_re;
+  logic   [31:0] d2l_grp_b_name_diff_w;
+  logic  d2l_grp_b_name_diff_we;
+  logic  d2l_grp_b_name_diff_re;
+  logic   [31:0] d2l_grp_c_same_a_w;
+  logic  d2l_grp_c_same_a_we;
+  logic  d2l_grp_c_same_a_re;
+  logic   [31:0] d2l_grp_c_same_b_w;
+  logic  d2l_grp_c_same_b_we;
+  logic  d2l_grp_c_same_b_re;
+  logic   [31:0] d2l_grp_c_reset_diff_w;
+  logic  d2l_grp_c_reset_diff_we;
+  logic  d2l_grp_c_reset_diff_re;
+  logic   [31:0] d2l_grp_c_access_diff_w;
+  logic  d2l_grp_c_access_diff_we;
+  logic  d2l_grp_c_access_diff_re;
+  logic   [31:0] d2l_grp_c_name_diff_w;
+  logic  d2l_grp_c_name_diff_we;
+  logic  d2l_grp_c_name_diff_re;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [9:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [9:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_grp_a_same_a_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_a_same_a_we = 1'b0;
+    d2l_grp_a_same_a_re = 1'b0;
+    d2l_grp_a_same_b_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_a_same_b_we = 1'b0;
+    d2l_grp_a_same_b_re = 1'b0;
+    d2l_grp_a_reset_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_a_reset_diff_we = 1'b0;
+    d2l_grp_a_reset_diff_re = 1'b0;
+    d2l_grp_a_access_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_a_access_diff_we = 1'b0;
+    d2l_grp_a_access_diff_re = 1'b0;
+    d2l_grp_a_name_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_a_name_diff_we = 1'b0;
+    d2l_grp_a_name_diff_re = 1'b0;
+    d2l_grp_b_same_a_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_b_same_a_we = 1'b0;
+    d2l_grp_b_same_a_re = 1'b0;
+    d2l_grp_b_same_b_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_b_same_b_we = 1'b0;
+    d2l_grp_b_same_b_re = 1'b0;
+    d2l_grp_b_reset_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_b_reset_diff_we = 1'b0;
+    d2l_grp_b_reset_diff_re = 1'b0;
+    d2l_grp_b_access_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_b_access_diff_we = 1'b0;
+    d2l_grp_b_access_diff_re = 1'b0;
+    d2l_grp_b_name_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_b_name_diff_we = 1'b0;
+    d2l_grp_b_name_diff_re = 1'b0;
+    d2l_grp_c_same_a_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_c_same_a_we = 1'b0;
+    d2l_grp_c_same_a_re = 1'b0;
+    d2l_grp_c_same_b_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_c_same_b_we = 1'b0;
+    d2l_grp_c_same_b_re = 1'b0;
+    d2l_grp_c_reset_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_c_reset_diff_we = 1'b0;
+    d2l_grp_c_reset_diff_re = 1'b0;
+    d2l_grp_c_access_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_c_access_diff_we = 1'b0;
+    d2l_grp_c_access_diff_re = 1'b0;
+    d2l_grp_c_name_diff_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_grp_c_name_diff_we = 1'b0;
+    d2l_grp_c_name_diff_re = 1'b0;
+    
+    casez(pio_dec_address_d1)
+    //  Register: grp_a.same_a     Address: 0x100     External: false
+    8'b01000000:
+      begin
+        d2l_grp_a_same_a_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_a_same_a_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_a_same_a_r;
+      end
+    //  Register: grp_a.same_b     Address: 0x104     External: false
+    8'b01000001:
+      begin
+        d2l_grp_a_same_b_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_a_same_b_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_a_same_b_r;
+      end
+    //  Register: grp_a.reset_diff     Address: 0x108     External: false
+    8'b01000010:
+      begin
+        d2l_grp_a_reset_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_a_reset_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_a_reset_diff_r;
+      end
+    //  Register: grp_a.access_diff     Address: 0x10c     External: false
+    8'b01000011:
+      begin
+        d2l_grp_a_access_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_a_access_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_a_access_diff_r;
+      end
+    //  Register: grp_a.name_diff     Address: 0x110     External: false
+    8'b01000100:
+      begin
+        d2l_grp_a_name_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_a_name_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_a_name_diff_r;
+      end
+    //  Register: grp_b.same_a     Address: 0x200     External: false
+    8'b10000000:
+      begin
+        d2l_grp_b_same_a_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_b_same_a_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_b_same_a_r;
+      end
+    //  Register: grp_b.same_b     Address: 0x204     External: false
+    8'b10000001:
+      begin
+        d2l_grp_b_same_b_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_b_same_b_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_b_same_b_r;
+      end
+    //  Register: grp_b.reset_diff     Address: 0x208     External: false
+    8'b10000010:
+      begin
+        d2l_grp_b_reset_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_b_reset_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_b_reset_diff_r;
+      end
+    //  Register: grp_b.access_diff     Address: 0x20c     External: false
+    8'b10000011:
+      begin
+        d2l_grp_b_access_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_b_access_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_b_access_diff_r;
+      end
+    //  Register: grp_b.name_diff     Address: 0x210     External: false
+    8'b10000100:
+      begin
+        d2l_grp_b_name_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_b_name_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_b_name_diff_r;
+      end
+    //  Register: grp_c.same_a     Address: 0x300     External: false
+    8'b11000000:
+      begin
+        d2l_grp_c_same_a_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_c_same_a_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_c_same_a_r;
+      end
+    //  Register: grp_c.same_b     Address: 0x304     External: false
+    8'b11000001:
+      begin
+        d2l_grp_c_same_b_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_c_same_b_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_c_same_b_r;
+      end
+    //  Register: grp_c.reset_diff     Address: 0x308     External: false
+    8'b11000010:
+      begin
+        d2l_grp_c_reset_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_c_reset_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_c_reset_diff_r;
+      end
+    //  Register: grp_c.access_diff     Address: 0x30c     External: false
+    8'b11000011:
+      begin
+        d2l_grp_c_access_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_c_access_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_c_access_diff_r;
+      end
+    //  Register: grp_c.name_diff     Address: 0x310     External: false
+    8'b11000100:
+      begin
+        d2l_grp_c_name_diff_we = pio_write_active & ~dec_pio_ack;
+        d2l_grp_c_name_diff_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_grp_c_name_diff_r;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module top_pio
+//
+module top_pio
+(
+  clk,
+  reset,
+  h2l_grp_a_access_diff_msb_w,
+  h2l_grp_b_access_diff_msb_w,
+  h2l_grp_c_access_diff_msb_w,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_grp_a_same_a_lsb_r,
+  l2h_grp_a_same_a_msb_r,
+  l2h_grp_a_same_b_lsb_r,
+  l2h_grp_a_same_b_msb_r,
+  l2h_grp_a_reset_diff_lsb_r,
+  l2h_grp_a_reset_diff_msb_r,
+  l2h_grp_a_access_diff_lsb_r,
+  l2h_grp_a_name_diff_lsb_r,
+  l2h_grp_a_name_diff_msb_r,
+  l2h_grp_b_same_a_lsb_r,
+  l2h_grp_b_same_a_msb_r,
+  l2h_grp_b_same_b_lsb_r,
+  l2h_grp_b_same_b_msb_r,
+  l2h_grp_b_reset_diff_lsb_r,
+  l2h_grp_b_reset_diff_msb_r,
+  l2h_grp_b_access_diff_lsb_r,
+  l2h_grp_b_name_diff_lsb_r,
+  l2h_grp_b_name_diff_msb_r,
+  l2h_grp_c_same_a_lsb_r,
+  l2h_grp_c_same_a_msb_r,
+  l2h_grp_c_same_b_lsb_r,
+  l2h_grp_c_same_b_msb_r,
+  l2h_grp_c_reset_diff_lsb_r,
+  l2h_grp_c_reset_diff_msb_r,
+  l2h_grp_c_access_diff_lsb_r,
+  l2h_grp_c_name_diff_lsb_r,
+  l2h_grp_c_name_diff_msb_r,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [15:0] h2l_grp_a_access_diff_msb_w;
+  input     [15:0] h2l_grp_b_access_diff_msb_w;
+  input     [15:0] h2l_grp_c_access_diff_msb_w;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [15:0] l2h_grp_a_same_a_lsb_r;
+  output     [15:0] l2h_grp_a_same_a_msb_r;
+  output     [15:0] l2h_grp_a_same_b_lsb_r;
+  output     [15:0] l2h_grp_a_same_b_msb_r;
+  output     [15:0] l2h_grp_a_reset_diff_lsb_r;
+  output     [15:0] l2h_grp_a_reset_diff_msb_r;
+  output     [15:0] l2h_grp_a_access_diff_lsb_r;
+  output     [15:0] l2h_grp_a_name_diff_lsb_r;
+  output     [15:0] l2h_grp_a_name_diff_msb_r;
+  output     [15:0] l2h_grp_b_same_a_lsb_r;
+  output     [15:0] l2h_grp_b_same_a_msb_r;
+  output     [15:0] l2h_grp_b_same_b_lsb_r;
+  output     [15:0] l2h_grp_b_same_b_msb_r;
+  output     [15:0] l2h_grp_b_reset_diff_lsb_r;
+  output     [15:0] l2h_grp_b_reset_diff_msb_r;
+  output     [15:0] l2h_grp_b_access_diff_lsb_r;
+  output     [15:0] l2h_grp_b_name_diff_lsb_r;
+  output     [15:0] l2h_grp_b_name_diff_msb_r;
+  output     [15:0] l2h_grp_c_same_a_lsb_r;
+  output     [15:0] l2h_grp_c_same_a_msb_r;
+  output     [15:0] l2h_grp_c_same_b_lsb_r;
+  output     [15:0] l2h_grp_c_same_b_msb_r;
+  output     [15:0] l2h_grp_c_reset_diff_lsb_r;
+  output     [15:0] l2h_grp_c_reset_diff_msb_r;
+  output     [15:0] l2h_grp_c_access_diff_lsb_r;
+  output     [15:0] l2h_grp_c_name_diff_lsb_r;
+  output     [15:0] l2h_grp_c_name_diff_msb_r;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_grp_a_same_a_w;
+  logic  d2l_grp_a_same_a_we;
+  logic  d2l_grp_a_same_a_re;
+  logic   [31:0] d2l_grp_a_same_b_w;
+  logic  d2l_grp_a_same_b_we;
+  logic  d2l_grp_a_same_b_re;
+  logic   [31:0] d2l_grp_a_reset_diff_w;
+  logic  d2l_grp_a_reset_diff_we;
+  logic  d2l_grp_a_reset_diff_re;
+  logic   [31:0] d2l_grp_a_access_diff_w;
+  logic  d2l_grp_a_access_diff_we;
+  logic  d2l_grp_a_access_diff_re;
+  logic   [31:0] d2l_grp_a_name_diff_w;
+  logic  d2l_grp_a_name_diff_we;
+  logic  d2l_grp_a_name_diff_re;
+  logic   [31:0] d2l_grp_b_same_a_w;
+  logic  d2l_grp_b_same_a_we;
+  logic  d2l_grp_b_same_a_re;
+  logic   [31:0] d2l_grp_b_same_b_w;
+  logic  d2l_grp_b_same_b_we;
+  logic  d2l_grp_b_same_b_re;
+  logic   [31:0] d2l_grp_b_reset_diff_w;
+  logic  d2l_grp_b_reset_diff_we;
+  logic  d2l_grp_b_reset_diff_re;
+  logic   [31:0] d2l_grp_b_access_diff_w;
+  logic  d2l_grp_b_access_diff_we;
+  logic  d2l_grp_b_access_diff_re;
+  logic   [31:0] d2l_grp_b_name_diff_w;
+  logic  d2l_grp_b_name_diff_we;
+  logic  d2l_grp_b_name_diff_re;
+  logic   [31:0] d2l_grp_c_same_a_w;
+  logic  d2l_grp_c_same_a_we;
+  logic  d2l_grp_c_same_a_re;
+  logic   [31:0] d2l_grp_c_same_b_w;
+  logic  d2l_grp_c_same_b_we;
+  logic  d2l_grp_c_same_b_re;
+  logic   [31:0] d2l_grp_c_reset_diff_w;
+  logic  d2l_grp_c_reset_diff_we;
+  logic  d2l_grp_c_reset_diff_re;
+  logic   [31:0] d2l_grp_c_access_diff_w;
+  logic  d2l_grp_c_access_diff_we;
+  logic  d2l_grp_c_access_diff_re;
+  logic   [31:0] d2l_grp_c_name_diff_w;
+  logic  d2l_grp_c_name_diff_we;
+  logic  d2l_grp_c_name_diff_re;
+  logic   [31:0] l2d_grp_a_same_a_r;
+  logic   [31:0] l2d_grp_a_same_b_r;
+  logic   [31:0] l2d_grp_a_reset_diff_r;
+  logic   [31:0] l2d_grp_a_access_diff_r;
+  logic   [31:0] l2d_grp_a_name_diff_r;
+  logic   [31:0] l2d_grp_b_same_a_r;
+  logic   [31:0] l2d_grp_b_same_b_r;
+  logic   [31:0] l2d_grp_b_reset_diff_r;
+  logic   [31:0] l2d_grp_b_access_diff_r;
+  logic   [31:0] l2d_grp_b_name_diff_r;
+  logic   [31:0] l2d_grp_c_same_a_r;
+  logic   [31:0] l2d_grp_c_same_b_r;
+  logic   [31:0] l2d_grp_c_reset_diff_r;
+  logic   [31:0] l2d_grp_c_access_diff_r;
+  logic   [31:0] l2d_grp_c_name_diff_r;
+  
+  
+  top_jrdl_decode pio_decode ( .* );
+    
+  top_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
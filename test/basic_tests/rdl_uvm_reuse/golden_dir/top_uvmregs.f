@@ -0,0 +1,9 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: /root/project/test/basic_tests/rdl_uvm_reuse/test.rdl
+//   Parms: /root/project/test/basic_tests/rdl_uvm_reuse/test.parms
+//   Date: Mon Oct 19 05:44:05 UTC 2026
+//
+
+top_uvmregs_grp_a_block.sv
+top_uvmregs_grp_c_block.sv
+top_uvmregs_pkg.sv
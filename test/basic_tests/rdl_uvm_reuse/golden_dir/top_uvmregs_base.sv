@@ -0,0 +1,41 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: /root/project/test/basic_tests/rdl_uvm_reuse/test.rdl
+//   Parms: /root/project/test/basic_tests/rdl_uvm_reuse/test.parms
+//   Date: Mon Oct 19 05:44:05 UTC 2026
+//
+
+
+// Base block
+class block_top extends uvm_reg_block_rdl;
+  rand block_top_grp_a grp_a;
+  rand block_top_grp_a grp_b;
+  rand block_top_grp_c grp_c;
+  
+  function new(string name = "block_top");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`TOP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.grp_a = block_top_grp_a::type_id::create("grp_a",, get_full_name());
+    this.grp_a.configure(this, "");
+    this.grp_a.set_rdl_tag("grp_a_");
+    this.grp_a.build();
+    this.default_map.add_submap(this.grp_a.default_map, `UVM_REG_ADDR_WIDTH'h100);
+    this.grp_b = block_top_grp_a::type_id::create("grp_b",, get_full_name());
+    this.grp_b.configure(this, "");
+    this.grp_b.set_rdl_tag("grp_b_");
+    this.grp_b.build();
+    this.default_map.add_submap(this.grp_b.default_map, `UVM_REG_ADDR_WIDTH'h200);
+    this.grp_c = block_top_grp_c::type_id::create("grp_c",, get_full_name());
+    this.grp_c.configure(this, "");
+    this.grp_c.set_rdl_tag("grp_c_");
+    this.grp_c.build();
+    this.default_map.add_submap(this.grp_c.default_map, `UVM_REG_ADDR_WIDTH'h300);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_top)
+endclass : block_top
@@ -0,0 +1,90 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: /root/project/test/basic_tests/rdl_uvm_reuse/test.rdl
+//   Parms: /root/project/test/basic_tests/rdl_uvm_reuse/test.parms
+//   Date: Mon Oct 19 05:44:05 UTC 2026
+//
+
+`ifndef TOP_UVMREGS_GRP_C_BLOCK_PKG_SV
+`define TOP_UVMREGS_GRP_C_BLOCK_PKG_SV
+`include "uvm_macros.svh"
+package top_uvmregs_grp_c_block_pkg;
+  import uvm_pkg::*;
+  import ordt_uvm_reg_pkg::*;
+  import top_uvmregs_grp_a_block_pkg::*;
+
+// Register reset_diff
+class reg_top_grp_c_reset_diff extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb;
+  rand uvm_reg_field_rdl msb;
+  
+  function new(string name = "reg_top_grp_c_reset_diff");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb = new("lsb");
+    this.lsb.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb.configure(this, 16, 0, "RW", 0, 16'h0, 1, 1, 0);
+    this.msb = new("msb");
+    this.msb.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb.configure(this, 16, 16, "RW", 0, 16'h2, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_top_grp_c_reset_diff
+
+// Block grp_c
+class block_top_grp_c extends uvm_reg_block_rdl;
+  rand reg_top_grp_a_same_a same_a;
+  rand reg_top_grp_a_same_a same_b;
+  rand reg_top_grp_c_reset_diff reset_diff;
+  rand reg_top_grp_a_access_diff access_diff;
+  rand reg_top_grp_a_name_diff name_diff;
+  
+  function new(string name = "block_top_grp_c");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.same_a = new("same_a");
+    this.same_a.configure(this, null, "");
+    this.same_a.set_rdl_tag("same_a_");
+    this.same_a.set_reg_test_info(0, 0, 0);
+    this.same_a.build();
+    this.default_map.add_reg(this.same_a, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.same_b = new("same_b");
+    this.same_b.configure(this, null, "");
+    this.same_b.set_rdl_tag("same_b_");
+    this.same_b.set_reg_test_info(0, 0, 0);
+    this.same_b.build();
+    this.default_map.add_reg(this.same_b, `UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    this.reset_diff = new("reset_diff");
+    this.reset_diff.configure(this, null, "");
+    this.reset_diff.set_rdl_tag("reset_diff_");
+    this.reset_diff.set_reg_test_info(0, 0, 0);
+    this.reset_diff.build();
+    this.default_map.add_reg(this.reset_diff, `UVM_REG_ADDR_WIDTH'h8, "RW", 0);
+    this.access_diff = new("access_diff");
+    this.access_diff.configure(this, null, "");
+    this.access_diff.set_rdl_tag("access_diff_");
+    this.access_diff.set_reg_test_info(0, 0, 0);
+    this.access_diff.build();
+    this.default_map.add_reg(this.access_diff, `UVM_REG_ADDR_WIDTH'hc, "RW", 0);
+    this.name_diff = new("name_diff");
+    this.name_diff.configure(this, null, "");
+    this.name_diff.set_rdl_tag("name_diff_");
+    this.name_diff.set_reg_test_info(0, 0, 0);
+    this.name_diff.build();
+    this.default_map.add_reg(this.name_diff, `UVM_REG_ADDR_WIDTH'h10, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_top_grp_c)
+endclass : block_top_grp_c
+endpackage : top_uvmregs_grp_c_block_pkg
+`endif
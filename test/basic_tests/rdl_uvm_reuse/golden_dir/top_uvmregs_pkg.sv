@@ -0,0 +1,17 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: /root/project/test/basic_tests/rdl_uvm_reuse/test.rdl
+//   Parms: /root/project/test/basic_tests/rdl_uvm_reuse/test.parms
+//   Date: Mon Oct 19 05:44:05 UTC 2026
+//
+
+`ifndef TOP_UVMREGS_PKG_SV
+`define TOP_UVMREGS_PKG_SV
+`include "uvm_macros.svh"
+package top_uvmregs_pkg;
+  import uvm_pkg::*;
+  import ordt_uvm_reg_pkg::*;
+  import top_uvmregs_grp_a_block_pkg::*;
+  import top_uvmregs_grp_c_block_pkg::*;
+  `include "top_uvmregs_base.sv"
+endpackage : top_uvmregs_pkg
+`endif
@@ -0,0 +1,131 @@
+/*   Ordt 181018.01 autogenerated file 
+ *   Input: ./rdl_uvm_static_paths/test.rdl
+ *   Parms: ./rdl_uvm_static_paths/test.parms
+ *   Date: Mon Oct 19 04:23:19 UTC 2026
+ */
+
+register_set path_map "Registers for path_map" {
+
+  address = 0x0;
+  register_width = 32;
+  register top_cfg "top_cfg register" {
+    address = 0x0;
+    integer msb_field[16] "msb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0x0;
+    };
+    integer lsb_field[16] "lsb_field field" param {
+      access_mode = READ_WRITE;
+      reset = 0xffff;
+    };
+  };
+  
+  register_set outer "outer register_set" {
+    address = 0x100;
+    
+    register_set inner "inner register_set" {
+      address = 0x0;
+      repeat = 2;
+      
+      register cfg_array "cfg_array register" {
+        address = 0x0;
+        repeat = 2;
+        integer msb_field[16] "msb_field field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer lsb_field[16] "lsb_field field" param {
+          access_mode = READ_WRITE;
+          reset = 0xffff;
+        };
+      };
+      
+      register cfg "cfg register" {
+        address = 0x8;
+        integer msb_field[16] "msb_field field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer lsb_field[16] "lsb_field field" param {
+          access_mode = READ_WRITE;
+          reset = 0xffff;
+        };
+      };
+      
+      register_set_size = 0x10;
+    };
+    
+    register outer_cfg "outer_cfg register" {
+      address = 0x20;
+      integer msb_field[16] "msb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lsb_field[16] "lsb_field field" param {
+        access_mode = READ_WRITE;
+        reset = 0xffff;
+      };
+    };
+    
+    register_set_size = 0x24;
+  };
+  
+  register_set child "child register_set" {
+    address = 0x1000;
+    
+    register_set outer "outer register_set" {
+      address = 0x0;
+      
+      register_set inner "inner register_set" {
+        address = 0x0;
+        repeat = 2;
+        
+        register cfg_array "cfg_array register" {
+          address = 0x0;
+          repeat = 2;
+          integer msb_field[16] "msb_field field" param {
+            access_mode = READ_WRITE;
+            reset = 0x0;
+          };
+          integer lsb_field[16] "lsb_field field" param {
+            access_mode = READ_WRITE;
+            reset = 0xffff;
+          };
+        };
+        
+        register cfg "cfg register" {
+          address = 0x8;
+          integer msb_field[16] "msb_field field" param {
+            access_mode = READ_WRITE;
+            reset = 0x0;
+          };
+          integer lsb_field[16] "lsb_field field" param {
+            access_mode = READ_WRITE;
+            reset = 0xffff;
+          };
+        };
+        
+        register_set_size = 0x10;
+      };
+      
+      register outer_cfg "outer_cfg register" {
+        address = 0x20;
+        integer msb_field[16] "msb_field field" param {
+          access_mode = READ_WRITE;
+          reset = 0x0;
+        };
+        integer lsb_field[16] "lsb_field field" param {
+          access_mode = READ_WRITE;
+          reset = 0xffff;
+        };
+      };
+      
+      register_set_size = 0x24;
+    };
+    
+    register_set_size = 0x40;
+  };
+  
+  register_set_size = 0x1040;
+};
+
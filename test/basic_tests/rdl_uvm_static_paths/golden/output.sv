@@ -0,0 +1,960 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_static_paths/test.rdl
+//   Parms: ./rdl_uvm_static_paths/test.parms
+//   Date: Mon Oct 19 04:23:19 UTC 2026
+//
+
+//
+//---------- module path_map_jrdl_logic
+//
+module path_map_jrdl_logic
+(
+  clk,
+  reset,
+  d2l_top_cfg_w,
+  d2l_top_cfg_we,
+  d2l_top_cfg_re,
+  d2l_outer_inner_0_cfg_array_0_w,
+  d2l_outer_inner_0_cfg_array_0_we,
+  d2l_outer_inner_0_cfg_array_0_re,
+  d2l_outer_inner_0_cfg_array_1_w,
+  d2l_outer_inner_0_cfg_array_1_we,
+  d2l_outer_inner_0_cfg_array_1_re,
+  d2l_outer_inner_0_cfg_w,
+  d2l_outer_inner_0_cfg_we,
+  d2l_outer_inner_0_cfg_re,
+  d2l_outer_inner_1_cfg_array_0_w,
+  d2l_outer_inner_1_cfg_array_0_we,
+  d2l_outer_inner_1_cfg_array_0_re,
+  d2l_outer_inner_1_cfg_array_1_w,
+  d2l_outer_inner_1_cfg_array_1_we,
+  d2l_outer_inner_1_cfg_array_1_re,
+  d2l_outer_inner_1_cfg_w,
+  d2l_outer_inner_1_cfg_we,
+  d2l_outer_inner_1_cfg_re,
+  d2l_outer_outer_cfg_w,
+  d2l_outer_outer_cfg_we,
+  d2l_outer_outer_cfg_re,
+
+  l2d_top_cfg_r,
+  l2d_outer_inner_0_cfg_array_0_r,
+  l2d_outer_inner_0_cfg_array_1_r,
+  l2d_outer_inner_0_cfg_r,
+  l2d_outer_inner_1_cfg_array_0_r,
+  l2d_outer_inner_1_cfg_array_1_r,
+  l2d_outer_inner_1_cfg_r,
+  l2d_outer_outer_cfg_r,
+  l2h_top_cfg_lsb_field_r,
+  l2h_top_cfg_msb_field_r,
+  l2h_outer_inner_0_cfg_array_0_lsb_field_r,
+  l2h_outer_inner_0_cfg_array_0_msb_field_r,
+  l2h_outer_inner_0_cfg_array_1_lsb_field_r,
+  l2h_outer_inner_0_cfg_array_1_msb_field_r,
+  l2h_outer_inner_0_cfg_lsb_field_r,
+  l2h_outer_inner_0_cfg_msb_field_r,
+  l2h_outer_inner_1_cfg_array_0_lsb_field_r,
+  l2h_outer_inner_1_cfg_array_0_msb_field_r,
+  l2h_outer_inner_1_cfg_array_1_lsb_field_r,
+  l2h_outer_inner_1_cfg_array_1_msb_field_r,
+  l2h_outer_inner_1_cfg_lsb_field_r,
+  l2h_outer_inner_1_cfg_msb_field_r,
+  l2h_outer_outer_cfg_lsb_field_r,
+  l2h_outer_outer_cfg_msb_field_r );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] d2l_top_cfg_w;
+  input    d2l_top_cfg_we;
+  input    d2l_top_cfg_re;
+  input     [31:0] d2l_outer_inner_0_cfg_array_0_w;
+  input    d2l_outer_inner_0_cfg_array_0_we;
+  input    d2l_outer_inner_0_cfg_array_0_re;
+  input     [31:0] d2l_outer_inner_0_cfg_array_1_w;
+  input    d2l_outer_inner_0_cfg_array_1_we;
+  input    d2l_outer_inner_0_cfg_array_1_re;
+  input     [31:0] d2l_outer_inner_0_cfg_w;
+  input    d2l_outer_inner_0_cfg_we;
+  input    d2l_outer_inner_0_cfg_re;
+  input     [31:0] d2l_outer_inner_1_cfg_array_0_w;
+  input    d2l_outer_inner_1_cfg_array_0_we;
+  input    d2l_outer_inner_1_cfg_array_0_re;
+  input     [31:0] d2l_outer_inner_1_cfg_array_1_w;
+  input    d2l_outer_inner_1_cfg_array_1_we;
+  input    d2l_outer_inner_1_cfg_array_1_re;
+  input     [31:0] d2l_outer_inner_1_cfg_w;
+  input    d2l_outer_inner_1_cfg_we;
+  input    d2l_outer_inner_1_cfg_re;
+  input     [31:0] d2l_outer_outer_cfg_w;
+  input    d2l_outer_outer_cfg_we;
+  input    d2l_outer_outer_cfg_re;
+
+  //------- outputs
+  output     [31:0] l2d_top_cfg_r;
+  output     [31:0] l2d_outer_inner_0_cfg_array_0_r;
+  output     [31:0] l2d_outer_inner_0_cfg_array_1_r;
+  output     [31:0] l2d_outer_inner_0_cfg_r;
+  output     [31:0] l2d_outer_inner_1_cfg_array_0_r;
+  output     [31:0] l2d_outer_inner_1_cfg_array_1_r;
+  output     [31:0] l2d_outer_inner_1_cfg_r;
+  output     [31:0] l2d_outer_outer_cfg_r;
+  output     [15:0] l2h_top_cfg_lsb_field_r;
+  output     [15:0] l2h_top_cfg_msb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_0_lsb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_0_msb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_1_lsb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_1_msb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_lsb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_msb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_0_lsb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_0_msb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_1_lsb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_1_msb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_lsb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_msb_field_r;
+  output     [15:0] l2h_outer_outer_cfg_lsb_field_r;
+  output     [15:0] l2h_outer_outer_cfg_msb_field_r;
+
+
+  //------- reg defines
+  logic   [15:0] rg_top_cfg_lsb_field;
+  logic   [15:0] reg_top_cfg_lsb_field_next;
+  logic   [15:0] l2h_top_cfg_lsb_field_r;
+  logic   [15:0] rg_top_cfg_msb_field;
+  logic   [15:0] reg_top_cfg_msb_field_next;
+  logic   [15:0] l2h_top_cfg_msb_field_r;
+  logic   [31:0] l2d_top_cfg_r;
+  logic   [15:0] rg_outer_inner_0_cfg_array_0_lsb_field;
+  logic   [15:0] reg_outer_inner_0_cfg_array_0_lsb_field_next;
+  logic   [15:0] l2h_outer_inner_0_cfg_array_0_lsb_field_r;
+  logic   [15:0] rg_outer_inner_0_cfg_array_0_msb_field;
+  logic   [15:0] reg_outer_inner_0_cfg_array_0_msb_field_next;
+  logic   [15:0] l2h_outer_inner_0_cfg_array_0_msb_field_r;
+  logic   [31:0] l2d_outer_inner_0_cfg_array_0_r;
+  logic   [15:0] rg_outer_inner_0_cfg_array_1_lsb_field;
+  logic   [15:0] reg_outer_inner_0_cfg_array_1_lsb_field_next;
+  logic   [15:0] l2h_outer_inner_0_cfg_array_1_lsb_field_r;
+  logic   [15:0] rg_outer_inner_0_cfg_array_1_msb_field;
+  logic   [15:0] reg_outer_inner_0_cfg_array_1_msb_field_next;
+  logic   [15:0] l2h_outer_inner_0_cfg_array_1_msb_field_r;
+  logic   [31:0] l2d_outer_inner_0_cfg_array_1_r;
+  logic   [15:0] rg_outer_inner_0_cfg_lsb_field;
+  logic   [15:0] reg_outer_inner_0_cfg_lsb_field_next;
+  logic   [15:0] l2h_outer_inner_0_cfg_lsb_field_r;
+  logic   [15:0] rg_outer_inner_0_cfg_msb_field;
+  logic   [15:0] reg_outer_inner_0_cfg_msb_field_next;
+  logic   [15:0] l2h_outer_inner_0_cfg_msb_field_r;
+  logic   [31:0] l2d_outer_inner_0_cfg_r;
+  logic   [15:0] rg_outer_inner_1_cfg_array_0_lsb_field;
+  logic   [15:0] reg_outer_inner_1_cfg_array_0_lsb_field_next;
+  logic   [15:0] l2h_outer_inner_1_cfg_array_0_lsb_field_r;
+  logic   [15:0] rg_outer_inner_1_cfg_array_0_msb_field;
+  logic   [15:0] reg_outer_inner_1_cfg_array_0_msb_field_next;
+  logic   [15:0] l2h_outer_inner_1_cfg_array_0_msb_field_r;
+  logic   [31:0] l2d_outer_inner_1_cfg_array_0_r;
+  logic   [15:0] rg_outer_inner_1_cfg_array_1_lsb_field;
+  logic   [15:0] reg_outer_inner_1_cfg_array_1_lsb_field_next;
+  logic   [15:0] l2h_outer_inner_1_cfg_array_1_lsb_field_r;
+  logic   [15:0] rg_outer_inner_1_cfg_array_1_msb_field;
+  logic   [15:0] reg_outer_inner_1_cfg_array_1_msb_field_next;
+  logic   [15:0] l2h_outer_inner_1_cfg_array_1_msb_field_r;
+  logic   [31:0] l2d_outer_inner_1_cfg_array_1_r;
+  logic   [15:0] rg_outer_inner_1_cfg_lsb_field;
+  logic   [15:0] reg_outer_inner_1_cfg_lsb_field_next;
+  logic   [15:0] l2h_outer_inner_1_cfg_lsb_field_r;
+  logic   [15:0] rg_outer_inner_1_cfg_msb_field;
+  logic   [15:0] reg_outer_inner_1_cfg_msb_field_next;
+  logic   [15:0] l2h_outer_inner_1_cfg_msb_field_r;
+  logic   [31:0] l2d_outer_inner_1_cfg_r;
+  logic   [15:0] rg_outer_outer_cfg_lsb_field;
+  logic   [15:0] reg_outer_outer_cfg_lsb_field_next;
+  logic   [15:0] l2h_outer_outer_cfg_lsb_field_r;
+  logic   [15:0] rg_outer_outer_cfg_msb_field;
+  logic   [15:0] reg_outer_outer_cfg_msb_field_next;
+  logic   [15:0] l2h_outer_outer_cfg_msb_field_r;
+  logic   [31:0] l2d_outer_outer_cfg_r;
+  
+  
+  //------- combinatorial assigns for top_cfg
+  always_comb begin
+    reg_top_cfg_lsb_field_next = rg_top_cfg_lsb_field;
+    l2h_top_cfg_lsb_field_r = rg_top_cfg_lsb_field;
+    reg_top_cfg_msb_field_next = rg_top_cfg_msb_field;
+    l2h_top_cfg_msb_field_r = rg_top_cfg_msb_field;
+    if (d2l_top_cfg_we) reg_top_cfg_lsb_field_next = d2l_top_cfg_w [15:0] ;
+    if (d2l_top_cfg_we) reg_top_cfg_msb_field_next = d2l_top_cfg_w [31:16] ;
+  end
+  
+  //------- reg assigns for top_cfg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_top_cfg_lsb_field <= #1 16'hffff;
+      rg_top_cfg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_top_cfg_lsb_field <= #1  reg_top_cfg_lsb_field_next;
+      rg_top_cfg_msb_field <= #1  reg_top_cfg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for top_cfg (pio read data)
+  always_comb begin
+    l2d_top_cfg_r [15:0]  = rg_top_cfg_lsb_field;
+    l2d_top_cfg_r [31:16]  = rg_top_cfg_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_inner_0_cfg_array_0
+  always_comb begin
+    reg_outer_inner_0_cfg_array_0_lsb_field_next = rg_outer_inner_0_cfg_array_0_lsb_field;
+    l2h_outer_inner_0_cfg_array_0_lsb_field_r = rg_outer_inner_0_cfg_array_0_lsb_field;
+    reg_outer_inner_0_cfg_array_0_msb_field_next = rg_outer_inner_0_cfg_array_0_msb_field;
+    l2h_outer_inner_0_cfg_array_0_msb_field_r = rg_outer_inner_0_cfg_array_0_msb_field;
+    if (d2l_outer_inner_0_cfg_array_0_we) reg_outer_inner_0_cfg_array_0_lsb_field_next = d2l_outer_inner_0_cfg_array_0_w [15:0] ;
+    if (d2l_outer_inner_0_cfg_array_0_we) reg_outer_inner_0_cfg_array_0_msb_field_next = d2l_outer_inner_0_cfg_array_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_inner_0_cfg_array_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_inner_0_cfg_array_0_lsb_field <= #1 16'hffff;
+      rg_outer_inner_0_cfg_array_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_inner_0_cfg_array_0_lsb_field <= #1  reg_outer_inner_0_cfg_array_0_lsb_field_next;
+      rg_outer_inner_0_cfg_array_0_msb_field <= #1  reg_outer_inner_0_cfg_array_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_inner_0_cfg_array_0 (pio read data)
+  always_comb begin
+    l2d_outer_inner_0_cfg_array_0_r [15:0]  = rg_outer_inner_0_cfg_array_0_lsb_field;
+    l2d_outer_inner_0_cfg_array_0_r [31:16]  = rg_outer_inner_0_cfg_array_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_inner_0_cfg_array_1
+  always_comb begin
+    reg_outer_inner_0_cfg_array_1_lsb_field_next = rg_outer_inner_0_cfg_array_1_lsb_field;
+    l2h_outer_inner_0_cfg_array_1_lsb_field_r = rg_outer_inner_0_cfg_array_1_lsb_field;
+    reg_outer_inner_0_cfg_array_1_msb_field_next = rg_outer_inner_0_cfg_array_1_msb_field;
+    l2h_outer_inner_0_cfg_array_1_msb_field_r = rg_outer_inner_0_cfg_array_1_msb_field;
+    if (d2l_outer_inner_0_cfg_array_1_we) reg_outer_inner_0_cfg_array_1_lsb_field_next = d2l_outer_inner_0_cfg_array_1_w [15:0] ;
+    if (d2l_outer_inner_0_cfg_array_1_we) reg_outer_inner_0_cfg_array_1_msb_field_next = d2l_outer_inner_0_cfg_array_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_inner_0_cfg_array_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_inner_0_cfg_array_1_lsb_field <= #1 16'hffff;
+      rg_outer_inner_0_cfg_array_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_inner_0_cfg_array_1_lsb_field <= #1  reg_outer_inner_0_cfg_array_1_lsb_field_next;
+      rg_outer_inner_0_cfg_array_1_msb_field <= #1  reg_outer_inner_0_cfg_array_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_inner_0_cfg_array_1 (pio read data)
+  always_comb begin
+    l2d_outer_inner_0_cfg_array_1_r [15:0]  = rg_outer_inner_0_cfg_array_1_lsb_field;
+    l2d_outer_inner_0_cfg_array_1_r [31:16]  = rg_outer_inner_0_cfg_array_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_inner_0_cfg
+  always_comb begin
+    reg_outer_inner_0_cfg_lsb_field_next = rg_outer_inner_0_cfg_lsb_field;
+    l2h_outer_inner_0_cfg_lsb_field_r = rg_outer_inner_0_cfg_lsb_field;
+    reg_outer_inner_0_cfg_msb_field_next = rg_outer_inner_0_cfg_msb_field;
+    l2h_outer_inner_0_cfg_msb_field_r = rg_outer_inner_0_cfg_msb_field;
+    if (d2l_outer_inner_0_cfg_we) reg_outer_inner_0_cfg_lsb_field_next = d2l_outer_inner_0_cfg_w [15:0] ;
+    if (d2l_outer_inner_0_cfg_we) reg_outer_inner_0_cfg_msb_field_next = d2l_outer_inner_0_cfg_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_inner_0_cfg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_inner_0_cfg_lsb_field <= #1 16'hffff;
+      rg_outer_inner_0_cfg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_inner_0_cfg_lsb_field <= #1  reg_outer_inner_0_cfg_lsb_field_next;
+      rg_outer_inner_0_cfg_msb_field <= #1  reg_outer_inner_0_cfg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_inner_0_cfg (pio read data)
+  always_comb begin
+    l2d_outer_inner_0_cfg_r [15:0]  = rg_outer_inner_0_cfg_lsb_field;
+    l2d_outer_inner_0_cfg_r [31:16]  = rg_outer_inner_0_cfg_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_inner_1_cfg_array_0
+  always_comb begin
+    reg_outer_inner_1_cfg_array_0_lsb_field_next = rg_outer_inner_1_cfg_array_0_lsb_field;
+    l2h_outer_inner_1_cfg_array_0_lsb_field_r = rg_outer_inner_1_cfg_array_0_lsb_field;
+    reg_outer_inner_1_cfg_array_0_msb_field_next = rg_outer_inner_1_cfg_array_0_msb_field;
+    l2h_outer_inner_1_cfg_array_0_msb_field_r = rg_outer_inner_1_cfg_array_0_msb_field;
+    if (d2l_outer_inner_1_cfg_array_0_we) reg_outer_inner_1_cfg_array_0_lsb_field_next = d2l_outer_inner_1_cfg_array_0_w [15:0] ;
+    if (d2l_outer_inner_1_cfg_array_0_we) reg_outer_inner_1_cfg_array_0_msb_field_next = d2l_outer_inner_1_cfg_array_0_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_inner_1_cfg_array_0
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_inner_1_cfg_array_0_lsb_field <= #1 16'hffff;
+      rg_outer_inner_1_cfg_array_0_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_inner_1_cfg_array_0_lsb_field <= #1  reg_outer_inner_1_cfg_array_0_lsb_field_next;
+      rg_outer_inner_1_cfg_array_0_msb_field <= #1  reg_outer_inner_1_cfg_array_0_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_inner_1_cfg_array_0 (pio read data)
+  always_comb begin
+    l2d_outer_inner_1_cfg_array_0_r [15:0]  = rg_outer_inner_1_cfg_array_0_lsb_field;
+    l2d_outer_inner_1_cfg_array_0_r [31:16]  = rg_outer_inner_1_cfg_array_0_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_inner_1_cfg_array_1
+  always_comb begin
+    reg_outer_inner_1_cfg_array_1_lsb_field_next = rg_outer_inner_1_cfg_array_1_lsb_field;
+    l2h_outer_inner_1_cfg_array_1_lsb_field_r = rg_outer_inner_1_cfg_array_1_lsb_field;
+    reg_outer_inner_1_cfg_array_1_msb_field_next = rg_outer_inner_1_cfg_array_1_msb_field;
+    l2h_outer_inner_1_cfg_array_1_msb_field_r = rg_outer_inner_1_cfg_array_1_msb_field;
+    if (d2l_outer_inner_1_cfg_array_1_we) reg_outer_inner_1_cfg_array_1_lsb_field_next = d2l_outer_inner_1_cfg_array_1_w [15:0] ;
+    if (d2l_outer_inner_1_cfg_array_1_we) reg_outer_inner_1_cfg_array_1_msb_field_next = d2l_outer_inner_1_cfg_array_1_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_inner_1_cfg_array_1
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_inner_1_cfg_array_1_lsb_field <= #1 16'hffff;
+      rg_outer_inner_1_cfg_array_1_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_inner_1_cfg_array_1_lsb_field <= #1  reg_outer_inner_1_cfg_array_1_lsb_field_next;
+      rg_outer_inner_1_cfg_array_1_msb_field <= #1  reg_outer_inner_1_cfg_array_1_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_inner_1_cfg_array_1 (pio read data)
+  always_comb begin
+    l2d_outer_inner_1_cfg_array_1_r [15:0]  = rg_outer_inner_1_cfg_array_1_lsb_field;
+    l2d_outer_inner_1_cfg_array_1_r [31:16]  = rg_outer_inner_1_cfg_array_1_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_inner_1_cfg
+  always_comb begin
+    reg_outer_inner_1_cfg_lsb_field_next = rg_outer_inner_1_cfg_lsb_field;
+    l2h_outer_inner_1_cfg_lsb_field_r = rg_outer_inner_1_cfg_lsb_field;
+    reg_outer_inner_1_cfg_msb_field_next = rg_outer_inner_1_cfg_msb_field;
+    l2h_outer_inner_1_cfg_msb_field_r = rg_outer_inner_1_cfg_msb_field;
+    if (d2l_outer_inner_1_cfg_we) reg_outer_inner_1_cfg_lsb_field_next = d2l_outer_inner_1_cfg_w [15:0] ;
+    if (d2l_outer_inner_1_cfg_we) reg_outer_inner_1_cfg_msb_field_next = d2l_outer_inner_1_cfg_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_inner_1_cfg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_inner_1_cfg_lsb_field <= #1 16'hffff;
+      rg_outer_inner_1_cfg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_inner_1_cfg_lsb_field <= #1  reg_outer_inner_1_cfg_lsb_field_next;
+      rg_outer_inner_1_cfg_msb_field <= #1  reg_outer_inner_1_cfg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_inner_1_cfg (pio read data)
+  always_comb begin
+    l2d_outer_inner_1_cfg_r [15:0]  = rg_outer_inner_1_cfg_lsb_field;
+    l2d_outer_inner_1_cfg_r [31:16]  = rg_outer_inner_1_cfg_msb_field;
+  end
+  
+  //------- combinatorial assigns for outer_outer_cfg
+  always_comb begin
+    reg_outer_outer_cfg_lsb_field_next = rg_outer_outer_cfg_lsb_field;
+    l2h_outer_outer_cfg_lsb_field_r = rg_outer_outer_cfg_lsb_field;
+    reg_outer_outer_cfg_msb_field_next = rg_outer_outer_cfg_msb_field;
+    l2h_outer_outer_cfg_msb_field_r = rg_outer_outer_cfg_msb_field;
+    if (d2l_outer_outer_cfg_we) reg_outer_outer_cfg_lsb_field_next = d2l_outer_outer_cfg_w [15:0] ;
+    if (d2l_outer_outer_cfg_we) reg_outer_outer_cfg_msb_field_next = d2l_outer_outer_cfg_w [31:16] ;
+  end
+  
+  //------- reg assigns for outer_outer_cfg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_outer_outer_cfg_lsb_field <= #1 16'hffff;
+      rg_outer_outer_cfg_msb_field <= #1 16'h0;
+    end
+    else begin
+      rg_outer_outer_cfg_lsb_field <= #1  reg_outer_outer_cfg_lsb_field_next;
+      rg_outer_outer_cfg_msb_field <= #1  reg_outer_outer_cfg_msb_field_next;
+    end
+  end
+  
+  //------- combinatorial assigns for outer_outer_cfg (pio read data)
+  always_comb begin
+    l2d_outer_outer_cfg_r [15:0]  = rg_outer_outer_cfg_lsb_field;
+    l2d_outer_outer_cfg_r [31:16]  = rg_outer_outer_cfg_msb_field;
+  end
+  
+endmodule
+
+//
+//---------- module path_map_jrdl_decode
+//
+module path_map_jrdl_decode
+(
+  clk,
+  reset,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+  l2d_top_cfg_r,
+  l2d_outer_inner_0_cfg_array_0_r,
+  l2d_outer_inner_0_cfg_array_1_r,
+  l2d_outer_inner_0_cfg_r,
+  l2d_outer_inner_1_cfg_array_0_r,
+  l2d_outer_inner_1_cfg_array_1_r,
+  l2d_outer_inner_1_cfg_r,
+  l2d_outer_outer_cfg_r,
+  h2d_child_r,
+  h2d_child_ack,
+  h2d_child_nack,
+
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width,
+  d2l_top_cfg_w,
+  d2l_top_cfg_we,
+  d2l_top_cfg_re,
+  d2l_outer_inner_0_cfg_array_0_w,
+  d2l_outer_inner_0_cfg_array_0_we,
+  d2l_outer_inner_0_cfg_array_0_re,
+  d2l_outer_inner_0_cfg_array_1_w,
+  d2l_outer_inner_0_cfg_array_1_we,
+  d2l_outer_inner_0_cfg_array_1_re,
+  d2l_outer_inner_0_cfg_w,
+  d2l_outer_inner_0_cfg_we,
+  d2l_outer_inner_0_cfg_re,
+  d2l_outer_inner_1_cfg_array_0_w,
+  d2l_outer_inner_1_cfg_array_0_we,
+  d2l_outer_inner_1_cfg_array_0_re,
+  d2l_outer_inner_1_cfg_array_1_w,
+  d2l_outer_inner_1_cfg_array_1_we,
+  d2l_outer_inner_1_cfg_array_1_re,
+  d2l_outer_inner_1_cfg_w,
+  d2l_outer_inner_1_cfg_we,
+  d2l_outer_inner_1_cfg_re,
+  d2l_outer_outer_cfg_w,
+  d2l_outer_outer_cfg_we,
+  d2l_outer_outer_cfg_re,
+  d2h_child_w,
+  d2h_child_we,
+  d2h_child_re,
+  d2h_child_addr );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+  input     [31:0] l2d_top_cfg_r;
+  input     [31:0] l2d_outer_inner_0_cfg_array_0_r;
+  input     [31:0] l2d_outer_inner_0_cfg_array_1_r;
+  input     [31:0] l2d_outer_inner_0_cfg_r;
+  input     [31:0] l2d_outer_inner_1_cfg_array_0_r;
+  input     [31:0] l2d_outer_inner_1_cfg_array_1_r;
+  input     [31:0] l2d_outer_inner_1_cfg_r;
+  input     [31:0] l2d_outer_outer_cfg_r;
+  input     [31:0] h2d_child_r;
+  input    h2d_child_ack;
+  input    h2d_child_nack;
+
+  //------- outputs
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+  output     [31:0] d2l_top_cfg_w;
+  output    d2l_top_cfg_we;
+  output    d2l_top_cfg_re;
+  output     [31:0] d2l_outer_inner_0_cfg_array_0_w;
+  output    d2l_outer_inner_0_cfg_array_0_we;
+  output    d2l_outer_inner_0_cfg_array_0_re;
+  output     [31:0] d2l_outer_inner_0_cfg_array_1_w;
+  output    d2l_outer_inner_0_cfg_array_1_we;
+  output    d2l_outer_inner_0_cfg_array_1_re;
+  output     [31:0] d2l_outer_inner_0_cfg_w;
+  output    d2l_outer_inner_0_cfg_we;
+  output    d2l_outer_inner_0_cfg_re;
+  output     [31:0] d2l_outer_inner_1_cfg_array_0_w;
+  output    d2l_outer_inner_1_cfg_array_0_we;
+  output    d2l_outer_inner_1_cfg_array_0_re;
+  output     [31:0] d2l_outer_inner_1_cfg_array_1_w;
+  output    d2l_outer_inner_1_cfg_array_1_we;
+  output    d2l_outer_inner_1_cfg_array_1_re;
+  output     [31:0] d2l_outer_inner_1_cfg_w;
+  output    d2l_outer_inner_1_cfg_we;
+  output    d2l_outer_inner_1_cfg_re;
+  output     [31:0] d2l_outer_outer_cfg_w;
+  output    d2l_outer_outer_cfg_we;
+  output    d2l_outer_outer_cfg_re;
+  output     [31:0] d2h_child_w;
+  output    d2h_child_we;
+  output    d2h_child_re;
+  output     [5:2] d2h_child_addr;
+
+
+  //------- wire defines
+  logic   [31:0] h2d_child_r_ex;
+  logic  h2d_child_ack_ex;
+  logic  h2d_child_nack_ex;
+  logic   [31:0] pio_dec_write_data;
+  logic   [12:2] pio_dec_address;
+  logic  pio_dec_read;
+  logic  pio_dec_write;
+  logic   [39:0] block_sel_addr;
+  logic  block_sel;
+  logic  leaf_dec_valid_active;
+  logic  leaf_dec_wr_dvld_active;
+  
+  //------- reg defines
+  logic   [31:0] d2l_top_cfg_w;
+  logic  d2l_top_cfg_we;
+  logic  d2l_top_cfg_re;
+  logic   [31:0] d2l_outer_inner_0_cfg_array_0_w;
+  logic  d2l_outer_inner_0_cfg_array_0_we;
+  logic  d2l_outer_inner_0_cfg_array_0_re;
+  logic   [31:0] d2l_outer_inner_0_cfg_array_1_w;
+  logic  d2l_outer_inner_0_cfg_array_1_we;
+  logic  d2l_outer_inner_0_cfg_array_1_re;
+  logic   [31:0] d2l_outer_inner_0_cfg_w;
+  logic  d2l_outer_inner_0_cfg_we;
+  logic  d2l_outer_inner_0_cfg_re;
+  logic   [31:0] d2l_outer_inner_1_cfg_array_0_w;
+  logic  d2l_outer_inner_1_cfg_array_0_we;
+  logic  d2l_outer_inner_1_cfg_array_0_re;
+  logic   [31:0] d2l_outer_inner_1_cfg_array_1_w;
+  logic  d2l_outer_inner_1_cfg_array_1_we;
+  logic  d2l_outer_inner_1_cfg_array_1_re;
+  logic   [31:0] d2l_outer_inner_1_cfg_w;
+  logic  d2l_outer_inner_1_cfg_we;
+  logic  d2l_outer_inner_1_cfg_re;
+  logic   [31:0] d2l_outer_outer_cfg_w;
+  logic  d2l_outer_outer_cfg_we;
+  logic  d2l_outer_outer_cfg_re;
+  logic   [31:0] d2h_child_w_ex;
+  logic  d2h_child_we_ex;
+  logic  d2h_child_re_ex;
+  logic   [31:0] d2h_child_w_next;
+  logic  d2h_child_we_next;
+  logic  d2h_child_re_next;
+  logic   [5:2] d2h_child_addr_ex;
+  logic   [5:2] d2h_child_addr_next;
+  logic  leaf_dec_valid_hld1;
+  logic  leaf_dec_valid_hld1_next;
+  logic  leaf_dec_wr_dvld_hld1;
+  logic  leaf_dec_wr_dvld_hld1_next;
+  logic  pio_write_active;
+  logic  pio_read_active;
+  logic   [12:2] pio_dec_address_d1;
+  logic   [31:0] pio_dec_write_data_d1;
+  logic   [31:0] dec_pio_read_data;
+  logic   [31:0] dec_pio_read_data_d1;
+  logic  dec_pio_ack;
+  logic  dec_pio_nack;
+  logic  dec_pio_ack_next;
+  logic  dec_pio_nack_next;
+  logic  pio_internal_ack;
+  logic  pio_internal_nack;
+  logic  pio_external_ack;
+  logic  pio_external_nack;
+  logic  pio_external_ack_next;
+  logic  pio_external_nack_next;
+  logic  pio_no_acks;
+  logic  pio_activate_write;
+  logic  pio_activate_read;
+  logic   [31:0] dec_pio_read_data_next;
+  logic  external_transaction_active;
+  
+  
+  //------- assigns
+  assign  d2h_child_we = d2h_child_we_ex;
+  assign  d2h_child_w = d2h_child_w_ex;
+  assign  d2h_child_re = d2h_child_re_ex;
+  assign  h2d_child_r_ex = h2d_child_r;
+  assign  h2d_child_ack_ex = h2d_child_ack;
+  assign  h2d_child_nack_ex = h2d_child_nack;
+  assign  d2h_child_addr = d2h_child_addr_ex;
+  assign  pio_dec_write_data = leaf_dec_wr_data;
+  assign  dec_leaf_rd_data = dec_pio_read_data;
+  assign  dec_leaf_ack = dec_pio_ack;
+  assign  dec_leaf_nack = dec_pio_nack;
+  assign  pio_dec_address = leaf_dec_addr [12:2] ;
+  assign  block_sel_addr = 40'h0;
+  assign  block_sel = leaf_dec_block_sel;
+  assign  leaf_dec_wr_dvld_active = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+  assign  leaf_dec_valid_active = leaf_dec_valid | leaf_dec_valid_hld1;
+  assign  dec_leaf_accept = leaf_dec_valid & block_sel;
+  assign  dec_leaf_reject = leaf_dec_valid & ~block_sel;
+  assign  pio_dec_read = block_sel & leaf_dec_valid_active & (leaf_dec_cycle == 2'b10);
+  assign  pio_dec_write = block_sel & leaf_dec_wr_dvld_active & (leaf_dec_cycle[1] == 1'b0);
+  assign  dec_leaf_retry_atomic = 1'b0;
+  assign  dec_leaf_data_width = 3'b0;
+  
+  //------- reg assigns for external i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      d2h_child_we_ex <= #1  1'b0;
+      d2h_child_re_ex <= #1  1'b0;
+    end
+    else begin
+      d2h_child_w_ex <= #1  d2h_child_w_next;
+      d2h_child_we_ex <= #1  d2h_child_we_next & ~h2d_child_ack_ex & ~h2d_child_nack_ex;
+      d2h_child_re_ex <= #1  d2h_child_re_next & ~h2d_child_ack_ex & ~h2d_child_nack_ex;
+      d2h_child_addr_ex <= #1  d2h_child_addr_next;
+    end
+  end
+  
+  //------- combinatorial assigns for leaf i/f
+  always_comb begin
+    leaf_dec_valid_hld1_next = leaf_dec_valid | leaf_dec_valid_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next) leaf_dec_valid_hld1_next = 1'b0;
+    leaf_dec_wr_dvld_hld1_next = leaf_dec_wr_dvld | leaf_dec_wr_dvld_hld1;
+    if (dec_pio_ack_next | dec_pio_nack_next | leaf_dec_valid) leaf_dec_wr_dvld_hld1_next = 1'b0;
+  end
+  
+  //------- reg assigns for leaf i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      leaf_dec_valid_hld1 <= #1  1'b0;
+      leaf_dec_wr_dvld_hld1 <= #1  1'b0;
+    end
+    else begin
+      leaf_dec_valid_hld1 <= #1 leaf_dec_valid_hld1_next;
+      leaf_dec_wr_dvld_hld1 <= #1 leaf_dec_wr_dvld_hld1_next;
+    end
+  end
+  
+  //------- reg assigns for pio i/f
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      pio_write_active <= #1  1'b0;
+      pio_read_active <= #1  1'b0;
+    end
+    else begin
+      pio_write_active <= #1  pio_write_active ? pio_no_acks : pio_activate_write;
+      pio_read_active <= #1  pio_read_active ? pio_no_acks : pio_activate_read;
+      pio_dec_address_d1 <= #1   pio_dec_address;
+      pio_dec_write_data_d1 <= #1  pio_dec_write_data;
+    end
+  end
+  
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
+  //------- combinatorial assigns for pio ack/nack
+  always_comb begin
+    pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;
+    dec_pio_ack_next = (pio_internal_ack | (pio_external_ack_next & external_transaction_active));
+    dec_pio_nack_next = (pio_internal_nack | (pio_external_nack_next & external_transaction_active));
+    pio_no_acks = ~(dec_pio_ack | dec_pio_nack | pio_external_ack | pio_external_nack);
+    pio_activate_write = (pio_dec_write & ~(dec_pio_ack | dec_pio_nack));
+    pio_activate_read = (pio_dec_read & ~(dec_pio_ack | dec_pio_nack));
+  end
+  
+  //------- reg assigns for pio ack/nack
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_ack <= #1 1'b0;
+      dec_pio_nack <= #1 1'b0;
+      pio_external_ack <= #1  1'b0;
+      pio_external_nack <= #1  1'b0;
+    end
+    else begin
+      dec_pio_ack <= #1 dec_pio_ack ? 1'b0 : dec_pio_ack_next;
+      dec_pio_nack <= #1 dec_pio_nack ? 1'b0 : dec_pio_nack_next;
+      pio_external_ack <= #1 pio_external_ack_next;
+      pio_external_nack <= #1 pio_external_nack_next;
+    end
+  end
+  
+  
+  //------- address decode
+  always_comb begin
+    pio_internal_ack = 1'b0;
+    external_transaction_active = 1'b0;
+    pio_external_ack_next = 1'b0;
+    pio_external_nack_next = 1'b0;
+    dec_pio_read_data_next = 32'b0;
+    
+    d2l_top_cfg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_top_cfg_we = 1'b0;
+    d2l_top_cfg_re = 1'b0;
+    d2l_outer_inner_0_cfg_array_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_inner_0_cfg_array_0_we = 1'b0;
+    d2l_outer_inner_0_cfg_array_0_re = 1'b0;
+    d2l_outer_inner_0_cfg_array_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_inner_0_cfg_array_1_we = 1'b0;
+    d2l_outer_inner_0_cfg_array_1_re = 1'b0;
+    d2l_outer_inner_0_cfg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_inner_0_cfg_we = 1'b0;
+    d2l_outer_inner_0_cfg_re = 1'b0;
+    d2l_outer_inner_1_cfg_array_0_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_inner_1_cfg_array_0_we = 1'b0;
+    d2l_outer_inner_1_cfg_array_0_re = 1'b0;
+    d2l_outer_inner_1_cfg_array_1_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_inner_1_cfg_array_1_we = 1'b0;
+    d2l_outer_inner_1_cfg_array_1_re = 1'b0;
+    d2l_outer_inner_1_cfg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_inner_1_cfg_we = 1'b0;
+    d2l_outer_inner_1_cfg_re = 1'b0;
+    d2l_outer_outer_cfg_w = pio_dec_write_data_d1  [31:0] ;
+    d2l_outer_outer_cfg_we = 1'b0;
+    d2l_outer_outer_cfg_re = 1'b0;
+    d2h_child_w_next = pio_dec_write_data_d1 [31:0] ;
+    d2h_child_we_next = 1'b0;
+    d2h_child_re_next = 1'b0;
+    d2h_child_addr_next = pio_dec_address_d1  [5:2] ;
+    
+    casez(pio_dec_address_d1)
+    //  Register: top_cfg     Address: 0x0     External: false
+    11'b00000000000:
+      begin
+        d2l_top_cfg_we = pio_write_active & ~dec_pio_ack;
+        d2l_top_cfg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_top_cfg_r;
+      end
+    //  Register: outer.inner_0.cfg_array_0     Address: 0x100     External: false
+    11'b00001000000:
+      begin
+        d2l_outer_inner_0_cfg_array_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_inner_0_cfg_array_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_inner_0_cfg_array_0_r;
+      end
+    //  Register: outer.inner_0.cfg_array_1     Address: 0x104     External: false
+    11'b00001000001:
+      begin
+        d2l_outer_inner_0_cfg_array_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_inner_0_cfg_array_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_inner_0_cfg_array_1_r;
+      end
+    //  Register: outer.inner_0.cfg     Address: 0x108     External: false
+    11'b00001000010:
+      begin
+        d2l_outer_inner_0_cfg_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_inner_0_cfg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_inner_0_cfg_r;
+      end
+    //  Register: outer.inner_1.cfg_array_0     Address: 0x110     External: false
+    11'b00001000100:
+      begin
+        d2l_outer_inner_1_cfg_array_0_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_inner_1_cfg_array_0_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_inner_1_cfg_array_0_r;
+      end
+    //  Register: outer.inner_1.cfg_array_1     Address: 0x114     External: false
+    11'b00001000101:
+      begin
+        d2l_outer_inner_1_cfg_array_1_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_inner_1_cfg_array_1_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_inner_1_cfg_array_1_r;
+      end
+    //  Register: outer.inner_1.cfg     Address: 0x118     External: false
+    11'b00001000110:
+      begin
+        d2l_outer_inner_1_cfg_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_inner_1_cfg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_inner_1_cfg_r;
+      end
+    //  Register: outer.outer_cfg     Address: 0x120     External: false
+    11'b00001001000:
+      begin
+        d2l_outer_outer_cfg_we = pio_write_active & ~dec_pio_ack;
+        d2l_outer_outer_cfg_re = pio_read_active & ~dec_pio_ack;
+        pio_internal_ack =  pio_read_active | pio_write_active;
+        dec_pio_read_data_next  [31:0]  = l2d_outer_outer_cfg_r;
+      end
+    //  Register: child     Address: 0x1000     External: true
+    11'b1000000????:
+      begin
+        d2h_child_we_next = pio_write_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_ack_next = h2d_child_ack_ex;
+        external_transaction_active = pio_read_active | pio_write_active;
+        d2h_child_re_next = pio_read_active & ~(pio_external_ack | pio_external_nack);
+        pio_external_nack_next = h2d_child_nack_ex;
+        dec_pio_read_data_next  [31:0]  = h2d_child_r_ex;
+      end
+    endcase
+  end
+  
+endmodule
+
+//
+//---------- module path_map_pio
+//
+module path_map_pio
+(
+  clk,
+  reset,
+  h2d_child_r,
+  h2d_child_ack,
+  h2d_child_nack,
+  leaf_dec_wr_data,
+  leaf_dec_addr,
+  leaf_dec_block_sel,
+  leaf_dec_valid,
+  leaf_dec_wr_dvld,
+  leaf_dec_cycle,
+  leaf_dec_wr_width,
+
+  l2h_top_cfg_lsb_field_r,
+  l2h_top_cfg_msb_field_r,
+  l2h_outer_inner_0_cfg_array_0_lsb_field_r,
+  l2h_outer_inner_0_cfg_array_0_msb_field_r,
+  l2h_outer_inner_0_cfg_array_1_lsb_field_r,
+  l2h_outer_inner_0_cfg_array_1_msb_field_r,
+  l2h_outer_inner_0_cfg_lsb_field_r,
+  l2h_outer_inner_0_cfg_msb_field_r,
+  l2h_outer_inner_1_cfg_array_0_lsb_field_r,
+  l2h_outer_inner_1_cfg_array_0_msb_field_r,
+  l2h_outer_inner_1_cfg_array_1_lsb_field_r,
+  l2h_outer_inner_1_cfg_array_1_msb_field_r,
+  l2h_outer_inner_1_cfg_lsb_field_r,
+  l2h_outer_inner_1_cfg_msb_field_r,
+  l2h_outer_outer_cfg_lsb_field_r,
+  l2h_outer_outer_cfg_msb_field_r,
+  d2h_child_w,
+  d2h_child_we,
+  d2h_child_re,
+  d2h_child_addr,
+  dec_leaf_rd_data,
+  dec_leaf_ack,
+  dec_leaf_nack,
+  dec_leaf_accept,
+  dec_leaf_reject,
+  dec_leaf_retry_atomic,
+  dec_leaf_data_width );
+
+  //------- inputs
+  input    clk;
+  input    reset;
+  input     [31:0] h2d_child_r;
+  input    h2d_child_ack;
+  input    h2d_child_nack;
+  input     [31:0] leaf_dec_wr_data;
+  input     [39:0] leaf_dec_addr;
+  input    leaf_dec_block_sel;
+  input    leaf_dec_valid;
+  input    leaf_dec_wr_dvld;
+  input     [1:0] leaf_dec_cycle;
+  input     [2:0] leaf_dec_wr_width;
+
+  //------- outputs
+  output     [15:0] l2h_top_cfg_lsb_field_r;
+  output     [15:0] l2h_top_cfg_msb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_0_lsb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_0_msb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_1_lsb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_array_1_msb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_lsb_field_r;
+  output     [15:0] l2h_outer_inner_0_cfg_msb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_0_lsb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_0_msb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_1_lsb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_array_1_msb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_lsb_field_r;
+  output     [15:0] l2h_outer_inner_1_cfg_msb_field_r;
+  output     [15:0] l2h_outer_outer_cfg_lsb_field_r;
+  output     [15:0] l2h_outer_outer_cfg_msb_field_r;
+  output     [31:0] d2h_child_w;
+  output    d2h_child_we;
+  output    d2h_child_re;
+  output     [5:2] d2h_child_addr;
+  output     [31:0] dec_leaf_rd_data;
+  output    dec_leaf_ack;
+  output    dec_leaf_nack;
+  output    dec_leaf_accept;
+  output    dec_leaf_reject;
+  output    dec_leaf_retry_atomic;
+  output     [2:0] dec_leaf_data_width;
+
+
+  //------- wire defines
+  logic   [31:0] d2l_top_cfg_w;
+  logic  d2l_top_cfg_we;
+  logic  d2l_top_cfg_re;
+  logic   [31:0] d2l_outer_inner_0_cfg_array_0_w;
+  logic  d2l_outer_inner_0_cfg_array_0_we;
+  logic  d2l_outer_inner_0_cfg_array_0_re;
+  logic   [31:0] d2l_outer_inner_0_cfg_array_1_w;
+  logic  d2l_outer_inner_0_cfg_array_1_we;
+  logic  d2l_outer_inner_0_cfg_array_1_re;
+  logic   [31:0] d2l_outer_inner_0_cfg_w;
+  logic  d2l_outer_inner_0_cfg_we;
+  logic  d2l_outer_inner_0_cfg_re;
+  logic   [31:0] d2l_outer_inner_1_cfg_array_0_w;
+  logic  d2l_outer_inner_1_cfg_array_0_we;
+  logic  d2l_outer_inner_1_cfg_array_0_re;
+  logic   [31:0] d2l_outer_inner_1_cfg_array_1_w;
+  logic  d2l_outer_inner_1_cfg_array_1_we;
+  logic  d2l_outer_inner_1_cfg_array_1_re;
+  logic   [31:0] d2l_outer_inner_1_cfg_w;
+  logic  d2l_outer_inner_1_cfg_we;
+  logic  d2l_outer_inner_1_cfg_re;
+  logic   [31:0] d2l_outer_outer_cfg_w;
+  logic  d2l_outer_outer_cfg_we;
+  logic  d2l_outer_outer_cfg_re;
+  logic   [31:0] l2d_top_cfg_r;
+  logic   [31:0] l2d_outer_inner_0_cfg_array_0_r;
+  logic   [31:0] l2d_outer_inner_0_cfg_array_1_r;
+  logic   [31:0] l2d_outer_inner_0_cfg_r;
+  logic   [31:0] l2d_outer_inner_1_cfg_array_0_r;
+  logic   [31:0] l2d_outer_inner_1_cfg_array_1_r;
+  logic   [31:0] l2d_outer_inner_1_cfg_r;
+  logic   [31:0] l2d_outer_outer_cfg_r;
+  
+  
+  path_map_jrdl_decode pio_decode ( .* );
+    
+  path_map_jrdl_logic pio_logic ( .* );
+    
+endmodule
+
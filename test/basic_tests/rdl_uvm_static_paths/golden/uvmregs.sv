@@ -0,0 +1,362 @@
+//   Ordt 181018.01 autogenerated file 
+//   Input: ./rdl_uvm_static_paths/test.rdl
+//   Parms: ./rdl_uvm_static_paths/test.parms
+//   Date: Mon Oct 19 04:23:19 UTC 2026
+//
+
+import uvm_pkg::*;
+import ordt_uvm_reg_pkg::*;
+
+// Register top_cfg
+class reg_path_map_top_cfg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_top_cfg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    add_hdl_path_slice("rg_top_cfg_lsb_field", 0, 16);
+    add_hdl_path_slice("rg_top_cfg_msb_field", 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_top_cfg
+
+// Register cfg_array
+class reg_path_map_outer_inner_cfg_array extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_outer_inner_cfg_array");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_outer_inner_cfg_array
+
+// Register cfg
+class reg_path_map_outer_inner_cfg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_outer_inner_cfg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_outer_inner_cfg
+
+// Block inner
+class block_path_map_outer_inner extends uvm_reg_block_rdl;
+  rand reg_path_map_outer_inner_cfg_array cfg_array[2];
+  rand reg_path_map_outer_inner_cfg cfg;
+  
+  function new(string name = "block_path_map_outer_inner");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.cfg_array[i]) begin
+      this.cfg_array[i] = new($psprintf("cfg_array [%0d]",i));
+      this.cfg_array[i].configure(this, null, "");
+      this.cfg_array[i].set_rdl_tag($psprintf("cfg_array_%0d_",i));
+      this.cfg_array[i].set_reg_test_info(0, 0, 0);
+      this.cfg_array[i].build();
+      this.default_map.add_reg(this.cfg_array[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    this.cfg = new("cfg");
+    this.cfg.configure(this, null, "");
+    this.cfg.set_rdl_tag("cfg_");
+    this.cfg.set_reg_test_info(0, 0, 0);
+    this.cfg.build();
+    this.default_map.add_reg(this.cfg, `UVM_REG_ADDR_WIDTH'h8, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_path_map_outer_inner)
+endclass : block_path_map_outer_inner
+
+// Register outer_cfg
+class reg_path_map_outer_outer_cfg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_outer_outer_cfg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    add_hdl_path_slice("rg_outer_outer_cfg_lsb_field", 0, 16);
+    add_hdl_path_slice("rg_outer_outer_cfg_msb_field", 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_outer_outer_cfg
+
+// Block outer
+class block_path_map_outer extends uvm_reg_block_rdl;
+  rand block_path_map_outer_inner inner[2];
+  rand reg_path_map_outer_outer_cfg outer_cfg;
+  
+  function new(string name = "block_path_map_outer");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.inner[i]) begin
+      this.inner[i] = block_path_map_outer_inner::type_id::create($psprintf("inner [%0d]",i),, get_full_name());
+      this.inner[i].configure(this, "");
+      this.inner[i].set_rdl_tag($psprintf("inner_%0d_",i));
+      this.inner[i].build();
+      this.default_map.add_submap(this.inner[i].default_map, `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h10);
+    end
+    this.outer_cfg = new("outer_cfg");
+    this.outer_cfg.configure(this, null, "");
+    this.outer_cfg.set_rdl_tag("outer_cfg_");
+    this.outer_cfg.set_reg_test_info(0, 0, 0);
+    this.outer_cfg.build();
+    this.default_map.add_reg(this.outer_cfg, `UVM_REG_ADDR_WIDTH'h20, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_path_map_outer)
+endclass : block_path_map_outer
+
+// Register cfg_array
+class reg_path_map_child_outer_inner_cfg_array extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_child_outer_inner_cfg_array");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_child_outer_inner_cfg_array
+
+// Register cfg
+class reg_path_map_child_outer_inner_cfg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_child_outer_inner_cfg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    rdl_reg_name = get_rdl_name("rg_");
+    add_hdl_path_slice({rdl_reg_name, "lsb_field"}, 0, 16);
+    add_hdl_path_slice({rdl_reg_name, "msb_field"}, 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_child_outer_inner_cfg
+
+// Block inner
+class block_path_map_child_outer_inner extends uvm_reg_block_rdl;
+  rand reg_path_map_child_outer_inner_cfg_array cfg_array[2];
+  rand reg_path_map_child_outer_inner_cfg cfg;
+  
+  function new(string name = "block_path_map_child_outer_inner");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.cfg_array[i]) begin
+      this.cfg_array[i] = new($psprintf("cfg_array [%0d]",i));
+      this.cfg_array[i].configure(this, null, "");
+      this.cfg_array[i].set_rdl_tag($psprintf("cfg_array_%0d_",i));
+      this.cfg_array[i].set_reg_test_info(0, 0, 0);
+      this.cfg_array[i].build();
+      this.default_map.add_reg(this.cfg_array[i], `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h4, "RW", 0);
+    end
+    this.cfg = new("cfg");
+    this.cfg.configure(this, null, "");
+    this.cfg.set_rdl_tag("cfg_");
+    this.cfg.set_reg_test_info(0, 0, 0);
+    this.cfg.build();
+    this.default_map.add_reg(this.cfg, `UVM_REG_ADDR_WIDTH'h8, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_path_map_child_outer_inner)
+endclass : block_path_map_child_outer_inner
+
+// Register outer_cfg
+class reg_path_map_child_outer_outer_cfg extends uvm_reg_rdl;
+  string m_rdl_tag;
+  rand uvm_reg_field_rdl lsb_field;
+  rand uvm_reg_field_rdl msb_field;
+  
+  function new(string name = "reg_path_map_child_outer_outer_cfg");
+    super.new(name, 32, UVM_NO_COVERAGE);
+  endfunction: new
+  
+  virtual function void build();
+    string rdl_reg_name;
+    this.lsb_field = new("lsb_field");
+    this.lsb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.lsb_field.configure(this, 16, 0, "RW", 0, 16'hffff, 1, 1, 0);
+    this.msb_field = new("msb_field");
+    this.msb_field.set_rdl_access_info(1, 1, 1, 0, 0, 0);
+    this.msb_field.configure(this, 16, 16, "RW", 0, 16'h0, 1, 1, 0);
+    
+    add_hdl_path_slice("rg_child_outer_outer_cfg_lsb_field", 0, 16);
+    add_hdl_path_slice("rg_child_outer_outer_cfg_msb_field", 16, 16);
+  endfunction: build
+  
+endclass : reg_path_map_child_outer_outer_cfg
+
+// Block outer
+class block_path_map_child_outer extends uvm_reg_block_rdl;
+  rand block_path_map_child_outer_inner inner[2];
+  rand reg_path_map_child_outer_outer_cfg outer_cfg;
+  
+  function new(string name = "block_path_map_child_outer");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    foreach (this.inner[i]) begin
+      this.inner[i] = block_path_map_child_outer_inner::type_id::create($psprintf("inner [%0d]",i),, get_full_name());
+      this.inner[i].configure(this, "");
+      this.inner[i].set_rdl_tag($psprintf("inner_%0d_",i));
+      this.inner[i].build();
+      this.default_map.add_submap(this.inner[i].default_map, `UVM_REG_ADDR_WIDTH'h0+i*`UVM_REG_ADDR_WIDTH'h10);
+    end
+    this.outer_cfg = new("outer_cfg");
+    this.outer_cfg.configure(this, null, "");
+    this.outer_cfg.set_rdl_tag("outer_cfg_");
+    this.outer_cfg.set_reg_test_info(0, 0, 0);
+    this.outer_cfg.build();
+    this.default_map.add_reg(this.outer_cfg, `UVM_REG_ADDR_WIDTH'h20, "RW", 0);
+  endfunction: build
+  
+  `uvm_object_utils(block_path_map_child_outer)
+endclass : block_path_map_child_outer
+
+// Block child
+class block_path_map_child extends uvm_reg_block_rdl;
+  rand block_path_map_child_outer outer;
+  
+  function new(string name = "block_path_map_child");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", 0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.outer = block_path_map_child_outer::type_id::create("outer",, get_full_name());
+    this.outer.configure(this, "");
+    this.outer.set_rdl_tag("outer_");
+    this.outer.build();
+    this.default_map.add_submap(this.outer.default_map, `UVM_REG_ADDR_WIDTH'h0);
+  endfunction: build
+  
+  `uvm_object_utils(block_path_map_child)
+endclass : block_path_map_child
+
+// Base block
+class block_path_map extends uvm_reg_block_rdl;
+  rand reg_path_map_top_cfg top_cfg;
+  rand block_path_map_outer outer;
+  rand block_path_map_child child;
+  
+  function new(string name = "block_path_map");
+    super.new(name);
+  endfunction: new
+  
+  virtual function void build();
+    this.default_map = create_map("", `UVM_REG_ADDR_WIDTH'h0, 4, UVM_LITTLE_ENDIAN, 1);
+    this.set_rdl_address_map(1);
+    this.set_rdl_address_map_hdl_path({`PATH_MAP_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.top_cfg = new("top_cfg");
+    this.top_cfg.configure(this, null, "");
+    this.top_cfg.set_rdl_tag("top_cfg_");
+    this.top_cfg.set_reg_test_info(0, 0, 0);
+    this.top_cfg.build();
+    this.default_map.add_reg(this.top_cfg, `UVM_REG_ADDR_WIDTH'h0, "RW", 0);
+    this.outer = block_path_map_outer::type_id::create("outer",, get_full_name());
+    this.outer.configure(this, "");
+    this.outer.set_rdl_tag("outer_");
+    this.outer.build();
+    this.default_map.add_submap(this.outer.default_map, `UVM_REG_ADDR_WIDTH'h100);
+    this.child = block_path_map_child::type_id::create("child",, get_full_name());
+    this.child.configure(this, "");
+    this.child.set_rdl_address_map(1);
+    this.child.set_rdl_address_map_hdl_path({`PATH_MAP_CHILD_PIO_INSTANCE_PATH, ".pio_logic"});
+    this.child.build();
+    this.default_map.add_submap(this.child.default_map, `UVM_REG_ADDR_WIDTH'h1000);
+    this.add_callbacks();
+  endfunction: build
+  
+  `uvm_object_utils(block_path_map)
+endclass : block_path_map
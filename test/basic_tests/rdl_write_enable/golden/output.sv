@@ -1,7 +1,7 @@
-//   Ordt 180327.01 autogenerated file 
+//   Ordt 181018.01 autogenerated file 
 //   Input: ./rdl_write_enable/test.rdl
 //   Parms: ./rdl_write_enable/test.parms
-//   Date: Tue Mar 27 14:56:17 EDT 2018
+//   Date: Mon Oct 19 03:31:05 UTC 2026
 //
 
 //
@@ -100,11 +100,6 @@ module foo_jrdl_logic
   logic   [63:0] l2d_bigreg_r;
   
   
-  //------- combinatorial assigns for bigreg (pio read data)
-  always_comb begin
-    l2d_bigreg_r = rg_bigreg_field64;
-  end
-  
   //------- combinatorial assigns for intr_reg
   always_comb begin
     reg_intr_reg_count_fld_next = rg_intr_reg_count_fld;
@@ -143,20 +138,12 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for bigreg
+  //------- combinatorial assigns for intr_reg (pio read data)
   always_comb begin
-    reg_bigreg_field64_next = rg_bigreg_field64;
-    if (d2l_bigreg_we) reg_bigreg_field64_next = ((d2l_bigreg_w & d2l_bigreg_w_enable) | (reg_bigreg_field64_next & ~d2l_bigreg_w_enable));
-  end
-  
-  //------- reg assigns for bigreg
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_bigreg_field64 <= #1 64'd0;
-    end
-    else begin
-      rg_bigreg_field64 <= #1  reg_bigreg_field64_next;
-    end
+    l2d_intr_reg_r = 32'b0;
+    l2d_intr_reg_r [7:0]  = rg_intr_reg_count_fld;
+    l2d_intr_reg_r [8]  = rg_intr_reg_intr1;
+    l2d_intr_reg_r [9]  = rg_intr_reg_intr2;
   end
   
   //------- combinatorial assigns for log_reg
@@ -176,14 +163,6 @@ module foo_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for intr_reg (pio read data)
-  always_comb begin
-    l2d_intr_reg_r = 32'b0;
-    l2d_intr_reg_r [7:0]  = rg_intr_reg_count_fld;
-    l2d_intr_reg_r [8]  = rg_intr_reg_intr1;
-    l2d_intr_reg_r [9]  = rg_intr_reg_intr2;
-  end
-  
   //------- combinatorial assigns for log_reg (pio read data)
   always_comb begin
     l2d_log_reg_r = 32'b0;
@@ -191,6 +170,27 @@ module foo_jrdl_logic
     l2d_log_reg_r [15:8]  = rg_log_reg_log_value;
   end
   
+  //------- combinatorial assigns for bigreg
+  always_comb begin
+    reg_bigreg_field64_next = rg_bigreg_field64;
+    if (d2l_bigreg_we) reg_bigreg_field64_next = ((d2l_bigreg_w & d2l_bigreg_w_enable) | (reg_bigreg_field64_next & ~d2l_bigreg_w_enable));
+  end
+  
+  //------- reg assigns for bigreg
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_bigreg_field64 <= #1 64'd0;
+    end
+    else begin
+      rg_bigreg_field64 <= #1  reg_bigreg_field64_next;
+    end
+  end
+  
+  //------- combinatorial assigns for bigreg (pio read data)
+  always_comb begin
+    l2d_bigreg_r = rg_bigreg_field64;
+  end
+  
 endmodule
 
 //
@@ -359,18 +359,18 @@ module foo_jrdl_decode
   assign  d2h_dec_pio_ack = dec_pio_ack;
   assign  d2h_dec_pio_nack = dec_pio_nack;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
+  //------- reg assigns for external i/f
   always_ff @ (posedge clk) begin
     if (reset) begin
-      dec_pio_read_data_d1 <= #1  64'b0;
+      d2h_childmap_32b_we_ex <= #1  1'b0;
+      d2h_childmap_32b_re_ex <= #1  1'b0;
     end
     else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+      d2h_childmap_32b_w_ex <= #1  d2h_childmap_32b_w_next;
+      d2h_childmap_32b_w_enable_ex <= #1  d2h_childmap_32b_w_enable_next;
+      d2h_childmap_32b_we_ex <= #1  d2h_childmap_32b_we_next & ~h2d_childmap_32b_ack_ex & ~h2d_childmap_32b_nack_ex;
+      d2h_childmap_32b_re_ex <= #1  d2h_childmap_32b_re_next & ~h2d_childmap_32b_ack_ex & ~h2d_childmap_32b_nack_ex;
+      d2h_childmap_32b_addr_ex <= #1  d2h_childmap_32b_addr_next;
     end
   end
   
@@ -392,18 +392,18 @@ module foo_jrdl_decode
     end
   end
   
-  //------- reg assigns for external i/f
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
   always_ff @ (posedge clk) begin
     if (reset) begin
-      d2h_childmap_32b_we_ex <= #1  1'b0;
-      d2h_childmap_32b_re_ex <= #1  1'b0;
+      dec_pio_read_data_d1 <= #1  64'b0;
     end
     else begin
-      d2h_childmap_32b_w_ex <= #1  d2h_childmap_32b_w_next;
-      d2h_childmap_32b_w_enable_ex <= #1  d2h_childmap_32b_w_enable_next;
-      d2h_childmap_32b_we_ex <= #1  d2h_childmap_32b_we_next & ~h2d_childmap_32b_ack_ex & ~h2d_childmap_32b_nack_ex;
-      d2h_childmap_32b_re_ex <= #1  d2h_childmap_32b_re_next & ~h2d_childmap_32b_ack_ex & ~h2d_childmap_32b_nack_ex;
-      d2h_childmap_32b_addr_ex <= #1  d2h_childmap_32b_addr_next;
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
     end
   end
   
@@ -744,38 +744,6 @@ module foo_childmap_32b_jrdl_logic
   logic   [31:0] l2d_childmap_32b_array_reg_7_r;
   
   
-  //------- combinatorial assigns for childmap_32b_array_reg_2
-  always_comb begin
-    reg_childmap_32b_array_reg_2_field32_next = rg_childmap_32b_array_reg_2_field32;
-    if (d2l_childmap_32b_array_reg_2_we) reg_childmap_32b_array_reg_2_field32_next = ((d2l_childmap_32b_array_reg_2_w & d2l_childmap_32b_array_reg_2_w_enable) | (reg_childmap_32b_array_reg_2_field32_next & ~d2l_childmap_32b_array_reg_2_w_enable));
-  end
-  
-  //------- reg assigns for childmap_32b_array_reg_2
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_childmap_32b_array_reg_2_field32 <= #1 32'd0;
-    end
-    else begin
-      rg_childmap_32b_array_reg_2_field32 <= #1  reg_childmap_32b_array_reg_2_field32_next;
-    end
-  end
-  
-  //------- combinatorial assigns for childmap_32b_array_reg_3
-  always_comb begin
-    reg_childmap_32b_array_reg_3_field32_next = rg_childmap_32b_array_reg_3_field32;
-    if (d2l_childmap_32b_array_reg_3_we) reg_childmap_32b_array_reg_3_field32_next = ((d2l_childmap_32b_array_reg_3_w & d2l_childmap_32b_array_reg_3_w_enable) | (reg_childmap_32b_array_reg_3_field32_next & ~d2l_childmap_32b_array_reg_3_w_enable));
-  end
-  
-  //------- reg assigns for childmap_32b_array_reg_3
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      rg_childmap_32b_array_reg_3_field32 <= #1 32'd0;
-    end
-    else begin
-      rg_childmap_32b_array_reg_3_field32 <= #1  reg_childmap_32b_array_reg_3_field32_next;
-    end
-  end
-  
   //------- combinatorial assigns for childmap_32b_array_reg_0
   always_comb begin
     reg_childmap_32b_array_reg_0_field32_next = rg_childmap_32b_array_reg_0_field32;
@@ -813,48 +781,53 @@ module foo_childmap_32b_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for childmap_32b_array_reg_3 (pio read data)
-  always_comb begin
-    l2d_childmap_32b_array_reg_3_r = rg_childmap_32b_array_reg_3_field32;
-  end
-  
-  //------- combinatorial assigns for childmap_32b_array_reg_5 (pio read data)
+  //------- combinatorial assigns for childmap_32b_array_reg_1 (pio read data)
   always_comb begin
-    l2d_childmap_32b_array_reg_5_r = rg_childmap_32b_array_reg_5_field32;
+    l2d_childmap_32b_array_reg_1_r = rg_childmap_32b_array_reg_1_field32;
   end
   
-  //------- combinatorial assigns for childmap_32b_array_reg_6
+  //------- combinatorial assigns for childmap_32b_array_reg_2
   always_comb begin
-    reg_childmap_32b_array_reg_6_field32_next = rg_childmap_32b_array_reg_6_field32;
-    if (d2l_childmap_32b_array_reg_6_we) reg_childmap_32b_array_reg_6_field32_next = ((d2l_childmap_32b_array_reg_6_w & d2l_childmap_32b_array_reg_6_w_enable) | (reg_childmap_32b_array_reg_6_field32_next & ~d2l_childmap_32b_array_reg_6_w_enable));
+    reg_childmap_32b_array_reg_2_field32_next = rg_childmap_32b_array_reg_2_field32;
+    if (d2l_childmap_32b_array_reg_2_we) reg_childmap_32b_array_reg_2_field32_next = ((d2l_childmap_32b_array_reg_2_w & d2l_childmap_32b_array_reg_2_w_enable) | (reg_childmap_32b_array_reg_2_field32_next & ~d2l_childmap_32b_array_reg_2_w_enable));
   end
   
-  //------- reg assigns for childmap_32b_array_reg_6
+  //------- reg assigns for childmap_32b_array_reg_2
   always_ff @ (posedge clk) begin
     if (reset) begin
-      rg_childmap_32b_array_reg_6_field32 <= #1 32'd0;
+      rg_childmap_32b_array_reg_2_field32 <= #1 32'd0;
     end
     else begin
-      rg_childmap_32b_array_reg_6_field32 <= #1  reg_childmap_32b_array_reg_6_field32_next;
+      rg_childmap_32b_array_reg_2_field32 <= #1  reg_childmap_32b_array_reg_2_field32_next;
     end
   end
   
-  //------- combinatorial assigns for childmap_32b_array_reg_7
+  //------- combinatorial assigns for childmap_32b_array_reg_2 (pio read data)
   always_comb begin
-    reg_childmap_32b_array_reg_7_field32_next = rg_childmap_32b_array_reg_7_field32;
-    if (d2l_childmap_32b_array_reg_7_we) reg_childmap_32b_array_reg_7_field32_next = ((d2l_childmap_32b_array_reg_7_w & d2l_childmap_32b_array_reg_7_w_enable) | (reg_childmap_32b_array_reg_7_field32_next & ~d2l_childmap_32b_array_reg_7_w_enable));
+    l2d_childmap_32b_array_reg_2_r = rg_childmap_32b_array_reg_2_field32;
   end
   
-  //------- reg assigns for childmap_32b_array_reg_7
+  //------- combinatorial assigns for childmap_32b_array_reg_3
+  always_comb begin
+    reg_childmap_32b_array_reg_3_field32_next = rg_childmap_32b_array_reg_3_field32;
+    if (d2l_childmap_32b_array_reg_3_we) reg_childmap_32b_array_reg_3_field32_next = ((d2l_childmap_32b_array_reg_3_w & d2l_childmap_32b_array_reg_3_w_enable) | (reg_childmap_32b_array_reg_3_field32_next & ~d2l_childmap_32b_array_reg_3_w_enable));
+  end
+  
+  //------- reg assigns for childmap_32b_array_reg_3
   always_ff @ (posedge clk) begin
     if (reset) begin
-      rg_childmap_32b_array_reg_7_field32 <= #1 32'd0;
+      rg_childmap_32b_array_reg_3_field32 <= #1 32'd0;
     end
     else begin
-      rg_childmap_32b_array_reg_7_field32 <= #1  reg_childmap_32b_array_reg_7_field32_next;
+      rg_childmap_32b_array_reg_3_field32 <= #1  reg_childmap_32b_array_reg_3_field32_next;
     end
   end
   
+  //------- combinatorial assigns for childmap_32b_array_reg_3 (pio read data)
+  always_comb begin
+    l2d_childmap_32b_array_reg_3_r = rg_childmap_32b_array_reg_3_field32;
+  end
+  
   //------- combinatorial assigns for childmap_32b_array_reg_4
   always_comb begin
     reg_childmap_32b_array_reg_4_field32_next = rg_childmap_32b_array_reg_4_field32;
@@ -871,6 +844,11 @@ module foo_childmap_32b_jrdl_logic
     end
   end
   
+  //------- combinatorial assigns for childmap_32b_array_reg_4 (pio read data)
+  always_comb begin
+    l2d_childmap_32b_array_reg_4_r = rg_childmap_32b_array_reg_4_field32;
+  end
+  
   //------- combinatorial assigns for childmap_32b_array_reg_5
   always_comb begin
     reg_childmap_32b_array_reg_5_field32_next = rg_childmap_32b_array_reg_5_field32;
@@ -887,9 +865,25 @@ module foo_childmap_32b_jrdl_logic
     end
   end
   
-  //------- combinatorial assigns for childmap_32b_array_reg_2 (pio read data)
+  //------- combinatorial assigns for childmap_32b_array_reg_5 (pio read data)
   always_comb begin
-    l2d_childmap_32b_array_reg_2_r = rg_childmap_32b_array_reg_2_field32;
+    l2d_childmap_32b_array_reg_5_r = rg_childmap_32b_array_reg_5_field32;
+  end
+  
+  //------- combinatorial assigns for childmap_32b_array_reg_6
+  always_comb begin
+    reg_childmap_32b_array_reg_6_field32_next = rg_childmap_32b_array_reg_6_field32;
+    if (d2l_childmap_32b_array_reg_6_we) reg_childmap_32b_array_reg_6_field32_next = ((d2l_childmap_32b_array_reg_6_w & d2l_childmap_32b_array_reg_6_w_enable) | (reg_childmap_32b_array_reg_6_field32_next & ~d2l_childmap_32b_array_reg_6_w_enable));
+  end
+  
+  //------- reg assigns for childmap_32b_array_reg_6
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_childmap_32b_array_reg_6_field32 <= #1 32'd0;
+    end
+    else begin
+      rg_childmap_32b_array_reg_6_field32 <= #1  reg_childmap_32b_array_reg_6_field32_next;
+    end
   end
   
   //------- combinatorial assigns for childmap_32b_array_reg_6 (pio read data)
@@ -897,14 +891,20 @@ module foo_childmap_32b_jrdl_logic
     l2d_childmap_32b_array_reg_6_r = rg_childmap_32b_array_reg_6_field32;
   end
   
-  //------- combinatorial assigns for childmap_32b_array_reg_1 (pio read data)
+  //------- combinatorial assigns for childmap_32b_array_reg_7
   always_comb begin
-    l2d_childmap_32b_array_reg_1_r = rg_childmap_32b_array_reg_1_field32;
+    reg_childmap_32b_array_reg_7_field32_next = rg_childmap_32b_array_reg_7_field32;
+    if (d2l_childmap_32b_array_reg_7_we) reg_childmap_32b_array_reg_7_field32_next = ((d2l_childmap_32b_array_reg_7_w & d2l_childmap_32b_array_reg_7_w_enable) | (reg_childmap_32b_array_reg_7_field32_next & ~d2l_childmap_32b_array_reg_7_w_enable));
   end
   
-  //------- combinatorial assigns for childmap_32b_array_reg_4 (pio read data)
-  always_comb begin
-    l2d_childmap_32b_array_reg_4_r = rg_childmap_32b_array_reg_4_field32;
+  //------- reg assigns for childmap_32b_array_reg_7
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      rg_childmap_32b_array_reg_7_field32 <= #1 32'd0;
+    end
+    else begin
+      rg_childmap_32b_array_reg_7_field32 <= #1  reg_childmap_32b_array_reg_7_field32_next;
+    end
   end
   
   //------- combinatorial assigns for childmap_32b_array_reg_7 (pio read data)
@@ -1101,21 +1101,6 @@ module foo_childmap_32b_jrdl_decode
   assign  h2d_childmap_32b_ack = dec_pio_ack;
   assign  h2d_childmap_32b_nack = dec_pio_nack;
   
-  //------- combinatorial assigns for pio read data
-  always_comb begin
-    dec_pio_read_data = dec_pio_read_data_d1;
-  end
-  
-  //------- reg assigns for pio read data
-  always_ff @ (posedge clk) begin
-    if (reset) begin
-      dec_pio_read_data_d1 <= #1  32'b0;
-    end
-    else begin
-      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
-    end
-  end
-  
   //------- reg assigns for pio i/f
   always_ff @ (posedge clk) begin
     if (reset) begin
@@ -1131,6 +1116,21 @@ module foo_childmap_32b_jrdl_decode
     end
   end
   
+  //------- combinatorial assigns for pio read data
+  always_comb begin
+    dec_pio_read_data = dec_pio_read_data_d1;
+  end
+  
+  //------- reg assigns for pio read data
+  always_ff @ (posedge clk) begin
+    if (reset) begin
+      dec_pio_read_data_d1 <= #1  32'b0;
+    end
+    else begin
+      dec_pio_read_data_d1 <= #1 dec_pio_read_data_next;
+    end
+  end
+  
   //------- combinatorial assigns for pio ack/nack
   always_comb begin
     pio_internal_nack = (pio_read_active | pio_write_active) & ~pio_internal_ack & ~external_transaction_active;